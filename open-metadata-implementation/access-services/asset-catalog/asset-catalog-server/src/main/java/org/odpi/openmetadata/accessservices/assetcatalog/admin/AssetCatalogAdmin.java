@@ -2,7 +2,9 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.accessservices.assetcatalog.admin;
 
+import org.apache.lucene.store.FSDirectory;
 import org.odpi.openmetadata.accessservices.assetcatalog.auditlog.AssetCatalogAuditCode;
+import org.odpi.openmetadata.accessservices.assetcatalog.handlers.AssetCatalogSearchIndex;
 import org.odpi.openmetadata.adminservices.configuration.properties.AccessServiceConfig;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceAdmin;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceDescription;
@@ -11,9 +13,16 @@ import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.ASSET;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.GLOSSARY_TERM;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.SCHEMA_ELEMENT;
+
 /**
  * AssetCatalogAdmin is the class that is called by the OMAG Server to initialize and terminate
  * the Asset Catalog OMAS.  The initialization call provides this OMAS with resources from the
@@ -22,9 +31,11 @@ import java.util.List;
 public class AssetCatalogAdmin extends AccessServiceAdmin {
 
     public static final String SUPPORTED_TYPES_FOR_SEARCH = "SupportedTypesForSearch";
+    public static final String SEARCH_INDEX_DIRECTORY = "SearchIndexDirectory";
     private AuditLog auditLog;
     private String serverName;
     private AssetCatalogServicesInstance instance;
+    private AssetCatalogSearchIndex searchIndex;
 
 
     /**
@@ -59,6 +70,12 @@ public class AssetCatalogAdmin extends AccessServiceAdmin {
 
             this.serverName = instance.getServerName();
 
+            String searchIndexDirectory = getSearchIndexDirectoryOption(accessServiceConfigurationProperties);
+            if (searchIndexDirectory != null) {
+                startSearchIndex(searchIndexDirectory, supportedTypesForSearch, enterpriseOMRSTopicConnector,
+                        repositoryConnector, serverUserName);
+            }
+
             auditLog.logMessage(actionDescription, AssetCatalogAuditCode.SERVICE_INITIALIZED.getMessageDefinition(serverName));
         } catch (Exception error) {
             auditLog.logException(actionDescription, AssetCatalogAuditCode.SERVICE_INSTANCE_FAILURE.getMessageDefinition(error.getMessage(), serverName), error);
@@ -71,6 +88,10 @@ public class AssetCatalogAdmin extends AccessServiceAdmin {
      * Shutdown the access service.
      */
     public void shutdown() {
+        if (searchIndex != null) {
+            searchIndex.close();
+        }
+
         if (instance != null) {
             instance.shutdown();
         }
@@ -82,6 +103,50 @@ public class AssetCatalogAdmin extends AccessServiceAdmin {
         }
     }
 
+    /**
+     * Create the search index, register it to receive the OMRS events and start loading it from the repositories
+     * on a background thread.  Searches are answered by the repositories until the load is complete.
+     *
+     * @param searchIndexDirectory         directory where the index is stored
+     * @param supportedTypesForSearch      types to index - the default search types if empty
+     * @param enterpriseOMRSTopicConnector connector for receiving OMRS Events from the cohorts
+     * @param repositoryConnector          connector for querying the cohort repositories
+     * @param serverUserName               user id to use when loading the index
+     * @throws IOException the index could not be created
+     * @throws OMAGConfigurationErrorException the index could not be registered with the enterprise topic
+     */
+    private void startSearchIndex(String searchIndexDirectory, List<String> supportedTypesForSearch,
+                                  OMRSTopicConnector enterpriseOMRSTopicConnector, OMRSRepositoryConnector repositoryConnector,
+                                  String serverUserName) throws IOException, OMAGConfigurationErrorException {
+        List<String> indexedTypeNames = supportedTypesForSearch.isEmpty() ?
+                Arrays.asList(GLOSSARY_TERM, ASSET, SCHEMA_ELEMENT) : supportedTypesForSearch;
+
+        searchIndex = new AssetCatalogSearchIndex(serverName, repositoryConnector.getRepositoryHelper(), indexedTypeNames,
+                FSDirectory.open(Paths.get(searchIndexDirectory)), auditLog);
+
+        instance.getAssetCatalogHandler().setSearchIndex(searchIndex);
+
+        super.registerWithEnterpriseTopic(AccessServiceDescription.ASSET_CATALOG_OMAS.getAccessServiceFullName(),
+                serverName, enterpriseOMRSTopicConnector, searchIndex, auditLog);
+
+        int pageSize = repositoryConnector.getMaxPageSize() > 0 ? repositoryConnector.getMaxPageSize() : 100;
+        Thread loader = new Thread(() -> searchIndex.loadEntities(repositoryConnector, serverUserName, pageSize),
+                "AssetCatalogSearchIndexLoader-" + serverName);
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    private String getSearchIndexDirectoryOption(AccessServiceConfig accessServiceConfigurationProperties) {
+        if (accessServiceConfigurationProperties.getAccessServiceOptions() != null) {
+            Object searchIndexDirectoryProperty = accessServiceConfigurationProperties.getAccessServiceOptions().get(SEARCH_INDEX_DIRECTORY);
+            if (searchIndexDirectoryProperty instanceof String) {
+                return (String) searchIndexDirectoryProperty;
+            }
+        }
+
+        return null;
+    }
+
     private List<String> getSupportedTypesForSearchOption(AccessServiceConfig accessServiceConfigurationProperties) {
         if (accessServiceConfigurationProperties.getAccessServiceOptions() != null) {
             Object supportedTypesProperty = accessServiceConfigurationProperties.getAccessServiceOptions().get(SUPPORTED_TYPES_FOR_SEARCH);
@@ -45,7 +45,19 @@ public enum AssetCatalogAuditCode implements AuditLogMessageSet {
             OMRSAuditLogRecordSeverity.SHUTDOWN,
             "The Asset Catalog Open Metadata Access Service (OMAS) is shutting down its instance for server {0}",
             "The local server has requested shut down of an Asset Catalog OMAS instance.",
-            "No action is required.  This is part of the normal operation of the service.");
+            "No action is required.  This is part of the normal operation of the service."),
+
+    SEARCH_INDEX_READY("OMAS-ASSET-CATALOG-0005",
+            OMRSAuditLogRecordSeverity.INFO,
+            "The Asset Catalog Open Metadata Access Service (OMAS) for server {0} has loaded {1} entities into its search index",
+            "The search index has been rebuilt from the open metadata repositories and is used to answer searches.",
+            "No action is required.  This is part of the normal operation of the service."),
+
+    SEARCH_INDEX_FAILURE("OMAS-ASSET-CATALOG-0006",
+            OMRSAuditLogRecordSeverity.EXCEPTION,
+            "The Asset Catalog Open Metadata Access Service (OMAS) for server {0} is unable to maintain its search index because of exception {1} with message {2}",
+            "The search index is no longer used.  Searches are answered by the open metadata repositories.",
+            "Review the error message to determine the cause of the problem.  Once this is resolved, restart the server to rebuild the search index.");
 
 
     private AuditLogMessageDefinition messageDefinition;
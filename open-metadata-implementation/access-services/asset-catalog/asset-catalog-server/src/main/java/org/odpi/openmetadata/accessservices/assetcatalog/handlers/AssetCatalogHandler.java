@@ -34,6 +34,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityProxyOnlyException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.PagingErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.PropertyErrorException;
@@ -42,6 +43,7 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.TypeErrorExceptio
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -73,6 +75,7 @@ public class AssetCatalogHandler {
     private List<String> supportedTypesForSearch = new ArrayList<>(Arrays.asList(GLOSSARY_TERM, ASSET, SCHEMA_ELEMENT));
 
     private List<String> supportedZones;
+    private AssetCatalogSearchIndex searchIndex;
 
     /**
      * Construct the handler information needed to interact with the repository services
@@ -104,6 +107,15 @@ public class AssetCatalogHandler {
         this.assetConverter = new AssetConverter(sourceName, repositoryHelper);
     }
 
+    /**
+     * Set up the search index used to answer searchByType requests once it is loaded.
+     *
+     * @param searchIndex full-text index of the supported types for search
+     */
+    public void setSearchIndex(AssetCatalogSearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
     /**
      * Return the requested entity and converting to Asset Catalog OMAS model
      *
@@ -396,6 +408,16 @@ public class AssetCatalogHandler {
         List<String> typesFilter = Collections.emptyList();
         if (CollectionUtils.isNotEmpty(searchParameters.getEntityTypes())) {
             typesFilter = commonHandler.getTypesGUID(userId, searchParameters.getEntityTypes());
+        }
+
+        if (searchIndex != null && searchIndex.canSearch(searchParameters)) {
+            List<AssetElements> indexResults = searchIndex(userId, searchCriteria, searchParameters, typesFilter);
+            if (indexResults != null) {
+                return indexResults;
+            }
+        }
+
+        if (CollectionUtils.isNotEmpty(searchParameters.getEntityTypes())) {
             result = collectSearchedEntitiesByType(userId, searchCriteria, searchParameters, typesFilter);
         } else {
             result = collectSearchedEntitiesByType(userId, searchCriteria, searchParameters, defaultSearchTypes);
@@ -419,7 +441,7 @@ public class AssetCatalogHandler {
                 AssetElements assetElements = assetConverter.buildAssetElements(entityDetail);
                 searchResults.add(assetElements);
             } catch (org.odpi.openmetadata.commonservices.ffdc.exceptions.InvalidParameterException e) {
-                log.debug("This asset if a different zone: {}", entityDetail.getGUID());
+                log.debug("This asset is in a different zone: {}", entityDetail.getGUID());
             }
         }
         SequencingOrder sequencingOrder = searchParameters.getSequencingOrder();
@@ -430,6 +452,66 @@ public class AssetCatalogHandler {
         return results;
     }
 
+    /**
+     * Answer a search from the search index.  The index returns the matching entities in ranked order and the
+     * current copy of each entity is retrieved from the repositories.
+     *
+     * @param userId           user identifier that issues the call
+     * @param searchCriteria   the input for the search
+     * @param searchParameters constrains to make the assets's search results more precise
+     * @param typesFilter      the identifiers of the types to return - all of the supported types if empty
+     * @return list of found elements or null if the search can not be answered by the index
+     * @throws org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException user not authorized to issue this request
+     * @throws org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException  one of the parameters is invalid
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository
+     */
+    private List<AssetElements> searchIndex(String userId, String searchCriteria, SearchParameters searchParameters,
+                                            List<String> typesFilter)
+            throws org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException,
+            org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException, RepositoryErrorException {
+
+        String methodName = "searchIndex";
+        OMRSMetadataCollection metadataCollection = commonHandler.getOMRSMetadataCollection();
+        List<AssetElements> results = new ArrayList<>();
+
+        /*
+         * The page is taken from the index at the requested offset.  The entities that have been removed since they
+         * were indexed, or that are no longer in the supported zones, are left out of the page rather than replaced
+         * by later hits, so the page can be short but the next page still starts where this one ends.
+         */
+        List<String> guids;
+        try {
+            guids = searchIndex.search(searchCriteria, searchParameters, typesFilter, supportedZones,
+                    searchParameters.getFrom(), searchParameters.getPageSize());
+        } catch (IOException e) {
+            log.debug("Unable to search the index, searching the repositories instead", e);
+            return null;
+        }
+
+        if (guids == null) {
+            return null;
+        }
+
+        for (String guid : guids) {
+            try {
+                EntityDetail entityDetail = metadataCollection.getEntityDetail(userId, guid);
+                invalidParameterHandler.validateAssetInSupportedZone(entityDetail.getGUID(),
+                        GUID_PARAMETER,
+                        commonHandler.getAssetZoneMembership(entityDetail.getClassifications()),
+                        supportedZones,
+                        serverUserName,
+                        methodName);
+                results.add(assetConverter.buildAssetElements(entityDetail));
+            } catch (EntityNotKnownException | EntityProxyOnlyException e) {
+                log.debug("The entity {} has been removed since it was indexed", guid);
+            } catch (org.odpi.openmetadata.commonservices.ffdc.exceptions.InvalidParameterException e) {
+                log.debug("This asset is in a different zone: {}", guid);
+            }
+        }
+
+        return results;
+    }
+
     /**
      * @param userId            user identifier that issues the call
      * @param entityGUID        the identifier of the entity
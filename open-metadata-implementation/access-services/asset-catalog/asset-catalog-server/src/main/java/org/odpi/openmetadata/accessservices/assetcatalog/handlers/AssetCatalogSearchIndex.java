@@ -0,0 +1,819 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetcatalog.handlers;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.odpi.openmetadata.accessservices.assetcatalog.auditlog.AssetCatalogAuditCode;
+import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.body.SearchParameters;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.ASSET_ZONE_MEMBERSHIP;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.DESCRIPTION;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.DISPLAY_NAME;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.NAME;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.QUALIFIED_NAME;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.TYPE_SEQUENCING;
+import static org.odpi.openmetadata.accessservices.assetcatalog.handlers.CommonHandler.ZONE_MEMBERSHIP;
+
+/**
+ * AssetCatalogSearchIndex is an optional full-text index that the Asset Catalog OMAS uses to answer searchByType
+ * requests.  It holds the name, qualified name, description, type, zones and classifications of the active entities of
+ * the types supported for search, along with their subtypes.
+ * <p>
+ * The index is rebuilt from the repositories each time the server starts and is kept up to date by listening to the
+ * OMRS instance events received through the enterprise topic.  Searches are answered from the repositories until the
+ * rebuild is complete, and again if the index fails.  The index returns the unique identifiers of the matching
+ * entities in ranked order, and the entities are retrieved from the repositories to build the results.
+ */
+public class AssetCatalogSearchIndex extends OMRSTopicListenerBase {
+
+    private static final Logger log = LoggerFactory.getLogger(AssetCatalogSearchIndex.class);
+
+    private static final String GUID_FIELD = "guid";
+    private static final String TYPE_GUID_FIELD = "typeGUID";
+    private static final String TYPE_NAME_FIELD = "typeName";
+    private static final String NAME_FIELD = "name";
+    private static final String QUALIFIED_NAME_FIELD = "qualifiedName";
+    private static final String DESCRIPTION_FIELD = "description";
+    private static final String EXACT_NAME_FIELD = "exactName";
+    private static final String EXACT_NAME_LOWER_CASE_FIELD = "exactNameLowerCase";
+    private static final String ZONE_FIELD = "zone";
+    private static final String CLASSIFICATION_FIELD = "classification";
+    private static final String SORT_NAME_FIELD = "sortName";
+    private static final String SORT_QUALIFIED_NAME_FIELD = "sortQualifiedName";
+    private static final String SORT_TYPE_FIELD = "sortType";
+
+    /*
+     * Indexed for entities that are not in any zone, since they are visible whatever the supported zones.
+     */
+    private static final String NO_ZONES = "";
+
+    private final String serverName;
+    private final OMRSRepositoryHelper repositoryHelper;
+    private final Set<String> indexedTypeNames;
+    private final Directory directory;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+
+    private final Object updateLock = new Object();
+    private final Set<String> changedDuringLoad = new HashSet<>();
+    private boolean loading = false;
+
+    private volatile boolean ready = false;
+    private volatile boolean failed = false;
+
+    /**
+     * Create an empty index in the supplied directory.  Any existing content is removed since the index is
+     * rebuilt by loadEntities().
+     *
+     * @param serverName       name of this server
+     * @param repositoryHelper helper for extracting properties
+     * @param indexedTypeNames names of the types to index - their subtypes are also indexed
+     * @param directory        where to store the index
+     * @param auditLog         logging destination
+     * @throws IOException the index could not be created
+     */
+    public AssetCatalogSearchIndex(String serverName, OMRSRepositoryHelper repositoryHelper, List<String> indexedTypeNames,
+                                   Directory directory, AuditLog auditLog) throws IOException {
+        super("Asset Catalog Search Index", auditLog);
+
+        this.serverName = serverName;
+        this.repositoryHelper = repositoryHelper;
+        this.indexedTypeNames = new HashSet<>(indexedTypeNames);
+        this.directory = directory;
+
+        IndexWriterConfig indexWriterConfig = new IndexWriterConfig(analyzer);
+        indexWriterConfig.setOpenMode(IndexWriterConfig.OpenMode.CREATE);
+
+        this.indexWriter = new IndexWriter(directory, indexWriterConfig);
+        this.searcherManager = new SearcherManager(indexWriter, null);
+    }
+
+    /**
+     * Load the active entities of the indexed types from the repositories.  The index is used for searches once
+     * the load is complete.  Entities that change while the load is running are indexed from their events rather
+     * than from the possibly older copy retrieved by the load.
+     *
+     * @param repositoryConnector connector to the repositories
+     * @param userId              user to retrieve the entities
+     * @param pageSize            number of entities to retrieve on each call
+     */
+    public void loadEntities(OMRSRepositoryConnector repositoryConnector, String userId, int pageSize) {
+        final String actionDescription = "loadEntities";
+
+        synchronized (updateLock) {
+            loading = true;
+        }
+
+        try {
+            OMRSMetadataCollection metadataCollection = repositoryConnector.getMetadataCollection();
+
+            for (String typeName : indexedTypeNames) {
+                TypeDef typeDef = repositoryHelper.getTypeDefByName(serviceName, typeName);
+
+                if (typeDef == null) {
+                    continue;
+                }
+
+                int from = 0;
+                List<EntityDetail> entities;
+
+                do {
+                    entities = metadataCollection.findEntitiesByProperty(userId,
+                            typeDef.getGUID(),
+                            null,
+                            MatchCriteria.ALL,
+                            from,
+                            Collections.singletonList(InstanceStatus.ACTIVE),
+                            null,
+                            null,
+                            null,
+                            SequencingOrder.GUID,
+                            pageSize);
+
+                    if (entities != null) {
+                        for (EntityDetail entity : entities) {
+                            loadEntity(entity);
+                        }
+                    }
+
+                    from = from + pageSize;
+                } while ((entities != null) && (entities.size() == pageSize) && (!failed));
+            }
+
+            indexWriter.commit();
+            searcherManager.maybeRefresh();
+
+            if (!failed) {
+                ready = true;
+
+                if (auditLog != null) {
+                    auditLog.logMessage(actionDescription,
+                            AssetCatalogAuditCode.SEARCH_INDEX_READY.getMessageDefinition(serverName,
+                                    Integer.toString(indexWriter.getDocStats().numDocs)));
+                }
+            }
+        } catch (Exception error) {
+            handleIndexFailure(actionDescription, error);
+        } finally {
+            synchronized (updateLock) {
+                loading = false;
+                changedDuringLoad.clear();
+            }
+        }
+    }
+
+    /**
+     * Return whether the index can answer a search.  This is the case once the index is loaded, for searches of
+     * the indexed types or their subtypes.
+     *
+     * @param searchParameters parameters of the search
+     * @return boolean flag
+     */
+    public boolean canSearch(SearchParameters searchParameters) {
+        if ((!ready) || (failed)) {
+            return false;
+        }
+
+        if (CollectionUtils.isNotEmpty(searchParameters.getEntityTypes())) {
+            for (String typeName : searchParameters.getEntityTypes()) {
+                if (!isIndexedType(typeName)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Return the unique identifiers of the entities that match the search criteria, in ranked order.  The results
+     * are ranked by relevance unless the search parameters request them in name, qualified name or type order.
+     *
+     * @param searchCriteria   text to search for
+     * @param searchParameters paging, matching and sequencing options
+     * @param typeGUIDs        unique identifiers of the types to return - an empty list means all of the indexed types
+     * @param supportedZones   zones that the caller can see - an empty list means all zones
+     * @return list of unique identifiers or null if the search criteria contain no words to search for
+     * @throws IOException the index could not be searched
+     */
+    public List<String> search(String searchCriteria, SearchParameters searchParameters, List<String> typeGUIDs,
+                               List<String> supportedZones) throws IOException {
+        return search(searchCriteria, searchParameters, typeGUIDs, supportedZones, searchParameters.getFrom(),
+                searchParameters.getPageSize());
+    }
+
+    /**
+     * Return the unique identifiers of the entities that match the search criteria, in ranked order, starting from
+     * the supplied position in the ranked hits rather than the one in the search parameters.
+     *
+     * @param searchCriteria   text to search for
+     * @param searchParameters matching and sequencing options
+     * @param typeGUIDs        unique identifiers of the types to return - an empty list means all of the indexed types
+     * @param supportedZones   zones that the caller can see - an empty list means all zones
+     * @param from             position of the first hit to return
+     * @param pageSize         maximum number of hits to return - zero means all of them
+     * @return list of unique identifiers or null if the search criteria contain no words to search for
+     * @throws IOException the index could not be searched
+     */
+    public List<String> search(String searchCriteria, SearchParameters searchParameters, List<String> typeGUIDs,
+                               List<String> supportedZones, int from, int pageSize) throws IOException {
+        Query query = buildQuery(searchCriteria, searchParameters, typeGUIDs, supportedZones);
+
+        if (query == null) {
+            return null;
+        }
+
+        searcherManager.maybeRefresh();
+        IndexSearcher searcher = searcherManager.acquire();
+
+        try {
+            int maxHits = pageSize > 0 ? from + pageSize
+                    : Math.max(1, searcher.getIndexReader().numDocs());
+            Sort sort = getSort(searchParameters);
+
+            TopDocs topDocs = (sort == null) ? searcher.search(query, maxHits) : searcher.search(query, maxHits, sort);
+
+            List<String> results = new ArrayList<>();
+            Set<String> fieldsToLoad = Collections.singleton(GUID_FIELD);
+            ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+
+            for (int i = from; i < scoreDocs.length; i++) {
+                Document document = searcher.doc(scoreDocs[i].doc, fieldsToLoad);
+
+                results.add(document.get(GUID_FIELD));
+            }
+
+            return results;
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    /**
+     * Close the index.  It is not used again.
+     */
+    public void close() {
+        final String actionDescription = "close";
+
+        ready = false;
+        failed = true;
+
+        try {
+            searcherManager.close();
+            indexWriter.close();
+            directory.close();
+        } catch (IOException error) {
+            log.debug("Unable to close the search index for server {}", serverName, error);
+
+            if (auditLog != null) {
+                auditLog.logException(actionDescription,
+                        AssetCatalogAuditCode.SEARCH_INDEX_FAILURE.getMessageDefinition(serverName,
+                                error.getClass().getName(),
+                                error.getMessage()),
+                        error);
+            }
+        }
+    }
+
+    /**
+     * Add or replace an entity in the index.  Entities that are not active, or are not of an indexed type,
+     * are removed.
+     *
+     * @param entity entity from an event
+     */
+    void indexEntity(EntityDetail entity) {
+        final String actionDescription = "indexEntity";
+
+        if ((entity == null) || (entity.getGUID() == null) || (failed)) {
+            return;
+        }
+
+        try {
+            synchronized (updateLock) {
+                if (loading) {
+                    changedDuringLoad.add(entity.getGUID());
+                }
+
+                writeEntity(entity);
+            }
+        } catch (Exception error) {
+            handleIndexFailure(actionDescription, error);
+        }
+    }
+
+    /**
+     * Remove an entity from the index.
+     *
+     * @param entityGUID unique identifier of the entity
+     */
+    void removeEntity(String entityGUID) {
+        final String actionDescription = "removeEntity";
+
+        if ((entityGUID == null) || (failed)) {
+            return;
+        }
+
+        try {
+            synchronized (updateLock) {
+                if (loading) {
+                    changedDuringLoad.add(entityGUID);
+                }
+
+                indexWriter.deleteDocuments(new Term(GUID_FIELD, entityGUID));
+            }
+        } catch (Exception error) {
+            handleIndexFailure(actionDescription, error);
+        }
+    }
+
+    /**
+     * Add an entity retrieved by the initial load unless it has been changed by an event.
+     *
+     * @param entity entity from the repositories
+     * @throws IOException the entity could not be indexed
+     */
+    private void loadEntity(EntityDetail entity) throws IOException {
+        if ((entity == null) || (entity.getGUID() == null)) {
+            return;
+        }
+
+        synchronized (updateLock) {
+            if (!changedDuringLoad.contains(entity.getGUID())) {
+                writeEntity(entity);
+            }
+        }
+    }
+
+    /**
+     * Write the entity to the index, or remove it if it should not be found by searches.
+     *
+     * @param entity entity to index
+     * @throws IOException the entity could not be indexed
+     */
+    private void writeEntity(EntityDetail entity) throws IOException {
+        Term guidTerm = new Term(GUID_FIELD, entity.getGUID());
+
+        if ((entity.getStatus() == InstanceStatus.ACTIVE) && (isIndexedType(entity.getType()))) {
+            indexWriter.updateDocument(guidTerm, buildDocument(entity));
+        } else {
+            indexWriter.deleteDocuments(guidTerm);
+        }
+    }
+
+    /**
+     * Build the index document for an entity.
+     *
+     * @param entity entity to index
+     * @return document
+     */
+    private Document buildDocument(EntityDetail entity) {
+        final String methodName = "buildDocument";
+
+        InstanceProperties properties = entity.getProperties();
+
+        String name = repositoryHelper.getStringProperty(serviceName, DISPLAY_NAME, properties, methodName);
+        if (name == null) {
+            name = repositoryHelper.getStringProperty(serviceName, NAME, properties, methodName);
+        }
+        String qualifiedName = repositoryHelper.getStringProperty(serviceName, QUALIFIED_NAME, properties, methodName);
+        String description = repositoryHelper.getStringProperty(serviceName, DESCRIPTION, properties, methodName);
+        String typeName = entity.getType().getTypeDefName();
+
+        Document document = new Document();
+
+        document.add(new StringField(GUID_FIELD, entity.getGUID(), Field.Store.YES));
+        document.add(new StringField(TYPE_GUID_FIELD, entity.getType().getTypeDefGUID(), Field.Store.NO));
+        document.add(new TextField(TYPE_NAME_FIELD, typeName, Field.Store.NO));
+        document.add(new SortedDocValuesField(SORT_TYPE_FIELD, new BytesRef(typeName.toLowerCase(Locale.ROOT))));
+
+        if (name != null) {
+            document.add(new TextField(NAME_FIELD, name, Field.Store.NO));
+            document.add(new StringField(EXACT_NAME_FIELD, name, Field.Store.NO));
+            document.add(new StringField(EXACT_NAME_LOWER_CASE_FIELD, name.toLowerCase(Locale.ROOT), Field.Store.NO));
+        }
+        document.add(new SortedDocValuesField(SORT_NAME_FIELD, new BytesRef(name == null ? "" : name.toLowerCase(Locale.ROOT))));
+
+        if (qualifiedName != null) {
+            document.add(new TextField(QUALIFIED_NAME_FIELD, qualifiedName, Field.Store.NO));
+        }
+        document.add(new SortedDocValuesField(SORT_QUALIFIED_NAME_FIELD,
+                new BytesRef(qualifiedName == null ? "" : qualifiedName.toLowerCase(Locale.ROOT))));
+
+        if (description != null) {
+            document.add(new TextField(DESCRIPTION_FIELD, description, Field.Store.NO));
+        }
+
+        List<String> zones = null;
+
+        if (entity.getClassifications() != null) {
+            for (Classification classification : entity.getClassifications()) {
+                if ((classification != null) && (classification.getName() != null)) {
+                    document.add(new StringField(CLASSIFICATION_FIELD, classification.getName(), Field.Store.NO));
+
+                    if (ASSET_ZONE_MEMBERSHIP.equals(classification.getName())) {
+                        zones = repositoryHelper.getStringArrayProperty(serviceName, ZONE_MEMBERSHIP,
+                                classification.getProperties(), methodName);
+                    }
+                }
+            }
+        }
+
+        if (CollectionUtils.isEmpty(zones)) {
+            document.add(new StringField(ZONE_FIELD, NO_ZONES, Field.Store.NO));
+        } else {
+            for (String zone : zones) {
+                if (zone != null) {
+                    document.add(new StringField(ZONE_FIELD, zone, Field.Store.NO));
+                }
+            }
+        }
+
+        return document;
+    }
+
+    /**
+     * Build the query for a search.  Each word of the search criteria must match the name, qualified name,
+     * description or type of the entity.  Matches on the name score highest.
+     *
+     * @param searchCriteria   text to search for
+     * @param searchParameters matching options
+     * @param typeGUIDs        unique identifiers of the types to return
+     * @param supportedZones   zones that the caller can see
+     * @return query or null if there is nothing to search for
+     * @throws IOException the search criteria could not be analyzed
+     */
+    private Query buildQuery(String searchCriteria, SearchParameters searchParameters, List<String> typeGUIDs,
+                             List<String> supportedZones) throws IOException {
+        BooleanQuery.Builder queryBuilder = new BooleanQuery.Builder();
+
+        if (searchParameters.getExactMatch()) {
+            if (searchParameters.getCaseInsensitive()) {
+                queryBuilder.add(new TermQuery(new Term(EXACT_NAME_LOWER_CASE_FIELD, searchCriteria.toLowerCase(Locale.ROOT))),
+                        BooleanClause.Occur.MUST);
+            } else {
+                queryBuilder.add(new TermQuery(new Term(EXACT_NAME_FIELD, searchCriteria)), BooleanClause.Occur.MUST);
+            }
+        } else {
+            List<String> words = getWords(searchCriteria);
+
+            if (words.isEmpty()) {
+                return null;
+            }
+
+            for (String word : words) {
+                BooleanQuery.Builder wordQuery = new BooleanQuery.Builder();
+
+                wordQuery.add(new BoostQuery(new TermQuery(new Term(NAME_FIELD, word)), 4.0f), BooleanClause.Occur.SHOULD);
+                wordQuery.add(new BoostQuery(new PrefixQuery(new Term(NAME_FIELD, word)), 2.0f), BooleanClause.Occur.SHOULD);
+                wordQuery.add(new BoostQuery(new TermQuery(new Term(QUALIFIED_NAME_FIELD, word)), 1.5f), BooleanClause.Occur.SHOULD);
+                wordQuery.add(new PrefixQuery(new Term(QUALIFIED_NAME_FIELD, word)), BooleanClause.Occur.SHOULD);
+                wordQuery.add(new TermQuery(new Term(DESCRIPTION_FIELD, word)), BooleanClause.Occur.SHOULD);
+                wordQuery.add(new TermQuery(new Term(TYPE_NAME_FIELD, word)), BooleanClause.Occur.SHOULD);
+
+                queryBuilder.add(wordQuery.build(), BooleanClause.Occur.MUST);
+            }
+        }
+
+        if (CollectionUtils.isNotEmpty(typeGUIDs)) {
+            List<BytesRef> typeTerms = new ArrayList<>();
+            for (String typeGUID : typeGUIDs) {
+                typeTerms.add(new BytesRef(typeGUID));
+            }
+            queryBuilder.add(new TermInSetQuery(TYPE_GUID_FIELD, typeTerms), BooleanClause.Occur.FILTER);
+        }
+
+        if (CollectionUtils.isNotEmpty(supportedZones)) {
+            BooleanQuery.Builder zoneQuery = new BooleanQuery.Builder();
+
+            zoneQuery.add(new TermQuery(new Term(ZONE_FIELD, NO_ZONES)), BooleanClause.Occur.SHOULD);
+            for (String zone : supportedZones) {
+                zoneQuery.add(new TermQuery(new Term(ZONE_FIELD, zone)), BooleanClause.Occur.SHOULD);
+            }
+
+            queryBuilder.add(zoneQuery.build(), BooleanClause.Occur.FILTER);
+        }
+
+        if (CollectionUtils.isNotEmpty(searchParameters.getLimitResultsByClassification())) {
+            for (String classificationName : searchParameters.getLimitResultsByClassification()) {
+                queryBuilder.add(new TermQuery(new Term(CLASSIFICATION_FIELD, classificationName)), BooleanClause.Occur.FILTER);
+            }
+        }
+
+        return queryBuilder.build();
+    }
+
+    /**
+     * Split the search criteria into the words that are held in the index.
+     *
+     * @param searchCriteria text to search for
+     * @return list of words
+     * @throws IOException the text could not be analyzed
+     */
+    private List<String> getWords(String searchCriteria) throws IOException {
+        List<String> words = new ArrayList<>();
+
+        try (TokenStream tokenStream = analyzer.tokenStream(NAME_FIELD, searchCriteria)) {
+            CharTermAttribute term = tokenStream.addAttribute(CharTermAttribute.class);
+
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                words.add(term.toString());
+            }
+            tokenStream.end();
+        }
+
+        return words;
+    }
+
+    /**
+     * Return the sort order requested by the search parameters.
+     *
+     * @param searchParameters sequencing options
+     * @return sort or null to sort by relevance
+     */
+    private Sort getSort(SearchParameters searchParameters) {
+        SequencingOrder sequencingOrder = searchParameters.getSequencingOrder();
+
+        if ((sequencingOrder != SequencingOrder.PROPERTY_ASCENDING) && (sequencingOrder != SequencingOrder.PROPERTY_DESCENDING)) {
+            return null;
+        }
+
+        String sequencingProperty = searchParameters.getSequencingProperty();
+        String sortField;
+
+        if (TYPE_SEQUENCING.equals(sequencingProperty)) {
+            sortField = SORT_TYPE_FIELD;
+        } else if (QUALIFIED_NAME.equals(sequencingProperty)) {
+            sortField = SORT_QUALIFIED_NAME_FIELD;
+        } else if ((DISPLAY_NAME.equals(sequencingProperty)) || (NAME.equals(sequencingProperty))) {
+            sortField = SORT_NAME_FIELD;
+        } else {
+            return null;
+        }
+
+        return new Sort(new SortField(sortField, SortField.Type.STRING, sequencingOrder == SequencingOrder.PROPERTY_DESCENDING),
+                SortField.FIELD_SCORE);
+    }
+
+    /**
+     * Return whether the type is one of the indexed types or one of their subtypes.
+     *
+     * @param typeName name of the type
+     * @return boolean flag
+     */
+    private boolean isIndexedType(String typeName) {
+        for (String indexedTypeName : indexedTypeNames) {
+            if (repositoryHelper.isTypeOf(serviceName, typeName, indexedTypeName)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Return whether the type of an entity is one of the indexed types or one of their subtypes.
+     *
+     * @param type type of the entity
+     * @return boolean flag
+     */
+    private boolean isIndexedType(InstanceType type) {
+        if ((type == null) || (type.getTypeDefGUID() == null) || (type.getTypeDefName() == null)) {
+            return false;
+        }
+
+        if (indexedTypeNames.contains(type.getTypeDefName())) {
+            return true;
+        }
+
+        if (type.getTypeDefSuperTypes() != null) {
+            for (TypeDefLink superType : type.getTypeDefSuperTypes()) {
+                if ((superType != null) && (indexedTypeNames.contains(superType.getName()))) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Stop using the index after a failure.  Searches are answered from the repositories until the server restarts.
+     *
+     * @param actionDescription activity that failed
+     * @param error             exception from the index
+     */
+    private void handleIndexFailure(String actionDescription, Exception error) {
+        ready = false;
+        failed = true;
+
+        log.debug("Search index for server {} failed during {}", serverName, actionDescription, error);
+
+        if (auditLog != null) {
+            auditLog.logException(actionDescription,
+                    AssetCatalogAuditCode.SEARCH_INDEX_FAILURE.getMessageDefinition(serverName,
+                            error.getClass().getName(),
+                            error.getMessage()),
+                    error);
+        }
+    }
+
+
+    /*
+     * ==============================
+     * OMRS instance events
+     */
+
+    /**
+     * A new entity has been created.
+     */
+    @Override
+    public void processNewEntityEvent(String sourceName, String originatorMetadataCollectionId, String originatorServerName,
+                                      String originatorServerType, String originatorOrganizationName, EntityDetail entity) {
+        indexEntity(entity);
+    }
+
+    /**
+     * An existing entity has been updated.
+     */
+    @Override
+    public void processUpdatedEntityEvent(String sourceName, String originatorMetadataCollectionId, String originatorServerName,
+                                          String originatorServerType, String originatorOrganizationName,
+                                          EntityDetail oldEntity, EntityDetail newEntity) {
+        indexEntity(newEntity);
+    }
+
+    /**
+     * An update to an entity has been undone.
+     */
+    @Override
+    public void processUndoneEntityEvent(String sourceName, String originatorMetadataCollectionId, String originatorServerName,
+                                         String originatorServerType, String originatorOrganizationName, EntityDetail entity) {
+        indexEntity(entity);
+    }
+
+    /**
+     * A new classification has been added to an entity.  It may change the zones of the entity.
+     */
+    @Override
+    public void processClassifiedEntityEvent(String sourceName, String originatorMetadataCollectionId, String originatorServerName,
+                                             String originatorServerType, String originatorOrganizationName,
+                                             EntityDetail entity, Classification classification) {
+        indexEntity(entity);
+    }
+
+    /**
+     * A classification has been removed from an entity.
+     */
+    @Override
+    public void processDeclassifiedEntityEvent(String sourceName, String originatorMetadataCollectionId, String originatorServerName,
+                                               String originatorServerType, String originatorOrganizationName,
+                                               EntityDetail entity, Classification originalClassification) {
+        indexEntity(entity);
+    }
+
+    /**
+     * An existing classification has been changed on an entity.
+     */
+    @Override
+    public void processReclassifiedEntityEvent(String sourceName, String originatorMetadataCollectionId, String originatorServerName,
+                                               String originatorServerType, String originatorOrganizationName,
+                                               EntityDetail entity, Classification originalClassification,
+                                               Classification classification) {
+        indexEntity(entity);
+    }
+
+    /**
+     * An existing entity has been deleted.
+     */
+    @Override
+    public void processDeletedEntityEvent(String sourceName, String originatorMetadataCollectionId, String originatorServerName,
+                                          String originatorServerType, String originatorOrganizationName, EntityDetail entity) {
+        if (entity != null) {
+            removeEntity(entity.getGUID());
+        }
+    }
+
+    /**
+     * A deleted entity has been purged.
+     */
+    @Override
+    public void processPurgedEntityEvent(String sourceName, String originatorMetadataCollectionId, String originatorServerName,
+                                         String originatorServerType, String originatorOrganizationName,
+                                         String typeDefGUID, String typeDefName, String instanceGUID) {
+        removeEntity(instanceGUID);
+    }
+
+    /**
+     * An active entity has been deleted and purged in one call.
+     */
+    @Override
+    public void processDeletePurgedEntityEvent(String sourceName, String originatorMetadataCollectionId, String originatorServerName,
+                                               String originatorServerType, String originatorOrganizationName, EntityDetail entity) {
+        if (entity != null) {
+            removeEntity(entity.getGUID());
+        }
+    }
+
+    /**
+     * A deleted entity has been restored.
+     */
+    @Override
+    public void processRestoredEntityEvent(String sourceName, String originatorMetadataCollectionId, String originatorServerName,
+                                           String originatorServerType, String originatorOrganizationName, EntityDetail entity) {
+        indexEntity(entity);
+    }
+
+    /**
+     * The unique identifier of an entity has changed.
+     */
+    @Override
+    public void processReIdentifiedEntityEvent(String sourceName, String originatorMetadataCollectionId, String originatorServerName,
+                                               String originatorServerType, String originatorOrganizationName,
+                                               String originalEntityGUID, EntityDetail entity) {
+        removeEntity(originalEntityGUID);
+        indexEntity(entity);
+    }
+
+    /**
+     * The type of an entity has changed.  It may no longer be one of the indexed types.
+     */
+    @Override
+    public void processReTypedEntityEvent(String sourceName, String originatorMetadataCollectionId, String originatorServerName,
+                                          String originatorServerType, String originatorOrganizationName,
+                                          TypeDefSummary originalTypeDefSummary, EntityDetail entity) {
+        indexEntity(entity);
+    }
+
+    /**
+     * The home metadata collection of an entity has changed.
+     */
+    @Override
+    public void processReHomedEntityEvent(String sourceName, String originatorMetadataCollectionId, String originatorServerName,
+                                          String originatorServerType, String originatorOrganizationName,
+                                          String originalHomeMetadataCollectionId, EntityDetail entity) {
+        indexEntity(entity);
+    }
+
+    /**
+     * The latest copy of an entity has been sent in response to a refresh request.
+     */
+    @Override
+    public void processRefreshEntityEvent(String sourceName, String originatorMetadataCollectionId, String originatorServerName,
+                                          String originatorServerType, String originatorOrganizationName, EntityDetail entity) {
+        indexEntity(entity);
+    }
+}
@@ -41,11 +41,15 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorEx
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.TypeErrorException;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -65,6 +69,8 @@ public class AssetCatalogHandlerTest {
     private static final String SEARCH_CRITERIA = "employee";
     private static final String FIRST_GUID = "ababa-123-acbd";
     private static final String SECOND_GUID = "ababc-2134-2341f";
+    private static final String THIRD_GUID = "ababd-3456-7890a";
+    private static final String FOURTH_GUID = "ababe-4567-8901b";
     private static final String RELATIONSHIP_TYPE_GUID = "adadad-bcba-123";
     private final String USER = "test-user";
     private final String RELATIONSHIP_TYPE = "SemanticAssigment";
@@ -596,6 +602,63 @@ public class AssetCatalogHandlerTest {
 
     }
 
+    @Test
+    public void searchByType_pagesFollowTheIndex() throws Exception {
+        SearchParameters searchParams = mockSearchParams();
+        searchParams.setPageSize(2);
+        mockTypeDef(ASSET_TYPE, ASSET_TYPE_GUID);
+        AssetCatalogSearchIndex searchIndex = mockSearchIndex(searchParams);
+
+        OMRSMetadataCollection metadataCollection = mockMetadataCollection();
+        when(metadataCollection.getEntityDetail(USER, FIRST_GUID)).thenReturn(mockIndexedEntity(FIRST_GUID));
+        when(metadataCollection.getEntityDetail(USER, SECOND_GUID)).thenThrow(EntityNotKnownException.class);
+        when(metadataCollection.getEntityDetail(USER, THIRD_GUID)).thenReturn(mockIndexedEntity(THIRD_GUID));
+        when(metadataCollection.getEntityDetail(USER, FOURTH_GUID)).thenReturn(mockIndexedEntity(FOURTH_GUID));
+
+        doThrow(new org.odpi.openmetadata.commonservices.ffdc.exceptions.InvalidParameterException(AssetCatalogErrorCode.SERVICE_NOT_INITIALIZED.getMessageDefinition(),
+                this.getClass().getName(), "", ""))
+                .when(invalidParameterHandler).validateAssetInSupportedZone(eq(THIRD_GUID), any(), any(), any(), any(), any());
+
+        when(searchIndex.search(eq(SEARCH_CRITERIA), eq(searchParams), any(), any(), eq(0), eq(2)))
+                .thenReturn(Arrays.asList(FIRST_GUID, SECOND_GUID));
+        when(searchIndex.search(eq(SEARCH_CRITERIA), eq(searchParams), any(), any(), eq(2), eq(2)))
+                .thenReturn(Arrays.asList(THIRD_GUID, FOURTH_GUID));
+
+        // the removed entity leaves the first page short rather than pulling in a hit from the second page
+        List<AssetElements> firstPage = assetCatalogHandler.searchByType(USER, SEARCH_CRITERIA, searchParams);
+
+        assertEquals(1, firstPage.size());
+        assertEquals(FIRST_GUID, firstPage.get(0).getGuid());
+
+        searchParams.setFrom(2);
+        List<AssetElements> secondPage = assetCatalogHandler.searchByType(USER, SEARCH_CRITERIA, searchParams);
+
+        assertEquals(1, secondPage.size());
+        assertEquals(FOURTH_GUID, secondPage.get(0).getGuid());
+        verify(searchIndex, times(1)).search(eq(SEARCH_CRITERIA), eq(searchParams), any(), any(), eq(0), eq(2));
+        verify(searchIndex, times(1)).search(eq(SEARCH_CRITERIA), eq(searchParams), any(), any(), eq(2), eq(2));
+        verify(searchIndex, times(2)).search(eq(SEARCH_CRITERIA), eq(searchParams), any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    public void searchByType_stopsWhenIndexHasNoMoreHits() throws Exception {
+        SearchParameters searchParams = mockSearchParams();
+        searchParams.setPageSize(2);
+        mockTypeDef(ASSET_TYPE, ASSET_TYPE_GUID);
+        AssetCatalogSearchIndex searchIndex = mockSearchIndex(searchParams);
+
+        OMRSMetadataCollection metadataCollection = mockMetadataCollection();
+        when(metadataCollection.getEntityDetail(USER, FIRST_GUID)).thenThrow(EntityNotKnownException.class);
+
+        when(searchIndex.search(eq(SEARCH_CRITERIA), eq(searchParams), any(), any(), eq(0), eq(2)))
+                .thenReturn(Collections.singletonList(FIRST_GUID));
+
+        List<AssetElements> assetElements = assetCatalogHandler.searchByType(USER, SEARCH_CRITERIA, searchParams);
+
+        assertEquals(0, assetElements.size());
+        verify(searchIndex, times(1)).search(eq(SEARCH_CRITERIA), eq(searchParams), any(), any(), anyInt(), anyInt());
+    }
+
     @Test
     public void buildContextByType() throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException, RepositoryErrorException {
         String methodName = "buildContextByType";
@@ -638,6 +701,20 @@ public class AssetCatalogHandlerTest {
     }
 
 
+    private AssetCatalogSearchIndex mockSearchIndex(SearchParameters searchParams) {
+        AssetCatalogSearchIndex searchIndex = mock(AssetCatalogSearchIndex.class);
+        when(searchIndex.canSearch(searchParams)).thenReturn(true);
+        assetCatalogHandler.setSearchIndex(searchIndex);
+        return searchIndex;
+    }
+
+    private EntityDetail mockIndexedEntity(String guid) {
+        EntityDetail entityDetail = new EntityDetail();
+        entityDetail.setGUID(guid);
+        entityDetail.setType(mockInstanceType(ASSET_TYPE, ASSET_TYPE_GUID));
+        return entityDetail;
+    }
+
     private void mockPagedRelationships(String methodName) throws UserNotAuthorizedException, PropertyServerException {
         when(repositoryHandler.getPagedRelationshipsByType(USER,
                 FIRST_GUID,
@@ -0,0 +1,203 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetcatalog.handlers;
+
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.body.SearchParameters;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.DESCRIPTION;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.DISPLAY_NAME;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.NAME;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.QUALIFIED_NAME;
+
+public class AssetCatalogSearchIndexTest {
+
+    private static final String SERVER_NAME = "test-server";
+    private static final String USER = "test-user";
+    private static final String ASSET_TYPE = "Asset";
+    private static final String ASSET_TYPE_GUID = "ababa-12232-abc";
+    private static final String FIRST_GUID = "ababa-123-acbd";
+    private static final String SECOND_GUID = "ababc-2134-2341f";
+    private static final String THIRD_GUID = "ababd-3456-7890a";
+
+    @Mock
+    private OMRSRepositoryHelper repositoryHelper;
+
+    @Mock
+    private OMRSRepositoryConnector repositoryConnector;
+
+    @Mock
+    private OMRSMetadataCollection metadataCollection;
+
+    private AssetCatalogSearchIndex searchIndex;
+
+    @Before
+    public void before() throws Exception {
+        MockitoAnnotations.openMocks(this);
+
+        when(repositoryHelper.isTypeOf(anyString(), eq(ASSET_TYPE), eq(ASSET_TYPE))).thenReturn(true);
+        for (String propertyName : Arrays.asList(NAME, DISPLAY_NAME, QUALIFIED_NAME, DESCRIPTION)) {
+            when(repositoryHelper.getStringProperty(anyString(), eq(propertyName), any(), anyString()))
+                    .thenAnswer(invocation -> getStringProperty(invocation.getArgument(2), propertyName));
+        }
+        when(repositoryConnector.getMetadataCollection()).thenReturn(metadataCollection);
+
+        searchIndex = new AssetCatalogSearchIndex(SERVER_NAME, repositoryHelper, Collections.singletonList(ASSET_TYPE),
+                new ByteBuffersDirectory(), null);
+    }
+
+    @After
+    public void after() {
+        searchIndex.close();
+    }
+
+    @Test
+    public void canSearch_onlyOnceLoaded() {
+        SearchParameters searchParameters = mockSearchParameters();
+
+        assertFalse(searchIndex.canSearch(searchParameters));
+
+        searchIndex.loadEntities(repositoryConnector, USER, 10);
+
+        assertTrue(searchIndex.canSearch(searchParameters));
+    }
+
+    @Test
+    public void search_ranksNameMatchesFirst() throws IOException {
+        searchIndex.indexEntity(mockEntityDetail(SECOND_GUID, "Payroll", "Holds the employee salaries"));
+        searchIndex.indexEntity(mockEntityDetail(FIRST_GUID, "Employee", "Holds the staff records"));
+        searchIndex.indexEntity(mockEntityDetail(THIRD_GUID, "Customer", "Holds the customer records"));
+        searchIndex.loadEntities(repositoryConnector, USER, 10);
+
+        List<String> result = searchIndex.search("employee", mockSearchParameters(), Collections.emptyList(),
+                Collections.emptyList());
+
+        assertEquals(Arrays.asList(FIRST_GUID, SECOND_GUID), result);
+    }
+
+    @Test
+    public void search_sortsAndPages() throws IOException {
+        searchIndex.indexEntity(mockEntityDetail(FIRST_GUID, "Employee", "Holds the records"));
+        searchIndex.indexEntity(mockEntityDetail(SECOND_GUID, "Payroll", "Holds the records"));
+        searchIndex.indexEntity(mockEntityDetail(THIRD_GUID, "Customer", "Holds the records"));
+        searchIndex.loadEntities(repositoryConnector, USER, 10);
+
+        SearchParameters searchParameters = mockSearchParameters();
+        searchParameters.setSequencingOrder(SequencingOrder.PROPERTY_ASCENDING);
+        searchParameters.setSequencingProperty(NAME);
+        searchParameters.setFrom(1);
+        searchParameters.setPageSize(1);
+
+        List<String> result = searchIndex.search("records", searchParameters, Collections.emptyList(),
+                Collections.emptyList());
+
+        assertEquals(Collections.singletonList(FIRST_GUID), result);
+    }
+
+    @Test
+    public void search_fromSuppliedPosition() throws IOException {
+        searchIndex.indexEntity(mockEntityDetail(FIRST_GUID, "Employee", "Holds the records"));
+        searchIndex.indexEntity(mockEntityDetail(SECOND_GUID, "Payroll", "Holds the records"));
+        searchIndex.indexEntity(mockEntityDetail(THIRD_GUID, "Customer", "Holds the records"));
+        searchIndex.loadEntities(repositoryConnector, USER, 10);
+
+        SearchParameters searchParameters = mockSearchParameters();
+        searchParameters.setSequencingOrder(SequencingOrder.PROPERTY_ASCENDING);
+        searchParameters.setSequencingProperty(NAME);
+
+        List<String> result = searchIndex.search("records", searchParameters, Collections.emptyList(),
+                Collections.emptyList(), 1, 5);
+
+        assertEquals(Arrays.asList(FIRST_GUID, SECOND_GUID), result);
+    }
+
+    @Test
+    public void search_ignoresDeletedEntities() throws IOException {
+        EntityDetail entityDetail = mockEntityDetail(FIRST_GUID, "Employee", "Holds the staff records");
+        searchIndex.indexEntity(entityDetail);
+        searchIndex.loadEntities(repositoryConnector, USER, 10);
+
+        searchIndex.processDeletedEntityEvent(null, null, null, null, null, entityDetail);
+
+        List<String> result = searchIndex.search("employee", mockSearchParameters(), Collections.emptyList(),
+                Collections.emptyList());
+
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    public void search_withoutWords() throws IOException {
+        searchIndex.loadEntities(repositoryConnector, USER, 10);
+
+        assertNull(searchIndex.search(".*", mockSearchParameters(), Collections.emptyList(), Collections.emptyList()));
+    }
+
+    private SearchParameters mockSearchParameters() {
+        SearchParameters searchParameters = new SearchParameters();
+        searchParameters.setEntityTypes(Collections.singletonList(ASSET_TYPE));
+        searchParameters.setFrom(0);
+        searchParameters.setPageSize(10);
+        return searchParameters;
+    }
+
+    private EntityDetail mockEntityDetail(String guid, String name, String description) {
+        EntityDetail entityDetail = new EntityDetail();
+        entityDetail.setGUID(guid);
+        entityDetail.setStatus(InstanceStatus.ACTIVE);
+
+        InstanceType instanceType = new InstanceType();
+        instanceType.setTypeDefName(ASSET_TYPE);
+        instanceType.setTypeDefGUID(ASSET_TYPE_GUID);
+        entityDetail.setType(instanceType);
+
+        InstanceProperties properties = new InstanceProperties();
+        properties.setProperty(NAME, mockPrimitivePropertyValue(name));
+        properties.setProperty(QUALIFIED_NAME, mockPrimitivePropertyValue("test." + name));
+        properties.setProperty(DESCRIPTION, mockPrimitivePropertyValue(description));
+        entityDetail.setProperties(properties);
+
+        return entityDetail;
+    }
+
+    private PrimitivePropertyValue mockPrimitivePropertyValue(String value) {
+        PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        primitivePropertyValue.setPrimitiveValue(value);
+        return primitivePropertyValue;
+    }
+
+    private String getStringProperty(InstanceProperties properties, String propertyName) {
+        if (properties == null || properties.getPropertyValue(propertyName) == null) {
+            return null;
+        }
+        return (String) ((PrimitivePropertyValue) properties.getPropertyValue(propertyName)).getPrimitiveValue();
+    }
+}
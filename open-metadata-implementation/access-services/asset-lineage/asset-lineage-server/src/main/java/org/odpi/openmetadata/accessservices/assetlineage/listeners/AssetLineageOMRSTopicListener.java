@@ -26,6 +26,7 @@ import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -94,6 +95,22 @@ public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
         return publisher;
     }
 
+    /**
+     * Return the types of the lineage entities and relationships so that the enterprise topic only passes the events
+     * for these types, and their subtypes, to this listener.  The listener matches the type names exactly, so the
+     * events for the subtypes are still ignored.
+     *
+     * @return list of type names
+     */
+    @Override
+    public List<String> getInterestingInstanceTypeNames() {
+        List<String> typeNames = new ArrayList<>(immutableValidLineageDeleteEntityEvents);
+
+        typeNames.addAll(immutableValidLineageRelationshipTypes);
+
+        return typeNames;
+    }
+
     /**
      * Method to pass a Registry event received on topic.
      *
@@ -42,6 +42,7 @@ import org.odpi.openmetadata.accessservices.dataengine.server.handlers.DataEngin
 import org.odpi.openmetadata.accessservices.dataengine.server.handlers.DataEngineSchemaTypeHandler;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceDescription;
 import org.odpi.openmetadata.commonservices.generichandlers.AssetHandler;
+import org.odpi.openmetadata.commonservices.generichandlers.LatestChangeMaintainer;
 import org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIGenericHandler;
 import org.odpi.openmetadata.commonservices.generichandlers.PortHandler;
 import org.odpi.openmetadata.commonservices.generichandlers.ReferenceableHandler;
@@ -152,6 +153,11 @@ public class DataEngineServicesInstance extends OMASServiceInstance {
     @Getter
     private final DataEngineConnectionAndEndpointHandler dataEngineConnectionAndEndpointHandler;
 
+    /**
+     * Maintains the LatestChange classification for the anchors of the elements created by the data engines.
+     */
+    private final LatestChangeMaintainer latestChangeMaintainer;
+
     /**
      * Sets up the local repository connector that will service the REST Calls
      *
@@ -161,12 +167,14 @@ public class DataEngineServicesInstance extends OMASServiceInstance {
      * @param auditLog            logging destination
      * @param localServerUserId   userId used for server initiated actions
      * @param maxPageSize         max number of results to return on single request
+     * @param inTopicConnection   connection for the client side of the in topic
+     * @param latestChangeCoalescingInterval number of milliseconds over which LatestChange updates are coalesced (0 means synchronous)
      *
      * @throws NewInstanceException a problem occurred during initialization
      */
     DataEngineServicesInstance(OMRSRepositoryConnector repositoryConnector, List<String> supportedZones, List<String> defaultZones,
-                               AuditLog auditLog, String localServerUserId, int maxPageSize, Connection inTopicConnection) throws
-                                                                                                                           NewInstanceException {
+                               AuditLog auditLog, String localServerUserId, int maxPageSize, Connection inTopicConnection,
+                               int latestChangeCoalescingInterval) throws NewInstanceException {
 
 
         super(description.getAccessServiceFullName(), repositoryConnector, supportedZones, defaultZones, null, auditLog,
@@ -181,6 +189,9 @@ public class DataEngineServicesInstance extends OMASServiceInstance {
                     methodName);
         }
 
+        latestChangeMaintainer = new LatestChangeMaintainer(serviceName, serverName, localServerUserId, repositoryHandler, repositoryHelper,
+                auditLog, latestChangeCoalescingInterval);
+
         final AssetHandler<Process> assetHandler = new AssetHandler<>(new ProcessConverter<>(repositoryHelper, serviceName, serverName),
                 Process.class, serviceName, serverName, invalidParameterHandler, repositoryHandler, repositoryHelper, localServerUserId,
                 securityVerifier, supportedZones, defaultZones, publishZones, auditLog);
@@ -229,6 +240,13 @@ public class DataEngineServicesInstance extends OMASServiceInstance {
                 serviceName, serverName, invalidParameterHandler, repositoryHandler, repositoryHelper, localServerUserId, securityVerifier,
                 supportedZones, defaultZones, publishZones, auditLog);
 
+        assetHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+        collectionOpenMetadataAPIGenericHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+        schemaTypeHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+        schemaAttributeHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+        relationalDataHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+        portHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+
         dataEngineRegistrationHandler = new DataEngineRegistrationHandler(serviceName, serverName, invalidParameterHandler, repositoryHandler,
                 repositoryHelper);
 
@@ -244,6 +262,8 @@ public class DataEngineServicesInstance extends OMASServiceInstance {
                 new ReferenceableHandler<>(new EndpointConverter<>(repositoryHelper, serviceName, serverName),
                         Endpoint.class, serviceName, serverName, invalidParameterHandler, repositoryHandler, repositoryHelper,
                         localServerUserId, securityVerifier, supportedZones, defaultZones, publishZones, auditLog);
+        connectionHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+        endpointHandler.setLatestChangeMaintainer(latestChangeMaintainer);
         dataEngineConnectionAndEndpointHandler =
                 new DataEngineConnectionAndEndpointHandler(invalidParameterHandler, repositoryHelper, serviceName, serverName,
                         dataEngineCommonHandler, connectionHandler, endpointHandler);
@@ -266,13 +286,25 @@ public class DataEngineServicesInstance extends OMASServiceInstance {
         final AssetHandler<FileFolder> folderHandler = new AssetHandler<>(new FileFolderConverter<>(repositoryHelper, serviceName, serverName),
                 FileFolder.class, serviceName, serverName, invalidParameterHandler, repositoryHandler, repositoryHelper,
                 localServerUserId, securityVerifier, supportedZones, defaultZones, publishZones, auditLog);
+        folderHandler.setLatestChangeMaintainer(latestChangeMaintainer);
         dataEngineFolderHierarchyHandler = new DataEngineFolderHierarchyHandler(invalidParameterHandler, repositoryHandler, dataEngineCommonHandler,
                 folderHandler);
         final AssetHandler<DataFile> fileHandler = new AssetHandler<>(new DataFileConverter<>(repositoryHelper, serviceName, serverName),
                 DataFile.class, serviceName, serverName, invalidParameterHandler, repositoryHandler, repositoryHelper,
                 localServerUserId, securityVerifier, supportedZones, defaultZones, publishZones, auditLog);
+        fileHandler.setLatestChangeMaintainer(latestChangeMaintainer);
         dataEngineDataFileHandler = new DataEngineDataFileHandler(invalidParameterHandler, repositoryHelper,
                 repositoryHandler, dataEngineCommonHandler, fileHandler, dataEngineSchemaTypeHandler, dataEngineFolderHierarchyHandler,
                 dataEngineConnectionAndEndpointHandler);
     }
+
+    /**
+     * Write out any coalesced LatestChange updates and unregister from the platform.
+     */
+    @Override
+    public void shutdown() {
+        latestChangeMaintainer.shutdown();
+
+        super.shutdown();
+    }
 }
@@ -80,6 +80,10 @@ public class DataManagerAdmin extends AccessServiceAdmin
                                                                  accessServiceConfig.getAccessServiceName(),
                                                                  auditLog);
 
+            int latestChangeCoalescingInterval = this.extractLatestChangeCoalescingInterval(accessServiceConfig.getAccessServiceOptions(),
+                                                                                            accessServiceConfig.getAccessServiceName(),
+                                                                                            auditLog);
+
             this.instance   = new DataManagerServicesInstance(repositoryConnector,
                                                                supportedZones,
                                                                defaultZones,
@@ -87,7 +91,8 @@ public class DataManagerAdmin extends AccessServiceAdmin
                                                                auditLog,
                                                                serverUserName,
                                                                repositoryConnector.getMaxPageSize(),
-                                                               accessServiceConfig.getAccessServiceOutTopic());
+                                                               accessServiceConfig.getAccessServiceOutTopic(),
+                                                               latestChangeCoalescingInterval);
             this.serverName = instance.getServerName();
 
             /*
@@ -21,6 +21,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
 import java.util.List;
 
 
@@ -71,6 +72,30 @@ public class DataManagerOMRSTopicListener extends OMRSTopicListenerBase
     }
 
 
+    /**
+     * Return the types of instances that this listener publishes events for so that the enterprise topic
+     * only passes the events for these types, and their subtypes, to this listener.
+     *
+     * @return list of type names
+     */
+    @Override
+    public List<String> getInterestingInstanceTypeNames()
+    {
+        return Arrays.asList(OpenMetadataAPIMapper.DATA_SET_TYPE_NAME,
+                             OpenMetadataAPIMapper.DATA_STORE_TYPE_NAME,
+                             OpenMetadataAPIMapper.SCHEMA_ELEMENT_TYPE_NAME,
+                             OpenMetadataAPIMapper.DATA_CONTENT_FOR_DATA_SET_TYPE_NAME,
+                             OpenMetadataAPIMapper.ASSET_TO_SCHEMA_TYPE_TYPE_NAME,
+                             OpenMetadataAPIMapper.ATTRIBUTE_TO_TYPE_RELATIONSHIP_TYPE_NAME,
+                             OpenMetadataAPIMapper.TYPE_TO_ATTRIBUTE_RELATIONSHIP_TYPE_NAME,
+                             OpenMetadataAPIMapper.SCHEMA_QUERY_TARGET_RELATIONSHIP_TYPE_NAME,
+                             OpenMetadataAPIMapper.LINKED_EXTERNAL_SCHEMA_TYPE_RELATIONSHIP_TYPE_NAME,
+                             OpenMetadataAPIMapper.MAP_FROM_RELATIONSHIP_TYPE_NAME,
+                             OpenMetadataAPIMapper.MAP_TO_RELATIONSHIP_TYPE_NAME,
+                             OpenMetadataAPIMapper.SCHEMA_TYPE_OPTION_RELATIONSHIP_TYPE_NAME);
+    }
+
+
     /**
      * An entity has been changed.
      *
@@ -50,6 +50,8 @@ public class DataManagerServicesInstance extends OMASServiceInstance
     private SchemaAttributeHandler<SchemaAttributeElement,
                                    SchemaTypeElement>                        schemaAttributeHandler;
 
+    private LatestChangeMaintainer                                           latestChangeMaintainer;
+
 
     /**
      * Set up the local repository connector that will service the REST Calls.
@@ -63,6 +65,7 @@ public class DataManagerServicesInstance extends OMASServiceInstance
      * @param maxPageSize max number of results to return on single request.
      * @param outTopicEventBusConnection inner event bus connection to use to build topic connection to send to client if they which
      *                                   to listen on the out topic.
+     * @param latestChangeCoalescingInterval number of milliseconds over which LatestChange updates are coalesced (0 means synchronous)
      * @throws NewInstanceException a problem occurred during initialization
      */
     public DataManagerServicesInstance(OMRSRepositoryConnector repositoryConnector,
@@ -72,7 +75,8 @@ public class DataManagerServicesInstance extends OMASServiceInstance
                                         AuditLog               auditLog,
                                         String                 localServerUserId,
                                         int                    maxPageSize,
-                                        Connection             outTopicEventBusConnection) throws NewInstanceException
+                                        Connection             outTopicEventBusConnection,
+                                        int                    latestChangeCoalescingInterval) throws NewInstanceException
     {
         super(myDescription.getAccessServiceFullName(),
               repositoryConnector,
@@ -97,6 +101,18 @@ public class DataManagerServicesInstance extends OMASServiceInstance
 
         }
 
+        /*
+         * The integration connectors that use this service catalog whole databases and file systems so the updates to the
+         * LatestChange classification of each anchor may be coalesced.
+         */
+        this.latestChangeMaintainer = new LatestChangeMaintainer(serviceName,
+                                                                 serverName,
+                                                                 localServerUserId,
+                                                                 repositoryHandler,
+                                                                 repositoryHelper,
+                                                                 auditLog,
+                                                                 latestChangeCoalescingInterval);
+
         this.genericHandler = new OpenMetadataAPIGenericHandler<>(new DataManagerOMASConverter<>(repositoryHelper, serviceName,serverName),
                                                                   ElementStub.class,
                                                                   serviceName,
@@ -298,6 +314,32 @@ public class DataManagerServicesInstance extends OMASServiceInstance
                                                                    defaultZones,
                                                                    publishZones,
                                                                    auditLog);
+
+        genericHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+        dataManagerIntegratorHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+        relationalDataHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+        filesAndFoldersHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+        topicHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+        eventTypeHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+        apiHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+        apiSpecificationHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+        apiOperationHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+        apiParameterListHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+        apiParameterHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+        schemaTypeHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+        schemaAttributeHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+    }
+
+
+    /**
+     * Write out any coalesced LatestChange updates and unregister from the platform.
+     */
+    @Override
+    public void shutdown()
+    {
+        latestChangeMaintainer.shutdown();
+
+        super.shutdown();
     }
 
 
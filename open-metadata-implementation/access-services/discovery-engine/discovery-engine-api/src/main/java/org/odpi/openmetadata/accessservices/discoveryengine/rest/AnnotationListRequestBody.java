@@ -0,0 +1,151 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.accessservices.discoveryengine.rest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.frameworks.discovery.properties.Annotation;
+
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * AnnotationListRequestBody provides a structure for passing a batch of annotations to add to the annotation store.
+ * When the annotations are for different data fields, the parentGUIDs list holds the unique identifier of the
+ * data field for the annotation in the same position of the annotations list.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class AnnotationListRequestBody extends ODFOMASAPIRequestBody
+{
+    private static final long    serialVersionUID = 1L;
+
+    private List<String>     parentGUIDs = null;
+    private List<Annotation> annotations = null;
+
+
+    /**
+     * Default constructor
+     */
+    public AnnotationListRequestBody()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public AnnotationListRequestBody(AnnotationListRequestBody template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            parentGUIDs = template.getParentGUIDs();
+            annotations = template.getAnnotations();
+        }
+    }
+
+
+    /**
+     * Return the unique identifiers of the elements that each annotation is to be attached to.
+     *
+     * @return list of guids (null if the parent is supplied on the URL)
+     */
+    public List<String> getParentGUIDs()
+    {
+        return parentGUIDs;
+    }
+
+
+    /**
+     * Set up the unique identifiers of the elements that each annotation is to be attached to.
+     *
+     * @param parentGUIDs list of guids (null if the parent is supplied on the URL)
+     */
+    public void setParentGUIDs(List<String> parentGUIDs)
+    {
+        this.parentGUIDs = parentGUIDs;
+    }
+
+
+    /**
+     * Return the annotations to add.
+     *
+     * @return list of annotations
+     */
+    public List<Annotation> getAnnotations()
+    {
+        return annotations;
+    }
+
+
+    /**
+     * Set up the annotations to add.
+     *
+     * @param annotations list of annotations
+     */
+    public void setAnnotations(List<Annotation> annotations)
+    {
+        this.annotations = annotations;
+    }
+
+
+    /**
+     * JSON-style toString.
+     *
+     * @return list of properties and their values.
+     */
+    @Override
+    public String toString()
+    {
+        return "AnnotationListRequestBody{" +
+                "parentGUIDs=" + parentGUIDs +
+                ", annotations=" + annotations +
+                '}';
+    }
+
+
+    /**
+     * Equals method that returns true if containing properties are the same.
+     *
+     * @param objectToCompare object to compare
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        AnnotationListRequestBody that = (AnnotationListRequestBody) objectToCompare;
+        return Objects.equals(getParentGUIDs(), that.getParentGUIDs()) &&
+                Objects.equals(getAnnotations(), that.getAnnotations());
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(getParentGUIDs(), getAnnotations());
+    }
+}
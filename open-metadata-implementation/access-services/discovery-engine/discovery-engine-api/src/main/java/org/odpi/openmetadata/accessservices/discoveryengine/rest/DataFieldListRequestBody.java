@@ -0,0 +1,123 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.accessservices.discoveryengine.rest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.frameworks.discovery.properties.DataField;
+
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * DataFieldListRequestBody provides a structure for passing a batch of data fields to add to the annotation store.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class DataFieldListRequestBody extends ODFOMASAPIRequestBody
+{
+    private static final long    serialVersionUID = 1L;
+
+    private List<DataField> dataFields = null;
+
+
+    /**
+     * Default constructor
+     */
+    public DataFieldListRequestBody()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public DataFieldListRequestBody(DataFieldListRequestBody template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            dataFields = template.getDataFields();
+        }
+    }
+
+
+    /**
+     * Return the data fields to add.
+     *
+     * @return list of data fields
+     */
+    public List<DataField> getDataFields()
+    {
+        return dataFields;
+    }
+
+
+    /**
+     * Set up the data fields to add.
+     *
+     * @param dataFields list of data fields
+     */
+    public void setDataFields(List<DataField> dataFields)
+    {
+        this.dataFields = dataFields;
+    }
+
+
+    /**
+     * JSON-style toString.
+     *
+     * @return list of properties and their values.
+     */
+    @Override
+    public String toString()
+    {
+        return "DataFieldListRequestBody{" +
+                "dataFields=" + dataFields +
+                '}';
+    }
+
+
+    /**
+     * Equals method that returns true if containing properties are the same.
+     *
+     * @param objectToCompare object to compare
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        DataFieldListRequestBody that = (DataFieldListRequestBody) objectToCompare;
+        return Objects.equals(getDataFields(), that.getDataFields());
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(getDataFields());
+    }
+}
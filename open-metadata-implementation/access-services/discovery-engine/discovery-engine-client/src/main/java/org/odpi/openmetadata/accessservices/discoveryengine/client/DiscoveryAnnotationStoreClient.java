@@ -10,6 +10,7 @@ import org.odpi.openmetadata.frameworks.discovery.properties.Annotation;
 import org.odpi.openmetadata.frameworks.discovery.properties.AnnotationStatus;
 import org.odpi.openmetadata.frameworks.discovery.properties.DataField;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -205,6 +206,30 @@ public class DiscoveryAnnotationStoreClient extends DiscoveryAnnotationStore
     }
 
 
+    /**
+     * Add a batch of new annotations to the annotation store as top level annotations linked directly off of the report.
+     * The batch is sent to the discovery engine in a single request.
+     *
+     * @param annotations list of annotation objects
+     * @return list of unique identifiers of the new annotations (in the same order as the annotations)
+     * @throws InvalidParameterException one of the annotations is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the annotations to the annotation store.
+     */
+    @Override
+    public  List<String>  addAnnotationsToDiscoveryReport(List<Annotation> annotations) throws InvalidParameterException,
+                                                                                               UserNotAuthorizedException,
+                                                                                               PropertyServerException
+    {
+        if ((annotations == null) || (annotations.isEmpty()))
+        {
+            return new ArrayList<>();
+        }
+
+        return discoveryEngineClient.addAnnotationsToDiscoveryReport(userId, discoveryReport.getDiscoveryReportGUID(), annotations);
+    }
+
+
     /**
      * Add a new annotation and link it to an existing annotation.
      *
@@ -363,6 +388,33 @@ public class DiscoveryAnnotationStoreClient extends DiscoveryAnnotationStore
     }
 
 
+    /**
+     * Add a batch of new data fields to the Annotation store linked off of an annotation (typically SchemaAnalysisAnnotation).
+     * The batch is sent to the discovery engine in a single request.
+     *
+     * @param annotationGUID unique identifier of the annotation that the data fields are to be linked to
+     * @param dataFields list of dataField objects
+     * @return list of unique identifiers of the new data fields (in the same order as the data fields)
+     * @throws InvalidParameterException one of the dataFields is invalid or the annotation GUID points to an annotation
+     *                                   that can not be associated with a data field.
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the data fields to the Annotation store.
+     */
+    @Override
+    public  List<String>  addDataFieldsToDiscoveryReport(String          annotationGUID,
+                                                         List<DataField> dataFields) throws InvalidParameterException,
+                                                                                            UserNotAuthorizedException,
+                                                                                            PropertyServerException
+    {
+        if ((dataFields == null) || (dataFields.isEmpty()))
+        {
+            return new ArrayList<>();
+        }
+
+        return discoveryEngineClient.addDataFieldsToDiscoveryReport(userId, annotationGUID, dataFields);
+    }
+
+
     /**
      * Add a new data field and link it to an existing data field.
      *
@@ -404,6 +456,37 @@ public class DiscoveryAnnotationStoreClient extends DiscoveryAnnotationStore
     }
 
 
+    /**
+     * Add a batch of new annotations, each linked to an existing data field.  The annotation in each position of the
+     * annotations list is linked to the data field in the same position of the parentDataFieldGUIDs list.
+     * The batch is sent to the discovery engine in a single request.
+     *
+     * @param parentDataFieldGUIDs unique identifiers of the data fields that the new annotations are to be attached to
+     * @param annotations list of annotation objects
+     * @return list of unique identifiers of the new annotations (in the same order as the annotations)
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem saving annotations in the annotation store.
+     */
+    @Override
+    public  List<String>  addAnnotationsToDataFields(List<String>     parentDataFieldGUIDs,
+                                                     List<Annotation> annotations) throws InvalidParameterException,
+                                                                                          UserNotAuthorizedException,
+                                                                                          PropertyServerException
+    {
+        final String methodName = "addAnnotationsToDataFields";
+
+        if ((annotations == null) || (annotations.isEmpty()))
+        {
+            return new ArrayList<>();
+        }
+
+        super.validateBatchLists(parentDataFieldGUIDs, annotations, methodName);
+
+        return discoveryEngineClient.addAnnotationsToDataFields(userId, parentDataFieldGUIDs, annotations);
+    }
+
+
     /**
      * Replace the current properties of a data field.
      *
@@ -933,6 +933,47 @@ public class DiscoveryEngineClient extends ConnectedAssetClientBase
     }
 
 
+    /**
+     * Add a batch of new annotations to the annotation store as top level annotations linked directly off of the report.
+     *
+     * @param userId identifier of calling user
+     * @param discoveryReportGUID unique identifier of the discovery analysis report
+     * @param annotations list of annotation objects
+     * @return list of unique identifiers of the new annotations (in the same order as the annotations)
+     * @throws InvalidParameterException one of the annotations is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the annotations to the annotation store.
+     */
+    List<String>  addAnnotationsToDiscoveryReport(String           userId,
+                                                  String           discoveryReportGUID,
+                                                  List<Annotation> annotations) throws InvalidParameterException,
+                                                                                       UserNotAuthorizedException,
+                                                                                       PropertyServerException
+    {
+        final String   methodName = "addAnnotationsToDiscoveryReport";
+        final String   annotationsParameterName = "annotations";
+        final String   reportGUIDParameterName = "discoveryReportGUID";
+        final String   urlTemplate = "/servers/{0}/open-metadata/access-services/discovery-engine/users/{1}/discovery-analysis-reports/{2}/annotations/batch";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateGUID(discoveryReportGUID, reportGUIDParameterName, methodName);
+        invalidParameterHandler.validateObject(annotations, annotationsParameterName, methodName);
+
+        AnnotationListRequestBody requestBody = new AnnotationListRequestBody();
+
+        requestBody.setAnnotations(annotations);
+
+        GUIDListResponse restResult = restClient.callGUIDListPostRESTCall(methodName,
+                                                                          serverPlatformURLRoot + urlTemplate,
+                                                                          requestBody,
+                                                                          serverName,
+                                                                          userId,
+                                                                          discoveryReportGUID);
+
+        return restResult.getGUIDs();
+    }
+
+
     /**
      * Add a new annotation and link it to an existing annotation.
      *
@@ -1224,6 +1265,48 @@ public class DiscoveryEngineClient extends ConnectedAssetClientBase
     }
 
 
+    /**
+     * Add a batch of new data fields to the Annotation store linked off of an annotation (typically SchemaAnalysisAnnotation).
+     *
+     * @param userId identifier of calling user
+     * @param annotationGUID unique identifier of the annotation that the data fields are to be linked to
+     * @param dataFields list of dataField objects
+     * @return list of unique identifiers of the new data fields (in the same order as the data fields)
+     * @throws InvalidParameterException one of the dataFields is invalid or the annotation GUID points to an annotation
+     *                                   that can not be associated with a data field.
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the data fields to the Annotation store.
+     */
+    List<String>  addDataFieldsToDiscoveryReport(String          userId,
+                                                 String          annotationGUID,
+                                                 List<DataField> dataFields) throws InvalidParameterException,
+                                                                                    UserNotAuthorizedException,
+                                                                                    PropertyServerException
+    {
+        final String   methodName = "addDataFieldsToDiscoveryReport";
+        final String   annotationGUIDParameterName = "annotationGUID";
+        final String   dataFieldsParameterName = "dataFields";
+        final String   urlTemplate = "/servers/{0}/open-metadata/access-services/discovery-engine/users/{1}/annotations/{2}/data-fields/batch";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateGUID(annotationGUID, annotationGUIDParameterName, methodName);
+        invalidParameterHandler.validateObject(dataFields, dataFieldsParameterName, methodName);
+
+        DataFieldListRequestBody requestBody = new DataFieldListRequestBody();
+
+        requestBody.setDataFields(dataFields);
+
+        GUIDListResponse restResult = restClient.callGUIDListPostRESTCall(methodName,
+                                                                          serverPlatformURLRoot + urlTemplate,
+                                                                          requestBody,
+                                                                          serverName,
+                                                                          userId,
+                                                                          annotationGUID);
+
+        return restResult.getGUIDs();
+    }
+
+
     /**
      * Add a new data field and link it to an existing data field.
      *
@@ -1298,6 +1381,48 @@ public class DiscoveryEngineClient extends ConnectedAssetClientBase
     }
 
 
+    /**
+     * Add a batch of new annotations, each linked to an existing data field.  The annotation in each position of the
+     * annotations list is linked to the data field in the same position of the parentDataFieldGUIDs list.
+     *
+     * @param userId identifier of calling user
+     * @param parentDataFieldGUIDs unique identifiers of the data fields that the new annotations are to be attached to
+     * @param annotations list of annotation objects
+     * @return list of unique identifiers of the new annotations (in the same order as the annotations)
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem saving annotations in the annotation store.
+     */
+    List<String>  addAnnotationsToDataFields(String           userId,
+                                             List<String>     parentDataFieldGUIDs,
+                                             List<Annotation> annotations) throws InvalidParameterException,
+                                                                                  UserNotAuthorizedException,
+                                                                                  PropertyServerException
+    {
+        final String   methodName = "addAnnotationsToDataFields";
+        final String   dataFieldGUIDsParameterName = "parentDataFieldGUIDs";
+        final String   annotationsParameterName = "annotations";
+        final String   urlTemplate = "/servers/{0}/open-metadata/access-services/discovery-engine/users/{1}/data-fields/annotations/batch";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateObject(parentDataFieldGUIDs, dataFieldGUIDsParameterName, methodName);
+        invalidParameterHandler.validateObject(annotations, annotationsParameterName, methodName);
+
+        AnnotationListRequestBody requestBody = new AnnotationListRequestBody();
+
+        requestBody.setParentGUIDs(parentDataFieldGUIDs);
+        requestBody.setAnnotations(annotations);
+
+        GUIDListResponse restResult = restClient.callGUIDListPostRESTCall(methodName,
+                                                                          serverPlatformURLRoot + urlTemplate,
+                                                                          requestBody,
+                                                                          serverName,
+                                                                          userId);
+
+        return restResult.getGUIDs();
+    }
+
+
     /**
      * Replace the current properties of a data field.
      *
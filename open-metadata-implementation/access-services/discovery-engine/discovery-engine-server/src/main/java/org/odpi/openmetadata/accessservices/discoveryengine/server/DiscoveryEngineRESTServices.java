@@ -867,6 +867,60 @@ public class DiscoveryEngineRESTServices
     }
 
 
+    /**
+     * Add a batch of new annotations to the annotation store as top level annotations linked directly off of the report.
+     *
+     * @param serverName name of server instance to route request to
+     * @param userId identifier of calling user
+     * @param discoveryReportGUID unique identifier of the discovery analysis report
+     * @param requestBody list of annotation objects
+     *
+     * @return list of unique identifiers of the new annotations (in the same order as the annotations) or
+     *
+     *  InvalidParameterException one of the annotations is invalid
+     *  UserNotAuthorizedException the user id not authorized to issue this request
+     *  PropertyServerException there was a problem adding the annotations to the annotation store.
+     */
+    public  GUIDListResponse  addAnnotationsToDiscoveryReport(String                    serverName,
+                                                              String                    userId,
+                                                              String                    discoveryReportGUID,
+                                                              AnnotationListRequestBody requestBody)
+    {
+        final String methodName = "addAnnotationsToDiscoveryReport";
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+
+        AuditLog         auditLog = null;
+        GUIDListResponse response = new GUIDListResponse();
+
+        try
+        {
+            if (requestBody != null)
+            {
+                AnnotationHandler<Annotation> handler = instanceHandler.getAnnotationHandler(userId, serverName, methodName);
+
+                auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+
+                response.setGUIDs(handler.addAnnotationsToDiscoveryReport(userId,
+                                                                          discoveryReportGUID,
+                                                                          requestBody.getAnnotations(),
+                                                                          methodName));
+            }
+            else
+            {
+                restExceptionHandler.handleNoRequestBody(userId, methodName, serverName);
+            }
+        }
+        catch (Exception error)
+        {
+            restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
+        }
+
+        restCallLogger.logRESTCallReturn(token, response.toString());
+        return response;
+    }
+
+
     /**
      * Add a new annotation and link it to an existing annotation.
      *
@@ -1258,6 +1312,64 @@ public class DiscoveryEngineRESTServices
     }
 
 
+    /**
+     * Add a batch of new data fields to the Annotation store linked off of an annotation (typically SchemaAnalysisAnnotation).
+     *
+     * @param serverName name of server instance to route request to
+     * @param userId identifier of calling user
+     * @param annotationGUID unique identifier of the annotation that the data fields are to be linked to
+     * @param requestBody list of dataField objects
+     *
+     * @return list of unique identifiers of the new data fields (in the same order as the data fields) or
+     *
+     *  InvalidParameterException one of the dataFields is invalid or the annotation GUID points to an annotation
+     *                                   that can not be associated with a data field.
+     *  UserNotAuthorizedException the user id not authorized to issue this request
+     *  PropertyServerException there was a problem  adding the data fields to the Annotation store.
+     */
+    public GUIDListResponse  addDataFieldsToDiscoveryReport(String                   serverName,
+                                                            String                   userId,
+                                                            String                   annotationGUID,
+                                                            DataFieldListRequestBody requestBody)
+    {
+        final String   methodName = "addDataFieldsToDiscoveryReport";
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+
+        AuditLog         auditLog = null;
+        GUIDListResponse response = new GUIDListResponse();
+
+        try
+        {
+            if (requestBody != null)
+            {
+                DataFieldHandler<DataField> handler = instanceHandler.getDataFieldHandler(userId, serverName, methodName);
+
+                auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+
+                response.setGUIDs(handler.addDataFieldsToDiscoveryReport(userId,
+                                                                         null,
+                                                                         null,
+                                                                         annotationGUID,
+                                                                         requestBody.getDataFields(),
+                                                                         methodName));
+            }
+            else
+            {
+                restExceptionHandler.handleNoRequestBody(userId, methodName, serverName);
+            }
+        }
+        catch (Exception error)
+        {
+            restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
+        }
+
+        restCallLogger.logRESTCallReturn(token, response.toString());
+
+        return response;
+    }
+
+
     /**
      * Add a new data field and link it to an existing data field.
      *
@@ -1381,6 +1493,57 @@ public class DiscoveryEngineRESTServices
     }
 
 
+    /**
+     * Add a batch of new annotations, each linked to an existing data field.  The annotation in each position of the
+     * annotations list is linked to the data field in the same position of the parentGUIDs list.
+     *
+     * @param serverName name of server instance to route request to
+     * @param userId identifier of calling user
+     * @param requestBody unique identifiers of the data fields and the annotation objects
+     * @return list of unique identifiers of the new annotations (in the same order as the annotations) or
+     *  InvalidParameterException one of the parameters is invalid
+     *  UserNotAuthorizedException the user id not authorized to issue this request
+     *  PropertyServerException there was a problem saving annotations in the annotation store.
+     */
+    public GUIDListResponse addAnnotationsToDataFields(String                    serverName,
+                                                       String                    userId,
+                                                       AnnotationListRequestBody requestBody)
+    {
+        final String   methodName = "addAnnotationsToDataFields";
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+
+        AuditLog         auditLog = null;
+        GUIDListResponse response = new GUIDListResponse();
+
+        try
+        {
+            AnnotationHandler<Annotation> handler = instanceHandler.getAnnotationHandler(userId, serverName, methodName);
+
+            auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+
+            if (requestBody != null)
+            {
+                response.setGUIDs(handler.addAnnotationsToDataFields(userId,
+                                                                     requestBody.getParentGUIDs(),
+                                                                     requestBody.getAnnotations(),
+                                                                     methodName));
+            }
+            else
+            {
+                restExceptionHandler.handleNoRequestBody(userId, methodName, serverName);
+            }
+        }
+        catch (Exception error)
+        {
+            restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
+        }
+
+        restCallLogger.logRESTCallReturn(token, response.toString());
+        return response;
+    }
+
+
     /**
      * Replace the current properties of a data field.
      *
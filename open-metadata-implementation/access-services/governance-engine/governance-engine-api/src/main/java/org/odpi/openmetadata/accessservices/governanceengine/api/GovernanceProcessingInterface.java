@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.accessservices.governanceengine.api;
 
 import org.odpi.openmetadata.accessservices.governanceengine.metadataelements.GovernanceActionElement;
+import org.odpi.openmetadata.accessservices.governanceengine.properties.WatchdogInterestProperties;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
@@ -285,4 +286,42 @@ public interface GovernanceProcessingInterface
                                 List<NewActionTarget> newActionTargets) throws InvalidParameterException,
                                                                                UserNotAuthorizedException,
                                                                                PropertyServerException;
+
+
+    /**
+     * Register the interests of the watchdog governance action services running in a governance engine.  The Governance Engine OMAS
+     * only publishes the watchdog events that match the interests registered by at least one of its listeners.  Each call replaces
+     * the interests previously registered by the same listener and an empty list means the listener is not interested in any
+     * watchdog events.
+     *
+     * @param userId identifier of calling user
+     * @param listenerId unique identifier of the listener - typically the engine host server name and the governance engine name
+     * @param watchdogInterests interests of each of the watchdog listeners
+     *
+     * @throws InvalidParameterException one of the parameters is null or invalid.
+     * @throws UserNotAuthorizedException user not authorized to issue this request.
+     * @throws PropertyServerException there was a problem detected by the metadata store.
+     */
+    void registerWatchdogInterests(String                           userId,
+                                   String                           listenerId,
+                                   List<WatchdogInterestProperties> watchdogInterests) throws InvalidParameterException,
+                                                                                              UserNotAuthorizedException,
+                                                                                              PropertyServerException;
+
+
+    /**
+     * Remove the interests registered by a listener, typically because its governance engine is shutting down.  Once the last
+     * listener is removed, the Governance Engine OMAS goes back to publishing every watchdog event.
+     *
+     * @param userId identifier of calling user
+     * @param listenerId unique identifier of the listener used when the interests were registered
+     *
+     * @throws InvalidParameterException one of the parameters is null or invalid.
+     * @throws UserNotAuthorizedException user not authorized to issue this request.
+     * @throws PropertyServerException there was a problem detected by the metadata store.
+     */
+    void unregisterWatchdogInterests(String userId,
+                                     String listenerId) throws InvalidParameterException,
+                                                               UserNotAuthorizedException,
+                                                               PropertyServerException;
 }
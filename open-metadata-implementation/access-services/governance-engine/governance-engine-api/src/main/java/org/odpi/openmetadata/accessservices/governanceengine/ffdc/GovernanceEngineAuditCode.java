@@ -187,6 +187,13 @@ public enum GovernanceEngineAuditCode implements AuditLogMessageSet
                                    "This is not necessarily an error if the server is connected to a cohort where members are also connected to other cohorts, of there is strict security in place that is restricting what this server can see.",
                            "Review the exception to reassure yourself that this is expected behavior."),
 
+    WATCHDOG_FILTERING_DISABLED("OMAS-GOVERNANCE-ENGINE-0022",
+                                OMRSAuditLogRecordSeverity.STARTUP,
+                                "The Governance Engine Open Metadata Access Service (OMAS) will publish every watchdog event whatever interests are registered by the engine hosts",
+                                "The WatchdogEventFiltering option is set to false so the watchdog interests registered by the engine hosts are ignored.",
+                                "This is needed while engine hosts that do not register their watchdog interests share the out topic with those that do.  " +
+                                        "Remove the option once all of the engine hosts register their interests."),
+
     ;
 
 
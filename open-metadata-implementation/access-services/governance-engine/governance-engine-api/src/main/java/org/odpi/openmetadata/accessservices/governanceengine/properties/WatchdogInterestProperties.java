@@ -0,0 +1,181 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.accessservices.governanceengine.properties;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.frameworks.governanceaction.events.WatchdogEventType;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * WatchdogInterestProperties describes the watchdog events that a watchdog governance action service has registered to receive.
+ * It is sent to the Governance Engine OMAS so that only the metadata changes that at least one watchdog governance action service
+ * is interested in are published on the out topic.
+ *
+ * The values have the same meaning as the parameters of WatchdogGovernanceContext.registerListener().  That is an event is
+ * interesting if it is one of the interesting event types and either it is about the specific instance or its subject is one of
+ * the interesting metadata types (or a subtype of one of them).  A null list means "any".
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class WatchdogInterestProperties implements Serializable
+{
+    private static final long    serialVersionUID = 1L;
+
+    private List<WatchdogEventType> interestingEventTypes    = null;
+    private List<String>            interestingMetadataTypes = null;
+    private String                  specificInstance         = null;
+
+
+    /**
+     * Default constructor
+     */
+    public WatchdogInterestProperties()
+    {
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public WatchdogInterestProperties(WatchdogInterestProperties template)
+    {
+        if (template != null)
+        {
+            interestingEventTypes = template.getInterestingEventTypes();
+            interestingMetadataTypes = template.getInterestingMetadataTypes();
+            specificInstance = template.getSpecificInstance();
+        }
+    }
+
+
+    /**
+     * Return the types of events that the watchdog governance action service is interested in.
+     *
+     * @return list of event types (null means any)
+     */
+    public List<WatchdogEventType> getInterestingEventTypes()
+    {
+        return interestingEventTypes;
+    }
+
+
+    /**
+     * Set up the types of events that the watchdog governance action service is interested in.
+     *
+     * @param interestingEventTypes list of event types (null means any)
+     */
+    public void setInterestingEventTypes(List<WatchdogEventType> interestingEventTypes)
+    {
+        this.interestingEventTypes = interestingEventTypes;
+    }
+
+
+    /**
+     * Return the type names of the metadata elements, classifications or relationships that are the subject of the
+     * interesting events.
+     *
+     * @return list of type names (null means any)
+     */
+    public List<String> getInterestingMetadataTypes()
+    {
+        return interestingMetadataTypes;
+    }
+
+
+    /**
+     * Set up the type names of the metadata elements, classifications or relationships that are the subject of the
+     * interesting events.
+     *
+     * @param interestingMetadataTypes list of type names (null means any)
+     */
+    public void setInterestingMetadataTypes(List<String> interestingMetadataTypes)
+    {
+        this.interestingMetadataTypes = interestingMetadataTypes;
+    }
+
+
+    /**
+     * Return the unique identifier of a specific metadata element or relationship to watch for.
+     *
+     * @return string guid
+     */
+    public String getSpecificInstance()
+    {
+        return specificInstance;
+    }
+
+
+    /**
+     * Set up the unique identifier of a specific metadata element or relationship to watch for.
+     *
+     * @param specificInstance string guid
+     */
+    public void setSpecificInstance(String specificInstance)
+    {
+        this.specificInstance = specificInstance;
+    }
+
+
+    /**
+     * JSON-style toString.
+     *
+     * @return list of properties and their values.
+     */
+    @Override
+    public String toString()
+    {
+        return "WatchdogInterestProperties{" +
+                "interestingEventTypes=" + interestingEventTypes +
+                ", interestingMetadataTypes=" + interestingMetadataTypes +
+                ", specificInstance='" + specificInstance + '\'' +
+                '}';
+    }
+
+
+    /**
+     * Equals method that returns true if containing properties are the same.
+     *
+     * @param objectToCompare object to compare
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        WatchdogInterestProperties that = (WatchdogInterestProperties) objectToCompare;
+        return Objects.equals(getInterestingEventTypes(), that.getInterestingEventTypes()) &&
+                Objects.equals(getInterestingMetadataTypes(), that.getInterestingMetadataTypes()) &&
+                Objects.equals(getSpecificInstance(), that.getSpecificInstance());
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(getInterestingEventTypes(), getInterestingMetadataTypes(), getSpecificInstance());
+    }
+}
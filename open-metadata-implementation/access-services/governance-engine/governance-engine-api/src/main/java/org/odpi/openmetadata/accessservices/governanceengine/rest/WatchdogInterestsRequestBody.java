@@ -0,0 +1,122 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.accessservices.governanceengine.rest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.accessservices.governanceengine.properties.WatchdogInterestProperties;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * WatchdogInterestsRequestBody provides a structure for passing the interests of the watchdog governance action services
+ * running in a governance engine as a request body over a REST API.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class WatchdogInterestsRequestBody implements Serializable
+{
+    private static final long    serialVersionUID = 1L;
+
+    private List<WatchdogInterestProperties> watchdogInterests = null;
+
+
+    /**
+     * Default constructor
+     */
+    public WatchdogInterestsRequestBody()
+    {
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public WatchdogInterestsRequestBody(WatchdogInterestsRequestBody template)
+    {
+        if (template != null)
+        {
+            watchdogInterests = template.getWatchdogInterests();
+        }
+    }
+
+
+    /**
+     * Return the interests of each of the registered watchdog listeners.
+     *
+     * @return list of interests
+     */
+    public List<WatchdogInterestProperties> getWatchdogInterests()
+    {
+        return watchdogInterests;
+    }
+
+
+    /**
+     * Set up the interests of each of the registered watchdog listeners.
+     *
+     * @param watchdogInterests list of interests
+     */
+    public void setWatchdogInterests(List<WatchdogInterestProperties> watchdogInterests)
+    {
+        this.watchdogInterests = watchdogInterests;
+    }
+
+
+    /**
+     * JSON-style toString.
+     *
+     * @return list of properties and their values.
+     */
+    @Override
+    public String toString()
+    {
+        return "WatchdogInterestsRequestBody{" +
+                "watchdogInterests=" + watchdogInterests +
+                '}';
+    }
+
+
+    /**
+     * Equals method that returns true if containing properties are the same.
+     *
+     * @param objectToCompare object to compare
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        WatchdogInterestsRequestBody that = (WatchdogInterestsRequestBody) objectToCompare;
+        return Objects.equals(getWatchdogInterests(), that.getWatchdogInterests());
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(getWatchdogInterests());
+    }
+}
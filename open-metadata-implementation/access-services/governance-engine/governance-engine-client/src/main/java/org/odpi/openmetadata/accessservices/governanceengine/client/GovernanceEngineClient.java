@@ -6,6 +6,7 @@ import org.odpi.openmetadata.accessservices.governanceengine.api.GovernanceProce
 import org.odpi.openmetadata.accessservices.governanceengine.api.MetadataElementInterface;
 import org.odpi.openmetadata.accessservices.governanceengine.client.rest.GovernanceEngineRESTClient;
 import org.odpi.openmetadata.accessservices.governanceengine.metadataelements.GovernanceActionElement;
+import org.odpi.openmetadata.accessservices.governanceengine.properties.WatchdogInterestProperties;
 import org.odpi.openmetadata.accessservices.governanceengine.rest.*;
 import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
 import org.odpi.openmetadata.commonservices.ffdc.rest.*;
@@ -1502,4 +1503,78 @@ public class GovernanceEngineClient implements MetadataElementInterface, Governa
 
         return restResult.getElements();
     }
+
+
+    /**
+     * Register the interests of the watchdog governance action services running in a governance engine.  The Governance Engine OMAS
+     * only publishes the watchdog events that match the interests registered by at least one of its listeners.  Each call replaces
+     * the interests previously registered by the same listener and an empty list means the listener is not interested in any
+     * watchdog events.
+     *
+     * @param userId identifier of calling user
+     * @param listenerId unique identifier of the listener - typically the engine host server name and the governance engine name
+     * @param watchdogInterests interests of each of the watchdog listeners
+     *
+     * @throws InvalidParameterException one of the parameters is null or invalid.
+     * @throws UserNotAuthorizedException user not authorized to issue this request.
+     * @throws PropertyServerException there was a problem detected by the metadata store.
+     */
+    @Override
+    public void registerWatchdogInterests(String                           userId,
+                                          String                           listenerId,
+                                          List<WatchdogInterestProperties> watchdogInterests) throws InvalidParameterException,
+                                                                                                     UserNotAuthorizedException,
+                                                                                                     PropertyServerException
+    {
+        final String methodName = "registerWatchdogInterests";
+        final String listenerIdParameterName = "listenerId";
+        final String urlTemplate = "/servers/{0}/open-metadata/access-services/governance-engine/users/{1}/watchdog-interests/{2}";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateName(listenerId, listenerIdParameterName, methodName);
+
+        WatchdogInterestsRequestBody requestBody = new WatchdogInterestsRequestBody();
+
+        requestBody.setWatchdogInterests(watchdogInterests);
+
+        restClient.callVoidPostRESTCall(methodName,
+                                        serverPlatformURLRoot + urlTemplate,
+                                        requestBody,
+                                        serverName,
+                                        userId,
+                                        listenerId);
+    }
+
+
+    /**
+     * Remove the interests registered by a listener, typically because its governance engine is shutting down.  Once the last
+     * listener is removed, the Governance Engine OMAS goes back to publishing every watchdog event.
+     *
+     * @param userId identifier of calling user
+     * @param listenerId unique identifier of the listener used when the interests were registered
+     *
+     * @throws InvalidParameterException one of the parameters is null or invalid.
+     * @throws UserNotAuthorizedException user not authorized to issue this request.
+     * @throws PropertyServerException there was a problem detected by the metadata store.
+     */
+    @Override
+    public void unregisterWatchdogInterests(String userId,
+                                            String listenerId) throws InvalidParameterException,
+                                                                      UserNotAuthorizedException,
+                                                                      PropertyServerException
+    {
+        final String methodName = "unregisterWatchdogInterests";
+        final String listenerIdParameterName = "listenerId";
+        final String urlTemplate = "/servers/{0}/open-metadata/access-services/governance-engine/users/{1}/watchdog-interests/{2}/delete";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateName(listenerId, listenerIdParameterName, methodName);
+
+        restClient.callVoidPostRESTCall(methodName,
+                                        serverPlatformURLRoot + urlTemplate,
+                                        nullRequestBody,
+                                        serverName,
+                                        userId,
+                                        listenerId);
+    }
 }
@@ -21,6 +21,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicCo
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 
 import java.util.List;
+import java.util.Map;
 
 public class GovernanceEngineAdmin extends AccessServiceAdmin
 {
@@ -29,6 +30,8 @@ public class GovernanceEngineAdmin extends AccessServiceAdmin
     private String                            serverName     = null;
     private GovernanceEngineOutTopicPublisher eventPublisher = null;
 
+    private static final String watchdogEventFilteringPropertyName = "WatchdogEventFiltering";
+
     /**
      * Initialize the access service.
      *
@@ -74,6 +77,13 @@ public class GovernanceEngineAdmin extends AccessServiceAdmin
                                                                    accessServiceConfig.getAccessServiceName(),
                                                                    auditLog);
 
+            /*
+             * The watchdog events are only published if they match the interests registered by the engine hosts unless
+             * the filtering is turned off.
+             */
+            boolean watchdogEventFiltering = this.extractWatchdogEventFiltering(accessServiceConfig.getAccessServiceOptions(),
+                                                                                actionDescription);
+
             /*
              * The instance is used to support REST API calls to this server instance.  It is given the
              * OutTopic connection for the client so that the client can query it to connect to the right
@@ -86,7 +96,8 @@ public class GovernanceEngineAdmin extends AccessServiceAdmin
                                                          auditLog,
                                                          serverUserName,
                                                          repositoryConnector.getMaxPageSize(),
-                                                         accessServiceConfig.getAccessServiceOutTopic());
+                                                         accessServiceConfig.getAccessServiceOutTopic(),
+                                                         watchdogEventFiltering);
             this.serverName = instance.getServerName();
 
             /*
@@ -117,6 +128,7 @@ public class GovernanceEngineAdmin extends AccessServiceAdmin
                                                                                        serverUserName,
                                                                                        instance.getMetadataElementHandler(),
                                                                                        instance.getGovernanceActionHandler(),
+                                                                                       instance.getWatchdogInterestManager(),
                                                                                        eventPublisher,
                                                                                        repositoryConnector.getRepositoryHelper(),
                                                                                        outTopicAuditLog),
@@ -156,6 +168,33 @@ public class GovernanceEngineAdmin extends AccessServiceAdmin
     }
 
 
+    /**
+     * Extract the option that controls whether the watchdog events are filtered using the interests registered by the
+     * engine hosts.  Filtering is on unless the option is set to false.
+     *
+     * @param accessServiceOptions options passed to the access service.
+     * @param actionDescription calling action
+     * @return boolean flag
+     */
+    private boolean extractWatchdogEventFiltering(Map<String, Object> accessServiceOptions,
+                                                  String              actionDescription)
+    {
+        if (accessServiceOptions != null)
+        {
+            Object filteringObject = accessServiceOptions.get(watchdogEventFilteringPropertyName);
+
+            if ((filteringObject != null) && ("false".equalsIgnoreCase(filteringObject.toString())))
+            {
+                auditLog.logMessage(actionDescription, GovernanceEngineAuditCode.WATCHDOG_FILTERING_DISABLED.getMessageDefinition());
+
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+
     /**
      * Shutdown the access service.
      */
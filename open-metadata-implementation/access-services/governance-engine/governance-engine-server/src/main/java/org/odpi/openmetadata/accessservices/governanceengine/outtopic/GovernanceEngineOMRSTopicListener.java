@@ -42,6 +42,7 @@ public class GovernanceEngineOMRSTopicListener extends OMRSTopicListenerBase
     private OMRSRepositoryHelper                             repositoryHelper;
     private MetadataElementHandler<OpenMetadataElement>      metadataElementHandler;
     private GovernanceActionHandler<GovernanceActionElement> governanceActionHandler;
+    private WatchdogInterestManager                          watchdogInterestManager;
 
     private String                                           userId;
 
@@ -58,6 +59,7 @@ public class GovernanceEngineOMRSTopicListener extends OMRSTopicListenerBase
      * @param userId local server userId for issuing requests to the repository services
      * @param metadataElementHandler handler for working with GAF objects
      * @param governanceActionHandler handler for working with governance actions
+     * @param watchdogInterestManager interests of the watchdog governance action services
      * @param eventPublisher this is the out topic publisher.
      * @param repositoryHelper repository helper
      * @param auditLog logging destination
@@ -66,6 +68,7 @@ public class GovernanceEngineOMRSTopicListener extends OMRSTopicListenerBase
                                              String                                           userId,
                                              MetadataElementHandler<OpenMetadataElement>      metadataElementHandler,
                                              GovernanceActionHandler<GovernanceActionElement> governanceActionHandler,
+                                             WatchdogInterestManager                          watchdogInterestManager,
                                              GovernanceEngineOutTopicPublisher                eventPublisher,
                                              OMRSRepositoryHelper                             repositoryHelper,
                                              AuditLog                                         auditLog)
@@ -74,6 +77,7 @@ public class GovernanceEngineOMRSTopicListener extends OMRSTopicListenerBase
 
         this.metadataElementHandler = metadataElementHandler;
         this.governanceActionHandler = governanceActionHandler;
+        this.watchdogInterestManager = watchdogInterestManager;
 
         this.userId = userId;
 
@@ -695,7 +699,8 @@ public class GovernanceEngineOMRSTopicListener extends OMRSTopicListenerBase
                                       EntityDetail      previousEntity,
                                       String            methodName)
     {
-        if (entity != null)
+        if ((entity != null) && (entity.getType() != null) &&
+            (watchdogInterestManager.isInteresting(eventType, entity.getGUID(), entity.getType().getTypeDefName(), entity.getType())))
         {
             try
             {
@@ -752,7 +757,8 @@ public class GovernanceEngineOMRSTopicListener extends OMRSTopicListenerBase
                                       Classification    previousClassification,
                                       String            methodName)
     {
-        if (entity != null)
+        if ((entity != null) && (classification != null) &&
+            (watchdogInterestManager.isInteresting(eventType, entity.getGUID(), classification.getName(), classification.getType())))
         {
             try
             {
@@ -806,7 +812,8 @@ public class GovernanceEngineOMRSTopicListener extends OMRSTopicListenerBase
                                       Relationship      previousRelationship,
                                       String            methodName)
     {
-        if (relationship != null)
+        if ((relationship != null) && (relationship.getType() != null) &&
+            (watchdogInterestManager.isInteresting(eventType, relationship.getGUID(), relationship.getType().getTypeDefName(), relationship.getType())))
         {
             try
             {
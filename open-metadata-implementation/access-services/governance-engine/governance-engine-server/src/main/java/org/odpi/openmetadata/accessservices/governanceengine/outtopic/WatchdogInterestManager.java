@@ -0,0 +1,203 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.accessservices.governanceengine.outtopic;
+
+import org.odpi.openmetadata.accessservices.governanceengine.properties.WatchdogInterestProperties;
+import org.odpi.openmetadata.frameworks.governanceaction.events.WatchdogEventType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * WatchdogInterestManager holds the interests of the watchdog governance action services that are registered by each of the
+ * engine hosts listening on the Governance Engine OMAS's out topic.  It is used by the GovernanceEngineOMRSTopicListener to
+ * skip the metadata changes that none of the watchdog governance action services are interested in before the watchdog event is
+ * built and published.
+ *
+ * Until the first listener registers its interests, and again once the last listener has removed them, every metadata change is
+ * published.  This supports engine hosts that do not register their interests.  Each engine host registers under an identifier
+ * built from its server name and governance engine so a restarted engine host replaces the interests registered before it stopped.
+ * Filtering can be turned off altogether, for example while engine hosts that do not register their interests share the out topic
+ * with ones that do.
+ */
+public class WatchdogInterestManager
+{
+    /*
+     * The map is replaced rather than updated so that the events can be checked without locking.
+     */
+    private volatile Map<String, List<WatchdogInterestProperties>> listenerInterests = null;
+
+    private boolean filteringEnabled;
+
+
+    /**
+     * Default constructor - the watchdog events are filtered.
+     */
+    public WatchdogInterestManager()
+    {
+        this(true);
+    }
+
+
+    /**
+     * Constructor that controls whether the watchdog events are filtered.
+     *
+     * @param filteringEnabled false means every metadata change is published whatever the listeners register
+     */
+    public WatchdogInterestManager(boolean filteringEnabled)
+    {
+        this.filteringEnabled = filteringEnabled;
+    }
+
+
+    /**
+     * Save the interests of a listener.  They replace any interests previously registered by the same listener.
+     *
+     * @param listenerId unique identifier of the listener
+     * @param watchdogInterests interests of each of the watchdog listeners (null means no interests)
+     */
+    public synchronized void registerWatchdogInterests(String                           listenerId,
+                                                       List<WatchdogInterestProperties> watchdogInterests)
+    {
+        Map<String, List<WatchdogInterestProperties>> newListenerInterests = new HashMap<>();
+
+        if (listenerInterests != null)
+        {
+            newListenerInterests.putAll(listenerInterests);
+        }
+
+        List<WatchdogInterestProperties> interests = new ArrayList<>();
+
+        if (watchdogInterests != null)
+        {
+            for (WatchdogInterestProperties watchdogInterest : watchdogInterests)
+            {
+                if (watchdogInterest != null)
+                {
+                    interests.add(new WatchdogInterestProperties(watchdogInterest));
+                }
+            }
+        }
+
+        newListenerInterests.put(listenerId, interests);
+
+        listenerInterests = newListenerInterests;
+    }
+
+
+    /**
+     * Remove the interests of a listener.  Once no listeners are left, every metadata change is published again.
+     *
+     * @param listenerId unique identifier of the listener
+     */
+    public synchronized void unregisterWatchdogInterests(String listenerId)
+    {
+        if ((listenerInterests != null) && (listenerInterests.containsKey(listenerId)))
+        {
+            Map<String, List<WatchdogInterestProperties>> newListenerInterests = new HashMap<>(listenerInterests);
+
+            newListenerInterests.remove(listenerId);
+
+            if (newListenerInterests.isEmpty())
+            {
+                listenerInterests = null;
+            }
+            else
+            {
+                listenerInterests = newListenerInterests;
+            }
+        }
+    }
+
+
+    /**
+     * Determine if a metadata change is interesting to any of the registered watchdog listeners.
+     *
+     * @param eventType type of watchdog event that would be published
+     * @param instanceGUID unique identifier of the metadata element or relationship that changed
+     * @param typeName type name of the subject of the event - the element type, classification name or relationship type
+     * @param instanceType type of the subject of the event (used for its super types - may be null)
+     * @return boolean flag
+     */
+    boolean isInteresting(WatchdogEventType eventType,
+                          String            instanceGUID,
+                          String            typeName,
+                          InstanceType      instanceType)
+    {
+        Map<String, List<WatchdogInterestProperties>> currentListenerInterests = listenerInterests;
+
+        if ((! filteringEnabled) || (currentListenerInterests == null))
+        {
+            return true;
+        }
+
+        for (List<WatchdogInterestProperties> interests : currentListenerInterests.values())
+        {
+            for (WatchdogInterestProperties interest : interests)
+            {
+                if (this.interestMatches(interest, eventType, instanceGUID, typeName, instanceType))
+                {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Determine if a metadata change matches a single interest.  This uses the same rules as the engine host uses to pass events
+     * to the watchdog listeners.
+     *
+     * @param interest interest of a watchdog listener
+     * @param eventType type of watchdog event that would be published
+     * @param instanceGUID unique identifier of the metadata element or relationship that changed
+     * @param typeName type name of the subject of the event
+     * @param instanceType type of the subject of the event (may be null)
+     * @return boolean flag
+     */
+    private boolean interestMatches(WatchdogInterestProperties interest,
+                                    WatchdogEventType          eventType,
+                                    String                     instanceGUID,
+                                    String                     typeName,
+                                    InstanceType               instanceType)
+    {
+        List<WatchdogEventType> interestingEventTypes    = interest.getInterestingEventTypes();
+        List<String>            interestingMetadataTypes = interest.getInterestingMetadataTypes();
+
+        if ((interestingEventTypes != null) && (! interestingEventTypes.contains(eventType)))
+        {
+            return false;
+        }
+
+        if ((interest.getSpecificInstance() != null) && (interest.getSpecificInstance().equals(instanceGUID)))
+        {
+            return true;
+        }
+
+        if ((interestingMetadataTypes == null) || (interestingMetadataTypes.contains(typeName)))
+        {
+            return true;
+        }
+
+        if ((instanceType != null) && (instanceType.getTypeDefSuperTypes() != null))
+        {
+            for (TypeDefLink superType : instanceType.getTypeDefSuperTypes())
+            {
+                if ((superType != null) && (interestingMetadataTypes.contains(superType.getName())))
+                {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+}
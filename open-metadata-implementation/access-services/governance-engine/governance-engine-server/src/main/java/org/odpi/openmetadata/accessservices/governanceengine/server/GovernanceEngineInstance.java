@@ -15,6 +15,7 @@ import org.odpi.openmetadata.accessservices.governanceengine.metadataelements.Go
 import org.odpi.openmetadata.accessservices.governanceengine.metadataelements.GovernanceActionProcessElement;
 import org.odpi.openmetadata.accessservices.governanceengine.metadataelements.GovernanceActionTypeElement;
 import org.odpi.openmetadata.accessservices.governanceengine.metadataelements.MetadataElement;
+import org.odpi.openmetadata.accessservices.governanceengine.outtopic.WatchdogInterestManager;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceDescription;
 import org.odpi.openmetadata.commonservices.generichandlers.AssetHandler;
 import org.odpi.openmetadata.commonservices.generichandlers.GovernanceActionHandler;
@@ -42,6 +43,7 @@ public class GovernanceEngineInstance extends OMASServiceInstance
     private GovernanceActionHandler<GovernanceActionElement>         governanceActionHandler;
     private AssetHandler<GovernanceActionProcessElement>             governanceActionProcessHandler;
     private GovernanceActionTypeHandler<GovernanceActionTypeElement> governanceActionTypeHandler;
+    private WatchdogInterestManager                                  watchdogInterestManager;
 
     /**
      * Set up the local repository connector that will service the REST Calls.
@@ -55,6 +57,7 @@ public class GovernanceEngineInstance extends OMASServiceInstance
      * @param maxPageSize max number of results to return on single request.
      * @param outTopicEventBusConnection inner event bus connection to use to build topic connection to send to client if they which
      *                                   to listen on the out topic.
+     * @param watchdogEventFiltering should the watchdog events be filtered using the interests registered by the engine hosts
      *
      * @throws NewInstanceException a problem occurred during initialization
      */
@@ -65,7 +68,8 @@ public class GovernanceEngineInstance extends OMASServiceInstance
                                     AuditLog                auditLog,
                                     String                  localServerUserId,
                                     int                     maxPageSize,
-                                    Connection              outTopicEventBusConnection) throws NewInstanceException
+                                    Connection              outTopicEventBusConnection,
+                                    boolean                 watchdogEventFiltering) throws NewInstanceException
     {
         super(myDescription.getAccessServiceFullName(),
               repositoryConnector,
@@ -82,6 +86,8 @@ public class GovernanceEngineInstance extends OMASServiceInstance
 
         final String methodName = "new ServiceInstance";
 
+        this.watchdogInterestManager = new WatchdogInterestManager(watchdogEventFiltering);
+
         if (repositoryHandler != null)
         {
             this.governanceConfigurationHandler = new GovernanceConfigurationHandler(serviceName,
@@ -214,4 +220,15 @@ public class GovernanceEngineInstance extends OMASServiceInstance
     {
         return governanceActionHandler;
     }
+
+
+    /**
+     * Return the interests of the watchdog governance action services.
+     *
+     * @return manager object
+     */
+    public WatchdogInterestManager getWatchdogInterestManager()
+    {
+        return watchdogInterestManager;
+    }
 }
@@ -7,6 +7,7 @@ import org.odpi.openmetadata.accessservices.governanceengine.handlers.MetadataEl
 import org.odpi.openmetadata.accessservices.governanceengine.metadataelements.GovernanceActionElement;
 import org.odpi.openmetadata.accessservices.governanceengine.metadataelements.GovernanceActionProcessElement;
 import org.odpi.openmetadata.accessservices.governanceengine.metadataelements.GovernanceActionTypeElement;
+import org.odpi.openmetadata.accessservices.governanceengine.outtopic.WatchdogInterestManager;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceDescription;
 import org.odpi.openmetadata.commonservices.generichandlers.AssetHandler;
 import org.odpi.openmetadata.commonservices.generichandlers.GovernanceActionHandler;
@@ -174,4 +175,32 @@ class GovernanceEngineInstanceHandler extends OMASServiceInstanceHandler
 
         return null;
     }
+
+
+    /**
+     * Retrieve the manager for the interests of the watchdog governance action services.
+     *
+     * @param userId calling user
+     * @param serverName name of the server tied to the request
+     * @param serviceOperationName name of the REST API call (typically the top-level methodName)
+     * @return manager for this access service's instance for this server
+     * @throws InvalidParameterException the server name is not known
+     * @throws UserNotAuthorizedException the user is not authorized to issue the request.
+     * @throws PropertyServerException the service name is not known - indicating a logic error
+     */
+    WatchdogInterestManager getWatchdogInterestManager(String userId,
+                                                       String serverName,
+                                                       String serviceOperationName) throws InvalidParameterException,
+                                                                                           UserNotAuthorizedException,
+                                                                                           PropertyServerException
+    {
+        GovernanceEngineInstance instance = (GovernanceEngineInstance)super.getServerServiceInstance(userId, serverName, serviceOperationName);
+
+        if (instance != null)
+        {
+            return instance.getWatchdogInterestManager();
+        }
+
+        return null;
+    }
 }
@@ -5,6 +5,7 @@ package org.odpi.openmetadata.accessservices.governanceengine.server;
 import org.odpi.openmetadata.accessservices.governanceengine.ffdc.GovernanceEngineAuditCode;
 import org.odpi.openmetadata.accessservices.governanceengine.handlers.MetadataElementHandler;
 import org.odpi.openmetadata.accessservices.governanceengine.metadataelements.GovernanceActionElement;
+import org.odpi.openmetadata.accessservices.governanceengine.outtopic.WatchdogInterestManager;
 import org.odpi.openmetadata.accessservices.governanceengine.rest.*;
 import org.odpi.openmetadata.commonservices.ffdc.RESTCallLogger;
 import org.odpi.openmetadata.commonservices.ffdc.RESTCallToken;
@@ -1739,4 +1740,100 @@ public class GovernanceEngineRESTServices
         restCallLogger.logRESTCallReturn(token, response.toString());
         return response;
     }
+
+
+    /**
+     * Register the interests of the watchdog governance action services running in a governance engine.  Only the watchdog
+     * events that match the interests of at least one listener are published.
+     *
+     * @param serverName     name of server instance to route request to
+     * @param userId identifier of calling user
+     * @param listenerId unique identifier of the listener
+     * @param requestBody interests of each of the watchdog listeners
+     *
+     * @return void or
+     *
+     *  InvalidParameterException one of the parameters is null or invalid.
+     *  UserNotAuthorizedException user not authorized to issue this request.
+     *  PropertyServerException there was a problem detected by the metadata store.
+     */
+    public VoidResponse registerWatchdogInterests(String                       serverName,
+                                                  String                       userId,
+                                                  String                       listenerId,
+                                                  WatchdogInterestsRequestBody requestBody)
+    {
+        final String methodName = "registerWatchdogInterests";
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+
+        AuditLog auditLog = null;
+        VoidResponse response = new VoidResponse();
+
+        try
+        {
+            auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+
+            WatchdogInterestManager watchdogInterestManager = instanceHandler.getWatchdogInterestManager(userId, serverName, methodName);
+
+            if (requestBody != null)
+            {
+                watchdogInterestManager.registerWatchdogInterests(listenerId, requestBody.getWatchdogInterests());
+            }
+            else
+            {
+                watchdogInterestManager.registerWatchdogInterests(listenerId, null);
+            }
+        }
+        catch (Exception error)
+        {
+            restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
+        }
+
+        restCallLogger.logRESTCallReturn(token, response.toString());
+        return response;
+    }
+
+
+    /**
+     * Remove the interests registered by a listener.  Once the last listener is removed, every watchdog event is published.
+     *
+     * @param serverName     name of server instance to route request to
+     * @param userId identifier of calling user
+     * @param listenerId unique identifier of the listener
+     * @param requestBody null request body
+     *
+     * @return void or
+     *
+     *  InvalidParameterException one of the parameters is null or invalid.
+     *  UserNotAuthorizedException user not authorized to issue this request.
+     *  PropertyServerException there was a problem detected by the metadata store.
+     */
+    public VoidResponse unregisterWatchdogInterests(String          serverName,
+                                                    String          userId,
+                                                    String          listenerId,
+                                                    NullRequestBody requestBody)
+    {
+        final String methodName = "unregisterWatchdogInterests";
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+
+        AuditLog auditLog = null;
+        VoidResponse response = new VoidResponse();
+
+        try
+        {
+            auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+
+            WatchdogInterestManager watchdogInterestManager = instanceHandler.getWatchdogInterestManager(userId, serverName, methodName);
+
+            watchdogInterestManager.unregisterWatchdogInterests(listenerId);
+        }
+        catch (Exception error)
+        {
+            restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
+        }
+
+        restCallLogger.logRESTCallReturn(token, response.toString());
+        return response;
+    }
 }
@@ -0,0 +1,240 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.governanceengine.outtopic;
+
+import org.junit.Test;
+import org.odpi.openmetadata.accessservices.governanceengine.properties.WatchdogInterestProperties;
+import org.odpi.openmetadata.frameworks.governanceaction.events.WatchdogEventType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Verify that the WatchdogInterestManager only lets through the metadata changes that match the interests registered
+ * by the engine hosts.
+ */
+public class WatchdogInterestManagerTest
+{
+    private static final String assetGUID    = "asset-guid";
+    private static final String otherGUID    = "other-guid";
+    private static final String listenerId1  = "engineHost1.engine1";
+    private static final String listenerId2  = "engineHost2.engine1";
+
+
+    /**
+     * Build an interest.
+     *
+     * @param eventTypes interesting event types (null for any)
+     * @param metadataTypes interesting metadata types (null for any)
+     * @param specificInstance specific instance to watch (or null)
+     * @return interest properties
+     */
+    private WatchdogInterestProperties getInterest(List<WatchdogEventType> eventTypes,
+                                                   List<String>            metadataTypes,
+                                                   String                  specificInstance)
+    {
+        WatchdogInterestProperties interest = new WatchdogInterestProperties();
+
+        interest.setInterestingEventTypes(eventTypes);
+        interest.setInterestingMetadataTypes(metadataTypes);
+        interest.setSpecificInstance(specificInstance);
+
+        return interest;
+    }
+
+
+    /**
+     * Build the type of an instance with its super types.
+     *
+     * @param typeName name of the type
+     * @param superTypeNames names of the super types
+     * @return instance type
+     */
+    private InstanceType getInstanceType(String    typeName,
+                                         String... superTypeNames)
+    {
+        InstanceType      instanceType = new InstanceType();
+        List<TypeDefLink> superTypes   = new ArrayList<>();
+
+        for (String superTypeName : superTypeNames)
+        {
+            TypeDefLink superType = new TypeDefLink();
+
+            superType.setName(superTypeName);
+            superTypes.add(superType);
+        }
+
+        instanceType.setTypeDefName(typeName);
+        instanceType.setTypeDefSuperTypes(superTypes);
+
+        return instanceType;
+    }
+
+
+    /**
+     * Validate that every change is published until the first listener registers its interests.
+     */
+    @Test
+    public void testNoRegisteredListeners()
+    {
+        WatchdogInterestManager manager = new WatchdogInterestManager();
+
+        assertTrue(manager.isInteresting(WatchdogEventType.NEW_ELEMENT, assetGUID, "Asset", null));
+        assertTrue(manager.isInteresting(WatchdogEventType.DELETED_RELATIONSHIP, otherGUID, "AttachedTag", null));
+    }
+
+
+    /**
+     * Validate that an empty list of interests stops every event and a null interest allows every event.
+     */
+    @Test
+    public void testEmptyAndOpenInterests()
+    {
+        WatchdogInterestManager manager = new WatchdogInterestManager();
+
+        manager.registerWatchdogInterests(listenerId1, new ArrayList<>());
+
+        assertFalse(manager.isInteresting(WatchdogEventType.NEW_ELEMENT, assetGUID, "Asset", null));
+
+        manager.registerWatchdogInterests(listenerId1, null);
+
+        assertFalse(manager.isInteresting(WatchdogEventType.NEW_ELEMENT, assetGUID, "Asset", null));
+
+        manager.registerWatchdogInterests(listenerId1, Collections.singletonList(getInterest(null, null, null)));
+
+        assertTrue(manager.isInteresting(WatchdogEventType.NEW_ELEMENT, assetGUID, "Asset", null));
+        assertTrue(manager.isInteresting(WatchdogEventType.DELETED_CLASSIFICATION, otherGUID, "Confidentiality", null));
+    }
+
+
+    /**
+     * Validate that the event type and the metadata type must both match.
+     */
+    @Test
+    public void testEventTypeAndMetadataType()
+    {
+        WatchdogInterestManager manager = new WatchdogInterestManager();
+
+        manager.registerWatchdogInterests(listenerId1,
+                                          Collections.singletonList(getInterest(Collections.singletonList(WatchdogEventType.NEW_ELEMENT),
+                                                                                Collections.singletonList("Asset"),
+                                                                                null)));
+
+        assertTrue(manager.isInteresting(WatchdogEventType.NEW_ELEMENT, assetGUID, "Asset", null));
+        assertFalse(manager.isInteresting(WatchdogEventType.UPDATED_ELEMENT_PROPERTIES, assetGUID, "Asset", null));
+        assertFalse(manager.isInteresting(WatchdogEventType.NEW_ELEMENT, otherGUID, "Process", null));
+    }
+
+
+    /**
+     * Validate that an instance of a subtype matches an interest in one of its super types.
+     */
+    @Test
+    public void testSubtypes()
+    {
+        WatchdogInterestManager manager = new WatchdogInterestManager();
+
+        manager.registerWatchdogInterests(listenerId1, Collections.singletonList(getInterest(null, Collections.singletonList("Asset"), null)));
+
+        assertTrue(manager.isInteresting(WatchdogEventType.NEW_ELEMENT,
+                                         assetGUID,
+                                         "CSVFile",
+                                         getInstanceType("CSVFile", "DataFile", "DataStore", "Asset", "Referenceable")));
+        assertFalse(manager.isInteresting(WatchdogEventType.NEW_ELEMENT,
+                                          otherGUID,
+                                          "GlossaryTerm",
+                                          getInstanceType("GlossaryTerm", "Referenceable")));
+        assertFalse(manager.isInteresting(WatchdogEventType.NEW_ELEMENT, otherGUID, "CSVFile", null));
+    }
+
+
+    /**
+     * Validate that a specific instance matches whatever its type, but only for the interesting event types.
+     */
+    @Test
+    public void testSpecificInstance()
+    {
+        WatchdogInterestManager manager = new WatchdogInterestManager();
+
+        manager.registerWatchdogInterests(listenerId1,
+                                          Collections.singletonList(getInterest(Collections.singletonList(WatchdogEventType.DELETED_ELEMENT),
+                                                                                Collections.singletonList("Process"),
+                                                                                assetGUID)));
+
+        assertTrue(manager.isInteresting(WatchdogEventType.DELETED_ELEMENT, assetGUID, "Asset", null));
+        assertFalse(manager.isInteresting(WatchdogEventType.DELETED_ELEMENT, otherGUID, "Asset", null));
+        assertFalse(manager.isInteresting(WatchdogEventType.NEW_ELEMENT, assetGUID, "Asset", null));
+        assertTrue(manager.isInteresting(WatchdogEventType.DELETED_ELEMENT, otherGUID, "Process", null));
+    }
+
+
+    /**
+     * Validate that a change is published if any listener is interested, and that each registration replaces the
+     * interests previously registered by the same listener.
+     */
+    @Test
+    public void testMultipleListeners()
+    {
+        WatchdogInterestManager manager = new WatchdogInterestManager();
+
+        manager.registerWatchdogInterests(listenerId1, Collections.singletonList(getInterest(null, Collections.singletonList("Asset"), null)));
+        manager.registerWatchdogInterests(listenerId2, Collections.singletonList(getInterest(null, Collections.singletonList("Process"), null)));
+
+        assertTrue(manager.isInteresting(WatchdogEventType.NEW_ELEMENT, assetGUID, "Asset", null));
+        assertTrue(manager.isInteresting(WatchdogEventType.NEW_ELEMENT, otherGUID, "Process", null));
+
+        manager.registerWatchdogInterests(listenerId1, Collections.singletonList(getInterest(null, Collections.singletonList("GlossaryTerm"), null)));
+
+        assertFalse(manager.isInteresting(WatchdogEventType.NEW_ELEMENT, assetGUID, "Asset", null));
+        assertTrue(manager.isInteresting(WatchdogEventType.NEW_ELEMENT, otherGUID, "GlossaryTerm", null));
+        assertTrue(manager.isInteresting(WatchdogEventType.NEW_ELEMENT, otherGUID, "Process", null));
+    }
+
+
+    /**
+     * Validate that unregistering removes only that listener's interests and that every change is published again
+     * once the last listener has gone.
+     */
+    @Test
+    public void testUnregister()
+    {
+        WatchdogInterestManager manager = new WatchdogInterestManager();
+
+        manager.registerWatchdogInterests(listenerId1, Collections.singletonList(getInterest(null, Collections.singletonList("Asset"), null)));
+        manager.registerWatchdogInterests(listenerId2, Collections.singletonList(getInterest(null, Collections.singletonList("Process"), null)));
+
+        manager.unregisterWatchdogInterests(listenerId1);
+
+        assertFalse(manager.isInteresting(WatchdogEventType.NEW_ELEMENT, assetGUID, "Asset", null));
+        assertTrue(manager.isInteresting(WatchdogEventType.NEW_ELEMENT, otherGUID, "Process", null));
+
+        manager.unregisterWatchdogInterests("unknownListener");
+
+        assertFalse(manager.isInteresting(WatchdogEventType.NEW_ELEMENT, assetGUID, "Asset", null));
+
+        manager.unregisterWatchdogInterests(listenerId2);
+
+        assertTrue(manager.isInteresting(WatchdogEventType.NEW_ELEMENT, assetGUID, "Asset", null));
+    }
+
+
+    /**
+     * Validate that every change is published when filtering is turned off.
+     */
+    @Test
+    public void testFilteringDisabled()
+    {
+        WatchdogInterestManager manager = new WatchdogInterestManager(false);
+
+        manager.registerWatchdogInterests(listenerId1, new ArrayList<>());
+
+        assertTrue(manager.isInteresting(WatchdogEventType.NEW_ELEMENT, assetGUID, "Asset", null));
+        assertTrue(manager.isInteresting(WatchdogEventType.DELETED_RELATIONSHIP, otherGUID, "AttachedTag", null));
+    }
+}
@@ -847,4 +847,55 @@ public class GovernanceEngineOMASResource
     {
         return restAPI.getActiveClaimedGovernanceActions(serverName, userId, governanceEngineGUID, startFrom, pageSize);
     }
+
+
+    /**
+     * Register the interests of the watchdog governance action services running in a governance engine.  Only the watchdog
+     * events that match the interests of at least one listener are published.
+     *
+     * @param serverName     name of server instance to route request to
+     * @param userId identifier of calling user
+     * @param listenerId unique identifier of the listener
+     * @param requestBody interests of each of the watchdog listeners
+     *
+     * @return void or
+     *
+     *  InvalidParameterException one of the parameters is null or invalid.
+     *  UserNotAuthorizedException user not authorized to issue this request.
+     *  PropertyServerException there was a problem detected by the metadata store.
+     */
+    @PostMapping(path = "/watchdog-interests/{listenerId}")
+
+    public VoidResponse registerWatchdogInterests(@PathVariable String                       serverName,
+                                                  @PathVariable String                       userId,
+                                                  @PathVariable String                       listenerId,
+                                                  @RequestBody  WatchdogInterestsRequestBody requestBody)
+    {
+        return restAPI.registerWatchdogInterests(serverName, userId, listenerId, requestBody);
+    }
+
+
+    /**
+     * Remove the interests registered by a listener.  Once the last listener is removed, every watchdog event is published.
+     *
+     * @param serverName     name of server instance to route request to
+     * @param userId identifier of calling user
+     * @param listenerId unique identifier of the listener
+     * @param requestBody null request body
+     *
+     * @return void or
+     *
+     *  InvalidParameterException one of the parameters is null or invalid.
+     *  UserNotAuthorizedException user not authorized to issue this request.
+     *  PropertyServerException there was a problem detected by the metadata store.
+     */
+    @PostMapping(path = "/watchdog-interests/{listenerId}/delete")
+
+    public VoidResponse unregisterWatchdogInterests(@PathVariable                  String          serverName,
+                                                    @PathVariable                  String          userId,
+                                                    @PathVariable                  String          listenerId,
+                                                    @RequestBody(required = false) NullRequestBody requestBody)
+    {
+        return restAPI.unregisterWatchdogInterests(serverName, userId, listenerId, requestBody);
+    }
 }
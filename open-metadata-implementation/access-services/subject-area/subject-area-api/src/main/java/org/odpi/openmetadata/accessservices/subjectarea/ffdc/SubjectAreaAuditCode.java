@@ -58,8 +58,21 @@ public enum SubjectAreaAuditCode implements AuditLogMessageSet
                          "The Open Metadata Service has generated an unexpected {0} exception during method {1}.  The message was: {2}",
                          "The request returns a SubjectAreaCheckedException.",
                          "This is probably a logic error. Review the stack trace to identify where the error " +
-                                 "occurred and work to resolve the cause.")
-    
+                                 "occurred and work to resolve the cause."),
+
+    TEXT_INDEX_LOADED("OMAS-SUBJECT_AREA-0007",
+                      OMRSAuditLogRecordSeverity.INFO,
+                      "The Subject Area Open Metadata Access Service (OMAS) in server {0} has loaded its text index with {1} glossaries, categories and terms",
+                      "Find requests for glossaries, categories and terms are now answered from the text index.",
+                      "No action is required."),
+
+    TEXT_INDEX_LOAD_FAILED("OMAS-SUBJECT_AREA-0008",
+                           OMRSAuditLogRecordSeverity.EXCEPTION,
+                           "The Subject Area Open Metadata Access Service (OMAS) in server {0} was unable to load its text index; the {1} exception " +
+                                   "occurred with error message: {2}",
+                           "Find requests for glossaries, categories and terms continue to be passed to the repositories.",
+                           "Review the error message to determine the cause of the problem.  Once this is resolved, restart the server.")
+
 
     ;
 
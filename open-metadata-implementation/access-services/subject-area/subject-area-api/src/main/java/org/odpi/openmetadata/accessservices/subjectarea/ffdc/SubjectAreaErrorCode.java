@@ -273,6 +273,10 @@ public enum SubjectAreaErrorCode implements ExceptionMessageSet {
                                                  "Cannot continue with the {0} operation because there is the Unknown relationship name {1} was supplied in the filter",
                                                  "The system is unable to process the request as it cannot identify the requested Unknown Relationship type.",
                                                  "Amend the code to supply only known Relationship Types for the graph operation."),
+    CATEGORY_IMPORT_WITH_BAD_PARENT_CATEGORY(400, "OMAS-SUBJECT-AREA-400-078",
+                                             "Cannot continue with the import of Category {0}, as its parent Category {1} could not be found or created",
+                                             "The system is unable to import the Category as its parent Category needs to exist or be imported successfully in the same request.",
+                                             "Correct the parent Category of the Category, identifying it by the guid of an existing Category or the qualifiedName of a Category in the import."),
 
 
 
@@ -0,0 +1,87 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.category.Category;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.term.Term;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * GlossaryImport is a batch of categories and terms to create in a glossary in a single request.
+ * <p>
+ * The categories are created before the terms.  A parent category of a category, or a category of a term,
+ * can be identified either by its guid or, if it is created in the same batch, by its qualifiedName.
+ * The glossary of each category and term is the glossary that the batch is imported into.
+ */
+@JsonAutoDetect(getterVisibility = PUBLIC_ONLY, setterVisibility = PUBLIC_ONLY, fieldVisibility = NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GlossaryImport implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private List<Category> categories = null;
+    private List<Term> terms = null;
+
+    /**
+     * Default constructor
+     */
+    public GlossaryImport() {
+    }
+
+    /**
+     * The categories to create.
+     *
+     * @return list of categories
+     */
+    public List<Category> getCategories() {
+        return categories;
+    }
+
+    public void setCategories(List<Category> categories) {
+        this.categories = categories;
+    }
+
+    /**
+     * The terms to create.
+     *
+     * @return list of terms
+     */
+    public List<Term> getTerms() {
+        return terms;
+    }
+
+    public void setTerms(List<Term> terms) {
+        this.terms = terms;
+    }
+
+    @Override
+    public String toString() {
+        return "GlossaryImport{" +
+                "categories=" + categories +
+                ", terms=" + terms +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GlossaryImport that = (GlossaryImport) o;
+        return Objects.equals(categories, that.categories) &&
+                Objects.equals(terms, that.terms);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(categories, terms);
+    }
+}
@@ -0,0 +1,147 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.graph.NodeType;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * GlossaryImportResult is the outcome of importing one category or term from a {@link GlossaryImport}.
+ * When the item was created, the guid is set.  When it could not be created, the exception details are set
+ * and nothing is left in the repository for the item.
+ */
+@JsonAutoDetect(getterVisibility = PUBLIC_ONLY, setterVisibility = PUBLIC_ONLY, fieldVisibility = NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GlossaryImportResult implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private NodeType nodeType = null;
+    private int itemIndex = 0;
+    private String qualifiedName = null;
+    private String guid = null;
+    private String exceptionClassName = null;
+    private String exceptionMessage = null;
+
+    /**
+     * Default constructor
+     */
+    public GlossaryImportResult() {
+    }
+
+    /**
+     * The type of the item - Category or Term (or one of their specializations).
+     *
+     * @return node type
+     */
+    public NodeType getNodeType() {
+        return nodeType;
+    }
+
+    public void setNodeType(NodeType nodeType) {
+        this.nodeType = nodeType;
+    }
+
+    /**
+     * The position of the item in the categories or terms list of the request.
+     *
+     * @return index
+     */
+    public int getItemIndex() {
+        return itemIndex;
+    }
+
+    public void setItemIndex(int itemIndex) {
+        this.itemIndex = itemIndex;
+    }
+
+    /**
+     * The qualified name of the item.
+     *
+     * @return qualified name
+     */
+    public String getQualifiedName() {
+        return qualifiedName;
+    }
+
+    public void setQualifiedName(String qualifiedName) {
+        this.qualifiedName = qualifiedName;
+    }
+
+    /**
+     * The guid of the created item, or null if it was not created.
+     *
+     * @return guid
+     */
+    public String getGuid() {
+        return guid;
+    }
+
+    public void setGuid(String guid) {
+        this.guid = guid;
+    }
+
+    /**
+     * The class name of the exception that prevented the item from being created.
+     *
+     * @return exception class name
+     */
+    public String getExceptionClassName() {
+        return exceptionClassName;
+    }
+
+    public void setExceptionClassName(String exceptionClassName) {
+        this.exceptionClassName = exceptionClassName;
+    }
+
+    /**
+     * The message of the exception that prevented the item from being created.
+     *
+     * @return exception message
+     */
+    public String getExceptionMessage() {
+        return exceptionMessage;
+    }
+
+    public void setExceptionMessage(String exceptionMessage) {
+        this.exceptionMessage = exceptionMessage;
+    }
+
+    @Override
+    public String toString() {
+        return "GlossaryImportResult{" +
+                "nodeType=" + nodeType +
+                ", itemIndex=" + itemIndex +
+                ", qualifiedName='" + qualifiedName + '\'' +
+                ", guid='" + guid + '\'' +
+                ", exceptionClassName='" + exceptionClassName + '\'' +
+                ", exceptionMessage='" + exceptionMessage + '\'' +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GlossaryImportResult that = (GlossaryImportResult) o;
+        return itemIndex == that.itemIndex &&
+                nodeType == that.nodeType &&
+                Objects.equals(qualifiedName, that.qualifiedName) &&
+                Objects.equals(guid, that.guid) &&
+                Objects.equals(exceptionClassName, that.exceptionClassName) &&
+                Objects.equals(exceptionMessage, that.exceptionMessage);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(nodeType, itemIndex, qualifiedName, guid, exceptionClassName, exceptionMessage);
+    }
+}
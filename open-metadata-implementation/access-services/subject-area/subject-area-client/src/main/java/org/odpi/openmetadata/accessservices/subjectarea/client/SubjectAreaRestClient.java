@@ -99,6 +99,47 @@ public class SubjectAreaRestClient extends FFDCRESTClient {
         return response;
     }
 
+    /**
+     * Issue a POST REST call on an object identified by guid, where the request body is a different type to the results.
+     * This is typically a request that adds content to an existing object.
+     *
+     * @param <T> return type for results in {@link GenericResponse}
+     * @param <R> type of the request body
+     * @param userId      unique identifier for requesting user, under which the request is performed
+     * @param guid        unique identifier of the object
+     * @param methodName  name of the method being called.
+     * @param type class of the response for generic object. Descried using {@link ParameterizedTypeReference}
+     *             An example can be seen here {@link ResponseParameterization#getParameterizedType()}
+     * @param urnTemplate  template of the URN for the REST API call with place-holders for the parameters.
+     * @param requestBody request body for the request.
+     *
+     * @return GenericResponse with T result
+     * @throws PropertyServerException something went wrong with the REST call stack.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     * @throws InvalidParameterException one of the parameters is null or invalid
+     */
+    public <T, R> GenericResponse<T> postByIdRESTCall(String userId,
+                                                      String guid,
+                                                      String methodName,
+                                                      String urnTemplate,
+                                                      ParameterizedTypeReference<GenericResponse<T>> type,
+                                                      R requestBody) throws PropertyServerException,
+                                                                            UserNotAuthorizedException,
+                                                                            InvalidParameterException
+    {
+        if (log.isDebugEnabled()) {
+            log.debug("==> Method: " + methodName + ",userId=" + userId + ",guid=" + guid);
+        }
+        String expandedURL = String.format(serverPlatformURLRoot + urnTemplate, serverName, userId, guid);
+        GenericResponse<T> response = callPostRESTCall(methodName, type, expandedURL, requestBody);
+        exceptionHandler.detectAndThrowStandardExceptions(methodName, response);
+
+        if (log.isDebugEnabled()) {
+            log.debug("<== successful method : " + methodName + ",userId=" + userId);
+        }
+        return response;
+    }
+
     /**
      * Issue a PUT REST call that returns a response object.  This is typically an update.
      *
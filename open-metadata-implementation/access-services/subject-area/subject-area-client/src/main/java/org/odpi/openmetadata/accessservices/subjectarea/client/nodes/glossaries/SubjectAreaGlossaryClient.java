@@ -2,28 +2,40 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.accessservices.subjectarea.client.nodes.glossaries;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.accessservices.subjectarea.client.SubjectAreaRestClient;
 import org.odpi.openmetadata.accessservices.subjectarea.client.nodes.AbstractSubjectAreaNode;
 import org.odpi.openmetadata.accessservices.subjectarea.client.nodes.SubjectAreaNodeClient;
+import org.odpi.openmetadata.accessservices.subjectarea.ffdc.SubjectAreaErrorCode;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.category.Category;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.common.FindRequest;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.Glossary;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.GlossaryImport;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.GlossaryImportResult;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.nodesummary.CategorySummary;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.term.Term;
 import org.odpi.openmetadata.accessservices.subjectarea.responses.SubjectAreaOMASAPIResponse;
 import org.odpi.openmetadata.accessservices.subjectarea.utils.QueryBuilder;
 import org.odpi.openmetadata.commonservices.ffdc.rest.GenericResponse;
+import org.odpi.openmetadata.frameworks.auditlog.messagesets.ExceptionMessageDefinition;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.core.ResolvableType;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 @SubjectAreaNodeClient
 public class SubjectAreaGlossaryClient<G extends Glossary> extends AbstractSubjectAreaNode<G> {
+    // used to copy the categories and terms supplied to importContent so the caller's objects are not changed
+    private static final ObjectMapper objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
     public SubjectAreaGlossaryClient(SubjectAreaRestClient client)
     {
         super(client, SUBJECT_AREA_BASE_URL + "glossaries");
@@ -140,4 +152,172 @@ public class SubjectAreaGlossaryClient<G extends Glossary> extends AbstractSubje
         GenericResponse<Term> response = client.getByIdRESTCall(userId, guid, methodInfo, type, urlTemplate, findRequest, maximumPageSizeOnRestCall, params);
         return response.results();
     }
+
+    /**
+     * Import categories and terms into a glossary.
+     * <p>
+     * The categories and then the terms are sent to the server in requests of at most batchSize items, so a large glossary does not
+     * need to be held in a single request.  A category or term can refer to a category in the same import by its qualifiedName, rather
+     * than its guid.  The categories are sent parents first, and when a category has been created, the references to it from the
+     * categories and terms in later requests are replaced by its guid.
+     *
+     * @param userId       unique identifier for requesting user, under which the request is performed.
+     * @param glossaryGuid unique identifier of the glossary to import into.
+     * @param categories   categories to import, may be null.
+     * @param terms        terms to import, may be null.
+     * @param batchSize    maximum number of categories or terms to send in one request.
+     * @return a result for each category and then each term, in the order they were supplied.
+     * @throws PropertyServerException    something went wrong with the REST call stack.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     * @throws InvalidParameterException  one of the parameters is null or invalid.
+     */
+    public List<GlossaryImportResult> importContent(String userId, String glossaryGuid, List<Category> categories, List<Term> terms, int batchSize) throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
+        final String methodInfo = getMethodInfo("importContent");
+        final String urlTemplate = BASE_URL + "/%s/import";
+        ResolvableType resolvableType = ResolvableType.forClassWithGenerics(SubjectAreaOMASAPIResponse.class, GlossaryImportResult.class);
+        ParameterizedTypeReference<GenericResponse<GlossaryImportResult>> type = ParameterizedTypeReference.forType(resolvableType.getType());
+        if (batchSize <= 0) {
+            batchSize = Integer.MAX_VALUE;
+        }
+
+        Map<String, String> categoryGuids = new HashMap<>();
+        List<GlossaryImportResult> results = new ArrayList<>();
+        if (categories != null) {
+            GlossaryImportResult[] categoryResults = new GlossaryImportResult[categories.size()];
+            List<Integer> order = getParentsFirstOrder(categories);
+            for (int start = 0; start < order.size(); start += batchSize) {
+                List<Integer> batchIndexes = order.subList(start, Math.min(order.size(), start + batchSize));
+                List<Category> batch = new ArrayList<>();
+                for (int index : batchIndexes) {
+                    Category category = categories.get(index);
+                    if (category != null) {
+                        CategorySummary parentCategory = resolveCategorySummary(category.getParentCategory(), categoryGuids);
+                        if (parentCategory != category.getParentCategory()) {
+                            category = copyNode(category, Category.class);
+                            category.setParentCategory(parentCategory);
+                        }
+                    }
+                    batch.add(category);
+                }
+                GlossaryImport glossaryImport = new GlossaryImport();
+                glossaryImport.setCategories(batch);
+                GenericResponse<GlossaryImportResult> response = client.postByIdRESTCall(userId, glossaryGuid, methodInfo, urlTemplate, type, glossaryImport);
+                for (GlossaryImportResult result : response.results()) {
+                    int index = batchIndexes.get(result.getItemIndex());
+                    result.setItemIndex(index);
+                    categoryResults[index] = result;
+                    if (result.getGuid() != null && result.getQualifiedName() != null) {
+                        categoryGuids.put(result.getQualifiedName(), result.getGuid());
+                    }
+                }
+            }
+            for (GlossaryImportResult result : categoryResults) {
+                results.add(result);
+            }
+        }
+        if (terms != null) {
+            for (int start = 0; start < terms.size(); start += batchSize) {
+                List<Term> batch = new ArrayList<>(terms.subList(start, Math.min(terms.size(), start + batchSize)));
+                for (int index = 0; index < batch.size(); index++) {
+                    Term term = batch.get(index);
+                    if (term != null && term.getCategories() != null) {
+                        boolean resolved = false;
+                        List<CategorySummary> termCategories = new ArrayList<>();
+                        for (CategorySummary categorySummary : term.getCategories()) {
+                            CategorySummary termCategory = resolveCategorySummary(categorySummary, categoryGuids);
+                            resolved = resolved || termCategory != categorySummary;
+                            termCategories.add(termCategory);
+                        }
+                        if (resolved) {
+                            term = copyNode(term, Term.class);
+                            term.setCategories(termCategories);
+                            batch.set(index, term);
+                        }
+                    }
+                }
+                GlossaryImport glossaryImport = new GlossaryImport();
+                glossaryImport.setTerms(batch);
+                GenericResponse<GlossaryImportResult> response = client.postByIdRESTCall(userId, glossaryGuid, methodInfo, urlTemplate, type, glossaryImport);
+                for (GlossaryImportResult result : response.results()) {
+                    result.setItemIndex(start + result.getItemIndex());
+                    results.add(result);
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Copy a category or term so that the references resolved during an import are not set in the caller's object.
+     * The copy is made in the same way as the object is sent to the server.
+     *
+     * @param node     category or term to copy
+     * @param nodeType class of the node
+     * @param <N>      type of the node
+     * @return copy of the node
+     * @throws InvalidParameterException the node could not be copied
+     */
+    private <N> N copyNode(N node, Class<N> nodeType) throws InvalidParameterException {
+        try {
+            return objectMapper.convertValue(node, nodeType);
+        } catch (IllegalArgumentException e) {
+            ExceptionMessageDefinition messageDefinition = SubjectAreaErrorCode.INVALID_PARAMETER.getMessageDefinition(getMethodInfo("importContent"));
+            throw new InvalidParameterException(messageDefinition, getClass().getName(), getMethodInfo("importContent"), e, nodeType.getSimpleName());
+        }
+    }
+
+    /**
+     * Return the positions of the categories ordered so that a category whose parent is identified by the qualifiedName of another
+     * category in the list comes after that parent.  Otherwise the supplied order is kept.
+     *
+     * @param categories categories to order
+     * @return list of positions in the supplied list
+     */
+    private List<Integer> getParentsFirstOrder(List<Category> categories) {
+        Map<String, Category> categoriesByQualifiedName = new HashMap<>();
+        for (Category category : categories) {
+            if (category != null && category.getQualifiedName() != null) {
+                categoriesByQualifiedName.put(category.getQualifiedName(), category);
+            }
+        }
+        Map<Integer, Integer> depths = new HashMap<>();
+        List<Integer> order = new ArrayList<>();
+        for (int index = 0; index < categories.size(); index++) {
+            int depth = 0;
+            Category category = categories.get(index);
+            // the depth is bounded by the number of categories in case the parents form a cycle
+            while (category != null && depth < categories.size()) {
+                CategorySummary parent = category.getParentCategory();
+                if (parent == null || parent.getGuid() != null || parent.getQualifiedName() == null) {
+                    break;
+                }
+                category = categoriesByQualifiedName.get(parent.getQualifiedName());
+                if (category != null) {
+                    depth++;
+                }
+            }
+            depths.put(index, depth);
+            order.add(index);
+        }
+        order.sort(Comparator.comparing(depths::get));
+        return order;
+    }
+
+    /**
+     * Replace a reference to a category identified only by a qualifiedName with one that includes the guid of the
+     * category, if the category has already been imported.
+     *
+     * @param categorySummary reference to a category
+     * @param categoryGuids   map of qualifiedName to guid of the imported categories
+     * @return category reference to send to the server
+     */
+    private CategorySummary resolveCategorySummary(CategorySummary categorySummary, Map<String, String> categoryGuids) {
+        if (categorySummary != null && categorySummary.getGuid() == null && categoryGuids.containsKey(categorySummary.getQualifiedName())) {
+            CategorySummary resolvedSummary = new CategorySummary();
+            resolvedSummary.setGuid(categoryGuids.get(categorySummary.getQualifiedName()));
+            resolvedSummary.setQualifiedName(categorySummary.getQualifiedName());
+            return resolvedSummary;
+        }
+        return categorySummary;
+    }
 }
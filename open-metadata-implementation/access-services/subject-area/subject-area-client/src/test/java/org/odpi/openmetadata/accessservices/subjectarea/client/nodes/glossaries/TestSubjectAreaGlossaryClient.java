@@ -0,0 +1,206 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.subjectarea.client.nodes.glossaries;
+
+import org.junit.jupiter.api.Test;
+import org.odpi.openmetadata.accessservices.subjectarea.client.SubjectAreaRestClient;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.category.Category;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.Glossary;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.GlossaryImport;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.GlossaryImportResult;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.graph.NodeType;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.nodesummary.CategorySummary;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.term.Term;
+import org.odpi.openmetadata.accessservices.subjectarea.responses.SubjectAreaOMASAPIResponse;
+import org.odpi.openmetadata.commonservices.ffdc.rest.GenericResponse;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.springframework.core.ParameterizedTypeReference;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class TestSubjectAreaGlossaryClient {
+
+    /**
+     * Rest client that records the import requests and returns a result with the guid "guid-<qualifiedName>" for each item.
+     */
+    private static class RecordingRestClient extends SubjectAreaRestClient {
+        private final List<GlossaryImport> requests = new ArrayList<>();
+
+        RecordingRestClient() throws InvalidParameterException {
+            super("server", "https://localhost:9443");
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T, R> GenericResponse<T> postByIdRESTCall(String userId,
+                                                          String guid,
+                                                          String methodName,
+                                                          String urnTemplate,
+                                                          ParameterizedTypeReference<GenericResponse<T>> type,
+                                                          R requestBody) throws PropertyServerException,
+                                                                                UserNotAuthorizedException,
+                                                                                InvalidParameterException {
+            GlossaryImport glossaryImport = (GlossaryImport) requestBody;
+            requests.add(glossaryImport);
+
+            SubjectAreaOMASAPIResponse<GlossaryImportResult> response = new SubjectAreaOMASAPIResponse<>();
+            if (glossaryImport.getCategories() != null) {
+                for (int index = 0; index < glossaryImport.getCategories().size(); index++) {
+                    response.addResult(getResult(NodeType.Category, index, glossaryImport.getCategories().get(index).getQualifiedName()));
+                }
+            }
+            if (glossaryImport.getTerms() != null) {
+                for (int index = 0; index < glossaryImport.getTerms().size(); index++) {
+                    response.addResult(getResult(NodeType.Term, index, glossaryImport.getTerms().get(index).getQualifiedName()));
+                }
+            }
+            return (GenericResponse<T>) response;
+        }
+
+        private GlossaryImportResult getResult(NodeType nodeType, int itemIndex, String qualifiedName) {
+            GlossaryImportResult result = new GlossaryImportResult();
+            result.setNodeType(nodeType);
+            result.setItemIndex(itemIndex);
+            result.setQualifiedName(qualifiedName);
+            result.setGuid("guid-" + qualifiedName);
+            return result;
+        }
+    }
+
+    private static Category getCategory(String qualifiedName, String parentQualifiedName) {
+        Category category = new Category();
+        category.setName(qualifiedName);
+        category.setQualifiedName(qualifiedName);
+        if (parentQualifiedName != null) {
+            category.setParentCategory(getCategorySummary(parentQualifiedName));
+        }
+        return category;
+    }
+
+    private static CategorySummary getCategorySummary(String qualifiedName) {
+        CategorySummary categorySummary = new CategorySummary();
+        categorySummary.setQualifiedName(qualifiedName);
+        return categorySummary;
+    }
+
+    private static Term getTerm(String qualifiedName, String... categoryQualifiedNames) {
+        Term term = new Term();
+        term.setName(qualifiedName);
+        term.setQualifiedName(qualifiedName);
+        List<CategorySummary> categories = new ArrayList<>();
+        for (String categoryQualifiedName : categoryQualifiedNames) {
+            categories.add(getCategorySummary(categoryQualifiedName));
+        }
+        term.setCategories(categories);
+        return term;
+    }
+
+    @Test
+    public void testCallersObjectsAreNotChanged() throws Exception {
+        RecordingRestClient restClient = new RecordingRestClient();
+        SubjectAreaGlossaryClient<Glossary> client = new SubjectAreaGlossaryClient<>(restClient);
+        Category parent = getCategory("parent", null);
+        Category child = getCategory("child", "parent");
+        CategorySummary childParent = child.getParentCategory();
+        Term term = getTerm("term", "child", "unknown");
+        List<CategorySummary> termCategories = term.getCategories();
+
+        client.importContent("user", "glossaryGuid", Arrays.asList(child, parent), Collections.singletonList(term), 1);
+
+        assertSame(childParent, child.getParentCategory());
+        assertNull(child.getParentCategory().getGuid());
+        assertSame(termCategories, term.getCategories());
+        assertNull(term.getCategories().get(0).getGuid());
+
+        // the server is sent copies that refer to the categories already imported
+        Category sentChild = restClient.requests.get(1).getCategories().get(0);
+        assertEquals("child", sentChild.getQualifiedName());
+        assertEquals("guid-parent", sentChild.getParentCategory().getGuid());
+        Term sentTerm = restClient.requests.get(2).getTerms().get(0);
+        assertEquals("term", sentTerm.getQualifiedName());
+        assertEquals("guid-child", sentTerm.getCategories().get(0).getGuid());
+        assertNull(sentTerm.getCategories().get(1).getGuid());
+        assertEquals("unknown", sentTerm.getCategories().get(1).getQualifiedName());
+    }
+
+    @Test
+    public void testUnresolvedObjectsAreSentUnchanged() throws Exception {
+        RecordingRestClient restClient = new RecordingRestClient();
+        SubjectAreaGlossaryClient<Glossary> client = new SubjectAreaGlossaryClient<>(restClient);
+        Category category = getCategory("category", null);
+        Term term = getTerm("term", "unknown");
+
+        client.importContent("user", "glossaryGuid", Collections.singletonList(category), Collections.singletonList(term), 0);
+
+        assertSame(category, restClient.requests.get(0).getCategories().get(0));
+        assertSame(term, restClient.requests.get(1).getTerms().get(0));
+    }
+
+    @Test
+    public void testBatches() throws Exception {
+        RecordingRestClient restClient = new RecordingRestClient();
+        SubjectAreaGlossaryClient<Glossary> client = new SubjectAreaGlossaryClient<>(restClient);
+        List<Category> categories = new ArrayList<>();
+        List<Term> terms = new ArrayList<>();
+        for (int index = 0; index < 5; index++) {
+            categories.add(getCategory("category" + index, null));
+            terms.add(getTerm("term" + index));
+        }
+
+        List<GlossaryImportResult> results = client.importContent("user", "glossaryGuid", categories, terms, 2);
+
+        assertEquals(6, restClient.requests.size());
+        assertEquals(2, restClient.requests.get(0).getCategories().size());
+        assertEquals(1, restClient.requests.get(2).getCategories().size());
+        assertNull(restClient.requests.get(2).getTerms());
+        assertEquals(2, restClient.requests.get(3).getTerms().size());
+        assertEquals(1, restClient.requests.get(5).getTerms().size());
+
+        // the item indexes refer to the positions in the supplied lists
+        assertEquals(10, results.size());
+        for (int index = 0; index < 5; index++) {
+            assertEquals(index, results.get(index).getItemIndex());
+            assertEquals("guid-category" + index, results.get(index).getGuid());
+            assertEquals(index, results.get(5 + index).getItemIndex());
+            assertEquals("guid-term" + index, results.get(5 + index).getGuid());
+        }
+    }
+
+    @Test
+    public void testParentsAreImportedFirst() throws Exception {
+        RecordingRestClient restClient = new RecordingRestClient();
+        SubjectAreaGlossaryClient<Glossary> client = new SubjectAreaGlossaryClient<>(restClient);
+        List<Category> categories = Arrays.asList(getCategory("grandchild", "child"),
+                                                  getCategory("child", "parent"),
+                                                  getCategory("other", "unknown"),
+                                                  getCategory("parent", null));
+
+        List<GlossaryImportResult> results = client.importContent("user", "glossaryGuid", categories, null, 2);
+
+        assertEquals(2, restClient.requests.size());
+        List<Category> firstBatch = restClient.requests.get(0).getCategories();
+        assertEquals("other", firstBatch.get(0).getQualifiedName());
+        assertEquals("parent", firstBatch.get(1).getQualifiedName());
+        List<Category> secondBatch = restClient.requests.get(1).getCategories();
+        assertEquals("child", secondBatch.get(0).getQualifiedName());
+        assertEquals("guid-parent", secondBatch.get(0).getParentCategory().getGuid());
+        assertEquals("grandchild", secondBatch.get(1).getQualifiedName());
+        // the parent is in the same batch so it can not be resolved before the batch is sent
+        assertNull(secondBatch.get(1).getParentCategory().getGuid());
+
+        assertEquals(4, results.size());
+        for (int index = 0; index < 4; index++) {
+            assertEquals(index, results.get(index).getItemIndex());
+            assertEquals("guid-" + categories.get(index).getQualifiedName(), results.get(index).getGuid());
+        }
+    }
+}
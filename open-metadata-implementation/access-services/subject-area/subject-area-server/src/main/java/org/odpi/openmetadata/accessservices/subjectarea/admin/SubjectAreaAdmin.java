@@ -14,12 +14,16 @@ import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 
+import java.util.Map;
+
 
 /**
  * SubjectAreaAdmin is the Subject Area Open Metadata Access Service (OMAS) implementation class that controls its lifecycle.
  * It is initialised here receiving the OMAS configuration. It is shutdown here.
  */
 public class SubjectAreaAdmin extends AccessServiceAdmin {
+    private static final String textIndexEnabledPropertyName = "TextIndexEnabled";
+
     private AuditLog auditLog = null;
     private SubjectAreaServicesInstance instance = null;
     private String serverName = null;
@@ -56,13 +60,15 @@ public class SubjectAreaAdmin extends AccessServiceAdmin {
             this.instance = new SubjectAreaServicesInstance(repositoryConnector,
                                                             auditLog,
                                                             serverUserName,
-                                                            repositoryConnector.getMaxPageSize());
+                                                            repositoryConnector.getMaxPageSize(),
+                                                            isTextIndexEnabled(accessServiceConfig.getAccessServiceOptions()));
             this.serverName = instance.getServerName();
 
             /*
-             * Only set up the listening and event publishing if requested in the config.
+             * Only set up the listening and event publishing if requested in the config.  The text index
+             * also needs the OMRS events to keep it up to date.
              */
-            if (accessServiceConfig.getAccessServiceOutTopic() != null) {
+            if ((accessServiceConfig.getAccessServiceOutTopic() != null) || (instance.getTextIndex() != null)) {
                 SubjectAreaOMRSTopicListener omrsTopicListener;
 
                 omrsTopicListener = new SubjectAreaOMRSTopicListener(accessServiceConfig.getAccessServiceOutTopic(),
@@ -70,6 +76,7 @@ public class SubjectAreaAdmin extends AccessServiceAdmin {
                                                                      repositoryConnector.getRepositoryValidator(),
                                                                      accessServiceConfig.getAccessServiceName(),
                                                                      auditLog);
+                omrsTopicListener.setTextIndex(instance.getTextIndex());
                 super.registerWithEnterpriseTopic(accessServiceConfig.getAccessServiceName(),
                                                   serverName,
                                                   omrsTopicConnector,
@@ -95,6 +102,25 @@ public class SubjectAreaAdmin extends AccessServiceAdmin {
     }
 
 
+    /**
+     * Determine whether the text index for glossaries, categories and terms is requested in the access service options.
+     *
+     * @param accessServiceOptions options from the access service configuration
+     * @return boolean flag (default false)
+     */
+    private boolean isTextIndexEnabled(Map<String, Object> accessServiceOptions) {
+        if (accessServiceOptions != null) {
+            Object textIndexEnabled = accessServiceOptions.get(textIndexEnabledPropertyName);
+
+            if (textIndexEnabled != null) {
+                return Boolean.parseBoolean(textIndexEnabled.toString());
+            }
+        }
+
+        return false;
+    }
+
+
     /**
      * Shutdown the access service.
      */
@@ -9,13 +9,26 @@ import org.odpi.openmetadata.accessservices.subjectarea.ffdc.exceptions.SubjectA
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.category.Category;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.common.FindRequest;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.Glossary;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.GlossaryImport;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.GlossaryImportResult;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.graph.Node;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.graph.Relationship;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.graph.NodeType;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.nodesummary.CategorySummary;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.nodesummary.GlossarySummary;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.term.Term;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.relationships.Categorization;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.relationships.CategoryAnchor;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.relationships.CategoryHierarchyLink;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.relationships.TermAnchor;
 import org.odpi.openmetadata.accessservices.subjectarea.responses.SubjectAreaOMASAPIResponse;
 import org.odpi.openmetadata.accessservices.subjectarea.server.mappers.entities.CategoryMapper;
 import org.odpi.openmetadata.accessservices.subjectarea.server.mappers.entities.GlossaryMapper;
 import org.odpi.openmetadata.accessservices.subjectarea.server.mappers.entities.TermMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.server.mappers.relationships.CategoryAnchorMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.server.mappers.relationships.CategoryHierarchyLinkMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.server.mappers.relationships.TermAnchorMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.server.mappers.relationships.TermCategorizationMapper;
 import org.odpi.openmetadata.accessservices.subjectarea.utilities.OMRSAPIHelper;
 import org.odpi.openmetadata.accessservices.subjectarea.validators.InputValidator;
 import org.odpi.openmetadata.frameworks.auditlog.messagesets.ExceptionMessageDefinition;
@@ -541,4 +554,334 @@ public class SubjectAreaGlossaryHandler extends SubjectAreaHandler {
         return response;
     }
 
-}
\ No newline at end of file
+
+    /**
+     * Import categories and terms into a glossary in one request.
+     * <p>
+     * The glossary is validated once for the whole import rather than once per category and term.  The categories are created
+     * first, parents before children, so that a category or term can refer to a category in the same import by its qualifiedName.
+     * The relationships are added as each category and term is created, without reading the node back after each one.
+     * <p>
+     * Each category and term is imported independently. If a category or term cannot be imported, the error is recorded in its
+     * result and anything already created for it is removed; the rest of the import continues.
+     *
+     * @param userId         unique identifier for requesting user, under which the request is performed
+     * @param guid           guid of the glossary to import into
+     * @param glossaryImport categories and terms to import
+     * @return response, when successful contains a result for each category and then each term in the import.
+     * when not successful the following Exception responses can occur
+     * <ul>
+     * <li> UserNotAuthorizedException           the requesting user is not authorized to issue this request.</li>
+     * <li> InvalidParameterException            one of the parameters is null or invalid.</li>
+     * <li> PropertyServerException              Property server exception. </li>
+     * </ul>
+     */
+    public SubjectAreaOMASAPIResponse<GlossaryImportResult> importGlossaryContent(String userId, String guid, GlossaryImport glossaryImport) {
+        final String methodName = "importGlossaryContent";
+        SubjectAreaOMASAPIResponse<GlossaryImportResult> response = new SubjectAreaOMASAPIResponse<>();
+        try {
+            invalidParameterHandler.validateObject(glossaryImport, "glossaryImport", methodName);
+            GlossarySummary glossarySummary = new GlossarySummary();
+            glossarySummary.setGuid(guid);
+            String glossaryGuid = validateGlossarySummaryDuringCreation(userId, methodName, glossarySummary);
+
+            // qualifiedName to guid of the categories created by this import
+            Map<String, String> importedCategoryGuids = new HashMap<>();
+            List<GlossaryImportResult> results = new ArrayList<>();
+            if (glossaryImport.getCategories() != null) {
+                results.addAll(importCategories(userId, glossaryGuid, glossaryImport.getCategories(), importedCategoryGuids));
+            }
+            if (glossaryImport.getTerms() != null) {
+                results.addAll(importTerms(userId, glossaryGuid, glossaryImport.getTerms(), importedCategoryGuids));
+            }
+            response.addAllResults(results);
+        } catch (SubjectAreaCheckedException | PropertyServerException | UserNotAuthorizedException | InvalidParameterException e) {
+            response.setExceptionInfo(e, className);
+        }
+        return response;
+    }
+
+    /**
+     * Import categories into a glossary. A category whose parent is identified by the qualifiedName of another category in the import
+     * is created after its parent; if the parent is not created then neither is the child.
+     *
+     * @param userId                unique identifier for requesting user, under which the request is performed
+     * @param glossaryGuid          guid of the glossary to import into
+     * @param categories            categories to import
+     * @param importedCategoryGuids map of qualifiedName to guid that is filled with the created categories
+     * @return a result for each category, in the order that the categories were supplied
+     */
+    private List<GlossaryImportResult> importCategories(String userId, String glossaryGuid, List<Category> categories, Map<String, String> importedCategoryGuids) {
+        final String methodName = "importGlossaryContent";
+        GlossaryImportResult[] results = new GlossaryImportResult[categories.size()];
+        Set<String> batchQualifiedNames = new HashSet<>();
+        for (Category category : categories) {
+            if (category != null && category.getQualifiedName() != null) {
+                batchQualifiedNames.add(category.getQualifiedName());
+            }
+        }
+
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < categories.size(); i++) {
+            pending.add(i);
+        }
+        boolean progress = true;
+        while (!pending.isEmpty() && progress) {
+            progress = false;
+            Iterator<Integer> iterator = pending.iterator();
+            while (iterator.hasNext()) {
+                int index = iterator.next();
+                Category category = categories.get(index);
+                String parentQualifiedName = getParentQualifiedName(category);
+                if (parentQualifiedName != null && batchQualifiedNames.contains(parentQualifiedName) && !importedCategoryGuids.containsKey(parentQualifiedName)) {
+                    // wait for the parent to be created in a later pass
+                    continue;
+                }
+                results[index] = importCategory(userId, methodName, glossaryGuid, index, category, importedCategoryGuids);
+                if (results[index].getGuid() == null && category != null && category.getQualifiedName() != null) {
+                    // children of this category can no longer be created
+                    batchQualifiedNames.remove(category.getQualifiedName());
+                }
+                iterator.remove();
+                progress = true;
+            }
+        }
+        // anything left has a parent that is part of a cycle in the import
+        for (int index : pending) {
+            Category category = categories.get(index);
+            ExceptionMessageDefinition messageDefinition = SubjectAreaErrorCode.CATEGORY_IMPORT_WITH_BAD_PARENT_CATEGORY.getMessageDefinition(category.getQualifiedName(), getParentQualifiedName(category));
+            results[index] = createImportResult(NodeType.Category, index, category);
+            setImportException(results[index], new InvalidParameterException(messageDefinition, className, methodName, "parentCategory", null));
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Create a single imported category and its anchor and parent relationships.
+     *
+     * @param userId                unique identifier for requesting user, under which the request is performed
+     * @param methodName            rest API
+     * @param glossaryGuid          guid of the glossary to import into
+     * @param index                 position of the category in the import
+     * @param category              category to import
+     * @param importedCategoryGuids map of qualifiedName to guid of the categories created by this import
+     * @return result of importing the category
+     */
+    private GlossaryImportResult importCategory(String userId, String methodName, String glossaryGuid, int index, Category category, Map<String, String> importedCategoryGuids) {
+        GlossaryImportResult result = createImportResult(NodeType.Category, index, category);
+        String createdCategoryGuid = null;
+        try {
+            invalidParameterHandler.validateObject(category, "categories", methodName);
+            InputValidator.validateNodeType(className, methodName, category.getNodeType(), NodeType.Category, NodeType.SubjectAreaDefinition);
+            if (category.getName() == null || category.getName().equals("")) {
+                ExceptionMessageDefinition messageDefinition = SubjectAreaErrorCode.GLOSSARY_CATEGORY_CREATE_WITHOUT_NAME.getMessageDefinition();
+                throw new InvalidParameterException(messageDefinition, className, methodName, "Name", null);
+            }
+            String parentCategoryGuid = null;
+            CategorySummary parentCategory = category.getParentCategory();
+            if (parentCategory != null) {
+                parentCategoryGuid = parentCategory.getGuid();
+                if (parentCategoryGuid == null && parentCategory.getQualifiedName() != null) {
+                    parentCategoryGuid = importedCategoryGuids.get(parentCategory.getQualifiedName());
+                    if (parentCategoryGuid == null) {
+                        ExceptionMessageDefinition messageDefinition = SubjectAreaErrorCode.CATEGORY_IMPORT_WITH_BAD_PARENT_CATEGORY.getMessageDefinition(category.getQualifiedName(), parentCategory.getQualifiedName());
+                        throw new InvalidParameterException(messageDefinition, className, methodName, "parentCategory", null);
+                    }
+                }
+            }
+            setUniqueQualifiedNameIfBlank(category);
+            result.setQualifiedName(category.getQualifiedName());
+
+            EntityDetail categoryEntityDetail = mappersFactory.get(CategoryMapper.class).map(category);
+            InstanceProperties instanceProperties = getCreateProperties(categoryEntityDetail);
+            createdCategoryGuid = oMRSAPIHelper.callOMRSAddEntity(methodName, userId, categoryEntityDetail);
+
+            CategoryAnchor categoryAnchor = new CategoryAnchor();
+            categoryAnchor.getEnd1().setNodeGuid(glossaryGuid);
+            categoryAnchor.getEnd2().setNodeGuid(createdCategoryGuid);
+            setEffectivityDates(categoryAnchor, instanceProperties);
+            oMRSAPIHelper.callOMRSAddRelationship(methodName, userId, mappersFactory.get(CategoryAnchorMapper.class).map(categoryAnchor));
+
+            if (parentCategoryGuid != null) {
+                CategoryHierarchyLink categoryHierarchyLink = new CategoryHierarchyLink();
+                categoryHierarchyLink.getEnd1().setNodeGuid(parentCategoryGuid);
+                categoryHierarchyLink.getEnd2().setNodeGuid(createdCategoryGuid);
+                setEffectivityDates(categoryHierarchyLink, instanceProperties);
+                oMRSAPIHelper.callOMRSAddRelationship(methodName, userId, mappersFactory.get(CategoryHierarchyLinkMapper.class).map(categoryHierarchyLink));
+            }
+            result.setGuid(createdCategoryGuid);
+            importedCategoryGuids.put(category.getQualifiedName(), createdCategoryGuid);
+        } catch (SubjectAreaCheckedException | PropertyServerException | UserNotAuthorizedException | InvalidParameterException e) {
+            removeImportedEntity(userId, methodName, CATEGORY_TYPE_NAME, createdCategoryGuid);
+            setImportException(result, e);
+        }
+        return result;
+    }
+
+    /**
+     * Import terms into a glossary. Each supplied category of a term is identified either by its guid or, if it was created by
+     * this import, by its qualifiedName.  A category identified by guid is only validated once for the whole import.
+     *
+     * @param userId                unique identifier for requesting user, under which the request is performed
+     * @param glossaryGuid          guid of the glossary to import into
+     * @param terms                 terms to import
+     * @param importedCategoryGuids map of qualifiedName to guid of the categories created by this import
+     * @return a result for each term, in the order that the terms were supplied
+     */
+    private List<GlossaryImportResult> importTerms(String userId, String glossaryGuid, List<Term> terms, Map<String, String> importedCategoryGuids) {
+        final String methodName = "importGlossaryContent";
+        List<GlossaryImportResult> results = new ArrayList<>();
+        Set<String> knownCategoryGuids = new HashSet<>(importedCategoryGuids.values());
+        TermAnchorMapper termAnchorMapper = mappersFactory.get(TermAnchorMapper.class);
+        TermCategorizationMapper termCategorizationMapper = mappersFactory.get(TermCategorizationMapper.class);
+
+        for (int index = 0; index < terms.size(); index++) {
+            Term term = terms.get(index);
+            GlossaryImportResult result = createImportResult(NodeType.Term, index, term);
+            String createdTermGuid = null;
+            try {
+                invalidParameterHandler.validateObject(term, "terms", methodName);
+                InputValidator.validateNodeType(className, methodName, term.getNodeType(), NodeType.Term);
+                if (term.getName() == null || term.getName().equals("")) {
+                    ExceptionMessageDefinition messageDefinition = SubjectAreaErrorCode.GLOSSARY_TERM_CREATE_WITHOUT_NAME.getMessageDefinition();
+                    throw new InvalidParameterException(messageDefinition, className, methodName, "Name", null);
+                }
+                List<String> categoryGuids = resolveTermCategories(userId, methodName, term.getCategories(), importedCategoryGuids, knownCategoryGuids);
+                setUniqueQualifiedNameIfBlank(term);
+                result.setQualifiedName(term.getQualifiedName());
+
+                EntityDetail termEntityDetail = mappersFactory.get(TermMapper.class).map(term);
+                InstanceProperties instanceProperties = getCreateProperties(termEntityDetail);
+                createdTermGuid = oMRSAPIHelper.callOMRSAddEntity(methodName, userId, termEntityDetail);
+
+                TermAnchor termAnchor = new TermAnchor();
+                termAnchor.getEnd1().setNodeGuid(glossaryGuid);
+                termAnchor.getEnd2().setNodeGuid(createdTermGuid);
+                setEffectivityDates(termAnchor, instanceProperties);
+                oMRSAPIHelper.callOMRSAddRelationship(methodName, userId, termAnchorMapper.map(termAnchor));
+
+                for (String categoryGuid : categoryGuids) {
+                    Categorization categorization = new Categorization();
+                    categorization.getEnd1().setNodeGuid(categoryGuid);
+                    categorization.getEnd2().setNodeGuid(createdTermGuid);
+                    setEffectivityDates(categorization, instanceProperties);
+                    oMRSAPIHelper.callOMRSAddRelationship(methodName, userId, termCategorizationMapper.map(categorization));
+                }
+                result.setGuid(createdTermGuid);
+            } catch (SubjectAreaCheckedException | PropertyServerException | UserNotAuthorizedException | InvalidParameterException e) {
+                removeImportedEntity(userId, methodName, TERM_TYPE_NAME, createdTermGuid);
+                setImportException(result, e);
+            }
+            results.add(result);
+        }
+        return results;
+    }
+
+    /**
+     * Return the guids of the categories of an imported term.
+     *
+     * @param userId                unique identifier for requesting user, under which the request is performed
+     * @param methodName            rest API
+     * @param suppliedCategories    categories supplied on the term
+     * @param importedCategoryGuids map of qualifiedName to guid of the categories created by this import
+     * @param knownCategoryGuids    guids of the categories that are known to exist; added to as categories are validated
+     * @return list of category guids
+     * @throws PropertyServerException something went wrong with the REST call stack.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     * @throws InvalidParameterException a category could not be found
+     * @throws SubjectAreaCheckedException standard exception Subject Area OMAS services
+     */
+    private List<String> resolveTermCategories(String userId,
+                                               String methodName,
+                                               List<CategorySummary> suppliedCategories,
+                                               Map<String, String> importedCategoryGuids,
+                                               Set<String> knownCategoryGuids) throws UserNotAuthorizedException,
+                                                                                      PropertyServerException,
+                                                                                      InvalidParameterException,
+                                                                                      SubjectAreaCheckedException
+    {
+        List<String> categoryGuids = new ArrayList<>();
+        if (suppliedCategories != null) {
+            for (CategorySummary categorySummary : suppliedCategories) {
+                String categoryGuid = categorySummary.getGuid();
+                if (categoryGuid == null && categorySummary.getQualifiedName() != null) {
+                    categoryGuid = importedCategoryGuids.get(categorySummary.getQualifiedName());
+                } else if (categoryGuid != null && !knownCategoryGuids.contains(categoryGuid)
+                        && oMRSAPIHelper.callOMRSGetEntityByGuid(userId, categoryGuid, CATEGORY_TYPE_NAME, methodName).isPresent()) {
+                    knownCategoryGuids.add(categoryGuid);
+                }
+                if (categoryGuid == null || !knownCategoryGuids.contains(categoryGuid)) {
+                    ExceptionMessageDefinition messageDefinition = SubjectAreaErrorCode.TERM_CREATE_WITH_BAD_CATEGORIES.getMessageDefinition();
+                    throw new InvalidParameterException(messageDefinition, className, methodName, "categories", null);
+                }
+                categoryGuids.add(categoryGuid);
+            }
+        }
+        return categoryGuids;
+    }
+
+    private String getParentQualifiedName(Category category) {
+        if (category != null && category.getParentCategory() != null && category.getParentCategory().getGuid() == null) {
+            return category.getParentCategory().getQualifiedName();
+        }
+        return null;
+    }
+
+    private InstanceProperties getCreateProperties(EntityDetail entityDetail) {
+        InstanceProperties instanceProperties = entityDetail.getProperties();
+        if (instanceProperties == null) {
+            instanceProperties = new InstanceProperties();
+        }
+        if (instanceProperties.getEffectiveFromTime() == null) {
+            instanceProperties.setEffectiveFromTime(new Date());
+            entityDetail.setProperties(instanceProperties);
+        }
+        return instanceProperties;
+    }
+
+    private void setEffectivityDates(Relationship relationship, InstanceProperties instanceProperties) {
+        // the relationship is effective from the same time as the created node.
+        relationship.setEffectiveFromTime(instanceProperties.getEffectiveFromTime().getTime());
+        if (instanceProperties.getEffectiveToTime() != null) {
+            relationship.setEffectiveToTime(instanceProperties.getEffectiveToTime().getTime());
+        }
+    }
+
+    private GlossaryImportResult createImportResult(NodeType defaultNodeType, int index, Node node) {
+        GlossaryImportResult result = new GlossaryImportResult();
+        result.setItemIndex(index);
+        result.setNodeType(defaultNodeType);
+        if (node != null) {
+            if (node.getNodeType() != null) {
+                result.setNodeType(node.getNodeType());
+            }
+            result.setQualifiedName(node.getQualifiedName());
+        }
+        return result;
+    }
+
+    private void setImportException(GlossaryImportResult result, Exception e) {
+        result.setExceptionClassName(e.getClass().getName());
+        result.setExceptionMessage(e.getMessage());
+    }
+
+    /**
+     * Remove an entity that was created during the import of a category or term that then failed.
+     *
+     * @param userId     unique identifier for requesting user, under which the request is performed
+     * @param methodName rest API
+     * @param typeName   type of the entity
+     * @param guid       guid of the entity or null if it was not created
+     */
+    private void removeImportedEntity(String userId, String methodName, String typeName, String guid) {
+        if (guid != null) {
+            try {
+                oMRSAPIHelper.callOMRSDeleteEntity(methodName, userId, typeName, guid);
+                oMRSAPIHelper.callOMRSPurgeEntity(methodName, userId, typeName, guid);
+            } catch (SubjectAreaCheckedException | PropertyServerException | UserNotAuthorizedException e) {
+                // the error that caused the import of this item to fail is the one that is reported
+            }
+        }
+    }
+
+}
@@ -24,12 +24,14 @@ import org.odpi.openmetadata.accessservices.subjectarea.server.mappers.MappersFa
 import org.odpi.openmetadata.accessservices.subjectarea.server.mappers.entities.CategoryMapper;
 import org.odpi.openmetadata.accessservices.subjectarea.server.mappers.entities.GlossaryMapper;
 import org.odpi.openmetadata.accessservices.subjectarea.utilities.OMRSAPIHelper;
+import org.odpi.openmetadata.accessservices.subjectarea.utilities.SubjectAreaTextIndex;
 import org.odpi.openmetadata.accessservices.subjectarea.utilities.SubjectAreaUtils;
 import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
 import org.odpi.openmetadata.frameworks.auditlog.messagesets.ExceptionMessageDefinition;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProvenanceType;
@@ -61,6 +63,7 @@ public abstract class SubjectAreaHandler {
     protected final OMRSAPIHelper oMRSAPIHelper;
     protected final int maxPageSize;
     protected InvalidParameterHandler invalidParameterHandler = new InvalidParameterHandler();
+    private SubjectAreaTextIndex textIndex = null;
 
     /**
      * Construct the Subject Area Project Handler
@@ -193,6 +196,10 @@ public abstract class SubjectAreaHandler {
         invalidParameterHandler.validatePaging(findRequest.getStartingFrom(), findRequest.getPageSize(), methodName);
         if (findRequest.getSearchCriteria() == null) {
             entityDetails = oMRSAPIHelper.getEntitiesByType(methodName, userId, typeEntityName, findRequest);
+        } else if (isTextIndexSearch(typeEntityName, findRequest)) {
+            String searchCriteria = findRequest.getSearchCriteria();
+            FindRequest sanitisedFindRequest = sanitiseFindRequest(findRequest, exactValue, ignoreCase);
+            entityDetails = findEntitiesFromTextIndex(userId, typeEntityName, searchCriteria, sanitisedFindRequest, methodName);
         } else {
             FindRequest sanitisedFindRequest = sanitiseFindRequest(findRequest, exactValue, ignoreCase);
             entityDetails = oMRSAPIHelper.findEntitiesByPropertyValue(methodName, userId, typeEntityName, sanitisedFindRequest);
@@ -203,6 +210,76 @@ public abstract class SubjectAreaHandler {
         return foundEntities;
     }
 
+    /**
+     * Set up the text index used to answer find requests for glossaries, categories and terms.
+     *
+     * @param textIndex text index or null if find requests are passed to the repositories
+     */
+    public void setTextIndex(SubjectAreaTextIndex textIndex) {
+        this.textIndex = textIndex;
+    }
+
+    /**
+     * Determine whether a find request can be answered from the text index.  Historical requests, and requests
+     * for a particular sequencing order, are passed to the repositories.
+     *
+     * @param typeEntityName type of entity being searched
+     * @param findRequest    find request from the caller
+     * @return boolean flag
+     */
+    private boolean isTextIndexSearch(String typeEntityName, FindRequest findRequest) {
+        return (textIndex != null) &&
+                textIndex.isReady() &&
+                textIndex.isIndexedType(typeEntityName) &&
+                findRequest.getAsOfTime() == null &&
+                findRequest.getSequencingProperty() == null &&
+                (findRequest.getSequencingOrder() == null || findRequest.getSequencingOrder() == SequencingOrder.ANY);
+    }
+
+    /**
+     * Find the matching entities in the text index and retrieve the requested page of them from the repositories.
+     * Entities that can no longer be retrieved (or that the user is not allowed to see) are left out of the page
+     * rather than replaced by later matches, so a page may be short but the next page starts where it ends.
+     *
+     * @param userId                unique identifier for requesting user, under which the request is performed
+     * @param typeEntityName        type of entity being searched
+     * @param searchCriteria        search criteria from the caller
+     * @param sanitisedFindRequest  find request containing the regular expression built from the search criteria
+     * @param methodName            name of the method being called
+     * @return list of entities or null if none match
+     *
+     * @throws SubjectAreaCheckedException standard exception Subject Area OMAS services
+     * @throws PropertyServerException something went wrong with the REST call stack.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    protected List<EntityDetail> findEntitiesFromTextIndex(String userId,
+                                                           String typeEntityName,
+                                                           String searchCriteria,
+                                                           FindRequest sanitisedFindRequest,
+                                                           String methodName) throws SubjectAreaCheckedException,
+                                                                                     PropertyServerException,
+                                                                                     UserNotAuthorizedException {
+        List<String> guids = textIndex.findGUIDs(typeEntityName,
+                                                 searchCriteria,
+                                                 sanitisedFindRequest.getSearchCriteria(),
+                                                 sanitisedFindRequest.getStartingFrom(),
+                                                 sanitisedFindRequest.getPageSize());
+        List<EntityDetail> entityDetails = new ArrayList<>();
+
+        for (String guid : guids) {
+            try {
+                oMRSAPIHelper.callOMRSGetEntityByGuid(userId, guid, typeEntityName, methodName).ifPresent(entityDetails::add);
+            } catch (InvalidParameterException | UserNotAuthorizedException e) {
+                // the entity has been removed since it was indexed, or is not visible to this user
+            }
+        }
+
+        if (entityDetails.isEmpty()) {
+            return null;
+        }
+        return entityDetails;
+    }
+
     /**
      * Get the related nodes from end 1 of a given type of relationship
      * @param methodName           name of the method being called.
@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.accessservices.subjectarea.listener;
 
 import org.odpi.openmetadata.accessservices.subjectarea.outtopic.SubjectAreaPublisher;
+import org.odpi.openmetadata.accessservices.subjectarea.utilities.SubjectAreaTextIndex;
 import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGConfigurationErrorException;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
@@ -23,14 +24,15 @@ public class SubjectAreaOMRSTopicListener extends OMRSTopicListenerBase {
     private OMRSRepositoryValidator repositoryValidator;
     private String componentName;
     private List<String> supportedZones;
-    private SubjectAreaPublisher publisher;
+    private SubjectAreaPublisher publisher = null;
+    private SubjectAreaTextIndex textIndex = null;
 
 
     /**
      * The constructor is given the connection to the out topic for Subject Area OMAS
      * along with classes for testing and manipulating instances.
      *
-     * @param subjectAreaOutTopic connection to the out topic
+     * @param subjectAreaOutTopic connection to the out topic (may be null if only the text index is maintained)
      * @param repositoryHelper    provides methods for working with metadata instances
      * @param repositoryValidator provides validation of metadata instance
      * @param componentName       name of component
@@ -49,7 +51,19 @@ public class SubjectAreaOMRSTopicListener extends OMRSTopicListenerBase {
         this.repositoryValidator = repositoryValidator;
         this.componentName = componentName;
 
-        publisher = new SubjectAreaPublisher(subjectAreaOutTopic, auditLog);
+        if (subjectAreaOutTopic != null) {
+            publisher = new SubjectAreaPublisher(subjectAreaOutTopic, auditLog);
+        }
+    }
+
+
+    /**
+     * Set up the text index that is kept up to date from the instance events.
+     *
+     * @param textIndex text index or null if it is not enabled
+     */
+    public void setTextIndex(SubjectAreaTextIndex textIndex) {
+        this.textIndex = textIndex;
     }
 
 
@@ -88,6 +102,8 @@ public class SubjectAreaOMRSTopicListener extends OMRSTopicListenerBase {
             OMRSEventOriginator instanceEventOriginator = instanceEvent.getEventOriginator();
 
             if ((instanceEventType != null) && (instanceEventOriginator != null)) {
+                updateTextIndex(instanceEventType, instanceEvent);
+
                 switch (instanceEventType) {
                     case NEW_ENTITY_EVENT:
 //                        publisher.processNewEntity(instanceEvent.getEntity());
@@ -189,5 +205,46 @@ public class SubjectAreaOMRSTopicListener extends OMRSTopicListenerBase {
             }
         }
     }
-}
 
+
+    /**
+     * Apply the changes to glossaries, categories and terms described in an instance event to the text index.
+     *
+     * @param instanceEventType type of event
+     * @param instanceEvent event to process
+     */
+    private void updateTextIndex(OMRSInstanceEventType instanceEventType, OMRSInstanceEvent instanceEvent) {
+        if (textIndex == null) {
+            return;
+        }
+
+        switch (instanceEventType) {
+            case NEW_ENTITY_EVENT:
+            case UPDATED_ENTITY_EVENT:
+            case UNDONE_ENTITY_EVENT:
+            case RESTORED_ENTITY_EVENT:
+            case REFRESHED_ENTITY_EVENT:
+            case RE_HOMED_ENTITY_EVENT:
+            case RETYPED_ENTITY_EVENT:
+                textIndex.addEntity(instanceEvent.getEntity());
+                break;
+
+            case RE_IDENTIFIED_ENTITY_EVENT:
+                textIndex.removeEntity(instanceEvent.getOriginalInstanceGUID());
+                textIndex.addEntity(instanceEvent.getEntity());
+                break;
+
+            case DELETED_ENTITY_EVENT:
+            case PURGED_ENTITY_EVENT:
+                if (instanceEvent.getEntity() != null) {
+                    textIndex.removeEntity(instanceEvent.getEntity().getGUID());
+                } else {
+                    textIndex.removeEntity(instanceEvent.getInstanceGUID());
+                }
+                break;
+
+            default:
+                break;
+        }
+    }
+}
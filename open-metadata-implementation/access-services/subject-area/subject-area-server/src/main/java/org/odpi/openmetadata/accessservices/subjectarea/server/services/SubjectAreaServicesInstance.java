@@ -7,6 +7,7 @@ import org.odpi.openmetadata.accessservices.subjectarea.ffdc.SubjectAreaErrorCod
 import org.odpi.openmetadata.accessservices.subjectarea.handlers.*;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.Glossary;
 import org.odpi.openmetadata.accessservices.subjectarea.utilities.OMRSAPIHelper;
+import org.odpi.openmetadata.accessservices.subjectarea.utilities.SubjectAreaTextIndex;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceDescription;
 import org.odpi.openmetadata.commonservices.multitenant.OMASServiceInstance;
 import org.odpi.openmetadata.commonservices.multitenant.ffdc.exceptions.NewInstanceException;
@@ -32,6 +33,7 @@ public class SubjectAreaServicesInstance extends OMASServiceInstance
     private SubjectAreaRelationshipHandler relationshipHandler;
     private SubjectAreaGraphHandler graphHandler;
     private SubjectAreaConfigHandler configHandler;
+    private SubjectAreaTextIndex textIndex = null;
 
     /**
      * Set up the local repository connector that will service the REST Calls.
@@ -47,6 +49,27 @@ public class SubjectAreaServicesInstance extends OMASServiceInstance
                                        AuditLog                auditLog,
                                        String                  localServerUserId,
                                        int                     maxPageSize) throws NewInstanceException
+    {
+        this(repositoryConnector, auditLog, localServerUserId, maxPageSize, false);
+    }
+
+
+    /**
+     * Set up the local repository connector that will service the REST Calls.
+     *
+     * @param repositoryConnector link to the repository responsible for servicing the REST calls.
+     * @param auditLog logging destination
+     * @param localServerUserId userId used for server initiated actions
+     * @param maxPageSize max number of results to return on single request.
+     * @param textIndexEnabled build a text index to answer find requests for glossaries, categories and terms
+     *
+     * @throws NewInstanceException a problem occurred during initialization
+     */
+    public SubjectAreaServicesInstance(OMRSRepositoryConnector repositoryConnector,
+                                       AuditLog                auditLog,
+                                       String                  localServerUserId,
+                                       int                     maxPageSize,
+                                       boolean                 textIndexEnabled) throws NewInstanceException
     {
         super(myDescription.getAccessServiceFullName(),
               repositoryConnector,
@@ -94,6 +117,16 @@ public class SubjectAreaServicesInstance extends OMASServiceInstance
             this.relationshipHandler= new SubjectAreaRelationshipHandler(oMRSAPIHelper, maxPageSize);
 
             this.configHandler = new SubjectAreaConfigHandler(oMRSAPIHelper, maxPageSize);
+
+            if (textIndexEnabled) {
+                this.textIndex = new SubjectAreaTextIndex(oMRSAPIHelper, localServerUserId, maxPageSize, auditLog);
+
+                this.glossaryHandler.setTextIndex(textIndex);
+                this.termHandler.setTextIndex(textIndex);
+                this.categoryHandler.setTextIndex(textIndex);
+
+                this.textIndex.start(serverName);
+            }
         }
         else
         {
@@ -161,4 +194,27 @@ public class SubjectAreaServicesInstance extends OMASServiceInstance
     public SubjectAreaConfigHandler getConfigHandler() {
         return configHandler;
     }
+    /**
+     * Return the text index for glossaries, categories and terms.
+     *
+     * @return text index or null if it is not enabled
+     */
+    public SubjectAreaTextIndex getTextIndex() {
+        return textIndex;
+    }
+
+
+    /**
+     * Unregister this instance from the instance map and stop loading the text index.
+     */
+    @Override
+    public void shutdown()
+    {
+        if (textIndex != null)
+        {
+            textIndex.shutdown();
+        }
+
+        super.shutdown();
+    }
 }
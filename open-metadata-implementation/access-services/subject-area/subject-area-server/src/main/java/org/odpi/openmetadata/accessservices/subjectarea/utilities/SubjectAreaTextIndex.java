@@ -0,0 +1,416 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.subjectarea.utilities;
+
+import org.odpi.openmetadata.accessservices.subjectarea.ffdc.SubjectAreaAuditCode;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * SubjectAreaTextIndex is an optional in-memory inverted index over the names, display names, summaries and
+ * qualified names of the glossaries, categories and terms in the cohort.  It is used to answer the find requests
+ * of the Subject Area OMAS so that a search only retrieves the entities on the requested page from the repositories,
+ * rather than each repository evaluating a regular expression against every glossary term.
+ *
+ * The index holds the trigrams of the lower-cased property values.  A search looks up the trigrams of the
+ * search criteria to find the candidate entities and then checks each candidate against the same regular
+ * expression that would have been sent to the repositories.  The index is loaded from the repositories in a
+ * background thread when the access service starts, and is kept up to date from the OMRS instance events.
+ * Until the load is complete, searches are passed to the repositories.
+ *
+ * Matches are returned in the order that the entities were added to the index: the order the repositories
+ * returned them during the load, followed by the entities created since then.
+ */
+public class SubjectAreaTextIndex {
+    private static final Logger log = LoggerFactory.getLogger(SubjectAreaTextIndex.class);
+
+    private static final int NGRAM_LENGTH           = 3;
+    private static final int DEFAULT_LOAD_PAGE_SIZE = 1000;
+
+    private static final List<String> indexedTypeNames     = Arrays.asList("Glossary", "GlossaryCategory", "GlossaryTerm");
+    private static final List<String> indexedPropertyNames = Arrays.asList("name", "displayName", "summary", "qualifiedName");
+
+    private final OMRSAPIHelper        oMRSAPIHelper;
+    private final OMRSRepositoryHelper repositoryHelper;
+    private final String               serverUserId;
+    private final int                  loadPageSize;
+    private final AuditLog             auditLog;
+
+    private final Map<String, IndexedEntity> entities          = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>>   ngramPostings     = new ConcurrentHashMap<>();
+    private final Set<String>                removedDuringLoad = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean ready    = false;
+    private volatile boolean shutdown = false;
+
+    private long nextSequence = 0;
+
+
+    /**
+     * An entity in the index.
+     */
+    private static class IndexedEntity {
+        private final String       guid;
+        private final String       indexedTypeName;
+        private final long         version;
+        private final long         sequence;
+        private final List<String> values;
+
+        IndexedEntity(String guid, String indexedTypeName, long version, long sequence, List<String> values) {
+            this.guid = guid;
+            this.indexedTypeName = indexedTypeName;
+            this.version = version;
+            this.sequence = sequence;
+            this.values = values;
+        }
+    }
+
+
+    /**
+     * Construct the index.
+     *
+     * @param oMRSAPIHelper helper used to load the index from the repositories
+     * @param serverUserId  user id used to load the index
+     * @param maxPageSize   maximum page size supported by the server (zero means no limit)
+     * @param auditLog      audit log for the load
+     */
+    public SubjectAreaTextIndex(OMRSAPIHelper oMRSAPIHelper,
+                                String serverUserId,
+                                int maxPageSize,
+                                AuditLog auditLog) {
+        this.oMRSAPIHelper = oMRSAPIHelper;
+        this.repositoryHelper = oMRSAPIHelper.getOMRSRepositoryHelper();
+        this.serverUserId = serverUserId;
+        this.loadPageSize = (maxPageSize > 0) ? maxPageSize : DEFAULT_LOAD_PAGE_SIZE;
+        this.auditLog = auditLog;
+    }
+
+
+    /**
+     * Start loading the index from the repositories in a background thread.
+     *
+     * @param serverName name of the server (for the thread name and messages)
+     */
+    public void start(String serverName) {
+        Thread loader = new Thread(() -> load(serverName), "SubjectAreaTextIndexLoader-" + serverName);
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+
+    /**
+     * Stop loading the index.
+     */
+    public void shutdown() {
+        shutdown = true;
+    }
+
+
+    /**
+     * Return whether the index has been loaded and can be used for searches.
+     *
+     * @return boolean flag
+     */
+    public boolean isReady() {
+        return ready && !shutdown;
+    }
+
+
+    /**
+     * Return whether the type is one of the types in the index.
+     *
+     * @param typeName name of the type being searched
+     * @return boolean flag
+     */
+    public boolean isIndexedType(String typeName) {
+        return indexedTypeNames.contains(typeName);
+    }
+
+
+    /**
+     * Page through the glossaries, categories and terms in the repositories and add them to the index.
+     *
+     * @param serverName name of the server
+     */
+    private void load(String serverName) {
+        final String methodName = "loadTextIndex";
+
+        try {
+            for (String typeName : indexedTypeNames) {
+                int startingFrom = 0;
+                List<EntityDetail> entityDetails;
+
+                do {
+                    if (shutdown) {
+                        return;
+                    }
+
+                    entityDetails = oMRSAPIHelper.getEntitiesByType(methodName,
+                                                                    serverUserId,
+                                                                    typeName,
+                                                                    null,
+                                                                    startingFrom,
+                                                                    loadPageSize,
+                                                                    null,
+                                                                    null);
+
+                    if (entityDetails != null) {
+                        for (EntityDetail entityDetail : entityDetails) {
+                            if (!removedDuringLoad.contains(entityDetail.getGUID())) {
+                                addEntity(entityDetail);
+                            }
+                        }
+
+                        startingFrom = startingFrom + entityDetails.size();
+                    }
+                } while ((entityDetails != null) && (entityDetails.size() == loadPageSize));
+            }
+
+            removedDuringLoad.clear();
+            ready = true;
+
+            auditLog.logMessage(methodName,
+                                SubjectAreaAuditCode.TEXT_INDEX_LOADED.getMessageDefinition(serverName,
+                                                                                            Integer.toString(entities.size())));
+        } catch (Exception error) {
+            auditLog.logException(methodName,
+                                  SubjectAreaAuditCode.TEXT_INDEX_LOAD_FAILED.getMessageDefinition(serverName,
+                                                                                                   error.getClass().getName(),
+                                                                                                   error.getMessage()),
+                                  error);
+        }
+    }
+
+
+    /**
+     * Add or replace an entity in the index.  Entities that are not glossaries, categories or terms, and entities
+     * that are no longer active, are ignored (or removed).
+     *
+     * @param entityDetail entity from the repository or an event
+     */
+    public synchronized void addEntity(EntityDetail entityDetail) {
+        final String methodName = "addEntity";
+
+        if ((entityDetail == null) || (entityDetail.getGUID() == null)) {
+            return;
+        }
+
+        String indexedTypeName = getIndexedTypeName(entityDetail.getType());
+
+        if (indexedTypeName == null) {
+            return;
+        }
+
+        if (entityDetail.getStatus() == InstanceStatus.DELETED) {
+            removeEntity(entityDetail.getGUID());
+            return;
+        }
+
+        IndexedEntity existingEntity = entities.get(entityDetail.getGUID());
+
+        if ((existingEntity != null) && (existingEntity.version > entityDetail.getVersion())) {
+            log.debug("Ignoring older version of " + entityDetail.getGUID());
+            return;
+        }
+
+        List<String> values = new ArrayList<>();
+
+        for (String propertyName : indexedPropertyNames) {
+            String value = repositoryHelper.getStringProperty(oMRSAPIHelper.getServiceName(),
+                                                              propertyName,
+                                                              entityDetail.getProperties(),
+                                                              methodName);
+            if (value != null) {
+                values.add(value);
+            }
+        }
+
+        long sequence;
+
+        if (existingEntity != null) {
+            removePostings(entityDetail.getGUID(), existingEntity);
+            sequence = existingEntity.sequence;
+        } else {
+            sequence = nextSequence++;
+        }
+
+        IndexedEntity indexedEntity = new IndexedEntity(entityDetail.getGUID(), indexedTypeName, entityDetail.getVersion(), sequence, values);
+
+        entities.put(entityDetail.getGUID(), indexedEntity);
+
+        for (String value : values) {
+            for (String ngram : getNgrams(value.toLowerCase())) {
+                ngramPostings.computeIfAbsent(ngram, key -> ConcurrentHashMap.newKeySet()).add(entityDetail.getGUID());
+            }
+        }
+    }
+
+
+    /**
+     * Remove an entity from the index.
+     *
+     * @param guid unique identifier of the entity
+     */
+    public synchronized void removeEntity(String guid) {
+        if (guid == null) {
+            return;
+        }
+
+        if (!ready) {
+            removedDuringLoad.add(guid);
+        }
+
+        IndexedEntity existingEntity = entities.remove(guid);
+
+        if (existingEntity != null) {
+            removePostings(guid, existingEntity);
+        }
+    }
+
+
+    /**
+     * Return the unique identifiers of the entities of the requested type with an indexed property that matches
+     * the search criteria.  The results are in the order the entities were added to the index so that they can
+     * be paged.
+     *
+     * @param typeName       name of the type being searched
+     * @param searchCriteria search criteria supplied by the caller
+     * @param searchRegex    regular expression built from the search criteria
+     * @param startingFrom   position of the first result to return
+     * @param pageSize       maximum number of results to return - 0 means all of the results after the starting position
+     * @return list of unique identifiers (may be empty)
+     */
+    public List<String> findGUIDs(String typeName,
+                                  String searchCriteria,
+                                  String searchRegex,
+                                  int startingFrom,
+                                  int pageSize) {
+        Collection<String> candidateGUIDs = entities.keySet();
+
+        String criteria = (searchCriteria == null) ? "" : searchCriteria.trim().toLowerCase();
+
+        if (criteria.length() >= NGRAM_LENGTH) {
+            /*
+             * Intersect the postings for each n-gram in the search criteria, starting with the smallest.
+             */
+            List<Set<String>> postings = new ArrayList<>();
+
+            for (String ngram : getNgrams(criteria)) {
+                Set<String> ngramGUIDs = ngramPostings.get(ngram);
+
+                if (ngramGUIDs == null) {
+                    return new ArrayList<>();
+                }
+                postings.add(ngramGUIDs);
+            }
+
+            postings.sort(Comparator.comparingInt(Set::size));
+
+            Set<String> intersection = new HashSet<>(postings.get(0));
+            for (int i = 1; (i < postings.size()) && (!intersection.isEmpty()); i++) {
+                intersection.retainAll(postings.get(i));
+            }
+            candidateGUIDs = intersection;
+        }
+
+        Pattern pattern = Pattern.compile(searchRegex);
+        List<IndexedEntity> matchingEntities = new ArrayList<>();
+
+        for (String guid : candidateGUIDs) {
+            IndexedEntity indexedEntity = entities.get(guid);
+
+            if ((indexedEntity != null) && (typeName.equals(indexedEntity.indexedTypeName))) {
+                for (String value : indexedEntity.values) {
+                    if (pattern.matcher(value).matches()) {
+                        matchingEntities.add(indexedEntity);
+                        break;
+                    }
+                }
+            }
+        }
+
+        matchingEntities.sort(Comparator.comparingLong(indexedEntity -> indexedEntity.sequence));
+
+        List<String> matchingGUIDs = new ArrayList<>();
+
+        int endBefore = matchingEntities.size();
+        if ((pageSize > 0) && (startingFrom + pageSize < endBefore)) {
+            endBefore = startingFrom + pageSize;
+        }
+
+        for (int i = startingFrom; i < endBefore; i++) {
+            matchingGUIDs.add(matchingEntities.get(i).guid);
+        }
+
+        return matchingGUIDs;
+    }
+
+
+    /**
+     * Return the indexed type that the entity's type is, or inherits from.
+     *
+     * @param instanceType type of the entity
+     * @return type name or null if the entity is not indexed
+     */
+    private String getIndexedTypeName(InstanceType instanceType) {
+        if ((instanceType == null) || (instanceType.getTypeDefName() == null)) {
+            return null;
+        }
+
+        for (String typeName : indexedTypeNames) {
+            if (oMRSAPIHelper.isTypeOf(instanceType.getTypeDefName(), typeName)) {
+                return typeName;
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Remove the entity from the postings of its indexed values.
+     *
+     * @param guid unique identifier of the entity
+     * @param indexedEntity indexed values
+     */
+    private void removePostings(String guid, IndexedEntity indexedEntity) {
+        for (String value : indexedEntity.values) {
+            for (String ngram : getNgrams(value.toLowerCase())) {
+                Set<String> ngramGUIDs = ngramPostings.get(ngram);
+
+                if (ngramGUIDs != null) {
+                    ngramGUIDs.remove(guid);
+                    if (ngramGUIDs.isEmpty()) {
+                        ngramPostings.remove(ngram);
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return the distinct n-grams of a string.
+     *
+     * @param value lower-cased value
+     * @return set of n-grams
+     */
+    private Set<String> getNgrams(String value) {
+        Set<String> ngrams = new HashSet<>();
+
+        for (int i = 0; i + NGRAM_LENGTH <= value.length(); i++) {
+            ngrams.add(value.substring(i, i + NGRAM_LENGTH));
+        }
+
+        return ngrams;
+    }
+}
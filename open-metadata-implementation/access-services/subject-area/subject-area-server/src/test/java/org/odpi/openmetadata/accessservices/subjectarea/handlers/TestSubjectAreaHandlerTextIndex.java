@@ -0,0 +1,140 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.subjectarea.handlers;
+
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.common.FindRequest;
+import org.odpi.openmetadata.accessservices.subjectarea.utilities.OMRSAPIHelper;
+import org.odpi.openmetadata.accessservices.subjectarea.utilities.SubjectAreaTextIndex;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.*;
+
+/**
+ * Test the find requests that are answered from the text index
+ */
+public class TestSubjectAreaHandlerTextIndex
+{
+    @Mock
+    private OMRSAPIHelper oMRSAPIHelper;
+    @Mock
+    private OMRSRepositoryHelper omrsRepositoryHelper;
+    @Mock
+    private AuditLog auditLog;
+
+    private SubjectAreaHandlerTestImplementation handler;
+
+    @BeforeMethod
+    public void setup() throws Exception
+    {
+        MockitoAnnotations.openMocks(this);
+
+        when(oMRSAPIHelper.getOMRSRepositoryHelper()).thenReturn(omrsRepositoryHelper);
+        when(oMRSAPIHelper.getServiceName()).thenReturn("Subject Area OMAS");
+        when(oMRSAPIHelper.isTypeOf(anyString(), anyString())).thenAnswer(invocation -> invocation.getArgument(0).equals(invocation.getArgument(1)));
+        when(omrsRepositoryHelper.getStringProperty(anyString(), anyString(), any(), anyString())).thenAnswer(invocation -> {
+            InstanceProperties properties = invocation.getArgument(2);
+            if (properties == null || properties.getPropertyValue(invocation.getArgument(1)) == null) {
+                return null;
+            }
+            return ((PrimitivePropertyValue) properties.getPropertyValue(invocation.getArgument(1))).getPrimitiveValue();
+        });
+
+        SubjectAreaTextIndex textIndex = new SubjectAreaTextIndex(oMRSAPIHelper, "user", 100, auditLog);
+
+        for (int i = 0; i < 6; i++) {
+            EntityDetail entity = getTerm("guid" + i, "Customer " + i);
+            textIndex.addEntity(entity);
+            when(oMRSAPIHelper.callOMRSGetEntityByGuid(anyString(), eq("guid" + i), anyString(), anyString())).thenReturn(Optional.of(entity));
+        }
+
+        /*
+         * guid1 has been removed from the repositories and guid2 is not visible to the user.
+         */
+        when(oMRSAPIHelper.callOMRSGetEntityByGuid(anyString(), eq("guid1"), anyString(), anyString())).thenThrow(InvalidParameterException.class);
+        when(oMRSAPIHelper.callOMRSGetEntityByGuid(anyString(), eq("guid2"), anyString(), anyString())).thenThrow(UserNotAuthorizedException.class);
+
+        handler = new SubjectAreaHandlerTestImplementation(oMRSAPIHelper, 100);
+        handler.setTextIndex(textIndex);
+    }
+
+    private static EntityDetail getTerm(String guid, String name)
+    {
+        EntityDetail           entity       = new EntityDetail();
+        InstanceType           instanceType = new InstanceType();
+        InstanceProperties     properties   = new InstanceProperties();
+        PrimitivePropertyValue nameValue    = new PrimitivePropertyValue();
+
+        instanceType.setTypeDefName("GlossaryTerm");
+        nameValue.setPrimitiveValue(name);
+        properties.setProperty("name", nameValue);
+
+        entity.setGUID(guid);
+        entity.setType(instanceType);
+        entity.setVersion(1);
+        entity.setStatus(InstanceStatus.ACTIVE);
+        entity.setProperties(properties);
+
+        return entity;
+    }
+
+    private List<String> findGUIDs(int startingFrom, int pageSize) throws Exception
+    {
+        FindRequest findRequest = new FindRequest();
+
+        findRequest.setSearchCriteria("(?i)\\Qcust\\E.*");
+        findRequest.setStartingFrom(startingFrom);
+        findRequest.setPageSize(pageSize);
+
+        List<EntityDetail> entityDetails = handler.findEntitiesFromTextIndex("user", "GlossaryTerm", "cust", findRequest, "findTerm");
+        List<String> guids = new ArrayList<>();
+
+        if (entityDetails != null) {
+            for (EntityDetail entityDetail : entityDetails) {
+                guids.add(entityDetail.getGUID());
+            }
+        }
+        return guids;
+    }
+
+    @Test
+    public void testSkippedEntitiesAreLeftOutOfThePage() throws Exception
+    {
+        assertEquals(findGUIDs(0, 3), Collections.singletonList("guid0"));
+        assertEquals(findGUIDs(3, 3), Arrays.asList("guid3", "guid4", "guid5"));
+        assertEquals(findGUIDs(5, 3), Collections.singletonList("guid5"));
+        assertEquals(findGUIDs(0, 0), Arrays.asList("guid0", "guid3", "guid4", "guid5"));
+        assertEquals(findGUIDs(6, 3), Collections.emptyList());
+    }
+
+    @Test
+    public void testPagesDoNotOverlap() throws Exception
+    {
+        /*
+         * guid1 and guid2 can not be retrieved so the first page is short, but the second page starts at the
+         * next match in the index rather than repeating an entity that was used to fill the first page.
+         */
+        assertEquals(findGUIDs(0, 2), Collections.singletonList("guid0"));
+        assertEquals(findGUIDs(2, 2), Collections.singletonList("guid3"));
+        assertEquals(findGUIDs(4, 2), Arrays.asList("guid4", "guid5"));
+    }
+}
@@ -0,0 +1,196 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.subjectarea.utilities;
+
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.*;
+
+/**
+ * Test the text index used to answer the Subject Area find requests
+ */
+public class TestSubjectAreaTextIndex
+{
+    @Mock
+    private OMRSAPIHelper oMRSAPIHelper;
+    @Mock
+    private OMRSRepositoryHelper omrsRepositoryHelper;
+    @Mock
+    private AuditLog auditLog;
+
+    @BeforeMethod
+    public void setup() throws Exception
+    {
+        MockitoAnnotations.openMocks(this);
+
+        when(oMRSAPIHelper.getOMRSRepositoryHelper()).thenReturn(omrsRepositoryHelper);
+        when(oMRSAPIHelper.getServiceName()).thenReturn("Subject Area OMAS");
+        when(oMRSAPIHelper.isTypeOf(anyString(), anyString())).thenAnswer(invocation -> invocation.getArgument(0).equals(invocation.getArgument(1)));
+        when(omrsRepositoryHelper.getStringProperty(anyString(), anyString(), any(), anyString())).thenAnswer(invocation -> {
+            InstanceProperties properties = invocation.getArgument(2);
+            if (properties == null || properties.getPropertyValue(invocation.getArgument(1)) == null) {
+                return null;
+            }
+            return ((PrimitivePropertyValue) properties.getPropertyValue(invocation.getArgument(1))).getPrimitiveValue();
+        });
+    }
+
+    /**
+     * Build a glossary entity with a name and qualified name.
+     *
+     * @param guid unique identifier
+     * @param typeName name of the entity's type
+     * @param name name of the entity
+     * @param version version of the entity
+     * @return entity
+     */
+    static EntityDetail getEntity(String guid, String typeName, String name, long version)
+    {
+        EntityDetail       entity       = new EntityDetail();
+        InstanceType       instanceType = new InstanceType();
+        InstanceProperties properties   = new InstanceProperties();
+
+        instanceType.setTypeDefName(typeName);
+        properties.setProperty("name", getStringValue(name));
+        properties.setProperty("qualifiedName", getStringValue(typeName + "." + name));
+
+        entity.setGUID(guid);
+        entity.setType(instanceType);
+        entity.setVersion(version);
+        entity.setStatus(InstanceStatus.ACTIVE);
+        entity.setProperties(properties);
+
+        return entity;
+    }
+
+    private static PrimitivePropertyValue getStringValue(String value)
+    {
+        PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+
+        primitivePropertyValue.setPrimitiveValue(value);
+
+        return primitivePropertyValue;
+    }
+
+    @Test
+    public void testFindMatchingEntities()
+    {
+        SubjectAreaTextIndex textIndex = new SubjectAreaTextIndex(oMRSAPIHelper, "user", 100, auditLog);
+
+        textIndex.addEntity(getEntity("guid1", "GlossaryTerm", "Customer", 1));
+        textIndex.addEntity(getEntity("guid2", "GlossaryTerm", "Customer Address", 1));
+        textIndex.addEntity(getEntity("guid3", "GlossaryTerm", "Account", 1));
+        textIndex.addEntity(getEntity("guid4", "GlossaryCategory", "Customers", 1));
+        textIndex.addEntity(getEntity("guid5", "Asset", "Customer", 1));
+
+        assertTrue(textIndex.isIndexedType("GlossaryTerm"));
+        assertFalse(textIndex.isIndexedType("Asset"));
+
+        assertEquals(textIndex.findGUIDs("GlossaryTerm", "cust", "(?i)\\Qcust\\E.*", 0, 0), Arrays.asList("guid1", "guid2"));
+        assertEquals(textIndex.findGUIDs("GlossaryTerm", "Customer", "\\QCustomer\\E", 0, 0), Collections.singletonList("guid1"));
+        assertEquals(textIndex.findGUIDs("GlossaryCategory", "cust", "(?i)\\Qcust\\E.*", 0, 0), Collections.singletonList("guid4"));
+        assertEquals(textIndex.findGUIDs("GlossaryTerm", "payment", "(?i)\\Qpayment\\E.*", 0, 0), Collections.emptyList());
+
+        /*
+         * Search criteria that is shorter than an n-gram checks every entity.
+         */
+        assertEquals(textIndex.findGUIDs("GlossaryTerm", "a", "(?i)\\Qa\\E.*", 0, 0), Collections.singletonList("guid3"));
+        assertEquals(textIndex.findGUIDs("GlossaryTerm", "", ".*", 0, 0), Arrays.asList("guid1", "guid2", "guid3"));
+    }
+
+    @Test
+    public void testMatchesAreInTheOrderTheyWereAdded()
+    {
+        SubjectAreaTextIndex textIndex = new SubjectAreaTextIndex(oMRSAPIHelper, "user", 100, auditLog);
+
+        textIndex.addEntity(getEntity("guidC", "GlossaryTerm", "Customer 1", 1));
+        textIndex.addEntity(getEntity("guidA", "GlossaryTerm", "Customer 2", 1));
+        textIndex.addEntity(getEntity("guidB", "GlossaryTerm", "Customer 3", 1));
+
+        assertEquals(textIndex.findGUIDs("GlossaryTerm", "cust", "(?i)\\Qcust\\E.*", 0, 0), Arrays.asList("guidC", "guidA", "guidB"));
+        assertEquals(textIndex.findGUIDs("GlossaryTerm", "cust", "(?i)\\Qcust\\E.*", 1, 0), Arrays.asList("guidA", "guidB"));
+        assertEquals(textIndex.findGUIDs("GlossaryTerm", "cust", "(?i)\\Qcust\\E.*", 3, 0), Collections.emptyList());
+
+        /*
+         * An update keeps the entity's position.
+         */
+        textIndex.addEntity(getEntity("guidC", "GlossaryTerm", "Customer 4", 2));
+
+        assertEquals(textIndex.findGUIDs("GlossaryTerm", "cust", "(?i)\\Qcust\\E.*", 0, 0), Arrays.asList("guidC", "guidA", "guidB"));
+    }
+
+    @Test
+    public void testUpdatesAndRemovals()
+    {
+        SubjectAreaTextIndex textIndex = new SubjectAreaTextIndex(oMRSAPIHelper, "user", 100, auditLog);
+
+        textIndex.addEntity(getEntity("guid1", "GlossaryTerm", "Customer", 2));
+        textIndex.addEntity(getEntity("guid2", "GlossaryTerm", "Customer Address", 1));
+
+        /*
+         * An older version is ignored and a newer version replaces the indexed values.
+         */
+        textIndex.addEntity(getEntity("guid1", "GlossaryTerm", "Client", 1));
+        assertEquals(textIndex.findGUIDs("GlossaryTerm", "cust", "(?i)\\Qcust\\E.*", 0, 0), Arrays.asList("guid1", "guid2"));
+
+        textIndex.addEntity(getEntity("guid1", "GlossaryTerm", "Client", 3));
+        assertEquals(textIndex.findGUIDs("GlossaryTerm", "cust", "(?i)\\Qcust\\E.*", 0, 0), Collections.singletonList("guid2"));
+        assertEquals(textIndex.findGUIDs("GlossaryTerm", "cli", "(?i)\\Qcli\\E.*", 0, 0), Collections.singletonList("guid1"));
+
+        /*
+         * Deleted entities are removed.
+         */
+        EntityDetail deletedEntity = getEntity("guid2", "GlossaryTerm", "Customer Address", 2);
+        deletedEntity.setStatus(InstanceStatus.DELETED);
+        textIndex.addEntity(deletedEntity);
+        assertEquals(textIndex.findGUIDs("GlossaryTerm", "cust", "(?i)\\Qcust\\E.*", 0, 0), Collections.emptyList());
+
+        textIndex.removeEntity("guid1");
+        textIndex.removeEntity("unknownGUID");
+        textIndex.removeEntity(null);
+        assertEquals(textIndex.findGUIDs("GlossaryTerm", "cli", "(?i)\\Qcli\\E.*", 0, 0), Collections.emptyList());
+    }
+
+    @Test
+    public void testLoad() throws Exception
+    {
+        when(oMRSAPIHelper.getEntitiesByType(anyString(), anyString(), anyString(), any(), anyInt(), anyInt(), any(), any())).thenReturn(null);
+        when(oMRSAPIHelper.getEntitiesByType(anyString(), anyString(), eq("GlossaryTerm"), any(), eq(0), eq(2), any(), any()))
+                .thenReturn(Arrays.asList(getEntity("guid1", "GlossaryTerm", "Customer", 1),
+                                          getEntity("guid2", "GlossaryTerm", "Customer Address", 1)));
+        when(oMRSAPIHelper.getEntitiesByType(anyString(), anyString(), eq("GlossaryTerm"), any(), eq(2), eq(2), any(), any()))
+                .thenReturn(Collections.singletonList(getEntity("guid3", "GlossaryTerm", "Customer Account", 1)));
+
+        SubjectAreaTextIndex textIndex = new SubjectAreaTextIndex(oMRSAPIHelper, "user", 2, auditLog);
+
+        assertFalse(textIndex.isReady());
+
+        textIndex.start("server");
+
+        for (int i = 0; i < 100 && !textIndex.isReady(); i++) {
+            Thread.sleep(50);
+        }
+
+        assertTrue(textIndex.isReady());
+        assertEquals(textIndex.findGUIDs("GlossaryTerm", "cust", "(?i)\\Qcust\\E.*", 0, 0), Arrays.asList("guid1", "guid2", "guid3"));
+
+        textIndex.shutdown();
+
+        assertFalse(textIndex.isReady());
+    }
+}
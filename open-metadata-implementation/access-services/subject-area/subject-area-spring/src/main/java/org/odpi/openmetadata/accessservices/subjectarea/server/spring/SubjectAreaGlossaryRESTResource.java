@@ -7,6 +7,8 @@ import io.swagger.v3.oas.annotations.ExternalDocumentation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.category.Category;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.Glossary;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.GlossaryImport;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.glossary.GlossaryImportResult;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.graph.Relationship;
 import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.term.Term;
 import org.odpi.openmetadata.accessservices.subjectarea.responses.SubjectAreaOMASAPIResponse;
@@ -312,4 +314,29 @@ public class SubjectAreaGlossaryRESTResource {
                                                                       ) {
         return restAPI.getGlossaryCategories(serverName, userId, guid, searchCriteria, exactValue, ignoreCase, asOfTime, onlyTop, startingFrom, pageSize, sequencingOrder, sequencingProperty);
     }
-}
\ No newline at end of file
+
+    /**
+     * Import categories and terms into a glossary in one request. The categories are created before the terms, and a category or term
+     * can refer to a category in the same import by its qualifiedName.  Each category and term is imported independently, so the
+     * response contains a result for each one, with either the guid of the created node or the error that prevented its creation.
+     *
+     * @param serverName     serverName under which this request is performed, this is used in multi tenanting to identify the tenant
+     * @param userId         unique identifier for requesting user, under which the request is performed
+     * @param guid           guid of the glossary to import into
+     * @param glossaryImport categories and terms to import
+     * @return response, when successful contains a result for each category and then each term in the import.
+     * when not successful the following Exception responses can occur
+     * <ul>
+     * <li> UserNotAuthorizedException           the requesting user is not authorized to issue this request.</li>
+     * <li> InvalidParameterException            one of the parameters is null or invalid.</li>
+     * <li> PropertyServerException              Property server exception. </li>
+     * </ul>
+     */
+    @PostMapping(path = "/users/{userId}/glossaries/{guid}/import")
+    public SubjectAreaOMASAPIResponse<GlossaryImportResult> importGlossaryContent(@PathVariable String serverName,
+                                                                                  @PathVariable String userId,
+                                                                                  @PathVariable String guid,
+                                                                                  @RequestBody GlossaryImport glossaryImport) {
+        return restAPI.importGlossaryContent(serverName, userId, guid, glossaryImport);
+    }
+}
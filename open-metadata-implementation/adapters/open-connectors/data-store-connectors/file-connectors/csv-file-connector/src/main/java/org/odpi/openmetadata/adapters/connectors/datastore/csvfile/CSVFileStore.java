@@ -74,4 +74,24 @@ public interface CSVFileStore extends BasicFileStore
      * @throws FileReadException unable to find, open or read the file, or the file does not include the requested record.
      */
     List<String>      readRecord(int  rowNumber) throws FileException, FileReadException;
+
+
+    /**
+     * Pass each of the data records in the file, in order, to the record processor.  This default implementation
+     * calls readRecord() for each record.  Implementations that can read the file once override it, since that
+     * is the efficient way to process every record in a large file.
+     *
+     * @param recordProcessor processor to receive each data record
+     * @throws FileException there is a problem accessing the file
+     * @throws FileReadException unable to find, open or read the file.
+     */
+    default void      readRecords(CSVRecordProcessor recordProcessor) throws FileException, FileReadException
+    {
+        long recordCount = this.getRecordCount();
+
+        for (int recordNumber = 0; recordNumber < recordCount; recordNumber++)
+        {
+            recordProcessor.processRecord(recordNumber, this.readRecord(recordNumber));
+        }
+    }
 }
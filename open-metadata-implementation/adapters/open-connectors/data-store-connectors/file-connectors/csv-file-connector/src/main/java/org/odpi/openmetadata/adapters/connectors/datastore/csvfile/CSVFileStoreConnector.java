@@ -220,6 +220,51 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     }
 
 
+    /**
+     * Pass each of the data records in the file, in order, to the record processor.  The file is read once so this
+     * is the efficient way to process every record in a large file.  The record numbers passed to the processor
+     * match those used by readRecord().
+     *
+     * @param recordProcessor processor to receive each data record
+     * @throws FileException problem accessing the file
+     * @throws FileReadException unable to find, open or read the file.
+     */
+    public void      readRecords(CSVRecordProcessor recordProcessor) throws FileException, FileReadException
+    {
+        final String  methodName = "readRecords";
+
+        File fileStore = super.getFile(methodName);
+
+        try (Scanner scanner = new Scanner(fileStore))
+        {
+            int rowCounter = 0;
+            int recordNumber = 0;
+
+            while (scanner.hasNext())
+            {
+                String fileRecord = scanner.nextLine();
+
+                if ((rowCounter > 0) || (columnNames != null))
+                {
+                    recordProcessor.processRecord(recordNumber, parseRecord(fileRecord));
+                    recordNumber ++;
+                }
+
+                rowCounter ++;
+            }
+        }
+        catch (IOException  error)
+        {
+            throw new FileReadException(CSVFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION.getMessageDefinition(fileStoreName,
+                                                                                                               error.getMessage()),
+                                        this.getClass().getName(),
+                                        methodName,
+                                        error,
+                                        fileStoreName);
+        }
+    }
+
+
     /**
      * Return the requested row in the file.  The first record is record 0.
      *
@@ -0,0 +1,23 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.datastore.csvfile;
+
+import java.util.List;
+
+
+/**
+ * CSVRecordProcessor is implemented by a caller of CSVFileStore.readRecords().  It is passed each data record in the
+ * file in turn.
+ */
+public interface CSVRecordProcessor
+{
+    /**
+     * Process a single data record.  The first record is record 0.
+     *
+     * @param recordNumber number of the record
+     * @param recordValues List of strings, each string is the value from the column (null for an empty line).
+     */
+    void processRecord(int          recordNumber,
+                       List<String> recordValues);
+}
@@ -10,6 +10,7 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorTyp
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
 import org.testng.annotations.Test;
 
+import java.io.File;
 import java.util.*;
 
 import static org.testng.Assert.assertFalse;
@@ -101,6 +102,21 @@ public class CSVFileStoreConnectorTest
             assertTrue(columnNames.size() == columns.size());
         }
 
+        List<List<String>>  records = new ArrayList<>();
+
+        connector.readRecords((recordNumber, recordValues) ->
+                              {
+                                  assertTrue(recordNumber == records.size());
+                                  records.add(recordValues);
+                              });
+
+        assertTrue(records.size() == connector.getRecordCount());
+
+        for (int i=0; i<records.size(); i++)
+        {
+            assertTrue(connector.readRecord(i).equals(records.get(i)));
+        }
+
         try
         {
             connector.readRecord(10000);
@@ -338,6 +354,38 @@ public class CSVFileStoreConnectorTest
         }
     }
 
+    @Test public void testDefaultReadRecords()
+    {
+        List<List<String>> fileRecords = Arrays.asList(Arrays.asList("1", "one"), Arrays.asList("2", "two"));
+
+        CSVFileStore fileStore = new CSVFileStore()
+        {
+            public File         getFile() { return null; }
+            public String       getFileName() { return "InMemory"; }
+            public Date         getLastUpdateDate() { return null; }
+            public long         getRecordCount() { return fileRecords.size(); }
+            public List<String> getColumnNames() { return Arrays.asList("number", "name"); }
+            public List<String> readRecord(int rowNumber) { return fileRecords.get(rowNumber); }
+        };
+
+        try
+        {
+            List<List<String>>  records = new ArrayList<>();
+
+            fileStore.readRecords((recordNumber, recordValues) ->
+                                  {
+                                      assertTrue(recordNumber == records.size());
+                                      records.add(recordValues);
+                                  });
+
+            assertTrue(records.equals(fileRecords));
+        }
+        catch (Throwable exception)
+        {
+            assertTrue(false);
+        }
+    }
+
     @Test public void testLifecycle()
     {
         CSVFileStoreConnector connector = new CSVFileStoreConnector();
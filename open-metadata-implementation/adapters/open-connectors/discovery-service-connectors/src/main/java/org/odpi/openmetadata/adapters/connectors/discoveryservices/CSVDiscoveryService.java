@@ -3,231 +3,176 @@
 package org.odpi.openmetadata.adapters.connectors.discoveryservices;
 
 import org.odpi.openmetadata.adapters.connectors.datastore.csvfile.CSVFileStoreConnector;
+import org.odpi.openmetadata.adapters.connectors.discoveryservices.profiling.ColumnProfiler;
+import org.odpi.openmetadata.adapters.connectors.discoveryservices.profiling.RecordProfiler;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.discovery.DiscoveryAnnotationStore;
-import org.odpi.openmetadata.frameworks.discovery.DiscoveryService;
-import org.odpi.openmetadata.frameworks.discovery.ffdc.DiscoveryServiceException;
 import org.odpi.openmetadata.frameworks.discovery.properties.*;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 
 /**
- * CSVDiscoveryService is a discovery service implementation for analysing CSF Files.
+ * CSVDiscoveryService is a discovery service implementation for analysing CSF Files.  The file is read once and
+ * each column is profiled by the streaming RecordProfiler so the memory used does not grow with the size of the file.
+ * The columns can be profiled in parallel by setting the profilingThreads configuration property.
  */
-public class CSVDiscoveryService extends AuditableDiscoveryService
+public class CSVDiscoveryService extends CSVRecordDiscoveryService
 {
-    private final static String STRING_TYPE_NAME  = "string";
-    private final static String CHAR_TYPE_NAME    = "char";
-    private final static String DATE_TYPE_NAME    = "date";
-    private final static String INT_TYPE_NAME     = "int";
-    private final static String LONG_TYPE_NAME    = "long";
-    private final static String BOOLEAN_TYPE_NAME = "boolean";
-    private final static String FLOAT_TYPE_NAME   = "float";
-    private final static String BOOLEAN_UC_TRUE   = "TRUE";
-    private final static String BOOLEAN_LC_TRUE   = "true";
-    private final static String BOOLEAN_UC_FALSE  = "FALSE";
-    private final static String BOOLEAN_LC_FALSE  = "false";
-
+    private String          schemaAnnotationGUID = null;
+    private RecordProfiler  recordProfiler       = null;
+    private ExecutorService executor             = null;
+    private int             delimiterCount       = 0;
+    private long            size                 = 0;
 
 
     /**
-     * Return the best guess for the data field type.
+     * Add the schema annotation for the file and set up the profiler for its columns.
      *
-     * @param existingType current type guess
-     * @param newFieldValue next field value to process
-     * @return new best guess
+     * @param assetConnector connector to the asset
+     * @throws ConnectorCheckedException there is a problem within the discovery service.
      */
-    private String getDataFieldType(String  existingType, String newFieldValue)
+    @Override
+    protected void startScan(CSVFileStoreConnector assetConnector) throws ConnectorCheckedException
     {
-        if (STRING_TYPE_NAME.equals(existingType))
-        {
-            return STRING_TYPE_NAME;
-        }
+        final String  methodName = "startScan";
 
-        if (newFieldValue == null)
+        try
         {
-            return existingType;
-        }
+            DiscoveryAnnotationStore annotationStore = discoveryContext.getAnnotationStore();
 
-        if ((BOOLEAN_LC_TRUE.equals(newFieldValue)) ||
-            (BOOLEAN_UC_TRUE.equals(newFieldValue)) ||
-            (BOOLEAN_LC_FALSE.equals(newFieldValue)) ||
-            (BOOLEAN_UC_FALSE.equals(newFieldValue)))
+            SchemaAnalysisAnnotation  schemaAnnotation      = new SchemaAnalysisAnnotation();
 
-        {
-            if ((existingType == null) || (existingType.equals(BOOLEAN_TYPE_NAME)))
-            {
-                return BOOLEAN_TYPE_NAME;
-            }
-            else
-            {
-                return STRING_TYPE_NAME;
-            }
-        }
-        return STRING_TYPE_NAME;
-    }
+            schemaAnnotation.setSchemaName("CSV");
+            schemaAnnotation.setSchemaTypeName("TabularSchemaType");
+            schemaAnnotation.setAnnotationStatus(AnnotationStatus.NEW_ANNOTATION);
 
+            schemaAnnotationGUID = annotationStore.addAnnotationToDiscoveryReport(schemaAnnotation);
 
-    /**
-     * Return the updated value count for this column.
-     *
-     * @param existingValueCount current value count
-     * @param newFieldValue next field value to process
-     * @return new value count
-     */
-    private Map<String, Integer> getValueCount(Map<String, Integer> existingValueCount, String newFieldValue)
-    {
-        if (existingValueCount == null)
-        {
-            Map<String, Integer> newValueCount = new HashMap<>();
+            List<String>  columnNames = assetConnector.getColumnNames();
+
+            if (columnNames != null)
+            {
+                int profilingThreads = this.getIntegerProperty(CSVDiscoveryServiceProvider.profilingThreadsProperty, 1);
+
+                if (profilingThreads > 1)
+                {
+                    executor = Executors.newFixedThreadPool(Math.min(profilingThreads, columnNames.size()));
+                }
 
-            newValueCount.put(newFieldValue, 1);
+                recordProfiler = new RecordProfiler(columnNames,
+                                                    this.getIntegerProperty(CSVDiscoveryServiceProvider.maxValueListSizeProperty,
+                                                                            RecordProfiler.DEFAULT_MAX_VALUE_LIST_SIZE),
+                                                    this.getIntegerProperty(CSVDiscoveryServiceProvider.topValueCountProperty,
+                                                                            RecordProfiler.DEFAULT_TOP_VALUE_COUNT),
+                                                    executor,
+                                                    RecordProfiler.DEFAULT_BATCH_SIZE);
 
-            return newValueCount;
-        }
+                delimiterCount = Math.max(0, columnNames.size() - 1);
 
-        Integer   countForValue = existingValueCount.get(newFieldValue);
+                for (String  columnName : columnNames)
+                {
+                    if (columnName != null)
+                    {
+                        size = size + columnName.length();
+                    }
+                }
 
-        if (countForValue == null)
+                size = size + delimiterCount;
+            }
+        }
+        catch (ConnectorCheckedException error)
         {
-            existingValueCount.put(newFieldValue, 1);
+            throw error;
         }
-        else
+        catch (Throwable error)
         {
-            existingValueCount.put(newFieldValue, countForValue + 1);
+            super.handleUnexpectedException(methodName, error);
         }
-
-        return existingValueCount;
     }
 
 
     /**
-     * Return the updated value list.
+     * Pass the next record to the profiler.
      *
-     * @param existingValueList existing value list
-     * @param newFieldValue next field value to process
-     * @return updated value list
+     * @param recordNumber number of the record
+     * @param recordValues List of strings, each string is the value from the column (null for an empty line).
      */
-    private List<String> getValueList(List<String> existingValueList, String newFieldValue)
+    @Override
+    public void processRecord(int          recordNumber,
+                              List<String> recordValues)
     {
-        if (existingValueList == null)
+        if (recordProfiler != null)
         {
-            List<String> newValueList = new ArrayList<>();
-
-            newValueList.add(newFieldValue);
+            if ((recordValues != null) && (! recordValues.isEmpty()))
+            {
+                for (String fieldValue : recordValues)
+                {
+                    if (fieldValue != null)
+                    {
+                        size = size + fieldValue.length();
+                    }
+                }
 
-            return newValueList;
-        }
+                size = size + delimiterCount;
+            }
 
-        if (! existingValueList.contains(newFieldValue))
-        {
-            existingValueList.add(newFieldValue);
+            recordProfiler.addRecord(recordValues);
         }
-
-        return existingValueList;
     }
 
 
     /**
-     * Indicates that the discovery service is completely configured and can begin processing.
+     * Add the data fields with their profiles and the physical status of the file to the discovery analysis report.
      *
+     * @param assetConnector connector to the asset
      * @throws ConnectorCheckedException there is a problem within the discovery service.
      */
     @Override
-    public void start() throws ConnectorCheckedException
+    protected void completeScan(CSVFileStoreConnector assetConnector) throws ConnectorCheckedException
     {
-        final String  methodName = "start";
-
-        super.start();
+        final String  methodName = "completeScan";
 
         try
         {
-            CSVFileStoreConnector    assetConnector  = (CSVFileStoreConnector)discoveryContext.getAssetStore().getConnectorToAsset();
             DiscoveryAnnotationStore annotationStore = discoveryContext.getAnnotationStore();
-            int                      size            = 0;
-            int                      delimiterCount  = 0;
-            long                     recordCount     = assetConnector.getRecordCount();
-
-            SchemaAnalysisAnnotation  schemaAnnotation      = new SchemaAnalysisAnnotation();
-
-            schemaAnnotation.setSchemaName("CSV");
-            schemaAnnotation.setSchemaTypeName("TabularSchemaType");
-            schemaAnnotation.setAnnotationStatus(AnnotationStatus.NEW_ANNOTATION);
-
-            String schemaAnnotationGUID = annotationStore.addAnnotationToDiscoveryReport(schemaAnnotation);
+            long                     recordCount     = 0;
 
-            List<String>                        columnNames = assetConnector.getColumnNames();
-            Map<Integer, DataField>             dataFields  = new HashMap<>();
-            Map<Integer, DataProfileAnnotation> dataProfiles  = new HashMap<>();
-
-            if (columnNames != null)
+            if (recordProfiler != null)
             {
-                int position = 0;
+                recordProfiler.complete();
 
-                for (String  columnName : columnNames)
-                {
-                    if (columnName != null)
-                    {
-                        DataField  dataField = new DataField();
-
-                        dataField.setDataFieldPosition(position);
-                        dataField.setDataFieldName(columnName);
-                        dataFields.put(position, dataField);
+                recordCount = recordProfiler.getRecordCount();
 
-                        DataProfileAnnotation dataProfile = new DataProfileAnnotation();
+                List<DataField>  dataFields         = new ArrayList<>();
+                List<Annotation> profileAnnotations = new ArrayList<>();
+                int              position           = 0;
 
-                        dataProfiles.put(position, dataProfile);
-
-                        size = size + columnName.length();
-                        position++;
-                    }
-                }
-
-                if (position > 0)
+                for (ColumnProfiler columnProfiler : recordProfiler.getColumnProfilers())
                 {
-                    delimiterCount = position - 1;
-                }
+                    DataField  dataField = new DataField();
 
-                size = size + delimiterCount;
-
-                for (int recordNumber=0; recordNumber < recordCount ; recordNumber++)
-                {
-                    List<String>  recordValues = assetConnector.readRecord(recordNumber);
+                    dataField.setDataFieldPosition(position);
+                    dataField.setDataFieldName(columnProfiler.getColumnName());
+                    dataField.setDataFieldType(columnProfiler.getInferredDataType());
 
-                    if ((recordValues != null) && (! recordValues.isEmpty()))
-                    {
-                        int columnPosition = 0;
-                        int recordLength = 0;
+                    dataFields.add(dataField);
+                    profileAnnotations.add(columnProfiler.getDataProfileAnnotation());
 
-                        for (String fieldValue : recordValues)
-                        {
-                            DataField             dataField   = dataFields.get(columnPosition);
-                            DataProfileAnnotation dataProfile = dataProfiles.get(columnPosition);
-
-                            dataField.setDataFieldType(this.getDataFieldType(dataField.getDataFieldType(), fieldValue));
-
-                            dataProfile.setValueCount(this.getValueCount(dataProfile.getValueCount(), fieldValue));
-                            dataProfile.setValueList(this.getValueList(dataProfile.getValueList(), fieldValue));
-
-                            recordLength = recordLength + fieldValue.length();
-
-                            columnPosition++;
-                        }
-
-                        size = size + recordLength + delimiterCount;
-                    }
+                    position++;
                 }
 
-                for (int columnNumber=0 ; columnNumber < columnNames.size(); columnNumber++)
-                {
-                    String  dataFieldGUID = annotationStore.addDataFieldToDiscoveryReport(schemaAnnotationGUID, dataFields.get(columnNumber));
+                /*
+                 * The data fields for all of the columns are added in one batch, followed by all of their profile annotations.
+                 */
+                List<String> dataFieldGUIDs = annotationStore.addDataFieldsToDiscoveryReport(schemaAnnotationGUID, dataFields);
 
-                    annotationStore.addAnnotationToDataField(dataFieldGUID, dataProfiles.get(columnNumber));
-                }
+                annotationStore.addAnnotationsToDataFields(dataFieldGUIDs, profileAnnotations);
             }
 
             DataSourcePhysicalStatusAnnotation measurementAnnotation = new DataSourcePhysicalStatusAnnotation();
@@ -238,9 +183,9 @@ public class CSVDiscoveryService extends AuditableDiscoveryService
 
             measurementAnnotation.setModifiedTime(assetConnector.getLastUpdateDate());
             measurementAnnotation.setDataSourceProperties(measurementProperties);
-            measurementAnnotation.setSize(size);
+            measurementAnnotation.setSize((int)Math.min(Integer.MAX_VALUE, size));
 
-            annotationStore.addAnnotationToDiscoveryReport(measurementAnnotation);
+            annotationStore.queueAnnotationForDiscoveryReport(measurementAnnotation);
         }
         catch (ConnectorCheckedException error)
         {
@@ -250,5 +195,76 @@ public class CSVDiscoveryService extends AuditableDiscoveryService
         {
             super.handleUnexpectedException(methodName, error);
         }
+        finally
+        {
+            this.shutdownExecutor();
+        }
+    }
+
+
+    /**
+     * Free up any resources held since the connector is no longer needed.
+     *
+     * @throws ConnectorCheckedException there is a problem within the discovery service.
+     */
+    @Override
+    public  void disconnect() throws ConnectorCheckedException
+    {
+        this.shutdownExecutor();
+
+        super.disconnect();
+    }
+
+
+    /**
+     * Stop the threads used to profile the columns in parallel.
+     */
+    private void shutdownExecutor()
+    {
+        if (executor != null)
+        {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+
+    /**
+     * Retrieve a positive integer value from the configuration properties.
+     *
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is not set or not valid
+     * @return property value
+     */
+    private int getIntegerProperty(String propertyName,
+                                   int    defaultValue)
+    {
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        if (configurationProperties != null)
+        {
+            Object propertyValue = configurationProperties.get(propertyName);
+
+            if (propertyValue != null)
+            {
+                try
+                {
+                    int value = Integer.parseInt(propertyValue.toString());
+
+                    if (value > 0)
+                    {
+                        return value;
+                    }
+                }
+                catch (NumberFormatException error)
+                {
+                    /*
+                     * Use the default value.
+                     */
+                }
+            }
+        }
+
+        return defaultValue;
     }
 }
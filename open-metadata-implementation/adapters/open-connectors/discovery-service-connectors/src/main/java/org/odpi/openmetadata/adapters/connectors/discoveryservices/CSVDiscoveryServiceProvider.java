@@ -2,13 +2,37 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.connectors.discoveryservices;
 
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 import org.odpi.openmetadata.frameworks.discovery.DiscoveryServiceProvider;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * CSVDiscoveryServiceProvider provides the connector provider for the CSV Discovery Service
  */
 public class CSVDiscoveryServiceProvider extends DiscoveryServiceProvider
 {
+    static final String  connectorTypeGUID = "6a9c3ec2-5b4d-4e5f-9e0e-7c8a1ff2a9d4";
+    static final String  connectorTypeName = "CSV Discovery Service Connector";
+    static final String  connectorTypeDescription = "Connector profiles the columns of a CSV file.";
+
+    /**
+     * Number of threads used to profile the columns in parallel.  The default is 1 - no parallel profiling.
+     */
+    public static final String  profilingThreadsProperty = "profilingThreads";
+
+    /**
+     * Maximum number of distinct values listed in the profile of a column.  Columns with more values are
+     * profiled using sketches.
+     */
+    public static final String  maxValueListSizeProperty = "maxValueListSize";
+
+    /**
+     * Number of the most frequent values counted for columns with too many values to list.
+     */
+    public static final String  topValueCountProperty = "topValueCount";
+
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
      * OMRS Connector implementation.
@@ -20,5 +44,22 @@ public class CSVDiscoveryServiceProvider extends DiscoveryServiceProvider
         Class<?>   connectorClass = CSVDiscoveryService.class;
 
         super.setConnectorClassName(connectorClass.getName());
+
+        ConnectorType connectorType = new ConnectorType();
+        connectorType.setType(ConnectorType.getConnectorTypeType());
+        connectorType.setGUID(connectorTypeGUID);
+        connectorType.setQualifiedName(connectorTypeName);
+        connectorType.setDisplayName(connectorTypeName);
+        connectorType.setDescription(connectorTypeDescription);
+        connectorType.setConnectorProviderClassName(this.getClass().getName());
+
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+        recognizedConfigurationProperties.add(profilingThreadsProperty);
+        recognizedConfigurationProperties.add(maxValueListSizeProperty);
+        recognizedConfigurationProperties.add(topValueCountProperty);
+
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
+
+        super.connectorTypeBean = connectorType;
     }
 }
@@ -0,0 +1,94 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.odpi.openmetadata.adapters.connectors.datastore.csvfile.CSVFileStoreConnector;
+import org.odpi.openmetadata.adapters.connectors.datastore.csvfile.CSVRecordProcessor;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+
+
+/**
+ * CSVRecordDiscoveryService is the base class for discovery services that only need to read the records of a CSV file
+ * asset once, in order.  When it is run on its own, it reads the file itself.  When it is run by the
+ * ParallelDiscoveryPipeline, the pipeline reads the file once and passes each record to all of the
+ * CSVRecordDiscoveryServices in the pipeline.
+ *
+ * The subclass implements startScan(), processRecord() and completeScan() rather than start().
+ */
+public abstract class CSVRecordDiscoveryService extends AuditableDiscoveryService implements CSVRecordProcessor
+{
+    private boolean sharedScan = false;
+
+
+    /**
+     * Indicate that the records of the asset are read by the discovery pipeline rather than this discovery service.
+     * This is called before start().
+     *
+     * @param sharedScan boolean flag
+     */
+    void setSharedScan(boolean sharedScan)
+    {
+        this.sharedScan = sharedScan;
+    }
+
+
+    /**
+     * Indicates that the discovery service is completely configured and can begin processing.  If the records are not
+     * being read by a discovery pipeline, the file is read here.
+     *
+     * @throws ConnectorCheckedException there is a problem within the discovery service.
+     */
+    @Override
+    public void start() throws ConnectorCheckedException
+    {
+        final String  methodName = "start";
+
+        super.start();
+
+        if (! sharedScan)
+        {
+            CSVFileStoreConnector assetConnector = null;
+
+            try
+            {
+                assetConnector = (CSVFileStoreConnector)discoveryContext.getAssetStore().getConnectorToAsset();
+            }
+            catch (Throwable error)
+            {
+                super.handleUnexpectedException(methodName, error);
+            }
+
+            this.startScan(assetConnector);
+
+            try
+            {
+                assetConnector.readRecords(this);
+            }
+            catch (Throwable error)
+            {
+                super.handleUnexpectedException(methodName, error);
+            }
+
+            this.completeScan(assetConnector);
+        }
+    }
+
+
+    /**
+     * Prepare to receive the records of the asset.
+     *
+     * @param assetConnector connector to the asset
+     * @throws ConnectorCheckedException there is a problem within the discovery service.
+     */
+    protected abstract void startScan(CSVFileStoreConnector assetConnector) throws ConnectorCheckedException;
+
+
+    /**
+     * Called once all of the records of the asset have been passed to processRecord().  This is where the
+     * annotations are added to the discovery analysis report.
+     *
+     * @param assetConnector connector to the asset
+     * @throws ConnectorCheckedException there is a problem within the discovery service.
+     */
+    protected abstract void completeScan(CSVFileStoreConnector assetConnector) throws ConnectorCheckedException;
+}
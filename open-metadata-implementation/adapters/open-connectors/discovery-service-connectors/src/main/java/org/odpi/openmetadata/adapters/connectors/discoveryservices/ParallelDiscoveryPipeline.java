@@ -0,0 +1,376 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.odpi.openmetadata.adapters.connectors.datastore.csvfile.CSVFileStoreConnector;
+import org.odpi.openmetadata.frameworks.connectors.Connector;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryPipeline;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryService;
+import org.odpi.openmetadata.frameworks.discovery.properties.Annotation;
+import org.odpi.openmetadata.frameworks.discovery.properties.AnnotationStatus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * ParallelDiscoveryPipeline is a discovery pipeline that runs the supplied discovery services concurrently.
+ *
+ * The discovery services that only read the records of the asset (CSVRecordDiscoveryServices) share a single read of the
+ * asset.  Each record is passed to each of these discovery services in turn.  The other discovery services run
+ * independently, alongside the shared read.  The maxParallelism configuration property limits how many run at once.
+ * The shared read needs a CSV file store connector to the asset.  If the asset has a different type of connector,
+ * each CSVRecordDiscoveryService runs independently, as it would outside of this pipeline.
+ *
+ * Once all of the discovery services are complete, an annotation with the elapsed time of each discovery service is
+ * added to the discovery analysis report.
+ */
+public class ParallelDiscoveryPipeline extends DiscoveryPipeline
+{
+    static final String timingAnnotationType = "DiscoveryServiceTimings";
+    static final String sharedScanName       = "SharedScan";
+
+    private static final int defaultMaxParallelism = 4;
+
+
+    /**
+     * This implementation runs the independent discovery services and the shared read of the asset on a pool
+     * of threads.
+     *
+     * @throws ConnectorCheckedException there is a problem within the discovery service.
+     */
+    @Override
+    protected void runDiscoveryPipeline() throws ConnectorCheckedException
+    {
+        final String methodName = "runDiscoveryPipeline";
+
+        List<CSVRecordDiscoveryService> sharedScanServices  = new ArrayList<>();
+        List<DiscoveryService>          independentServices = new ArrayList<>();
+
+        for (DiscoveryService embeddedDiscoveryService : super.embeddedDiscoveryServices)
+        {
+            if (embeddedDiscoveryService instanceof CSVRecordDiscoveryService)
+            {
+                sharedScanServices.add((CSVRecordDiscoveryService)embeddedDiscoveryService);
+            }
+            else if (embeddedDiscoveryService != null)
+            {
+                independentServices.add(embeddedDiscoveryService);
+            }
+        }
+
+        CSVFileStoreConnector sharedAssetConnector = null;
+
+        if (! sharedScanServices.isEmpty())
+        {
+            sharedAssetConnector = this.getSharedAssetConnector();
+
+            if (sharedAssetConnector == null)
+            {
+                for (CSVRecordDiscoveryService sharedScanService : sharedScanServices)
+                {
+                    sharedScanService.setSharedScan(false);
+                    independentServices.add(sharedScanService);
+                }
+
+                sharedScanServices.clear();
+            }
+        }
+
+        Map<String, Long>     serviceTimings = Collections.synchronizedMap(new LinkedHashMap<>());
+        ExecutorService       executor       = Executors.newFixedThreadPool(this.getMaxParallelism());
+        CSVFileStoreConnector assetConnector = sharedAssetConnector;
+
+        try
+        {
+            List<Future<?>> runningServices = new ArrayList<>();
+
+            if (! sharedScanServices.isEmpty())
+            {
+                runningServices.add(executor.submit(() ->
+                                                    {
+                                                        this.runSharedScan(assetConnector, sharedScanServices, serviceTimings);
+                                                        return null;
+                                                    }));
+            }
+
+            for (DiscoveryService independentService : independentServices)
+            {
+                runningServices.add(executor.submit(() ->
+                                                    {
+                                                        this.runDiscoveryService(independentService, serviceTimings);
+                                                        return null;
+                                                    }));
+            }
+
+            for (Future<?> runningService : runningServices)
+            {
+                runningService.get();
+            }
+
+            this.addTimingAnnotation(serviceTimings);
+        }
+        catch (ExecutionException error)
+        {
+            if (error.getCause() instanceof ConnectorCheckedException)
+            {
+                throw (ConnectorCheckedException)error.getCause();
+            }
+
+            super.handleUnexpectedException(methodName, error.getCause());
+        }
+        catch (Throwable error)
+        {
+            super.handleUnexpectedException(methodName, error);
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+
+    /**
+     * Return the connector to the asset if it supports the shared read.
+     *
+     * @return CSV file store connector or null if the asset is not a CSV file
+     */
+    private CSVFileStoreConnector getSharedAssetConnector()
+    {
+        try
+        {
+            Connector assetConnector = super.discoveryContext.getAssetStore().getConnectorToAsset();
+
+            if (assetConnector instanceof CSVFileStoreConnector)
+            {
+                return (CSVFileStoreConnector)assetConnector;
+            }
+        }
+        catch (Throwable error)
+        {
+            /*
+             * The discovery services each ask for the connector themselves and report the error.
+             */
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Run a discovery service that reads the asset itself.
+     *
+     * @param discoveryService discovery service to run
+     * @param serviceTimings map to record the elapsed time of the discovery service
+     * @throws ConnectorCheckedException there is a problem within the discovery service.
+     */
+    private void runDiscoveryService(DiscoveryService  discoveryService,
+                                     Map<String, Long> serviceTimings) throws ConnectorCheckedException
+    {
+        long startTime = System.nanoTime();
+
+        discoveryService.setDiscoveryContext(super.discoveryContext);
+        discoveryService.start();
+        discoveryService.disconnect();
+
+        this.recordTiming(serviceTimings, this.getServiceName(discoveryService), System.nanoTime() - startTime);
+    }
+
+
+    /**
+     * Read the asset once and pass each record to each of the discovery services that share the read.
+     *
+     * @param assetConnector connector to the asset
+     * @param sharedScanServices discovery services that share the read
+     * @param serviceTimings map to record the elapsed time of each discovery service
+     * @throws ConnectorCheckedException there is a problem within one of the discovery services.
+     * @throws Exception there is a problem reading the asset
+     */
+    private void runSharedScan(CSVFileStoreConnector           assetConnector,
+                               List<CSVRecordDiscoveryService> sharedScanServices,
+                               Map<String, Long>               serviceTimings) throws Exception
+    {
+        long   scanStartTime = System.nanoTime();
+        long[] serviceTimes  = new long[sharedScanServices.size()];
+
+        for (int i = 0; i < sharedScanServices.size(); i++)
+        {
+            long                      startTime        = System.nanoTime();
+            CSVRecordDiscoveryService discoveryService = sharedScanServices.get(i);
+
+            discoveryService.setDiscoveryContext(super.discoveryContext);
+            discoveryService.setSharedScan(true);
+            discoveryService.start();
+            discoveryService.startScan(assetConnector);
+
+            serviceTimes[i] = System.nanoTime() - startTime;
+        }
+
+        assetConnector.readRecords((recordNumber, recordValues) ->
+                                   {
+                                       for (int i = 0; i < sharedScanServices.size(); i++)
+                                       {
+                                           long startTime = System.nanoTime();
+
+                                           sharedScanServices.get(i).processRecord(recordNumber, recordValues);
+
+                                           serviceTimes[i] = serviceTimes[i] + (System.nanoTime() - startTime);
+                                       }
+                                   });
+
+        for (int i = 0; i < sharedScanServices.size(); i++)
+        {
+            long                      startTime        = System.nanoTime();
+            CSVRecordDiscoveryService discoveryService = sharedScanServices.get(i);
+
+            discoveryService.completeScan(assetConnector);
+            discoveryService.disconnect();
+
+            serviceTimes[i] = serviceTimes[i] + (System.nanoTime() - startTime);
+
+            this.recordTiming(serviceTimings, this.getServiceName(discoveryService), serviceTimes[i]);
+        }
+
+        this.recordTiming(serviceTimings, sharedScanName, System.nanoTime() - scanStartTime);
+    }
+
+
+    /**
+     * Save the elapsed time of a discovery service.  If two discovery services have the same name, the position
+     * is added to the name of the second one.
+     *
+     * @param serviceTimings map of timings
+     * @param serviceName name of the discovery service
+     * @param elapsedNanos elapsed time in nanoseconds
+     */
+    private void recordTiming(Map<String, Long> serviceTimings,
+                              String            serviceName,
+                              long              elapsedNanos)
+    {
+        synchronized (serviceTimings)
+        {
+            String timingName = serviceName;
+            int    duplicate  = 2;
+
+            while (serviceTimings.containsKey(timingName))
+            {
+                timingName = serviceName + " (" + duplicate++ + ")";
+            }
+
+            serviceTimings.put(timingName, elapsedNanos / 1000000);
+        }
+    }
+
+
+    /**
+     * Queue the annotation that lists the elapsed time in milliseconds of each discovery service for the discovery
+     * analysis report.
+     *
+     * @param serviceTimings map of timings
+     * @throws InvalidParameterException the annotation is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to add the annotation
+     * @throws PropertyServerException there is a problem with the annotation store
+     */
+    private void addTimingAnnotation(Map<String, Long> serviceTimings) throws InvalidParameterException,
+                                                                              UserNotAuthorizedException,
+                                                                              PropertyServerException
+    {
+        Annotation          timingAnnotation = new Annotation();
+        Map<String, String> timingProperties = new LinkedHashMap<>();
+
+        synchronized (serviceTimings)
+        {
+            for (Map.Entry<String, Long> serviceTiming : serviceTimings.entrySet())
+            {
+                timingProperties.put(serviceTiming.getKey(), Long.toString(serviceTiming.getValue()));
+            }
+        }
+
+        timingAnnotation.setAnnotationType(timingAnnotationType);
+        timingAnnotation.setSummary("Elapsed time in milliseconds of each discovery service in the pipeline.");
+        timingAnnotation.setAnnotationStatus(AnnotationStatus.NEW_ANNOTATION);
+        timingAnnotation.setAdditionalProperties(timingProperties);
+
+        super.discoveryContext.getAnnotationStore().queueAnnotationForDiscoveryReport(timingAnnotation);
+    }
+
+
+    /**
+     * Return the name of a discovery service from its connection.
+     *
+     * @param discoveryService discovery service
+     * @return name
+     */
+    private String getServiceName(DiscoveryService discoveryService)
+    {
+        ConnectionProperties connectionProperties = discoveryService.getConnection();
+
+        if (connectionProperties != null)
+        {
+            if (connectionProperties.getDisplayName() != null)
+            {
+                return connectionProperties.getDisplayName();
+            }
+
+            if (connectionProperties.getQualifiedName() != null)
+            {
+                return connectionProperties.getQualifiedName();
+            }
+        }
+
+        return discoveryService.getClass().getSimpleName();
+    }
+
+
+    /**
+     * Return the maximum number of discovery services that can run at once from the configuration properties.
+     *
+     * @return positive number
+     */
+    private int getMaxParallelism()
+    {
+        Map<String, Object> configurationProperties = null;
+
+        if (connectionProperties != null)
+        {
+            configurationProperties = connectionProperties.getConfigurationProperties();
+        }
+
+        if (configurationProperties != null)
+        {
+            Object propertyValue = configurationProperties.get(ParallelDiscoveryPipelineProvider.maxParallelismProperty);
+
+            if (propertyValue != null)
+            {
+                try
+                {
+                    int value = Integer.parseInt(propertyValue.toString());
+
+                    if (value > 0)
+                    {
+                        return value;
+                    }
+                }
+                catch (NumberFormatException error)
+                {
+                    /*
+                     * Use the default value.
+                     */
+                }
+            }
+        }
+
+        return defaultMaxParallelism;
+    }
+}
@@ -0,0 +1,51 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryServiceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ParallelDiscoveryPipelineProvider is the provider for the ParallelDiscoveryPipeline - an ODF discovery pipeline connector.
+ */
+public class ParallelDiscoveryPipelineProvider extends DiscoveryServiceProvider
+{
+    static final String  connectorTypeGUID = "126d2da6-be60-44cd-829c-7e02ef9fde7b";
+    static final String  connectorTypeName = "Parallel Discovery Pipeline Connector";
+    static final String  connectorTypeDescription = "Connector supports the parallel execution of discovery services.";
+
+    /**
+     * Maximum number of discovery services that run at the same time.  The default is 4.
+     */
+    public static final String  maxParallelismProperty = "maxParallelism";
+
+    /**
+     * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
+     * discovery service implementation.
+     */
+    public ParallelDiscoveryPipelineProvider()
+    {
+        Class<?> connectorClass = ParallelDiscoveryPipeline.class;
+
+        super.setConnectorClassName(connectorClass.getName());
+
+        ConnectorType connectorType = new ConnectorType();
+        connectorType.setType(ConnectorType.getConnectorTypeType());
+        connectorType.setGUID(connectorTypeGUID);
+        connectorType.setQualifiedName(connectorTypeName);
+        connectorType.setDisplayName(connectorTypeName);
+        connectorType.setDescription(connectorTypeDescription);
+        connectorType.setConnectorProviderClassName(this.getClass().getName());
+
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+        recognizedConfigurationProperties.add(maxParallelismProperty);
+
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
+
+        super.connectorTypeBean = connectorType;
+    }
+}
@@ -0,0 +1,370 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices.profiling;
+
+import org.odpi.openmetadata.frameworks.discovery.properties.AnnotationStatus;
+import org.odpi.openmetadata.frameworks.discovery.properties.DataProfileAnnotation;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * ColumnProfiler builds up the profile of a single column as its values are passed to it one at a time.
+ * Each value is looked at once and the memory used does not depend on the number of values.  The exact values and
+ * their counts are kept until the column has more than maxValueListSize distinct values.  After that, the
+ * distinct count comes from a HyperLogLog sketch and the value counts come from a frequent values sketch.
+ *
+ * A ColumnProfiler is not thread-safe.  The RecordProfiler makes sure that only one thread
+ * updates it at a time.
+ */
+public class ColumnProfiler
+{
+    public static final String STRING_TYPE_NAME  = "string";
+    public static final String DATE_TYPE_NAME    = "date";
+    public static final String INT_TYPE_NAME     = "int";
+    public static final String LONG_TYPE_NAME    = "long";
+    public static final String BOOLEAN_TYPE_NAME = "boolean";
+    public static final String FLOAT_TYPE_NAME   = "float";
+
+    public static final String RECORD_COUNT_NAME   = "recordCount";
+    public static final String NULL_COUNT_NAME     = "nullCount";
+    public static final String DISTINCT_COUNT_NAME = "distinctCount";
+    public static final String MIN_LENGTH_NAME     = "minLength";
+    public static final String MAX_LENGTH_NAME     = "maxLength";
+
+    public static final String DISTINCT_COUNT_ESTIMATED_FLAG = "distinctCountEstimated";
+    public static final String VALUE_COUNT_ESTIMATED_FLAG    = "valueCountEstimated";
+
+    private static final double[] reportedPercentiles = { 5, 25, 50, 75, 95 };
+
+    private final String               columnName;
+    private final int                  maxValueListSize;
+    private final int                  topValueCount;
+
+    private long                       valueCount     = 0;
+    private long                       nullCount      = 0;
+    private int                        minLength      = Integer.MAX_VALUE;
+    private int                        maxLength      = 0;
+    private String                     inferredType   = null;
+    private String                     minStringValue = null;
+    private String                     maxStringValue = null;
+    private double                     minNumber      = Double.POSITIVE_INFINITY;
+    private double                     maxNumber      = Double.NEGATIVE_INFINITY;
+    private double                     numberTotal    = 0;
+
+    private Map<String, Long>          exactValueCounts = new LinkedHashMap<>();
+    private final DistinctValueSketch  distinctValues   = new DistinctValueSketch();
+    private final FrequentValuesSketch frequentValues;
+    private QuantileSketch             numberQuantiles  = new QuantileSketch();
+
+
+    /**
+     * Constructor
+     *
+     * @param columnName name of the column
+     * @param maxValueListSize maximum number of distinct values that are listed in the profile
+     * @param topValueCount number of the most frequent values that are counted once there are too many values to list
+     */
+    public ColumnProfiler(String columnName,
+                          int    maxValueListSize,
+                          int    topValueCount)
+    {
+        this.columnName = columnName;
+        this.maxValueListSize = maxValueListSize;
+        this.topValueCount = topValueCount;
+        this.frequentValues = new FrequentValuesSketch(topValueCount * 10);
+    }
+
+
+    /**
+     * Return the name of the column.
+     *
+     * @return column name
+     */
+    public String getColumnName()
+    {
+        return columnName;
+    }
+
+
+    /**
+     * Add the next value from the column.  Null and empty values are counted as nulls.
+     *
+     * @param value field value
+     */
+    public void addValue(String value)
+    {
+        if ((value == null) || (value.isEmpty()))
+        {
+            nullCount++;
+            return;
+        }
+
+        valueCount++;
+
+        minLength = Math.min(minLength, value.length());
+        maxLength = Math.max(maxLength, value.length());
+
+        if ((minStringValue == null) || (value.compareTo(minStringValue) < 0))
+        {
+            minStringValue = value;
+        }
+        if ((maxStringValue == null) || (value.compareTo(maxStringValue) > 0))
+        {
+            maxStringValue = value;
+        }
+
+        distinctValues.add(value);
+        frequentValues.add(value);
+
+        if (exactValueCounts != null)
+        {
+            exactValueCounts.merge(value, 1L, Long::sum);
+
+            if (exactValueCounts.size() > maxValueListSize)
+            {
+                exactValueCounts = null;
+            }
+        }
+
+        if (! STRING_TYPE_NAME.equals(inferredType))
+        {
+            inferredType = this.combineTypes(inferredType, this.getValueType(value));
+
+            if (this.isNumericType(inferredType))
+            {
+                double number = Double.parseDouble(value);
+
+                minNumber = Math.min(minNumber, number);
+                maxNumber = Math.max(maxNumber, number);
+                numberTotal = numberTotal + number;
+                numberQuantiles.add(number);
+            }
+            else
+            {
+                numberQuantiles = null;
+            }
+        }
+    }
+
+
+    /**
+     * Return the best guess for the type of the values in the column.
+     *
+     * @return type name or null if the column only contains nulls
+     */
+    public String getInferredDataType()
+    {
+        return inferredType;
+    }
+
+
+    /**
+     * Return the profile of the column as an annotation.
+     *
+     * @return data profile annotation
+     */
+    public DataProfileAnnotation getDataProfileAnnotation()
+    {
+        DataProfileAnnotation dataProfile = new DataProfileAnnotation();
+
+        dataProfile.setAnnotationStatus(AnnotationStatus.NEW_ANNOTATION);
+        dataProfile.setInferredDataType(inferredType);
+        dataProfile.setLength(maxLength);
+        dataProfile.setInferredLength(maxLength);
+
+        Map<String, Long>    profileCounts = new HashMap<>();
+        Map<String, Boolean> profileFlags  = new HashMap<>();
+
+        profileCounts.put(RECORD_COUNT_NAME, valueCount + nullCount);
+        profileCounts.put(NULL_COUNT_NAME, nullCount);
+        profileCounts.put(MIN_LENGTH_NAME, (long)(valueCount == 0 ? 0 : minLength));
+        profileCounts.put(MAX_LENGTH_NAME, (long)maxLength);
+
+        Map<String, Long> valueCounts;
+
+        if (exactValueCounts != null)
+        {
+            valueCounts = exactValueCounts;
+            profileCounts.put(DISTINCT_COUNT_NAME, (long)exactValueCounts.size());
+            dataProfile.setValueList(new ArrayList<>(exactValueCounts.keySet()));
+        }
+        else
+        {
+            valueCounts = frequentValues.getTopValues(topValueCount);
+            profileCounts.put(DISTINCT_COUNT_NAME, distinctValues.getEstimate());
+        }
+
+        profileFlags.put(DISTINCT_COUNT_ESTIMATED_FLAG, exactValueCounts == null);
+        profileFlags.put(VALUE_COUNT_ESTIMATED_FLAG, exactValueCounts == null);
+
+        if (! valueCounts.isEmpty())
+        {
+            Map<String, Integer> valueCount = new LinkedHashMap<>();
+
+            for (Map.Entry<String, Long> entry : valueCounts.entrySet())
+            {
+                valueCount.put(entry.getKey(), (int)Math.min(Integer.MAX_VALUE, entry.getValue()));
+            }
+
+            dataProfile.setValueCount(valueCount);
+        }
+
+        dataProfile.setProfileCounts(profileCounts);
+        dataProfile.setProfileFlags(profileFlags);
+
+        if ((this.isNumericType(inferredType)) && (numberQuantiles != null))
+        {
+            Map<String, String> profileProperties = new LinkedHashMap<>();
+
+            for (double percentile : reportedPercentiles)
+            {
+                profileProperties.put("percentile" + (int)percentile, this.formatNumber(numberQuantiles.getQuantile(percentile / 100)));
+            }
+
+            dataProfile.setProfileProperties(profileProperties);
+            dataProfile.setValueRangeFrom(this.formatNumber(minNumber));
+            dataProfile.setValueRangeTo(this.formatNumber(maxNumber));
+            dataProfile.setAverageValue(Double.toString(numberTotal / valueCount));
+        }
+        else
+        {
+            dataProfile.setValueRangeFrom(minStringValue);
+            dataProfile.setValueRangeTo(maxStringValue);
+        }
+
+        return dataProfile;
+    }
+
+
+    /**
+     * Return the type of a single value.
+     *
+     * @param value non-empty field value
+     * @return type name
+     */
+    private String getValueType(String value)
+    {
+        if (("true".equalsIgnoreCase(value)) || ("false".equalsIgnoreCase(value)))
+        {
+            return BOOLEAN_TYPE_NAME;
+        }
+
+        char firstChar = value.charAt(0);
+
+        if ((Character.isDigit(firstChar)) || (firstChar == '-') || (firstChar == '+') || (firstChar == '.'))
+        {
+            try
+            {
+                long number = Long.parseLong(value);
+
+                if ((number >= Integer.MIN_VALUE) && (number <= Integer.MAX_VALUE))
+                {
+                    return INT_TYPE_NAME;
+                }
+
+                return LONG_TYPE_NAME;
+            }
+            catch (NumberFormatException notLong)
+            {
+                /*
+                 * Try the next type.
+                 */
+            }
+
+            if (Character.isDigit(value.charAt(value.length() - 1)))
+            {
+                try
+                {
+                    Double.parseDouble(value);
+
+                    return FLOAT_TYPE_NAME;
+                }
+                catch (NumberFormatException notFloat)
+                {
+                    /*
+                     * Try the next type.
+                     */
+                }
+            }
+
+            try
+            {
+                LocalDate.parse(value);
+
+                return DATE_TYPE_NAME;
+            }
+            catch (DateTimeParseException notDate)
+            {
+                /*
+                 * Drop through to string.
+                 */
+            }
+        }
+
+        return STRING_TYPE_NAME;
+    }
+
+
+    /**
+     * Return the type that covers both the existing guess and the type of the latest value.
+     *
+     * @param existingType current type guess (null if no values yet)
+     * @param valueType type of the latest value
+     * @return new best guess
+     */
+    private String combineTypes(String existingType,
+                                String valueType)
+    {
+        if ((existingType == null) || (existingType.equals(valueType)))
+        {
+            return valueType;
+        }
+
+        if ((this.isNumericType(existingType)) && (this.isNumericType(valueType)))
+        {
+            if ((FLOAT_TYPE_NAME.equals(existingType)) || (FLOAT_TYPE_NAME.equals(valueType)))
+            {
+                return FLOAT_TYPE_NAME;
+            }
+
+            return LONG_TYPE_NAME;
+        }
+
+        return STRING_TYPE_NAME;
+    }
+
+
+    /**
+     * Return whether the type is one of the numeric types.
+     *
+     * @param typeName type name
+     * @return boolean flag
+     */
+    private boolean isNumericType(String typeName)
+    {
+        return (INT_TYPE_NAME.equals(typeName)) || (LONG_TYPE_NAME.equals(typeName)) || (FLOAT_TYPE_NAME.equals(typeName));
+    }
+
+
+    /**
+     * Format a number so that integer columns are not shown with a decimal point.
+     *
+     * @param number number to format
+     * @return formatted value
+     */
+    private String formatNumber(double number)
+    {
+        if (FLOAT_TYPE_NAME.equals(inferredType))
+        {
+            return Double.toString(number);
+        }
+
+        return Long.toString(Math.round(number));
+    }
+}
@@ -0,0 +1,123 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices.profiling;
+
+
+/**
+ * DistinctValueSketch estimates the number of distinct values in a column using the HyperLogLog algorithm.
+ * It uses a fixed amount of memory (2 to the power of the precision bytes) however many values are added.
+ * With the default precision of 12 the standard error of the estimate is around 1.6%.
+ */
+public class DistinctValueSketch
+{
+    public static final int DEFAULT_PRECISION = 12;
+
+    private final int    precision;
+    private final byte[] registers;
+
+
+    /**
+     * Constructor using the default precision.
+     */
+    public DistinctValueSketch()
+    {
+        this(DEFAULT_PRECISION);
+    }
+
+
+    /**
+     * Constructor
+     *
+     * @param precision number of bits of the hash used to select a register (4 to 16)
+     */
+    public DistinctValueSketch(int precision)
+    {
+        this.precision = Math.max(4, Math.min(16, precision));
+        this.registers = new byte[1 << this.precision];
+    }
+
+
+    /**
+     * Add a value to the sketch.
+     *
+     * @param value value to add
+     */
+    public void add(String value)
+    {
+        if (value != null)
+        {
+            long hash     = hash(value);
+            int  register = (int)(hash >>> (Long.SIZE - precision));
+
+            /*
+             * The guard bit limits the rank when the remaining bits of the hash are all zero.
+             */
+            long remainingBits = (hash << precision) | (1L << (precision - 1));
+            byte rank          = (byte)(Long.numberOfLeadingZeros(remainingBits) + 1);
+
+            if (rank > registers[register])
+            {
+                registers[register] = rank;
+            }
+        }
+    }
+
+
+    /**
+     * Return the estimated number of distinct values added to the sketch.
+     *
+     * @return estimate
+     */
+    public long getEstimate()
+    {
+        int    registerCount = registers.length;
+        double sum           = 0;
+        int    emptyRegisters = 0;
+
+        for (byte rank : registers)
+        {
+            sum = sum + 1.0 / (1L << rank);
+
+            if (rank == 0)
+            {
+                emptyRegisters++;
+            }
+        }
+
+        double alpha    = 0.7213 / (1 + 1.079 / registerCount);
+        double estimate = alpha * registerCount * registerCount / sum;
+
+        /*
+         * Linear counting is more accurate while many of the registers are still empty.
+         */
+        if ((estimate <= 2.5 * registerCount) && (emptyRegisters > 0))
+        {
+            estimate = registerCount * Math.log((double)registerCount / emptyRegisters);
+        }
+
+        return Math.round(estimate);
+    }
+
+
+    /**
+     * Return a 64 bit hash of the value.  This is the FNV-1a hash of the characters followed by the
+     * MurmurHash3 finalizer to spread the bits.
+     *
+     * @param value value to hash
+     * @return hash
+     */
+    private static long hash(String value)
+    {
+        long hash = 0xcbf29ce484222325L;
+
+        for (int i = 0; i < value.length(); i++)
+        {
+            hash = (hash ^ value.charAt(i)) * 0x100000001b3L;
+        }
+
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+
+        return hash ^ (hash >>> 33);
+    }
+}
@@ -0,0 +1,123 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices.profiling;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+
+/**
+ * FrequentValuesSketch finds the most frequent values in a column using the Space-Saving algorithm.  It keeps a
+ * fixed number of counters.  When a new value arrives and all of the counters are in use, the counter with the lowest
+ * count is taken over by the new value.  Any value that occurs more often than the number of values divided by
+ * the number of counters is guaranteed to be found.  The returned counts may over-estimate by at most the
+ * count of the counter that was taken over.  This over-estimate is remembered so that values that have
+ * not been seen more than once (such as the values of a unique key) are not reported as frequent.
+ */
+public class FrequentValuesSketch
+{
+    private final int                     capacity;
+    private final Map<String, Counter>    counters        = new HashMap<>();
+    private final TreeSet<Counter>        orderedCounters = new TreeSet<>(Comparator.comparingLong((Counter counter) -> counter.count)
+                                                                                    .thenComparingLong(counter -> counter.sequence));
+    private long                          nextSequence    = 0;
+
+
+    /**
+     * Constructor
+     *
+     * @param capacity number of counters to keep
+     */
+    public FrequentValuesSketch(int capacity)
+    {
+        this.capacity = Math.max(1, capacity);
+    }
+
+
+    /**
+     * Add a value to the sketch.
+     *
+     * @param value value to add
+     */
+    public void add(String value)
+    {
+        if (value == null)
+        {
+            return;
+        }
+
+        Counter counter = counters.get(value);
+
+        if (counter != null)
+        {
+            orderedCounters.remove(counter);
+            counter.count++;
+        }
+        else if (counters.size() < capacity)
+        {
+            counter = new Counter(value, 1, 0);
+            counters.put(value, counter);
+        }
+        else
+        {
+            Counter smallestCounter = orderedCounters.pollFirst();
+
+            counters.remove(smallestCounter.value);
+
+            counter = new Counter(value, smallestCounter.count + 1, smallestCounter.count);
+            counters.put(value, counter);
+        }
+
+        counter.sequence = nextSequence++;
+        orderedCounters.add(counter);
+    }
+
+
+    /**
+     * Return the most frequent values with their (estimated) counts, most frequent first.  Only values that
+     * are known to occur more than once are returned.
+     *
+     * @param maxValues maximum number of values to return
+     * @return map of value to count
+     */
+    public Map<String, Long> getTopValues(int maxValues)
+    {
+        Map<String, Long> topValues = new LinkedHashMap<>();
+        Iterator<Counter> iterator  = orderedCounters.descendingIterator();
+
+        while ((iterator.hasNext()) && (topValues.size() < maxValues))
+        {
+            Counter counter = iterator.next();
+
+            if (counter.count - counter.error > 1)
+            {
+                topValues.put(counter.value, counter.count);
+            }
+        }
+
+        return topValues;
+    }
+
+
+    /**
+     * Counter for a single value.
+     */
+    private static class Counter
+    {
+        private final String value;
+        private final long   error;
+        private long         count;
+        private long         sequence = 0;
+
+        private Counter(String value, long count, long error)
+        {
+            this.value = value;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
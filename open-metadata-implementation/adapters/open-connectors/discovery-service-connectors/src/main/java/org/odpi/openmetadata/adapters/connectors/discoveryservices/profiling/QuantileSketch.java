@@ -0,0 +1,192 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices.profiling;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * QuantileSketch estimates the quantiles (such as the median) of the numeric values in a column.  It is a
+ * stack of compactors in the style of the KLL sketch.  Values are added to the first level.  When a level is full,
+ * it is sorted and every other value is promoted to the next level where it represents twice as many values.
+ * The memory used grows with the logarithm of the number of values so it stays small even for very large files.
+ */
+public class QuantileSketch
+{
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final int          capacity;
+    private final List<Level>  levels  = new ArrayList<>();
+    private long               count   = 0;
+    private boolean            promoteOddItems = false;
+
+
+    /**
+     * Constructor using the default capacity.
+     */
+    public QuantileSketch()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+
+    /**
+     * Constructor
+     *
+     * @param capacity number of values held in each level - larger values give more accurate estimates
+     */
+    public QuantileSketch(int capacity)
+    {
+        this.capacity = Math.max(8, capacity + (capacity % 2));
+    }
+
+
+    /**
+     * Add a value to the sketch.
+     *
+     * @param value value to add
+     */
+    public void add(double value)
+    {
+        this.addToLevel(0, value);
+        count++;
+    }
+
+
+    /**
+     * Return the number of values added to the sketch.
+     *
+     * @return count
+     */
+    public long getCount()
+    {
+        return count;
+    }
+
+
+    /**
+     * Return the estimated value at the requested fraction of the sorted values.  For example, 0.5 returns the median.
+     *
+     * @param fraction value between 0 and 1
+     * @return estimated value or NaN if no values have been added
+     */
+    public double getQuantile(double fraction)
+    {
+        int itemCount = 0;
+
+        for (Level level : levels)
+        {
+            itemCount = itemCount + level.size;
+        }
+
+        if (itemCount == 0)
+        {
+            return Double.NaN;
+        }
+
+        double[] values      = new double[itemCount];
+        long[]   weights     = new long[itemCount];
+        Integer[] order      = new Integer[itemCount];
+        long     totalWeight = 0;
+        int      index       = 0;
+
+        for (int levelNumber = 0; levelNumber < levels.size(); levelNumber++)
+        {
+            Level level = levels.get(levelNumber);
+
+            for (int i = 0; i < level.size; i++)
+            {
+                values[index] = level.items[i];
+                weights[index] = 1L << levelNumber;
+                order[index] = index;
+                totalWeight = totalWeight + weights[index];
+                index++;
+            }
+        }
+
+        Arrays.sort(order, (first, second) -> Double.compare(values[first], values[second]));
+
+        double targetWeight     = Math.max(0, Math.min(1, fraction)) * totalWeight;
+        long   cumulativeWeight = 0;
+
+        for (Integer itemIndex : order)
+        {
+            cumulativeWeight = cumulativeWeight + weights[itemIndex];
+
+            if (cumulativeWeight >= targetWeight)
+            {
+                return values[itemIndex];
+            }
+        }
+
+        return values[order[itemCount - 1]];
+    }
+
+
+    /**
+     * Add a value to a level, compacting the level first if it is full.
+     *
+     * @param levelNumber level to add to
+     * @param value value to add
+     */
+    private void addToLevel(int    levelNumber,
+                            double value)
+    {
+        if (levelNumber == levels.size())
+        {
+            levels.add(new Level(capacity));
+        }
+
+        Level level = levels.get(levelNumber);
+
+        if (level.size == capacity)
+        {
+            this.compact(levelNumber);
+        }
+
+        level.items[level.size] = value;
+        level.size++;
+    }
+
+
+    /**
+     * Sort a full level and promote every other value to the next level.  The choice of odd or even
+     * values alternates so that the estimates are not biased in one direction.
+     *
+     * @param levelNumber level to compact
+     */
+    private void compact(int levelNumber)
+    {
+        Level level = levels.get(levelNumber);
+
+        Arrays.sort(level.items, 0, level.size);
+
+        int first = promoteOddItems ? 1 : 0;
+
+        promoteOddItems = ! promoteOddItems;
+
+        for (int i = first; i < level.size; i = i + 2)
+        {
+            this.addToLevel(levelNumber + 1, level.items[i]);
+        }
+
+        level.size = 0;
+    }
+
+
+    /**
+     * Level holds the values of one of the compactors.
+     */
+    private static class Level
+    {
+        private final double[] items;
+        private int            size = 0;
+
+        private Level(int capacity)
+        {
+            this.items = new double[capacity];
+        }
+    }
+}
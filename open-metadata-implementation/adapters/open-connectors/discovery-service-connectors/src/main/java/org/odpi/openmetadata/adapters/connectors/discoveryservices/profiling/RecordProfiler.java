@@ -0,0 +1,231 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices.profiling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+
+/**
+ * RecordProfiler is the streaming profiling engine used by the discovery services.  It is passed each record of a
+ * tabular data source once, in order, and builds the profile of every column using a ColumnProfiler.
+ *
+ * If an executor is supplied, the columns are profiled in parallel.  The records are collected into batches and
+ * each column of a batch is profiled by a separate task while the caller carries on reading the next batch.
+ * The tasks for a batch are only submitted once the tasks for the previous batch are complete, so each ColumnProfiler
+ * is only updated by one thread at a time.
+ */
+public class RecordProfiler
+{
+    public static final int DEFAULT_MAX_VALUE_LIST_SIZE = 100;
+    public static final int DEFAULT_TOP_VALUE_COUNT     = 10;
+    public static final int DEFAULT_BATCH_SIZE          = 1000;
+
+    private final List<ColumnProfiler> columnProfilers = new ArrayList<>();
+    private final ExecutorService      executor;
+    private final int                  batchSize;
+
+    private List<List<String>>         currentBatch     = new ArrayList<>();
+    private List<Future<?>>            runningTasks     = new ArrayList<>();
+    private long                       recordCount      = 0;
+    private Exception                  profilingFailure = null;
+
+
+    /**
+     * Constructor
+     *
+     * @param columnNames names of the columns in each record
+     * @param maxValueListSize maximum number of distinct values that are listed in the profile of a column
+     * @param topValueCount number of the most frequent values that are counted once there are too many values to list
+     * @param executor executor for profiling the columns in parallel - or null to profile them in the caller's thread
+     * @param batchSize number of records passed to each parallel task
+     */
+    public RecordProfiler(List<String>    columnNames,
+                          int             maxValueListSize,
+                          int             topValueCount,
+                          ExecutorService executor,
+                          int             batchSize)
+    {
+        if (columnNames != null)
+        {
+            for (String columnName : columnNames)
+            {
+                columnProfilers.add(new ColumnProfiler(columnName, maxValueListSize, topValueCount));
+            }
+        }
+
+        this.executor = executor;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+
+    /**
+     * Pass the next record to the profiler.  Values beyond the last column are ignored and missing values
+     * are counted as nulls.  If one of the parallel tasks fails, the remaining records are ignored and the
+     * failure is reported by complete().
+     *
+     * @param recordValues values of the record in column order (null for an empty record)
+     */
+    public void addRecord(List<String> recordValues)
+    {
+        recordCount++;
+
+        if (executor == null)
+        {
+            this.profileRecord(recordValues);
+        }
+        else if (profilingFailure == null)
+        {
+            currentBatch.add(recordValues);
+
+            if (currentBatch.size() >= batchSize)
+            {
+                try
+                {
+                    this.submitBatch();
+                }
+                catch (InterruptedException error)
+                {
+                    Thread.currentThread().interrupt();
+                    profilingFailure = error;
+                }
+                catch (ExecutionException error)
+                {
+                    profilingFailure = error;
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Finish profiling any outstanding records.  This must be called before the column profiles are retrieved.
+     *
+     * @throws InterruptedException the thread was interrupted while waiting for the profiling to finish
+     * @throws ExecutionException one of the parallel tasks failed
+     */
+    public void complete() throws InterruptedException, ExecutionException
+    {
+        if (profilingFailure instanceof InterruptedException)
+        {
+            throw (InterruptedException)profilingFailure;
+        }
+        else if (profilingFailure != null)
+        {
+            throw (ExecutionException)profilingFailure;
+        }
+
+        if (! currentBatch.isEmpty())
+        {
+            this.submitBatch();
+        }
+
+        this.waitForRunningTasks();
+    }
+
+
+    /**
+     * Return the number of records passed to the profiler.
+     *
+     * @return count
+     */
+    public long getRecordCount()
+    {
+        return recordCount;
+    }
+
+
+    /**
+     * Return the profilers for each column in column order.
+     *
+     * @return list of column profilers
+     */
+    public List<ColumnProfiler> getColumnProfilers()
+    {
+        return columnProfilers;
+    }
+
+
+    /**
+     * Profile a record in the caller's thread.
+     *
+     * @param recordValues values of the record
+     */
+    private void profileRecord(List<String> recordValues)
+    {
+        for (int columnPosition = 0; columnPosition < columnProfilers.size(); columnPosition++)
+        {
+            columnProfilers.get(columnPosition).addValue(this.getValue(recordValues, columnPosition));
+        }
+    }
+
+
+    /**
+     * Wait for the previous batch to be profiled and then hand the current batch to the executor - one
+     * task per column.
+     *
+     * @throws InterruptedException the thread was interrupted while waiting for the previous batch
+     * @throws ExecutionException one of the parallel tasks failed
+     */
+    private void submitBatch() throws InterruptedException, ExecutionException
+    {
+        this.waitForRunningTasks();
+
+        List<List<String>> batch = currentBatch;
+
+        currentBatch = new ArrayList<>(batchSize);
+
+        for (int columnPosition = 0; columnPosition < columnProfilers.size(); columnPosition++)
+        {
+            final int            position       = columnPosition;
+            final ColumnProfiler columnProfiler = columnProfilers.get(columnPosition);
+
+            runningTasks.add(executor.submit(() ->
+                                             {
+                                                 for (List<String> recordValues : batch)
+                                                 {
+                                                     columnProfiler.addValue(this.getValue(recordValues, position));
+                                                 }
+                                             }));
+        }
+    }
+
+
+    /**
+     * Wait for the tasks of the previous batch to complete.
+     *
+     * @throws InterruptedException the thread was interrupted while waiting
+     * @throws ExecutionException one of the tasks failed
+     */
+    private void waitForRunningTasks() throws InterruptedException, ExecutionException
+    {
+        for (Future<?> runningTask : runningTasks)
+        {
+            runningTask.get();
+        }
+
+        runningTasks.clear();
+    }
+
+
+    /**
+     * Return the value for a column from a record.
+     *
+     * @param recordValues values of the record
+     * @param columnPosition position of the column
+     * @return value or null if the record is too short
+     */
+    private String getValue(List<String> recordValues,
+                            int          columnPosition)
+    {
+        if ((recordValues == null) || (columnPosition >= recordValues.size()))
+        {
+            return null;
+        }
+
+        return recordValues.get(columnPosition);
+    }
+}
@@ -0,0 +1,566 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.odpi.openmetadata.adapters.connectors.datastore.csvfile.CSVFileStoreConnector;
+import org.odpi.openmetadata.adapters.connectors.datastore.csvfile.CSVRecordProcessor;
+import org.odpi.openmetadata.frameworks.connectors.Connector;
+import org.odpi.openmetadata.frameworks.connectors.ConnectorBase;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.AssetUniverse;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryAnnotationStore;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryAssetStore;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryContext;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryService;
+import org.odpi.openmetadata.frameworks.discovery.ffdc.ODFErrorCode;
+import org.odpi.openmetadata.frameworks.discovery.properties.Annotation;
+import org.odpi.openmetadata.frameworks.discovery.properties.AnnotationStatus;
+import org.odpi.openmetadata.frameworks.discovery.properties.DataField;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Verify that the ParallelDiscoveryPipeline shares one read of a CSV file between the record discovery services,
+ * runs the other discovery services alongside it, reports their timings and errors, and respects maxParallelism.
+ */
+public class ParallelDiscoveryPipelineTest
+{
+    private static final List<List<String>> testRecords = Arrays.asList(Arrays.asList("1", "one"),
+                                                                        Arrays.asList("2", "two"),
+                                                                        Arrays.asList("3", "three"));
+
+
+    /**
+     * CSV file store connector that returns the test records without reading a file.
+     */
+    private static class InMemoryCSVFileStoreConnector extends CSVFileStoreConnector
+    {
+        AtomicInteger readCount = new AtomicInteger(0);
+
+        @Override
+        public void readRecords(CSVRecordProcessor recordProcessor)
+        {
+            readCount.incrementAndGet();
+
+            for (int i = 0; i < testRecords.size(); i++)
+            {
+                recordProcessor.processRecord(i, testRecords.get(i));
+            }
+        }
+    }
+
+
+    /**
+     * Connector to an asset that is not a CSV file.
+     */
+    private static class OtherAssetConnector extends ConnectorBase
+    {
+    }
+
+
+    /**
+     * Asset store that returns the supplied connector.
+     */
+    private static class TestAssetStore extends DiscoveryAssetStore
+    {
+        private Connector assetConnector;
+
+        TestAssetStore(Connector assetConnector)
+        {
+            super("TestAsset", "TestUser");
+
+            this.assetConnector = assetConnector;
+        }
+
+        @Override
+        protected Connector getConnectorByConnection(Connection connection) { return assetConnector; }
+
+        @Override
+        protected Connection getConnectionForAsset() { return new Connection(); }
+
+        @Override
+        public AssetUniverse getAssetProperties() { return null; }
+
+        @Override
+        public void logAssetAuditMessage(String discoveryService, String message) { }
+    }
+
+
+    /**
+     * Annotation store that records the annotations added to the discovery report.
+     */
+    private static class TestAnnotationStore extends DiscoveryAnnotationStore
+    {
+        List<Annotation> reportAnnotations = Collections.synchronizedList(new ArrayList<>());
+
+        TestAnnotationStore()
+        {
+            super("TestUser", "TestAsset", null);
+        }
+
+        @Override
+        public String addAnnotationToDiscoveryReport(Annotation annotation)
+        {
+            reportAnnotations.add(annotation);
+
+            return "Annotation" + reportAnnotations.size();
+        }
+
+        @Override
+        public List<String> getTypesOfAnnotation() { return null; }
+
+        @Override
+        public Map<String, String> getTypesOfAnnotationWithDescriptions() { return null; }
+
+        @Override
+        public List<Annotation> getPreviousAnnotationsForAsset(int startingFrom, int maximumResults) { return null; }
+
+        @Override
+        public List<Annotation> getPreviousAnnotationsForAsset(AnnotationStatus status, int startingFrom, int maximumResults) { return null; }
+
+        @Override
+        public List<Annotation> getNewAnnotationsForAsset(int startingFrom, int maximumResults) { return null; }
+
+        @Override
+        public List<Annotation> getExtendedAnnotations(String annotationGUID, int startingFrom, int maximumResults) { return null; }
+
+        @Override
+        public Annotation getAnnotation(String annotationGUID) { return null; }
+
+        @Override
+        public String addAnnotationToAnnotation(String parentAnnotationGUID, Annotation annotation) { return null; }
+
+        @Override
+        public void updateAnnotation(Annotation annotation) { }
+
+        @Override
+        public void deleteAnnotation(String annotationGUID) { }
+
+        @Override
+        public List<DataField> getPreviousDataFieldsForAsset(int startingFrom, int maximumResults) { return null; }
+
+        @Override
+        public List<DataField> getNewDataFieldsForAsset(int startingFrom, int maximumResults) { return null; }
+
+        @Override
+        public List<DataField> getNestedDataFields(String parentDataFieldGUID, int startingFrom, int maximumResults) { return null; }
+
+        @Override
+        public DataField getDataField(String dataFieldGUID) { return null; }
+
+        @Override
+        public String addDataFieldToDiscoveryReport(String annotationGUID, DataField dataField) { return null; }
+
+        @Override
+        public String addDataFieldToDataField(String parentDataFieldGUID, DataField dataField) { return null; }
+
+        @Override
+        public String addAnnotationToDataField(String parentDataFieldGUID, Annotation annotation) { return null; }
+
+        @Override
+        public void updateDataField(DataField dataField) { }
+
+        @Override
+        public void deleteDataField(String dataFieldGUID) { }
+    }
+
+
+    /**
+     * Record discovery service that saves the records it is passed.
+     */
+    private static class RecordingRecordService extends CSVRecordDiscoveryService
+    {
+        List<List<String>>        records         = new ArrayList<>();
+        int                       startScanCount  = 0;
+        int                       completeCount   = 0;
+        ConnectorCheckedException completeFailure = null;
+
+        @Override
+        protected void startScan(CSVFileStoreConnector assetConnector)
+        {
+            startScanCount++;
+        }
+
+        @Override
+        public void processRecord(int recordNumber, List<String> recordValues)
+        {
+            assertEquals(recordNumber, records.size());
+
+            records.add(recordValues);
+        }
+
+        @Override
+        protected void completeScan(CSVFileStoreConnector assetConnector) throws ConnectorCheckedException
+        {
+            completeCount++;
+
+            if (completeFailure != null)
+            {
+                throw completeFailure;
+            }
+        }
+    }
+
+
+    /**
+     * Discovery service that reads the asset itself.  It counts how many of these services are running at once
+     * and can wait for a number of them to be running together.
+     */
+    private static class IndependentService extends DiscoveryService
+    {
+        private AtomicInteger  activeCount;
+        private AtomicInteger  maxActiveCount;
+        private CountDownLatch runningTogether;
+        private long           sleepTime;
+
+        boolean                started        = false;
+        boolean                ranTogether    = false;
+        RuntimeException       startFailure   = null;
+
+        IndependentService(AtomicInteger  activeCount,
+                           AtomicInteger  maxActiveCount,
+                           CountDownLatch runningTogether,
+                           long           sleepTime)
+        {
+            this.activeCount = activeCount;
+            this.maxActiveCount = maxActiveCount;
+            this.runningTogether = runningTogether;
+            this.sleepTime = sleepTime;
+        }
+
+        @Override
+        public void start() throws ConnectorCheckedException
+        {
+            super.start();
+
+            started = true;
+
+            if (startFailure != null)
+            {
+                throw startFailure;
+            }
+
+            maxActiveCount.accumulateAndGet(activeCount.incrementAndGet(), Math::max);
+
+            try
+            {
+                if (runningTogether != null)
+                {
+                    runningTogether.countDown();
+                    ranTogether = runningTogether.await(5, TimeUnit.SECONDS);
+                }
+
+                Thread.sleep(sleepTime);
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+            finally
+            {
+                activeCount.decrementAndGet();
+            }
+        }
+    }
+
+
+    /**
+     * Initialize a connector with a connection that has the supplied display name and configuration properties.
+     *
+     * @param connector connector to initialize
+     * @param displayName name used in the timing annotation
+     * @param configurationProperties configuration properties or null
+     * @param <T> type of connector
+     * @return initialized connector
+     */
+    private <T extends ConnectorBase> T initialize(T                   connector,
+                                                   String              displayName,
+                                                   Map<String, Object> configurationProperties)
+    {
+        Connection connection = new Connection();
+
+        connection.setDisplayName(displayName);
+        connection.setConfigurationProperties(configurationProperties);
+
+        connector.initialize(displayName, new ConnectionProperties(connection));
+
+        return connector;
+    }
+
+
+    /**
+     * Return a pipeline to run the supplied discovery services.
+     *
+     * @param maxParallelism value of the maxParallelism configuration property or null
+     * @param discoveryServices embedded discovery services
+     * @param assetConnector connector to the asset
+     * @param annotationStore annotation store
+     * @return pipeline
+     */
+    private ParallelDiscoveryPipeline getPipeline(Object              maxParallelism,
+                                                  List<Connector>     discoveryServices,
+                                                  Connector           assetConnector,
+                                                  TestAnnotationStore annotationStore)
+    {
+        Map<String, Object> configurationProperties = null;
+
+        if (maxParallelism != null)
+        {
+            configurationProperties = new HashMap<>();
+            configurationProperties.put(ParallelDiscoveryPipelineProvider.maxParallelismProperty, maxParallelism);
+        }
+
+        ParallelDiscoveryPipeline pipeline = initialize(new ParallelDiscoveryPipeline(), "Pipeline", configurationProperties);
+
+        pipeline.initializeEmbeddedConnectors(discoveryServices);
+        pipeline.setDiscoveryContext(new DiscoveryContext("TestUser",
+                                                          "TestAsset",
+                                                          null,
+                                                          null,
+                                                          new TestAssetStore(assetConnector),
+                                                          annotationStore,
+                                                          null));
+
+        return pipeline;
+    }
+
+
+    /**
+     * Return a list of independent services.
+     *
+     * @param count number of services
+     * @param activeCount count of running services
+     * @param maxActiveCount maximum count of running services
+     * @param runningTogether latch to wait for services to run together or null
+     * @return discovery services
+     */
+    private List<Connector> getIndependentServices(int            count,
+                                                   AtomicInteger  activeCount,
+                                                   AtomicInteger  maxActiveCount,
+                                                   CountDownLatch runningTogether)
+    {
+        List<Connector> discoveryServices = new ArrayList<>();
+
+        for (int i = 0; i < count; i++)
+        {
+            discoveryServices.add(initialize(new IndependentService(activeCount, maxActiveCount, runningTogether, 50),
+                                             "Independent" + i,
+                                             null));
+        }
+
+        return discoveryServices;
+    }
+
+
+    /**
+     * Validate that the asset is read once for all of the record discovery services, that each of them receives every
+     * record in order, and that the independent discovery services also run.
+     */
+    @Test
+    void testFanOut() throws Exception
+    {
+        InMemoryCSVFileStoreConnector assetConnector  = new InMemoryCSVFileStoreConnector();
+        TestAnnotationStore           annotationStore = new TestAnnotationStore();
+        RecordingRecordService        recordOne       = initialize(new RecordingRecordService(), "RecordOne", null);
+        RecordingRecordService        recordTwo       = initialize(new RecordingRecordService(), "RecordTwo", null);
+        IndependentService            independent     = initialize(new IndependentService(new AtomicInteger(),
+                                                                                          new AtomicInteger(),
+                                                                                          null,
+                                                                                          0),
+                                                                   "Independent",
+                                                                   null);
+
+        getPipeline(null, Arrays.asList(recordOne, independent, recordTwo), assetConnector, annotationStore).start();
+
+        assertEquals(assetConnector.readCount.get(), 1);
+
+        for (RecordingRecordService recordService : Arrays.asList(recordOne, recordTwo))
+        {
+            assertEquals(recordService.records, testRecords);
+            assertEquals(recordService.startScanCount, 1);
+            assertEquals(recordService.completeCount, 1);
+        }
+
+        assertTrue(independent.started);
+    }
+
+
+    /**
+     * Validate that the pipeline queues an annotation with the elapsed time of each discovery service and of the
+     * shared read.
+     */
+    @Test
+    void testTimingAnnotation() throws Exception
+    {
+        TestAnnotationStore annotationStore = new TestAnnotationStore();
+        List<Connector>     services        = Arrays.asList(initialize(new RecordingRecordService(), "Record", null),
+                                                            initialize(new RecordingRecordService(), "Record", null),
+                                                            initialize(new IndependentService(new AtomicInteger(),
+                                                                                              new AtomicInteger(),
+                                                                                              null,
+                                                                                              0),
+                                                                       "Independent",
+                                                                       null));
+
+        getPipeline(null, services, new InMemoryCSVFileStoreConnector(), annotationStore).start();
+
+        assertTrue(annotationStore.reportAnnotations.isEmpty());
+
+        annotationStore.flushQueuedAnnotations();
+
+        assertEquals(annotationStore.reportAnnotations.size(), 1);
+
+        Annotation timingAnnotation = annotationStore.reportAnnotations.get(0);
+
+        assertEquals(timingAnnotation.getAnnotationType(), ParallelDiscoveryPipeline.timingAnnotationType);
+        assertEquals(timingAnnotation.getAdditionalProperties().keySet(),
+                     new HashSet<>(Arrays.asList("Record", "Record (2)", "Independent", ParallelDiscoveryPipeline.sharedScanName)));
+
+        for (String elapsedTime : timingAnnotation.getAdditionalProperties().values())
+        {
+            assertTrue(Long.parseLong(elapsedTime) >= 0);
+        }
+    }
+
+
+    /**
+     * Validate that a checked exception from a discovery service is returned unchanged and that an unexpected exception
+     * is returned as a discovery service exception.  No timing annotation is added.
+     */
+    @Test
+    void testErrorPropagation() throws Exception
+    {
+        TestAnnotationStore    annotationStore = new TestAnnotationStore();
+        RecordingRecordService failingRecord   = initialize(new RecordingRecordService(), "FailingRecord", null);
+
+        failingRecord.completeFailure = new ConnectorCheckedException(ODFErrorCode.UNEXPECTED_EXCEPTION.getMessageDefinition("FailingRecord",
+                                                                                                                             "Test",
+                                                                                                                             "completeScan",
+                                                                                                                             "Test"),
+                                                                      this.getClass().getName(),
+                                                                      "completeScan");
+
+        try
+        {
+            getPipeline(null, Collections.singletonList(failingRecord), new InMemoryCSVFileStoreConnector(), annotationStore).start();
+            fail("Record discovery service failure not returned");
+        }
+        catch (ConnectorCheckedException error)
+        {
+            assertSame(error, failingRecord.completeFailure);
+        }
+
+        IndependentService failingIndependent = initialize(new IndependentService(new AtomicInteger(),
+                                                                                  new AtomicInteger(),
+                                                                                  null,
+                                                                                  0),
+                                                           "FailingIndependent",
+                                                           null);
+
+        failingIndependent.startFailure = new IllegalStateException("Test failure");
+
+        try
+        {
+            getPipeline(null, Collections.singletonList(failingIndependent), new InMemoryCSVFileStoreConnector(), annotationStore).start();
+            fail("Independent discovery service failure not returned");
+        }
+        catch (ConnectorCheckedException error)
+        {
+            assertTrue(error.getReportedErrorMessageId().startsWith("ODF-DISCOVERY-SERVICE-500-001"));
+            assertTrue(error.getReportedErrorMessage().contains(IllegalStateException.class.getName()));
+        }
+
+        annotationStore.flushQueuedAnnotations();
+
+        assertTrue(annotationStore.reportAnnotations.isEmpty());
+    }
+
+
+    /**
+     * Validate that when the asset is not a CSV file, each record discovery service runs on its own and reports
+     * the problem itself, rather than the pipeline failing on the shared read.
+     */
+    @Test
+    void testNotCSVAsset() throws Exception
+    {
+        RecordingRecordService recordService = initialize(new RecordingRecordService(), "Record", null);
+
+        try
+        {
+            getPipeline(null,
+                        Collections.singletonList(recordService),
+                        initialize(new OtherAssetConnector(), "OtherAsset", null),
+                        new TestAnnotationStore()).start();
+            fail("Record discovery service ran against an asset that is not a CSV file");
+        }
+        catch (ConnectorCheckedException error)
+        {
+            assertEquals(error.getReportingClassName(), RecordingRecordService.class.getName());
+        }
+
+        assertEquals(recordService.startScanCount, 0);
+    }
+
+
+    /**
+     * Validate that the maxParallelism configuration property limits the number of discovery services running at once.
+     */
+    @Test
+    void testMaxParallelism() throws Exception
+    {
+        AtomicInteger activeCount    = new AtomicInteger(0);
+        AtomicInteger maxActiveCount = new AtomicInteger(0);
+
+        getPipeline(1, getIndependentServices(3, activeCount, maxActiveCount, null), new InMemoryCSVFileStoreConnector(), new TestAnnotationStore()).start();
+
+        assertEquals(maxActiveCount.get(), 1);
+
+        CountDownLatch  runningTogether = new CountDownLatch(3);
+        List<Connector> services        = getIndependentServices(3, new AtomicInteger(0), new AtomicInteger(0), runningTogether);
+
+        getPipeline("3", services, new InMemoryCSVFileStoreConnector(), new TestAnnotationStore()).start();
+
+        for (Connector service : services)
+        {
+            assertTrue(((IndependentService)service).ranTogether);
+        }
+    }
+
+
+    /**
+     * Validate that an invalid maxParallelism value is replaced by the default.
+     */
+    @Test
+    void testDefaultMaxParallelism() throws Exception
+    {
+        for (Object maxParallelism : Arrays.asList(null, "0", "many"))
+        {
+            CountDownLatch  runningTogether = new CountDownLatch(4);
+            List<Connector> services        = getIndependentServices(4, new AtomicInteger(0), new AtomicInteger(0), runningTogether);
+
+            getPipeline(maxParallelism, services, new InMemoryCSVFileStoreConnector(), new TestAnnotationStore()).start();
+
+            for (Connector service : services)
+            {
+                assertTrue(((IndependentService)service).ranTogether);
+            }
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices.profiling;
+
+import org.odpi.openmetadata.frameworks.discovery.properties.DataProfileAnnotation;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify the profile built by the ColumnProfiler.
+ */
+public class ColumnProfilerTest
+{
+    /**
+     * Return the profile of the supplied values.
+     *
+     * @param maxValueListSize maximum number of values listed
+     * @param values column values
+     * @return profile
+     */
+    private DataProfileAnnotation getProfile(int          maxValueListSize,
+                                             List<String> values)
+    {
+        ColumnProfiler columnProfiler = new ColumnProfiler("Column", maxValueListSize, 3);
+
+        for (String value : values)
+        {
+            columnProfiler.addValue(value);
+        }
+
+        return columnProfiler.getDataProfileAnnotation();
+    }
+
+
+    /**
+     * Return the inferred type of the supplied values.
+     *
+     * @param values column values
+     * @return type name
+     */
+    private String getType(String... values)
+    {
+        return getProfile(10, Arrays.asList(values)).getInferredDataType();
+    }
+
+
+    /**
+     * Validate the type inferred for each kind of value and for mixed values.
+     */
+    @Test
+    void testInferredTypes()
+    {
+        assertNull(getType());
+        assertNull(getType(null, ""));
+        assertEquals(getType("1", "-2", "+3"), ColumnProfiler.INT_TYPE_NAME);
+        assertEquals(getType("1", "3000000000"), ColumnProfiler.LONG_TYPE_NAME);
+        assertEquals(getType("1", "2.5"), ColumnProfiler.FLOAT_TYPE_NAME);
+        assertEquals(getType("3000000000", ".5"), ColumnProfiler.FLOAT_TYPE_NAME);
+        assertEquals(getType("true", "FALSE"), ColumnProfiler.BOOLEAN_TYPE_NAME);
+        assertEquals(getType("2020-01-31", "1999-12-01"), ColumnProfiler.DATE_TYPE_NAME);
+        assertEquals(getType("1", "true"), ColumnProfiler.STRING_TYPE_NAME);
+        assertEquals(getType("1", "2020-01-31"), ColumnProfiler.STRING_TYPE_NAME);
+        assertEquals(getType("1", "abc", "2"), ColumnProfiler.STRING_TYPE_NAME);
+        assertEquals(getType("1e", "2"), ColumnProfiler.STRING_TYPE_NAME);
+    }
+
+
+    /**
+     * Validate the counts, lengths and value list while the values are counted exactly.
+     */
+    @Test
+    void testExactCounts()
+    {
+        DataProfileAnnotation profile = getProfile(10, Arrays.asList("bb", "a", null, "bb", "", "cccc"));
+
+        assertEquals(profile.getProfileCounts().get(ColumnProfiler.RECORD_COUNT_NAME).longValue(), 6);
+        assertEquals(profile.getProfileCounts().get(ColumnProfiler.NULL_COUNT_NAME).longValue(), 2);
+        assertEquals(profile.getProfileCounts().get(ColumnProfiler.DISTINCT_COUNT_NAME).longValue(), 3);
+        assertEquals(profile.getProfileCounts().get(ColumnProfiler.MIN_LENGTH_NAME).longValue(), 1);
+        assertEquals(profile.getProfileCounts().get(ColumnProfiler.MAX_LENGTH_NAME).longValue(), 4);
+        assertEquals(profile.getLength(), 4);
+
+        assertFalse(profile.getProfileFlags().get(ColumnProfiler.DISTINCT_COUNT_ESTIMATED_FLAG));
+        assertFalse(profile.getProfileFlags().get(ColumnProfiler.VALUE_COUNT_ESTIMATED_FLAG));
+
+        assertEquals(profile.getValueList(), Arrays.asList("bb", "a", "cccc"));
+        assertEquals(profile.getValueCount().get("bb").intValue(), 2);
+        assertEquals(profile.getValueCount().get("a").intValue(), 1);
+
+        assertEquals(profile.getValueRangeFrom(), "a");
+        assertEquals(profile.getValueRangeTo(), "cccc");
+    }
+
+
+    /**
+     * Validate that a column that only contains nulls has zero lengths and no values.
+     */
+    @Test
+    void testOnlyNulls()
+    {
+        DataProfileAnnotation profile = getProfile(10, Arrays.asList(null, ""));
+
+        assertEquals(profile.getProfileCounts().get(ColumnProfiler.RECORD_COUNT_NAME).longValue(), 2);
+        assertEquals(profile.getProfileCounts().get(ColumnProfiler.NULL_COUNT_NAME).longValue(), 2);
+        assertEquals(profile.getProfileCounts().get(ColumnProfiler.DISTINCT_COUNT_NAME).longValue(), 0);
+        assertEquals(profile.getProfileCounts().get(ColumnProfiler.MIN_LENGTH_NAME).longValue(), 0);
+        assertNull(profile.getValueList());
+        assertNull(profile.getValueCount());
+    }
+
+
+    /**
+     * Validate that the values are counted exactly up to maxValueListSize distinct values and that one more distinct
+     * value switches to the sketches.
+     */
+    @Test
+    void testSwitchToSketches()
+    {
+        final int maxValueListSize = 100;
+
+        ColumnProfiler columnProfiler = new ColumnProfiler("Column", maxValueListSize, 3);
+
+        for (int i = 0; i < maxValueListSize - 1; i++)
+        {
+            columnProfiler.addValue("Value" + i);
+            columnProfiler.addValue("Repeated");
+        }
+
+        DataProfileAnnotation profile = columnProfiler.getDataProfileAnnotation();
+
+        assertEquals(profile.getValueList().size(), maxValueListSize);
+        assertEquals(profile.getProfileCounts().get(ColumnProfiler.DISTINCT_COUNT_NAME).longValue(), maxValueListSize);
+        assertFalse(profile.getProfileFlags().get(ColumnProfiler.DISTINCT_COUNT_ESTIMATED_FLAG));
+
+        columnProfiler.addValue("Value" + maxValueListSize);
+
+        profile = columnProfiler.getDataProfileAnnotation();
+
+        assertNull(profile.getValueList());
+        assertTrue(profile.getProfileFlags().get(ColumnProfiler.DISTINCT_COUNT_ESTIMATED_FLAG));
+        assertTrue(profile.getProfileFlags().get(ColumnProfiler.VALUE_COUNT_ESTIMATED_FLAG));
+
+        int repeatedCount = maxValueListSize - 1;
+
+        for (int i = maxValueListSize + 1; i < 10000; i++)
+        {
+            columnProfiler.addValue("Value" + i);
+
+            if (i % 2 == 0)
+            {
+                columnProfiler.addValue("Repeated");
+                repeatedCount++;
+            }
+        }
+
+        profile = columnProfiler.getDataProfileAnnotation();
+
+        long distinctCount = profile.getProfileCounts().get(ColumnProfiler.DISTINCT_COUNT_NAME);
+
+        assertTrue(Math.abs(distinctCount - 10000) <= 500, "Distinct count " + distinctCount);
+
+        /*
+         * Only the repeated value is known to occur more than once.
+         */
+        assertEquals(profile.getValueCount().keySet(), Collections.singleton("Repeated"));
+        assertTrue(profile.getValueCount().get("Repeated") >= repeatedCount);
+    }
+
+
+    /**
+     * Validate the range, average and percentiles of a numeric column.
+     */
+    @Test
+    void testNumericProfile()
+    {
+        ColumnProfiler columnProfiler = new ColumnProfiler("Column", 10, 3);
+
+        for (int i = 100; i >= 1; i--)
+        {
+            columnProfiler.addValue(Integer.toString(i));
+        }
+
+        DataProfileAnnotation profile = columnProfiler.getDataProfileAnnotation();
+
+        assertEquals(profile.getInferredDataType(), ColumnProfiler.INT_TYPE_NAME);
+        assertEquals(profile.getValueRangeFrom(), "1");
+        assertEquals(profile.getValueRangeTo(), "100");
+        assertEquals(profile.getAverageValue(), "50.5");
+        assertEquals(profile.getProfileProperties().get("percentile5"), "5");
+        assertEquals(profile.getProfileProperties().get("percentile50"), "50");
+        assertEquals(profile.getProfileProperties().get("percentile95"), "95");
+
+        columnProfiler = new ColumnProfiler("Column", 10, 3);
+
+        for (String value : Arrays.asList("1.5", "2", "-0.5"))
+        {
+            columnProfiler.addValue(value);
+        }
+
+        profile = columnProfiler.getDataProfileAnnotation();
+
+        assertEquals(profile.getValueRangeFrom(), "-0.5");
+        assertEquals(profile.getValueRangeTo(), "2.0");
+    }
+
+
+    /**
+     * Validate that a numeric column that turns out to contain text has no numeric profile.
+     */
+    @Test
+    void testNumbersThenText()
+    {
+        DataProfileAnnotation profile = getProfile(10, Arrays.asList("10", "9", "abc"));
+
+        assertEquals(profile.getInferredDataType(), ColumnProfiler.STRING_TYPE_NAME);
+        assertNull(profile.getProfileProperties());
+        assertNull(profile.getAverageValue());
+        assertEquals(profile.getValueRangeFrom(), "10");
+        assertEquals(profile.getValueRangeTo(), "abc");
+    }
+}
@@ -0,0 +1,112 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices.profiling;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify the accuracy of the DistinctValueSketch.
+ */
+public class DistinctValueSketchTest
+{
+    /**
+     * Check that an estimate is within the supplied fraction of the real count.
+     *
+     * @param estimate estimated count
+     * @param count real count
+     * @param tolerance allowed relative error
+     */
+    private void assertWithin(long estimate, long count, double tolerance)
+    {
+        assertTrue(Math.abs(estimate - count) <= count * tolerance, "Estimate " + estimate + " for " + count + " distinct values");
+    }
+
+
+    /**
+     * Validate that an empty sketch, or one only passed nulls, estimates zero.
+     */
+    @Test
+    void testEmpty()
+    {
+        DistinctValueSketch sketch = new DistinctValueSketch();
+
+        assertEquals(sketch.getEstimate(), 0);
+
+        sketch.add(null);
+
+        assertEquals(sketch.getEstimate(), 0);
+    }
+
+
+    /**
+     * Validate that small counts are accurate and repeated values are only counted once.
+     */
+    @Test
+    void testSmallCounts()
+    {
+        DistinctValueSketch sketch = new DistinctValueSketch();
+
+        sketch.add("only");
+
+        assertEquals(sketch.getEstimate(), 1);
+
+        for (int repeat = 0; repeat < 10; repeat++)
+        {
+            for (int i = 0; i < 100; i++)
+            {
+                sketch.add("Value" + i);
+            }
+        }
+
+        assertWithin(sketch.getEstimate(), 101, 0.02);
+    }
+
+
+    /**
+     * Validate the accuracy either side of the switch from linear counting to the HyperLogLog estimate
+     * and for large counts.  The standard error is around 1.6% so three standard errors are allowed.
+     */
+    @Test
+    void testLargeCounts()
+    {
+        DistinctValueSketch sketch = new DistinctValueSketch();
+        int                 count  = 0;
+
+        for (int target : new int[]{ 5000, 10000, 11000, 100000, 1000000 })
+        {
+            while (count < target)
+            {
+                sketch.add(Integer.toString(count));
+                count++;
+            }
+
+            assertWithin(sketch.getEstimate(), count, 0.05);
+        }
+    }
+
+
+    /**
+     * Validate that the precision is limited to the supported range.
+     */
+    @Test
+    void testPrecisionLimits()
+    {
+        DistinctValueSketch lowPrecision  = new DistinctValueSketch(0);
+        DistinctValueSketch highPrecision = new DistinctValueSketch(30);
+
+        for (int i = 0; i < 10000; i++)
+        {
+            lowPrecision.add("Value" + i);
+            highPrecision.add("Value" + i);
+        }
+
+        /*
+         * Sixteen registers give a standard error of around 26%.
+         */
+        assertWithin(lowPrecision.getEstimate(), 10000, 0.8);
+        assertWithin(highPrecision.getEstimate(), 10000, 0.02);
+    }
+}
@@ -0,0 +1,111 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices.profiling;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that the FrequentValuesSketch finds the most frequent values.
+ */
+public class FrequentValuesSketchTest
+{
+    /**
+     * Validate that the counts are exact while there are fewer distinct values than counters, that values seen
+     * once are not reported and that nulls are ignored.
+     */
+    @Test
+    void testExactCounts()
+    {
+        FrequentValuesSketch sketch = new FrequentValuesSketch(10);
+
+        for (String value : Arrays.asList("a", "b", "a", null, "c", "a", "b"))
+        {
+            sketch.add(value);
+        }
+
+        Map<String, Long> topValues = sketch.getTopValues(10);
+
+        assertEquals(new ArrayList<>(topValues.keySet()), Arrays.asList("a", "b"));
+        assertEquals(topValues.get("a").longValue(), 3);
+        assertEquals(topValues.get("b").longValue(), 2);
+
+        assertEquals(sketch.getTopValues(1).keySet(), Collections.singleton("a"));
+        assertTrue(sketch.getTopValues(0).isEmpty());
+    }
+
+
+    /**
+     * Validate that the heavy hitters are found in order among many unique values, and that each count is at least
+     * the real count and over-estimates by no more than the number of values divided by the number of counters.
+     */
+    @Test
+    void testHeavyHitters()
+    {
+        final int capacity = 20;
+
+        List<String> values = new ArrayList<>();
+
+        for (int i = 0; i < 3000; i++)
+        {
+            values.add("a");
+        }
+        for (int i = 0; i < 2000; i++)
+        {
+            values.add("b");
+        }
+        for (int i = 0; i < 1000; i++)
+        {
+            values.add("c");
+        }
+        for (int i = 0; i < 4000; i++)
+        {
+            values.add("Unique" + i);
+        }
+
+        Collections.shuffle(values, new Random(7));
+
+        FrequentValuesSketch sketch = new FrequentValuesSketch(capacity);
+
+        for (String value : values)
+        {
+            sketch.add(value);
+        }
+
+        Map<String, Long> topValues = sketch.getTopValues(3);
+
+        assertEquals(new ArrayList<>(topValues.keySet()), Arrays.asList("a", "b", "c"));
+
+        long maxError = values.size() / capacity;
+
+        assertTrue((topValues.get("a") >= 3000) && (topValues.get("a") <= 3000 + maxError));
+        assertTrue((topValues.get("b") >= 2000) && (topValues.get("b") <= 2000 + maxError));
+        assertTrue((topValues.get("c") >= 1000) && (topValues.get("c") <= 1000 + maxError));
+    }
+
+
+    /**
+     * Validate that a column of unique values has no frequent values even though the counters are reused.
+     */
+    @Test
+    void testUniqueValues()
+    {
+        FrequentValuesSketch sketch = new FrequentValuesSketch(5);
+
+        for (int i = 0; i < 1000; i++)
+        {
+            sketch.add("Key" + i);
+        }
+
+        assertTrue(sketch.getTopValues(5).isEmpty());
+    }
+}
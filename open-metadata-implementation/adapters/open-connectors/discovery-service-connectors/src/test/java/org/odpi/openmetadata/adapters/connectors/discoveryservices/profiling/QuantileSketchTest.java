@@ -0,0 +1,124 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices.profiling;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify the accuracy of the QuantileSketch.
+ */
+public class QuantileSketchTest
+{
+    /**
+     * Return the numbers from 1 to count in a repeatable random order.
+     *
+     * @param count number of values
+     * @return shuffled values
+     */
+    private List<Double> getShuffledValues(int count)
+    {
+        List<Double> values = new ArrayList<>();
+
+        for (int i = 1; i <= count; i++)
+        {
+            values.add((double)i);
+        }
+
+        Collections.shuffle(values, new Random(42));
+
+        return values;
+    }
+
+
+    /**
+     * Validate that an empty sketch has no quantiles.
+     */
+    @Test
+    void testEmpty()
+    {
+        QuantileSketch sketch = new QuantileSketch();
+
+        assertEquals(sketch.getCount(), 0);
+        assertTrue(Double.isNaN(sketch.getQuantile(0.5)));
+    }
+
+
+    /**
+     * Validate that the quantiles are exact while the values fit in the first level, and that the fraction is
+     * limited to the range 0 to 1.
+     */
+    @Test
+    void testExactQuantiles()
+    {
+        QuantileSketch sketch = new QuantileSketch();
+
+        for (double value : getShuffledValues(100))
+        {
+            sketch.add(value);
+        }
+
+        assertEquals(sketch.getCount(), 100);
+        assertEquals(sketch.getQuantile(0), 1.0);
+        assertEquals(sketch.getQuantile(0.25), 25.0);
+        assertEquals(sketch.getQuantile(0.5), 50.0);
+        assertEquals(sketch.getQuantile(1), 100.0);
+        assertEquals(sketch.getQuantile(-1), 1.0);
+        assertEquals(sketch.getQuantile(2), 100.0);
+    }
+
+
+    /**
+     * Validate that the rank of each estimated quantile is close to the requested rank once the values have
+     * been compacted many times.
+     */
+    @Test
+    void testCompactedQuantiles()
+    {
+        final int count = 200000;
+
+        QuantileSketch sketch = new QuantileSketch();
+
+        for (double value : getShuffledValues(count))
+        {
+            sketch.add(value);
+        }
+
+        assertEquals(sketch.getCount(), count);
+
+        for (double fraction : new double[]{ 0.05, 0.25, 0.5, 0.75, 0.95 })
+        {
+            double estimate = sketch.getQuantile(fraction);
+
+            assertTrue(Math.abs(estimate - fraction * count) <= count * 0.02, "Estimate " + estimate + " for quantile " + fraction);
+        }
+    }
+
+
+    /**
+     * Validate that the smallest capacity still produces sensible estimates for sorted input.
+     */
+    @Test
+    void testMinimumCapacity()
+    {
+        QuantileSketch sketch = new QuantileSketch(1);
+
+        for (int i = 1; i <= 1000; i++)
+        {
+            sketch.add(i);
+        }
+
+        double median = sketch.getQuantile(0.5);
+
+        assertTrue((median >= 250) && (median <= 750), "Median " + median);
+        assertTrue(sketch.getQuantile(0) >= 1);
+        assertTrue(sketch.getQuantile(1) <= 1000);
+    }
+}
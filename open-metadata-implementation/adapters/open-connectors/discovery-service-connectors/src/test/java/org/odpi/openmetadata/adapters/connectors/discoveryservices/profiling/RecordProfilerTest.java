@@ -0,0 +1,240 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices.profiling;
+
+import org.odpi.openmetadata.frameworks.discovery.properties.DataProfileAnnotation;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Verify that the RecordProfiler passes each column of each record to the right ColumnProfiler, whether the
+ * columns are profiled in the caller's thread or in parallel.
+ */
+public class RecordProfilerTest
+{
+    private static final List<String> columnNames = Arrays.asList("id", "name", "score");
+
+
+    /**
+     * Return the test records.  Some are null, some are short and the rest have an extra value.
+     *
+     * @param count number of records
+     * @return records
+     */
+    private List<List<String>> getRecords(int count)
+    {
+        List<List<String>> records = new ArrayList<>();
+
+        for (int i = 0; i < count; i++)
+        {
+            if (i % 50 == 0)
+            {
+                records.add(null);
+            }
+            else if (i % 10 == 0)
+            {
+                records.add(Arrays.asList(Integer.toString(i), "Name" + (i % 7)));
+            }
+            else
+            {
+                records.add(Arrays.asList(Integer.toString(i), "Name" + (i % 7), Double.toString(i / 4.0), "extra"));
+            }
+        }
+
+        return records;
+    }
+
+
+    /**
+     * Profile the records.
+     *
+     * @param records records to profile
+     * @param executor executor or null
+     * @param batchSize batch size
+     * @return profiler
+     * @throws Exception the profiling failed
+     */
+    private RecordProfiler profile(List<List<String>> records,
+                                   ExecutorService    executor,
+                                   int                batchSize) throws Exception
+    {
+        RecordProfiler recordProfiler = new RecordProfiler(columnNames,
+                                                           RecordProfiler.DEFAULT_MAX_VALUE_LIST_SIZE,
+                                                           RecordProfiler.DEFAULT_TOP_VALUE_COUNT,
+                                                           executor,
+                                                           batchSize);
+
+        for (List<String> record : records)
+        {
+            recordProfiler.addRecord(record);
+        }
+
+        recordProfiler.complete();
+
+        return recordProfiler;
+    }
+
+
+    /**
+     * Validate that missing values are counted as nulls and extra values are ignored.
+     */
+    @Test
+    void testRecordShapes() throws Exception
+    {
+        List<List<String>> records        = getRecords(500);
+        RecordProfiler     recordProfiler = profile(records, null, RecordProfiler.DEFAULT_BATCH_SIZE);
+
+        assertEquals(recordProfiler.getRecordCount(), 500);
+        assertEquals(recordProfiler.getColumnProfilers().size(), columnNames.size());
+
+        DataProfileAnnotation idProfile    = recordProfiler.getColumnProfilers().get(0).getDataProfileAnnotation();
+        DataProfileAnnotation nameProfile  = recordProfiler.getColumnProfilers().get(1).getDataProfileAnnotation();
+        DataProfileAnnotation scoreProfile = recordProfiler.getColumnProfilers().get(2).getDataProfileAnnotation();
+
+        assertEquals(recordProfiler.getColumnProfilers().get(2).getColumnName(), "score");
+        assertEquals(idProfile.getProfileCounts().get(ColumnProfiler.NULL_COUNT_NAME).longValue(), 10);
+        assertEquals(nameProfile.getProfileCounts().get(ColumnProfiler.DISTINCT_COUNT_NAME).longValue(), 7);
+        assertEquals(scoreProfile.getProfileCounts().get(ColumnProfiler.NULL_COUNT_NAME).longValue(), 50);
+        assertEquals(scoreProfile.getInferredDataType(), ColumnProfiler.FLOAT_TYPE_NAME);
+    }
+
+
+    /**
+     * Validate that profiling the columns in parallel gives the same profiles as profiling them in the caller's
+     * thread, including when the last batch is partly full.
+     */
+    @Test
+    void testParallelProfiling() throws Exception
+    {
+        List<List<String>> records         = getRecords(2003);
+        RecordProfiler     inlineProfiler  = profile(records, null, RecordProfiler.DEFAULT_BATCH_SIZE);
+        ExecutorService    executor        = Executors.newFixedThreadPool(3);
+
+        try
+        {
+            for (int batchSize : new int[]{ 0, 7, 1000, 5000 })
+            {
+                RecordProfiler parallelProfiler = profile(records, executor, batchSize);
+
+                assertEquals(parallelProfiler.getRecordCount(), inlineProfiler.getRecordCount());
+
+                for (int i = 0; i < columnNames.size(); i++)
+                {
+                    DataProfileAnnotation inlineProfile   = inlineProfiler.getColumnProfilers().get(i).getDataProfileAnnotation();
+                    DataProfileAnnotation parallelProfile = parallelProfiler.getColumnProfilers().get(i).getDataProfileAnnotation();
+
+                    assertEquals(parallelProfile.getInferredDataType(), inlineProfile.getInferredDataType());
+                    assertEquals(parallelProfile.getProfileCounts(), inlineProfile.getProfileCounts());
+                    assertEquals(parallelProfile.getProfileFlags(), inlineProfile.getProfileFlags());
+                    assertEquals(parallelProfile.getProfileProperties(), inlineProfile.getProfileProperties());
+                    assertEquals(parallelProfile.getValueCount(), inlineProfile.getValueCount());
+                    assertEquals(parallelProfile.getValueRangeFrom(), inlineProfile.getValueRangeFrom());
+                    assertEquals(parallelProfile.getValueRangeTo(), inlineProfile.getValueRangeTo());
+                    assertEquals(parallelProfile.getAverageValue(), inlineProfile.getAverageValue());
+                }
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+
+    /**
+     * Validate that the profiler handles no columns and no records.
+     */
+    @Test
+    void testEmpty() throws Exception
+    {
+        RecordProfiler recordProfiler = new RecordProfiler(null, 10, 3, null, 10);
+
+        recordProfiler.addRecord(Arrays.asList("ignored"));
+        recordProfiler.complete();
+
+        assertEquals(recordProfiler.getRecordCount(), 1);
+        assertTrue(recordProfiler.getColumnProfilers().isEmpty());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try
+        {
+            recordProfiler = profile(new ArrayList<>(), executor, 10);
+
+            assertEquals(recordProfiler.getRecordCount(), 0);
+            assertEquals(recordProfiler.getColumnProfilers().get(0).getDataProfileAnnotation()
+                                       .getProfileCounts().get(ColumnProfiler.RECORD_COUNT_NAME).longValue(), 0);
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+
+    /**
+     * Validate that a failing parallel task is reported by complete() and the remaining records are ignored.
+     */
+    @Test
+    void testParallelFailure() throws Exception
+    {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try
+        {
+            RecordProfiler recordProfiler = new RecordProfiler(columnNames, 10, 3, executor, 2);
+
+            recordProfiler.addRecord(Arrays.asList("1", "a", "1.0"));
+            recordProfiler.addRecord(new FailingRecord());
+            recordProfiler.addRecord(Arrays.asList("3", "c", "3.0"));
+            recordProfiler.addRecord(Arrays.asList("4", "d", "4.0"));
+
+            try
+            {
+                recordProfiler.complete();
+                fail("Profiling failure not reported");
+            }
+            catch (ExecutionException error)
+            {
+                assertTrue(error.getCause() instanceof IllegalStateException);
+            }
+
+            assertEquals(recordProfiler.getRecordCount(), 4);
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+
+    /**
+     * Record that fails when its values are read by a profiling task.
+     */
+    private static class FailingRecord extends ArrayList<String>
+    {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public int size()
+        {
+            return 3;
+        }
+
+        @Override
+        public String get(int index)
+        {
+            throw new IllegalStateException("Unreadable record");
+        }
+    }
+}
@@ -3,12 +3,15 @@
 package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.ConcurrentHashMap;
@@ -69,6 +72,11 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
     
     private final boolean isAutoCommitEnabled;
 
+    /*
+     * Set up when events are processed in parallel; otherwise null and the events are queued on the connector.
+     */
+    private final KafkaOpenMetadataEventLanes eventLanes;
+
     /**
      * Constructor for the event consumer.
      *
@@ -109,6 +117,22 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
         this.messageProcessingStatusCheckIntervalMs = config.getLongProperty(KafkaOpenMetadataEventConsumerProperty.COMMIT_CHECK_INTERVAL_MS);
         long messageTimeoutMins = config.getLongProperty(KafkaOpenMetadataEventConsumerProperty.CONSUMER_EVENT_PROCESSING_TIMEOUT_MINS);
         this.messageProcessingTimeoutMs = messageTimeoutMins < 0 ? messageTimeoutMins : TimeUnit.MILLISECONDS.convert(messageTimeoutMins, TimeUnit.MINUTES);
+
+        int partitionProcessingLanes = config.getIntProperty(KafkaOpenMetadataEventConsumerProperty.PARTITION_PROCESSING_LANES);
+        if (partitionProcessingLanes > 0)
+        {
+            log.info("Processing events from topic {} in {} lanes per partition", topicName, partitionProcessingLanes);
+            this.eventLanes = new KafkaOpenMetadataEventLanes(partitionProcessingLanes,
+                                                              maxQueueSize,
+                                                              "Kafka-" + topicName + "-lane-",
+                                                              topicName,
+                                                              connector,
+                                                              auditLog);
+        }
+        else
+        {
+            this.eventLanes = null;
+        }
     }
 
 
@@ -149,8 +173,15 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
             
             
                 	
+            	if (eventLanes != null)
+            	{
+            	    //The lanes are kept within their limit by pausing the busy partitions
+            	    //so the consumer can keep polling for the others.
+            	    applyBackPressure();
+            	}
+
             	int nUnprocessedEvents = connector.getNumberOfUnprocessedEvents();
-            	if (! pollRequired && nUnprocessedEvents > maxQueueSize)
+            	if (eventLanes == null && ! pollRequired && nUnprocessedEvents > maxQueueSize)
             	{
             		//The connector queue is too big.  Wait until the size goes down until
             		//polling again.  If we let the events just accumulate, we will
@@ -177,7 +208,14 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
                         try
                         {
                             addUnprocessedEvent(record.partition(), record.topic(), event);
-                            connector.distributeToListeners(event);
+                            if (eventLanes != null)
+                            {
+                                eventLanes.submitEvent(new TopicPartition(record.topic(), record.partition()), record.key(), event);
+                            }
+                            else
+                            {
+                                connector.distributeToListeners(event);
+                            }
                         }
                         catch (Exception error)
                         {
@@ -233,10 +271,19 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
             }
             finally
             {
-                awaitNextPollingTime();
+                if (eventLanes == null)
+                {
+                    awaitNextPollingTime();
+                }
             }
         }
 
+        if (eventLanes != null)
+        {
+            //Let the lanes finish the events they have been given so their offsets can be committed
+            eventLanes.shutdown();
+        }
+
         if (consumer != null)
         {
             try
@@ -292,6 +339,41 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
         }
     }
 
+    /**
+     * Pause the assigned partitions whose lanes have too many unprocessed events and resume the paused partitions
+     * whose lanes have caught up.  This must be called on the consumer's thread.
+     */
+    private void applyBackPressure()
+    {
+        Set<TopicPartition> pausedPartitions   = consumer.paused();
+        List<TopicPartition> partitionsToResume = new ArrayList<>();
+
+        for (TopicPartition partition : pausedPartitions)
+        {
+            if (eventLanes.canResume(partition))
+            {
+                partitionsToResume.add(partition);
+            }
+        }
+
+        if (! partitionsToResume.isEmpty())
+        {
+            log.debug("Resuming partitions {}", partitionsToResume);
+            consumer.resume(partitionsToResume);
+        }
+
+        Set<TopicPartition> partitionsToPause = eventLanes.getPartitionsToPause();
+
+        partitionsToPause.retainAll(consumer.assignment());
+        partitionsToPause.removeAll(pausedPartitions);
+
+        if (! partitionsToPause.isEmpty())
+        {
+            log.warn("Pausing partitions {} since they have {} or more unprocessed events", partitionsToPause, maxQueueSize);
+            consumer.pause(partitionsToPause);
+        }
+    }
+
     private void addUnprocessedEvent(int partition, String topic, KafkaIncomingEvent event) {
         if (isAutoCommitEnabled) {
             return;
@@ -525,6 +607,13 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
         public void onPartitionsRevoked(Collection<TopicPartition> partitions)
         {
             final String methodName = "onPartitionsRevoked.commitSync";
+            if (eventLanes != null)
+            {
+                //Finish the events already given to the lanes of the revoked partitions so that
+                //their offsets are committed before another consumer takes the partitions over.
+                eventLanes.drainPartitions(partitions);
+                checkForFullyProcessedMessages();
+            }
             if( !currentOffsets.isEmpty() )
             {
                 log.info("Lost partitions in rebalance. Committing current offsets:" + currentOffsets);
@@ -559,6 +648,15 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
 
                 }
             }
+            if (eventLanes != null)
+            {
+                //The partitions may be assigned to another consumer, so stop tracking their offsets.
+                for (TopicPartition partition : partitions)
+                {
+                    unprocessedEventQueues.remove(partition);
+                    currentOffsets.remove(partition);
+                }
+            }
         }
     }
 }
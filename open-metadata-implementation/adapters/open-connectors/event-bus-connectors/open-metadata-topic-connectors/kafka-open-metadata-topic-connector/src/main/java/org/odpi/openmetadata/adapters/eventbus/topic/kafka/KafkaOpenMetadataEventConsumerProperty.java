@@ -54,7 +54,18 @@ public enum KafkaOpenMetadataEventConsumerProperty
      * used if auto commit is disabled in the Kafka consumer. 
      * 
      */
-    COMMIT_CHECK_INTERVAL_MS("commit_check_interval_ms", "5000");
+    COMMIT_CHECK_INTERVAL_MS("commit_check_interval_ms", "5000"),
+
+    /**
+     * Controls whether events are processed in parallel.  When set to zero (the default) all events are
+     * passed to the listeners one at a time from a single thread.  When set to a positive number, each assigned
+     * partition is split into this number of lanes by the hash of the event key and each lane is processed
+     * on its own thread.  Events with the same key are still processed in order.  A partition is paused
+     * when it has event_bus_max_queue_size unprocessed events and resumed once half of them have been processed.
+     *
+     * The listeners must be able to process events in parallel to use this option.
+     */
+    PARTITION_PROCESSING_LANES("partition_processing_lanes", "0");
 
 	private final String propertyName;
 	private final String defaultValue;
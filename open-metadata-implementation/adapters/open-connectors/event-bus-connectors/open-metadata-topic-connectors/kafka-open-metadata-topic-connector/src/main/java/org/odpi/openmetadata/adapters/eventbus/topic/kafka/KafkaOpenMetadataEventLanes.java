@@ -0,0 +1,267 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
+
+import org.apache.kafka.common.TopicPartition;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * KafkaOpenMetadataEventLanes processes the events from each assigned partition in parallel.  The events from a
+ * partition are divided into lanes by the hash of their key and each lane has its own thread.  This means events
+ * with the same key are processed in the order they were received, while events from different partitions, or with
+ * different keys, are processed in parallel.
+ *
+ * The number of events queued for each partition is counted so that the consumer can pause a partition
+ * whose lanes have fallen behind and resume it once they have caught up.  The offsets are committed by the
+ * consumer from its record of the events that are fully processed.
+ */
+class KafkaOpenMetadataEventLanes
+{
+    private static final Logger log = LoggerFactory.getLogger(KafkaOpenMetadataEventLanes.class);
+
+    private final int                             lanesPerPartition;
+    private final long                            maxQueuedEventsPerPartition;
+    private final String                          threadNamePrefix;
+    private final String                          topicName;
+    private final KafkaOpenMetadataTopicConnector connector;
+    private final AuditLog                        auditLog;
+
+    private final Map<TopicPartition, PartitionLanes> partitionLanes = new ConcurrentHashMap<>();
+
+
+    /**
+     * Constructor.
+     *
+     * @param lanesPerPartition number of threads for each partition
+     * @param maxQueuedEventsPerPartition number of unprocessed events that causes a partition to be paused
+     * @param threadNamePrefix start of the name of the lane threads
+     * @param topicName name of the topic (for diagnostics)
+     * @param connector connector that passes the events to the listeners
+     * @param auditLog logging destination
+     */
+    KafkaOpenMetadataEventLanes(int                             lanesPerPartition,
+                                long                            maxQueuedEventsPerPartition,
+                                String                          threadNamePrefix,
+                                String                          topicName,
+                                KafkaOpenMetadataTopicConnector connector,
+                                AuditLog                        auditLog)
+    {
+        this.lanesPerPartition = Math.max(1, lanesPerPartition);
+        this.maxQueuedEventsPerPartition = Math.max(1L, maxQueuedEventsPerPartition);
+        this.threadNamePrefix = threadNamePrefix;
+        this.topicName = topicName;
+        this.connector = connector;
+        this.auditLog = auditLog;
+    }
+
+
+    /**
+     * Queue an event for processing on the lane selected by its key.
+     *
+     * @param partition partition that the event came from
+     * @param key key of the event (may be null)
+     * @param event event to process
+     */
+    void submitEvent(TopicPartition     partition,
+                     String             key,
+                     KafkaIncomingEvent event)
+    {
+        PartitionLanes lanes = partitionLanes.computeIfAbsent(partition, PartitionLanes::new);
+        int            lane  = (key == null) ? 0 : (key.hashCode() & Integer.MAX_VALUE) % lanesPerPartition;
+
+        lanes.queuedEvents.incrementAndGet();
+        lanes.laneExecutors[lane].execute(() -> this.processEvent(lanes, event));
+    }
+
+
+    /**
+     * Pass an event to the listeners on a lane thread.
+     *
+     * @param lanes lanes for the partition that the event came from
+     * @param event event to process
+     */
+    private void processEvent(PartitionLanes     lanes,
+                              KafkaIncomingEvent event)
+    {
+        final String actionDescription = "processEvent";
+
+        try
+        {
+            connector.processEventInLane(event);
+        }
+        catch (Exception error)
+        {
+            log.error(String.format("Error distributing inbound event: %s", error.getMessage()), error);
+
+            if (auditLog != null)
+            {
+                auditLog.logException(actionDescription,
+                                      KafkaOpenMetadataTopicConnectorAuditCode.EXCEPTION_DISTRIBUTING_EVENT.getMessageDefinition
+                                              (topicName,
+                                               error.getClass().getName(),
+                                               event.getJson(),
+                                               error.getMessage()),
+                                      error);
+            }
+        }
+        finally
+        {
+            lanes.queuedEvents.decrementAndGet();
+        }
+    }
+
+
+    /**
+     * Return the partitions that have more unprocessed events than the limit.
+     *
+     * @return set of partitions to pause
+     */
+    Set<TopicPartition> getPartitionsToPause()
+    {
+        Set<TopicPartition> results = new HashSet<>();
+
+        for (PartitionLanes lanes : partitionLanes.values())
+        {
+            if (lanes.queuedEvents.get() >= maxQueuedEventsPerPartition)
+            {
+                results.add(lanes.partition);
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Return whether a paused partition has worked through enough of its events to be resumed.  Waiting until
+     * half of the limit has been processed avoids pausing and resuming the partition on every poll.
+     *
+     * @param partition paused partition
+     * @return boolean flag
+     */
+    boolean canResume(TopicPartition partition)
+    {
+        PartitionLanes lanes = partitionLanes.get(partition);
+
+        return (lanes == null) || (lanes.queuedEvents.get() <= maxQueuedEventsPerPartition / 2);
+    }
+
+
+    /**
+     * Stop the lane threads of partitions that have been revoked from this consumer.  The events already queued
+     * for these partitions are processed before this method returns so that their offsets can be committed
+     * before another consumer takes over the partitions.  If a partition is assigned again, new lanes are
+     * started for it.
+     *
+     * @param partitions revoked partitions
+     */
+    void drainPartitions(Collection<TopicPartition> partitions)
+    {
+        List<PartitionLanes> revokedLanes = new ArrayList<>();
+
+        for (TopicPartition partition : partitions)
+        {
+            PartitionLanes lanes = partitionLanes.remove(partition);
+
+            if (lanes != null)
+            {
+                revokedLanes.add(lanes);
+            }
+        }
+
+        this.stopLanes(revokedLanes);
+    }
+
+
+    /**
+     * Stop the lane threads.  Events that are already queued are processed before the threads end.
+     */
+    void shutdown()
+    {
+        List<PartitionLanes> allLanes = new ArrayList<>(partitionLanes.values());
+
+        partitionLanes.clear();
+
+        this.stopLanes(allLanes);
+    }
+
+
+    /**
+     * Stop the threads of the supplied lanes and wait for them to process the events already queued.
+     *
+     * @param lanesToStop lanes to stop
+     */
+    private void stopLanes(List<PartitionLanes> lanesToStop)
+    {
+        for (PartitionLanes lanes : lanesToStop)
+        {
+            for (ExecutorService laneExecutor : lanes.laneExecutors)
+            {
+                laneExecutor.shutdown();
+            }
+        }
+
+        for (PartitionLanes lanes : lanesToStop)
+        {
+            for (ExecutorService laneExecutor : lanes.laneExecutors)
+            {
+                try
+                {
+                    if (! laneExecutor.awaitTermination(10, TimeUnit.SECONDS))
+                    {
+                        log.warn("Lane for partition {} did not finish processing its events", lanes.partition);
+                    }
+                }
+                catch (InterruptedException error)
+                {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+
+    /**
+     * The lane threads for a partition and the count of the events queued on them.
+     */
+    private class PartitionLanes
+    {
+        private final TopicPartition    partition;
+        private final ExecutorService[] laneExecutors;
+        private final AtomicLong        queuedEvents = new AtomicLong(0L);
+
+        PartitionLanes(TopicPartition partition)
+        {
+            this.partition = partition;
+            this.laneExecutors = new ExecutorService[lanesPerPartition];
+
+            for (int i = 0; i < lanesPerPartition; i++)
+            {
+                final String threadName = threadNamePrefix + partition.partition() + "-" + i;
+
+                laneExecutors[i] = Executors.newSingleThreadExecutor(runnable ->
+                {
+                    Thread thread = new Thread(runnable, threadName);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+        }
+    }
+}
@@ -324,6 +324,19 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
     }
 
 
+    /**
+     * Pass an event to the listeners on the caller's thread.  This is used by the consumer when it is
+     * processing partitions in parallel.
+     *
+     * @param event event to distribute
+     */
+    void processEventInLane(IncomingEvent event)
+    {
+        log.debug("distribute event to listeners in lane" + event);
+        super.distributeEvent(event);
+    }
+
+
     /**
      * Free up any resources held since the connector is no longer needed.
      *
@@ -0,0 +1,360 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
+
+import org.apache.kafka.common.TopicPartition;
+import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.IncomingEvent;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the parallel processing of the events from each partition.
+ */
+public class KafkaOpenMetadataEventLanesTest
+{
+    private static final String         topicName  = "testTopic";
+    private static final TopicPartition partition0 = new TopicPartition(topicName, 0);
+    private static final TopicPartition partition1 = new TopicPartition(topicName, 1);
+
+
+    /**
+     * Connector that records the events passed to the listeners and the threads that they were passed on.
+     * Each event waits for a permit from the gate so that the tests can hold the events in the lanes.  Events
+     * whose content starts with "held" wait for a permit from a second gate.
+     */
+    private static class RecordingConnector extends KafkaOpenMetadataTopicConnector
+    {
+        private final Semaphore           gate;
+        private final Semaphore           heldGate        = new Semaphore(0);
+        private final List<String>        processedEvents = Collections.synchronizedList(new ArrayList<>());
+        private final Map<String, String> eventThreads    = Collections.synchronizedMap(new HashMap<>());
+
+        RecordingConnector(int permits)
+        {
+            this.gate = new Semaphore(permits);
+        }
+
+        @Override
+        void processEventInLane(IncomingEvent event)
+        {
+            String json = event.getJson();
+
+            if (json.startsWith("held"))
+            {
+                heldGate.acquireUninterruptibly();
+            }
+            else
+            {
+                gate.acquireUninterruptibly();
+            }
+
+            eventThreads.put(json, Thread.currentThread().getName());
+            processedEvents.add(json);
+
+            if (json.startsWith("fail"))
+            {
+                throw new IllegalStateException("Listener failed for " + json);
+            }
+        }
+
+        void release(int permits)
+        {
+            gate.release(permits);
+        }
+
+        void releaseHeld(int permits)
+        {
+            heldGate.release(permits);
+        }
+
+        List<String> getProcessedEvents()
+        {
+            synchronized (processedEvents)
+            {
+                return new ArrayList<>(processedEvents);
+            }
+        }
+
+        String getThreadName(String json)
+        {
+            return eventThreads.get(json);
+        }
+    }
+
+
+    /**
+     * Wait for a condition that depends on the lane threads.
+     *
+     * @param condition condition to wait for
+     */
+    private void waitFor(BooleanSupplier condition) throws InterruptedException
+    {
+        long endTime = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+
+        while (! condition.getAsBoolean())
+        {
+            assertTrue(System.currentTimeMillis() < endTime, "Timed out waiting for the lanes");
+            Thread.sleep(5);
+        }
+    }
+
+
+    /**
+     * Return the events with the supplied key in the order they were processed.
+     *
+     * @param processedEvents all processed events
+     * @param key key of the events
+     * @return events for the key
+     */
+    private List<String> getEventsForKey(List<String> processedEvents,
+                                         String       key)
+    {
+        List<String> results = new ArrayList<>();
+
+        for (String json : processedEvents)
+        {
+            if (json.startsWith(key + ":"))
+            {
+                results.add(json);
+            }
+        }
+
+        return results;
+    }
+
+
+    @Test
+    void testEventsWithTheSameKeyAreProcessedInOrder() throws InterruptedException
+    {
+        RecordingConnector          connector = new RecordingConnector(Integer.MAX_VALUE);
+        KafkaOpenMetadataEventLanes lanes     = new KafkaOpenMetadataEventLanes(3, 1000, "test-lane-", topicName, connector, null);
+
+        List<String> keys   = new ArrayList<>();
+        int          offset = 0;
+
+        for (int i = 0; i < 6; i++)
+        {
+            keys.add("key" + i);
+        }
+
+        for (int i = 0; i < 50; i++)
+        {
+            for (String key : keys)
+            {
+                lanes.submitEvent(partition0, key, new KafkaIncomingEvent(key + ":" + i, offset++));
+            }
+        }
+
+        waitFor(() -> connector.getProcessedEvents().size() == 300);
+
+        List<String> processedEvents = connector.getProcessedEvents();
+        Set<String>  threadNames     = new HashSet<>();
+
+        for (String key : keys)
+        {
+            List<String> eventsForKey = getEventsForKey(processedEvents, key);
+            String       threadName   = connector.getThreadName(key + ":0");
+
+            assertEquals(eventsForKey.size(), 50);
+
+            for (int i = 0; i < 50; i++)
+            {
+                assertEquals(eventsForKey.get(i), key + ":" + i);
+                assertEquals(connector.getThreadName(eventsForKey.get(i)), threadName);
+            }
+
+            assertTrue(threadName.startsWith("test-lane-0-"));
+            threadNames.add(threadName);
+        }
+
+        assertTrue(threadNames.size() > 1, "All keys were processed on one lane");
+
+        lanes.shutdown();
+    }
+
+
+    @Test
+    void testEventsWithoutKeyUseOneLane() throws InterruptedException
+    {
+        RecordingConnector          connector = new RecordingConnector(Integer.MAX_VALUE);
+        KafkaOpenMetadataEventLanes lanes     = new KafkaOpenMetadataEventLanes(4, 1000, "test-lane-", topicName, connector, null);
+
+        for (int i = 0; i < 20; i++)
+        {
+            lanes.submitEvent(partition1, null, new KafkaIncomingEvent("null:" + i, i));
+        }
+
+        waitFor(() -> connector.getProcessedEvents().size() == 20);
+
+        List<String> processedEvents = connector.getProcessedEvents();
+
+        for (int i = 0; i < 20; i++)
+        {
+            assertEquals(processedEvents.get(i), "null:" + i);
+            assertEquals(connector.getThreadName(processedEvents.get(i)), "test-lane-1-0");
+        }
+
+        lanes.shutdown();
+    }
+
+
+    @Test
+    void testPartitionIsPausedAndResumed() throws InterruptedException
+    {
+        RecordingConnector          connector = new RecordingConnector(0);
+        KafkaOpenMetadataEventLanes lanes     = new KafkaOpenMetadataEventLanes(2, 4, "test-lane-", topicName, connector, null);
+
+        assertTrue(lanes.getPartitionsToPause().isEmpty());
+        assertTrue(lanes.canResume(partition0));
+
+        for (int i = 0; i < 3; i++)
+        {
+            lanes.submitEvent(partition0, "key" + i, new KafkaIncomingEvent("key" + i + ":0", i));
+        }
+
+        lanes.submitEvent(partition1, "key0", new KafkaIncomingEvent("held:0", 0));
+
+        assertTrue(lanes.getPartitionsToPause().isEmpty());
+
+        lanes.submitEvent(partition0, "key3", new KafkaIncomingEvent("key3:0", 3));
+
+        assertEquals(lanes.getPartitionsToPause(), Collections.singleton(partition0));
+        assertFalse(lanes.canResume(partition0));
+        assertTrue(lanes.canResume(partition1));
+
+        /*
+         * The partition is not resumed until half of the limit has been processed.
+         */
+        connector.release(1);
+        waitFor(() -> lanes.getPartitionsToPause().isEmpty());
+        assertFalse(lanes.canResume(partition0));
+
+        connector.release(1);
+        waitFor(() -> lanes.canResume(partition0));
+
+        connector.release(2);
+        connector.releaseHeld(1);
+        lanes.shutdown();
+
+        assertEquals(connector.getProcessedEvents().size(), 5);
+    }
+
+
+    @Test
+    void testListenerErrorDoesNotStopTheLane() throws InterruptedException
+    {
+        RecordingConnector          connector = new RecordingConnector(Integer.MAX_VALUE);
+        KafkaOpenMetadataEventLanes lanes     = new KafkaOpenMetadataEventLanes(1, 2, "test-lane-", topicName, connector, null);
+
+        lanes.submitEvent(partition0, "key0", new KafkaIncomingEvent("fail:0", 0));
+        lanes.submitEvent(partition0, "key0", new KafkaIncomingEvent("key0:1", 1));
+
+        waitFor(() -> connector.getProcessedEvents().size() == 2);
+        waitFor(() -> lanes.canResume(partition0) && lanes.getPartitionsToPause().isEmpty());
+
+        assertEquals(connector.getProcessedEvents().get(1), "key0:1");
+
+        lanes.shutdown();
+    }
+
+
+    @Test
+    void testRevokedPartitionIsDrained() throws InterruptedException
+    {
+        RecordingConnector          connector = new RecordingConnector(0);
+        KafkaOpenMetadataEventLanes lanes     = new KafkaOpenMetadataEventLanes(2, 10, "test-lane-", topicName, connector, null);
+
+        for (int i = 0; i < 4; i++)
+        {
+            lanes.submitEvent(partition0, "key" + i, new KafkaIncomingEvent("key" + i + ":0", i));
+        }
+
+        lanes.submitEvent(partition1, "key0", new KafkaIncomingEvent("held:0", 0));
+
+        Thread releaser = new Thread(() ->
+        {
+            try
+            {
+                Thread.sleep(50);
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            connector.release(4);
+        });
+
+        releaser.start();
+
+        /*
+         * The revoked partition's events are processed before drainPartitions returns.  The events of the
+         * other partition are still waiting.
+         */
+        lanes.drainPartitions(Collections.singletonList(partition0));
+
+        assertEquals(getEventsForKey(connector.getProcessedEvents(), "key0"), Collections.singletonList("key0:0"));
+        assertEquals(connector.getProcessedEvents().size(), 4);
+        assertTrue(lanes.canResume(partition0));
+
+        releaser.join();
+
+        /*
+         * The other partition keeps running and the revoked partition gets new lanes if it is assigned again.
+         */
+        connector.release(1);
+        connector.releaseHeld(1);
+        lanes.submitEvent(partition0, "key0", new KafkaIncomingEvent("key0:2", 4));
+
+        waitFor(() -> connector.getProcessedEvents().size() == 6);
+
+        assertEquals(getEventsForKey(connector.getProcessedEvents(), "key0"), Arrays.asList("key0:0", "key0:2"));
+        assertTrue(connector.getThreadName("held:0").startsWith("test-lane-1-"));
+
+        lanes.drainPartitions(Collections.singletonList(new TopicPartition(topicName, 7)));
+        lanes.shutdown();
+    }
+
+
+    @Test
+    void testShutdownProcessesQueuedEvents() throws InterruptedException
+    {
+        RecordingConnector          connector = new RecordingConnector(0);
+        KafkaOpenMetadataEventLanes lanes     = new KafkaOpenMetadataEventLanes(2, 100, "shutdown-lane-", topicName, connector, null);
+
+        for (int i = 0; i < 10; i++)
+        {
+            lanes.submitEvent((i % 2 == 0) ? partition0 : partition1, "key" + i, new KafkaIncomingEvent("key" + i + ":0", i));
+        }
+
+        assertTrue(connector.getProcessedEvents().isEmpty());
+
+        connector.release(10);
+        lanes.shutdown();
+
+        assertEquals(connector.getProcessedEvents().size(), 10);
+        assertTrue(lanes.getPartitionsToPause().isEmpty());
+
+        for (Thread thread : Thread.getAllStackTraces().keySet())
+        {
+            if (thread.getName().startsWith("shutdown-lane-"))
+            {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+                assertFalse(thread.isAlive(), thread.getName() + " is still running");
+            }
+        }
+    }
+}
@@ -58,6 +58,15 @@ public enum GraphOMRSAuditCode implements AuditLogMessageSet
             "The OMRS Graph Repository has been opened.",
             "The local server has created and initialized the Local OMRS Graph Repository database.",
             "No action is required. The existing graph repository has been opened and validated successfully."),
+
+    GRAPH_REPOSITORY_BATCH_LOADING("OMRS-GRAPH-REPOSITORY-0004",
+            OMRSAuditLogRecordSeverity.INFO,
+            "The OMRS Graph Repository {0} has been opened with batch loading enabled.",
+            "The graph database will not use locks or check the consistency of instances as they are written.  This speeds up " +
+                    "the loading of large numbers of instances.",
+            "Batch loading should only be used while the repository is being loaded and no other server is writing to the " +
+                    "same graph database.  Remove the enableBatchLoading property from the repository connection and restart " +
+                    "the server once the load is complete."),
     ;
 
     AuditLogMessageDefinition messageDefinition;
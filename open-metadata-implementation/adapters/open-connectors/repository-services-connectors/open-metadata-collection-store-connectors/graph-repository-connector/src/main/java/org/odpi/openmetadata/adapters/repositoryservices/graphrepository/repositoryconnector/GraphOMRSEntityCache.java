@@ -0,0 +1,242 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ArrayPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.MapPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.StructPropertyValue;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * GraphOMRSEntityCache holds the most recently retrieved entities so that repeated retrievals of an unchanged
+ * entity do not need to deserialize its properties and classifications again.  Entries are keyed by GUID and
+ * are only returned if the version stored on the vertex matches.  Classification changes do not change the
+ * version of the entity, so the metadata store also removes the entry whenever it updates or removes the entity.
+ *
+ * A reader takes the generation before it starts reading from the graph and passes it back when it adds the
+ * entity.  The entity is not cached if the cache has been invalidated in the meantime, since what was read may
+ * be older than the update.
+ *
+ * Entities are copied in and out of the cache so that callers cannot change the cached content.  The copy
+ * constructors of the instance classes share the classifications and property values, so the copies
+ * also take their own classifications, properties and property values, including those nested in structs,
+ * maps and arrays.
+ */
+class GraphOMRSEntityCache
+{
+    private long generation = 0L;
+
+    private final Map<String, EntityDetail> entities;
+
+
+    /**
+     * Create a cache of the requested size.
+     *
+     * @param maxEntries number of entities to retain
+     */
+    GraphOMRSEntityCache(int maxEntries)
+    {
+        this.entities = new LinkedHashMap<String, EntityDetail>(16, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, EntityDetail> eldest)
+            {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+
+    /**
+     * Return the current generation - it changes every time an entity is invalidated.
+     *
+     * @return generation counter
+     */
+    synchronized long getGeneration()
+    {
+        return generation;
+    }
+
+
+    /**
+     * Return a copy of the cached entity if it is at the requested version.
+     *
+     * @param guid unique identifier of the entity
+     * @param version version stored in the graph
+     * @return entity or null if not cached at this version
+     */
+    synchronized EntityDetail getEntity(String guid,
+                                        Long   version)
+    {
+        EntityDetail entity = entities.get(guid);
+
+        if ((entity == null) || (version == null) || (entity.getVersion() != version))
+        {
+            return null;
+        }
+
+        return copyEntity(entity);
+    }
+
+
+    /**
+     * Add an entity that has just been read from the graph.
+     *
+     * @param entity entity read from the graph
+     * @param readGeneration generation returned before the read started
+     */
+    synchronized void addEntity(EntityDetail entity,
+                                long         readGeneration)
+    {
+        if ((readGeneration == generation) && (entity.getGUID() != null))
+        {
+            entities.put(entity.getGUID(), copyEntity(entity));
+        }
+    }
+
+
+    /**
+     * Remove an entity that has been updated or removed.
+     *
+     * @param guid unique identifier of the entity
+     */
+    synchronized void removeEntity(String guid)
+    {
+        generation ++;
+        entities.remove(guid);
+    }
+
+
+    /**
+     * Return a copy of an entity that shares no changeable content with the original.
+     *
+     * @param entity entity to copy
+     * @return copy
+     */
+    private static EntityDetail copyEntity(EntityDetail entity)
+    {
+        EntityDetail copy = new EntityDetail(entity);
+
+        copy.setProperties(copyProperties(entity.getProperties()));
+
+        List<Classification> classifications = entity.getClassifications();
+
+        if (classifications != null)
+        {
+            List<Classification> copiedClassifications = new ArrayList<>();
+
+            for (Classification classification : classifications)
+            {
+                if (classification != null)
+                {
+                    Classification copiedClassification = new Classification(classification);
+
+                    copiedClassification.setProperties(copyProperties(classification.getProperties()));
+                    copiedClassifications.add(copiedClassification);
+                }
+            }
+
+            copy.setClassifications(copiedClassifications);
+        }
+
+        return copy;
+    }
+
+
+    /**
+     * Return a copy of the properties and their values.
+     *
+     * @param properties properties to copy
+     * @return copy or null
+     */
+    private static InstanceProperties copyProperties(InstanceProperties properties)
+    {
+        if (properties == null)
+        {
+            return null;
+        }
+
+        InstanceProperties copy = new InstanceProperties();
+
+        if (properties.getEffectiveFromTime() != null)
+        {
+            copy.setEffectiveFromTime(new Date(properties.getEffectiveFromTime().getTime()));
+        }
+
+        if (properties.getEffectiveToTime() != null)
+        {
+            copy.setEffectiveToTime(new Date(properties.getEffectiveToTime().getTime()));
+        }
+
+        Map<String, InstancePropertyValue> propertyValues = properties.getInstanceProperties();
+
+        if (propertyValues != null)
+        {
+            Map<String, InstancePropertyValue> copiedValues = new HashMap<>();
+
+            for (Map.Entry<String, InstancePropertyValue> propertyValue : propertyValues.entrySet())
+            {
+                copiedValues.put(propertyValue.getKey(), copyPropertyValue(propertyValue.getValue()));
+            }
+
+            copy.setInstanceProperties(copiedValues);
+        }
+
+        return copy;
+    }
+
+
+    /**
+     * Return a copy of a property value.  The primitive and enum values only hold values that can not be changed,
+     * so their clone is enough.  The nested properties of the other kinds of value are copied.
+     *
+     * @param propertyValue value to copy
+     * @return copy or null
+     */
+    private static InstancePropertyValue copyPropertyValue(InstancePropertyValue propertyValue)
+    {
+        if (propertyValue == null)
+        {
+            return null;
+        }
+        else if (propertyValue instanceof StructPropertyValue)
+        {
+            StructPropertyValue copy = new StructPropertyValue((StructPropertyValue)propertyValue);
+
+            copy.setAttributes(copyProperties(copy.getAttributes()));
+
+            return copy;
+        }
+        else if (propertyValue instanceof MapPropertyValue)
+        {
+            MapPropertyValue copy = new MapPropertyValue((MapPropertyValue)propertyValue);
+
+            copy.setMapValues(copyProperties(copy.getMapValues()));
+
+            return copy;
+        }
+        else if (propertyValue instanceof ArrayPropertyValue)
+        {
+            ArrayPropertyValue copy = new ArrayPropertyValue((ArrayPropertyValue)propertyValue);
+
+            copy.setArrayValues(copyProperties(copy.getArrayValues()));
+
+            return copy;
+        }
+
+        return propertyValue.cloneFromSubclass();
+    }
+}
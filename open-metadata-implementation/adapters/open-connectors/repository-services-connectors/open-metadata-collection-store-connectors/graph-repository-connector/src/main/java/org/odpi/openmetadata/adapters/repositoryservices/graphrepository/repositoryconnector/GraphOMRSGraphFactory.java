@@ -4,10 +4,13 @@ package org.odpi.openmetadata.adapters.repositoryservices.graphrepository.reposi
 
 import org.apache.commons.collections4.MapUtils;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.janusgraph.core.Cardinality;
+import org.janusgraph.core.EdgeLabel;
 import org.janusgraph.core.JanusGraph;
 import org.janusgraph.core.JanusGraphFactory;
 import org.janusgraph.core.PropertyKey;
@@ -15,6 +18,7 @@ import org.janusgraph.core.schema.ConsistencyModifier;
 import org.janusgraph.core.schema.JanusGraphIndex;
 import org.janusgraph.core.schema.JanusGraphManagement;
 import org.janusgraph.core.schema.Mapping;
+import org.janusgraph.core.schema.RelationTypeIndex;
 import org.janusgraph.core.schema.SchemaAction;
 import org.janusgraph.core.schema.SchemaStatus;
 import org.janusgraph.graphdb.database.management.ManagementSystem;
@@ -27,6 +31,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.*;
@@ -36,6 +41,9 @@ public class GraphOMRSGraphFactory {
 
     private static final Logger log = LoggerFactory.getLogger(GraphOMRSGraphFactory.class);
 
+    // Number of existing Relationship edges rewritten per transaction when they are added to the vertex-centric index
+    private static final int REINDEX_BATCH_SIZE = 1000;
+
     private JanusGraph   graph;
     private String       thisRepositoryName;
     private String       thisMetadataCollectionId;
@@ -61,7 +69,8 @@ public class GraphOMRSGraphFactory {
     public JanusGraph open(String              metadataCollectionId,
                            String              repositoryName,
                            AuditLog            auditLog,
-                           Map<String, Object> storageProperties)
+                           Map<String, Object> storageProperties,
+                           boolean             batchLoading)
             throws
             RepositoryErrorException
     {
@@ -86,6 +95,14 @@ public class GraphOMRSGraphFactory {
         if (MapUtils.isEmpty(storageProperties)) {
             storageProperties = getBerkleyStorageProperties();
         }
+
+        // Batch loading turns off JanusGraph's locking and consistency checks for the whole graph, so it is only
+        // set when the connection explicitly asks for it, typically while an initial load is under way.
+        if (batchLoading) {
+            storageProperties = new HashMap<>(storageProperties);
+            storageProperties.put("storage.batch-loading", true);
+            thisAuditLog.logMessage(methodName, GraphOMRSAuditCode.GRAPH_REPOSITORY_BATCH_LOADING.getMessageDefinition(repositoryName));
+        }
         JanusGraphFactory.Builder build = JanusGraphFactory.build();
         storageProperties.forEach(build::set);
 
@@ -379,6 +396,10 @@ public class GraphOMRSGraphFactory {
             createMixedIndexForEdgeCoreProperty(PROPERTY_NAME_MAPPING_PROPERTIES,      PROPERTY_KEY_RELATIONSHIP_MAPPING_PROPERTIES);
             createMixedIndexForEdgeCoreProperty(PROPERTY_NAME_REIDENTIFIED_FROM_GUID, PROPERTY_KEY_RELATIONSHIP_REIDENTIFIED_FROM_GUID);
 
+            // A vertex-centric index on the Relationship edges of each vertex, by typeName and currentStatus, so that the relationships
+            // of an entity can be filtered by type and status without visiting every edge of the vertex.
+            createVertexCentricIndexForRelationshipEdges();
+
             /*
              *  Classification core property indexes
              */
@@ -808,6 +829,107 @@ public class GraphOMRSGraphFactory {
     }
 
 
+    private void createVertexCentricIndexForRelationshipEdges() {
+
+        final String methodName = "createVertexCentricIndexForRelationshipEdges";
+
+        String indexName = "edgeIndexVertexCentric" + PROPERTY_KEY_RELATIONSHIP_TYPE_NAME + PROPERTY_KEY_RELATIONSHIP_CURRENT_STATUS;
+        log.info("INDEX CREATE {}", indexName);
+
+        JanusGraphManagement management = graph.openManagement();
+
+        try {
+
+            EdgeLabel relationshipLabel = management.getEdgeLabel("Relationship");
+
+            // Check if index exists
+            if (management.containsRelationIndex(relationshipLabel, indexName)) {
+                log.info("{} index {} already exists for Relationship edges", methodName, indexName);
+                management.rollback();
+                return;
+            }
+
+            // If the repository already contains relationships (e.g. it was created by an earlier release) the existing edges have to be
+            // added to the index once it is enabled.
+            GraphTraversalSource g = graph.traversal();
+            boolean hasRelationships = g.E().hasLabel("Relationship").limit(1).hasNext();
+            g.tx().rollback();
+
+            // The typeName key is created with its composite index; the currentStatus key may not exist yet
+            PropertyKey typeNameKey = management.getPropertyKey(PROPERTY_KEY_RELATIONSHIP_TYPE_NAME);
+            if (typeNameKey == null) {
+                typeNameKey = management.makePropertyKey(PROPERTY_KEY_RELATIONSHIP_TYPE_NAME).dataType(Class.forName(corePropertyTypes.get(PROPERTY_NAME_TYPE_NAME))).make();
+            }
+            PropertyKey statusKey = management.getPropertyKey(PROPERTY_KEY_RELATIONSHIP_CURRENT_STATUS);
+            if (statusKey == null) {
+                statusKey = management.makePropertyKey(PROPERTY_KEY_RELATIONSHIP_CURRENT_STATUS).dataType(Class.forName(corePropertyTypes.get(PROPERTY_NAME_CURRENT_STATUS))).make();
+            }
+
+            management.buildEdgeIndex(relationshipLabel, indexName, Direction.BOTH, typeNameKey, statusKey);
+            management.commit();
+
+            management = graph.openManagement();
+            RelationTypeIndex index = management.getRelationIndex(management.getEdgeLabel("Relationship"), indexName);
+            SchemaStatus indexStatus = index.getIndexStatus();
+            management.rollback();
+
+            if (indexStatus != SchemaStatus.ENABLED) {
+
+                // Block until the SchemaStatus transitions from INSTALLED to REGISTERED
+                ManagementSystem.awaitRelationIndexStatus(graph, indexName, "Relationship").status(SchemaStatus.REGISTERED).call();
+
+                management = graph.openManagement();
+                index = management.getRelationIndex(management.getEdgeLabel("Relationship"), indexName);
+                management.updateIndex(index, SchemaAction.ENABLE_INDEX);
+                management.commit();
+            }
+
+            log.debug("{} awaitRelationIndexStatus ENABLED for {}", methodName, indexName);
+            ManagementSystem.awaitRelationIndexStatus(graph, indexName, "Relationship").status(SchemaStatus.ENABLED).timeout(10, ChronoUnit.SECONDS).call();
+
+            if (hasRelationships) {
+                addExistingRelationshipEdgesToIndex(indexName);
+            }
+        }
+        catch (Exception e) {
+            log.error("{} caught exception creating vertex-centric index {}", methodName, e);
+            if (management.isOpen()) {
+                management.rollback();
+            }
+        }
+
+    }
+
+    private void addExistingRelationshipEdgesToIndex(String indexName) {
+
+        final String methodName = "addExistingRelationshipEdgesToIndex";
+
+        // SchemaAction.REINDEX does not work for an index in both directions - it adds the entries for the in vertex of each edge to its
+        // out vertex. Instead each existing edge is rewritten (JanusGraph replaces an edge when one of its properties is set), which adds
+        // the index entries at both of its ends.
+        log.info("{} add the existing Relationship edges to index {}", methodName, indexName);
+
+        GraphTraversalSource g = graph.traversal();
+        List<Object> edgeIds = g.E().hasLabel("Relationship").id().toList();
+        g.tx().commit();
+
+        for (int start = 0; start < edgeIds.size(); start += REINDEX_BATCH_SIZE) {
+
+            List<Object> batch = edgeIds.subList(start, Math.min(start + REINDEX_BATCH_SIZE, edgeIds.size()));
+            Iterator<Edge> edges = g.E(batch.toArray());
+            while (edges.hasNext()) {
+                Edge edge = edges.next();
+                Property<Object> status = edge.property(PROPERTY_KEY_RELATIONSHIP_CURRENT_STATUS);
+                if (status.isPresent()) {
+                    edge.property(PROPERTY_KEY_RELATIONSHIP_CURRENT_STATUS, status.value());
+                }
+            }
+            g.tx().commit();
+        }
+
+        log.info("{} added {} Relationship edges to index {}", methodName, edgeIds.size(), indexName);
+    }
+
     private boolean createControlIndex() {
 
         final String methodName = "createControlIndex";
@@ -72,6 +72,9 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
     private GraphOMRSMetadataStore graphStore = null;
 
+    // Number of reference copies saved in each transaction by saveInstanceReferenceCopies
+    private int bulkLoadBatchSize = GraphOMRSRepositoryConnectorProvider.BULK_LOAD_BATCH_SIZE_DEFAULT;
+
     /**
      * Constructor ensures the metadata collection is linked to its connector and knows its metadata collection Id.
      *
@@ -82,6 +85,8 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
      * @param repositoryValidator  - class used to validate type definitions and instances.
      * @param metadataCollectionId - unique Identifier of the metadata collection Id.
      * @param auditLog             - logging destination
+     * @param storageProperties    - configuration properties from the connection.  The bulk load properties are used
+     *                             by the connector and the rest are passed to the graph database.
      */
     GraphOMRSMetadataCollection(GraphOMRSRepositoryConnector parentConnector,
                                 String                       repositoryName,
@@ -103,9 +108,43 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
          */
         this.parentConnector = parentConnector;
 
+        boolean batchLoading = false;
+        Map<String, Object> graphProperties = null;
+
+        if (storageProperties != null)
+        {
+            graphProperties = new HashMap<>(storageProperties);
+
+            Object batchSizeProperty = graphProperties.remove(GraphOMRSRepositoryConnectorProvider.BULK_LOAD_BATCH_SIZE_CONFIGURATION_PROPERTY);
+            Object batchLoadingProperty = graphProperties.remove(GraphOMRSRepositoryConnectorProvider.BATCH_LOADING_CONFIGURATION_PROPERTY);
+
+            if (batchSizeProperty != null)
+            {
+                try
+                {
+                    int value = Integer.parseInt(batchSizeProperty.toString());
+
+                    if (value > 0)
+                    {
+                        bulkLoadBatchSize = value;
+                    }
+                }
+                catch (NumberFormatException error)
+                {
+                    log.debug("Ignoring invalid value " + batchSizeProperty + " for configuration property " +
+                                      GraphOMRSRepositoryConnectorProvider.BULK_LOAD_BATCH_SIZE_CONFIGURATION_PROPERTY + ".");
+                }
+            }
+
+            if (batchLoadingProperty != null)
+            {
+                batchLoading = Boolean.parseBoolean(batchLoadingProperty.toString());
+            }
+        }
+
         try {
             this.graphStore = new GraphOMRSMetadataStore(metadataCollectionId, repositoryName, repositoryHelper, auditLog,
-                    storageProperties);
+                    graphProperties, batchLoading);
         }
         catch(RepositoryErrorException e) {
             /*
@@ -1143,49 +1182,179 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
         repositoryValidator.validateEntityFromStore(repositoryName, entityGUID, entity, methodName);
         repositoryValidator.validateEntityIsNotDeleted(repositoryName, entity, methodName);
 
-        List<Relationship> entityRelationships = new ArrayList<>();
-
         if (asOfTime != null) {
             log.error("{} does not support asOfTime searches", methodName);
 
             super.reportUnsupportedOptionalFunction(methodName);
         }
 
-        List<Relationship> filteredRelationships = new ArrayList<>();
-        List<Relationship> relationships = graphStore.getRelationshipsForEntity(entityGUID);
+        List<Relationship> relationships = getFilteredRelationshipsForEntity(entityGUID,
+                relationshipTypeGUID,
+                fromRelationshipElement,
+                limitResultsByStatus,
+                sequencingOrder,
+                pageSize,
+                null,
+                methodName);
 
-        for (Relationship  relationship : relationships) {
+        if (relationships.isEmpty())
+        {
+            return null;
+        }
 
-            if (relationship != null) {
+        return repositoryHelper.formatRelationshipResults(relationships,
+                getRemainingFromElement(fromRelationshipElement, sequencingOrder, pageSize),
+                sequencingProperty,
+                sequencingOrder,
+                pageSize);
+    }
 
-                if (relationship.getStatus() != InstanceStatus.DELETED) {
-                    // exclude DELETED relationships
 
-                    // filter results according to status filter parameter
-                    if (  limitResultsByStatus == null
-                          || (   limitResultsByStatus != null
-                              && !limitResultsByStatus.isEmpty()
-                              && limitResultsByStatus.contains(relationship.getStatus()))) {
+    // getRelationshipsAndEntitiesForEntity
+    // The relationships and the entities at their other ends are retrieved in one traversal of the entity's edges.
+    @Override
+    public InstanceGraph getRelationshipsAndEntitiesForEntity(String                     userId,
+                                                              String                     entityGUID,
+                                                              String                     relationshipTypeGUID,
+                                                              int                        fromRelationshipElement,
+                                                              List<InstanceStatus>       limitResultsByStatus,
+                                                              Date                       asOfTime,
+                                                              String                     sequencingProperty,
+                                                              SequencingOrder            sequencingOrder,
+                                                              int                        pageSize)
+            throws
+            InvalidParameterException,
+            TypeErrorException,
+            RepositoryErrorException,
+            EntityNotKnownException,
+            PropertyErrorException,
+            PagingErrorException,
+            UserNotAuthorizedException,
+            FunctionNotSupportedException
+    {
+        final String  methodName = "getRelationshipsAndEntitiesForEntity";
 
-                        // filter by typeGUID if necessary
-                        if (relationshipTypeGUID == null  || relationshipTypeGUID.equals(relationship.getType().getTypeDefGUID())) {
-                            filteredRelationships.add(relationship);
-                        }
-                    }
-                }
-            }
+        /*
+         * Validate parameters
+         */
+        super.getRelationshipsForEntityParameterValidation(userId,
+                entityGUID,
+                relationshipTypeGUID,
+                fromRelationshipElement,
+                limitResultsByStatus,
+                asOfTime,
+                sequencingProperty,
+                sequencingOrder,
+                pageSize);
+
+        /*
+         * Perform operation
+         */
+        EntitySummary  entity = this.getEntitySummary(userId, entityGUID);
+
+        repositoryValidator.validateEntityFromStore(repositoryName, entityGUID, entity, methodName);
+        repositoryValidator.validateEntityIsNotDeleted(repositoryName, entity, methodName);
+
+        if (asOfTime != null) {
+            log.error("{} does not support asOfTime searches", methodName);
+
+            super.reportUnsupportedOptionalFunction(methodName);
         }
 
-        if (filteredRelationships.isEmpty())
+        Map<String, EntityDetail> relatedEntities = new HashMap<>();
+        List<Relationship> relationships = getFilteredRelationshipsForEntity(entityGUID,
+                relationshipTypeGUID,
+                fromRelationshipElement,
+                limitResultsByStatus,
+                sequencingOrder,
+                pageSize,
+                relatedEntities,
+                methodName);
+
+        if (relationships.isEmpty())
         {
             return null;
         }
 
-        return repositoryHelper.formatRelationshipResults(filteredRelationships,
-                fromRelationshipElement,
+        List<Relationship> pageOfRelationships = repositoryHelper.formatRelationshipResults(relationships,
+                getRemainingFromElement(fromRelationshipElement, sequencingOrder, pageSize),
                 sequencingProperty,
                 sequencingOrder,
                 pageSize);
+
+        if (pageOfRelationships == null)
+        {
+            return null;
+        }
+
+        // Only return the entities at the ends of the relationships in the page - and each of them only once
+        List<EntityDetail> entities = new ArrayList<>();
+        for (Relationship relationship : pageOfRelationships) {
+
+            EntityDetail relatedEntity = relatedEntities.remove(super.getRelatedEntityGUID(entityGUID, relationship));
+
+            if (relatedEntity != null && relatedEntity.getStatus() != InstanceStatus.DELETED) {
+                entities.add(relatedEntity);
+            }
+        }
+
+        return new InstanceGraph(entities, pageOfRelationships);
+    }
+
+
+    // getFilteredRelationshipsForEntity
+    // Retrieve the relationships for an entity with the type and status filters applied by the graph store. If the
+    // results do not need to be sorted, the paging is also applied by the graph store; otherwise all of the matching
+    // relationships are returned so that they can be sorted before paging. DELETED relationships are never returned.
+    private List<Relationship> getFilteredRelationshipsForEntity(String                    entityGUID,
+                                                                 String                    relationshipTypeGUID,
+                                                                 int                       fromRelationshipElement,
+                                                                 List<InstanceStatus>      limitResultsByStatus,
+                                                                 SequencingOrder           sequencingOrder,
+                                                                 int                       pageSize,
+                                                                 Map<String, EntityDetail> relatedEntities,
+                                                                 String                    methodName)
+            throws
+            TypeErrorException,
+            RepositoryErrorException
+    {
+        // The type filter includes the subtypes of the requested relationship type
+        List<String> relationshipTypeNames = null;
+        if (relationshipTypeGUID != null) {
+            TypeDef typeDef = repositoryHelper.getTypeDef(repositoryName, "relationshipTypeGUID", relationshipTypeGUID, methodName);
+            relationshipTypeNames = new ArrayList<>();
+            relationshipTypeNames.add(typeDef.getName());
+            List<String> subTypeNames = repositoryHelper.getSubTypesOf(repositoryName, typeDef.getName());
+            if (subTypeNames != null) {
+                relationshipTypeNames.addAll(subTypeNames);
+            }
+        }
+
+        // DELETED relationships are excluded even if they are requested in the status filter
+        List<InstanceStatus> statuses = null;
+        if (limitResultsByStatus != null) {
+            statuses = new ArrayList<>(limitResultsByStatus);
+            statuses.removeIf(status -> status == null || status == InstanceStatus.DELETED);
+        }
+
+        if (isPagedInGraph(sequencingOrder, pageSize)) {
+            return graphStore.getRelationshipsForEntity(entityGUID, relationshipTypeNames, statuses, fromRelationshipElement, pageSize, relatedEntities);
+        }
+        return graphStore.getRelationshipsForEntity(entityGUID, relationshipTypeNames, statuses, 0, 0, relatedEntities);
+    }
+
+
+    // isPagedInGraph - paging can be applied in the traversal when the results are not sorted
+    private boolean isPagedInGraph(SequencingOrder sequencingOrder, int pageSize)
+    {
+        return pageSize > 0 && (sequencingOrder == null || sequencingOrder == SequencingOrder.ANY);
+    }
+
+
+    // getRemainingFromElement - the starting element still to be skipped once the graph store has returned the results
+    private int getRemainingFromElement(int fromElement, SequencingOrder sequencingOrder, int pageSize)
+    {
+        return isPagedInGraph(sequencingOrder, pageSize) ? 0 : fromElement;
     }
 
 
@@ -3509,6 +3678,94 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
     }
 
 
+    /**
+     * Save the entities and relationships supplied in the instance graph as reference copies.  The reference copies
+     * are saved in transactions of up to bulkLoadBatchSize instances.  If a transaction fails, its instances are
+     * saved again one at a time so that the exception reflects the instance that could not be saved.
+     *
+     * @param userId unique identifier for requesting server.
+     * @param instances instances to save
+     *
+     * @throws InvalidParameterException the relationship is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws EntityNotKnownException one of the entities identified by the relationship is not found in the
+     *                                   metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this relationship's type.
+     * @throws EntityConflictException the new entity conflicts with an existing entity.
+     * @throws RelationshipConflictException the new relationship conflicts with an existing relationship.
+     * @throws InvalidEntityException the new entity has invalid contents.
+     * @throws InvalidRelationshipException the new relationship has invalid contents.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public void saveInstanceReferenceCopies(String        userId,
+                                            InstanceGraph instances)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            TypeErrorException,
+            EntityNotKnownException,
+            PropertyErrorException,
+            EntityConflictException,
+            RelationshipConflictException,
+            InvalidEntityException,
+            InvalidRelationshipException,
+            FunctionNotSupportedException,
+            UserNotAuthorizedException
+    {
+        final String  methodName                = "saveInstanceReferenceCopies";
+        final String  entityParameterName       = "entity";
+        final String  relationshipParameterName = "relationship";
+
+        if ((instances == null) || (bulkLoadBatchSize <= 1))
+        {
+            super.saveInstanceReferenceCopies(userId, instances);
+            return;
+        }
+
+        /*
+         * Validate all of the instances, skipping any that have the local home metadata collection id,
+         * before any of them are saved.
+         */
+        List<EntityDetail> entities = new ArrayList<>();
+        List<Relationship> relationships = new ArrayList<>();
+
+        if (instances.getEntities() != null)
+        {
+            for (EntityDetail entity : instances.getEntities())
+            {
+                if ((entity != null) && (! metadataCollectionId.equals(entity.getMetadataCollectionId())))
+                {
+                    super.referenceInstanceParameterValidation(userId, entity, entityParameterName, methodName);
+                    entities.add(entity);
+                }
+            }
+        }
+
+        if (instances.getRelationships() != null)
+        {
+            for (Relationship relationship : instances.getRelationships())
+            {
+                if ((relationship != null) && (! metadataCollectionId.equals(relationship.getMetadataCollectionId())))
+                {
+                    super.referenceInstanceParameterValidation(userId, relationship, relationshipParameterName, methodName);
+                    relationships.add(relationship);
+                }
+            }
+        }
+
+        /*
+         * Save the reference copies
+         */
+        graphStore.saveInstanceReferenceCopiesToStore(entities, relationships, bulkLoadBatchSize);
+    }
+
+
     @Override
     public List<Classification> getHomeClassifications(String userId,
                                                        String entityGUID)
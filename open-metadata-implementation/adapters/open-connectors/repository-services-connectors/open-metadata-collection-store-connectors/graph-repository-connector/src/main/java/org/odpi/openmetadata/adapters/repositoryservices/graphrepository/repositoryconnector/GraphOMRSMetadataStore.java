@@ -119,6 +119,10 @@ class GraphOMRSMetadataStore {
     private GraphOMRSEntityMapper entityMapper;
     private GraphOMRSClassificationMapper classificationMapper;
 
+    // Recently retrieved entities - saves deserializing the properties and classifications of unchanged entities
+    private static final int entityCacheSize = 1000;
+    private GraphOMRSEntityCache entityCache = new GraphOMRSEntityCache(entityCacheSize);
+
 
     /**
      * Typical constructor
@@ -128,13 +132,15 @@ class GraphOMRSMetadataStore {
      * @param repositoryHelper     utilities
      * @param auditLog             logging destination
      * @param storageProperties    properties for the graph DB
+     * @param batchLoading         whether to open the graph DB with batch loading enabled
      * @throws RepositoryErrorException problem with the graph database.
      */
     GraphOMRSMetadataStore(String                 metadataCollectionId,
                            String                 repositoryName,
                            OMRSRepositoryHelper   repositoryHelper,
                            AuditLog               auditLog,
-                           Map<String, Object>    storageProperties)
+                           Map<String, Object>    storageProperties,
+                           boolean                batchLoading)
 
     throws RepositoryErrorException
     {
@@ -151,7 +157,7 @@ class GraphOMRSMetadataStore {
             graphFactory = new GraphOMRSGraphFactory();
             synchronized (GraphOMRSMetadataStore.class)
             {
-                instanceGraph = graphFactory.open(metadataCollectionId, repositoryName, auditLog, storageProperties);
+                instanceGraph = graphFactory.open(metadataCollectionId, repositoryName, auditLog, storageProperties, batchLoading);
             }
         }
         catch (RepositoryErrorException e)
@@ -296,10 +302,27 @@ class GraphOMRSMetadataStore {
 
     throws RepositoryErrorException,
            InvalidParameterException
+    {
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        createEntityProxyInGraph(g, entityProxy);
+
+        g.tx().commit();
+    }
+
+
+    /*
+     * Add the proxy in the caller's transaction.  The transaction is rolled back if the proxy cannot be added.
+     */
+    private void createEntityProxyInGraph(GraphTraversalSource g,
+                                          EntityProxy entityProxy)
+
+    throws RepositoryErrorException,
+           InvalidParameterException
+
     {
         final String methodName = "createEntityProxyInStore";
 
-        GraphTraversalSource g = instanceGraph.traversal();
         Iterator<Vertex> vertexIt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entityProxy.getGUID());
         if (vertexIt.hasNext())
         {
@@ -350,9 +373,6 @@ class GraphOMRSMetadataStore {
                     this.getClass().getName(),
                     methodName, e);
         }
-
-        g.tx().commit();
-
     }
 
 
@@ -394,6 +414,27 @@ class GraphOMRSMetadataStore {
      */
     synchronized void saveEntityReferenceCopyToStore(EntityDetail entity)
 
+    throws InvalidParameterException,
+           RepositoryErrorException
+
+    {
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        saveEntityReferenceCopyInGraph(g, entity);
+
+        g.tx().commit();
+
+        entityCache.removeEntity(entity.getGUID());
+    }
+
+
+    /*
+     * Save the entity reference copy in the caller's transaction.  The transaction is rolled back if the
+     * reference copy cannot be saved.
+     */
+    private void saveEntityReferenceCopyInGraph(GraphTraversalSource g,
+                                                EntityDetail entity)
+
     throws InvalidParameterException,
            RepositoryErrorException
 
@@ -403,7 +444,6 @@ class GraphOMRSMetadataStore {
 
         Vertex vertex;
 
-        GraphTraversalSource g = instanceGraph.traversal();
         Iterator<Vertex> vertexIt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entity.getGUID());
 
         if (vertexIt.hasNext())
@@ -489,9 +529,6 @@ class GraphOMRSMetadataStore {
                     this.getClass().getName(),
                     methodName, e);
         }
-
-
-        g.tx().commit();
     }
 
 
@@ -508,6 +545,7 @@ class GraphOMRSMetadataStore {
         EntityDetail entity = null;
 
         // Look in the graph
+        long cacheGeneration = entityCache.getGeneration();
         GraphTraversalSource g = instanceGraph.traversal();
 
         GraphTraversal<Vertex, Vertex> gt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, guid);
@@ -533,8 +571,7 @@ class GraphOMRSMetadataStore {
 
                     if (!isProxy)
                     {
-                        entity = new EntityDetail();
-                        entityMapper.mapVertexToEntityDetail(vertex, entity);
+                        entity = getEntityDetailFromVertex(vertex, cacheGeneration);
                     }
                     else
                     {
@@ -592,6 +629,30 @@ class GraphOMRSMetadataStore {
         return entity;
     }
 
+    /*
+     * Return the entity for a vertex that has already been checked to not be a proxy.  The entity cache is used if
+     * the vertex is at the same version as the cached entity.  The cacheGeneration must be taken from the cache
+     * before the traversal that found the vertex started.
+     */
+    private EntityDetail getEntityDetailFromVertex(Vertex vertex,
+                                                   long   cacheGeneration)
+
+    throws EntityProxyOnlyException,
+           RepositoryErrorException
+    {
+        EntityDetail entity = entityCache.getEntity(entityMapper.getEntityGUID(vertex), entityMapper.getEntityVersion(vertex));
+
+        if (entity == null)
+        {
+            entity = new EntityDetail();
+            entityMapper.mapVertexToEntityDetail(vertex, entity);
+            entityCache.addEntity(entity, cacheGeneration);
+        }
+
+        return entity;
+    }
+
+
     synchronized EntitySummary getEntitySummaryFromStore(String guid)
 
     throws EntityNotKnownException,
@@ -868,11 +929,31 @@ class GraphOMRSMetadataStore {
            RepositoryErrorException
 
     {
-
         final String methodName = "saveRelationshipReferenceCopyToStore";
 
         GraphTraversalSource g = instanceGraph.traversal();
 
+        saveRelationshipReferenceCopyInGraph(g, relationship);
+
+        log.debug("{} Commit tx containing creation or update of edge", methodName);
+        g.tx().commit();
+    }
+
+
+    /*
+     * Save the relationship reference copy in the caller's transaction, adding proxies for any entities that are not
+     * already in the graph.  The transaction is rolled back if the reference copy cannot be saved.
+     */
+    private void saveRelationshipReferenceCopyInGraph(GraphTraversalSource g,
+                                                      Relationship relationship)
+
+    throws InvalidParameterException,
+           RepositoryErrorException
+
+    {
+
+        final String methodName = "saveRelationshipReferenceCopyToStore";
+
         Vertex vertex;
 
         // Process end 1
@@ -899,7 +980,7 @@ class GraphOMRSMetadataStore {
         else
         {
             // Entity does not exist, create proxy
-            createEntityProxyInStore(entityOne);
+            createEntityProxyInGraph(g, entityOne);
         }
 
         // Process end 2
@@ -924,7 +1005,7 @@ class GraphOMRSMetadataStore {
         else
         {
             // Entity does not exist, create proxy
-            createEntityProxyInStore(entityTwo);
+            createEntityProxyInGraph(g, entityTwo);
         }
 
 
@@ -1037,9 +1118,98 @@ class GraphOMRSMetadataStore {
                     this.getClass().getName(),
                     methodName, e);
         }
+    }
 
-        log.debug("{} Commit tx containing creation or update of edge", methodName);
-        g.tx().commit();
+
+    /*
+     * Save a set of entity and relationship reference copies, committing a transaction for each batch of instances
+     * rather than for each instance.  The entities are saved before the relationships.
+     *
+     * If a batch cannot be saved or committed (for example because one of the instances is invalid, or because of a
+     * locking conflict with another transaction) the batch is rolled back and its instances are saved again one at a
+     * time, each in its own transaction.  This isolates the failing instance and the exception for it is returned to
+     * the caller, exactly as if the instances had been saved individually.
+     */
+    synchronized void saveInstanceReferenceCopiesToStore(List<EntityDetail> entities,
+                                                         List<Relationship> relationships,
+                                                         int                batchSize)
+
+    throws InvalidParameterException,
+           RepositoryErrorException
+
+    {
+        final String methodName = "saveInstanceReferenceCopiesToStore";
+
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        if (entities != null)
+        {
+            for (int start = 0; start < entities.size(); start += batchSize)
+            {
+                List<EntityDetail> batch = entities.subList(start, Math.min(start + batchSize, entities.size()));
+
+                try
+                {
+                    for (EntityDetail entity : batch)
+                    {
+                        saveEntityReferenceCopyInGraph(g, entity);
+                    }
+
+                    log.debug("{} Commit tx containing batch of {} entities", methodName, batch.size());
+                    g.tx().commit();
+
+                    for (EntityDetail entity : batch)
+                    {
+                        entityCache.removeEntity(entity.getGUID());
+                    }
+                }
+                catch (Exception e)
+                {
+                    log.debug("{} Batch of {} entities not saved, retrying individually: {}", methodName, batch.size(), e.getMessage());
+                    if (g.tx().isOpen())
+                    {
+                        g.tx().rollback();
+                    }
+
+                    for (EntityDetail entity : batch)
+                    {
+                        saveEntityReferenceCopyToStore(entity);
+                    }
+                }
+            }
+        }
+
+        if (relationships != null)
+        {
+            for (int start = 0; start < relationships.size(); start += batchSize)
+            {
+                List<Relationship> batch = relationships.subList(start, Math.min(start + batchSize, relationships.size()));
+
+                try
+                {
+                    for (Relationship relationship : batch)
+                    {
+                        saveRelationshipReferenceCopyInGraph(g, relationship);
+                    }
+
+                    log.debug("{} Commit tx containing batch of {} relationships", methodName, batch.size());
+                    g.tx().commit();
+                }
+                catch (Exception e)
+                {
+                    log.debug("{} Batch of {} relationships not saved, retrying individually: {}", methodName, batch.size(), e.getMessage());
+                    if (g.tx().isOpen())
+                    {
+                        g.tx().rollback();
+                    }
+
+                    for (Relationship relationship : batch)
+                    {
+                        saveRelationshipReferenceCopyToStore(relationship);
+                    }
+                }
+            }
+        }
     }
 
 
@@ -1173,6 +1343,8 @@ class GraphOMRSMetadataStore {
         log.debug("{} commit entity update tx: ", methodName);
         g.tx().commit();
 
+        entityCache.removeEntity(guid);
+
     }
 
 
@@ -1370,6 +1542,8 @@ class GraphOMRSMetadataStore {
         }
         g.tx().commit();
 
+        entityCache.removeEntity(entityGUID);
+
     }
 
 
@@ -1393,8 +1567,19 @@ class GraphOMRSMetadataStore {
 
     }
 
-    // getRelationshipsForEntity
-    synchronized List<Relationship> getRelationshipsForEntity(String entityGUID)
+    // getRelationshipsForEntity - the type, status and paging filters are applied in the traversal so that only the
+    // edges that are returned are mapped. This matters for hub entities that have very many relationships.
+    // The relationshipTypeNames are the names of the acceptable types (null means any type). The status filter is
+    // taken literally; if it is null then DELETED relationships are excluded. Paging is applied to the filtered edges
+    // in the order they are traversed; a pageSize of zero means no limit.
+    // The entities at the other ends of the returned relationships (those that are not proxies) are also mapped into
+    // relatedEntities, keyed by GUID, if it is not null.
+    synchronized List<Relationship> getRelationshipsForEntity(String                    entityGUID,
+                                                              List<String>              relationshipTypeNames,
+                                                              List<InstanceStatus>      limitResultsByStatus,
+                                                              int                       fromRelationshipElement,
+                                                              int                       pageSize,
+                                                              Map<String, EntityDetail> relatedEntities)
 
     throws RepositoryErrorException
 
@@ -1403,15 +1588,51 @@ class GraphOMRSMetadataStore {
 
         List<Relationship> relationships = new ArrayList<>();
 
+        if ((relationshipTypeNames != null && relationshipTypeNames.isEmpty()) || (limitResultsByStatus != null && limitResultsByStatus.isEmpty()))
+        {
+            // Nothing can match an empty filter
+            return relationships;
+        }
+
         // Look in the graph
+        long cacheGeneration = entityCache.getGeneration();
         GraphTraversalSource g = instanceGraph.traversal();
         Iterator<Vertex> vi = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entityGUID);
         if (vi.hasNext())
         {
             Vertex vertex = vi.next();
+            Vertex startVertex = vertex;
             log.debug("{} found entity vertex {}", methodName, vertex);
 
-            Iterator<Edge> edges = vertex.edges(Direction.BOTH, "Relationship");
+            // The filters are on the properties covered by the vertex-centric index on Relationship edges
+            GraphTraversal<Vertex, Edge> edgeTraversal = g.V(startVertex.id()).bothE("Relationship");
+            if (relationshipTypeNames != null)
+            {
+                edgeTraversal = edgeTraversal.has(PROPERTY_KEY_RELATIONSHIP_TYPE_NAME, within(relationshipTypeNames));
+            }
+            if (limitResultsByStatus == null)
+            {
+                edgeTraversal = edgeTraversal.has(PROPERTY_KEY_RELATIONSHIP_CURRENT_STATUS, neq(InstanceStatus.DELETED.getOrdinal()));
+            }
+            else
+            {
+                List<Integer> statusOrdinals = new ArrayList<>();
+                for (InstanceStatus iStatus : limitResultsByStatus)
+                {
+                    statusOrdinals.add(iStatus.getOrdinal());
+                }
+                edgeTraversal = edgeTraversal.has(PROPERTY_KEY_RELATIONSHIP_CURRENT_STATUS, within(statusOrdinals));
+            }
+            if (pageSize > 0)
+            {
+                edgeTraversal = edgeTraversal.range(fromRelationshipElement, (long) fromRelationshipElement + pageSize);
+            }
+            else if (fromRelationshipElement > 0)
+            {
+                edgeTraversal = edgeTraversal.skip(fromRelationshipElement);
+            }
+
+            Iterator<Edge> edges = edgeTraversal;
             log.debug("{} entity has these edges {}", methodName, edges);
             while (edges.hasNext())
             {
@@ -1450,6 +1671,23 @@ class GraphOMRSMetadataStore {
                         relationship.setEntityTwoProxy(entityTwoProxy);
                     }
 
+                    if (relatedEntities != null)
+                    {
+                        // The related entity is at whichever end is not the start vertex - or the start vertex itself if the edge is a loop
+                        Vertex relatedVertex = edge.inVertex();
+                        if (startVertex.id().equals(relatedVertex.id()))
+                        {
+                            relatedVertex = edge.outVertex();
+                        }
+
+                        String relatedEntityGUID = entityMapper.getEntityGUID(relatedVertex);
+                        if (relatedEntityGUID != null && !relatedEntities.containsKey(relatedEntityGUID) && !entityMapper.isProxy(relatedVertex))
+                        {
+                            EntityDetail relatedEntity = getEntityDetailFromVertex(relatedVertex, cacheGeneration);
+                            relatedEntities.put(relatedEntityGUID, relatedEntity);
+                        }
+                    }
+
                 }
                 catch (Exception e)
                 {
@@ -1490,6 +1728,7 @@ class GraphOMRSMetadataStore {
 
         List<EntityDetail> entities = new ArrayList<>();
 
+        long cacheGeneration = entityCache.getGeneration();
         GraphTraversalSource g = instanceGraph.traversal();
 
         GraphTraversal<Vertex, Vertex> gt = g.V().hasLabel("Entity");
@@ -1886,14 +2125,13 @@ class GraphOMRSMetadataStore {
             Vertex vertex = gt.next();
             log.debug("{} found vertex {}", methodName, vertex);
 
-            EntityDetail entityDetail = new EntityDetail();
             try
             {
                 // Check if we have stumbled on a proxy somehow, and if so avoid processing it.
                 Boolean isProxy = entityMapper.isProxy(vertex);
                 if (!isProxy)
                 {
-                    entityMapper.mapVertexToEntityDetail(vertex, entityDetail);
+                    EntityDetail entityDetail = getEntityDetailFromVertex(vertex, cacheGeneration);
                     entities.add(entityDetail);
                 }
             }
@@ -1932,6 +2170,7 @@ class GraphOMRSMetadataStore {
 
         List<EntityDetail> entities = new ArrayList<>();
 
+        long cacheGeneration = entityCache.getGeneration();
         GraphTraversalSource g = instanceGraph.traversal();
 
         GraphTraversal<Vertex, Vertex> gt = g.V().hasLabel("Entity");
@@ -2334,7 +2573,6 @@ class GraphOMRSMetadataStore {
             Vertex vertex = gt.next();
             log.debug("{} found vertex {}", methodName, vertex);
 
-            EntityDetail entityDetail = new EntityDetail();
             try
             {
                 /*
@@ -2343,7 +2581,7 @@ class GraphOMRSMetadataStore {
                 Boolean isProxy = entityMapper.isProxy(vertex);
                 if (!isProxy)
                 {
-                    entityMapper.mapVertexToEntityDetail(vertex, entityDetail);
+                    EntityDetail entityDetail = getEntityDetailFromVertex(vertex, cacheGeneration);
                     entities.add(entityDetail);
                 }
             }
@@ -2354,7 +2592,7 @@ class GraphOMRSMetadataStore {
 
                 throw new RepositoryErrorException(
                         GraphOMRSErrorCode.ENTITY_PROPERTIES_ERROR.getMessageDefinition(
-                                entityDetail.getGUID(), methodName,
+                                entityMapper.getEntityGUID(vertex), methodName,
                                 this.getClass().getName(),
                                 repositoryName),
                         this.getClass().getName(),
@@ -2392,6 +2630,7 @@ class GraphOMRSMetadataStore {
 
         List<EntityDetail> entities = new ArrayList<>();
 
+        long cacheGeneration = entityCache.getGeneration();
         GraphTraversalSource g = instanceGraph.traversal();
 
         GraphTraversal<Vertex, Vertex> gt = g.V().hasLabel("Entity");
@@ -2793,7 +3032,6 @@ class GraphOMRSMetadataStore {
             Vertex vertex = gt.next();
             log.debug("{} found vertex {}", methodName, vertex);
 
-            EntityDetail entityDetail = new EntityDetail();
             try
             {
                 /*
@@ -2802,7 +3040,7 @@ class GraphOMRSMetadataStore {
                 Boolean isProxy = entityMapper.isProxy(vertex);
                 if (!isProxy)
                 {
-                    entityMapper.mapVertexToEntityDetail(vertex, entityDetail);
+                    EntityDetail entityDetail = getEntityDetailFromVertex(vertex, cacheGeneration);
                     entities.add(entityDetail);
                 }
             }
@@ -2813,7 +3051,7 @@ class GraphOMRSMetadataStore {
 
                 throw new RepositoryErrorException(
                         GraphOMRSErrorCode.ENTITY_PROPERTIES_ERROR.getMessageDefinition(
-                                entityDetail.getGUID(), methodName,
+                                entityMapper.getEntityGUID(vertex), methodName,
                                 this.getClass().getName(),
                                 repositoryName),
                         this.getClass().getName(),
@@ -4753,6 +4991,7 @@ class GraphOMRSMetadataStore {
 
         List<EntityDetail> entities = new ArrayList<>();
 
+        long cacheGeneration = entityCache.getGeneration();
         GraphTraversalSource g = instanceGraph.traversal();
 
         // classificationName has already been validated and is known not to be null
@@ -5096,14 +5335,13 @@ class GraphOMRSMetadataStore {
             Vertex entityVertex = gt.next();
             log.debug("{} found entity vertex {}", methodName, entityVertex);
 
-            EntityDetail entityDetail = new EntityDetail();
             try
             {
                 // Check if we have stumbled on a proxy somehow, and if so avoid processing it.
                 Boolean isProxy = entityMapper.isProxy(entityVertex);
                 if (!isProxy)
                 {
-                    entityMapper.mapVertexToEntityDetail(entityVertex, entityDetail);
+                    EntityDetail entityDetail = getEntityDetailFromVertex(entityVertex, cacheGeneration);
                     entities.add(entityDetail);
                 }
             }
@@ -5291,6 +5529,7 @@ class GraphOMRSMetadataStore {
          */
 
 
+        long cacheGeneration = entityCache.getGeneration();
         GraphTraversalSource g = instanceGraph.traversal();
 
         try
@@ -5320,8 +5559,7 @@ class GraphOMRSMetadataStore {
 
                 try
                 {
-                    EntityDetail rootEntity = new EntityDetail();
-                    entityMapper.mapVertexToEntityDetail(rootVertex, rootEntity);
+                    EntityDetail rootEntity = getEntityDetailFromVertex(rootVertex, cacheGeneration);
                     entities.add(rootEntity);
                     g.tx().commit();
 
@@ -5475,8 +5713,7 @@ class GraphOMRSMetadataStore {
 
                                 if (!entityMapper.isProxy(vertex))
                                 {
-                                    EntityDetail entityDetail = new EntityDetail();
-                                    entityMapper.mapVertexToEntityDetail(vertex, entityDetail);
+                                    EntityDetail entityDetail = getEntityDetailFromVertex(vertex, cacheGeneration);
                                     log.debug("{} entityDetail {}", methodName, entityDetail);
                                     entities.add(entityDetail);
                                 }
@@ -5606,6 +5843,7 @@ class GraphOMRSMetadataStore {
          * THe various filters are optional and are implemented using has(<property>,within(<filter-collection>))
          */
 
+        long cacheGeneration = entityCache.getGeneration();
         GraphTraversalSource g = instanceGraph.traversal();
 
         try
@@ -5640,8 +5878,7 @@ class GraphOMRSMetadataStore {
                 try
                 {
 
-                    EntityDetail rootEntity = new EntityDetail();
-                    entityMapper.mapVertexToEntityDetail(rootVertex, rootEntity);
+                    EntityDetail rootEntity = getEntityDetailFromVertex(rootVertex, cacheGeneration);
                     log.debug("{} mapped root entity {}", methodName, rootEntity);
 
                     /*
@@ -5736,8 +5973,7 @@ class GraphOMRSMetadataStore {
                                 {
                                     try
                                     {
-                                        EntityDetail entityDetail = new EntityDetail();
-                                        entityMapper.mapVertexToEntityDetail(vertex, entityDetail);
+                                        EntityDetail entityDetail = getEntityDetailFromVertex(vertex, cacheGeneration);
                                         log.debug("{} entityDetail {}", methodName, entityDetail);
                                         entities.add(entityDetail);
                                     }
@@ -5909,6 +6145,7 @@ class GraphOMRSMetadataStore {
          * Even if there are no search properties specified, the method performs a traversal.
          */
 
+        long cacheGeneration = entityCache.getGeneration();
         GraphTraversalSource g = instanceGraph.traversal();
 
         GraphTraversal<Vertex, Vertex> gt = g.V().hasLabel("Entity");
@@ -6012,14 +6249,13 @@ class GraphOMRSMetadataStore {
             Vertex vertex = gt.next();
             log.debug("{} found vertex {}", methodName, vertex);
 
-            EntityDetail entityDetail = new EntityDetail();
             try
             {
                 // Check if we have stumbled on a proxy somehow, and if so avoid processing it.
                 Boolean isProxy = entityMapper.isProxy(vertex);
                 if (!isProxy)
                 {
-                    entityMapper.mapVertexToEntityDetail(vertex, entityDetail);
+                    EntityDetail entityDetail = getEntityDetailFromVertex(vertex, cacheGeneration);
                     entities.add(entityDetail);
                 }
             }
@@ -6030,7 +6266,7 @@ class GraphOMRSMetadataStore {
 
                 throw new RepositoryErrorException(
                         GraphOMRSErrorCode.ENTITY_PROPERTIES_ERROR.getMessageDefinition(
-                                entityDetail.getGUID(), methodName,
+                                entityMapper.getEntityGUID(vertex), methodName,
                                 this.getClass().getName(),
                                 repositoryName),
                         this.getClass().getName(),
@@ -6070,6 +6306,7 @@ class GraphOMRSMetadataStore {
         /*
          * Get the traversal started,...
          */
+        long cacheGeneration = entityCache.getGeneration();
         GraphTraversalSource g = instanceGraph.traversal();
         GraphTraversal<Vertex, Vertex> gt = g.V().hasLabel("Entity");
 
@@ -6236,7 +6473,6 @@ class GraphOMRSMetadataStore {
             Vertex vertex = gt.next();
             log.debug("{} found vertex {}", methodName, vertex);
 
-            EntityDetail entityDetail = new EntityDetail();
             try
             {
                 /*
@@ -6245,7 +6481,7 @@ class GraphOMRSMetadataStore {
                 Boolean isProxy = entityMapper.isProxy(vertex);
                 if (!isProxy)
                 {
-                    entityMapper.mapVertexToEntityDetail(vertex, entityDetail);
+                    EntityDetail entityDetail = getEntityDetailFromVertex(vertex, cacheGeneration);
                     entities.add(entityDetail);
                 }
             }
@@ -6256,7 +6492,7 @@ class GraphOMRSMetadataStore {
 
                 throw new RepositoryErrorException(
                         GraphOMRSErrorCode.ENTITY_PROPERTIES_ERROR.getMessageDefinition(
-                                entityDetail.getGUID(), methodName,
+                                entityMapper.getEntityGUID(vertex), methodName,
                                 this.getClass().getName(),
                                 repositoryName),
                         this.getClass().getName(),
@@ -0,0 +1,505 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ArrayPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EnumPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.MapPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.StructPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * GraphOMRSPropertyCodec serializes the property blobs that the mappers store on vertices and edges.
+ *
+ * The Jackson mapper, readers and writers are created once and shared - they are thread-safe once configured.
+ *
+ * Instance properties (the instanceProperties, classificationProperties and relationshipProperties blobs) are written
+ * in a compact binary form, carried in the String property as a version prefix followed by Base64. They are never
+ * used for searches (the individual properties are stored separately for that), so the format does not need to be
+ * readable by the index backend. Values that the compact form cannot represent are written as JSON, and JSON
+ * written by earlier releases of the connector is still read, so existing graphs do not need to be migrated.
+ *
+ * The maintainedBy and mappingProperties lists and maps stay as JSON because they are indexed with a Text mapping
+ * and can be searched.
+ */
+class GraphOMRSPropertyCodec {
+
+    private static final Logger log = LoggerFactory.getLogger(GraphOMRSPropertyCodec.class);
+
+    /*
+     * Prefix of the compact encoding. A JSON serialization of InstanceProperties always starts with '{' so the
+     * two forms can be told apart. A future change to the compact encoding must use a new prefix.
+     */
+    static final String COMPACT_ENCODING_V1_PREFIX = "#1:";
+
+    private static final ObjectMapper objectMapper           = new ObjectMapper();
+    private static final ObjectWriter objectWriter           = objectMapper.writer();
+    private static final ObjectReader instancePropertiesReader = objectMapper.readerFor(InstanceProperties.class);
+    private static final ObjectReader stringListReader       = objectMapper.readerFor(new TypeReference<List<String>>() {});
+    private static final ObjectReader mappingPropertiesReader = objectMapper.readerFor(new TypeReference<Map<String, Serializable>>() {});
+
+    // Tags for the kinds of property value in the compact encoding
+    private static final byte VALUE_NULL      = 0;
+    private static final byte VALUE_PRIMITIVE = 1;
+    private static final byte VALUE_ENUM      = 2;
+    private static final byte VALUE_STRUCT    = 3;
+    private static final byte VALUE_MAP       = 4;
+    private static final byte VALUE_ARRAY     = 5;
+
+
+    private GraphOMRSPropertyCodec() {
+        // static methods only
+    }
+
+
+    /**
+     * Serialize instance properties for storage in the graph.
+     *
+     * @param instanceProperties properties to serialize
+     * @return serialized form
+     * @throws IOException the properties could not be serialized
+     */
+    static String encodeInstanceProperties(InstanceProperties instanceProperties) throws IOException
+    {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+            DataOutputStream out = new DataOutputStream(bytes);
+            writeInstanceProperties(out, instanceProperties);
+            out.flush();
+
+            return COMPACT_ENCODING_V1_PREFIX + Base64.getEncoder().encodeToString(bytes.toByteArray());
+        }
+        catch (UnsupportedOperationException | ClassCastException exc) {
+            // A value the compact form does not cover - JSON can still represent it
+            log.debug("Instance properties stored as JSON: {}", exc.getMessage());
+            return objectWriter.writeValueAsString(instanceProperties);
+        }
+    }
+
+
+    /**
+     * Deserialize instance properties stored in either the compact or the JSON form.
+     *
+     * @param storedProperties serialized form
+     * @return instance properties
+     * @throws IOException the stored value could not be deserialized
+     */
+    static InstanceProperties decodeInstanceProperties(String storedProperties) throws IOException
+    {
+        if (storedProperties.startsWith(COMPACT_ENCODING_V1_PREFIX)) {
+            byte[] bytes = Base64.getDecoder().decode(storedProperties.substring(COMPACT_ENCODING_V1_PREFIX.length()));
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+
+            return readInstanceProperties(in);
+        }
+
+        return instancePropertiesReader.readValue(storedProperties);
+    }
+
+
+    /**
+     * Serialize a maintainedBy list as JSON.
+     *
+     * @param maintainedBy list of user ids
+     * @return JSON string
+     * @throws IOException the list could not be serialized
+     */
+    static String encodeStringList(List<String> maintainedBy) throws IOException
+    {
+        return objectWriter.writeValueAsString(maintainedBy);
+    }
+
+
+    /**
+     * Deserialize a maintainedBy list.
+     *
+     * @param storedList JSON string
+     * @return list of user ids
+     * @throws IOException the stored value could not be deserialized
+     */
+    static List<String> decodeStringList(String storedList) throws IOException
+    {
+        return stringListReader.readValue(storedList);
+    }
+
+
+    /**
+     * Serialize mapping properties as JSON.
+     *
+     * @param mappingProperties map of mapping properties
+     * @return JSON string
+     * @throws IOException the map could not be serialized
+     */
+    static String encodeMappingProperties(Map<String, Serializable> mappingProperties) throws IOException
+    {
+        return objectWriter.writeValueAsString(mappingProperties);
+    }
+
+
+    /**
+     * Deserialize mapping properties.
+     *
+     * @param storedMap JSON string
+     * @return map of mapping properties
+     * @throws IOException the stored value could not be deserialized
+     */
+    static Map<String, Serializable> decodeMappingProperties(String storedMap) throws IOException
+    {
+        return mappingPropertiesReader.readValue(storedMap);
+    }
+
+
+    /*
+     * Compact encoding - writers
+     */
+
+    private static void writeInstanceProperties(DataOutputStream out, InstanceProperties instanceProperties) throws IOException
+    {
+        writeDate(out, instanceProperties.getEffectiveFromTime());
+        writeDate(out, instanceProperties.getEffectiveToTime());
+
+        out.writeInt(instanceProperties.getPropertyCount());
+        Iterator<String> propertyNames = instanceProperties.getPropertyNames();
+        while (propertyNames.hasNext()) {
+            String propertyName = propertyNames.next();
+            writeString(out, propertyName);
+            writePropertyValue(out, instanceProperties.getPropertyValue(propertyName));
+        }
+    }
+
+
+    private static void writePropertyValue(DataOutputStream out, InstancePropertyValue propertyValue) throws IOException
+    {
+        if (propertyValue == null) {
+            out.writeByte(VALUE_NULL);
+            return;
+        }
+
+        if (propertyValue.getClass() == PrimitivePropertyValue.class) {
+            out.writeByte(VALUE_PRIMITIVE);
+            writeTypeHeader(out, propertyValue);
+            writePrimitiveValue(out, (PrimitivePropertyValue) propertyValue);
+        }
+        else if (propertyValue.getClass() == EnumPropertyValue.class) {
+            EnumPropertyValue enumPropertyValue = (EnumPropertyValue) propertyValue;
+            out.writeByte(VALUE_ENUM);
+            writeTypeHeader(out, propertyValue);
+            out.writeInt(enumPropertyValue.getOrdinal());
+            writeString(out, enumPropertyValue.getSymbolicName());
+            writeString(out, enumPropertyValue.getDescription());
+        }
+        else if (propertyValue.getClass() == StructPropertyValue.class) {
+            out.writeByte(VALUE_STRUCT);
+            writeTypeHeader(out, propertyValue);
+            writeNestedProperties(out, ((StructPropertyValue) propertyValue).getAttributes());
+        }
+        else if (propertyValue.getClass() == MapPropertyValue.class) {
+            out.writeByte(VALUE_MAP);
+            writeTypeHeader(out, propertyValue);
+            writeNestedProperties(out, ((MapPropertyValue) propertyValue).getMapValues());
+        }
+        else if (propertyValue.getClass() == ArrayPropertyValue.class) {
+            ArrayPropertyValue arrayPropertyValue = (ArrayPropertyValue) propertyValue;
+            out.writeByte(VALUE_ARRAY);
+            writeTypeHeader(out, propertyValue);
+            out.writeInt(arrayPropertyValue.getArrayCount());
+            writeNestedProperties(out, arrayPropertyValue.getArrayValues());
+        }
+        else {
+            throw new UnsupportedOperationException("property value class " + propertyValue.getClass().getName());
+        }
+    }
+
+
+    private static void writeTypeHeader(DataOutputStream out, InstancePropertyValue propertyValue) throws IOException
+    {
+        writeString(out, propertyValue.getTypeGUID());
+        writeString(out, propertyValue.getTypeName());
+    }
+
+
+    private static void writeNestedProperties(DataOutputStream out, InstanceProperties nestedProperties) throws IOException
+    {
+        out.writeBoolean(nestedProperties != null);
+        if (nestedProperties != null) {
+            writeInstanceProperties(out, nestedProperties);
+        }
+    }
+
+
+    private static void writePrimitiveValue(DataOutputStream out, PrimitivePropertyValue primitivePropertyValue) throws IOException
+    {
+        PrimitiveDefCategory category = primitivePropertyValue.getPrimitiveDefCategory();
+        Object value = primitivePropertyValue.getPrimitiveValue();
+
+        if (category == null || category == PrimitiveDefCategory.OM_PRIMITIVE_TYPE_UNKNOWN) {
+            throw new UnsupportedOperationException("primitive category " + category);
+        }
+
+        out.writeInt(category.getOrdinal());
+        out.writeBoolean(value != null);
+        if (value == null) {
+            return;
+        }
+
+        switch (category) {
+            case OM_PRIMITIVE_TYPE_BOOLEAN:
+                out.writeBoolean((Boolean) value);
+                break;
+            case OM_PRIMITIVE_TYPE_BYTE:
+                out.writeByte((Byte) value);
+                break;
+            case OM_PRIMITIVE_TYPE_CHAR:
+                out.writeChar((Character) value);
+                break;
+            case OM_PRIMITIVE_TYPE_SHORT:
+                out.writeShort((Short) value);
+                break;
+            case OM_PRIMITIVE_TYPE_INT:
+                out.writeInt((Integer) value);
+                break;
+            case OM_PRIMITIVE_TYPE_LONG:
+            case OM_PRIMITIVE_TYPE_DATE:
+                out.writeLong((Long) value);
+                break;
+            case OM_PRIMITIVE_TYPE_FLOAT:
+                out.writeFloat((Float) value);
+                break;
+            case OM_PRIMITIVE_TYPE_DOUBLE:
+                out.writeDouble((Double) value);
+                break;
+            case OM_PRIMITIVE_TYPE_BIGINTEGER:
+                writeString(out, ((BigInteger) value).toString());
+                break;
+            case OM_PRIMITIVE_TYPE_BIGDECIMAL:
+                writeString(out, ((BigDecimal) value).toString());
+                break;
+            case OM_PRIMITIVE_TYPE_STRING:
+                writeString(out, (String) value);
+                break;
+            default:
+                throw new UnsupportedOperationException("primitive category " + category);
+        }
+    }
+
+
+    private static void writeDate(DataOutputStream out, Date date) throws IOException
+    {
+        out.writeBoolean(date != null);
+        if (date != null) {
+            out.writeLong(date.getTime());
+        }
+    }
+
+
+    /*
+     * Strings are written as a length and UTF-8 bytes, since DataOutput.writeUTF is limited to 64K.
+     * A length of -1 is a null string.
+     */
+    private static void writeString(DataOutputStream out, String string) throws IOException
+    {
+        if (string == null) {
+            out.writeInt(-1);
+        }
+        else {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+
+    /*
+     * Compact encoding - readers
+     */
+
+    private static InstanceProperties readInstanceProperties(DataInputStream in) throws IOException
+    {
+        InstanceProperties instanceProperties = new InstanceProperties();
+
+        instanceProperties.setEffectiveFromTime(readDate(in));
+        instanceProperties.setEffectiveToTime(readDate(in));
+
+        int propertyCount = in.readInt();
+        for (int i = 0; i < propertyCount; i++) {
+            String propertyName = readString(in);
+            instanceProperties.setProperty(propertyName, readPropertyValue(in));
+        }
+
+        return instanceProperties;
+    }
+
+
+    private static InstancePropertyValue readPropertyValue(DataInputStream in) throws IOException
+    {
+        byte valueKind = in.readByte();
+
+        switch (valueKind) {
+            case VALUE_NULL:
+                return null;
+
+            case VALUE_PRIMITIVE:
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                readTypeHeader(in, primitivePropertyValue);
+                readPrimitiveValue(in, primitivePropertyValue);
+                return primitivePropertyValue;
+
+            case VALUE_ENUM:
+                EnumPropertyValue enumPropertyValue = new EnumPropertyValue();
+                readTypeHeader(in, enumPropertyValue);
+                enumPropertyValue.setOrdinal(in.readInt());
+                enumPropertyValue.setSymbolicName(readString(in));
+                enumPropertyValue.setDescription(readString(in));
+                return enumPropertyValue;
+
+            case VALUE_STRUCT:
+                StructPropertyValue structPropertyValue = new StructPropertyValue();
+                readTypeHeader(in, structPropertyValue);
+                structPropertyValue.setAttributes(readNestedProperties(in));
+                return structPropertyValue;
+
+            case VALUE_MAP:
+                MapPropertyValue mapPropertyValue = new MapPropertyValue();
+                readTypeHeader(in, mapPropertyValue);
+                mapPropertyValue.setMapValues(readNestedProperties(in));
+                return mapPropertyValue;
+
+            case VALUE_ARRAY:
+                ArrayPropertyValue arrayPropertyValue = new ArrayPropertyValue();
+                readTypeHeader(in, arrayPropertyValue);
+                arrayPropertyValue.setArrayCount(in.readInt());
+                arrayPropertyValue.setArrayValues(readNestedProperties(in));
+                return arrayPropertyValue;
+
+            default:
+                throw new IOException("Unknown property value kind " + valueKind);
+        }
+    }
+
+
+    private static void readTypeHeader(DataInputStream in, InstancePropertyValue propertyValue) throws IOException
+    {
+        propertyValue.setTypeGUID(readString(in));
+        propertyValue.setTypeName(readString(in));
+    }
+
+
+    private static InstanceProperties readNestedProperties(DataInputStream in) throws IOException
+    {
+        if (in.readBoolean()) {
+            return readInstanceProperties(in);
+        }
+        return null;
+    }
+
+
+    private static void readPrimitiveValue(DataInputStream in, PrimitivePropertyValue primitivePropertyValue) throws IOException
+    {
+        PrimitiveDefCategory category = getPrimitiveDefCategory(in.readInt());
+        primitivePropertyValue.setPrimitiveDefCategory(category);
+
+        if (!in.readBoolean()) {
+            return;
+        }
+
+        Object value;
+        switch (category) {
+            case OM_PRIMITIVE_TYPE_BOOLEAN:
+                value = in.readBoolean();
+                break;
+            case OM_PRIMITIVE_TYPE_BYTE:
+                value = in.readByte();
+                break;
+            case OM_PRIMITIVE_TYPE_CHAR:
+                value = in.readChar();
+                break;
+            case OM_PRIMITIVE_TYPE_SHORT:
+                value = in.readShort();
+                break;
+            case OM_PRIMITIVE_TYPE_INT:
+                value = in.readInt();
+                break;
+            case OM_PRIMITIVE_TYPE_LONG:
+            case OM_PRIMITIVE_TYPE_DATE:
+                value = in.readLong();
+                break;
+            case OM_PRIMITIVE_TYPE_FLOAT:
+                value = in.readFloat();
+                break;
+            case OM_PRIMITIVE_TYPE_DOUBLE:
+                value = in.readDouble();
+                break;
+            case OM_PRIMITIVE_TYPE_BIGINTEGER:
+                value = new BigInteger(readString(in));
+                break;
+            case OM_PRIMITIVE_TYPE_BIGDECIMAL:
+                value = new BigDecimal(readString(in));
+                break;
+            case OM_PRIMITIVE_TYPE_STRING:
+                value = readString(in);
+                break;
+            default:
+                throw new IOException("Unsupported primitive category " + category);
+        }
+
+        primitivePropertyValue.setPrimitiveValue(value);
+    }
+
+
+    private static PrimitiveDefCategory getPrimitiveDefCategory(int ordinal) throws IOException
+    {
+        for (PrimitiveDefCategory category : PrimitiveDefCategory.values()) {
+            if (category.getOrdinal() == ordinal) {
+                return category;
+            }
+        }
+        throw new IOException("Unknown primitive category ordinal " + ordinal);
+    }
+
+
+    private static Date readDate(DataInputStream in) throws IOException
+    {
+        if (in.readBoolean()) {
+            return new Date(in.readLong());
+        }
+        return null;
+    }
+
+
+    private static String readString(DataInputStream in) throws IOException
+    {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -7,6 +7,9 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorTyp
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnectorProviderBase;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * In the Open Connector Framework (OCF), a ConnectorProvider is a factory for a specific type of connector.
  * The GraphOMRSRepositoryConnectorProvider is the connector provider for the GraphOMRSRepositoryConnector.
@@ -24,6 +27,13 @@ public class GraphOMRSRepositoryConnectorProvider extends OMRSRepositoryConnecto
     static final String  connectorTypeName        = "OMRS Graph Repository Connector";
     static final String  connectorTypeDescription = "OMRS Repository Connector that uses graph repository store.";
 
+    /*
+     * Configuration properties that are used by the connector rather than being passed to the graph database.
+     */
+    static final String  BULK_LOAD_BATCH_SIZE_CONFIGURATION_PROPERTY = "bulkLoadBatchSize";
+    static final int     BULK_LOAD_BATCH_SIZE_DEFAULT                = 100;
+    static final String  BATCH_LOADING_CONFIGURATION_PROPERTY        = "enableBatchLoading";
+
 
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
@@ -43,6 +53,11 @@ public class GraphOMRSRepositoryConnectorProvider extends OMRSRepositoryConnecto
         connectorType.setDescription(connectorTypeDescription);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
 
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+        recognizedConfigurationProperties.add(BULK_LOAD_BATCH_SIZE_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(BATCH_LOADING_CONFIGURATION_PROPERTY);
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
+
         super.connectorTypeBean = connectorType;
         super.setConnectorComponentDescription(OMRSAuditingComponent.GRAPH_REPOSITORY_CONNECTOR);
 
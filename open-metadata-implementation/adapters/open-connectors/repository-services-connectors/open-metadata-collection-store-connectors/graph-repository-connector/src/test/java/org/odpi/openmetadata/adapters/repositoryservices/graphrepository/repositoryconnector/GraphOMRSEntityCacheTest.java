@@ -0,0 +1,156 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ArrayPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.MapPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.StructPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.Date;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the versions, generations and copies of the entity cache used by the graph metadata store.
+ */
+public class GraphOMRSEntityCacheTest
+{
+    /**
+     * Build an entity with nested properties and a classification.
+     *
+     * @param guid unique identifier
+     * @param version version number
+     * @return entity
+     */
+    private EntityDetail getEntity(String guid,
+                                   long   version)
+    {
+        EntityDetail       entity     = new EntityDetail();
+        InstanceProperties properties = new InstanceProperties();
+
+        properties.setEffectiveFromTime(new Date(1000));
+        properties.setProperty("name", GraphOMRSPropertyCodecTest.getPrimitiveValue(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING, "Customer"));
+        properties.setProperty("contact", GraphOMRSPropertyCodecTest.getStructValue());
+        properties.setProperty("additionalProperties", GraphOMRSPropertyCodecTest.getMapValue());
+        properties.setProperty("contacts", GraphOMRSPropertyCodecTest.getArrayValue());
+
+        InstanceProperties classificationProperties = new InstanceProperties();
+        Classification     classification           = new Classification();
+
+        classificationProperties.setProperty("level", GraphOMRSPropertyCodecTest.getPrimitiveValue(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_INT, 2));
+        classification.setName("Confidentiality");
+        classification.setProperties(classificationProperties);
+
+        entity.setGUID(guid);
+        entity.setVersion(version);
+        entity.setProperties(properties);
+        entity.setClassifications(Collections.singletonList(classification));
+
+        return entity;
+    }
+
+
+    /**
+     * Change the values held in the entity, including the values that the copy constructors share.
+     *
+     * @param entity entity to change
+     */
+    private void changeValues(EntityDetail entity)
+    {
+        InstanceProperties properties = entity.getProperties();
+
+        ((PrimitivePropertyValue)properties.getPropertyValue("name")).setPrimitiveValue("Changed");
+        ((PrimitivePropertyValue)((StructPropertyValue)properties.getPropertyValue("contact")).getAttributes().getPropertyValue("name")).setPrimitiveValue("Changed");
+        ((MapPropertyValue)properties.getPropertyValue("additionalProperties")).getMapValues().setProperty("key3", GraphOMRSPropertyCodecTest.getEnumValue());
+        ((ArrayPropertyValue)properties.getPropertyValue("contacts")).getArrayValues().setProperty("2", GraphOMRSPropertyCodecTest.getEnumValue());
+        properties.getEffectiveFromTime().setTime(5000);
+
+        Classification classification = entity.getClassifications().get(0);
+
+        ((PrimitivePropertyValue)classification.getProperties().getPropertyValue("level")).setPrimitiveValue(5);
+        classification.setName("Changed");
+    }
+
+
+    @Test
+    void testEntityIsReturnedAtItsVersion()
+    {
+        GraphOMRSEntityCache cache = new GraphOMRSEntityCache(10);
+
+        cache.addEntity(getEntity("guid1", 3), cache.getGeneration());
+
+        assertEquals(cache.getEntity("guid1", 3L), getEntity("guid1", 3));
+        assertNull(cache.getEntity("guid1", 4L));
+        assertNull(cache.getEntity("guid1", null));
+        assertNull(cache.getEntity("guid2", 3L));
+    }
+
+
+    @Test
+    void testEntityReadBeforeAnUpdateIsNotCached()
+    {
+        GraphOMRSEntityCache cache          = new GraphOMRSEntityCache(10);
+        long                 readGeneration = cache.getGeneration();
+
+        cache.removeEntity("guid1");
+        cache.addEntity(getEntity("guid1", 3), readGeneration);
+
+        assertNull(cache.getEntity("guid1", 3L));
+
+        cache.addEntity(getEntity("guid1", 3), cache.getGeneration());
+
+        assertNotNull(cache.getEntity("guid1", 3L));
+
+        cache.removeEntity("guid1");
+
+        assertNull(cache.getEntity("guid1", 3L));
+    }
+
+
+    @Test
+    void testCallersCannotChangeTheCachedEntity()
+    {
+        GraphOMRSEntityCache cache  = new GraphOMRSEntityCache(10);
+        EntityDetail         entity = getEntity("guid1", 3);
+
+        cache.addEntity(entity, cache.getGeneration());
+
+        /*
+         * Neither the entity that was added nor the copies that are returned share values with the cache.
+         */
+        changeValues(entity);
+        changeValues(cache.getEntity("guid1", 3L));
+
+        EntityDetail cachedEntity = cache.getEntity("guid1", 3L);
+
+        assertEquals(cachedEntity, getEntity("guid1", 3));
+        assertEquals(cachedEntity.getProperties(), getEntity("guid1", 3).getProperties());
+        assertEquals(cachedEntity.getClassifications().get(0).getProperties(), getEntity("guid1", 3).getClassifications().get(0).getProperties());
+        assertEquals(cachedEntity.getClassifications().get(0).getName(), "Confidentiality");
+    }
+
+
+    @Test
+    void testLeastRecentlyUsedEntityIsEvicted()
+    {
+        GraphOMRSEntityCache cache = new GraphOMRSEntityCache(2);
+
+        cache.addEntity(getEntity("guid1", 1), cache.getGeneration());
+        cache.addEntity(getEntity("guid2", 1), cache.getGeneration());
+
+        assertNotNull(cache.getEntity("guid1", 1L));
+
+        cache.addEntity(getEntity("guid3", 1), cache.getGeneration());
+
+        assertNotNull(cache.getEntity("guid1", 1L));
+        assertNull(cache.getEntity("guid2", 1L));
+        assertNotNull(cache.getEntity("guid3", 1L));
+    }
+}
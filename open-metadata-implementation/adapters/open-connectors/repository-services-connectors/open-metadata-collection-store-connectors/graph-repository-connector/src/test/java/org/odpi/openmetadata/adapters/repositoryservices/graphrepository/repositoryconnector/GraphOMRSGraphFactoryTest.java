@@ -0,0 +1,129 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.janusgraph.core.JanusGraph;
+import org.janusgraph.core.JanusGraphFactory;
+import org.janusgraph.core.schema.JanusGraphManagement;
+import org.janusgraph.core.schema.RelationTypeIndex;
+import org.janusgraph.core.schema.SchemaStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_KEY_RELATIONSHIP_CURRENT_STATUS;
+import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_KEY_RELATIONSHIP_TYPE_NAME;
+import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSTestRepository.*;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+
+
+/**
+ * Test that opening a graph that already contains relationships (e.g. one created by an earlier release) adds the
+ * vertex-centric index on the Relationship edges and reindexes the existing edges.
+ */
+public class GraphOMRSGraphFactoryTest
+{
+    private static final String indexName = "edgeIndexVertexCentric" + PROPERTY_KEY_RELATIONSHIP_TYPE_NAME + PROPERTY_KEY_RELATIONSHIP_CURRENT_STATUS;
+
+
+    /**
+     * Count the Relationship edges of a vertex with a type and, optionally, a status.
+     *
+     * @param graph graph
+     * @param vertexId identifier of the vertex
+     * @param typeName type of the relationships
+     * @param status status of the relationships or null for any status
+     * @return number of edges
+     */
+    private long countRelationshipEdges(JanusGraph     graph,
+                                        Object         vertexId,
+                                        String         typeName,
+                                        InstanceStatus status)
+    {
+        GraphTraversal<Vertex, Edge> edges = graph.traversal().V(vertexId).bothE("Relationship").has(PROPERTY_KEY_RELATIONSHIP_TYPE_NAME, typeName);
+
+        if (status != null)
+        {
+            edges = edges.has(PROPERTY_KEY_RELATIONSHIP_CURRENT_STATUS, status.getOrdinal());
+        }
+
+        long count = edges.count().next();
+
+        graph.tx().rollback();
+
+        return count;
+    }
+
+
+    /**
+     * The relationships saved before the index existed are found through it once the graph has been opened.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testIndexCreatedForExistingRelationships() throws Exception
+    {
+        Map<String, Object> storageProperties = getStorageProperties();
+
+        /*
+         * Write a graph with Relationship edges but without the vertex-centric index.
+         */
+        JanusGraphFactory.Builder builder = JanusGraphFactory.build();
+        storageProperties.forEach(builder::set);
+
+        JanusGraph oldGraph = builder.open();
+
+        Vertex entityOne = oldGraph.addVertex("Entity");
+        Vertex entityTwo = oldGraph.addVertex("Entity");
+
+        entityOne.addEdge("Relationship", entityTwo,
+                          PROPERTY_KEY_RELATIONSHIP_TYPE_NAME, relationshipTypeName,
+                          PROPERTY_KEY_RELATIONSHIP_CURRENT_STATUS, InstanceStatus.ACTIVE.getOrdinal());
+        entityOne.addEdge("Relationship", entityTwo,
+                          PROPERTY_KEY_RELATIONSHIP_TYPE_NAME, relationshipTypeName,
+                          PROPERTY_KEY_RELATIONSHIP_CURRENT_STATUS, InstanceStatus.PROPOSED.getOrdinal());
+        entityTwo.addEdge("Relationship", entityOne,
+                          PROPERTY_KEY_RELATIONSHIP_TYPE_NAME, otherRelationshipTypeName,
+                          PROPERTY_KEY_RELATIONSHIP_CURRENT_STATUS, InstanceStatus.ACTIVE.getOrdinal());
+        oldGraph.tx().commit();
+
+        Object entityOneId = entityOne.id();
+        Object entityTwoId = entityTwo.id();
+
+        oldGraph.close();
+
+        /*
+         * Open it as a repository.
+         */
+        JanusGraph graph = new GraphOMRSGraphFactory().open(localCollectionId, "TestRepository", getAuditLog(), storageProperties, false);
+
+        try
+        {
+            JanusGraphManagement management = graph.openManagement();
+            RelationTypeIndex    index      = management.getRelationIndex(management.getEdgeLabel("Relationship"), indexName);
+
+            assertNotNull(index);
+            assertEquals(index.getIndexStatus(), SchemaStatus.ENABLED);
+            management.rollback();
+
+            /*
+             * Each edge is found once from each of its ends.
+             */
+            assertEquals(countRelationshipEdges(graph, entityOneId, relationshipTypeName, InstanceStatus.ACTIVE), 1L);
+            assertEquals(countRelationshipEdges(graph, entityTwoId, relationshipTypeName, InstanceStatus.ACTIVE), 1L);
+            assertEquals(countRelationshipEdges(graph, entityOneId, relationshipTypeName, null), 2L);
+            assertEquals(countRelationshipEdges(graph, entityTwoId, relationshipTypeName, null), 2L);
+            assertEquals(countRelationshipEdges(graph, entityOneId, otherRelationshipTypeName, InstanceStatus.ACTIVE), 1L);
+            assertEquals(countRelationshipEdges(graph, entityTwoId, otherRelationshipTypeName, InstanceStatus.PROPOSED), 0L);
+        }
+        finally
+        {
+            graph.close();
+        }
+    }
+}
@@ -0,0 +1,356 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ArrayPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EnumPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.MapPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.StructPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test that the property blobs stored by the graph repository decode to the values that were encoded, in both the
+ * compact form and the JSON form written by earlier releases.
+ */
+public class GraphOMRSPropertyCodecTest
+{
+    /**
+     * Build a primitive value.
+     *
+     * @param category primitive type
+     * @param value value
+     * @return property value
+     */
+    static PrimitivePropertyValue getPrimitiveValue(PrimitiveDefCategory category,
+                                                    Object               value)
+    {
+        PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+
+        primitivePropertyValue.setPrimitiveDefCategory(category);
+        primitivePropertyValue.setPrimitiveValue(value);
+        primitivePropertyValue.setTypeGUID(category.getGUID());
+        primitivePropertyValue.setTypeName(category.getName());
+
+        return primitivePropertyValue;
+    }
+
+
+    /**
+     * Build an enum value.
+     *
+     * @return property value
+     */
+    static EnumPropertyValue getEnumValue()
+    {
+        EnumPropertyValue enumPropertyValue = new EnumPropertyValue();
+
+        enumPropertyValue.setTypeGUID("enum-guid");
+        enumPropertyValue.setTypeName("KeyPattern");
+        enumPropertyValue.setOrdinal(2);
+        enumPropertyValue.setSymbolicName("NaturalKey");
+        enumPropertyValue.setDescription("Unique key allocated and used within the business.");
+
+        return enumPropertyValue;
+    }
+
+
+    /**
+     * Build a struct value.
+     *
+     * @return property value
+     */
+    static StructPropertyValue getStructValue()
+    {
+        StructPropertyValue structPropertyValue = new StructPropertyValue();
+        InstanceProperties  attributes          = new InstanceProperties();
+
+        attributes.setProperty("name", getPrimitiveValue(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING, "Fred"));
+        attributes.setProperty("level", getPrimitiveValue(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_INT, 3));
+        structPropertyValue.setTypeGUID("struct-guid");
+        structPropertyValue.setTypeName("Contact");
+        structPropertyValue.setAttributes(attributes);
+
+        return structPropertyValue;
+    }
+
+
+    /**
+     * Build a map value.
+     *
+     * @return property value
+     */
+    static MapPropertyValue getMapValue()
+    {
+        MapPropertyValue mapPropertyValue = new MapPropertyValue();
+
+        mapPropertyValue.setTypeGUID("map-guid");
+        mapPropertyValue.setTypeName("map<string,string>");
+        mapPropertyValue.setMapValue("key1", getPrimitiveValue(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING, "value1"));
+        mapPropertyValue.setMapValue("key2", getPrimitiveValue(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING, "value2"));
+
+        return mapPropertyValue;
+    }
+
+
+    /**
+     * Build an array value that holds a struct and an enum.
+     *
+     * @return property value
+     */
+    static ArrayPropertyValue getArrayValue()
+    {
+        ArrayPropertyValue arrayPropertyValue = new ArrayPropertyValue();
+
+        arrayPropertyValue.setTypeGUID("array-guid");
+        arrayPropertyValue.setTypeName("array<Contact>");
+        arrayPropertyValue.setArrayCount(2);
+        arrayPropertyValue.setArrayValue(0, getStructValue());
+        arrayPropertyValue.setArrayValue(1, getEnumValue());
+
+        return arrayPropertyValue;
+    }
+
+
+    /**
+     * Encode and decode the properties, checking that the compact form is used.
+     *
+     * @param instanceProperties properties to encode
+     * @return decoded properties
+     * @throws IOException the properties could not be encoded or decoded
+     */
+    private InstanceProperties roundTrip(InstanceProperties instanceProperties) throws IOException
+    {
+        String encoded = GraphOMRSPropertyCodec.encodeInstanceProperties(instanceProperties);
+
+        assertTrue(encoded.startsWith(GraphOMRSPropertyCodec.COMPACT_ENCODING_V1_PREFIX), encoded);
+
+        return GraphOMRSPropertyCodec.decodeInstanceProperties(encoded);
+    }
+
+
+    @Test
+    void testPrimitiveValues() throws IOException
+    {
+        InstanceProperties instanceProperties = new InstanceProperties();
+
+        instanceProperties.setProperty("boolean", getPrimitiveValue(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_BOOLEAN, true));
+        instanceProperties.setProperty("byte", getPrimitiveValue(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_BYTE, (byte)-7));
+        instanceProperties.setProperty("char", getPrimitiveValue(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_CHAR, 'x'));
+        instanceProperties.setProperty("short", getPrimitiveValue(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_SHORT, (short)1234));
+        instanceProperties.setProperty("int", getPrimitiveValue(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_INT, Integer.MIN_VALUE));
+        instanceProperties.setProperty("long", getPrimitiveValue(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_LONG, Long.MAX_VALUE));
+        instanceProperties.setProperty("date", getPrimitiveValue(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_DATE, 1600000000000L));
+        instanceProperties.setProperty("float", getPrimitiveValue(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_FLOAT, 3.25f));
+        instanceProperties.setProperty("double", getPrimitiveValue(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_DOUBLE, -0.1d));
+        instanceProperties.setProperty("bigInteger", getPrimitiveValue(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_BIGINTEGER, new BigInteger("123456789012345678901234567890")));
+        instanceProperties.setProperty("bigDecimal", getPrimitiveValue(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_BIGDECIMAL, new BigDecimal("-98765.4321000")));
+        instanceProperties.setProperty("string", getPrimitiveValue(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING, "Grüße, 世界 😀"));
+        instanceProperties.setProperty("emptyString", getPrimitiveValue(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING, ""));
+        instanceProperties.setProperty("nullValue", getPrimitiveValue(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING, null));
+
+        InstanceProperties decoded = roundTrip(instanceProperties);
+
+        assertEquals(decoded, instanceProperties);
+        assertEquals(decoded.getPropertyCount(), 14);
+        assertEquals(((PrimitivePropertyValue)decoded.getPropertyValue("bigDecimal")).getPrimitiveValue().toString(), "-98765.4321000");
+        assertNull(((PrimitivePropertyValue)decoded.getPropertyValue("nullValue")).getPrimitiveValue());
+    }
+
+
+    @Test
+    void testLongString() throws IOException
+    {
+        char[] characters = new char[100000];
+
+        Arrays.fill(characters, 'é');
+
+        InstanceProperties instanceProperties = new InstanceProperties();
+
+        instanceProperties.setProperty("description", getPrimitiveValue(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING, new String(characters)));
+
+        assertEquals(roundTrip(instanceProperties), instanceProperties);
+    }
+
+
+    @Test
+    void testNestedValues() throws IOException
+    {
+        InstanceProperties instanceProperties = new InstanceProperties();
+
+        instanceProperties.setProperty("enum", getEnumValue());
+        instanceProperties.setProperty("struct", getStructValue());
+        instanceProperties.setProperty("map", getMapValue());
+        instanceProperties.setProperty("array", getArrayValue());
+
+        InstanceProperties decoded = roundTrip(instanceProperties);
+
+        assertEquals(decoded, instanceProperties);
+        assertEquals(decoded.getPropertyValue("enum"), getEnumValue());
+        assertEquals(((ArrayPropertyValue)decoded.getPropertyValue("array")).getArrayCount(), 2);
+        assertEquals(((ArrayPropertyValue)decoded.getPropertyValue("array")).getArrayValues().getPropertyValue("0"), getStructValue());
+        assertEquals(((MapPropertyValue)decoded.getPropertyValue("map")).getMapElementCount(), 2);
+    }
+
+
+    @Test
+    void testEmptyAndNullValues() throws IOException
+    {
+        InstanceProperties instanceProperties = new InstanceProperties();
+
+        assertEquals(roundTrip(instanceProperties), instanceProperties);
+
+        /*
+         * Values with no nested properties, no type and no symbolic name.
+         */
+        StructPropertyValue emptyStruct = new StructPropertyValue();
+        MapPropertyValue    emptyMap    = new MapPropertyValue();
+        ArrayPropertyValue  emptyArray  = new ArrayPropertyValue();
+        EnumPropertyValue   emptyEnum   = new EnumPropertyValue();
+        Map<String, InstancePropertyValue> propertyValues = new HashMap<>();
+
+        propertyValues.put("struct", emptyStruct);
+        propertyValues.put("map", emptyMap);
+        propertyValues.put("array", emptyArray);
+        propertyValues.put("enum", emptyEnum);
+        propertyValues.put("null", null);
+
+        instanceProperties.setInstanceProperties(propertyValues);
+
+        InstanceProperties decoded = roundTrip(instanceProperties);
+
+        assertEquals(decoded.getPropertyValue("struct"), emptyStruct);
+        assertEquals(decoded.getPropertyValue("map"), emptyMap);
+        assertEquals(decoded.getPropertyValue("array"), emptyArray);
+        assertEquals(decoded.getPropertyValue("enum"), emptyEnum);
+
+        /*
+         * A property with a null value is the same as a property that is not set.
+         */
+        assertNull(decoded.getPropertyValue("null"));
+        assertEquals(decoded.getPropertyCount(), 4);
+    }
+
+
+    @Test
+    void testEffectivityDates() throws IOException
+    {
+        InstanceProperties instanceProperties = new InstanceProperties();
+
+        instanceProperties.setEffectiveFromTime(new Date(1000));
+        instanceProperties.setEffectiveToTime(new Date(2000));
+        instanceProperties.setProperty("name", getPrimitiveValue(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING, "Customer"));
+
+        InstanceProperties decoded = roundTrip(instanceProperties);
+
+        assertEquals(decoded, instanceProperties);
+        assertEquals(decoded.getEffectiveFromTime(), new Date(1000));
+        assertEquals(decoded.getEffectiveToTime(), new Date(2000));
+    }
+
+
+    @Test
+    void testUnsupportedValueIsStoredAsJSON() throws IOException
+    {
+        InstanceProperties     instanceProperties = new InstanceProperties();
+        PrimitivePropertyValue unknownPrimitive   = new PrimitivePropertyValue();
+
+        unknownPrimitive.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_UNKNOWN);
+        instanceProperties.setProperty("name", getPrimitiveValue(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING, "Customer"));
+        instanceProperties.setProperty("unknown", unknownPrimitive);
+
+        String encoded = GraphOMRSPropertyCodec.encodeInstanceProperties(instanceProperties);
+
+        assertTrue(encoded.startsWith("{"), encoded);
+        assertEquals(GraphOMRSPropertyCodec.decodeInstanceProperties(encoded), instanceProperties);
+    }
+
+
+    @Test
+    void testLegacyJSONIsDecoded() throws IOException
+    {
+        InstanceProperties instanceProperties = new InstanceProperties();
+
+        instanceProperties.setEffectiveFromTime(new Date(1000));
+        instanceProperties.setProperty("name", getPrimitiveValue(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING, "Customer"));
+        instanceProperties.setProperty("count", getPrimitiveValue(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_INT, 42));
+        instanceProperties.setProperty("enum", getEnumValue());
+        instanceProperties.setProperty("struct", getStructValue());
+        instanceProperties.setProperty("map", getMapValue());
+        instanceProperties.setProperty("array", getArrayValue());
+
+        /*
+         * Earlier releases wrote the blobs with a new ObjectMapper for each call.
+         */
+        String legacyJSON = new ObjectMapper().writeValueAsString(instanceProperties);
+
+        assertEquals(GraphOMRSPropertyCodec.decodeInstanceProperties(legacyJSON), instanceProperties);
+    }
+
+
+    @Test
+    void testStoredLegacyJSONIsDecoded() throws IOException
+    {
+        String storedJSON = "{\"class\":\"InstanceProperties\",\"effectiveFromTime\":1000," +
+                             "\"instanceProperties\":{" +
+                               "\"name\":{\"class\":\"PrimitivePropertyValue\",\"instancePropertyCategory\":\"PRIMITIVE\"," +
+                                         "\"typeName\":\"string\",\"primitiveDefCategory\":\"OM_PRIMITIVE_TYPE_STRING\"," +
+                                         "\"primitiveValue\":\"Customer\"}," +
+                               "\"status\":{\"class\":\"EnumPropertyValue\",\"instancePropertyCategory\":\"ENUM\"," +
+                                           "\"ordinal\":1,\"symbolicName\":\"Active\"}}," +
+                             "\"propertyNames\":{},\"propertyCount\":2}";
+
+        InstanceProperties decoded = GraphOMRSPropertyCodec.decodeInstanceProperties(storedJSON);
+
+        assertEquals(decoded.getEffectiveFromTime(), new Date(1000));
+        assertEquals(decoded.getPropertyCount(), 2);
+        assertEquals(((PrimitivePropertyValue)decoded.getPropertyValue("name")).getPrimitiveValue(), "Customer");
+        assertEquals(((EnumPropertyValue)decoded.getPropertyValue("status")).getSymbolicName(), "Active");
+
+        /*
+         * The decoded properties are written in the compact form when they are next saved.
+         */
+        assertEquals(roundTrip(decoded), decoded);
+    }
+
+
+    @Test
+    void testStringListAndMappingProperties() throws IOException
+    {
+        List<String> maintainedBy = Arrays.asList("erinoverview", "garygeeke");
+
+        assertEquals(GraphOMRSPropertyCodec.decodeStringList(GraphOMRSPropertyCodec.encodeStringList(maintainedBy)), maintainedBy);
+        assertEquals(GraphOMRSPropertyCodec.decodeStringList(GraphOMRSPropertyCodec.encodeStringList(Collections.emptyList())), Collections.emptyList());
+
+        Map<String, Serializable> mappingProperties = new HashMap<>();
+
+        mappingProperties.put("sourceSystem", "CRM");
+        mappingProperties.put("sourceVersion", 7);
+
+        assertEquals(GraphOMRSPropertyCodec.decodeMappingProperties(GraphOMRSPropertyCodec.encodeMappingProperties(mappingProperties)), mappingProperties);
+    }
+
+
+    @Test
+    void testCorruptCompactFormIsRejected()
+    {
+        expectThrows(IOException.class, () -> GraphOMRSPropertyCodec.decodeInstanceProperties(GraphOMRSPropertyCodec.COMPACT_ENCODING_V1_PREFIX + "AAAA"));
+    }
+}
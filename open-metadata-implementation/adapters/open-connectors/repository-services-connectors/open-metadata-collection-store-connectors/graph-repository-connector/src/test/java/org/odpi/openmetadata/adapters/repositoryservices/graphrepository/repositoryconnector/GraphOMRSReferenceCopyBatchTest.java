@@ -0,0 +1,177 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSTestRepository.*;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Test that saveInstanceReferenceCopies saves the reference copies in batches of the configured size, and that a
+ * batch that cannot be saved is saved again one instance at a time so that the caller gets the exception for the
+ * instance in error.
+ */
+public class GraphOMRSReferenceCopyBatchTest
+{
+    private static final String otherCollectionId = "otherCollection";
+
+
+    /**
+     * Return the metadata collection of a new repository that saves reference copies in batches of the requested size.
+     *
+     * @param bulkLoadBatchSize value of the bulkLoadBatchSize configuration property
+     * @return metadata collection
+     * @throws Exception the repository could not be started
+     */
+    private OMRSMetadataCollection getMetadataCollection(Object bulkLoadBatchSize) throws Exception
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put(GraphOMRSRepositoryConnectorProvider.BULK_LOAD_BATCH_SIZE_CONFIGURATION_PROPERTY, bulkLoadBatchSize);
+
+        return getRepositoryConnector(configurationProperties).getMetadataCollection();
+    }
+
+
+    /**
+     * Save an entity that the repository holds from a different metadata collection, so that a reference copy
+     * of it from the remote metadata collection can not be saved.
+     *
+     * @param metadataCollection metadata collection
+     * @param guid unique identifier of the entity
+     * @throws Exception unexpected error
+     */
+    private void saveConflictingEntity(OMRSMetadataCollection metadataCollection,
+                                       String                 guid) throws Exception
+    {
+        EntityDetail entity = getEntity(guid, InstanceStatus.ACTIVE);
+
+        entity.setMetadataCollectionId(otherCollectionId);
+        metadataCollection.saveEntityReferenceCopy(userId, entity);
+    }
+
+
+    /**
+     * The entities and relationships of a full batch are all saved, along with proxies for the entities that are
+     * only known through the relationships.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testFullBatch() throws Exception
+    {
+        OMRSMetadataCollection metadataCollection = getMetadataCollection(3);
+
+        metadataCollection.saveInstanceReferenceCopies(userId,
+                                                       new InstanceGraph(Arrays.asList(getEntity("1111", InstanceStatus.ACTIVE),
+                                                                                       getEntity("2222", InstanceStatus.ACTIVE),
+                                                                                       getEntity("3333", InstanceStatus.ACTIVE)),
+                                                                         Arrays.asList(getRelationship("r1", relationshipTypeName, InstanceStatus.ACTIVE, "1111", "2222"),
+                                                                                       getRelationship("r2", relationshipTypeName, InstanceStatus.ACTIVE, "3333", "7777"))));
+
+        for (String guid : Arrays.asList("1111", "2222", "3333"))
+        {
+            assertNotNull(metadataCollection.isEntityKnown(userId, guid));
+        }
+
+        assertNotNull(metadataCollection.getRelationship(userId, "r1"));
+        assertEquals(metadataCollection.getRelationship(userId, "r2").getEntityTwoProxy().getGUID(), "7777");
+        assertNull(metadataCollection.isEntityKnown(userId, "7777"));
+        assertNotNull(metadataCollection.getEntitySummary(userId, "7777"));
+    }
+
+
+    /**
+     * A batch that fails is saved again one instance at a time.  The instances before the one in error are saved,
+     * the exception for the instance in error is returned and the later instances are not saved, just as if the
+     * instances had been saved individually.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testFailingBatch() throws Exception
+    {
+        OMRSMetadataCollection metadataCollection = getMetadataCollection(2);
+
+        saveConflictingEntity(metadataCollection, "2222");
+
+        try
+        {
+            metadataCollection.saveInstanceReferenceCopies(userId,
+                                                           new InstanceGraph(Arrays.asList(getEntity("1111", InstanceStatus.ACTIVE),
+                                                                                           getEntity("2222", InstanceStatus.ACTIVE),
+                                                                                           getEntity("3333", InstanceStatus.ACTIVE)),
+                                                                             null));
+            fail("The conflicting entity was saved");
+        }
+        catch (InvalidParameterException error)
+        {
+            assertEquals(error.getReportedErrorMessageId(), GraphOMRSErrorCode.ENTITY_ALREADY_EXISTS.getMessageDefinition().getMessageId());
+        }
+
+        assertNotNull(metadataCollection.isEntityKnown(userId, "1111"));
+        assertEquals(metadataCollection.isEntityKnown(userId, "2222").getMetadataCollectionId(), otherCollectionId);
+        assertNull(metadataCollection.isEntityKnown(userId, "3333"));
+
+        /*
+         * The failed batch has not left a transaction open.
+         */
+        metadataCollection.saveInstanceReferenceCopies(userId,
+                                                       new InstanceGraph(Collections.singletonList(getEntity("3333", InstanceStatus.ACTIVE)),
+                                                                         Collections.singletonList(getRelationship("r1", relationshipTypeName, InstanceStatus.ACTIVE, "1111", "3333"))));
+
+        assertNotNull(metadataCollection.isEntityKnown(userId, "3333"));
+        assertNotNull(metadataCollection.getRelationship(userId, "r1"));
+    }
+
+
+    /**
+     * With a batch size of 1 each instance is saved individually, with the same results.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testBatchSizeOfOne() throws Exception
+    {
+        OMRSMetadataCollection metadataCollection = getMetadataCollection("1");
+
+        saveConflictingEntity(metadataCollection, "2222");
+
+        metadataCollection.saveInstanceReferenceCopies(userId,
+                                                       new InstanceGraph(Collections.singletonList(getEntity("1111", InstanceStatus.ACTIVE)),
+                                                                         Collections.singletonList(getRelationship("r1", relationshipTypeName, InstanceStatus.ACTIVE, "1111", "2222"))));
+
+        assertNotNull(metadataCollection.isEntityKnown(userId, "1111"));
+        assertNotNull(metadataCollection.getRelationship(userId, "r1"));
+
+        try
+        {
+            metadataCollection.saveInstanceReferenceCopies(userId,
+                                                           new InstanceGraph(Arrays.asList(getEntity("2222", InstanceStatus.ACTIVE),
+                                                                                           getEntity("3333", InstanceStatus.ACTIVE)),
+                                                                             null));
+            fail("The conflicting entity was saved");
+        }
+        catch (InvalidParameterException error)
+        {
+            assertEquals(error.getReportedErrorMessageId(), GraphOMRSErrorCode.ENTITY_ALREADY_EXISTS.getMessageDefinition().getMessageId());
+        }
+
+        assertNull(metadataCollection.isEntityKnown(userId, "3333"));
+    }
+}
@@ -0,0 +1,157 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSTestRepository.*;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Test that the type, status and paging filters of getRelationshipsForEntity are applied in the traversal of the
+ * entity's Relationship edges.
+ */
+public class GraphOMRSRelationshipFilterTest
+{
+    private static final String startEntityGUID = "1111";
+
+    private OMRSMetadataCollection metadataCollection;
+
+
+    /**
+     * Save an entity with relationships of different types and statuses.
+     *
+     * @throws Exception unexpected error
+     */
+    @BeforeClass
+    public void setup() throws Exception
+    {
+        metadataCollection = getRepositoryConnector(null).getMetadataCollection();
+
+        metadataCollection.saveEntityReferenceCopy(userId, getEntity(startEntityGUID, InstanceStatus.ACTIVE));
+        metadataCollection.saveEntityReferenceCopy(userId, getEntity("2222", InstanceStatus.ACTIVE));
+
+        metadataCollection.saveRelationshipReferenceCopy(userId, getRelationship("r1", relationshipTypeName, InstanceStatus.ACTIVE, startEntityGUID, "2222"));
+        metadataCollection.saveRelationshipReferenceCopy(userId, getRelationship("r2", subRelationshipTypeName, InstanceStatus.ACTIVE, "2222", startEntityGUID));
+        metadataCollection.saveRelationshipReferenceCopy(userId, getRelationship("r3", otherRelationshipTypeName, InstanceStatus.ACTIVE, startEntityGUID, "2222"));
+        metadataCollection.saveRelationshipReferenceCopy(userId, getRelationship("r4", relationshipTypeName, InstanceStatus.PROPOSED, startEntityGUID, "2222"));
+        metadataCollection.saveRelationshipReferenceCopy(userId, getRelationship("r5", relationshipTypeName, InstanceStatus.DELETED, startEntityGUID, "2222"));
+    }
+
+
+    /**
+     * Return the unique identifiers of a page of the start entity's relationships in the order of the traversal.
+     *
+     * @param relationshipTypeName type of the relationships or null for all types
+     * @param limitResultsByStatus statuses of the relationships or null for any status
+     * @param fromElement starting element
+     * @param pageSize maximum number of results
+     * @return guids
+     * @throws Exception unexpected error
+     */
+    private List<String> getRelationshipGUIDs(String               relationshipTypeName,
+                                              List<InstanceStatus> limitResultsByStatus,
+                                              int                  fromElement,
+                                              int                  pageSize) throws Exception
+    {
+        List<Relationship> relationships = metadataCollection.getRelationshipsForEntity(userId,
+                                                                                        startEntityGUID,
+                                                                                        relationshipTypeName == null ? null : getTypeGUID(relationshipTypeName),
+                                                                                        fromElement,
+                                                                                        limitResultsByStatus,
+                                                                                        null,
+                                                                                        null,
+                                                                                        null,
+                                                                                        pageSize);
+
+        return getGUIDs(relationships);
+    }
+
+
+    /**
+     * Without filters, every relationship except the deleted one is returned.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testNoFilters() throws Exception
+    {
+        assertEquals(new HashSet<>(getRelationshipGUIDs(null, null, 0, 0)), new HashSet<>(Arrays.asList("r1", "r2", "r3", "r4")));
+    }
+
+
+    /**
+     * The type filter includes the subtypes of the requested type.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testTypeFilter() throws Exception
+    {
+        assertEquals(new HashSet<>(getRelationshipGUIDs(relationshipTypeName, null, 0, 0)), new HashSet<>(Arrays.asList("r1", "r2", "r4")));
+        assertEquals(getRelationshipGUIDs(subRelationshipTypeName, null, 0, 0), Collections.singletonList("r2"));
+        assertEquals(getRelationshipGUIDs(otherRelationshipTypeName, null, 0, 0), Collections.singletonList("r3"));
+    }
+
+
+    /**
+     * The status filter only returns relationships with the requested statuses, and never the deleted ones.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testStatusFilter() throws Exception
+    {
+        assertEquals(getRelationshipGUIDs(null, Collections.singletonList(InstanceStatus.PROPOSED), 0, 0), Collections.singletonList("r4"));
+        assertEquals(getRelationshipGUIDs(relationshipTypeName, Arrays.asList(InstanceStatus.PROPOSED, InstanceStatus.DELETED), 0, 0),
+                     Collections.singletonList("r4"));
+        assertNull(metadataCollection.getRelationshipsForEntity(userId,
+                                                                startEntityGUID,
+                                                                getTypeGUID(otherRelationshipTypeName),
+                                                                0,
+                                                                Collections.singletonList(InstanceStatus.PROPOSED),
+                                                                null,
+                                                                null,
+                                                                null,
+                                                                0));
+    }
+
+
+    /**
+     * Unsorted pages are taken from the traversal, and together return each filtered relationship exactly once.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testPagesInTraversal() throws Exception
+    {
+        List<String> firstPage  = getRelationshipGUIDs(relationshipTypeName, null, 0, 2);
+        List<String> secondPage = getRelationshipGUIDs(relationshipTypeName, null, 2, 2);
+
+        assertEquals(firstPage.size(), 2);
+        assertEquals(secondPage.size(), 1);
+        assertTrue(getRelationshipGUIDs(relationshipTypeName, null, 3, 2).isEmpty());
+
+        List<String> allPages = new ArrayList<>(firstPage);
+        allPages.addAll(secondPage);
+
+        Set<String> uniqueGUIDs = new HashSet<>(allPages);
+
+        assertEquals(uniqueGUIDs.size(), allPages.size());
+        assertEquals(uniqueGUIDs, new HashSet<>(Arrays.asList("r1", "r2", "r4")));
+    }
+}
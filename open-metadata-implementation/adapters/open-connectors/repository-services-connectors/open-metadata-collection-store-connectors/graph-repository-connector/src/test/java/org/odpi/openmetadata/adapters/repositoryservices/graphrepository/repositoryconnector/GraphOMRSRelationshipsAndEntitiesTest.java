@@ -0,0 +1,125 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSTestRepository.*;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+
+/**
+ * Test that getRelationshipsAndEntitiesForEntity returns a page of an entity's relationships with the entities at
+ * their other ends, leaving out the ends that are only proxies or have been deleted.
+ */
+public class GraphOMRSRelationshipsAndEntitiesTest
+{
+    private static final String startEntityGUID = "1111";
+
+    private OMRSMetadataCollection metadataCollection;
+
+
+    /**
+     * Save the entities and relationships that the tests retrieve.
+     *
+     * @throws Exception unexpected error
+     */
+    @BeforeClass
+    public void setup() throws Exception
+    {
+        metadataCollection = getRepositoryConnector(null).getMetadataCollection();
+
+        metadataCollection.saveEntityReferenceCopy(userId, getEntity(startEntityGUID, InstanceStatus.ACTIVE));
+        metadataCollection.saveEntityReferenceCopy(userId, getEntity("2222", InstanceStatus.ACTIVE));
+        metadataCollection.saveEntityReferenceCopy(userId, getEntity("5555", InstanceStatus.DELETED));
+
+        /*
+         * Entity 7777 is only known through the proxy in its relationship.
+         */
+        metadataCollection.saveRelationshipReferenceCopy(userId, getRelationship("r1", relationshipTypeName, InstanceStatus.ACTIVE, startEntityGUID, "2222"));
+        metadataCollection.saveRelationshipReferenceCopy(userId, getRelationship("r2", relationshipTypeName, InstanceStatus.ACTIVE, "5555", startEntityGUID));
+        metadataCollection.saveRelationshipReferenceCopy(userId, getRelationship("r3", relationshipTypeName, InstanceStatus.ACTIVE, startEntityGUID, "7777"));
+        metadataCollection.saveRelationshipReferenceCopy(userId, getRelationship("r4", relationshipTypeName, InstanceStatus.ACTIVE, "2222", "5555"));
+    }
+
+
+    /**
+     * All of the relationships are returned with the entities at their other ends.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testAllRelationships() throws Exception
+    {
+        InstanceGraph graph = metadataCollection.getRelationshipsAndEntitiesForEntity(userId,
+                                                                                      startEntityGUID,
+                                                                                      null,
+                                                                                      0,
+                                                                                      null,
+                                                                                      null,
+                                                                                      null,
+                                                                                      null,
+                                                                                      0);
+
+        assertEquals(new HashSet<>(getGUIDs(graph.getRelationships())), new HashSet<>(Arrays.asList("r1", "r2", "r3")));
+        assertEquals(getGUIDs(graph.getEntities()), Collections.singletonList("2222"));
+    }
+
+
+    /**
+     * Each page only returns the entities at the other ends of its own relationships.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testPages() throws Exception
+    {
+        InstanceGraph graph = metadataCollection.getRelationshipsAndEntitiesForEntity(userId,
+                                                                                      startEntityGUID,
+                                                                                      null,
+                                                                                      0,
+                                                                                      null,
+                                                                                      null,
+                                                                                      null,
+                                                                                      SequencingOrder.GUID,
+                                                                                      2);
+
+        assertEquals(getGUIDs(graph.getRelationships()), Arrays.asList("r1", "r2"));
+        assertEquals(getGUIDs(graph.getEntities()), Collections.singletonList("2222"));
+
+        graph = metadataCollection.getRelationshipsAndEntitiesForEntity(userId,
+                                                                        startEntityGUID,
+                                                                        null,
+                                                                        2,
+                                                                        null,
+                                                                        null,
+                                                                        null,
+                                                                        SequencingOrder.GUID,
+                                                                        2);
+
+        assertEquals(getGUIDs(graph.getRelationships()), Collections.singletonList("r3"));
+        assertNull(graph.getEntities());
+
+        graph = metadataCollection.getRelationshipsAndEntitiesForEntity(userId,
+                                                                        startEntityGUID,
+                                                                        null,
+                                                                        3,
+                                                                        null,
+                                                                        null,
+                                                                        null,
+                                                                        SequencingOrder.GUID,
+                                                                        2);
+
+        assertNull(graph);
+    }
+}
@@ -0,0 +1,392 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.RelationshipDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+
+import java.io.File;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Support for the tests that run the graph repository connector against a new JanusGraph database.  The repository
+ * helper and validator are stand-ins that only know the types defined here and do not validate anything.
+ */
+class GraphOMRSTestRepository
+{
+    static final String localCollectionId  = "localCollection";
+    static final String remoteCollectionId = "remoteCollection";
+    static final String userId             = "testUser";
+
+    static final String entityTypeName            = "TestEntity";
+    static final String relationshipTypeName      = "TestRelationship";
+    static final String subRelationshipTypeName   = "TestSubRelationship";
+    static final String otherRelationshipTypeName = "OtherRelationship";
+
+    private static final Map<String, TypeDef> typeDefs = new HashMap<>();
+
+    static
+    {
+        addTypeDef(new EntityDef(), "TestEntityGUID", entityTypeName, null);
+        addTypeDef(new RelationshipDef(), "TestRelationshipGUID", relationshipTypeName, null);
+        addTypeDef(new RelationshipDef(), "TestSubRelationshipGUID", subRelationshipTypeName, relationshipTypeName);
+        addTypeDef(new RelationshipDef(), "OtherRelationshipGUID", otherRelationshipTypeName, null);
+    }
+
+
+    /**
+     * Add a type with no attributes to the types known to the repository helper.
+     *
+     * @param typeDef empty type definition
+     * @param guid unique identifier of the type
+     * @param name name of the type
+     * @param superTypeName name of the super type or null
+     */
+    private static void addTypeDef(TypeDef typeDef,
+                                   String  guid,
+                                   String  name,
+                                   String  superTypeName)
+    {
+        typeDef.setGUID(guid);
+        typeDef.setName(name);
+        typeDef.setVersion(1);
+
+        if (superTypeName != null)
+        {
+            TypeDefLink superType = new TypeDefLink();
+
+            superType.setGUID(typeDefs.get(superTypeName).getGUID());
+            superType.setName(superTypeName);
+            typeDef.setSuperType(superType);
+        }
+
+        typeDefs.put(name, typeDef);
+    }
+
+
+    /**
+     * Return the unique identifier of one of the test types.
+     *
+     * @param typeName name of the type
+     * @return guid
+     */
+    static String getTypeGUID(String typeName)
+    {
+        return typeDefs.get(typeName).getGUID();
+    }
+
+
+    /**
+     * Return a started repository connector for a new graph in a temporary directory.
+     *
+     * @param configurationProperties configuration properties for the connector on top of the graph storage properties
+     * @return repository connector
+     * @throws Exception the connector could not be started
+     */
+    static GraphOMRSRepositoryConnector getRepositoryConnector(Map<String, Object> configurationProperties) throws Exception
+    {
+        Map<String, Object> storageProperties = getStorageProperties();
+
+        if (configurationProperties != null)
+        {
+            storageProperties.putAll(configurationProperties);
+        }
+
+        Connection connection = new Connection();
+
+        connection.setConfigurationProperties(storageProperties);
+
+        GraphOMRSRepositoryConnector repositoryConnector = (GraphOMRSRepositoryConnector) new GraphOMRSRepositoryConnectorProvider().getConnector(connection);
+
+        repositoryConnector.setAuditLog(getAuditLog());
+        repositoryConnector.setRepositoryHelper(getRepositoryHelper());
+        repositoryConnector.setRepositoryValidator(getRepositoryValidator());
+        repositoryConnector.setMetadataCollectionId(localCollectionId);
+        repositoryConnector.start();
+
+        return repositoryConnector;
+    }
+
+
+    /**
+     * Return the storage properties for a new graph in a temporary directory.
+     *
+     * @return storage properties
+     * @throws Exception the directory could not be created
+     */
+    static Map<String, Object> getStorageProperties() throws Exception
+    {
+        Map<String, Object> storageProperties = new HashMap<>();
+        File                graphDirectory    = Files.createTempDirectory("graph-repository-test").toFile();
+
+        storageProperties.put("storage.backend", "berkeleyje");
+        storageProperties.put("storage.directory", new File(graphDirectory, "berkeley").getAbsolutePath());
+        storageProperties.put("index.search.backend", "lucene");
+        storageProperties.put("index.search.directory", new File(graphDirectory, "searchindex").getAbsolutePath());
+
+        return storageProperties;
+    }
+
+
+    /**
+     * Return an audit log that ignores its records.
+     *
+     * @return audit log
+     */
+    static AuditLog getAuditLog()
+    {
+        AuditLogDestination destination = new AuditLogDestination(null)
+        {
+            @Override
+            public void addLogRecord(AuditLogRecord logRecord)
+            {
+            }
+        };
+
+        return new AuditLog(destination, 0, "Test", "Test", null);
+    }
+
+
+    /**
+     * Return a repository helper that retrieves the test types and sorts and pages results by GUID.
+     *
+     * @return repository helper
+     */
+    private static OMRSRepositoryHelper getRepositoryHelper()
+    {
+        return (OMRSRepositoryHelper) Proxy.newProxyInstance(OMRSRepositoryHelper.class.getClassLoader(),
+                                                             new Class<?>[]{ OMRSRepositoryHelper.class },
+                                                             (proxy, method, args) ->
+        {
+            switch (method.getName())
+            {
+                case "getTypeDefByName":
+                    return typeDefs.get((String) args[1]);
+
+                case "getTypeDef":
+                    for (TypeDef typeDef : typeDefs.values())
+                    {
+                        for (int i = 1; i < args.length; i++)
+                        {
+                            if (typeDef.getGUID().equals(args[i]) || typeDef.getName().equals(args[i]))
+                            {
+                                return typeDef;
+                            }
+                        }
+                    }
+                    return null;
+
+                case "getNewInstanceType":
+                    return getInstanceType(typeDefs.get(((TypeDef) args[1]).getName()));
+
+                case "getAllPropertiesForTypeDef":
+                    return new ArrayList<>();
+
+                case "getSubTypesOf":
+                    List<String> subTypeNames = new ArrayList<>();
+
+                    for (TypeDef typeDef : typeDefs.values())
+                    {
+                        if ((typeDef.getSuperType() != null) && (args[1].equals(typeDef.getSuperType().getName())))
+                        {
+                            subTypeNames.add(typeDef.getName());
+                        }
+                    }
+                    return subTypeNames;
+
+                case "formatRelationshipResults":
+                case "formatEntityResults":
+                    return getPage((List<?>) args[0], (int) args[1], (SequencingOrder) args[3], (int) args[4]);
+
+                case "isExactMatchRegex":
+                    return false;
+
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+
+    /**
+     * Return a repository validator that accepts every request.
+     *
+     * @return repository validator
+     */
+    private static OMRSRepositoryValidator getRepositoryValidator()
+    {
+        return (OMRSRepositoryValidator) Proxy.newProxyInstance(OMRSRepositoryValidator.class.getClassLoader(),
+                                                                new Class<?>[]{ OMRSRepositoryValidator.class },
+                                                                (proxy, method, args) ->
+        {
+            if (method.getReturnType() == boolean.class)
+            {
+                return true;
+            }
+
+            return null;
+        });
+    }
+
+
+    /**
+     * Return the requested page of a list of instances, sorted by GUID unless the sequencing order is ANY.
+     *
+     * @param instances instances
+     * @param fromElement starting element
+     * @param sequencingOrder sequencing order
+     * @param pageSize maximum number of instances or 0 for all
+     * @return page or null if the page is empty
+     */
+    @SuppressWarnings("unchecked")
+    private static List<InstanceHeader> getPage(List<?>         instances,
+                                                int             fromElement,
+                                                SequencingOrder sequencingOrder,
+                                                int             pageSize)
+    {
+        List<InstanceHeader> results = new ArrayList<>((List<InstanceHeader>) instances);
+
+        if ((sequencingOrder != null) && (sequencingOrder != SequencingOrder.ANY))
+        {
+            results.sort(Comparator.comparing(InstanceHeader::getGUID));
+        }
+
+        int start = Math.min(fromElement, results.size());
+        int end   = (pageSize == 0) ? results.size() : Math.min(fromElement + pageSize, results.size());
+
+        return (start == end) ? null : new ArrayList<>(results.subList(start, end));
+    }
+
+
+    /**
+     * Return the instance type for a type definition.
+     *
+     * @param typeDef type definition
+     * @return instance type
+     */
+    private static InstanceType getInstanceType(TypeDef typeDef)
+    {
+        InstanceType instanceType = new InstanceType();
+
+        instanceType.setTypeDefCategory(typeDef.getCategory());
+        instanceType.setTypeDefGUID(typeDef.getGUID());
+        instanceType.setTypeDefName(typeDef.getName());
+        instanceType.setTypeDefVersion(typeDef.getVersion());
+
+        return instanceType;
+    }
+
+
+    /**
+     * Return a reference copy of an entity from the remote metadata collection.
+     *
+     * @param guid unique identifier
+     * @param status status of the entity
+     * @return entity
+     */
+    static EntityDetail getEntity(String         guid,
+                                  InstanceStatus status)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setType(getInstanceType(typeDefs.get(entityTypeName)));
+        entity.setMetadataCollectionId(remoteCollectionId);
+        entity.setStatus(status);
+        entity.setVersion(1);
+
+        return entity;
+    }
+
+
+    /**
+     * Return a proxy for an entity from the remote metadata collection.
+     *
+     * @param guid unique identifier
+     * @return entity proxy
+     */
+    static EntityProxy getEntityProxy(String guid)
+    {
+        EntityProxy entityProxy = new EntityProxy();
+
+        entityProxy.setGUID(guid);
+        entityProxy.setType(getInstanceType(typeDefs.get(entityTypeName)));
+        entityProxy.setMetadataCollectionId(remoteCollectionId);
+        entityProxy.setVersion(1);
+
+        return entityProxy;
+    }
+
+
+    /**
+     * Return a reference copy of a relationship from the remote metadata collection.
+     *
+     * @param guid unique identifier
+     * @param typeName name of the relationship type
+     * @param status status of the relationship
+     * @param entityOneGUID unique identifier of the entity at end one
+     * @param entityTwoGUID unique identifier of the entity at end two
+     * @return relationship
+     */
+    static Relationship getRelationship(String         guid,
+                                        String         typeName,
+                                        InstanceStatus status,
+                                        String         entityOneGUID,
+                                        String         entityTwoGUID)
+    {
+        Relationship relationship = new Relationship();
+
+        relationship.setGUID(guid);
+        relationship.setType(getInstanceType(typeDefs.get(typeName)));
+        relationship.setMetadataCollectionId(remoteCollectionId);
+        relationship.setStatus(status);
+        relationship.setVersion(1);
+        relationship.setEntityOneProxy(getEntityProxy(entityOneGUID));
+        relationship.setEntityTwoProxy(getEntityProxy(entityTwoGUID));
+
+        return relationship;
+    }
+
+
+    /**
+     * Return the unique identifiers of a list of instances, or an empty list if there are no instances.
+     *
+     * @param instances instances
+     * @return guids
+     */
+    static List<String> getGUIDs(List<? extends InstanceHeader> instances)
+    {
+        List<String> guids = new ArrayList<>();
+
+        if (instances != null)
+        {
+            for (InstanceHeader instance : instances)
+            {
+                guids.add(instance.getGUID());
+            }
+        }
+
+        return guids;
+    }
+}
@@ -13,27 +13,34 @@ import java.util.*;
 /**
  * In memory entity neighbourhood processing to return the entities and relationships that radiate out from the supplied entity GUID.
  * The results are scoped both the instance type guids, classifications, status and the level.
+ *
+ * The neighbourhood is explored breadth first from the root entity, one relationship at a time, so that the filters are
+ * applied before an entity is added to the graph and the exploration can stop as soon as enough relationships have been
+ * found.  The relationships are numbered in the order they are found, which allows the neighbourhood to be returned in pages.
  */
 class InMemoryEntityNeighbourhood
 {
     private OMRSRepositoryValidator   repositoryValidator;
     private OMRSRepositoryHelper      repositoryHelper;
     private String                    repositoryName;
-    private Map<String, EntityDetail> entityStore;
-    private Map<String, Relationship> relationshipStore;
+    private InMemoryOMRSMetadataStore metadataStore = null;
+    private Map<String, EntityDetail> entityStore = null;
+    private Map<String, Relationship> relationshipStore = null;
     private String                    rootEntityGUID;
     private List<String>              entityTypeGUIDs;
     private List<String>              relationshipTypeGUIDs;
     private List<InstanceStatus>      limitResultsByStatus;
     private List<String>              limitResultsByClassification;
     private int                       level;
-    private Set<String>               graphEntities          = new HashSet<>();
-    private Set<String>               graphRelationships     = new HashSet<>();
-    private Map<String, Set<String>>  entityToRelationships  = new HashMap<>();
-    private Map<String, Set<String>>  relationshipToEntities = new HashMap<>();
+    private int                       maxNeighbourhoodSize = 0;
+    private Set<String>               entityTypeNames = null;
+    private Set<String>               graphEntities = new HashSet<>();
+    private Set<String>               visitedRelationships = new HashSet<>();
+    private Map<String, Boolean>      entityVerdicts = new HashMap<>();
+    private Map<String, List<String>> entityToRelationships = null;
 
     /**
-     * Constructor
+     * Constructor for a query against a time warped copy of the stores.
      *
      * @param repositoryHelper             helper methods when calling the repository connector
      * @param repositoryName               name of this repository
@@ -62,12 +69,92 @@ class InMemoryEntityNeighbourhood
                                 List<InstanceStatus>      limitResultsByStatus,
                                 List<String>              limitResultsByClassification,
                                 int                       level)
+    {
+        this(repositoryHelper,
+             repositoryName,
+             repositoryValidator,
+             rootEntityGUID,
+             entityTypeGUIDs,
+             relationshipTypeGUIDs,
+             limitResultsByStatus,
+             limitResultsByClassification,
+             level);
+
+        this.entityStore = entityStore;
+        this.relationshipStore = relationshipStore;
+    }
+
+
+    /**
+     * Constructor for a query against the current content of the metadata store.  The relationships for each entity
+     * are retrieved from the store's index as they are needed so there is no need to copy the stores.
+     *
+     * @param repositoryHelper             helper methods when calling the repository connector
+     * @param repositoryName               name of this repository
+     * @param repositoryValidator          repository validator
+     * @param metadataStore                in memory metadata store
+     * @param rootEntityGUID               the starting point of the query.
+     * @param entityTypeGUIDs              list of entity types to include in the query results.  Null means include
+     *                                     all entities found, irrespective of their type.
+     * @param relationshipTypeGUIDs        list of relationship types to include in the query results.  Null means include
+     *                                     all entities found, irrespective of their type.
+     * @param limitResultsByStatus         By default, relationships in all statuses are returned.  However, it is possible
+     *                                     to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                                     status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param level                        the number of the relationships out from the starting entity that the query will traverse to
+     */
+    InMemoryEntityNeighbourhood(OMRSRepositoryHelper      repositoryHelper,
+                                String                    repositoryName,
+                                OMRSRepositoryValidator   repositoryValidator,
+                                InMemoryOMRSMetadataStore metadataStore,
+                                String                    rootEntityGUID,
+                                List<String>              entityTypeGUIDs,
+                                List<String>              relationshipTypeGUIDs,
+                                List<InstanceStatus>      limitResultsByStatus,
+                                List<String>              limitResultsByClassification,
+                                int                       level)
+    {
+        this(repositoryHelper,
+             repositoryName,
+             repositoryValidator,
+             rootEntityGUID,
+             entityTypeGUIDs,
+             relationshipTypeGUIDs,
+             limitResultsByStatus,
+             limitResultsByClassification,
+             level);
+
+        this.metadataStore = metadataStore;
+    }
+
+
+    /**
+     * Set up the common query parameters.
+     *
+     * @param repositoryHelper             helper methods when calling the repository connector
+     * @param repositoryName               name of this repository
+     * @param repositoryValidator          repository validator
+     * @param rootEntityGUID               the starting point of the query.
+     * @param entityTypeGUIDs              list of entity types to include in the query results.
+     * @param relationshipTypeGUIDs        list of relationship types to include in the query results.
+     * @param limitResultsByStatus         list of statuses to restrict the results to.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param level                        the number of the relationships out from the starting entity that the query will traverse to
+     */
+    private InMemoryEntityNeighbourhood(OMRSRepositoryHelper      repositoryHelper,
+                                        String                    repositoryName,
+                                        OMRSRepositoryValidator   repositoryValidator,
+                                        String                    rootEntityGUID,
+                                        List<String>              entityTypeGUIDs,
+                                        List<String>              relationshipTypeGUIDs,
+                                        List<InstanceStatus>      limitResultsByStatus,
+                                        List<String>              limitResultsByClassification,
+                                        int                       level)
     {
         this.repositoryHelper = repositoryHelper;
         this.repositoryName = repositoryName;
         this.repositoryValidator = repositoryValidator;
-        this.entityStore = entityStore;
-        this.relationshipStore = relationshipStore;
         this.rootEntityGUID = rootEntityGUID;
         this.entityTypeGUIDs = entityTypeGUIDs;
         this.relationshipTypeGUIDs = relationshipTypeGUIDs;
@@ -81,179 +168,285 @@ class InMemoryEntityNeighbourhood
             level = 100;
         }
         this.level = level;
-        initializeMaps();
     }
 
+
     /**
-     * Initialize maps that help us traverse between entities and relationships using their guids
+     * Set up the maximum number of relationships that are returned in a single graph.  When the limit is reached
+     * the graph is marked as truncated.
+     *
+     * @param maxNeighbourhoodSize maximum number of relationships (zero means no limit)
      */
-    private void initializeMaps()
+    void setMaxNeighbourhoodSize(int maxNeighbourhoodSize)
     {
-        for (Relationship relationship : relationshipStore.values())
+        this.maxNeighbourhoodSize = maxNeighbourhoodSize;
+    }
+
+
+    /**
+     * Create the instance graph
+     *
+     * @return InstanceGraph  the instance graph that contains the entities and relationships that radiate out from the supplied entity GUID.
+     * @throws TypeErrorException Type error.
+     */
+    InstanceGraph createInstanceGraph() throws TypeErrorException
+    {
+        return createInstanceGraph(0, 0);
+    }
+
+
+    /**
+     * Create a page of the instance graph.  Paging applies to the relationships in the order they are found.
+     * The page contains the entities that are first reached through its relationships - the root entity is
+     * returned in the first page.
+     *
+     * @param fromRelationshipElement the starting element number of the relationships to return
+     * @param pageSize the maximum number of relationships to return (zero means no limit other than the maximum neighbourhood size)
+     * @return InstanceGraph  the instance graph that contains the entities and relationships that radiate out from the supplied entity GUID.
+     * @throws TypeErrorException Type error.
+     */
+    InstanceGraph createInstanceGraph(int fromRelationshipElement,
+                                      int pageSize) throws TypeErrorException
+    {
+        final String methodName = "createInstanceGraph";
+
+        int fromElement = Math.max(fromRelationshipElement, 0);
+        int pageLimit   = Integer.MAX_VALUE;
+
+        if (pageSize > 0)
         {
-            String      relationshipGuid     = relationship.getGUID();
-            String      relationshipEnd1Guid = getEnd1EntityGUID(relationship);
-            String      relationshipEnd2Guid = getEnd2EntityGUID(relationship);
-            Set<String> endsGuids            = new HashSet<>();
+            pageLimit = pageSize;
+        }
 
-            endsGuids.add(relationshipEnd1Guid);
-            endsGuids.add(relationshipEnd2Guid);
-            relationshipToEntities.put(relationshipGuid, endsGuids);
-            Set<String> relationshipGuids;
+        if ((maxNeighbourhoodSize > 0) && (maxNeighbourhoodSize < pageLimit))
+        {
+            pageLimit = maxNeighbourhoodSize;
+        }
+
+        long toElement = (long)fromElement + pageLimit;
 
+        if (entityTypeGUIDs != null && !entityTypeGUIDs.isEmpty())
+        {
             /*
-             * process end1
+             * Look up the names of the entity types once rather than for each relationship.
              */
-            if (entityToRelationships.containsKey(relationshipEnd1Guid))
+            entityTypeNames = new HashSet<>();
+
+            for (String entityTypeGUID : entityTypeGUIDs)
             {
-                relationshipGuids = entityToRelationships.get(relationshipEnd1Guid);
-                if (relationshipGuids == null)
-                {
-                    relationshipGuids = new HashSet<>();
-                }
-            } else
+                TypeDef entityTypeDef = repositoryHelper.getTypeDef(repositoryName, "guid", entityTypeGUID, methodName);
+
+                entityTypeNames.add(entityTypeDef.getName());
+            }
+        }
+
+        List<EntityDetail> entityList       = new ArrayList<>();
+        List<Relationship> relationshipList = new ArrayList<>();
+        boolean            truncated        = false;
+        int                relationshipCount = 0;
+
+        /*
+         * add the root entity so the returned graph is consistent.
+         */
+        graphEntities.add(rootEntityGUID);
+
+        if (fromElement == 0)
+        {
+            EntityDetail rootEntity = getEntity(rootEntityGUID);
+
+            if (rootEntity != null)
             {
-                relationshipGuids = new HashSet<>();
+                entityList.add(rootEntity);
             }
-            relationshipGuids.add(relationshipGuid);
-            entityToRelationships.put(relationshipEnd1Guid, relationshipGuids);
-            /*
-             * process end2
-             */
-            if (entityToRelationships.containsKey(relationshipEnd2Guid))
+        }
+
+        Deque<String>        entitiesToExplore = new ArrayDeque<>();
+        Map<String, Integer> entityLevels      = new HashMap<>();
+
+        if (this.level > 0)
+        {
+            entitiesToExplore.add(rootEntityGUID);
+            entityLevels.put(rootEntityGUID, 0);
+        }
+
+        while ((! truncated) && (! entitiesToExplore.isEmpty()))
+        {
+            String entityGUID   = entitiesToExplore.poll();
+            int    currentLevel = entityLevels.remove(entityGUID);
+
+            for (Relationship relationship : getRelationshipsForEntity(entityGUID))
             {
-                relationshipGuids = entityToRelationships.get(relationshipEnd2Guid);
-                if (relationshipGuids == null)
+                /*
+                 * Each relationship is only checked once - the outcome does not depend on which end it is reached from.
+                 */
+                if ((relationship == null) || (! visitedRelationships.add(relationship.getGUID())))
                 {
-                    relationshipGuids = new HashSet<>();
+                    continue;
+                }
+
+                String linkedEntityGUID = getLinkedEntityGUID(entityGUID, relationship);
+
+                if ((linkedEntityGUID == null) || (! verifyRelationshipForEntityNeighbourhood(relationship, linkedEntityGUID)))
+                {
+                    continue;
+                }
+
+                if (relationshipCount >= toElement)
+                {
+                    /*
+                     * There is at least one more relationship to return.
+                     */
+                    truncated = true;
+                    break;
+                }
+
+                boolean inPage = (relationshipCount >= fromElement);
+
+                relationshipCount++;
+
+                if (inPage)
+                {
+                    relationshipList.add(relationship);
+                }
+
+                if (graphEntities.add(linkedEntityGUID))
+                {
+                    EntityDetail linkedEntity = getEntity(linkedEntityGUID);
+
+                    if ((inPage) && (linkedEntity != null))
+                    {
+                        entityList.add(linkedEntity);
+                    }
+
+                    if (currentLevel + 1 < this.level)
+                    {
+                        entitiesToExplore.add(linkedEntityGUID);
+                        entityLevels.put(linkedEntityGUID, currentLevel + 1);
+                    }
                 }
-            } else
-            {
-                relationshipGuids = new HashSet<>();
             }
-            relationshipGuids.add(relationshipGuid);
-            entityToRelationships.put(relationshipEnd2Guid, relationshipGuids);
         }
+
+        InstanceGraph instanceGraph = new InstanceGraph(entityList, relationshipList);
+
+        instanceGraph.setTruncated(truncated);
+
+        return instanceGraph;
     }
 
+
     /**
-     * Verify that the supplied relationship and the 2 entities that enclose it are valid, by checking the scoping conditions
+     * Verify that the supplied relationship and the entity at its far end are valid, by checking the scoping conditions.
+     * The entity that the relationship was reached from is already in the graph and so has already been checked.
+     * The cheapest checks are made first.
      *
      * @param relationship relationship to verify
+     * @param linkedEntityGUID unique identifier of the entity at the far end of the relationship
      * @return true if valid otherwise false
      * @throws TypeErrorException type error
      */
-    private boolean verifyRelationshipForEntityNeighbourhood(Relationship relationship) throws TypeErrorException
+    private boolean verifyRelationshipForEntityNeighbourhood(Relationship relationship,
+                                                             String       linkedEntityGUID) throws TypeErrorException
     {
-        boolean valid = false;
-        boolean validEntity1 = false;
-        boolean validEntity2 = false;
-        boolean validRelationship = false;
-
-        if (!validateRelationshipAgainstEntityTypes(relationship))
+        if (! repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, relationship))
         {
-           return false;
+            return false;
         }
 
-        if (relationship != null)
+        if (relationshipTypeGUIDs != null)
         {
-            String relationshipEnd1Guid = getEnd1EntityGUID(relationship);
-            String relationshipEnd2Guid = getEnd2EntityGUID(relationship);
-            EntityDetail entity1 = entityStore.get(relationshipEnd1Guid);
-            EntityDetail entity2 = entityStore.get(relationshipEnd2Guid);
-            if (relationshipTypeGUIDs != null)
+            boolean validRelationship = false;
+
+            for (String relationshipTypeGUID : relationshipTypeGUIDs)
             {
-                for (String relationshipTypeGUID : relationshipTypeGUIDs)
+                if (repositoryValidator.verifyInstanceType(repositoryName, relationshipTypeGUID, relationship))
                 {
-                    if (repositoryValidator.verifyInstanceType(repositoryName, relationshipTypeGUID, relationship))
-                    {
-                        validRelationship = true;
-                    }
+                    validRelationship = true;
+                    break;
                 }
-            } else
+            }
+
+            if (! validRelationship)
             {
-                validRelationship = true;
+                return false;
             }
-            if (repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, relationship))
+        }
+
+        /*
+         * If the entity is already included there is no need to test the type of this end entity.
+         * By omitting the test there is no need to include the root entity type GUID in the
+         * entityTypeGUIDs filtering list. This is beneficial because, although it could be included
+         * and the relationship validation would work correctly, if the root type is a higher level (in
+         * hierarchy terms), inclusion of its type in the filter list will admit all other entities
+         * of that type or any of its subtypes. A finer-grain graph can be achieved by not
+         * including the root type and instead not validating the types of entities already visited
+         * and included in the graph.
+         */
+        if (graphEntities.contains(linkedEntityGUID))
+        {
+            return true;
+        }
+
+        /*
+         * The entity proxy in the relationship gives the type of the entity without retrieving it.
+         */
+        if ((entityTypeNames != null) && (! validateProxyAgainstEntityTypes(getLinkedEntityProxy(linkedEntityGUID, relationship))))
+        {
+            return false;
+        }
+
+        Boolean verdict = entityVerdicts.get(linkedEntityGUID);
+
+        if (verdict == null)
+        {
+            verdict = verifyEntityForEntityNeighbourhood(getEntity(linkedEntityGUID));
+            entityVerdicts.put(linkedEntityGUID, verdict);
+        }
+
+        return verdict;
+    }
+
+
+    /**
+     * Verify that an entity that is not yet in the graph matches the entity type, status and classification scoping conditions.
+     *
+     * @param entity entity to check (may be null if it is not in the store)
+     * @return true if valid otherwise false
+     */
+    private boolean verifyEntityForEntityNeighbourhood(EntityDetail entity)
+    {
+        if (entity == null)
+        {
+            /*
+             * The entity can not be checked so the relationship is only included if there are no conditions on the entities.
+             */
+            return (entityTypeGUIDs == null) && (limitResultsByClassification == null);
+        }
+
+        if (entityTypeGUIDs != null)
+        {
+            boolean validEntity = false;
+
+            for (String typeGUID : entityTypeGUIDs)
             {
-                if (limitResultsByClassification == null ||
-                    limitResultsByClassification != null &&
-                    (includeEntityIfClassifiedAppropriately(limitResultsByClassification, entity1) &&
-                    (includeEntityIfClassifiedAppropriately(limitResultsByClassification, entity2))))
+                if (repositoryValidator.verifyInstanceType(repositoryName, typeGUID, entity))
                 {
-                    if (entityTypeGUIDs != null) {
-                        if (graphEntities.contains(relationshipEnd1Guid)) {
-                            validEntity1 = true;
-                        }
-                        else {
-                            /*
-                             * If the entity is already included there is no need to test the type of this end entity.
-                             * By omitting the test there is no need to include the root entity type GUID in the
-                             * entityTypeGUIDs filtering list. This is beneficial because, although it could be included
-                             * and the relationship validation would work correctly, if the root type is a higher level (in
-                             * hierarchy terms), inclusion of its type in the filter list will admit all other entities
-                             * of that type or any of its subtypes. A finer-grain graph can be achieved by not
-                             * including the root type and instead not validating the types of entities already visited
-                             * and included in the graph.
-                             */
-
-                            for (String typeGUID1 : entityTypeGUIDs) {
-                                if (repositoryValidator.verifyInstanceType(repositoryName, typeGUID1, entity1)) {
-                                    /*
-                                     * Valid type
-                                     */
-
-                                    if (repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, entity1)) {
-                                        validEntity1 = true;
-                                    }
-                                }
-                            }
-                        }
-
-                        if (graphEntities.contains(relationshipEnd2Guid)) {
-                            validEntity2 = true;
-                        }
-                        else {
-                            /*
-                             * If the entity is already included there is no need to test the type of this end entity.
-                             * By omitting the test there is no need to include the root entity type GUID in the
-                             * entityTypeGUIDs filtering list. This is beneficial because, although it could be included
-                             * and the relationship validation would work correctly, if the root type is a higher level (in
-                             * hierarchy terms) inclusion of its type in the filter list will admit all other entities
-                             * of that type or any of its subtypes. A finer-grain graph can be achieved by not
-                             * including the root type and instead not validating the types of entities already visited
-                             * and included in the graph.
-                             */
-
-                            for (String typeGUID2 : entityTypeGUIDs) {
-                                if (repositoryValidator.verifyInstanceType(repositoryName, typeGUID2, entity2)) {
-                                    /*
-                                     * Valid type
-                                     */
-
-                                    if (repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, entity2)) {
-                                        validEntity2 = true;
-                                    }
-                                }
-                            }
-                        }
-
-                    } else
-                    {
-                        validEntity1 = true;
-                        validEntity2 = true;
-                    }
+                    validEntity = true;
+                    break;
                 }
             }
-        }
 
-        if (validEntity1 && validEntity2 && validRelationship)
-        {
-            valid = true;
+            if ((! validEntity) || (! repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, entity)))
+            {
+                return false;
+            }
         }
-        return valid;
+
+        return (limitResultsByClassification == null) ||
+               (includeEntityIfClassifiedAppropriately(limitResultsByClassification, entity));
     }
 
+
     /**
      * Check whether the supplied entities have one or more of the required classifications.
      * The root entity is always always included, irrespective of whether it matches the classifications.
@@ -274,166 +467,155 @@ class InMemoryEntityNeighbourhood
     }
 
     /**
-     * Validate the relationship proxy types against the entity types that are scoping the graph
-     * @param relationship to validate
-     * @return flag indicating whether the relationships proxy types are includes
-     * @throws TypeErrorException Type error.
+     * Validate the type of an entity proxy from a relationship against the entity types that are scoping the graph.
+     *
+     * @param entityProxy proxy to validate
+     * @return flag indicating whether the proxy type is included
      */
-    private boolean validateRelationshipAgainstEntityTypes(Relationship relationship) throws TypeErrorException
+    private boolean validateProxyAgainstEntityTypes(EntityProxy entityProxy)
     {
-        String methodName  ="validateRelationshipAgainstEntityTypes";
-        boolean valid = false;
-        /*
-         * If we have entityType Guids specified then they will scope this relationship. So we need to check that the relationship
-         * entity types of the ends are in scope
-         *
-         * This check is replaced for an entity that has already been added to the graph. This is slightly more efficient, but
-         * more importantly it means the root entity is always included and entity type filters are only evaluated against the
-         * other (non-root) neighbour entities.
-         */
-
-        boolean found1 = false;
-        boolean found2 = false;
+        String methodName  ="validateProxyAgainstEntityTypes";
 
-        if (entityTypeGUIDs !=null && !entityTypeGUIDs.isEmpty()) {
+        if ((entityProxy == null) || (entityProxy.getType() == null))
+        {
+            return false;
+        }
 
-            String end1GUID = relationship.getEntityOneProxy().getGUID();
-            String end2GUID = relationship.getEntityTwoProxy().getGUID();
+        String actualTypeName = entityProxy.getType().getTypeDefName();
 
-            String actualTypeName1 = relationship.getEntityOneProxy().getType().getTypeDefName();
-            String actualTypeName2 = relationship.getEntityTwoProxy().getType().getTypeDefName();
-            /*
-             * Need to go through each guid in entityTypeGUIDs and check whether the entity types of each proxy are a subtype of them or not
-             */
-            for (String entityTypeGUID:entityTypeGUIDs)
+        /*
+         * Need to go through each type name and check whether the entity type of the proxy is a subtype of them or not
+         */
+        for (String entityTypeName : entityTypeNames)
+        {
+            if (repositoryHelper.isTypeOf(methodName, actualTypeName, entityTypeName))
             {
-                TypeDef entityTypeDef = repositoryHelper.getTypeDef(repositoryName,
-                        "guid",
-                        entityTypeGUID,
-                        methodName);
-                if (graphEntities.contains(end1GUID) || repositoryHelper.isTypeOf(methodName, actualTypeName1, entityTypeDef.getName()))
-                {
-                    found1 = true;
-                }
-                if (graphEntities.contains(end2GUID) || repositoryHelper.isTypeOf(methodName, actualTypeName2, entityTypeDef.getName()))
-                {
-                    found2 = true;
-                }
+                return true;
             }
+        }
 
-            if (found1 && found2)
-            {
-                valid = true;
-            }
-        } else {
-            /*
-             * No restrictions on relationship
-             */
-            valid = true;
+        return false;
+    }
+
+
+    /**
+     * Return the entity from the store in use.
+     *
+     * @param entityGUID unique identifier of the entity
+     * @return entity or null if it is not in the store
+     */
+    private EntityDetail getEntity(String entityGUID)
+    {
+        if (metadataStore != null)
+        {
+            return metadataStore.getEntity(entityGUID);
         }
-        return valid;
+
+        return entityStore.get(entityGUID);
     }
 
+
     /**
-     * Create the instance graph
+     * Return the relationships linked to an entity from the store in use.  For a time warped store, the map from
+     * entities to their relationships is built the first time it is needed.
      *
-     * @return InstanceGraph  the instance graph that contains the entities and relationships that radiate out from the supplied entity GUID.
-     * @throws TypeErrorException Type error.
+     * @param entityGUID unique identifier of the entity
+     * @return list of relationships
      */
-    InstanceGraph createInstanceGraph() throws TypeErrorException
+    private List<Relationship> getRelationshipsForEntity(String entityGUID)
     {
-        Set<String> entities = new HashSet<>();
-        Set<String> visitedEntities = new HashSet<>();
-        Set<String> visitedRelationships = new HashSet<>();
-        entities.add(rootEntityGUID);
-        this.createGraph(entities, visitedEntities, visitedRelationships, 0);
-        List<EntityDetail> entityList = new ArrayList<>();
-        /*
-         * add the root entity so the returned graph is consistent.
-         */
-        List<Relationship> relationshipList = new ArrayList<>();
-        EntityDetail rootEntity = (entityStore.get(rootEntityGUID));
-        entityList.add(rootEntity);
-        for (String entityGuid : this.graphEntities)
+        if (metadataStore != null)
+        {
+            return metadataStore.getRelationshipsForEntity(entityGUID);
+        }
+
+        if (entityToRelationships == null)
+        {
+            initializeMaps();
+        }
+
+        List<Relationship> relationships     = new ArrayList<>();
+        List<String>       relationshipGUIDs = entityToRelationships.get(entityGUID);
+
+        if (relationshipGUIDs != null)
         {
-            if (!entityGuid.equals(rootEntityGUID))
+            for (String relationshipGUID : relationshipGUIDs)
             {
-                entityList.add(this.entityStore.get(entityGuid));
+                relationships.add(relationshipStore.get(relationshipGUID));
             }
         }
-        for (String relationshipGuid : this.graphRelationships)
+
+        return relationships;
+    }
+
+
+    /**
+     * Initialize the map that helps us traverse from entities to relationships using their guids
+     */
+    private void initializeMaps()
+    {
+        entityToRelationships = new HashMap<>();
+
+        for (Relationship relationship : relationshipStore.values())
         {
-            relationshipList.add(this.relationshipStore.get(relationshipGuid));
+            String relationshipEnd1Guid = getEnd1EntityGUID(relationship);
+            String relationshipEnd2Guid = getEnd2EntityGUID(relationship);
+
+            if (relationshipEnd1Guid != null)
+            {
+                entityToRelationships.computeIfAbsent(relationshipEnd1Guid, key -> new ArrayList<>()).add(relationship.getGUID());
+            }
+
+            if ((relationshipEnd2Guid != null) && (! relationshipEnd2Guid.equals(relationshipEnd1Guid)))
+            {
+                entityToRelationships.computeIfAbsent(relationshipEnd2Guid, key -> new ArrayList<>()).add(relationship.getGUID());
+            }
         }
-        return new InstanceGraph(entityList, relationshipList);
     }
 
+
     /**
-     * CreateGraph populates maps with entities and relationships that are required in the instance graph. This is a recursive method that is called for each level that is required.
+     * Return the guid of the entity at the other end of the relationship from the supplied entity.
+     * A relationship that links an entity to itself returns the supplied entity.
      *
-     * @param entities             the entities on which we need to find the relationships out to the radiated level out.
-     * @param visitedEntities      the entities that have already been visited (seen)
-     * @param visitedRelationships the relationship that have already been visited (seen)
-     * @param currentLevel         the current level
-     * @throws TypeErrorException Type error.
+     * @param entityGUID unique identifier of the entity that the relationship was reached from
+     * @param relationship relationship to parse
+     * @return String unique identifier or null if the relationship is incomplete
      */
-    private void createGraph(Set<String> entities, Set<String> visitedEntities, Set<String> visitedRelationships, int currentLevel) throws TypeErrorException
+    private String getLinkedEntityGUID(String entityGUID, Relationship relationship)
     {
+        String end1Guid = getEnd1EntityGUID(relationship);
+        String end2Guid = getEnd2EntityGUID(relationship);
 
-        Set<String> nextEntitySet = new HashSet<>();
-        for (String entityGuid : entities)
+        if ((end1Guid == null) || (end2Guid == null))
         {
-            if (currentLevel == 0) {
-                graphEntities.add(entityGuid);
-            }
-            if (currentLevel < this.level) {
-                Set<String> relationships = this.entityToRelationships.get(entityGuid);
-                if (relationships != null) {
-                    for (String relationshipGuid : relationships) {
-                        Relationship relationship = this.relationshipStore.get(relationshipGuid);
-                        /*
-                         * Check to see if we have already visited this relationship
-                         */
-                        if (!visitedRelationships.contains(relationshipGuid)) {
-                            if (verifyRelationshipForEntityNeighbourhood(relationship)) {
-                                /*
-                                 * valid relationship and entities
-                                 */
-                                graphEntities.add(entityGuid);
-                                final String end1Guid = getEnd1EntityGUID(relationship);
-                                final String end2Guid = getEnd2EntityGUID(relationship);
-                                graphRelationships.add(relationshipGuid);
-                                /*
-                                 * add the entities - one end will already be there so will be replaced.
-                                 */
-                                graphEntities.add(end1Guid);
-                                graphEntities.add(end2Guid);
-                                /*
-                                 * if we have not seen the other end then we need to traverse to it.
-                                 */
-                                if (end1Guid.equals(entityGuid) && !visitedEntities.contains(end2Guid)) {
-                                    nextEntitySet.add(end2Guid);
-                                }
-                                if (end2Guid.equals(entityGuid) && !visitedEntities.contains(end1Guid)) {
-                                    nextEntitySet.add(end1Guid);
-                                }
-                                visitedEntities.add(end1Guid);
-                                visitedEntities.add(end2Guid);
-                                visitedRelationships.add(relationshipGuid);
-                            }
-                        }
-                    }
-                }
-            }
+            return null;
         }
-        int nextLevel = currentLevel + 1;
-        if (nextLevel <= this.level && nextEntitySet.size() > 0)
+
+        if (entityGUID.equals(end1Guid))
         {
-            /*
-             * recurse
-             */
-            createGraph(nextEntitySet, visitedEntities, visitedRelationships, nextLevel);
+            return end2Guid;
+        }
+
+        return end1Guid;
+    }
+
+
+    /**
+     * Return the proxy for the entity at the other end of the relationship.
+     *
+     * @param linkedEntityGUID unique identifier of the entity at the far end of the relationship
+     * @param relationship relationship to parse
+     * @return entity proxy
+     */
+    private EntityProxy getLinkedEntityProxy(String linkedEntityGUID, Relationship relationship)
+    {
+        if (linkedEntityGUID.equals(getEnd1EntityGUID(relationship)))
+        {
+            return relationship.getEntityOneProxy();
         }
+
+        return relationship.getEntityTwoProxy();
     }
 
 
@@ -482,4 +664,4 @@ class InMemoryEntityNeighbourhood
         }
         return null;
     }
-}
\ No newline at end of file
+}
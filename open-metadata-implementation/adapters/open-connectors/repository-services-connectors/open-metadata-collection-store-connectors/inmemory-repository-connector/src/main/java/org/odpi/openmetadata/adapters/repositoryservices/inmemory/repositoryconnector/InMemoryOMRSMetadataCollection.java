@@ -22,7 +22,8 @@ import java.util.*;
  */
 public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollectionBase
 {
-    private InMemoryOMRSMetadataStore  repositoryStore = new InMemoryOMRSMetadataStore();
+    private InMemoryOMRSMetadataStore  repositoryStore      = new InMemoryOMRSMetadataStore();
+    private int                        maxNeighbourhoodSize = InMemoryOMRSRepositoryConnectorProvider.MAX_NEIGHBOURHOOD_SIZE_DEFAULT;
 
 
     /**
@@ -53,6 +54,18 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
     }
 
 
+    /**
+     * Set up the maximum number of relationships returned from a single getEntityNeighborhood request.
+     * Larger neighbourhoods are returned with the truncated flag set.
+     *
+     * @param maxNeighbourhoodSize maximum number of relationships (zero means no limit)
+     */
+    void setMaxNeighbourhoodSize(int maxNeighbourhoodSize)
+    {
+        this.maxNeighbourhoodSize = maxNeighbourhoodSize;
+    }
+
+
     /* ===================================================
      * Group 3: Locating entity and relationship instances
      */
@@ -345,6 +358,119 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
     }
 
 
+    /**
+     * Return the relationships for a specific entity along with the entities at the other end of these
+     * relationships.  The related entities are read directly from the entity store rather than through
+     * a call to getEntityDetail for each relationship.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier for the entity.
+     * @param relationshipTypeGUID String GUID of the the type of relationship required (null for all).
+     * @param fromRelationshipElement the starting element number of the relationships to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus By default, relationships in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return InstanceGraph containing the page of relationships and the entities at their other ends.  Null means
+     * no relationships associated with the entity.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the requested entity instance is not known in the metadata collection.
+     * @throws PropertyErrorException the sequencing property is not valid for the retrieved relationships.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public InstanceGraph getRelationshipsAndEntitiesForEntity(String               userId,
+                                                              String               entityGUID,
+                                                              String               relationshipTypeGUID,
+                                                              int                  fromRelationshipElement,
+                                                              List<InstanceStatus> limitResultsByStatus,
+                                                              Date                 asOfTime,
+                                                              String               sequencingProperty,
+                                                              SequencingOrder      sequencingOrder,
+                                                              int                  pageSize) throws InvalidParameterException,
+                                                                                                    TypeErrorException,
+                                                                                                    RepositoryErrorException,
+                                                                                                    EntityNotKnownException,
+                                                                                                    PropertyErrorException,
+                                                                                                    PagingErrorException,
+                                                                                                    UserNotAuthorizedException
+    {
+        List<Relationship> relationships = this.getRelationshipsForEntity(userId,
+                                                                          entityGUID,
+                                                                          relationshipTypeGUID,
+                                                                          fromRelationshipElement,
+                                                                          limitResultsByStatus,
+                                                                          asOfTime,
+                                                                          sequencingProperty,
+                                                                          sequencingOrder,
+                                                                          pageSize);
+
+        if ((relationships == null) || (relationships.isEmpty()))
+        {
+            return null;
+        }
+
+        Map<String, EntityDetail> entityStore = null;
+
+        if (asOfTime != null)
+        {
+            entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
+        }
+
+        Map<String, EntityDetail> relatedEntities = new LinkedHashMap<>();
+
+        for (Relationship relationship : relationships)
+        {
+            String relatedEntityGUID = super.getRelatedEntityGUID(entityGUID, relationship);
+
+            if ((relatedEntityGUID != null) && (! relatedEntities.containsKey(relatedEntityGUID)))
+            {
+                EntityDetail relatedEntity;
+
+                if (entityStore == null)
+                {
+                    relatedEntity = repositoryStore.getEntity(relatedEntityGUID);
+                }
+                else
+                {
+                    relatedEntity = entityStore.get(relatedEntityGUID);
+                }
+
+                if ((relatedEntity != null) && (relatedEntity.getStatus() == InstanceStatus.DELETED))
+                {
+                    relatedEntity = null;
+                }
+
+                relatedEntities.put(relatedEntityGUID, relatedEntity);
+            }
+        }
+
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (EntityDetail relatedEntity : relatedEntities.values())
+        {
+            if (relatedEntity != null)
+            {
+                entities.add(relatedEntity);
+            }
+        }
+
+        return new InstanceGraph(entities, relationships);
+    }
+
+
     /**
      * Return a list of entities that match the supplied properties according to the match criteria.  The results
      * can be returned over many pages.
@@ -1219,7 +1345,130 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
                                                                                    PropertyErrorException,
                                                                                    UserNotAuthorizedException
     {
-        final String methodName                                  = "getEntityNeighborhood";
+        final String methodName = "getEntityNeighborhood";
+
+        return this.getEntityNeighbourhoodPage(userId,
+                                               entityGUID,
+                                               entityTypeGUIDs,
+                                               relationshipTypeGUIDs,
+                                               limitResultsByStatus,
+                                               limitResultsByClassification,
+                                               asOfTime,
+                                               level,
+                                               0,
+                                               0,
+                                               methodName);
+    }
+
+
+    /**
+     * Return a page of the entities and relationships that radiate out from the supplied entity GUID.
+     * The neighbourhood is explored only as far as is needed to fill the requested page.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID the starting point of the query.
+     * @param entityTypeGUIDs list of entity types to include in the query results.  Null means include
+     *                          all entities found, irrespective of their type.
+     * @param relationshipTypeGUIDs list of relationship types to include in the query results.  Null means include
+     *                                all relationships found, irrespective of their type.
+     * @param limitResultsByStatus By default, relationships in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param level the number of the relationships out from the starting entity that the query will traverse to
+     *              gather results.
+     * @param fromRelationshipElement the starting element number of the relationships to return.
+     *                                Zero means start from the first element.
+     * @param pageSize the maximum number of relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return InstanceGraph the sub-graph that represents the returned linked entities and their relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws TypeErrorException one or more of the type guids passed on the request is not known by the
+     *                              metadata collection.
+     * @throws EntityNotKnownException the entity identified by the entityGUID is not found in the metadata collection.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws PagingErrorException the paging parameters are set up incorrectly.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public  InstanceGraph getEntityNeighborhood(String               userId,
+                                                String               entityGUID,
+                                                List<String>         entityTypeGUIDs,
+                                                List<String>         relationshipTypeGUIDs,
+                                                List<InstanceStatus> limitResultsByStatus,
+                                                List<String>         limitResultsByClassification,
+                                                Date                 asOfTime,
+                                                int                  level,
+                                                int                  fromRelationshipElement,
+                                                int                  pageSize) throws InvalidParameterException,
+                                                                                      RepositoryErrorException,
+                                                                                      EntityNotKnownException,
+                                                                                      TypeErrorException,
+                                                                                      PropertyErrorException,
+                                                                                      PagingErrorException,
+                                                                                      UserNotAuthorizedException
+    {
+        final String methodName            = "getEntityNeighborhood";
+        final String pageSizeParameterName = "pageSize";
+
+        repositoryValidator.validatePageSize(repositoryName, pageSizeParameterName, pageSize, methodName);
+
+        return this.getEntityNeighbourhoodPage(userId,
+                                               entityGUID,
+                                               entityTypeGUIDs,
+                                               relationshipTypeGUIDs,
+                                               limitResultsByStatus,
+                                               limitResultsByClassification,
+                                               asOfTime,
+                                               level,
+                                               fromRelationshipElement,
+                                               pageSize,
+                                               methodName);
+    }
+
+
+    /**
+     * Validate the parameters of a getEntityNeighborhood request and explore the neighbourhood.  Current queries
+     * work directly from the store's index of relationships by entity.  Historical queries work from time warped
+     * copies of the stores.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID the starting point of the query.
+     * @param entityTypeGUIDs list of entity types to include in the query results.
+     * @param relationshipTypeGUIDs list of relationship types to include in the query results.
+     * @param limitResultsByStatus list of statuses to restrict the results to.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query.  Null means return the present values.
+     * @param level the number of the relationships out from the starting entity that the query will traverse to
+     *              gather results.
+     * @param fromRelationshipElement the starting element number of the relationships to return.
+     * @param pageSize the maximum number of relationships that can be returned on this request.
+     * @param methodName calling method
+     * @return InstanceGraph the sub-graph that represents the returned linked entities and their relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws TypeErrorException one or more of the type guids passed on the request is not known by the
+     *                              metadata collection.
+     */
+    private InstanceGraph getEntityNeighbourhoodPage(String               userId,
+                                                     String               entityGUID,
+                                                     List<String>         entityTypeGUIDs,
+                                                     List<String>         relationshipTypeGUIDs,
+                                                     List<InstanceStatus> limitResultsByStatus,
+                                                     List<String>         limitResultsByClassification,
+                                                     Date                 asOfTime,
+                                                     int                  level,
+                                                     int                  fromRelationshipElement,
+                                                     int                  pageSize,
+                                                     String               methodName) throws InvalidParameterException,
+                                                                                             RepositoryErrorException,
+                                                                                             TypeErrorException
+    {
         final String entityGUIDParameterName                     = "entityGUID";
         final String entityTypeGUIDParameterName                 = "entityTypeGUIDs";
         final String relationshipTypeGUIDParameterName           = "relationshipTypeGUIDs";
@@ -1263,26 +1512,45 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
             }
         }
 
-        /*
-         * Time warp the stores
-         */
-        Map<String, EntityDetail>   entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
-        Map<String, Relationship>   relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
+        InMemoryEntityNeighbourhood inMemoryEntityNeighbourhood;
 
-        InMemoryEntityNeighbourhood inMemoryEntityNeighbourhood = new InMemoryEntityNeighbourhood(repositoryHelper,
-                                                                                                  repositoryName,
-                                                                                                  repositoryValidator,
-                                                                                                  entityStore,
-                                                                                                  relationshipStore,
-                                                                                                  entityGUID,
-                                                                                                  entityTypeGUIDs,
-                                                                                                  relationshipTypeGUIDs,
-                                                                                                  limitResultsByStatus,
-                                                                                                  limitResultsByClassification,
-                                                                                                  level);
+        if (asOfTime == null)
+        {
+            inMemoryEntityNeighbourhood = new InMemoryEntityNeighbourhood(repositoryHelper,
+                                                                          repositoryName,
+                                                                          repositoryValidator,
+                                                                          repositoryStore,
+                                                                          entityGUID,
+                                                                          entityTypeGUIDs,
+                                                                          relationshipTypeGUIDs,
+                                                                          limitResultsByStatus,
+                                                                          limitResultsByClassification,
+                                                                          level);
+        }
+        else
+        {
+            /*
+             * Time warp the stores
+             */
+            Map<String, EntityDetail>   entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
+            Map<String, Relationship>   relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
+
+            inMemoryEntityNeighbourhood = new InMemoryEntityNeighbourhood(repositoryHelper,
+                                                                          repositoryName,
+                                                                          repositoryValidator,
+                                                                          entityStore,
+                                                                          relationshipStore,
+                                                                          entityGUID,
+                                                                          entityTypeGUIDs,
+                                                                          relationshipTypeGUIDs,
+                                                                          limitResultsByStatus,
+                                                                          limitResultsByClassification,
+                                                                          level);
+        }
 
+        inMemoryEntityNeighbourhood.setMaxNeighbourhoodSize(maxNeighbourhoodSize);
 
-        return inMemoryEntityNeighbourhood.createInstanceGraph();
+        return inMemoryEntityNeighbourhood.createInstanceGraph(fromRelationshipElement, pageSize);
     }
 
 
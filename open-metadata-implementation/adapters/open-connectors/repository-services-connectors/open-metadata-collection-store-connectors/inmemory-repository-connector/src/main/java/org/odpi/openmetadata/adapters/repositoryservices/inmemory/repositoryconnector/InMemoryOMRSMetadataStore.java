@@ -21,6 +21,12 @@ class InMemoryOMRSMetadataStore
     private volatile Map<String, Relationship>     relationshipStore        = new HashMap<>();
     private volatile List<Relationship>            relationshipHistoryStore = new ArrayList<>();
 
+    /*
+     * Index of the current relationships by the guids of the entities at their ends.  It is maintained alongside
+     * the relationship store so that the relationships for an entity can be found without scanning the store.
+     */
+    private volatile Map<String, Set<String>>      entityRelationshipIndex  = new HashMap<>();
+
 
     /**
      * Default constructor
@@ -182,6 +188,35 @@ class InMemoryOMRSMetadataStore
         return relationshipStore.get(guid);
     }
 
+
+    /**
+     * Return the current relationships that are linked to the requested entity.
+     *
+     * @param entityGUID - unique identifier for the entity
+     * @return list of relationships (empty if none)
+     */
+    synchronized List<Relationship>  getRelationshipsForEntity(String   entityGUID)
+    {
+        List<Relationship> relationships     = new ArrayList<>();
+        Set<String>        relationshipGUIDs = entityRelationshipIndex.get(entityGUID);
+
+        if (relationshipGUIDs != null)
+        {
+            for (String relationshipGUID : relationshipGUIDs)
+            {
+                Relationship relationship = relationshipStore.get(relationshipGUID);
+
+                if (relationship != null)
+                {
+                    relationships.add(relationship);
+                }
+            }
+        }
+
+        return relationships;
+    }
+
+
     /**
      * Return a relationship store that contains relationships as they were at the time supplied in the asOfTime
      * parameter
@@ -312,6 +347,8 @@ class InMemoryOMRSMetadataStore
             existingRelationship = relationshipStore.put(relationship.getGUID(), relationship);
         }
 
+        this.addToEntityRelationshipIndex(relationship);
+
         return relationship;
     }
 
@@ -366,6 +403,9 @@ class InMemoryOMRSMetadataStore
 
         Relationship    oldRelationship = relationshipStore.put(relationship.getGUID(), relationship);
 
+        this.removeFromEntityRelationshipIndex(oldRelationship);
+        this.addToEntityRelationshipIndex(relationship);
+
         if (oldRelationship != null)
         {
             relationshipHistoryStore.add(0, oldRelationship);
@@ -393,7 +433,10 @@ class InMemoryOMRSMetadataStore
      */
     synchronized void saveReferenceRelationshipToStore(Relationship    relationship)
     {
-        relationshipStore.put(relationship.getGUID(), relationship);
+        Relationship    oldRelationship = relationshipStore.put(relationship.getGUID(), relationship);
+
+        this.removeFromEntityRelationshipIndex(oldRelationship);
+        this.addToEntityRelationshipIndex(relationship);
     }
 
 
@@ -440,6 +483,8 @@ class InMemoryOMRSMetadataStore
                         Date restoreTime = new Date();
                         newRelationship.setUpdateTime(restoreTime);
                         relationshipStore.put(guid, newRelationship);
+                        this.removeFromEntityRelationshipIndex(currentVersionOfRelationship);
+                        this.addToEntityRelationshipIndex(newRelationship);
                         relationshipHistoryStore.add(0, currentVersionOfRelationship);
                         return newRelationship;
 
@@ -572,7 +617,7 @@ class InMemoryOMRSMetadataStore
     synchronized void removeRelationshipFromStore(Relationship     relationship)
     {
         String relationshipGUID = relationship.getGUID();
-        relationshipStore.remove(relationshipGUID);
+        this.removeFromEntityRelationshipIndex(relationshipStore.remove(relationshipGUID));
         List<Relationship> purgedHistory = new ArrayList<>();
         for (Relationship history : relationshipHistoryStore)
         {
@@ -596,6 +641,8 @@ class InMemoryOMRSMetadataStore
 
         if (relationship != null)
         {
+            this.removeFromEntityRelationshipIndex(relationship);
+
             List<Relationship> purgedHistory = new ArrayList<>();
             for (Relationship history : relationshipHistoryStore)
             {
@@ -608,4 +655,72 @@ class InMemoryOMRSMetadataStore
         }
     }
 
+
+    /**
+     * Add a relationship to the index of relationships by the entities at its ends.
+     *
+     * @param relationship - relationship that has been stored (may be null)
+     */
+    private void addToEntityRelationshipIndex(Relationship     relationship)
+    {
+        if (relationship != null)
+        {
+            for (String entityGUID : this.getEndEntityGUIDs(relationship))
+            {
+                entityRelationshipIndex.computeIfAbsent(entityGUID, key -> new LinkedHashSet<>()).add(relationship.getGUID());
+            }
+        }
+    }
+
+
+    /**
+     * Remove a relationship from the index of relationships by the entities at its ends.
+     *
+     * @param relationship - relationship that has been replaced or removed (may be null)
+     */
+    private void removeFromEntityRelationshipIndex(Relationship     relationship)
+    {
+        if (relationship != null)
+        {
+            for (String entityGUID : this.getEndEntityGUIDs(relationship))
+            {
+                Set<String> relationshipGUIDs = entityRelationshipIndex.get(entityGUID);
+
+                if (relationshipGUIDs != null)
+                {
+                    relationshipGUIDs.remove(relationship.getGUID());
+
+                    if (relationshipGUIDs.isEmpty())
+                    {
+                        entityRelationshipIndex.remove(entityGUID);
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return the guids of the entities at the ends of a relationship.
+     *
+     * @param relationship - relationship to parse
+     * @return list of guids (one entry for a relationship that links an entity to itself)
+     */
+    private List<String> getEndEntityGUIDs(Relationship     relationship)
+    {
+        List<String> entityGUIDs = new ArrayList<>();
+
+        if ((relationship.getEntityOneProxy() != null) && (relationship.getEntityOneProxy().getGUID() != null))
+        {
+            entityGUIDs.add(relationship.getEntityOneProxy().getGUID());
+        }
+
+        if ((relationship.getEntityTwoProxy() != null) && (relationship.getEntityTwoProxy().getGUID() != null) &&
+                (! entityGUIDs.contains(relationship.getEntityTwoProxy().getGUID())))
+        {
+            entityGUIDs.add(relationship.getEntityTwoProxy().getGUID());
+        }
+
+        return entityGUIDs;
+    }
 }
@@ -5,6 +5,8 @@ package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositorycon
 
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 
+import java.util.Map;
+
 /**
  * The InMemoryOMRSRepositoryConnector is a connector to a local in memory repository.  It is used for test,
  * small scale fixed or temporary repositories where the initial content comes from open metadata archives and
@@ -38,11 +40,58 @@ public class InMemoryOMRSRepositoryConnector extends OMRSRepositoryConnector
             /*
              * Initialize the metadata collection only once the connector is properly set up.
              */
-            super.metadataCollection = new InMemoryOMRSMetadataCollection(this,
-                                                                          super.serverName,
-                                                                          repositoryHelper,
-                                                                          repositoryValidator,
-                                                                          metadataCollectionId);
+            InMemoryOMRSMetadataCollection inMemoryMetadataCollection = new InMemoryOMRSMetadataCollection(this,
+                                                                                                           super.serverName,
+                                                                                                           repositoryHelper,
+                                                                                                           repositoryValidator,
+                                                                                                           metadataCollectionId);
+
+            inMemoryMetadataCollection.setMaxNeighbourhoodSize(this.getMaxNeighbourhoodSize());
+
+            super.metadataCollection = inMemoryMetadataCollection;
         }
     }
-}
\ No newline at end of file
+
+
+    /**
+     * Return the maximum number of relationships returned from a single getEntityNeighborhood request.
+     * This comes from the configuration properties of the connection if it is set there.
+     *
+     * @return maximum number of relationships
+     */
+    private int getMaxNeighbourhoodSize()
+    {
+        int maxNeighbourhoodSize = InMemoryOMRSRepositoryConnectorProvider.MAX_NEIGHBOURHOOD_SIZE_DEFAULT;
+
+        if (connectionProperties != null)
+        {
+            Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+            if (configurationProperties != null)
+            {
+                Object maxNeighbourhoodSizeProperty = configurationProperties.get(InMemoryOMRSRepositoryConnectorProvider.MAX_NEIGHBOURHOOD_SIZE_CONFIGURATION_PROPERTY);
+
+                if (maxNeighbourhoodSizeProperty != null)
+                {
+                    try
+                    {
+                        int value = Integer.parseInt(maxNeighbourhoodSizeProperty.toString());
+
+                        if (value > 0)
+                        {
+                            maxNeighbourhoodSize = value;
+                        }
+                    }
+                    catch (NumberFormatException error)
+                    {
+                        /*
+                         * An invalid value is ignored and the default is used.
+                         */
+                    }
+                }
+            }
+        }
+
+        return maxNeighbourhoodSize;
+    }
+}
@@ -16,6 +16,7 @@ import java.util.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
@@ -162,6 +163,68 @@ public class TestInMemoryEntityNeighbourhood
 
     }
 
+    @Test
+    void testGetGraphPages() throws TypeErrorException {
+        Map<String, EntityDetail> entityStore = new HashMap<>();
+        Map<String, Relationship> relationshipStore = new HashMap<>();
+        String rootEntityGUID = "1111";
+
+        when(repositoryValidator.verifyInstanceHasRightStatus(any(), any())).thenReturn(true);
+
+        InstanceType type = new InstanceType();
+        type.setTypeDefGUID("4444");
+        for (String guid : Arrays.asList("1111", "2222", "5555"))
+        {
+            EntityDetail entity = new EntityDetail();
+            entity.setGUID(guid);
+            entityStore.put(guid, entity);
+        }
+        Relationship relationship1 = new Relationship();
+        relationship1.setGUID("3333");
+        relationship1.setEntityOneProxy(getEntityProxy("1111", null, type));
+        relationship1.setEntityTwoProxy(getEntityProxy("2222", null, type));
+        relationshipStore.put(relationship1.getGUID(), relationship1);
+        Relationship relationship2 = new Relationship();
+        relationship2.setGUID("6666");
+        relationship2.setEntityOneProxy(getEntityProxy("2222", null, type));
+        relationship2.setEntityTwoProxy(getEntityProxy("5555", null, type));
+        relationshipStore.put(relationship2.getGUID(), relationship2);
+
+        // first page has the root entity and the first relationship out from it
+        InMemoryEntityNeighbourhood inMemoryEntityNeighbourhood = new InMemoryEntityNeighbourhood(repositoryHelper, "", repositoryValidator, entityStore, relationshipStore, rootEntityGUID, null, null, null, null, 3);
+        InstanceGraph graph = inMemoryEntityNeighbourhood.createInstanceGraph(0, 1);
+        assertTrue(graph.getEntities().size() == 2);
+        assertTrue(graphContainsEntityWithGuid(graph, "1111"));
+        assertTrue(graphContainsEntityWithGuid(graph, "2222"));
+        assertTrue(graph.getRelationships().size() == 1);
+        assertTrue(graphContainsRelationshipWithGuid(graph, "3333"));
+        assertTrue(graph.isTruncated());
+
+        // second page has the next level
+        inMemoryEntityNeighbourhood = new InMemoryEntityNeighbourhood(repositoryHelper, "", repositoryValidator, entityStore, relationshipStore, rootEntityGUID, null, null, null, null, 3);
+        graph = inMemoryEntityNeighbourhood.createInstanceGraph(1, 1);
+        assertTrue(graph.getEntities().size() == 1);
+        assertTrue(graphContainsEntityWithGuid(graph, "5555"));
+        assertTrue(graph.getRelationships().size() == 1);
+        assertTrue(graphContainsRelationshipWithGuid(graph, "6666"));
+        assertFalse(graph.isTruncated());
+
+        // the maximum neighbourhood size limits an unpaged request
+        inMemoryEntityNeighbourhood = new InMemoryEntityNeighbourhood(repositoryHelper, "", repositoryValidator, entityStore, relationshipStore, rootEntityGUID, null, null, null, null, 3);
+        inMemoryEntityNeighbourhood.setMaxNeighbourhoodSize(1);
+        graph = inMemoryEntityNeighbourhood.createInstanceGraph();
+        assertTrue(graph.getRelationships().size() == 1);
+        assertTrue(graphContainsRelationshipWithGuid(graph, "3333"));
+        assertTrue(graph.isTruncated());
+
+        // level 0 returns only the root entity
+        inMemoryEntityNeighbourhood = new InMemoryEntityNeighbourhood(repositoryHelper, "", repositoryValidator, entityStore, relationshipStore, rootEntityGUID, null, null, null, null, 0);
+        graph = inMemoryEntityNeighbourhood.createInstanceGraph();
+        assertTrue(graph.getEntities().size() == 1);
+        assertNull(graph.getRelationships());
+        assertFalse(graph.isTruncated());
+    }
+
     private boolean graphContainsEntityWithGuid(InstanceGraph graph, String guid)
     {
         boolean valid = false;
@@ -0,0 +1,220 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+
+/**
+ * Test that getRelationshipsAndEntitiesForEntity returns a page of an entity's relationships with the entities at
+ * their other ends, leaving out the ends that are only proxies or have been deleted.
+ */
+public class TestInMemoryRelationshipsAndEntities
+{
+    private static final String userId          = "testUser";
+    private static final String collectionId    = "testCollection";
+    private static final String startEntityGUID = "1111";
+
+    @Mock
+    private OMRSRepositoryValidator repositoryValidator;
+    @Mock
+    private OMRSRepositoryHelper repositoryHelper;
+
+    private OMRSMetadataCollection metadataCollection;
+
+
+    @BeforeMethod
+    public void setup() throws Exception
+    {
+        MockitoAnnotations.openMocks(this);
+
+        when(repositoryHelper.relatedEntity(any(), anyString(), any())).thenAnswer(invocation ->
+        {
+            String       entityGUID   = invocation.getArgument(1);
+            Relationship relationship = invocation.getArgument(2);
+
+            return entityGUID.equals(relationship.getEntityOneProxy().getGUID()) ||
+                   entityGUID.equals(relationship.getEntityTwoProxy().getGUID());
+        });
+
+        when(repositoryHelper.formatRelationshipResults(any(), anyInt(), any(), any(), anyInt())).thenAnswer(invocation ->
+        {
+            List<Relationship> relationships = new ArrayList<>(invocation.getArgument(0));
+            int                fromElement   = invocation.getArgument(1);
+            int                pageSize      = invocation.getArgument(4);
+
+            relationships.sort(Comparator.comparing(Relationship::getGUID));
+
+            int start = Math.min(fromElement, relationships.size());
+            int end   = (pageSize == 0) ? relationships.size() : Math.min(fromElement + pageSize, relationships.size());
+
+            return (start == end) ? null : new ArrayList<>(relationships.subList(start, end));
+        });
+
+        InMemoryOMRSRepositoryConnector repositoryConnector = new InMemoryOMRSRepositoryConnector();
+
+        repositoryConnector.setRepositoryHelper(repositoryHelper);
+        repositoryConnector.setRepositoryValidator(repositoryValidator);
+        repositoryConnector.setMetadataCollectionId(collectionId);
+        repositoryConnector.start();
+
+        metadataCollection = repositoryConnector.getMetadataCollection();
+
+        metadataCollection.saveEntityReferenceCopy(userId, getEntity(startEntityGUID, InstanceStatus.ACTIVE));
+        metadataCollection.saveEntityReferenceCopy(userId, getEntity("2222", InstanceStatus.ACTIVE));
+        metadataCollection.saveEntityReferenceCopy(userId, getEntity("5555", InstanceStatus.DELETED));
+
+        /*
+         * Entity 7777 is only known through the proxy in its relationship.
+         */
+        metadataCollection.saveRelationshipReferenceCopy(userId, getRelationship("r1", startEntityGUID, "2222"));
+        metadataCollection.saveRelationshipReferenceCopy(userId, getRelationship("r2", "5555", startEntityGUID));
+        metadataCollection.saveRelationshipReferenceCopy(userId, getRelationship("r3", startEntityGUID, "7777"));
+        metadataCollection.saveRelationshipReferenceCopy(userId, getRelationship("r4", "2222", "5555"));
+    }
+
+
+    @Test
+    void testAllRelationships() throws Exception
+    {
+        InstanceGraph graph = metadataCollection.getRelationshipsAndEntitiesForEntity(userId,
+                                                                                      startEntityGUID,
+                                                                                      null,
+                                                                                      0,
+                                                                                      null,
+                                                                                      null,
+                                                                                      null,
+                                                                                      null,
+                                                                                      0);
+
+        assertEquals(getGUIDs(graph.getRelationships()), Arrays.asList("r1", "r2", "r3"));
+        assertEquals(getGUIDs(graph.getEntities()), Collections.singletonList("2222"));
+    }
+
+
+    @Test
+    void testPages() throws Exception
+    {
+        InstanceGraph graph = metadataCollection.getRelationshipsAndEntitiesForEntity(userId,
+                                                                                      startEntityGUID,
+                                                                                      null,
+                                                                                      0,
+                                                                                      null,
+                                                                                      null,
+                                                                                      null,
+                                                                                      null,
+                                                                                      2);
+
+        assertEquals(getGUIDs(graph.getRelationships()), Arrays.asList("r1", "r2"));
+        assertEquals(getGUIDs(graph.getEntities()), Collections.singletonList("2222"));
+
+        /*
+         * The entities only come from the relationships on the page.
+         */
+        graph = metadataCollection.getRelationshipsAndEntitiesForEntity(userId,
+                                                                        startEntityGUID,
+                                                                        null,
+                                                                        2,
+                                                                        null,
+                                                                        null,
+                                                                        null,
+                                                                        null,
+                                                                        2);
+
+        assertEquals(getGUIDs(graph.getRelationships()), Collections.singletonList("r3"));
+        assertNull(graph.getEntities());
+
+        graph = metadataCollection.getRelationshipsAndEntitiesForEntity(userId,
+                                                                        startEntityGUID,
+                                                                        null,
+                                                                        3,
+                                                                        null,
+                                                                        null,
+                                                                        null,
+                                                                        null,
+                                                                        2);
+
+        assertNull(graph);
+    }
+
+
+    /**
+     * Return an entity.
+     *
+     * @param guid unique identifier
+     * @param status status of the entity
+     * @return entity
+     */
+    private EntityDetail getEntity(String         guid,
+                                   InstanceStatus status)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setStatus(status);
+
+        return entity;
+    }
+
+
+    /**
+     * Return a relationship between two entities.
+     *
+     * @param guid unique identifier of the relationship
+     * @param entityOneGUID unique identifier of the entity at end one
+     * @param entityTwoGUID unique identifier of the entity at end two
+     * @return relationship
+     */
+    private Relationship getRelationship(String guid,
+                                         String entityOneGUID,
+                                         String entityTwoGUID)
+    {
+        Relationship relationship = new Relationship();
+        EntityProxy  entityOne    = new EntityProxy();
+        EntityProxy  entityTwo    = new EntityProxy();
+
+        entityOne.setGUID(entityOneGUID);
+        entityTwo.setGUID(entityTwoGUID);
+        relationship.setGUID(guid);
+        relationship.setStatus(InstanceStatus.ACTIVE);
+        relationship.setEntityOneProxy(entityOne);
+        relationship.setEntityTwoProxy(entityTwo);
+
+        return relationship;
+    }
+
+
+    /**
+     * Return the unique identifiers of a list of instances.
+     *
+     * @param instances instances
+     * @return guids
+     */
+    private List<String> getGUIDs(List<? extends InstanceHeader> instances)
+    {
+        List<String> guids = new ArrayList<>();
+
+        for (InstanceHeader instance : instances)
+        {
+            guids.add(instance.getGUID());
+        }
+
+        return guids;
+    }
+}
@@ -1062,6 +1062,72 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return the relationships for a specific entity along with the entities at the other end of these
+     * relationships.
+     *
+     * @param userId                  unique identifier for requesting user.
+     * @param entityGUID              String unique identifier for the entity.
+     * @param relationshipTypeGUID    String GUID of the the type of relationship required (null for all).
+     * @param fromRelationshipElement the starting element number of the relationships to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus    By default, relationships in all non-DELETED statuses are returned.  However, it is possible
+     *                                to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                                status values except DELETED.
+     * @param asOfTime                Requests a historical query of the relationships for the entity.  Null means return the
+     *                                present values.
+     * @param sequencingProperty      String name of the property that is to be used to sequence the results.
+     *                                Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder         Enum defining how the results should be ordered.
+     * @param pageSize                the maximum number of relationships that can be returned on this request.  Zero means
+     *                                unrestricted return results size.
+     * @return the page of relationships and the entities at their other ends.  Null means no relationships
+     * associated with the entity.
+     * @throws InvalidParameterException     a parameter is invalid or null.
+     * @throws TypeErrorException            the type guid passed on the request is not known by the
+     *                                       metadata collection.
+     * @throws RepositoryErrorException      there is a problem communicating with the metadata repository where
+     *                                       the metadata collection is stored.
+     * @throws EntityNotKnownException       the requested entity instance is not known in the metadata collection.
+     * @throws PropertyErrorException        the sequencing property is not valid for the attached classifications.
+     * @throws PagingErrorException          the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException    the userId is not permitted to perform this operation.
+     */
+    @Override
+    public InstanceGraph getRelationshipsAndEntitiesForEntity(String               userId,
+                                                              String               entityGUID,
+                                                              String               relationshipTypeGUID,
+                                                              int                  fromRelationshipElement,
+                                                              List<InstanceStatus> limitResultsByStatus,
+                                                              Date                 asOfTime,
+                                                              String               sequencingProperty,
+                                                              SequencingOrder      sequencingOrder,
+                                                              int                  pageSize) throws InvalidParameterException,
+                                                                                                    TypeErrorException,
+                                                                                                    RepositoryErrorException,
+                                                                                                    EntityNotKnownException,
+                                                                                                    PropertyErrorException,
+                                                                                                    PagingErrorException,
+                                                                                                    FunctionNotSupportedException,
+                                                                                                    UserNotAuthorizedException
+    {
+        final String             methodName = "getRelationshipsAndEntitiesForEntity";
+
+        validateClient(methodName);
+        return omrsClient.getRelationshipsAndEntitiesForEntity(userId,
+                                                               entityGUID,
+                                                               relationshipTypeGUID,
+                                                               fromRelationshipElement,
+                                                               limitResultsByStatus,
+                                                               asOfTime,
+                                                               sequencingProperty,
+                                                               sequencingOrder,
+                                                               pageSize);
+    }
+
+
     /**
      * Return a list of entities that match the supplied criteria.  The results can be returned over many pages.
      *
@@ -1781,6 +1847,75 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return a page of the entities and relationships that radiate out from the supplied entity GUID.
+     * The results are scoped both the instance type guids and the level.  Paging applies to the relationships.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID the starting point of the query.
+     * @param entityTypeGUIDs list of entity types to include in the query results.  Null means include
+     *                          all entities found, irrespective of their type.
+     * @param relationshipTypeGUIDs list of relationship types to include in the query results.  Null means include
+     *                                all relationships found, irrespective of their type.
+     * @param limitResultsByStatus By default, relationships in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param level the number of the relationships out from the starting entity that the query will traverse to
+     *              gather results.
+     * @param fromRelationshipElement the starting element number of the relationships to return.
+     *                                Zero means start from the first element.
+     * @param pageSize the maximum number of relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return InstanceGraph the sub-graph that represents the returned linked entities and their relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws TypeErrorException one or more of the type guids passed on the request is not known by the
+     *                              metadata collection.
+     * @throws EntityNotKnownException the entity identified by the entityGUID is not found in the metadata collection.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws PagingErrorException the paging parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public  InstanceGraph getEntityNeighborhood(String               userId,
+                                                String               entityGUID,
+                                                List<String>         entityTypeGUIDs,
+                                                List<String>         relationshipTypeGUIDs,
+                                                List<InstanceStatus> limitResultsByStatus,
+                                                List<String>         limitResultsByClassification,
+                                                Date                 asOfTime,
+                                                int                  level,
+                                                int                  fromRelationshipElement,
+                                                int                  pageSize) throws InvalidParameterException,
+                                                                                      RepositoryErrorException,
+                                                                                      TypeErrorException,
+                                                                                      EntityNotKnownException,
+                                                                                      PropertyErrorException,
+                                                                                      PagingErrorException,
+                                                                                      FunctionNotSupportedException,
+                                                                                      UserNotAuthorizedException
+    {
+        final String          methodName  = "getEntityNeighborhood";
+
+        validateClient(methodName);
+        return omrsClient.getEntityNeighborhood(userId,
+                                                entityGUID,
+                                                entityTypeGUIDs,
+                                                relationshipTypeGUIDs,
+                                                limitResultsByStatus,
+                                                limitResultsByClassification,
+                                                asOfTime,
+                                                level,
+                                                fromRelationshipElement,
+                                                pageSize);
+    }
+
+
     /**
      * Return the list of entities that are of the types listed in entityTypeGUIDs and are connected, either directly or
      * indirectly to the entity identified by startEntityGUID.
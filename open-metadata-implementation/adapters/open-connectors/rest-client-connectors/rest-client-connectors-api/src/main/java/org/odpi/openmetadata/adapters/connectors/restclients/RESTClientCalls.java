@@ -4,6 +4,8 @@ package org.odpi.openmetadata.adapters.connectors.restclients;
 
 import org.odpi.openmetadata.adapters.connectors.restclients.ffdc.exceptions.RESTServerException;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * RESTClientCalls provides a generic interface for calling REST Clients.
  */
@@ -138,4 +140,74 @@ public interface RESTClientCalls
                              String    urlTemplate,
                              Object    requestBody,
                              Object... params) throws RESTServerException;
+
+
+    /**
+     * Issue a GET REST call that returns a response object without waiting for the response.  This allows the
+     * caller to overlap calls to different servers.  Implementations that do not support asynchronous calls
+     * issue the call synchronously and return a completed future.
+     *
+     * @param <T> class name
+     * @param methodName  name of the method being called.
+     * @param returnClass class of the response object.
+     * @param urlTemplate template of the URL for the REST API call with place-holders for the parameters.
+     * @param params      a list of parameters that are slotted into the url template.
+     *
+     * @return future for the response object; it completes exceptionally with RESTServerException if
+     *         something went wrong with the REST call stack.
+     */
+    default <T> CompletableFuture<T> callGetRESTCallAsync(String    methodName,
+                                                          Class<T>  returnClass,
+                                                          String    urlTemplate,
+                                                          Object... params)
+    {
+        CompletableFuture<T> response = new CompletableFuture<>();
+
+        try
+        {
+            response.complete(this.callGetRESTCall(methodName, returnClass, urlTemplate, params));
+        }
+        catch (RESTServerException error)
+        {
+            response.completeExceptionally(error);
+        }
+
+        return response;
+    }
+
+
+    /**
+     * Issue a POST REST call that returns a response object without waiting for the response.  This allows the
+     * caller to overlap calls to different servers.  Implementations that do not support asynchronous calls
+     * issue the call synchronously and return a completed future.
+     *
+     * @param <T> class name
+     * @param methodName  name of the method being called.
+     * @param returnClass class of the response object.
+     * @param urlTemplate  template of the URL for the REST API call with place-holders for the parameters.
+     * @param requestBody request body for the request.
+     * @param params  a list of parameters that are slotted into the url template.
+     *
+     * @return future for the response object; it completes exceptionally with RESTServerException if
+     *         something went wrong with the REST call stack.
+     */
+    default <T> CompletableFuture<T> callPostRESTCallAsync(String    methodName,
+                                                           Class<T>  returnClass,
+                                                           String    urlTemplate,
+                                                           Object    requestBody,
+                                                           Object... params)
+    {
+        CompletableFuture<T> response = new CompletableFuture<>();
+
+        try
+        {
+            response.complete(this.callPostRESTCall(methodName, returnClass, urlTemplate, requestBody, params));
+        }
+        catch (RESTServerException error)
+        {
+            response.completeExceptionally(error);
+        }
+
+        return response;
+    }
 }
@@ -0,0 +1,174 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.restclients.spring;
+
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLSocketFactory;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SpringRESTClientConnectionPool manages the HTTP connection pools shared by the SpringRESTClientConnector
+ * instances in the JVM.  Connections are kept alive and reused across calls to the same server platform, which
+ * avoids a new TCP connection (and TLS handshake) for every REST call.  Responses are requested with gzip/deflate
+ * content encoding and decompressed transparently.
+ *
+ * Connectors with the same pool limits share the same pool.  The SSL settings are taken from the
+ * HttpsURLConnection defaults so that the strict.ssl and trust store options of the platform continue to apply.
+ * A new pool is created if these defaults are changed after a pool is created.
+ *
+ * Each connector acquires the pool it uses and releases it when it disconnects.  A pool is closed, along with
+ * its connections, when the last connector using it is released.
+ */
+class SpringRESTClientConnectionPool
+{
+    static final int defaultMaxConnections         = 200;
+    static final int defaultMaxConnectionsPerRoute = 50;
+
+    private static final int idleConnectionTimeout   = 30;
+    private static final int validateAfterInactivity = 2000;
+
+    private static final Logger log = LoggerFactory.getLogger(SpringRESTClientConnectionPool.class);
+
+    private static final Map<String, Pool> pools = new HashMap<>();
+
+
+    /**
+     * A connection pool together with the number of connectors using it.
+     */
+    private static class Pool
+    {
+        private final HttpComponentsClientHttpRequestFactory requestFactory;
+        private int                                          connectorCount = 0;
+
+        Pool(HttpComponentsClientHttpRequestFactory requestFactory)
+        {
+            this.requestFactory = requestFactory;
+        }
+    }
+
+
+    /**
+     * Return the request factory for a pool with the requested limits.  The caller must pass it to
+     * releaseRequestFactory when it is no longer needed.
+     *
+     * @param maxConnections maximum number of connections in the pool
+     * @param maxConnectionsPerRoute maximum number of connections to a single server platform
+     * @return request factory for RestTemplate
+     */
+    static synchronized ClientHttpRequestFactory acquireRequestFactory(int maxConnections,
+                                                                       int maxConnectionsPerRoute)
+    {
+        SSLSocketFactory sslSocketFactory = HttpsURLConnection.getDefaultSSLSocketFactory();
+        HostnameVerifier hostnameVerifier = HttpsURLConnection.getDefaultHostnameVerifier();
+
+        String poolKey = maxConnections + ":" + maxConnectionsPerRoute + ":" +
+                                 System.identityHashCode(sslSocketFactory) + ":" + System.identityHashCode(hostnameVerifier);
+
+        Pool pool = pools.get(poolKey);
+
+        if (pool == null)
+        {
+            Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+                    .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                    .register("https", new SSLConnectionSocketFactory(sslSocketFactory, hostnameVerifier))
+                    .build();
+
+            PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+
+            connectionManager.setMaxTotal(maxConnections);
+            connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+            connectionManager.setValidateAfterInactivity(validateAfterInactivity);
+
+            /*
+             * The JDK system properties (such as the proxy settings) are honoured in the same way as the
+             * HttpURLConnection based transport.  Cookies are not used by the REST APIs.
+             */
+            CloseableHttpClient httpClient = HttpClientBuilder.create()
+                                                              .setConnectionManager(connectionManager)
+                                                              .disableCookieManagement()
+                                                              .useSystemProperties()
+                                                              .evictExpiredConnections()
+                                                              .evictIdleConnections(idleConnectionTimeout, TimeUnit.SECONDS)
+                                                              .build();
+
+            pool = new Pool(new HttpComponentsClientHttpRequestFactory(httpClient));
+
+            pools.put(poolKey, pool);
+        }
+
+        pool.connectorCount++;
+
+        return pool.requestFactory;
+    }
+
+
+    /**
+     * Release a request factory returned by acquireRequestFactory.  The pool is closed if no other connector
+     * is using it.  Unknown request factories are ignored.
+     *
+     * @param requestFactory request factory that is no longer needed
+     */
+    static synchronized void releaseRequestFactory(ClientHttpRequestFactory requestFactory)
+    {
+        if (requestFactory == null)
+        {
+            return;
+        }
+
+        Iterator<Pool> iterator = pools.values().iterator();
+
+        while (iterator.hasNext())
+        {
+            Pool pool = iterator.next();
+
+            if (pool.requestFactory == requestFactory)
+            {
+                pool.connectorCount--;
+
+                if (pool.connectorCount <= 0)
+                {
+                    iterator.remove();
+
+                    try
+                    {
+                        pool.requestFactory.destroy();
+                    }
+                    catch (Exception error)
+                    {
+                        log.debug("Unable to close connection pool", error);
+                    }
+                }
+
+                return;
+            }
+        }
+    }
+
+
+    /**
+     * Return the number of open connection pools.
+     *
+     * @return count of pools
+     */
+    static synchronized int getPoolCount()
+    {
+        return pools.size();
+    }
+}
@@ -6,6 +6,7 @@ import org.codehaus.plexus.util.Base64;
 import org.odpi.openmetadata.adapters.connectors.restclients.RESTClientConnector;
 import org.odpi.openmetadata.adapters.connectors.restclients.ffdc.RESTClientConnectorErrorCode;
 import org.odpi.openmetadata.adapters.connectors.restclients.ffdc.exceptions.RESTServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
 import org.slf4j.Logger;
@@ -15,6 +16,7 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
@@ -25,6 +27,10 @@ import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 
 /**
@@ -34,13 +40,26 @@ import java.util.List;
  */
 public class SpringRESTClientConnector extends RESTClientConnector
 {
-    private RestTemplate restTemplate;
-    private String       serverName               = null;
-    private String       serverPlatformURLRoot    = null;
-    private HttpHeaders  basicAuthorizationHeader = null;
+    private RestTemplate             restTemplate;
+    private ClientHttpRequestFactory requestFactory;
+    private String                   serverName               = null;
+    private String                   serverPlatformURLRoot    = null;
+    private HttpHeaders              basicAuthorizationHeader = null;
 
     private static final Logger log = LoggerFactory.getLogger(SpringRESTClientConnector.class);
 
+    /*
+     * Asynchronous calls are issued on a shared pool of daemon threads.
+     */
+    private static final int             maxAsyncThreads = 32;
+    private static final ExecutorService asyncExecutor   = Executors.newFixedThreadPool(maxAsyncThreads,
+                                                                                        runnable ->
+                                                                                        {
+                                                                                            Thread thread = new Thread(runnable, "SpringRESTClientConnector");
+                                                                                            thread.setDaemon(true);
+                                                                                            return thread;
+                                                                                        });
+
 
     /**
      * This constructor is work in progress as part of the upgrade of Egeria to use security.
@@ -64,7 +83,9 @@ public class SpringRESTClientConnector extends RESTClientConnector
         DefaultUriBuilderFactory builderFactory = new DefaultUriBuilderFactory();
         builderFactory.setEncodingMode(DefaultUriBuilderFactory.EncodingMode.VALUES_ONLY);
 
-        restTemplate = new RestTemplate();
+        requestFactory = SpringRESTClientConnectionPool.acquireRequestFactory(SpringRESTClientConnectionPool.defaultMaxConnections,
+                                                                              SpringRESTClientConnectionPool.defaultMaxConnectionsPerRoute);
+        restTemplate = new RestTemplate(requestFactory);
 
         restTemplate.setUriTemplateHandler(builderFactory);
 
@@ -100,6 +121,28 @@ public class SpringRESTClientConnector extends RESTClientConnector
             this.serverName = null;
         }
 
+        /*
+         * The connection pool limits can be overridden in the configuration properties.
+         */
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        if (configurationProperties != null)
+        {
+            int maxConnections = this.getIntegerProperty(configurationProperties,
+                                                         SpringRESTClientConnectorProvider.MAX_CONNECTIONS_CONFIGURATION_PROPERTY,
+                                                         SpringRESTClientConnectionPool.defaultMaxConnections);
+            int maxConnectionsPerRoute = this.getIntegerProperty(configurationProperties,
+                                                                 SpringRESTClientConnectorProvider.MAX_CONNECTIONS_PER_ROUTE_CONFIGURATION_PROPERTY,
+                                                                 SpringRESTClientConnectionPool.defaultMaxConnectionsPerRoute);
+
+            ClientHttpRequestFactory configuredRequestFactory = SpringRESTClientConnectionPool.acquireRequestFactory(maxConnections,
+                                                                                                                     maxConnectionsPerRoute);
+
+            SpringRESTClientConnectionPool.releaseRequestFactory(requestFactory);
+            requestFactory = configuredRequestFactory;
+            restTemplate.setRequestFactory(requestFactory);
+        }
+
         String     userId = connectionProperties.getUserId();
         String     password = connectionProperties.getClearPassword();
 
@@ -117,6 +160,57 @@ public class SpringRESTClientConnector extends RESTClientConnector
     }
 
 
+    /**
+     * Free up any resources held since the connector is no longer needed.  The connection pool is closed
+     * if no other connector is using it.
+     *
+     * @throws ConnectorCheckedException there is a problem within the connector.
+     */
+    @Override
+    public synchronized void disconnect() throws ConnectorCheckedException
+    {
+        super.disconnect();
+
+        SpringRESTClientConnectionPool.releaseRequestFactory(requestFactory);
+        requestFactory = null;
+    }
+
+
+    /**
+     * Retrieve a positive integer value from the configuration properties.
+     *
+     * @param configurationProperties configuration properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is not set or not valid
+     * @return property value
+     */
+    private int getIntegerProperty(Map<String, Object> configurationProperties,
+                                   String              propertyName,
+                                   int                 defaultValue)
+    {
+        Object propertyValue = configurationProperties.get(propertyName);
+
+        if (propertyValue != null)
+        {
+            try
+            {
+                int value = Integer.parseInt(propertyValue.toString());
+
+                if (value > 0)
+                {
+                    return value;
+                }
+            }
+            catch (NumberFormatException error)
+            {
+                log.debug("Ignoring invalid value " + propertyValue + " for configuration property " + propertyName + ".");
+            }
+        }
+
+        return defaultValue;
+    }
+
+
     /**
      * Create the HTTP header for basic authorization.
      *
@@ -910,4 +1004,76 @@ public class SpringRESTClientConnector extends RESTClientConnector
                     error);
         }
     }
+
+
+    /**
+     * Issue a GET REST call that returns a response object without waiting for the response.
+     *
+     * @param <T> type of the return object
+     * @param methodName  name of the method being called.
+     * @param returnClass class of the response object.
+     * @param urlTemplate template of the URL for the REST API call with place-holders for the parameters.
+     * @param params      a list of parameters that are slotted into the url template.
+     *
+     * @return future for the response object
+     */
+    @Override
+    public <T> CompletableFuture<T> callGetRESTCallAsync(String    methodName,
+                                                         Class<T>  returnClass,
+                                                         String    urlTemplate,
+                                                         Object... params)
+    {
+        CompletableFuture<T> response = new CompletableFuture<>();
+
+        asyncExecutor.execute(() ->
+                              {
+                                  try
+                                  {
+                                      response.complete(this.callGetRESTCall(methodName, returnClass, urlTemplate, params));
+                                  }
+                                  catch (RESTServerException error)
+                                  {
+                                      response.completeExceptionally(error);
+                                  }
+                              });
+
+        return response;
+    }
+
+
+    /**
+     * Issue a POST REST call that returns a response object without waiting for the response.
+     *
+     * @param <T> type of the return object
+     * @param methodName  name of the method being called.
+     * @param returnClass class of the response object.
+     * @param urlTemplate  template of the URL for the REST API call with place-holders for the parameters.
+     * @param requestBody request body for the request.
+     * @param params  a list of parameters that are slotted into the url template.
+     *
+     * @return future for the response object
+     */
+    @Override
+    public <T> CompletableFuture<T> callPostRESTCallAsync(String    methodName,
+                                                          Class<T>  returnClass,
+                                                          String    urlTemplate,
+                                                          Object    requestBody,
+                                                          Object... params)
+    {
+        CompletableFuture<T> response = new CompletableFuture<>();
+
+        asyncExecutor.execute(() ->
+                              {
+                                  try
+                                  {
+                                      response.complete(this.callPostRESTCall(methodName, returnClass, urlTemplate, requestBody, params));
+                                  }
+                                  catch (RESTServerException error)
+                                  {
+                                      response.completeExceptionally(error);
+                                  }
+                              });
+
+        return response;
+    }
 }
@@ -0,0 +1,121 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.restclients.spring;
+
+import org.junit.jupiter.api.Test;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Test that the connection pools are shared by the connectors with the same limits and closed when the last
+ * connector using them is released.  Each test uses its own limits since the pools are shared across the JVM.
+ */
+public class TestSpringRESTClientConnectionPool
+{
+    @Test
+    void testPoolsAreSharedAndClosed()
+    {
+        int poolCount = SpringRESTClientConnectionPool.getPoolCount();
+
+        ClientHttpRequestFactory first  = SpringRESTClientConnectionPool.acquireRequestFactory(11, 3);
+        ClientHttpRequestFactory second = SpringRESTClientConnectionPool.acquireRequestFactory(11, 3);
+        ClientHttpRequestFactory other  = SpringRESTClientConnectionPool.acquireRequestFactory(12, 3);
+
+        assertSame(first, second);
+        assertNotSame(first, other);
+        assertEquals(poolCount + 2, SpringRESTClientConnectionPool.getPoolCount());
+
+        /*
+         * The pool stays open until every connector using it has been released.
+         */
+        SpringRESTClientConnectionPool.releaseRequestFactory(first);
+        assertEquals(poolCount + 2, SpringRESTClientConnectionPool.getPoolCount());
+
+        SpringRESTClientConnectionPool.releaseRequestFactory(second);
+        assertEquals(poolCount + 1, SpringRESTClientConnectionPool.getPoolCount());
+
+        SpringRESTClientConnectionPool.releaseRequestFactory(other);
+        assertEquals(poolCount, SpringRESTClientConnectionPool.getPoolCount());
+
+        /*
+         * A pool is created again when it is next needed.
+         */
+        ClientHttpRequestFactory third = SpringRESTClientConnectionPool.acquireRequestFactory(11, 3);
+
+        assertNotSame(first, third);
+        assertEquals(poolCount + 1, SpringRESTClientConnectionPool.getPoolCount());
+
+        SpringRESTClientConnectionPool.releaseRequestFactory(third);
+        assertEquals(poolCount, SpringRESTClientConnectionPool.getPoolCount());
+    }
+
+
+    @Test
+    void testUnknownRequestFactoriesAreIgnored()
+    {
+        ClientHttpRequestFactory requestFactory = SpringRESTClientConnectionPool.acquireRequestFactory(13, 3);
+        int                      poolCount      = SpringRESTClientConnectionPool.getPoolCount();
+
+        SpringRESTClientConnectionPool.releaseRequestFactory(null);
+        SpringRESTClientConnectionPool.releaseRequestFactory(requestFactory);
+        SpringRESTClientConnectionPool.releaseRequestFactory(requestFactory);
+
+        assertEquals(poolCount - 1, SpringRESTClientConnectionPool.getPoolCount());
+    }
+
+
+    @Test
+    void testConnectorReleasesItsPoolOnDisconnect() throws Exception
+    {
+        Connection          connection              = new Connection();
+        Endpoint            endpoint                = new Endpoint();
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        endpoint.setAddress("https://localhost:9443");
+        endpoint.setDisplayName("testServer");
+        configurationProperties.put(SpringRESTClientConnectorProvider.MAX_CONNECTIONS_CONFIGURATION_PROPERTY, 14);
+        configurationProperties.put(SpringRESTClientConnectorProvider.MAX_CONNECTIONS_PER_ROUTE_CONFIGURATION_PROPERTY, 3);
+        connection.setEndpoint(endpoint);
+        connection.setConfigurationProperties(configurationProperties);
+
+        /*
+         * The connectors use the default pool until they are initialized.  It is held open here so that the
+         * count of pools only changes with the configured pool.
+         */
+        ClientHttpRequestFactory defaultRequestFactory = SpringRESTClientConnectionPool.acquireRequestFactory(SpringRESTClientConnectionPool.defaultMaxConnections,
+                                                                                                              SpringRESTClientConnectionPool.defaultMaxConnectionsPerRoute);
+        int                       poolCount      = SpringRESTClientConnectionPool.getPoolCount();
+        SpringRESTClientConnector firstConnector = new SpringRESTClientConnector();
+
+        firstConnector.initialize("firstConnector", new ConnectionProperties(connection));
+        assertEquals(poolCount + 1, SpringRESTClientConnectionPool.getPoolCount());
+
+        SpringRESTClientConnector secondConnector = new SpringRESTClientConnector();
+
+        secondConnector.initialize("secondConnector", new ConnectionProperties(connection));
+        assertEquals(poolCount + 1, SpringRESTClientConnectionPool.getPoolCount());
+
+        firstConnector.disconnect();
+        assertEquals(poolCount + 1, SpringRESTClientConnectionPool.getPoolCount());
+
+        /*
+         * Disconnecting the same connector again does not release the pool from the other connector.
+         */
+        firstConnector.disconnect();
+        assertEquals(poolCount + 1, SpringRESTClientConnectionPool.getPoolCount());
+
+        secondConnector.disconnect();
+        assertEquals(poolCount, SpringRESTClientConnectionPool.getPoolCount());
+
+        SpringRESTClientConnectionPool.releaseRequestFactory(defaultRequestFactory);
+    }
+}
@@ -30,6 +30,16 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
  *         enterpriseOMRSTopicProtocolVersion - the protocol version for the events passed on the
  *                                            enterprise OMRS topic.
  *     </li>
+ *     <li>
+ *         instanceCacheSize - maximum number of instances from remote repositories that the enterprise connectors
+ *                             remember.  Zero (the default) means no instances are cached.  The cache is maintained from the
+ *                             events on the enterprise OMRS topic so it is only used when the topic is configured.
+ *                             A cached instance is only returned to users that its home repository has returned it to.
+ *     </li>
+ *     <li>
+ *         instanceCacheTimeToLive - number of seconds that a cached instance is used for before it is retrieved again,
+ *                                   even if no event has been received for it.
+ *     </li>
  * </ul>
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
@@ -43,6 +53,8 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
     private String                           enterpriseMetadataCollectionId     = null;
     private Connection                       enterpriseOMRSTopicConnection      = null;
     private OpenMetadataEventProtocolVersion enterpriseOMRSTopicProtocolVersion = null;
+    private int                              instanceCacheSize                  = 0;
+    private int                              instanceCacheTimeToLive            = 300;
 
 
     /**
@@ -179,6 +191,50 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
     }
 
 
+    /**
+     * Return the maximum number of instances from remote repositories that the enterprise connectors remember.
+     *
+     * @return number of instances - zero means no cache
+     */
+    public int getInstanceCacheSize()
+    {
+        return instanceCacheSize;
+    }
+
+
+    /**
+     * Set up the maximum number of instances from remote repositories that the enterprise connectors remember.
+     *
+     * @param instanceCacheSize number of instances - zero means no cache
+     */
+    public void setInstanceCacheSize(int instanceCacheSize)
+    {
+        this.instanceCacheSize = instanceCacheSize;
+    }
+
+
+    /**
+     * Return the number of seconds that a cached instance is used for before it is retrieved again.
+     *
+     * @return number of seconds
+     */
+    public int getInstanceCacheTimeToLive()
+    {
+        return instanceCacheTimeToLive;
+    }
+
+
+    /**
+     * Set up the number of seconds that a cached instance is used for before it is retrieved again.
+     *
+     * @param instanceCacheTimeToLive number of seconds
+     */
+    public void setInstanceCacheTimeToLive(int instanceCacheTimeToLive)
+    {
+        this.instanceCacheTimeToLive = instanceCacheTimeToLive;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -467,6 +467,38 @@ public enum OMAGAdminAuditCode implements AuditLogMessageSet
                                        "The view service fails to start as it does not have a sufficiently large maxPageSize .",
                                        "Reconfigure the View service to have a maxPageSize that is sufficient."),
 
+    LATEST_CHANGE_COALESCING("OMAG-ADMIN-0216",
+                             OMRSAuditLogRecordSeverity.STARTUP,
+                             "The {0} Open Metadata Access Service (OMAS) is coalescing updates to the LatestChange classification over {1} milliseconds",
+                             "The access service was passed this value in the LatestChangeCoalescingInterval property of the access service's options.  " +
+                                     "Changes to the same anchor entity within this interval result in a single update to its LatestChange classification.",
+                             "Verify that this interval is correct for your organization.  Consumers of the LatestChange classification will see " +
+                                     "changes after this delay."),
+
+    SYNCHRONOUS_LATEST_CHANGE("OMAG-ADMIN-0217",
+                              OMRSAuditLogRecordSeverity.STARTUP,
+                              "The {0} Open Metadata Access Service (OMAS) is updating the LatestChange classification synchronously",
+                              "The access service can be configured to coalesce updates to the LatestChange classification by setting " +
+                                      "the LatestChangeCoalescingInterval property of the access service's options.",
+                              "Verify that synchronous updates are required for your organization.  Coalescing reduces the number of " +
+                                      "repository updates and cohort events during bulk changes to the attachments of an anchor."),
+
+    ANCHOR_CACHE_STARTED("OMAG-ADMIN-0218",
+                         OMRSAuditLogRecordSeverity.STARTUP,
+                         "The access services in server {0} are sharing an anchor cache of up to {1} elements",
+                         "The anchors derived for elements without the Anchors classification are remembered so that the relationships " +
+                                 "do not need to be walked on every request.  The cache is maintained from the events received from the cohort.  " +
+                                 "Its size is set with the AnchorCacheSize property of the access services' options.",
+                         "No action is required.  This is part of the normal operation of the server.  Increase the AnchorCacheSize " +
+                                 "if the server manages many elements that are anchored through their relationships."),
+
+    ANCHOR_CACHE_DISABLED("OMAG-ADMIN-0219",
+                          OMRSAuditLogRecordSeverity.STARTUP,
+                          "The anchor cache has been turned off for the access services in server {0}",
+                          "The AnchorCacheSize property of the access services' options is set to zero.  The relationships of " +
+                                  "elements without the Anchors classification are walked on every request to find their anchor.",
+                          "Verify that the cache should be turned off.  Remove the AnchorCacheSize property to use the default size."),
+
     ;
 
     private String                     logMessageId;
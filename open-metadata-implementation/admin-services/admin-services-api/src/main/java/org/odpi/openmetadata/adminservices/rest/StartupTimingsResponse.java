@@ -0,0 +1,146 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices.rest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+
+/**
+ * StartupTimingsResponse is the response structure used on the OMAG REST API calls that return the time
+ * in milliseconds that each subsystem of a running server took to start.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class StartupTimingsResponse extends AdminServicesAPIResponse
+{
+    private static final long    serialVersionUID = 1L;
+
+    private Map<String, Long> startupTimings = null;
+
+
+    /**
+     * Default constructor
+     */
+    public StartupTimingsResponse()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public StartupTimingsResponse(StartupTimingsResponse  template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            this.startupTimings = template.getStartupTimings();
+        }
+    }
+
+
+    /**
+     * Return the time in milliseconds taken to start each subsystem, in the order they were started.
+     *
+     * @return map of subsystem name to elapsed time
+     */
+    public Map<String, Long> getStartupTimings()
+    {
+        if (startupTimings == null)
+        {
+            return null;
+        }
+        else
+        {
+            return new LinkedHashMap<>(startupTimings);
+        }
+    }
+
+
+    /**
+     * Set up the time in milliseconds taken to start each subsystem.
+     *
+     * @param startupTimings map of subsystem name to elapsed time
+     */
+    public void setStartupTimings(Map<String, Long> startupTimings)
+    {
+        this.startupTimings = startupTimings;
+    }
+
+
+    /**
+     * JSON-like toString
+     *
+     * @return string containing the property names and values
+     */
+    @Override
+    public String toString()
+    {
+        return "StartupTimingsResponse{" +
+                "startupTimings=" + startupTimings +
+                ", exceptionClassName='" + getExceptionClassName() + '\'' +
+                ", exceptionCausedBy='" + getExceptionCausedBy() + '\'' +
+                ", actionDescription='" + getActionDescription() + '\'' +
+                ", relatedHTTPCode=" + getRelatedHTTPCode() +
+                ", exceptionErrorMessage='" + getExceptionErrorMessage() + '\'' +
+                ", exceptionErrorMessageId='" + getExceptionErrorMessageId() + '\'' +
+                ", exceptionErrorMessageParameters=" + Arrays.toString(getExceptionErrorMessageParameters()) +
+                ", exceptionSystemAction='" + getExceptionSystemAction() + '\'' +
+                ", exceptionUserAction='" + getExceptionUserAction() + '\'' +
+                ", exceptionProperties=" + getExceptionProperties() +
+                '}';
+    }
+
+
+    /**
+     * Return comparison result based on the content of the properties.
+     *
+     * @param objectToCompare test object
+     * @return result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (!(objectToCompare instanceof StartupTimingsResponse))
+        {
+            return false;
+        }
+        if (!super.equals(objectToCompare))
+        {
+            return false;
+        }
+        StartupTimingsResponse that = (StartupTimingsResponse) objectToCompare;
+        return Objects.equals(startupTimings, that.startupTimings);
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(super.hashCode(), startupTimings);
+    }
+}
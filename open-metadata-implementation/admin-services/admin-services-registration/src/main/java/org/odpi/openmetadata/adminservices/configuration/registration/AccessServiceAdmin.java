@@ -33,6 +33,7 @@ public abstract class AccessServiceAdmin
 {
     private static  int defaultKarmaPointThreshold = 500;
     private static  int defaultKarmaPointInterval  = 0;
+    private static  int defaultLatestChangeCoalescingInterval = 0;
 
 
     /*
@@ -46,6 +47,7 @@ public abstract class AccessServiceAdmin
     protected String   archiveZonesPropertyName        = "ArchiveZones";        /* Common */
     protected String   karmaPointPlateauPropertyName   = "KarmaPointPlateau";   /* Community Profile OMAS */
     protected String   karmaPointIncrementPropertyName = "KarmaPointIncrement"; /* Community Profile OMAS */
+    protected String   latestChangeCoalescingIntervalPropertyName = "LatestChangeCoalescingInterval"; /* Common */
 
 
     /**
@@ -412,6 +414,85 @@ public abstract class AccessServiceAdmin
     }
 
 
+    /**
+     * Extract the interval (in milliseconds) over which updates to the LatestChange classification of an anchor
+     * should be coalesced.  Zero means that the classification is updated synchronously.
+     *
+     * @param accessServiceOptions options passed to the access service.
+     * @param accessServiceFullName name of calling service
+     * @param auditLog audit log for error messages
+     * @return coalescing interval in milliseconds
+     * @throws OMAGConfigurationErrorException the interval is not a number.
+     */
+    protected int extractLatestChangeCoalescingInterval(Map<String, Object> accessServiceOptions,
+                                                        String              accessServiceFullName,
+                                                        AuditLog            auditLog) throws OMAGConfigurationErrorException
+    {
+        final String  methodName = "extractLatestChangeCoalescingInterval";
+
+        if (accessServiceOptions == null)
+        {
+            return this.useDefaultLatestChangeCoalescingInterval(accessServiceFullName, auditLog, methodName);
+        }
+        else
+        {
+            Object   intervalObject = accessServiceOptions.get(latestChangeCoalescingIntervalPropertyName);
+
+            if (intervalObject == null)
+            {
+                return this.useDefaultLatestChangeCoalescingInterval(accessServiceFullName, auditLog, methodName);
+            }
+            else
+            {
+                try
+                {
+                    int interval = Integer.parseInt(intervalObject.toString());
+
+                    if (interval <= 0)
+                    {
+                        return this.useDefaultLatestChangeCoalescingInterval(accessServiceFullName, auditLog, methodName);
+                    }
+
+                    auditLog.logMessage(methodName, OMAGAdminAuditCode.LATEST_CHANGE_COALESCING.getMessageDefinition(accessServiceFullName,
+                                                                                                                     Integer.toString(interval)));
+
+                    return interval;
+                }
+                catch (Exception error)
+                {
+                    logBadConfigProperties(accessServiceFullName,
+                                           latestChangeCoalescingIntervalPropertyName,
+                                           intervalObject.toString(),
+                                           auditLog,
+                                           methodName,
+                                           error);
+
+                    /* unreachable */
+                    return 0;
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Set up and log the default (synchronous) LatestChange maintenance.
+     *
+     * @param accessServiceFullName name of this access service
+     * @param auditLog audit log to use
+     * @param methodName calling method
+     * @return default value
+     */
+    private int useDefaultLatestChangeCoalescingInterval(String       accessServiceFullName,
+                                                         AuditLog     auditLog,
+                                                         String       methodName)
+    {
+        auditLog.logMessage(methodName, OMAGAdminAuditCode.SYNCHRONOUS_LATEST_CHANGE.getMessageDefinition(accessServiceFullName));
+
+        return defaultLatestChangeCoalescingInterval;
+    }
+
+
     /**
      * Log that a property value is incorrect.
      *
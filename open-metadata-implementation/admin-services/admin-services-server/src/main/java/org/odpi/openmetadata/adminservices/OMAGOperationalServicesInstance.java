@@ -17,7 +17,9 @@ import org.odpi.openmetadata.repositoryservices.admin.OMRSOperationalServices;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * OMAGOperationalServicesInstance provides the references to the active services for an instance of an OMAG Server.
@@ -37,6 +39,7 @@ class OMAGOperationalServicesInstance extends OMAGServerServiceInstance
     private OpenLineageServerOperationalServices openLineageOperationalServices      = null;
     private DataEngineProxyOperationalServices   operationalDataEngineProxyServices  = null;
     private OMRSAuditLog                         auditLog                            = null;
+    private Map<String, Long>                    startupTimings                      = new LinkedHashMap<>();
 
 
     /**
@@ -294,4 +297,28 @@ class OMAGOperationalServicesInstance extends OMAGServerServiceInstance
     {
         this.auditLog = auditLog;
     }
-}
\ No newline at end of file
+
+
+    /**
+     * Return the time in milliseconds taken to start each subsystem, in the order that they were started.
+     *
+     * @return map of subsystem name to elapsed time
+     */
+    synchronized Map<String, Long> getStartupTimings()
+    {
+        return new LinkedHashMap<>(startupTimings);
+    }
+
+
+    /**
+     * Record the time taken to start a subsystem.
+     *
+     * @param subsystemName name of the subsystem
+     * @param elapsedTime time taken in milliseconds
+     */
+    synchronized void addStartupTiming(String subsystemName,
+                                       long   elapsedTime)
+    {
+        startupTimings.put(subsystemName, elapsedTime);
+    }
+}
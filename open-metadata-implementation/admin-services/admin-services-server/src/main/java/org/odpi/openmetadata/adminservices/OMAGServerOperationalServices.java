@@ -13,8 +13,10 @@ import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGConfigurationError
 import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGInvalidParameterException;
 import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGNotAuthorizedException;
 import org.odpi.openmetadata.adminservices.rest.OMAGServerConfigResponse;
+import org.odpi.openmetadata.adminservices.rest.StartupTimingsResponse;
 import org.odpi.openmetadata.adminservices.rest.SuccessMessageResponse;
 import org.odpi.openmetadata.commonservices.ffdc.RESTCallLogger;
+import org.odpi.openmetadata.commonservices.generichandlers.AnchorCache;
 import org.odpi.openmetadata.commonservices.ffdc.RESTCallToken;
 import org.odpi.openmetadata.commonservices.ffdc.exceptions.PropertyServerException;
 import org.odpi.openmetadata.commonservices.ffdc.rest.VoidResponse;
@@ -33,11 +35,17 @@ import org.odpi.openmetadata.repositoryservices.admin.OMRSOperationalServices;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * OMAGServerOperationalServices will provide support to start, manage and stop services in the OMAG Server.
@@ -52,6 +60,18 @@ public class OMAGServerOperationalServices
     private OMAGServerErrorHandler         errorHandler = new OMAGServerErrorHandler();
     private OMAGServerExceptionHandler     exceptionHandler = new OMAGServerExceptionHandler();
 
+    /*
+     * Maximum number of servers, or subsystems within a server, that are started at the same time.
+     */
+    private static final int maxStartupThreads = Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
+
+    /*
+     * Access service option that sets the size of the anchor cache shared by the access services.
+     */
+    private static final String anchorCacheSizePropertyName = "AnchorCacheSize";
+
+    private static final Logger log = LoggerFactory.getLogger(OMAGServerOperationalServices.class);
+
     private static RESTCallLogger restCallLogger = new RESTCallLogger(LoggerFactory.getLogger(OMAGServerOperationalServices.class),
                                                                       CommonServicesDescription.ADMIN_OPERATIONAL_SERVICES.getServiceName());
 
@@ -62,9 +82,11 @@ public class OMAGServerOperationalServices
 
     /**
      * Activate the list of open metadata and governance servers using the stored configuration information.
-     * The code works through the list, starting each server in turn.  It stops if one of the servers fails to
-     * start and returns the error.  Otherwise it continues through the list, returning the successful
-     * start up messages.
+     * A server that is configured to call another server in the list (for example, a view server calling its
+     * metadata access point) is started after that server.  Servers that do not depend on one another are started
+     * in parallel.  If a server fails to start, the servers that depend on it are not started and the first error
+     * in the order of the list is returned.  Otherwise the successful start up messages are returned
+     * in the order of the list.
      *
      * @param userId  user that is issuing the request
      * @param serverNames  list of server names
@@ -76,6 +98,8 @@ public class OMAGServerOperationalServices
     public SuccessMessageResponse activateServerListWithStoredConfig(String       userId,
                                                                      List<String> serverNames)
     {
+        final String methodName = "activateServerListWithStoredConfig";
+
         String                 startUpMessage = null;
         SuccessMessageResponse response       = new SuccessMessageResponse();
 
@@ -83,30 +107,62 @@ public class OMAGServerOperationalServices
 
         if (serverNames != null)
         {
+            Set<String> serverNameSet = new LinkedHashSet<>();
+
             for (String serverName : serverNames)
             {
                 if (serverName != null)
                 {
-                    response = activateWithStoredConfig(userId, serverName.trim());
+                    serverNameSet.add(serverName.trim());
+                }
+            }
+
+            Map<String, SuccessMessageResponse> serverResponses = new HashMap<>();
+            OMAGServerStartupOrchestrator       orchestrator    = new OMAGServerStartupOrchestrator(methodName, maxStartupThreads);
+
+            for (String serverName : serverNameSet)
+            {
+                orchestrator.addTask(serverName,
+                                     this.getPartnerServerNames(userId, serverName, methodName),
+                                     () -> this.activateServerInList(userId, serverName, serverResponses));
+            }
 
-                    if (response.getRelatedHTTPCode() == 200)
+            orchestrator.run();
+
+            for (String serverName : serverNameSet)
+            {
+                SuccessMessageResponse serverResponse;
+
+                synchronized (serverResponses)
+                {
+                    serverResponse = serverResponses.get(serverName);
+                }
+
+                if (serverResponse == null)
+                {
+                    /*
+                     * The server was not started because a server that it depends on failed.
+                     */
+                    continue;
+                }
+
+                if (serverResponse.getRelatedHTTPCode() == 200)
+                {
+                    String serverStartUpMessage = "OMAG Server '" + serverName + "' successful start , with message: " +
+                            serverResponse.getSuccessMessage() + System.lineSeparator();
+                    if (startUpMessage == null)
                     {
-                        String serverStartUpMessage = "OMAG Server '" + serverName + "' successful start , with message: " +
-                                response.getSuccessMessage() + System.lineSeparator();
-                        if (startUpMessage == null)
-                        {
-                            startUpMessage = serverStartUpMessage;
-                        }
-                        else
-                        {
-                            startUpMessage += serverStartUpMessage;
-                        }
+                        startUpMessage = serverStartUpMessage;
                     }
                     else
                     {
-                        break;
+                        startUpMessage += serverStartUpMessage;
                     }
                 }
+                else if (response.getRelatedHTTPCode() == 200)
+                {
+                    response = serverResponse;
+                }
             }
         }
         else
@@ -123,6 +179,111 @@ public class OMAGServerOperationalServices
     }
 
 
+    /**
+     * Start one of the servers from a server list, saving its response.  An exception is thrown if the
+     * server fails to start so that the servers that depend on it are not started.
+     *
+     * @param userId  user that is issuing the request
+     * @param serverName  server to start
+     * @param serverResponses map of server name to response from starting the server
+     * @throws OMAGConfigurationErrorException the server failed to start
+     */
+    private void activateServerInList(String                              userId,
+                                      String                              serverName,
+                                      Map<String, SuccessMessageResponse> serverResponses) throws OMAGConfigurationErrorException
+    {
+        final String methodName = "activateServerListWithStoredConfig";
+
+        SuccessMessageResponse serverResponse = this.activateWithStoredConfig(userId, serverName);
+
+        synchronized (serverResponses)
+        {
+            serverResponses.put(serverName, serverResponse);
+        }
+
+        if (serverResponse.getRelatedHTTPCode() != 200)
+        {
+            throw new OMAGConfigurationErrorException(serverResponse.getRelatedHTTPCode(),
+                                                      this.getClass().getName(),
+                                                      methodName,
+                                                      serverResponse.getExceptionErrorMessage(),
+                                                      serverResponse.getExceptionErrorMessageId(),
+                                                      serverResponse.getExceptionErrorMessageParameters(),
+                                                      serverResponse.getExceptionSystemAction(),
+                                                      serverResponse.getExceptionUserAction(),
+                                                      serverResponse.getExceptionClassName(),
+                                                      serverResponse.getExceptionProperties());
+        }
+    }
+
+
+    /**
+     * Return the names of the servers that the stored configuration of a server says that it calls.
+     * These servers need to be running before this server starts.  If the configuration can not be retrieved,
+     * the error is logged, an empty set is returned and the error is reported again when the server is started.
+     *
+     * @param userId  user that is issuing the request
+     * @param serverName  server to check
+     * @param methodName calling method
+     * @return set of server names
+     */
+    private Set<String> getPartnerServerNames(String userId,
+                                              String serverName,
+                                              String methodName)
+    {
+        Set<String> partnerServerNames = new HashSet<>();
+
+        try
+        {
+            OMAGServerConfig configuration = configStore.getServerConfig(userId, serverName, methodName);
+
+            if (configuration != null)
+            {
+                List<OMAGServerClientConfig> clientConfigs = new ArrayList<>();
+
+                clientConfigs.add(configuration.getEngineHostServicesConfig());
+
+                if (configuration.getIntegrationServicesConfig() != null)
+                {
+                    clientConfigs.addAll(configuration.getIntegrationServicesConfig());
+                }
+
+                if (configuration.getViewServicesConfig() != null)
+                {
+                    clientConfigs.addAll(configuration.getViewServicesConfig());
+                }
+
+                for (OMAGServerClientConfig clientConfig : clientConfigs)
+                {
+                    if ((clientConfig != null) && (clientConfig.getOMAGServerName() != null))
+                    {
+                        partnerServerNames.add(clientConfig.getOMAGServerName());
+                    }
+                }
+
+                if ((configuration.getDataEngineProxyConfig() != null) &&
+                    (configuration.getDataEngineProxyConfig().getAccessServiceServerName() != null))
+                {
+                    partnerServerNames.add(configuration.getDataEngineProxyConfig().getAccessServiceServerName());
+                }
+            }
+        }
+        catch (Exception error)
+        {
+            /*
+             * activateWithStoredConfig returns the problem when the server is started.
+             */
+            log.warn("Unable to retrieve the configuration of server {} to find the servers that it calls; it will not wait for them to start",
+                     serverName,
+                     error);
+        }
+
+        partnerServerNames.remove(serverName);
+
+        return partnerServerNames;
+    }
+
+
     /**
      * Activate the open metadata and governance services using the stored configuration information.
      *
@@ -255,6 +416,7 @@ public class OMAGServerOperationalServices
              * (Even the governance servers need the audit log.)
              */
             OMRSOperationalServices         operationalRepositoryServices;
+            long                            subsystemStartTime = System.currentTimeMillis();
 
             operationalRepositoryServices = new OMRSOperationalServices(configuration.getLocalServerName(),
                                                                         configuration.getLocalServerType(),
@@ -312,10 +474,13 @@ public class OMAGServerOperationalServices
                  * This server is a source of metadata and is capable of joining an open metadata repository cohort.
                  */
                 operationalRepositoryServices.initializeCohortMember(configuration.getRepositoryServicesConfig());
+                this.recordStartupTiming(instance, CommonServicesDescription.REPOSITORY_SERVICES.getServiceName(), subsystemStartTime);
 
                 /*
                  * Set up the server instance - ensure it is active and the security has been set up correctly.
                  */
+                subsystemStartTime = System.currentTimeMillis();
+
                 OpenMetadataServerSecurityVerifier securityVerifier =
                         platformInstanceMap.startUpServerInstance(configuration.getLocalServerUserId(),
                                                                   serverName,
@@ -330,6 +495,7 @@ public class OMAGServerOperationalServices
                  * repository (if there is a local repository in this server).
                  */
                 operationalRepositoryServices.setSecurityVerifier(securityVerifier);
+                this.recordStartupTiming(instance, CommonServicesDescription.OPEN_METADATA_SECURITY.getServiceName(), subsystemStartTime);
 
                 /*
                  * Next initialize the Open Connector Framework (OCF) metadata services.  These services are only initialized
@@ -346,6 +512,8 @@ public class OMAGServerOperationalServices
                      */
                     OCFMetadataOperationalServices operationalOCFMetadataServices;
 
+                    subsystemStartTime = System.currentTimeMillis();
+
                     operationalOCFMetadataServices = new OCFMetadataOperationalServices(configuration.getLocalServerName(),
                                                                                         enterpriseRepositoryConnector,
                                                                                         operationalRepositoryServices.getAuditLog(
@@ -357,6 +525,7 @@ public class OMAGServerOperationalServices
                                                                                         configuration.getMaxPageSize());
 
                     instance.setOperationalOCFMetadataServices(operationalOCFMetadataServices);
+                    this.recordStartupTiming(instance, CommonServicesDescription.OCF_METADATA_MANAGEMENT.getServiceName(), subsystemStartTime);
                     activatedServiceList.add(CommonServicesDescription.OCF_METADATA_MANAGEMENT.getServiceName());
                 }
 
@@ -387,6 +556,8 @@ public class OMAGServerOperationalServices
                  */
                 if (ServerTypeClassification.CONFORMANCE_SERVER.equals(serverTypeClassification))
                 {
+                    subsystemStartTime = System.currentTimeMillis();
+
                     ConformanceSuiteOperationalServices
                             operationalConformanceSuiteServices = new ConformanceSuiteOperationalServices(configuration.getLocalServerName(),
                                                                                                           configuration.getLocalServerUserId(),
@@ -403,6 +574,7 @@ public class OMAGServerOperationalServices
                                                                            GovernanceServicesDescription.CONFORMANCE_SUITE_SERVICES.getServiceWiki()));
 
                     activatedServiceList.add(GovernanceServicesDescription.CONFORMANCE_SUITE_SERVICES.getServiceName());
+                    this.recordStartupTiming(instance, GovernanceServicesDescription.CONFORMANCE_SUITE_SERVICES.getServiceName(), subsystemStartTime);
                 }
 
                 /*
@@ -432,10 +604,12 @@ public class OMAGServerOperationalServices
                  * Set up the repository services REST API
                  */
                 operationalRepositoryServices.initializeViewServer(configuration.getRepositoryServicesConfig());
+                this.recordStartupTiming(instance, CommonServicesDescription.REPOSITORY_SERVICES.getServiceName(), subsystemStartTime);
 
                 /*
                  * Set up the server instance - ensure it is active and the security has been set up correctly.
                  */
+                subsystemStartTime = System.currentTimeMillis();
                 platformInstanceMap.startUpServerInstance(configuration.getLocalServerUserId(),
                                                           serverName,
                                                           operationalRepositoryServices.getAuditLog(
@@ -444,6 +618,7 @@ public class OMAGServerOperationalServices
                                                                   CommonServicesDescription.OPEN_METADATA_SECURITY.getServiceDescription(),
                                                                   CommonServicesDescription.OPEN_METADATA_SECURITY.getServiceWiki()),
                                                           configuration.getServerSecurityConnection());
+                this.recordStartupTiming(instance, CommonServicesDescription.OPEN_METADATA_SECURITY.getServiceName(), subsystemStartTime);
 
 
                 /*
@@ -464,6 +639,7 @@ public class OMAGServerOperationalServices
                  * Set up the repository services REST API
                  */
                 operationalRepositoryServices.initializeGovernanceServer(configuration.getRepositoryServicesConfig());
+                this.recordStartupTiming(instance, CommonServicesDescription.REPOSITORY_SERVICES.getServiceName(), subsystemStartTime);
 
                 /*
                  * Governance servers are varied in nature.  Many host connectors that exchange metadata with third party technologies.
@@ -473,6 +649,7 @@ public class OMAGServerOperationalServices
                  *
                  * Set up the server instance - ensure it is active and the security has been set up correctly.
                  */
+                subsystemStartTime = System.currentTimeMillis();
                 platformInstanceMap.startUpServerInstance(configuration.getLocalServerUserId(),
                                                           serverName,
                                                           operationalRepositoryServices.getAuditLog(
@@ -481,6 +658,7 @@ public class OMAGServerOperationalServices
                                                                   CommonServicesDescription.OPEN_METADATA_SECURITY.getServiceDescription(),
                                                                   CommonServicesDescription.OPEN_METADATA_SECURITY.getServiceWiki()),
                                                           configuration.getServerSecurityConnection());
+                this.recordStartupTiming(instance, CommonServicesDescription.OPEN_METADATA_SECURITY.getServiceName(), subsystemStartTime);
 
 
                 /*
@@ -494,12 +672,16 @@ public class OMAGServerOperationalServices
                                         OMAGAdminAuditCode.STARTING_GOVERNANCE_SERVICES.getMessageDefinition(serverTypeClassifier.getServerType().getServerTypeName(),
                                                                                                              serverName));
 
+                    subsystemStartTime = System.currentTimeMillis();
+
                     initializeGovernanceServices(instance,
                                                  configuration,
                                                  serverTypeClassification,
                                                  operationalRepositoryServices,
                                                  activatedServiceList);
 
+                    this.recordStartupTiming(instance, serverTypeClassification.getServerTypeName(), subsystemStartTime);
+
                     auditLog.logMessage(actionDescription,
                                         OMAGAdminAuditCode.GOVERNANCE_SERVICES_STARTED.getMessageDefinition(serverTypeClassifier.getServerType().getServerTypeName(),
                                                                                                             serverName));
@@ -649,12 +831,42 @@ public class OMAGServerOperationalServices
         {
             auditLog.logMessage(actionDescription, OMAGAdminAuditCode.STARTING_ACCESS_SERVICES.getMessageDefinition());
 
+            /*
+             * The access services share a cache of the anchors that they have derived for elements without the Anchors classification.
+             * It is kept up to date by the events from the cohort so it is only used when the enterprise topic connector is available.
+             */
+            if (enterpriseTopicConnector != null)
+            {
+                int anchorCacheSize = this.getAnchorCacheSize(accessServiceConfigList, auditLog);
+
+                if (anchorCacheSize > 0)
+                {
+                    AnchorCache anchorCache = new AnchorCache(anchorCacheSize, auditLog);
+
+                    enterpriseTopicConnector.registerListener(anchorCache,
+                                                              CommonServicesDescription.ADMIN_OPERATIONAL_SERVICES.getServiceName());
+                    AnchorCache.registerAnchorCache(serverName, anchorCache);
+
+                    auditLog.logMessage(actionDescription,
+                                        OMAGAdminAuditCode.ANCHOR_CACHE_STARTED.getMessageDefinition(serverName,
+                                                                                                     Integer.toString(anchorCacheSize)));
+                }
+                else
+                {
+                    auditLog.logMessage(actionDescription, OMAGAdminAuditCode.ANCHOR_CACHE_DISABLED.getMessageDefinition(serverName));
+                }
+            }
+
             /*
              * Need to count the access services because of the possibility of deprecated or disabled access services in the list.
              */
             int  configuredAccessServiceCount = 0;
             int  enabledAccessServiceCount = 0;
 
+            OMAGServerStartupOrchestrator orchestrator = new OMAGServerStartupOrchestrator(serverName + " access services", maxStartupThreads);
+            List<AccessServiceConfig>     startingAccessServiceConfigs = new ArrayList<>();
+            List<AccessServiceAdmin>      startingAccessServiceAdmins = new ArrayList<>();
+
             for (AccessServiceConfig  accessServiceConfig : accessServiceConfigList)
             {
                 /*
@@ -682,19 +894,24 @@ public class OMAGServerOperationalServices
                                                                                 accessServiceConfig.getAccessServiceFullName(),
                                                                                 accessServiceConfig.getAccessServiceDescription(),
                                                                                 accessServiceConfig.getAccessServiceWiki());
+                            OMRSRepositoryConnector enterpriseRepositoryConnector
+                                    = operationalRepositoryServices.getEnterpriseOMRSRepositoryConnector(accessServiceConfig.getAccessServiceFullName());
 
                             /*
-                             * We will switch to the new version of this method once all access services have move from using OMRSAuditLog to
-                             * AuditLog.  The default implementation of this method delegates to the new version of the method so
+                             * The access services are independent of one another so they are initialized in parallel.
                              */
-                            accessServiceAdmin.initialize(accessServiceConfig,
-                                                          enterpriseTopicConnector,
-                                                          operationalRepositoryServices.getEnterpriseOMRSRepositoryConnector(accessServiceConfig.getAccessServiceFullName()),
-                                                          accessServicesAuditLog,
-                                                          localServerUserId);
-                            operationalAccessServiceAdminList.add(accessServiceAdmin);
-                            activatedServiceList.add(accessServiceConfig.getAccessServiceFullName());
-
+                            orchestrator.addTask(accessServiceConfig.getAccessServiceFullName(),
+                                                 null,
+                                                 () -> this.initializeAccessService(accessServiceAdmin,
+                                                                                    accessServiceConfig,
+                                                                                    enterpriseTopicConnector,
+                                                                                    enterpriseRepositoryConnector,
+                                                                                    accessServicesAuditLog,
+                                                                                    localServerUserId,
+                                                                                    serverName,
+                                                                                    auditLog));
+                            startingAccessServiceConfigs.add(accessServiceConfig);
+                            startingAccessServiceAdmins.add(accessServiceAdmin);
                         }
                         catch (OMAGConfigurationErrorException error)
                         {
@@ -731,6 +948,33 @@ public class OMAGServerOperationalServices
                 }
             }
 
+            orchestrator.run();
+
+            /*
+             * The running access services are saved in the order they were configured so that they are shutdown in the same
+             * order as before, even if one of the other access services failed to start.
+             */
+            for (int i = 0; i < startingAccessServiceConfigs.size(); i++)
+            {
+                String accessServiceName = startingAccessServiceConfigs.get(i).getAccessServiceFullName();
+
+                if (orchestrator.getFailure(accessServiceName) == null)
+                {
+                    operationalAccessServiceAdminList.add(startingAccessServiceAdmins.get(i));
+                    activatedServiceList.add(accessServiceName);
+                }
+            }
+
+            this.recordStartupTimings(instance, orchestrator);
+
+            String failedAccessServiceName = orchestrator.getFirstFailedTask();
+
+            if (failedAccessServiceName != null)
+            {
+                instance.setOperationalAccessServiceAdminList(operationalAccessServiceAdminList);
+                throw this.getInitializationError(orchestrator.getFailure(failedAccessServiceName), serverName, failedAccessServiceName, methodName);
+            }
+
             auditLog.logMessage(actionDescription,
                                 OMAGAdminAuditCode.ALL_ACCESS_SERVICES_STARTED.getMessageDefinition(Integer.toString(enabledAccessServiceCount),
                                                                                                     Integer.toString(configuredAccessServiceCount)));
@@ -745,6 +989,71 @@ public class OMAGServerOperationalServices
 
 
 
+    /**
+     * Initialize a single access service.  This is called in parallel for each of the enabled access services.
+     *
+     * @param accessServiceAdmin admin object for the access service
+     * @param accessServiceConfig configuration for the access service
+     * @param enterpriseTopicConnector events from the cohort
+     * @param enterpriseRepositoryConnector connector to the cohort's metadata
+     * @param accessServicesAuditLog audit log for the access service
+     * @param localServerUserId servers userId
+     * @param serverName server name
+     * @param auditLog logging destination for the operational services
+     * @throws OMAGConfigurationErrorException the access service failed to start
+     */
+    @SuppressWarnings(value = "deprecation")
+    private void initializeAccessService(AccessServiceAdmin      accessServiceAdmin,
+                                         AccessServiceConfig     accessServiceConfig,
+                                         OMRSTopicConnector      enterpriseTopicConnector,
+                                         OMRSRepositoryConnector enterpriseRepositoryConnector,
+                                         OMRSAuditLog            accessServicesAuditLog,
+                                         String                  localServerUserId,
+                                         String                  serverName,
+                                         OMRSAuditLog            auditLog) throws OMAGConfigurationErrorException
+    {
+        final String methodName = "initializeAccessServices";
+
+        try
+        {
+            /*
+             * We will switch to the new version of this method once all access services have move from using OMRSAuditLog to
+             * AuditLog.  The default implementation of this method delegates to the new version of the method so
+             */
+            accessServiceAdmin.initialize(accessServiceConfig,
+                                          enterpriseTopicConnector,
+                                          enterpriseRepositoryConnector,
+                                          accessServicesAuditLog,
+                                          localServerUserId);
+        }
+        catch (OMAGConfigurationErrorException error)
+        {
+            auditLog.logException(methodName,
+                                  OMAGAdminAuditCode.ACCESS_SERVICE_INSTANCE_FAILURE.getMessageDefinition(accessServiceConfig.getAccessServiceName(),
+                                                                                                          error.getMessage()),
+                                  accessServiceConfig.toString(),
+                                  error);
+            throw error;
+        }
+        catch (Exception error)
+        {
+            auditLog.logException(methodName,
+                                  OMAGAdminAuditCode.ACCESS_SERVICE_INSTANCE_FAILURE.getMessageDefinition(error.getMessage(),
+                                                                                                          accessServiceConfig.getAccessServiceName(),
+                                                                                                          error.getMessage()),
+                                  accessServiceConfig.toString(),
+                                  error);
+
+            throw new OMAGConfigurationErrorException(OMAGAdminErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(serverName,
+                                                                                                                                  accessServiceConfig.getAccessServiceName(),
+                                                                                                                                  error.getMessage()),
+                                                      this.getClass().getName(),
+                                                      methodName,
+                                                      error);
+        }
+    }
+
+
     /**
      * Start up the view services.
      *
@@ -781,6 +1090,10 @@ public class OMAGServerOperationalServices
             int configuredViewServiceCount = 0;
             int enabledViewServiceCount = 0;
 
+            OMAGServerStartupOrchestrator orchestrator = new OMAGServerStartupOrchestrator(serverName + " view services", maxStartupThreads);
+            List<ViewServiceConfig>       startingViewServiceConfigs = new ArrayList<>();
+            List<ViewServiceAdmin>        startingViewServiceAdmins = new ArrayList<>();
+
             for (ViewServiceConfig viewServiceConfig : viewServiceConfigList)
             {
                 configuredViewServiceCount++;
@@ -802,14 +1115,20 @@ public class OMAGServerOperationalServices
                                                                             viewServiceConfig.getViewServiceDescription(),
                                                                             viewServiceConfig.getViewServiceWiki());
 
-                        viewServiceAdmin.initialize(serverName,
-                                                    viewServiceConfig,
-                                                    viewServicesAuditLog,
-                                                    localServerUserId,
-                                                    maxPageSize);
-                        operationalViewServiceAdminList.add(viewServiceAdmin);
-                        activatedServiceList.add(viewServiceConfig.getViewServiceFullName());
-
+                        /*
+                         * The view services are independent of one another so they are initialized in parallel.
+                         */
+                        orchestrator.addTask(viewServiceConfig.getViewServiceFullName(),
+                                             null,
+                                             () -> this.initializeViewService(viewServiceAdmin,
+                                                                              viewServiceConfig,
+                                                                              viewServicesAuditLog,
+                                                                              localServerUserId,
+                                                                              serverName,
+                                                                              maxPageSize,
+                                                                              auditLog));
+                        startingViewServiceConfigs.add(viewServiceConfig);
+                        startingViewServiceAdmins.add(viewServiceAdmin);
                     }
                     catch (OMAGConfigurationErrorException error)
                     {
@@ -846,6 +1165,29 @@ public class OMAGServerOperationalServices
 
             }
 
+            orchestrator.run();
+
+            for (int i = 0; i < startingViewServiceConfigs.size(); i++)
+            {
+                String viewServiceName = startingViewServiceConfigs.get(i).getViewServiceFullName();
+
+                if (orchestrator.getFailure(viewServiceName) == null)
+                {
+                    operationalViewServiceAdminList.add(startingViewServiceAdmins.get(i));
+                    activatedServiceList.add(viewServiceName);
+                }
+            }
+
+            this.recordStartupTimings(instance, orchestrator);
+
+            String failedViewServiceName = orchestrator.getFirstFailedTask();
+
+            if (failedViewServiceName != null)
+            {
+                instance.setOperationalViewServiceAdminList(operationalViewServiceAdminList);
+                throw this.getInitializationError(orchestrator.getFailure(failedViewServiceName), serverName, failedViewServiceName, methodName);
+            }
+
             auditLog.logMessage(actionDescription,
                                 OMAGAdminAuditCode.ALL_VIEW_SERVICES_STARTED.getMessageDefinition(Integer.toString(enabledViewServiceCount),
                                                                                                   Integer.toString(configuredViewServiceCount)));
@@ -859,6 +1201,190 @@ public class OMAGServerOperationalServices
     }
 
 
+    /**
+     * Initialize a single view service.  This is called in parallel for each of the enabled view services.
+     *
+     * @param viewServiceAdmin admin object for the view service
+     * @param viewServiceConfig configuration for the view service
+     * @param viewServicesAuditLog audit log for the view service
+     * @param localServerUserId servers userId
+     * @param serverName server name
+     * @param maxPageSize maximum page size. 0 means unlimited
+     * @param auditLog logging destination for the operational services
+     * @throws OMAGConfigurationErrorException the view service failed to start
+     */
+    private void initializeViewService(ViewServiceAdmin  viewServiceAdmin,
+                                       ViewServiceConfig viewServiceConfig,
+                                       OMRSAuditLog      viewServicesAuditLog,
+                                       String            localServerUserId,
+                                       String            serverName,
+                                       int               maxPageSize,
+                                       OMRSAuditLog      auditLog) throws OMAGConfigurationErrorException
+    {
+        final String methodName = "initializeViewServices";
+
+        try
+        {
+            viewServiceAdmin.initialize(serverName,
+                                        viewServiceConfig,
+                                        viewServicesAuditLog,
+                                        localServerUserId,
+                                        maxPageSize);
+        }
+        catch (OMAGConfigurationErrorException error)
+        {
+            auditLog.logException(methodName,
+                                  OMAGAdminAuditCode.VIEW_SERVICE_INSTANCE_FAILURE.getMessageDefinition(viewServiceConfig.getViewServiceName(),
+                                                                                                        error.getMessage()),
+                                  viewServiceConfig.toString(),
+                                  error);
+            throw error;
+        }
+        catch (Exception error)
+        {
+            auditLog.logException(methodName,
+                                  OMAGAdminAuditCode.VIEW_SERVICE_INSTANCE_FAILURE.getMessageDefinition(error.getMessage(),
+                                                                                                        viewServiceConfig.getViewServiceName(),
+                                                                                                        error.getMessage()),
+                                  viewServiceConfig.toString(),
+                                  error);
+
+            throw new OMAGConfigurationErrorException(OMAGAdminErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(serverName,
+                                                                                                                                  viewServiceConfig.getViewServiceName(),
+                                                                                                                                  error.getMessage()),
+                                                      this.getClass().getName(),
+                                                      methodName,
+                                                      error);
+        }
+    }
+
+
+    /**
+     * Return the exception to throw for a service that failed to initialize in parallel with the other services.
+     *
+     * @param failure exception returned from the orchestrator
+     * @param serverName server name
+     * @param serviceName name of the service that failed
+     * @param methodName calling method
+     * @return configuration error exception
+     */
+    private OMAGConfigurationErrorException getInitializationError(Exception failure,
+                                                                   String    serverName,
+                                                                   String    serviceName,
+                                                                   String    methodName)
+    {
+        if (failure instanceof OMAGConfigurationErrorException)
+        {
+            return (OMAGConfigurationErrorException) failure;
+        }
+
+        return new OMAGConfigurationErrorException(OMAGAdminErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(serverName,
+                                                                                                                               serviceName,
+                                                                                                                               failure.getMessage()),
+                                                   this.getClass().getName(),
+                                                   methodName,
+                                                   failure);
+    }
+
+
+    /**
+     * Save the time taken to start each of the services started by an orchestrator.
+     *
+     * @param instance server instance
+     * @param orchestrator orchestrator that started the services
+     */
+    private void recordStartupTimings(OMAGOperationalServicesInstance instance,
+                                      OMAGServerStartupOrchestrator   orchestrator)
+    {
+        for (Map.Entry<String, Long> timing : orchestrator.getTimings().entrySet())
+        {
+            instance.addStartupTiming(timing.getKey(), timing.getValue());
+        }
+    }
+
+
+    /**
+     * Save the time taken to start a subsystem that is started in sequence with the other subsystems.
+     *
+     * @param instance server instance
+     * @param subsystemName name of the subsystem
+     * @param startTime time that the subsystem started
+     */
+    private void recordStartupTiming(OMAGOperationalServicesInstance instance,
+                                     String                          subsystemName,
+                                     long                            startTime)
+    {
+        instance.addStartupTiming(subsystemName, System.currentTimeMillis() - startTime);
+    }
+
+
+    /**
+     * Return the number of elements held in the anchor cache shared by the access services.  Each enabled access service
+     * may set the AnchorCacheSize property in its options.  Since the cache is shared, the largest value is used.
+     * Zero turns the cache off.
+     *
+     * @param accessServiceConfigList configured access services
+     * @param auditLog logging destination
+     * @return maximum number of elements in the cache
+     * @throws OMAGConfigurationErrorException the property is not a number or is negative
+     */
+    private int getAnchorCacheSize(List<AccessServiceConfig> accessServiceConfigList,
+                                   OMRSAuditLog              auditLog) throws OMAGConfigurationErrorException
+    {
+        final String methodName = "getAnchorCacheSize";
+
+        int anchorCacheSize = -1;
+
+        for (AccessServiceConfig accessServiceConfig : accessServiceConfigList)
+        {
+            if ((accessServiceConfig != null) &&
+                (ServiceOperationalStatus.ENABLED.equals(accessServiceConfig.getAccessServiceOperationalStatus())) &&
+                (accessServiceConfig.getAccessServiceOptions() != null))
+            {
+                Object sizeObject = accessServiceConfig.getAccessServiceOptions().get(anchorCacheSizePropertyName);
+
+                if (sizeObject != null)
+                {
+                    try
+                    {
+                        int size = Integer.parseInt(sizeObject.toString());
+
+                        if (size < 0)
+                        {
+                            throw new NumberFormatException("The anchor cache size may not be negative");
+                        }
+
+                        anchorCacheSize = Math.max(anchorCacheSize, size);
+                    }
+                    catch (NumberFormatException error)
+                    {
+                        auditLog.logMessage(methodName,
+                                            OMAGAdminAuditCode.BAD_CONFIG_PROPERTY.getMessageDefinition(accessServiceConfig.getAccessServiceFullName(),
+                                                                                                        sizeObject.toString(),
+                                                                                                        anchorCacheSizePropertyName));
+
+                        throw new OMAGConfigurationErrorException(OMAGAdminErrorCode.BAD_CONFIG_PROPERTIES.getMessageDefinition(accessServiceConfig.getAccessServiceFullName(),
+                                                                                                                                sizeObject.toString(),
+                                                                                                                                anchorCacheSizePropertyName,
+                                                                                                                                error.getClass().getName(),
+                                                                                                                                error.getMessage()),
+                                                                  this.getClass().getName(),
+                                                                  methodName,
+                                                                  error);
+                    }
+                }
+            }
+        }
+
+        if (anchorCacheSize < 0)
+        {
+            return AnchorCache.getDefaultMaxCacheSize();
+        }
+
+        return anchorCacheSize;
+    }
+
+
     /**
      * Create an instance of the access service's admin class from the class name in the configuration.
      *
@@ -1184,6 +1710,8 @@ public class OMAGServerOperationalServices
                     }
                 }
 
+                AnchorCache.removeAnchorCache(serverName);
+
                 /*
                  * Shutdown the view services
                  */
@@ -1476,6 +2004,55 @@ public class OMAGServerOperationalServices
     }
 
 
+    /**
+     * Return the time in milliseconds that each subsystem of the running server took to start.  The access services and
+     * view services are started in parallel so the time taken to start them all is less than the sum of their timings.
+     *
+     * @param userId  user that is issuing the request
+     * @param serverName  local server name
+     * @return map of subsystem name to elapsed time or
+     * OMAGNotAuthorizedException the supplied userId is not authorized to issue this command or
+     * OMAGInvalidParameterException invalid serverName parameter.
+     */
+    public StartupTimingsResponse getStartupTimings(String userId,
+                                                    String serverName)
+    {
+        final String methodName = "getStartupTimings";
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+
+        StartupTimingsResponse response = new StartupTimingsResponse();
+
+        try
+        {
+            errorHandler.validateUserId(userId, serverName, methodName);
+
+            OMAGOperationalServicesInstance instance = instanceHandler.getServerServiceInstance(userId, serverName, methodName);
+
+            response.setStartupTimings(instance.getStartupTimings());
+        }
+        catch (InvalidParameterException error)
+        {
+            exceptionHandler.captureInvalidParameterException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            exceptionHandler.captureNotAuthorizedException(response, error);
+        }
+        catch (OMAGNotAuthorizedException error)
+        {
+            exceptionHandler.captureNotAuthorizedException(response, error);
+        }
+        catch (Exception error)
+        {
+            exceptionHandler.capturePlatformRuntimeException(serverName, methodName, response, error);
+        }
+
+        restCallLogger.logRESTCallReturn(token, response.toString());
+        return response;
+    }
+
+
     /**
      * Add a new open metadata archive to running repository.
      *
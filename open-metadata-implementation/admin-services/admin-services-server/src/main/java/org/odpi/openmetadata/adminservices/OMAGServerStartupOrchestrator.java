@@ -0,0 +1,345 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+
+/**
+ * OMAGServerStartupOrchestrator starts a set of servers or subsystems that are independent of one another
+ * apart from the dependencies declared when each task is added.  A task is started on a bounded pool of
+ * threads as soon as all of the tasks it depends on have completed.  If a task fails, the tasks that depend on it
+ * are not started and report the same failure.  Dependencies on tasks that are not part of this start up are
+ * ignored, and if the dependencies form a cycle the waiting tasks are started in the order that they were added.
+ *
+ * The time taken by each task that runs is recorded so it can be reported to the operator.
+ */
+class OMAGServerStartupOrchestrator
+{
+    private static final Logger log = LoggerFactory.getLogger(OMAGServerStartupOrchestrator.class);
+
+    /**
+     * The work to perform for a task.
+     */
+    interface StartupTask
+    {
+        /**
+         * Start the server or subsystem.
+         *
+         * @throws Exception any failure - it is returned from getFailure()
+         */
+        void start() throws Exception;
+    }
+
+
+    private final String                   orchestratorName;
+    private final int                      maxThreads;
+    private final Map<String, StartupTask> tasks        = new LinkedHashMap<>();
+    private final Map<String, Set<String>> dependencies = new HashMap<>();
+    private final Map<String, Exception>   failures     = new HashMap<>();
+    private final Map<String, Long>        timings      = new LinkedHashMap<>();
+
+
+    /**
+     * Constructor.
+     *
+     * @param orchestratorName name used for the threads and for logging
+     * @param maxThreads maximum number of tasks to run at once
+     */
+    OMAGServerStartupOrchestrator(String orchestratorName,
+                                  int    maxThreads)
+    {
+        this.orchestratorName = orchestratorName;
+        this.maxThreads = Math.max(1, maxThreads);
+    }
+
+
+    /**
+     * Add a task to start.
+     *
+     * @param taskName unique name of the task
+     * @param dependsOn names of the tasks that must complete before this task starts (may be null)
+     * @param task work to perform
+     */
+    void addTask(String      taskName,
+                 Set<String> dependsOn,
+                 StartupTask task)
+    {
+        tasks.put(taskName, task);
+        dependencies.put(taskName, (dependsOn == null) ? new HashSet<>() : new HashSet<>(dependsOn));
+    }
+
+
+    /**
+     * Run all of the tasks, returning when each has either completed, failed or been skipped because a
+     * task it depends on failed.
+     */
+    void run()
+    {
+        if (tasks.isEmpty())
+        {
+            return;
+        }
+
+        /*
+         * Remove the dependencies on tasks that are not being started.
+         */
+        for (Set<String> taskDependencies : dependencies.values())
+        {
+            taskDependencies.retainAll(tasks.keySet());
+        }
+
+        Map<String, StartupTask> waitingTasks = new LinkedHashMap<>(tasks);
+        Set<String>              finishedTasks = new HashSet<>();
+        int                      runningTasks = 0;
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(maxThreads, tasks.size()), runnable ->
+        {
+            Thread thread = new Thread(runnable, orchestratorName + " startup");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        CompletionService<String> completionService = new ExecutorCompletionService<>(executor);
+
+        try
+        {
+            while ((! waitingTasks.isEmpty()) || (runningTasks > 0))
+            {
+                List<String> readyTasks = this.getReadyTasks(waitingTasks, finishedTasks);
+
+                if (readyTasks.isEmpty() && (runningTasks == 0) && (! waitingTasks.isEmpty()))
+                {
+                    String nextTask = waitingTasks.keySet().iterator().next();
+
+                    log.debug("{} has a dependency cycle; starting {} anyway", orchestratorName, nextTask);
+                    readyTasks.add(nextTask);
+                }
+
+                for (String taskName : readyTasks)
+                {
+                    StartupTask task = waitingTasks.remove(taskName);
+
+                    completionService.submit(() -> this.runTask(taskName, task));
+                    runningTasks ++;
+                }
+
+                if (runningTasks > 0)
+                {
+                    Future<String> completedTask = completionService.take();
+
+                    runningTasks --;
+                    finishedTasks.add(completedTask.get());
+                }
+            }
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+            this.recordUnfinishedTasks(finishedTasks, error);
+        }
+        catch (ExecutionException error)
+        {
+            /*
+             * Not expected since runTask captures the task's exceptions.
+             */
+            this.recordUnfinishedTasks(finishedTasks, error);
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+
+    /**
+     * Return the list of waiting tasks whose dependencies have all completed.  Tasks that depend on a failed
+     * task are marked as finished with the failure of the task they depend on.
+     *
+     * @param waitingTasks tasks not yet started
+     * @param finishedTasks tasks that have completed, failed or been skipped
+     * @return list of task names
+     */
+    private List<String> getReadyTasks(Map<String, StartupTask> waitingTasks,
+                                       Set<String>              finishedTasks)
+    {
+        List<String> readyTasks = new ArrayList<>();
+        boolean      skippedTask;
+
+        do
+        {
+            skippedTask = false;
+
+            Iterator<String> waitingTaskNames = waitingTasks.keySet().iterator();
+
+            while (waitingTaskNames.hasNext())
+            {
+                String      taskName         = waitingTaskNames.next();
+                Set<String> taskDependencies = dependencies.get(taskName);
+                Exception   dependencyFailure = null;
+
+                for (String dependency : taskDependencies)
+                {
+                    if (failures.containsKey(dependency))
+                    {
+                        dependencyFailure = failures.get(dependency);
+                        break;
+                    }
+                }
+
+                if (dependencyFailure != null)
+                {
+                    log.debug("{} not starting {} since a task it depends on failed", orchestratorName, taskName);
+
+                    synchronized (failures)
+                    {
+                        failures.put(taskName, dependencyFailure);
+                    }
+
+                    finishedTasks.add(taskName);
+                    waitingTaskNames.remove();
+                    skippedTask = true;
+                }
+                else if ((finishedTasks.containsAll(taskDependencies)) && (! readyTasks.contains(taskName)))
+                {
+                    readyTasks.add(taskName);
+                }
+            }
+        } while (skippedTask);
+
+        return readyTasks;
+    }
+
+
+    /**
+     * Run a single task, recording its elapsed time and any failure.
+     *
+     * @param taskName name of the task
+     * @param task work to perform
+     * @return name of the task
+     */
+    private String runTask(String      taskName,
+                           StartupTask task)
+    {
+        long startTime = System.currentTimeMillis();
+
+        try
+        {
+            task.start();
+        }
+        catch (Exception error)
+        {
+            synchronized (failures)
+            {
+                failures.put(taskName, error);
+            }
+        }
+
+        synchronized (timings)
+        {
+            timings.put(taskName, System.currentTimeMillis() - startTime);
+        }
+
+        return taskName;
+    }
+
+
+    /**
+     * Record a failure for any task that did not finish because the start up was interrupted.
+     *
+     * @param finishedTasks tasks that have finished
+     * @param error cause of the interruption
+     */
+    private void recordUnfinishedTasks(Set<String> finishedTasks,
+                                       Exception   error)
+    {
+        synchronized (failures)
+        {
+            for (String taskName : tasks.keySet())
+            {
+                if ((! finishedTasks.contains(taskName)) && (! failures.containsKey(taskName)))
+                {
+                    failures.put(taskName, error);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return the exception from the task, or from the task it depends on that failed.
+     *
+     * @param taskName name of the task
+     * @return exception or null if the task completed successfully
+     */
+    Exception getFailure(String taskName)
+    {
+        synchronized (failures)
+        {
+            return failures.get(taskName);
+        }
+    }
+
+
+    /**
+     * Return the first task, in the order that the tasks were added, that failed or was not started because a task
+     * it depends on failed.  This is the same whichever order the tasks finished in.
+     *
+     * @return name of the task or null if all of the tasks completed successfully
+     */
+    String getFirstFailedTask()
+    {
+        synchronized (failures)
+        {
+            for (String taskName : tasks.keySet())
+            {
+                if (failures.containsKey(taskName))
+                {
+                    return taskName;
+                }
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the elapsed time in milliseconds of each task that ran, in the order that the tasks were added.
+     *
+     * @return map of task name to elapsed time
+     */
+    Map<String, Long> getTimings()
+    {
+        Map<String, Long> orderedTimings = new LinkedHashMap<>();
+
+        synchronized (timings)
+        {
+            for (String taskName : tasks.keySet())
+            {
+                if (timings.containsKey(taskName))
+                {
+                    orderedTimings.put(taskName, timings.get(taskName));
+                }
+            }
+        }
+
+        return orderedTimings;
+    }
+}
@@ -0,0 +1,223 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verify the order that the OMAGServerStartupOrchestrator starts its tasks in and how it handles failures.
+ */
+public class TestOMAGServerStartupOrchestrator
+{
+    private final List<String> startedTasks = Collections.synchronizedList(new ArrayList<>());
+
+
+    /**
+     * Return a task that records that it has started.
+     *
+     * @param taskName name of the task
+     * @return task
+     */
+    private OMAGServerStartupOrchestrator.StartupTask recordingTask(String taskName)
+    {
+        return () -> startedTasks.add(taskName);
+    }
+
+
+    /**
+     * Return a task that records that it has started and then fails.
+     *
+     * @param taskName name of the task
+     * @param failure exception to throw
+     * @return task
+     */
+    private OMAGServerStartupOrchestrator.StartupTask failingTask(String    taskName,
+                                                                  Exception failure)
+    {
+        return () ->
+        {
+            startedTasks.add(taskName);
+            throw failure;
+        };
+    }
+
+
+    /**
+     * Validate that each task starts after the tasks it depends on and that the timings are returned in the order
+     * that the tasks were added.
+     */
+    @Test
+    public void testDependenciesStartFirst()
+    {
+        OMAGServerStartupOrchestrator orchestrator = new OMAGServerStartupOrchestrator("test", 4);
+
+        orchestrator.addTask("viewServer", Collections.singleton("metadataAccessPoint"), recordingTask("viewServer"));
+        orchestrator.addTask("integrationDaemon", new HashSet<>(Arrays.asList("metadataAccessPoint", "viewServer")), recordingTask("integrationDaemon"));
+        orchestrator.addTask("metadataAccessPoint", null, recordingTask("metadataAccessPoint"));
+
+        orchestrator.run();
+
+        assertEquals(Arrays.asList("metadataAccessPoint", "viewServer", "integrationDaemon"), startedTasks);
+        assertEquals(Arrays.asList("viewServer", "integrationDaemon", "metadataAccessPoint"), new ArrayList<>(orchestrator.getTimings().keySet()));
+        assertNull(orchestrator.getFirstFailedTask());
+        assertNull(orchestrator.getFailure("viewServer"));
+    }
+
+
+    /**
+     * Validate that tasks that do not depend on one another run at the same time.  Each task waits until the other
+     * has started, so the test would time out if they ran one after the other.
+     */
+    @Test
+    public void testIndependentTasksRunInParallel()
+    {
+        OMAGServerStartupOrchestrator orchestrator = new OMAGServerStartupOrchestrator("test", 2);
+        CountDownLatch                bothStarted  = new CountDownLatch(2);
+
+        OMAGServerStartupOrchestrator.StartupTask task = () ->
+        {
+            bothStarted.countDown();
+
+            if (! bothStarted.await(10, TimeUnit.SECONDS))
+            {
+                throw new IllegalStateException("Tasks did not run in parallel");
+            }
+        };
+
+        orchestrator.addTask("server1", null, task);
+        orchestrator.addTask("server2", null, task);
+
+        orchestrator.run();
+
+        assertNull(orchestrator.getFirstFailedTask());
+        assertEquals(2, orchestrator.getTimings().size());
+    }
+
+
+    /**
+     * Validate that the tasks that depend, directly or indirectly, on a failed task are not started and report its
+     * failure, while independent tasks still run.
+     */
+    @Test
+    public void testDependentsOfAFailedTaskAreSkipped()
+    {
+        OMAGServerStartupOrchestrator orchestrator = new OMAGServerStartupOrchestrator("test", 4);
+        Exception                     failure      = new IllegalStateException("metadataAccessPoint failed");
+
+        orchestrator.addTask("metadataAccessPoint", null, failingTask("metadataAccessPoint", failure));
+        orchestrator.addTask("viewServer", Collections.singleton("metadataAccessPoint"), recordingTask("viewServer"));
+        orchestrator.addTask("integrationDaemon", Collections.singleton("viewServer"), recordingTask("integrationDaemon"));
+        orchestrator.addTask("engineHost", null, recordingTask("engineHost"));
+
+        orchestrator.run();
+
+        assertEquals(new HashSet<>(Arrays.asList("metadataAccessPoint", "engineHost")), new HashSet<>(startedTasks));
+        assertSame(failure, orchestrator.getFailure("metadataAccessPoint"));
+        assertSame(failure, orchestrator.getFailure("viewServer"));
+        assertSame(failure, orchestrator.getFailure("integrationDaemon"));
+        assertNull(orchestrator.getFailure("engineHost"));
+        assertEquals(Arrays.asList("metadataAccessPoint", "engineHost"), new ArrayList<>(orchestrator.getTimings().keySet()));
+    }
+
+
+    /**
+     * Validate that tasks in a dependency cycle are still started, in the order they were added, and that
+     * dependencies on tasks that are not being started are ignored.
+     */
+    @Test
+    public void testCycleFallsBackToTheOrderAdded()
+    {
+        OMAGServerStartupOrchestrator orchestrator = new OMAGServerStartupOrchestrator("test", 4);
+
+        orchestrator.addTask("server1", Collections.singleton("server2"), recordingTask("server1"));
+        orchestrator.addTask("server2", Collections.singleton("server1"), recordingTask("server2"));
+        orchestrator.addTask("server3", new HashSet<>(Arrays.asList("server2", "notListed")), recordingTask("server3"));
+
+        orchestrator.run();
+
+        assertEquals(Arrays.asList("server1", "server2", "server3"), startedTasks);
+        assertNull(orchestrator.getFirstFailedTask());
+    }
+
+
+    /**
+     * Validate that the first failure is the first failed task in the order the tasks were added, even when a
+     * later task fails first.
+     */
+    @Test
+    public void testFirstFailureIsInTheOrderAdded()
+    {
+        OMAGServerStartupOrchestrator orchestrator = new OMAGServerStartupOrchestrator("test", 2);
+        CountDownLatch                laterFailed  = new CountDownLatch(1);
+        Exception                     firstFailure = new IllegalStateException("server1 failed");
+        Exception                     laterFailure = new IllegalStateException("server2 failed");
+
+        orchestrator.addTask("server1", null, () ->
+        {
+            laterFailed.await(10, TimeUnit.SECONDS);
+            throw firstFailure;
+        });
+        orchestrator.addTask("server2", null, () ->
+        {
+            laterFailed.countDown();
+            throw laterFailure;
+        });
+        orchestrator.addTask("server3", null, recordingTask("server3"));
+
+        orchestrator.run();
+
+        assertEquals("server1", orchestrator.getFirstFailedTask());
+        assertSame(firstFailure, orchestrator.getFailure("server1"));
+        assertSame(laterFailure, orchestrator.getFailure("server2"));
+        assertNull(orchestrator.getFailure("server3"));
+    }
+
+
+    /**
+     * Validate that a task skipped because of a failure counts as failed in the order that it was added.
+     */
+    @Test
+    public void testSkippedTaskCountsAsFailed()
+    {
+        OMAGServerStartupOrchestrator orchestrator = new OMAGServerStartupOrchestrator("test", 2);
+        Exception                     failure      = new IllegalStateException("metadataAccessPoint failed");
+
+        orchestrator.addTask("viewServer", Collections.singleton("metadataAccessPoint"), recordingTask("viewServer"));
+        orchestrator.addTask("metadataAccessPoint", null, failingTask("metadataAccessPoint", failure));
+
+        orchestrator.run();
+
+        assertEquals("viewServer", orchestrator.getFirstFailedTask());
+        assertSame(failure, orchestrator.getFailure(orchestrator.getFirstFailedTask()));
+        assertTrue(orchestrator.getTimings().containsKey("metadataAccessPoint"));
+        assertEquals(1, orchestrator.getTimings().size());
+    }
+
+
+    /**
+     * Validate that an orchestrator with no tasks returns straight away.
+     */
+    @Test
+    public void testNoTasks()
+    {
+        OMAGServerStartupOrchestrator orchestrator = new OMAGServerStartupOrchestrator("test", 0);
+
+        orchestrator.run();
+
+        assertNull(orchestrator.getFirstFailedTask());
+        assertTrue(orchestrator.getTimings().isEmpty());
+    }
+}
@@ -8,6 +8,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.odpi.openmetadata.adminservices.OMAGServerOperationalServices;
 import org.odpi.openmetadata.adminservices.configuration.properties.OMAGServerConfig;
 import org.odpi.openmetadata.adminservices.rest.OMAGServerConfigResponse;
+import org.odpi.openmetadata.adminservices.rest.StartupTimingsResponse;
 import org.odpi.openmetadata.adminservices.rest.SuccessMessageResponse;
 import org.odpi.openmetadata.commonservices.ffdc.rest.VoidResponse;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
@@ -166,6 +167,28 @@ public class OperationalServicesResource
     }
 
 
+    /**
+     * Return the time in milliseconds that each subsystem of the running server took to start.
+     *
+     * @param userId  user that is issuing the request
+     * @param serverName  local server name
+     * @return map of subsystem name to elapsed time or
+     * OMAGNotAuthorizedException the supplied userId is not authorized to issue this command or
+     * OMAGInvalidParameterException the server name is invalid.
+     */
+    @GetMapping(path = "/instance/startup-timings")
+
+    @Operation(summary="Retrieve active server's startup timings",
+            description="Retrieve the time in milliseconds that each subsystem of a running server took to start.  " +
+                    "The access services and view services are started in parallel so their timings overlap.")
+
+    public StartupTimingsResponse getStartupTimings(@PathVariable String           userId,
+                                                    @PathVariable String           serverName)
+    {
+        return operationalServices.getStartupTimings(userId, serverName);
+    }
+
+
     /**
      * Add a new open metadata archive to running repository.
      *
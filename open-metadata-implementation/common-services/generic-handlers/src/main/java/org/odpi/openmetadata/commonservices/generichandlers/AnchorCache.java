@@ -0,0 +1,635 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.generichandlers;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * AnchorCache remembers the anchors that have been derived by walking the relationships of elements that do not have
+ * the Anchors classification.  There is one cache per server and it is shared by all of the handlers running in that
+ * server.  It is kept consistent by listening to the OMRS instance events that the server receives.  Only positive
+ * results are cached - an element with no anchor is re-evaluated each time because it may be attached to an anchor
+ * by a new relationship.
+ *
+ * The handlers also remove elements directly when they change their relationships or classifications, since the events
+ * for these changes arrive later.  Every removal increments a generation counter.  A handler reads the generation before
+ * it walks the relationships and the anchor it derives is only cached if nothing has been removed in the meantime.  This
+ * stops an anchor derived before a change from being cached after the change.
+ */
+public class AnchorCache extends OMRSTopicListenerBase
+{
+    private static final String anchorCacheServiceName = "Anchor Cache";
+    private static final int    defaultMaxCacheSize    = 10000;
+
+    private static final Map<String, AnchorCache> serverAnchorCaches = new HashMap<>();
+
+    private final Map<String, String>      anchorGUIDs;
+    private final Map<String, Set<String>> anchoredElements = new HashMap<>();
+    private final int                      maxCacheSize;
+    private long                           generation       = 0L;
+
+
+    /**
+     * Construct an anchor cache using the default size.
+     *
+     * @param auditLog logging destination
+     */
+    public AnchorCache(AuditLog auditLog)
+    {
+        this(defaultMaxCacheSize, auditLog);
+    }
+
+
+    /**
+     * Construct an anchor cache that holds up to the requested number of elements.  The least recently used elements
+     * are removed when the cache is full.
+     *
+     * @param maxCacheSize maximum number of elements to remember
+     * @param auditLog logging destination
+     */
+    public AnchorCache(int      maxCacheSize,
+                       AuditLog auditLog)
+    {
+        super(anchorCacheServiceName, auditLog);
+
+        this.maxCacheSize = maxCacheSize;
+        this.anchorGUIDs  = new LinkedHashMap<String, String>(16, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest)
+            {
+                if (size() > maxCacheSize)
+                {
+                    removeAnchoredElement(eldest.getValue(), eldest.getKey());
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+
+    /**
+     * Return the number of elements held by a cache constructed without a size.
+     *
+     * @return count
+     */
+    public static int getDefaultMaxCacheSize()
+    {
+        return defaultMaxCacheSize;
+    }
+
+
+    /**
+     * Return the maximum number of elements held by this cache.
+     *
+     * @return count
+     */
+    public int getMaxCacheSize()
+    {
+        return maxCacheSize;
+    }
+
+
+    /**
+     * Register the anchor cache for a server so that it is used by all of the handlers in the server.
+     *
+     * @param serverName name of the server
+     * @param anchorCache cache to use
+     */
+    public static void registerAnchorCache(String      serverName,
+                                           AnchorCache anchorCache)
+    {
+        synchronized (serverAnchorCaches)
+        {
+            serverAnchorCaches.put(serverName, anchorCache);
+        }
+    }
+
+
+    /**
+     * Remove the anchor cache for a server.  This is called when the server shuts down.
+     *
+     * @param serverName name of the server
+     */
+    public static void removeAnchorCache(String serverName)
+    {
+        synchronized (serverAnchorCaches)
+        {
+            serverAnchorCaches.remove(serverName);
+        }
+    }
+
+
+    /**
+     * Return the anchor cache for a server.
+     *
+     * @param serverName name of the server
+     * @return anchor cache or null if the server does not have one
+     */
+    public static AnchorCache getAnchorCache(String serverName)
+    {
+        synchronized (serverAnchorCaches)
+        {
+            return serverAnchorCaches.get(serverName);
+        }
+    }
+
+
+    /**
+     * Return the anchor previously derived for an element.
+     *
+     * @param elementGUID unique identifier of the element
+     * @return unique identifier of the anchor or null if not known
+     */
+    public synchronized String getAnchorGUID(String elementGUID)
+    {
+        return anchorGUIDs.get(elementGUID);
+    }
+
+
+    /**
+     * Return the generation of the cache.  It changes each time an element is removed.  The caller retrieves the generation
+     * before deriving an anchor and passes it to setAnchorGUID.
+     *
+     * @return generation counter
+     */
+    public synchronized long getGeneration()
+    {
+        return generation;
+    }
+
+
+    /**
+     * Remember the anchor derived for an element.  The anchor is ignored if any element has been removed from the cache since
+     * the generation was retrieved, because the change that caused the removal may have been made after the anchor was derived.
+     *
+     * @param elementGUID unique identifier of the element
+     * @param anchorGUID unique identifier of its anchor
+     * @param derivedGeneration generation of the cache retrieved before the anchor was derived
+     */
+    public synchronized void setAnchorGUID(String elementGUID,
+                                           String anchorGUID,
+                                           long   derivedGeneration)
+    {
+        if ((elementGUID != null) && (anchorGUID != null) && (derivedGeneration == generation))
+        {
+            String oldAnchorGUID = anchorGUIDs.put(elementGUID, anchorGUID);
+
+            if (oldAnchorGUID != null)
+            {
+                removeAnchoredElement(oldAnchorGUID, elementGUID);
+            }
+
+            anchoredElements.computeIfAbsent(anchorGUID, k -> new HashSet<>()).add(elementGUID);
+        }
+    }
+
+
+    /**
+     * Forget the anchor of an element.  This is used when the element's own relationships or classifications change.
+     *
+     * @param elementGUID unique identifier of the element
+     */
+    public synchronized void removeElement(String elementGUID)
+    {
+        if (elementGUID != null)
+        {
+            generation ++;
+
+            String anchorGUID = anchorGUIDs.remove(elementGUID);
+
+            if (anchorGUID != null)
+            {
+                removeAnchoredElement(anchorGUID, elementGUID);
+            }
+        }
+    }
+
+
+    /**
+     * Forget the anchor of an element, of all the elements that have it as their anchor and of all the elements that
+     * share its anchor.  This is used when the element is removed, or it is detached from the elements it is linked to.
+     * The elements that share its anchor are removed because they may have been anchored through the element - the
+     * cache does not record the relationships that each anchor was derived from.
+     *
+     * @param elementGUID unique identifier of the element
+     */
+    public synchronized void removeElementAndDependents(String elementGUID)
+    {
+        if (elementGUID != null)
+        {
+            String anchorGUID = anchorGUIDs.get(elementGUID);
+
+            this.removeElement(elementGUID);
+            this.removeAnchoredElements(elementGUID);
+
+            if (anchorGUID != null)
+            {
+                this.removeAnchoredElements(anchorGUID);
+            }
+        }
+    }
+
+
+    /**
+     * Forget the anchor of all the elements anchored to an anchor.
+     *
+     * @param anchorGUID unique identifier of the anchor
+     */
+    private void removeAnchoredElements(String anchorGUID)
+    {
+        Set<String> dependents = anchoredElements.remove(anchorGUID);
+
+        if (dependents != null)
+        {
+            for (String dependentGUID : dependents)
+            {
+                anchorGUIDs.remove(dependentGUID);
+            }
+        }
+    }
+
+
+    /**
+     * Return the number of elements in the cache.
+     *
+     * @return count
+     */
+    public synchronized int size()
+    {
+        return anchorGUIDs.size();
+    }
+
+
+    /**
+     * Maintain the reverse index from anchor to the elements anchored to it.
+     *
+     * @param anchorGUID unique identifier of the anchor
+     * @param elementGUID unique identifier of the element that is no longer cached
+     */
+    private void removeAnchoredElement(String anchorGUID,
+                                       String elementGUID)
+    {
+        Set<String> elements = anchoredElements.get(anchorGUID);
+
+        if (elements != null)
+        {
+            elements.remove(elementGUID);
+
+            if (elements.isEmpty())
+            {
+                anchoredElements.remove(anchorGUID);
+            }
+        }
+    }
+
+
+    /**
+     * Remove the element at each end of a relationship.
+     *
+     * @param relationship relationship that has changed
+     * @param includeDependents should the elements anchored to the ends also be removed?
+     */
+    public synchronized void removeRelationshipEnds(Relationship relationship,
+                                                    boolean      includeDependents)
+    {
+        if (relationship != null)
+        {
+            removeProxy(relationship.getEntityOneProxy(), includeDependents);
+            removeProxy(relationship.getEntityTwoProxy(), includeDependents);
+        }
+    }
+
+
+    /**
+     * Remove the element identified by an entity proxy.
+     *
+     * @param entityProxy proxy from a relationship
+     * @param includeDependents should the elements anchored to the entity also be removed?
+     */
+    private void removeProxy(EntityProxy entityProxy,
+                             boolean     includeDependents)
+    {
+        if (entityProxy != null)
+        {
+            if (includeDependents)
+            {
+                removeElementAndDependents(entityProxy.getGUID());
+            }
+            else
+            {
+                removeElement(entityProxy.getGUID());
+            }
+        }
+    }
+
+
+    /**
+     * Remove the element identified by an entity.
+     *
+     * @param entity entity from the event
+     * @param includeDependents should the elements anchored to the entity also be removed?
+     */
+    private void removeEntity(EntityDetail entity,
+                              boolean      includeDependents)
+    {
+        if (entity != null)
+        {
+            if (includeDependents)
+            {
+                removeElementAndDependents(entity.getGUID());
+            }
+            else
+            {
+                removeElement(entity.getGUID());
+            }
+        }
+    }
+
+
+    /*
+     * ==============================
+     * OMRS instance events
+     */
+
+    /**
+     * An existing entity has been updated.  The Anchors classification may have changed.
+     */
+    @Override
+    public void processUpdatedEntityEvent(String       sourceName,
+                                          String       originatorMetadataCollectionId,
+                                          String       originatorServerName,
+                                          String       originatorServerType,
+                                          String       originatorOrganizationName,
+                                          EntityDetail oldEntity,
+                                          EntityDetail newEntity)
+    {
+        removeEntity(newEntity, false);
+    }
+
+
+    /**
+     * An update to an entity has been undone.
+     */
+    @Override
+    public void processUndoneEntityEvent(String       sourceName,
+                                         String       originatorMetadataCollectionId,
+                                         String       originatorServerName,
+                                         String       originatorServerType,
+                                         String       originatorOrganizationName,
+                                         EntityDetail entity)
+    {
+        removeEntity(entity, false);
+    }
+
+
+    /**
+     * A new classification has been added to an entity.
+     */
+    @Override
+    public void processClassifiedEntityEvent(String         sourceName,
+                                             String         originatorMetadataCollectionId,
+                                             String         originatorServerName,
+                                             String         originatorServerType,
+                                             String         originatorOrganizationName,
+                                             EntityDetail   entity,
+                                             Classification classification)
+    {
+        removeEntity(entity, false);
+    }
+
+
+    /**
+     * A classification has been removed from an entity.
+     */
+    @Override
+    public void processDeclassifiedEntityEvent(String         sourceName,
+                                               String         originatorMetadataCollectionId,
+                                               String         originatorServerName,
+                                               String         originatorServerType,
+                                               String         originatorOrganizationName,
+                                               EntityDetail   entity,
+                                               Classification originalClassification)
+    {
+        removeEntity(entity, false);
+    }
+
+
+    /**
+     * An existing classification has been changed on an entity.
+     */
+    @Override
+    public void processReclassifiedEntityEvent(String         sourceName,
+                                               String         originatorMetadataCollectionId,
+                                               String         originatorServerName,
+                                               String         originatorServerType,
+                                               String         originatorOrganizationName,
+                                               EntityDetail   entity,
+                                               Classification originalClassification,
+                                               Classification classification)
+    {
+        removeEntity(entity, false);
+    }
+
+
+    /**
+     * An existing entity has been deleted.
+     */
+    @Override
+    public void processDeletedEntityEvent(String       sourceName,
+                                          String       originatorMetadataCollectionId,
+                                          String       originatorServerName,
+                                          String       originatorServerType,
+                                          String       originatorOrganizationName,
+                                          EntityDetail entity)
+    {
+        removeEntity(entity, true);
+    }
+
+
+    /**
+     * A deleted entity has been permanently removed from the repository.
+     */
+    @Override
+    public void processPurgedEntityEvent(String sourceName,
+                                         String originatorMetadataCollectionId,
+                                         String originatorServerName,
+                                         String originatorServerType,
+                                         String originatorOrganizationName,
+                                         String typeDefGUID,
+                                         String typeDefName,
+                                         String instanceGUID)
+    {
+        removeElementAndDependents(instanceGUID);
+    }
+
+
+    /**
+     * An active entity has been permanently removed from the repository.
+     */
+    @Override
+    public void processDeletePurgedEntityEvent(String       sourceName,
+                                               String       originatorMetadataCollectionId,
+                                               String       originatorServerName,
+                                               String       originatorServerType,
+                                               String       originatorOrganizationName,
+                                               EntityDetail entity)
+    {
+        removeEntity(entity, true);
+    }
+
+
+    /**
+     * A deleted entity has been restored to the state it was before it was deleted.
+     */
+    @Override
+    public void processRestoredEntityEvent(String       sourceName,
+                                           String       originatorMetadataCollectionId,
+                                           String       originatorServerName,
+                                           String       originatorServerType,
+                                           String       originatorOrganizationName,
+                                           EntityDetail entity)
+    {
+        removeEntity(entity, true);
+    }
+
+
+    /**
+     * The guid of an existing entity has been changed to a new value.
+     */
+    @Override
+    public void processReIdentifiedEntityEvent(String       sourceName,
+                                               String       originatorMetadataCollectionId,
+                                               String       originatorServerName,
+                                               String       originatorServerType,
+                                               String       originatorOrganizationName,
+                                               String       originalEntityGUID,
+                                               EntityDetail entity)
+    {
+        removeElementAndDependents(originalEntityGUID);
+        removeEntity(entity, true);
+    }
+
+
+    /**
+     * An existing entity has had its type changed.
+     */
+    @Override
+    public void processReTypedEntityEvent(String         sourceName,
+                                          String         originatorMetadataCollectionId,
+                                          String         originatorServerName,
+                                          String         originatorServerType,
+                                          String         originatorOrganizationName,
+                                          TypeDefSummary originalTypeDefSummary,
+                                          EntityDetail   entity)
+    {
+        removeEntity(entity, true);
+    }
+
+
+    /**
+     * A new relationship has been created.  The ends are re-evaluated but the elements anchored to them are unaffected.
+     */
+    @Override
+    public void processNewRelationshipEvent(String       sourceName,
+                                            String       originatorMetadataCollectionId,
+                                            String       originatorServerName,
+                                            String       originatorServerType,
+                                            String       originatorOrganizationName,
+                                            Relationship relationship)
+    {
+        removeRelationshipEnds(relationship, false);
+    }
+
+
+    /**
+     * An update to a relationship has been undone.
+     */
+    @Override
+    public void processUndoneRelationshipEvent(String       sourceName,
+                                               String       originatorMetadataCollectionId,
+                                               String       originatorServerName,
+                                               String       originatorServerType,
+                                               String       originatorOrganizationName,
+                                               Relationship relationship)
+    {
+        removeRelationshipEnds(relationship, true);
+    }
+
+
+    /**
+     * An existing relationship has been deleted.
+     */
+    @Override
+    public void processDeletedRelationshipEvent(String       sourceName,
+                                                String       originatorMetadataCollectionId,
+                                                String       originatorServerName,
+                                                String       originatorServerType,
+                                                String       originatorOrganizationName,
+                                                Relationship relationship)
+    {
+        removeRelationshipEnds(relationship, true);
+    }
+
+
+    /**
+     * An active relationship has been permanently removed from the repository.
+     */
+    @Override
+    public void processDeletePurgedRelationshipEvent(String       sourceName,
+                                                     String       originatorMetadataCollectionId,
+                                                     String       originatorServerName,
+                                                     String       originatorServerType,
+                                                     String       originatorOrganizationName,
+                                                     Relationship relationship)
+    {
+        removeRelationshipEnds(relationship, true);
+    }
+
+
+    /**
+     * A deleted relationship has been restored.
+     */
+    @Override
+    public void processRestoredRelationshipEvent(String       sourceName,
+                                                 String       originatorMetadataCollectionId,
+                                                 String       originatorServerName,
+                                                 String       originatorServerType,
+                                                 String       originatorOrganizationName,
+                                                 Relationship relationship)
+    {
+        removeRelationshipEnds(relationship, true);
+    }
+
+
+    /**
+     * An existing relationship has had its type changed.
+     */
+    @Override
+    public void processReTypedRelationshipEvent(String         sourceName,
+                                                String         originatorMetadataCollectionId,
+                                                String         originatorServerName,
+                                                String         originatorServerType,
+                                                String         originatorOrganizationName,
+                                                TypeDefSummary originalTypeDefSummary,
+                                                Relationship   relationship)
+    {
+        removeRelationshipEnds(relationship, true);
+    }
+}
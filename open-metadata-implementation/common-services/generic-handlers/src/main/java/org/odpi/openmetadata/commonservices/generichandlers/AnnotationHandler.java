@@ -11,6 +11,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterExceptio
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 
+import org.odpi.openmetadata.frameworks.discovery.ffdc.ODFErrorCode;
 import org.odpi.openmetadata.frameworks.discovery.properties.*;
 import org.odpi.openmetadata.metadatasecurity.server.OpenMetadataServerSecurityVerifier;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
@@ -488,6 +489,189 @@ public class AnnotationHandler<B> extends ReferenceableHandler<B>
     }
 
 
+    /**
+     * Add a batch of new annotations to the annotation store as top level annotations linked directly off of the report.
+     * The report is validated once for the whole batch.  The batch is not a transaction: if an annotation can not be
+     * added, the annotations before it remain linked to the report and can be retrieved from it.
+     *
+     * @param userId identifier of calling user
+     * @param discoveryReportGUID unique identifier of the discovery analysis report
+     * @param annotations list of annotation objects
+     * @param methodName calling method
+     * @return list of unique identifiers of the new annotations (in the same order as the annotations)
+     * @throws InvalidParameterException one of the annotations is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the annotations to the annotation store.
+     */
+    public  List<String>  addAnnotationsToDiscoveryReport(String           userId,
+                                                          String           discoveryReportGUID,
+                                                          List<Annotation> annotations,
+                                                          String           methodName) throws InvalidParameterException,
+                                                                                              UserNotAuthorizedException,
+                                                                                              PropertyServerException
+    {
+        final String annotationsParameterName = "annotations";
+        final String annotationParameterName = "annotation";
+        final String discoveryReportGUIDParameterName = "discoveryReportGUID";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateGUID(discoveryReportGUID, discoveryReportGUIDParameterName, methodName);
+        invalidParameterHandler.validateObject(annotations, annotationsParameterName, methodName);
+
+        for (Annotation annotation : annotations)
+        {
+            invalidParameterHandler.validateObject(annotation, annotationParameterName, methodName);
+        }
+
+        String assetGUID          = null;
+        EntityDetail anchorEntity = this.validateAnchorEntity(userId,
+                                                              discoveryReportGUID,
+                                                              discoveryReportGUIDParameterName,
+                                                              OpenMetadataAPIMapper.DISCOVERY_ANALYSIS_REPORT_TYPE_NAME,
+                                                              false,
+                                                              supportedZones,
+                                                              methodName);
+
+        if (anchorEntity != null)
+        {
+            assetGUID = anchorEntity.getGUID();
+        }
+
+        List<String> annotationGUIDs = new ArrayList<>();
+
+        for (Annotation annotation : annotations)
+        {
+            String annotationGUID = this.addNewAnnotation(userId, assetGUID, annotation, methodName);
+
+            if (annotationGUID != null)
+            {
+                this.linkElementToElement(userId,
+                                          null,
+                                          null,
+                                          annotationGUID,
+                                          annotationParameterName,
+                                          OpenMetadataAPIMapper.ANNOTATION_TYPE_NAME,
+                                          discoveryReportGUID,
+                                          discoveryReportGUIDParameterName,
+                                          OpenMetadataAPIMapper.DISCOVERY_ANALYSIS_REPORT_TYPE_NAME,
+                                          OpenMetadataAPIMapper.REPORT_TO_ANNOTATIONS_TYPE_GUID,
+                                          OpenMetadataAPIMapper.REPORT_TO_ANNOTATIONS_TYPE_NAME,
+                                          null,
+                                          methodName);
+            }
+
+            annotationGUIDs.add(annotationGUID);
+        }
+
+        return annotationGUIDs;
+    }
+
+
+    /**
+     * Add a batch of new annotations, each linked to an existing data field.  The annotation in each position of the
+     * annotations list is linked to the data field in the same position of the parentDataFieldGUIDs list.
+     * Each data field is validated once, however many of the annotations are linked to it.  The batch is not a
+     * transaction: if an annotation can not be added, the annotations before it remain linked to their data fields.
+     *
+     * @param userId identifier of calling user
+     * @param parentDataFieldGUIDs unique identifiers of the data fields that the new annotations are to be attached to
+     * @param annotations list of annotation objects
+     * @param methodName calling method
+     * @return list of unique identifiers of the new annotations (in the same order as the annotations)
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem saving annotations in the annotation store.
+     */
+    public List<String>  addAnnotationsToDataFields(String           userId,
+                                                    List<String>     parentDataFieldGUIDs,
+                                                    List<Annotation> annotations,
+                                                    String           methodName) throws InvalidParameterException,
+                                                                                        UserNotAuthorizedException,
+                                                                                        PropertyServerException
+    {
+        final String   dataFieldGUIDsParameterName = "parentDataFieldGUIDs";
+        final String   dataFieldGUIDParameterName = "parentDataFieldGUID";
+        final String   annotationsParameterName = "annotations";
+        final String   annotationParameterName = "annotation";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateObject(parentDataFieldGUIDs, dataFieldGUIDsParameterName, methodName);
+        invalidParameterHandler.validateObject(annotations, annotationsParameterName, methodName);
+
+        if (parentDataFieldGUIDs.size() != annotations.size())
+        {
+            throw new InvalidParameterException(ODFErrorCode.MISMATCHED_BATCH_LISTS.getMessageDefinition(methodName,
+                                                                                                         Integer.toString(parentDataFieldGUIDs.size()),
+                                                                                                         Integer.toString(annotations.size())),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                dataFieldGUIDsParameterName);
+        }
+
+        for (int i = 0; i < annotations.size(); i++)
+        {
+            invalidParameterHandler.validateGUID(parentDataFieldGUIDs.get(i), dataFieldGUIDParameterName, methodName);
+            invalidParameterHandler.validateObject(annotations.get(i), annotationParameterName, methodName);
+        }
+
+        /*
+         * Map from data field GUID to the GUID of its anchor asset (null if not anchored).
+         */
+        Map<String, String> validatedDataFields = new HashMap<>();
+        List<String>        annotationGUIDs     = new ArrayList<>();
+
+        for (int i = 0; i < annotations.size(); i++)
+        {
+            String parentDataFieldGUID = parentDataFieldGUIDs.get(i);
+
+            if (! validatedDataFields.containsKey(parentDataFieldGUID))
+            {
+                String       assetGUID    = null;
+                EntityDetail anchorEntity = this.validateAnchorEntity(userId,
+                                                                      parentDataFieldGUID,
+                                                                      dataFieldGUIDParameterName,
+                                                                      OpenMetadataAPIMapper.DATA_FIELD_TYPE_NAME,
+                                                                      false,
+                                                                      supportedZones,
+                                                                      methodName);
+
+                if (anchorEntity != null)
+                {
+                    assetGUID = anchorEntity.getGUID();
+                }
+
+                validatedDataFields.put(parentDataFieldGUID, assetGUID);
+            }
+
+            String annotationGUID = this.addNewAnnotation(userId,
+                                                          validatedDataFields.get(parentDataFieldGUID),
+                                                          annotations.get(i),
+                                                          methodName);
+
+            if (annotationGUID != null)
+            {
+                this.linkElementToElement(userId,
+                                          null,
+                                          null,
+                                          annotationGUID,
+                                          annotationParameterName,
+                                          OpenMetadataAPIMapper.DATA_FIELD_ANNOTATION_TYPE_NAME,
+                                          parentDataFieldGUID,
+                                          dataFieldGUIDParameterName,
+                                          OpenMetadataAPIMapper.DATA_FIELD_TYPE_NAME,
+                                          OpenMetadataAPIMapper.DATA_FIELD_ANALYSIS_TYPE_GUID,
+                                          OpenMetadataAPIMapper.DATA_FIELD_ANALYSIS_TYPE_NAME,
+                                          null,
+                                          methodName);
+            }
+
+            annotationGUIDs.add(annotationGUID);
+        }
+
+        return annotationGUIDs;
+    }
+
+
     /**
      * Add a new annotation and link it to an existing annotation.
      *
@@ -92,6 +92,20 @@ public class AssetHandler<B> extends ReferenceableHandler<B>
     }
 
 
+    /**
+     * Set up a new maintainer for the LatestChange classification in this handler and the handlers it uses.
+     *
+     * @param latestChangeMaintainer new maintainer
+     */
+    @Override
+    public void setLatestChangeMaintainer(LatestChangeMaintainer latestChangeMaintainer)
+    {
+        super.setLatestChangeMaintainer(latestChangeMaintainer);
+
+        connectionHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+    }
+
+
     /**
      * Return the list of asset subtype names.
      *
@@ -115,6 +115,21 @@ public class ConnectionHandler<B> extends ReferenceableHandler<B>
                                                                auditLog);
     }
 
+
+    /**
+     * Set up a new maintainer for the LatestChange classification in this handler and the handlers it uses.
+     *
+     * @param latestChangeMaintainer new maintainer
+     */
+    @Override
+    public void setLatestChangeMaintainer(LatestChangeMaintainer latestChangeMaintainer)
+    {
+        super.setLatestChangeMaintainer(latestChangeMaintainer);
+
+        endpointHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+        connectorTypeHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+    }
+
     
     /*
      * ========================================================
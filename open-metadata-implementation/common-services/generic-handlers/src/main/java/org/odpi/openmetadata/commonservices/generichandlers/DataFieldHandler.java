@@ -9,6 +9,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.metadatasecurity.server.OpenMetadataServerSecurityVerifier;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.discovery.properties.DataField;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
@@ -348,7 +349,6 @@ public class DataFieldHandler<B> extends OpenMetadataAPIGenericHandler<B>
                                                                        PropertyServerException
     {
         final String dataFieldNameParameterName = "dataFieldName";
-        final String dataFieldGUIDParameterName = "dataFieldGUID";
 
         invalidParameterHandler.validateUserId(userId, methodName);
         invalidParameterHandler.validateGUID(parentEntityGUID, parentEntityParameterName, methodName);
@@ -369,6 +369,77 @@ public class DataFieldHandler<B> extends OpenMetadataAPIGenericHandler<B>
             assetGUID = anchorEntity.getGUID();
         }
 
+        return this.createDataField(userId,
+                                    externalSourceGUID,
+                                    externalSourceName,
+                                    assetGUID,
+                                    parentEntityGUID,
+                                    parentEntityParameterName,
+                                    parentEntityType,
+                                    relationshipTypeGUID,
+                                    relationshipTypeName,
+                                    dataFieldPosition,
+                                    dataFieldName,
+                                    dataFieldType,
+                                    dataFieldDescription,
+                                    dataFieldAliases,
+                                    dataFieldSortOrder,
+                                    defaultValue,
+                                    additionalProperties,
+                                    methodName);
+    }
+
+
+    /**
+     * Create a new data field entity anchored to the asset and link it to its parent entity.  The parent entity
+     * has already been validated by the calling method.
+     *
+     * @param userId identifier of calling user
+     * @param externalSourceGUID unique identifier of the external source (null for local)
+     * @param externalSourceName unique name of the external source (null for local)
+     * @param assetGUID unique identifier of the anchor asset (null if not anchored)
+     * @param parentEntityGUID unique identifier of the entity that the new data field will be attached to
+     * @param parentEntityParameterName name of parameter supplying parentEntityGUID
+     * @param parentEntityType type of entity that the new data field will be attached to
+     * @param relationshipTypeGUID unique identifier of the type of relationship to the parent
+     * @param relationshipTypeName unique name of the type of relationship to the parent
+     * @param dataFieldPosition the position of the data field in the schema (if there is ordering of fields)
+     * @param dataFieldName the name of the data field
+     * @param dataFieldType the type of the data field
+     * @param dataFieldDescription a description of the data field
+     * @param dataFieldAliases any aliases associated with the data field
+     * @param dataFieldSortOrder any sort order
+     * @param defaultValue default value of the field
+     * @param additionalProperties any additional properties
+     * @param methodName calling method
+     * @return unique identifier of the data field
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem saving annotations in the annotation store.
+     */
+    private String createDataField(String              userId,
+                                   String              externalSourceGUID,
+                                   String              externalSourceName,
+                                   String              assetGUID,
+                                   String              parentEntityGUID,
+                                   String              parentEntityParameterName,
+                                   String              parentEntityType,
+                                   String              relationshipTypeGUID,
+                                   String              relationshipTypeName,
+                                   int                 dataFieldPosition,
+                                   String              dataFieldName,
+                                   String              dataFieldType,
+                                   String              dataFieldDescription,
+                                   List<String>        dataFieldAliases,
+                                   int                 dataFieldSortOrder,
+                                   String              defaultValue,
+                                   Map<String, String> additionalProperties,
+                                   String              methodName) throws InvalidParameterException,
+                                                                          UserNotAuthorizedException,
+                                                                          PropertyServerException
+    {
+        final String dataFieldGUIDParameterName = "dataFieldGUID";
+
         DataFieldBuilder builder = new DataFieldBuilder(dataFieldName,
                                                         dataFieldType,
                                                         dataFieldDescription,
@@ -484,6 +555,96 @@ public class DataFieldHandler<B> extends OpenMetadataAPIGenericHandler<B>
     }
 
 
+    /**
+     * Add a batch of new data fields to the Annotation store linked off of an annotation (typically SchemaAnalysisAnnotation).
+     * The annotation is validated once for the whole batch.  The batch is not a transaction: if a data field can not be
+     * added, the data fields before it remain linked to the annotation and can be retrieved from it.
+     *
+     * @param userId identifier of calling user
+     * @param externalSourceGUID unique identifier of the external source (null for local)
+     * @param externalSourceName unique name of the external source (null for local)
+     * @param annotationGUID unique identifier of the annotation that the data fields are to be linked to
+     * @param dataFields list of data field objects
+     * @param methodName calling method
+     * @return list of unique identifiers of the new data fields (in the same order as the data fields)
+     * @throws InvalidParameterException one of the dataFields is invalid or the annotation GUID points to an annotation
+     *                                   that can not be associated with a data field.
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem  adding the data fields to the Annotation store.
+     */
+    public List<String>  addDataFieldsToDiscoveryReport(String          userId,
+                                                        String          externalSourceGUID,
+                                                        String          externalSourceName,
+                                                        String          annotationGUID,
+                                                        List<DataField> dataFields,
+                                                        String          methodName) throws InvalidParameterException,
+                                                                                           UserNotAuthorizedException,
+                                                                                           PropertyServerException
+    {
+        final String annotationGUIDParameterName = "annotationGUID";
+        final String dataFieldsParameterName = "dataFields";
+        final String dataFieldParameterName = "dataField";
+        final String dataFieldNameParameterName = "dataField.getDataFieldName()";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateGUID(annotationGUID, annotationGUIDParameterName, methodName);
+        invalidParameterHandler.validateObject(dataFields, dataFieldsParameterName, methodName);
+
+        for (DataField dataField : dataFields)
+        {
+            invalidParameterHandler.validateObject(dataField, dataFieldParameterName, methodName);
+            invalidParameterHandler.validateName(dataField.getDataFieldName(), dataFieldNameParameterName, methodName);
+        }
+
+        String       assetGUID    = null;
+        EntityDetail anchorEntity = this.validateAnchorEntity(userId,
+                                                              annotationGUID,
+                                                              annotationGUIDParameterName,
+                                                              OpenMetadataAPIMapper.ANNOTATION_TYPE_NAME,
+                                                              false,
+                                                              supportedZones,
+                                                              methodName);
+
+        if (anchorEntity != null)
+        {
+            assetGUID = anchorEntity.getGUID();
+        }
+
+        List<String> dataFieldGUIDs = new ArrayList<>();
+
+        for (DataField dataField : dataFields)
+        {
+            int dataFieldSortOrder = 0;
+
+            if (dataField.getDataFieldSortOrder() != null)
+            {
+                dataFieldSortOrder = dataField.getDataFieldSortOrder().getOpenTypeOrdinal();
+            }
+
+            dataFieldGUIDs.add(this.createDataField(userId,
+                                                    externalSourceGUID,
+                                                    externalSourceName,
+                                                    assetGUID,
+                                                    annotationGUID,
+                                                    annotationGUIDParameterName,
+                                                    OpenMetadataAPIMapper.ANNOTATION_TYPE_NAME,
+                                                    OpenMetadataAPIMapper.DISCOVERED_DATA_FIELD_TYPE_GUID,
+                                                    OpenMetadataAPIMapper.DISCOVERED_DATA_FIELD_TYPE_NAME,
+                                                    dataField.getDataFieldPosition(),
+                                                    dataField.getDataFieldName(),
+                                                    dataField.getDataFieldType(),
+                                                    dataField.getDataFieldDescription(),
+                                                    dataField.getDataFieldAliases(),
+                                                    dataFieldSortOrder,
+                                                    dataField.getDefaultValue(),
+                                                    dataField.getAdditionalProperties(),
+                                                    methodName));
+        }
+
+        return dataFieldGUIDs;
+    }
+
+
     /**
      * Add a new data field and link it to an existing data field.
      *
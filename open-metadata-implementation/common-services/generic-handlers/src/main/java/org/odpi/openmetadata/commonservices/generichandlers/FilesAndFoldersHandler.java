@@ -213,6 +213,23 @@ public class FilesAndFoldersHandler<FILESYSTEM, FOLDER, FILE>
     }
 
 
+    /**
+     * Set up a new maintainer for the LatestChange classification in this handler and the handlers it uses.
+     *
+     * @param latestChangeMaintainer new maintainer
+     */
+    public void setLatestChangeMaintainer(LatestChangeMaintainer latestChangeMaintainer)
+    {
+        fileSystemHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+        folderHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+        fileHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+        connectionHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+        connectorTypeHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+        endpointHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+        schemaAttributeHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+    }
+
+
     /**
      * Return the URL header (if any) from a path name.
      *
@@ -0,0 +1,319 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.generichandlers;
+
+import org.odpi.openmetadata.commonservices.generichandlers.ffdc.GenericHandlersAuditCode;
+import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationOrigin;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.ClassificationErrorException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LatestChangeMaintainer is responsible for maintaining the LatestChange classification on anchor entities.
+ * It has two modes of operation.  In synchronous mode (coalescing interval of zero) the classification is
+ * updated as part of the caller's request.  In coalescing mode, changes to the same anchor are collected
+ * for the coalescing interval and only the latest one is written to the repository.  This avoids an update
+ * to the anchor (and the resulting cohort event) for every attachment change during bulk operations.
+ *
+ * Each handler starts with its own synchronous maintainer.  A coalescing maintainer is shared by the handlers of
+ * the access services that catalog metadata in bulk (Data Engine OMAS and Data Manager OMAS) when the
+ * LatestChangeCoalescingInterval option is set.  The other access services keep the synchronous behavior because
+ * their callers may retrieve the anchor straight after a change and expect to see its LatestChange classification.
+ */
+public class LatestChangeMaintainer
+{
+    private static final Logger log = LoggerFactory.getLogger(LatestChangeMaintainer.class);
+
+    private final String               serviceName;
+    private final String               serverName;
+    private final String               localServerUserId;
+    private final RepositoryHandler    repositoryHandler;
+    private final OMRSRepositoryHelper repositoryHelper;
+    private final AuditLog             auditLog;
+    private final long                 coalescingInterval;
+
+    private final Map<String, PendingLatestChange> pendingChanges = new HashMap<>();
+    private ScheduledExecutorService               scheduler      = null;
+
+
+    /**
+     * Construct a maintainer that updates the LatestChange classification synchronously.
+     *
+     * @param serviceName name of the calling service
+     * @param serverName name of the local server
+     * @param localServerUserId userId for this server
+     * @param repositoryHandler manages calls to the repository services
+     * @param repositoryHelper provides utilities for manipulating the repository services objects
+     * @param auditLog destination for audit log events
+     */
+    public LatestChangeMaintainer(String               serviceName,
+                                  String               serverName,
+                                  String               localServerUserId,
+                                  RepositoryHandler    repositoryHandler,
+                                  OMRSRepositoryHelper repositoryHelper,
+                                  AuditLog             auditLog)
+    {
+        this(serviceName, serverName, localServerUserId, repositoryHandler, repositoryHelper, auditLog, 0);
+    }
+
+
+    /**
+     * Construct a maintainer that coalesces the LatestChange updates for each anchor over the requested interval.
+     *
+     * @param serviceName name of the calling service
+     * @param serverName name of the local server
+     * @param localServerUserId userId for this server
+     * @param repositoryHandler manages calls to the repository services
+     * @param repositoryHelper provides utilities for manipulating the repository services objects
+     * @param auditLog destination for audit log events
+     * @param coalescingInterval number of milliseconds to collect changes for an anchor before updating it (0 means synchronous)
+     */
+    public LatestChangeMaintainer(String               serviceName,
+                                  String               serverName,
+                                  String               localServerUserId,
+                                  RepositoryHandler    repositoryHandler,
+                                  OMRSRepositoryHelper repositoryHelper,
+                                  AuditLog             auditLog,
+                                  long                 coalescingInterval)
+    {
+        this.serviceName        = serviceName;
+        this.serverName         = serverName;
+        this.localServerUserId  = localServerUserId;
+        this.repositoryHandler  = repositoryHandler;
+        this.repositoryHelper   = repositoryHelper;
+        this.auditLog           = auditLog;
+        this.coalescingInterval = coalescingInterval;
+
+        if (coalescingInterval > 0)
+        {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable ->
+                                                                        {
+                                                                            Thread thread = new Thread(runnable, "LatestChangeMaintainer:" + serverName);
+                                                                            thread.setDaemon(true);
+                                                                            return thread;
+                                                                        });
+        }
+    }
+
+
+    /**
+     * Return whether the maintainer is coalescing updates or processing them synchronously.
+     *
+     * @return boolean flag
+     */
+    public boolean isCoalescing()
+    {
+        return (scheduler != null) && (! scheduler.isShutdown());
+    }
+
+
+    /**
+     * Record the latest change for an anchor entity.
+     *
+     * @param anchorEntity the entity to update
+     * @param newProperties properties for the LatestChange classification
+     * @param methodName calling method
+     * @throws UserNotAuthorizedException local server user id not authorized to update latest change
+     * @throws PropertyServerException problem updating the repository
+     */
+    void maintainLatestChange(EntityDetail       anchorEntity,
+                              InstanceProperties newProperties,
+                              String             methodName) throws UserNotAuthorizedException,
+                                                                    PropertyServerException
+    {
+        if (! this.isCoalescing())
+        {
+            this.updateLatestChange(anchorEntity, newProperties, methodName);
+        }
+        else
+        {
+            String anchorGUID = anchorEntity.getGUID();
+
+            synchronized (pendingChanges)
+            {
+                /*
+                 * The flush is only scheduled for the first change in the window - later changes just replace the
+                 * properties that will be written.
+                 */
+                if (pendingChanges.put(anchorGUID, new PendingLatestChange(newProperties, methodName)) == null)
+                {
+                    scheduler.schedule(() -> this.flushLatestChange(anchorGUID), coalescingInterval, TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Write any LatestChange classifications that are waiting for their coalescing interval to complete.
+     */
+    public void flush()
+    {
+        List<String> anchorGUIDs;
+
+        synchronized (pendingChanges)
+        {
+            anchorGUIDs = new ArrayList<>(pendingChanges.keySet());
+        }
+
+        for (String anchorGUID : anchorGUIDs)
+        {
+            this.flushLatestChange(anchorGUID);
+        }
+    }
+
+
+    /**
+     * Stop coalescing and write out any pending changes.  Subsequent changes are processed synchronously.
+     */
+    public void shutdown()
+    {
+        if (scheduler != null)
+        {
+            scheduler.shutdownNow();
+        }
+
+        this.flush();
+    }
+
+
+    /**
+     * Write the pending LatestChange classification for an anchor.  Since the anchor may have changed since
+     * the update was queued, the existing classification is retrieved by the repository handler.
+     *
+     * @param anchorGUID unique identifier of the anchor entity
+     */
+    private void flushLatestChange(String anchorGUID)
+    {
+        final String actionDescription = "flushLatestChange";
+
+        PendingLatestChange pendingChange;
+
+        synchronized (pendingChanges)
+        {
+            pendingChange = pendingChanges.remove(anchorGUID);
+        }
+
+        if (pendingChange != null)
+        {
+            try
+            {
+                repositoryHandler.reclassifyEntity(localServerUserId,
+                                                   null,
+                                                   null,
+                                                   anchorGUID,
+                                                   OpenMetadataAPIMapper.LATEST_CHANGE_CLASSIFICATION_TYPE_GUID,
+                                                   OpenMetadataAPIMapper.LATEST_CHANGE_CLASSIFICATION_TYPE_NAME,
+                                                   null,
+                                                   pendingChange.properties,
+                                                   pendingChange.methodName);
+            }
+            catch (Exception error)
+            {
+                log.debug("Unable to update LatestChange classification on " + anchorGUID, error);
+
+                if (auditLog != null)
+                {
+                    auditLog.logException(actionDescription,
+                                          GenericHandlersAuditCode.UNABLE_TO_SET_LATEST_CHANGE.getMessageDefinition(serviceName,
+                                                                                                                    anchorGUID,
+                                                                                                                    serverName,
+                                                                                                                    pendingChange.methodName,
+                                                                                                                    error.getClass().getName(),
+                                                                                                                    error.getMessage()),
+                                          error);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Update the LatestChange classification in the repository as part of the caller's request.
+     *
+     * @param anchorEntity the entity to update
+     * @param newProperties properties for the LatestChange classification
+     * @param methodName calling method
+     * @throws UserNotAuthorizedException local server user id not authorized to update latest change
+     * @throws PropertyServerException problem updating the repository
+     */
+    private void updateLatestChange(EntityDetail       anchorEntity,
+                                    InstanceProperties newProperties,
+                                    String             methodName) throws UserNotAuthorizedException,
+                                                                          PropertyServerException
+    {
+        try
+        {
+            Classification classification = repositoryHelper.getClassificationFromEntity(serviceName,
+                                                                                         anchorEntity,
+                                                                                         OpenMetadataAPIMapper.LATEST_CHANGE_CLASSIFICATION_TYPE_NAME,
+                                                                                         methodName);
+            if (classification != null)
+            {
+                repositoryHandler.reclassifyEntity(localServerUserId,
+                                                   null,
+                                                   null,
+                                                   anchorEntity.getGUID(),
+                                                   OpenMetadataAPIMapper.LATEST_CHANGE_CLASSIFICATION_TYPE_GUID,
+                                                   OpenMetadataAPIMapper.LATEST_CHANGE_CLASSIFICATION_TYPE_NAME,
+                                                   classification,
+                                                   newProperties,
+                                                   methodName);
+            }
+        }
+        catch (ClassificationErrorException newClassificationNeeded)
+        {
+            /*
+             * This is not an error - it just means that the classification is not present on the anchor entity.
+             */
+            repositoryHandler.classifyEntity(localServerUserId,
+                                             null,
+                                             null,
+                                             anchorEntity.getGUID(),
+                                             OpenMetadataAPIMapper.LATEST_CHANGE_CLASSIFICATION_TYPE_GUID,
+                                             OpenMetadataAPIMapper.LATEST_CHANGE_CLASSIFICATION_TYPE_NAME,
+                                             ClassificationOrigin.ASSIGNED,
+                                             null,
+                                             newProperties,
+                                             methodName);
+        }
+        catch (InvalidParameterException error)
+        {
+            throw new PropertyServerException(error);
+        }
+    }
+
+
+    /**
+     * The properties to write for an anchor when its coalescing interval completes.
+     */
+    private static class PendingLatestChange
+    {
+        final InstanceProperties properties;
+        final String             methodName;
+
+        PendingLatestChange(InstanceProperties properties,
+                            String             methodName)
+        {
+            this.properties = properties;
+            this.methodName = methodName;
+        }
+    }
+}
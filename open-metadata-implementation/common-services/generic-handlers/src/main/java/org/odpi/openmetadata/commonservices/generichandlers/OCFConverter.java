@@ -762,7 +762,7 @@ public abstract class OCFConverter<B> extends OpenMetadataAPIGenericConverter<B>
          * The initial set of values come from the entity properties.  The super class properties are removed from a copy of the entities
          * properties, leaving any subclass properties to be stored in extended properties.
          */
-        InstanceProperties instanceProperties = new InstanceProperties(entity.getProperties());
+        InstanceProperties instanceProperties = super.getExtractedProperties(entity.getProperties(), OpenMetadataAPIMapper.CONNECTION_TYPE_NAME);
 
         connection.setQualifiedName(this.removeQualifiedName(instanceProperties));
         connection.setAdditionalProperties(this.removeAdditionalProperties(instanceProperties));
@@ -815,7 +815,7 @@ public abstract class OCFConverter<B> extends OpenMetadataAPIGenericConverter<B>
         /*
          * The initial set of values come from the entity.
          */
-        InstanceProperties instanceProperties = new InstanceProperties(entity.getProperties());
+        InstanceProperties instanceProperties = super.getExtractedProperties(entity.getProperties(), OpenMetadataAPIMapper.ENDPOINT_TYPE_NAME);
 
         endpoint.setQualifiedName(this.removeQualifiedName(instanceProperties));
         endpoint.setAdditionalProperties(this.removeAdditionalProperties(instanceProperties));
@@ -853,7 +853,7 @@ public abstract class OCFConverter<B> extends OpenMetadataAPIGenericConverter<B>
         /*
          * The initial set of values come from the entity.
          */
-        InstanceProperties instanceProperties = new InstanceProperties(entity.getProperties());
+        InstanceProperties instanceProperties = super.getExtractedProperties(entity.getProperties(), OpenMetadataAPIMapper.CONNECTOR_TYPE_TYPE_NAME);
 
         connectorType.setQualifiedName(this.removeQualifiedName(instanceProperties));
         connectorType.setAdditionalProperties(this.removeAdditionalProperties(instanceProperties));
@@ -1444,12 +1444,20 @@ public abstract class ODFConverter<B> extends OCFConverter<B>
 
         /*
          * The initial set of values come from the entity properties.  The super class properties are removed from a copy of the entities
-         * properties, leaving any subclass properties to be stored in extended properties.
+         * properties, leaving any subclass properties to be stored in extended properties.  The attributes of the entity's
+         * own type are extracted because the caller removes the attributes of the annotation subtype.
          */
         InstanceProperties instanceProperties = null;
         if (primaryEntity.getProperties() != null)
         {
-            instanceProperties = new InstanceProperties(primaryEntity.getProperties());
+            String actualTypeName = null;
+
+            if (primaryEntity.getType() != null)
+            {
+                actualTypeName = primaryEntity.getType().getTypeDefName();
+            }
+
+            instanceProperties = super.getExtractedProperties(primaryEntity.getProperties(), actualTypeName);
         }
 
         annotation.setAnnotationType(this.removeAnnotationType(instanceProperties));
@@ -1474,7 +1482,7 @@ public abstract class ODFConverter<B> extends OCFConverter<B>
 
                     if (repositoryHelper.isTypeOf(serviceName, actualTypeName, OpenMetadataAPIMapper.ANNOTATION_REVIEW_TYPE_NAME))
                     {
-                        InstanceProperties properties = new InstanceProperties(entity.getProperties());
+                        InstanceProperties properties = super.getExtractedProperties(entity.getProperties(), OpenMetadataAPIMapper.ANNOTATION_REVIEW_TYPE_NAME);
 
                         annotation.setReviewDate(this.removeReviewDate(properties));
                         annotation.setSteward(this.removeSteward(properties));
@@ -0,0 +1,119 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.generichandlers;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+
+import java.util.Iterator;
+import java.util.Set;
+
+
+/**
+ * OpenMetadataAPIExtractedProperties holds the attributes of an instance that is being converted into a bean.
+ * The attributes defined by the type that the converter expects are bound to this object in a single pass over
+ * the attribute names.  Any other properties, which are defined in a subtype, are left in the properties object
+ * that the converter retrieved from the instance.  The converter removes the attributes that it maps to the bean.
+ * The attributes it leaves are returned to the other properties, which become the extended properties of the bean.
+ */
+class OpenMetadataAPIExtractedProperties extends InstanceProperties
+{
+    private static final long    serialVersionUID = 1L;
+
+    /*
+     * Null when all of the properties are attributes of the expected type.
+     */
+    private InstanceProperties otherProperties = null;
+
+
+    /**
+     * Bind the attributes of the expected type from the supplied properties.  If there are other properties, the
+     * attributes are removed from the properties object, so it must be one that the converter owns, such as the
+     * copy returned by the instance's getter.  It is only copied if it is frozen.
+     *
+     * @param instanceProperties properties from the instance (may be null)
+     * @param attributeNames names of the attributes of the expected type - null means all of the properties are used
+     */
+    OpenMetadataAPIExtractedProperties(InstanceProperties instanceProperties,
+                                       Set<String>        attributeNames)
+    {
+        super();
+
+        if (instanceProperties != null)
+        {
+            super.setEffectiveFromTime(instanceProperties.getEffectiveFromTime());
+            super.setEffectiveToTime(instanceProperties.getEffectiveToTime());
+
+            if (attributeNames == null)
+            {
+                Iterator<String> propertyNames = instanceProperties.getPropertyNames();
+
+                while (propertyNames.hasNext())
+                {
+                    String propertyName = propertyNames.next();
+
+                    super.setProperty(propertyName, instanceProperties.getPropertyValue(propertyName));
+                }
+            }
+            else
+            {
+                for (String attributeName : attributeNames)
+                {
+                    InstancePropertyValue propertyValue = instanceProperties.getPropertyValue(attributeName);
+
+                    if (propertyValue != null)
+                    {
+                        super.setProperty(attributeName, propertyValue);
+                    }
+                }
+
+                /*
+                 * An instance of the expected type has no other properties, so its properties are left alone.
+                 */
+                if (super.getPropertyCount() < instanceProperties.getPropertyCount())
+                {
+                    otherProperties = instanceProperties;
+
+                    if (otherProperties.isFrozen())
+                    {
+                        otherProperties = new InstanceProperties(instanceProperties);
+                    }
+
+                    Iterator<String> boundAttributeNames = super.getPropertyNames();
+
+                    while (boundAttributeNames.hasNext())
+                    {
+                        otherProperties.setProperty(boundAttributeNames.next(), null);
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return the properties that are not attributes of the expected type along with the attributes that have not
+     * been removed by the converter.  The attributes are added to the other properties rather than both being
+     * copied into a new object, so this is only called once the converter has removed the attributes it maps.
+     *
+     * @return properties object
+     */
+    InstanceProperties getRemainingProperties()
+    {
+        if (otherProperties == null)
+        {
+            return this;
+        }
+
+        Iterator<String> attributeNames = super.getPropertyNames();
+
+        while (attributeNames.hasNext())
+        {
+            String attributeName = attributeNames.next();
+
+            otherProperties.setProperty(attributeName, super.getPropertyValue(attributeName));
+        }
+
+        return otherProperties;
+    }
+}
@@ -5,12 +5,18 @@ package org.odpi.openmetadata.commonservices.generichandlers;
 import org.odpi.openmetadata.commonservices.generichandlers.ffdc.GenericHandlersErrorCode;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 
 /**
@@ -27,6 +33,8 @@ public abstract class OpenMetadataAPIGenericConverter<B>
     protected String                 serviceName;
     protected String                 serverName;
 
+    private final Map<String, Set<String>> typeAttributeNames = Collections.synchronizedMap(new HashMap<>());
+
 
     /**
      * Constructor captures the initial content
@@ -684,6 +692,72 @@ public abstract class OpenMetadataAPIGenericConverter<B>
     }
 
 
+    /**
+     * Return the properties of an instance ready for the attributes of the expected type to be extracted into a bean.
+     * The attributes of the expected type are moved to the result in a single pass.  They can be removed with the
+     * remove methods without changing the instance.  The other properties are held back and returned from
+     * getRemainingExtendedProperties() along with any attributes that are not removed.  The supplied properties
+     * are changed rather than copied, so they must be the copy returned by the instance's getter.
+     *
+     * @param instanceProperties properties from the instance (may be null)
+     * @param expectedTypeName name of the type that the bean is built from
+     * @return properties object
+     */
+    protected InstanceProperties getExtractedProperties(InstanceProperties instanceProperties,
+                                                        String             expectedTypeName)
+    {
+        return new OpenMetadataAPIExtractedProperties(instanceProperties, this.getAttributeNames(expectedTypeName));
+    }
+
+
+    /**
+     * Return the names of the attributes defined by a type and its super types.  The names are cached since
+     * they only change when the type is updated.  If the cache is out of date, an attribute that has been added
+     * to the type is returned in the extended properties along with the other properties that are not removed.
+     *
+     * @param typeName name of the type
+     * @return set of attribute names or null if the type is not known
+     */
+    private Set<String> getAttributeNames(String typeName)
+    {
+        final String methodName = "getAttributeNames";
+
+        if (typeName == null)
+        {
+            return null;
+        }
+
+        Set<String> attributeNames = typeAttributeNames.get(typeName);
+
+        if (attributeNames == null)
+        {
+            TypeDef typeDef = repositoryHelper.getTypeDefByName(serviceName, typeName);
+
+            if (typeDef != null)
+            {
+                List<TypeDefAttribute> attributes = repositoryHelper.getAllPropertiesForTypeDef(serviceName, typeDef, methodName);
+
+                attributeNames = new HashSet<>();
+
+                if (attributes != null)
+                {
+                    for (TypeDefAttribute attribute : attributes)
+                    {
+                        if (attribute != null)
+                        {
+                            attributeNames.add(attribute.getAttributeName());
+                        }
+                    }
+                }
+
+                typeAttributeNames.put(typeName, attributeNames);
+            }
+        }
+
+        return attributeNames;
+    }
+
+
     /**
      * Convert the remaining properties into a map that is returned as the extended properties.
      *
@@ -692,7 +766,11 @@ public abstract class OpenMetadataAPIGenericConverter<B>
      */
     protected Map<String, Object> getRemainingExtendedProperties(InstanceProperties  instanceProperties)
     {
-        if (instanceProperties != null)
+        if (instanceProperties instanceof OpenMetadataAPIExtractedProperties)
+        {
+            return repositoryHelper.getInstancePropertiesAsMap(((OpenMetadataAPIExtractedProperties) instanceProperties).getRemainingProperties());
+        }
+        else if (instanceProperties != null)
         {
             return repositoryHelper.getInstancePropertiesAsMap(instanceProperties);
         }
@@ -48,6 +48,7 @@ public class OpenMetadataAPIGenericHandler<B>
     protected List<String>                       defaultZones;
 
     protected RepositoryErrorHandler             errorHandler;
+    protected LatestChangeMaintainer             latestChangeMaintainer;
 
     private static final Logger log = LoggerFactory.getLogger(OpenMetadataAPIGenericHandler.class);
 
@@ -118,6 +119,13 @@ public class OpenMetadataAPIGenericHandler<B>
 
         this.errorHandler            = new RepositoryErrorHandler(repositoryHelper, serviceName, serverName, auditLog);
 
+        this.latestChangeMaintainer  = new LatestChangeMaintainer(serviceName,
+                                                                  serverName,
+                                                                  localServerUserId,
+                                                                  repositoryHandler,
+                                                                  repositoryHelper,
+                                                                  auditLog);
+
         this.qualifiedNamePropertyNamesList = new ArrayList<>();
         this.qualifiedNamePropertyNamesList.add(OpenMetadataAPIMapper.QUALIFIED_NAME_PROPERTY_NAME);
     }
@@ -141,6 +149,22 @@ public class OpenMetadataAPIGenericHandler<B>
     }
 
 
+    /**
+     * Set up a new maintainer for the LatestChange classification (the handler updates the LatestChange
+     * classification synchronously until this method is called).  A single maintainer may be shared by
+     * many handlers so that changes to the same anchor through different handlers are coalesced together.
+     *
+     * @param latestChangeMaintainer new maintainer
+     */
+    public void setLatestChangeMaintainer(LatestChangeMaintainer latestChangeMaintainer)
+    {
+        if (latestChangeMaintainer != null)
+        {
+            this.latestChangeMaintainer = latestChangeMaintainer;
+        }
+    }
+
+
     /**
      * Return the list of supported zones for this asset.  This originates from the configuration of the access server.
      * but may be changed by the security verifier.
@@ -1938,6 +1962,8 @@ public class OpenMetadataAPIGenericHandler<B>
                                                            methodName);
                     }
                 }
+
+                this.removeFromAnchorCache(false, targetGUID);
             }
             catch (Exception   error)
             {
@@ -2720,6 +2746,101 @@ public class OpenMetadataAPIGenericHandler<B>
     }
 
 
+    /**
+     * Return the anchorGUID for an entity that does not have the Anchors classification.  The server's anchor cache is consulted
+     * first and the relationships are only walked if the anchor is not known.
+     *
+     * @param targetGUID unique identifier for the entity to test
+     * @param targetTypeName type of the entity to test
+     * @param methodName calling method
+     * @return anchorGUID or null
+     * @throws InvalidParameterException on of the properties is invalid which is suspicious since they have been validated earlier
+     * @throws UserNotAuthorizedException the local server userId does not have access to the repository instances
+     * @throws PropertyServerException something is wrong with the repository
+     */
+    private String deriveCachedAnchorGUID(String targetGUID,
+                                          String targetTypeName,
+                                          String methodName) throws InvalidParameterException,
+                                                                    UserNotAuthorizedException,
+                                                                    PropertyServerException
+    {
+        AnchorCache anchorCache = AnchorCache.getAnchorCache(serverName);
+        long        generation  = 0L;
+
+        if (anchorCache != null)
+        {
+            String anchorGUID = anchorCache.getAnchorGUID(targetGUID);
+
+            if (anchorGUID != null)
+            {
+                return anchorGUID;
+            }
+
+            /*
+             * Any change made while the relationships are being followed increments the generation so the
+             * anchor derived below is not cached.
+             */
+            generation = anchorCache.getGeneration();
+        }
+
+        String anchorGUID = this.deriveAnchorGUID(targetGUID, targetTypeName, methodName);
+
+        if (anchorCache != null)
+        {
+            anchorCache.setAnchorGUID(targetGUID, anchorGUID, generation);
+        }
+
+        return anchorGUID;
+    }
+
+
+    /**
+     * Remove elements from the server's anchor cache because this handler has changed their relationships,
+     * classifications or status.  The cache is also maintained from the events the server receives but these
+     * arrive some time after the change.
+     *
+     * @param includeDependents should the elements anchored to these elements also be removed?
+     * @param elementGUIDs unique identifiers of the changed elements
+     */
+    private void removeFromAnchorCache(boolean   includeDependents,
+                                       String... elementGUIDs)
+    {
+        AnchorCache anchorCache = AnchorCache.getAnchorCache(serverName);
+
+        if (anchorCache != null)
+        {
+            for (String elementGUID : elementGUIDs)
+            {
+                if (includeDependents)
+                {
+                    anchorCache.removeElementAndDependents(elementGUID);
+                }
+                else
+                {
+                    anchorCache.removeElement(elementGUID);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Remove the elements at each end of a relationship that this handler has removed from the server's anchor cache,
+     * along with the elements anchored to them.
+     *
+     * @param relationship relationship that has been removed
+     */
+    private void removeFromAnchorCache(Relationship relationship)
+    {
+        AnchorCache anchorCache = AnchorCache.getAnchorCache(serverName);
+
+        if ((anchorCache != null) && (relationship != null))
+        {
+            anchorCache.removeRelationshipEnds(relationship, true);
+        }
+    }
+
+
     /**
      * Validates that the current anchorGUID is correct and updates it if it is not.
      *
@@ -2899,6 +3020,61 @@ public class OpenMetadataAPIGenericHandler<B>
                                              String        methodName) throws InvalidParameterException,
                                                                               PropertyServerException,
                                                                               UserNotAuthorizedException
+    {
+        return this.validateAnchorEntity(userId,
+                                         connectToGUID,
+                                         connectToType,
+                                         connectToEntity,
+                                         connectToGUIDParameterName,
+                                         isUpdate,
+                                         suppliedSupportedZones,
+                                         null,
+                                         methodName);
+    }
+
+
+    /**
+     * Validates whether an operation is valid based on the type of entity it is connecting to, who the user is and whether it is a read or an
+     * update.
+     *
+     * The first part of this method is looking to see if the connectToEntity is an anchor entity. In which case it calls any specific validation
+     * for that entity and returns the connectToEntity, assuming all is ok - exceptions are thrown if the entity is not valid or the user does not
+     * have access to it.
+     *
+     * If the connectToEntity is of a type that has a lifecycle that is linked to the lifecycle of another entity - typically a referenceable -
+     * then that other entity is its anchor (examples are schema elements, comments, connections).  The anchor entity needs to be retrieved and
+     * validated.
+     *
+     * Some anchor entities have specific validation to perform.
+     *
+     * @param userId           userId of user making request.
+     * @param connectToGUID    unique id for the object to connect the attachment to
+     * @param connectToType    name of type of connectToEntity
+     * @param connectToEntity  entity retrieved from the repository
+     * @param connectToGUIDParameterName  name of the parameter that passed the connect to guid
+     * @param isUpdate         is this an update request?
+     * @param suppliedSupportedZones list of supported zones from the caller.
+     * @param zoneDecisions decisions about anchors already made for this request (or null to check the anchor again)
+     * @param methodName       calling method
+     *
+     * @return anchor entity or null if this entity is an anchor or does not have an anchor.  The anchor entity is used by the
+     * caller to set the LatestChange classification
+     *
+     * @throws InvalidParameterException one of the parameters is null or invalid.
+     * @throws PropertyServerException there is a problem accessing the properties in the repositories.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    EntityDetail validateAnchorEntity(String            userId,
+                                      String            connectToGUID,
+                                      String            connectToType,
+                                      EntityDetail      connectToEntity,
+                                      String            connectToGUIDParameterName,
+                                      boolean           isUpdate,
+                                      List<String>      suppliedSupportedZones,
+                                      ZoneDecisionCache zoneDecisions,
+                                      String            methodName) throws InvalidParameterException,
+                                                                           PropertyServerException,
+                                                                           UserNotAuthorizedException
     {
         invalidParameterHandler.validateObject(connectToEntity, connectToGUIDParameterName, methodName);
 
@@ -2962,9 +3138,11 @@ public class OpenMetadataAPIGenericHandler<B>
         if (anchorGUID == null)
         {
             /*
-             * The classification is missing - so walk the relationships to find the anchor if it exists.
+             * The classification is missing - so walk the relationships to find the anchor if it exists.  The result is cached because
+             * the classification may not be stored if the element is from another repository, or the local server user is not
+             * allowed to update it.
              */
-            anchorGUID = deriveAnchorGUID(connectToGUID, connectToEntity.getType().getTypeDefName(), methodName);
+            anchorGUID = deriveCachedAnchorGUID(connectToGUID, connectToEntity.getType().getTypeDefName(), methodName);
 
             if (anchorGUID != null)
             {
@@ -2979,20 +3157,96 @@ public class OpenMetadataAPIGenericHandler<B>
          * If an anchor GUID has been found then validate it by retrieving the identified entity.  Note - anchorGUID may be null if the connectToEntity
          * is actually an anchor.
          */
-        if (anchorGUID != null)
+        if ((anchorGUID != null) && (! anchorGUID.equals(connectToEntity.getGUID())))
         {
-            final String anchorGUIDParameterName = "anchorGUID";
+            final String validatedAnchorGUID = anchorGUID;
+            boolean      isFeedbackEntity    = this.isFeedbackEntity(connectToType);
 
-            if (! anchorGUID.equals(connectToEntity.getGUID()))
+            if (zoneDecisions == null)
             {
-                anchorEntity = repositoryHandler.getEntityByGUID(userId,
-                                                                 anchorGUID,
-                                                                 anchorGUIDParameterName,
-                                                                 OpenMetadataAPIMapper.REFERENCEABLE_TYPE_NAME,
-                                                                 methodName);
+                anchorEntity = this.validateAnchor(userId,
+                                                   connectToGUID,
+                                                   connectToGUIDParameterName,
+                                                   anchorGUID,
+                                                   isFeedbackEntity,
+                                                   isUpdate,
+                                                   suppliedSupportedZones,
+                                                   methodName);
+            }
+            else
+            {
+                anchorEntity = zoneDecisions.getAnchor(userId,
+                                                       anchorGUID,
+                                                       isFeedbackEntity,
+                                                       isUpdate,
+                                                       () -> this.validateAnchor(userId,
+                                                                                 connectToGUID,
+                                                                                 connectToGUIDParameterName,
+                                                                                 validatedAnchorGUID,
+                                                                                 isFeedbackEntity,
+                                                                                 isUpdate,
+                                                                                 suppliedSupportedZones,
+                                                                                 methodName));
             }
         }
 
+        return anchorEntity;
+    }
+
+
+    /**
+     * Return whether an element is one of the feedback types (informal tags, comments, ratings and likes) that
+     * have their own rules for attaching to assets.
+     *
+     * @param connectToType type name of the element
+     * @return boolean flag
+     */
+    private boolean isFeedbackEntity(String connectToType)
+    {
+        return (repositoryHelper.isTypeOf(serviceName, connectToType, OpenMetadataAPIMapper.INFORMAL_TAG_TYPE_NAME)) ||
+               (repositoryHelper.isTypeOf(serviceName, connectToType, OpenMetadataAPIMapper.COMMENT_TYPE_NAME)) ||
+               (repositoryHelper.isTypeOf(serviceName, connectToType, OpenMetadataAPIMapper.RATING_TYPE_NAME)) ||
+               (repositoryHelper.isTypeOf(serviceName, connectToType, OpenMetadataAPIMapper.LIKE_TYPE_NAME));
+    }
+
+
+    /**
+     * Retrieve the anchor of an element and perform any special processing on it.
+     *
+     * @param userId           userId of user making request.
+     * @param connectToGUID    unique id of the anchored element
+     * @param connectToGUIDParameterName  name of the parameter that passed the connect to guid
+     * @param anchorGUID       unique identifier of the anchor
+     * @param isFeedbackEntity is the anchored element a feedback element
+     * @param isUpdate         is this an update request?
+     * @param suppliedSupportedZones list of supported zones from the caller.
+     * @param methodName       calling method
+     *
+     * @return anchor entity
+     *
+     * @throws InvalidParameterException one of the parameters is null or invalid.
+     * @throws PropertyServerException there is a problem accessing the properties in the repositories.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    private EntityDetail validateAnchor(String       userId,
+                                        String       connectToGUID,
+                                        String       connectToGUIDParameterName,
+                                        String       anchorGUID,
+                                        boolean      isFeedbackEntity,
+                                        boolean      isUpdate,
+                                        List<String> suppliedSupportedZones,
+                                        String       methodName) throws InvalidParameterException,
+                                                                        PropertyServerException,
+                                                                        UserNotAuthorizedException
+    {
+        final String anchorGUIDParameterName = "anchorGUID";
+
+        EntityDetail anchorEntity = repositoryHandler.getEntityByGUID(userId,
+                                                                      anchorGUID,
+                                                                      anchorGUIDParameterName,
+                                                                      OpenMetadataAPIMapper.REFERENCEABLE_TYPE_NAME,
+                                                                      methodName);
+
         /*
          * Perform any special processing on the anchor entity
          */
@@ -3008,16 +3262,6 @@ public class OpenMetadataAPIGenericHandler<B>
                  */
                 if (OpenMetadataAPIMapper.ASSET_TYPE_NAME.equals(anchorEntityType.getTypeDefName()))
                 {
-                    boolean isFeedbackEntity = false;
-
-                    if ((repositoryHelper.isTypeOf(serviceName, connectToType, OpenMetadataAPIMapper.INFORMAL_TAG_TYPE_NAME)) ||
-                        (repositoryHelper.isTypeOf(serviceName, connectToType, OpenMetadataAPIMapper.COMMENT_TYPE_NAME)) ||
-                        (repositoryHelper.isTypeOf(serviceName, connectToType, OpenMetadataAPIMapper.RATING_TYPE_NAME)) ||
-                        (repositoryHelper.isTypeOf(serviceName, connectToType, OpenMetadataAPIMapper.LIKE_TYPE_NAME)))
-                    {
-                        isFeedbackEntity = true;
-                    }
-
                     this.validateUserForAssetAttachment(userId,
                                                         connectToGUID,
                                                         connectToGUIDParameterName,
@@ -3263,7 +3507,7 @@ public class OpenMetadataAPIGenericHandler<B>
     {
         final String  guidParameterName = "anchorEntity.getGUID()";
 
-        InstanceProperties newProperties = null;
+        InstanceProperties newProperties;
 
         try
         {
@@ -3278,44 +3522,13 @@ public class OpenMetadataAPIGenericHandler<B>
                                                                          userId,
                                                                          actionDescription,
                                                                          methodName);
-
-            Classification classification = repositoryHelper.getClassificationFromEntity(serviceName,
-                                                                                         anchorEntity,
-                                                                                         OpenMetadataAPIMapper.LATEST_CHANGE_CLASSIFICATION_TYPE_NAME,
-                                                                                         methodName);
-            if (classification != null)
-            {
-                repositoryHandler.reclassifyEntity(localServerUserId,
-                                                   null,
-                                                   null,
-                                                   anchorEntity.getGUID(),
-                                                   OpenMetadataAPIMapper.LATEST_CHANGE_CLASSIFICATION_TYPE_GUID,
-                                                   OpenMetadataAPIMapper.LATEST_CHANGE_CLASSIFICATION_TYPE_NAME,
-                                                   classification,
-                                                   newProperties,
-                                                   methodName);
-            }
-        }
-        catch (ClassificationErrorException newClassificationNeeded)
-        {
-            /*
-             * This is not an error - it just means that the classification is not present on the anchor entity.
-             */
-            repositoryHandler.classifyEntity(localServerUserId,
-                                             null,
-                                             null,
-                                             anchorEntity.getGUID(),
-                                             OpenMetadataAPIMapper.LATEST_CHANGE_CLASSIFICATION_TYPE_GUID,
-                                             OpenMetadataAPIMapper.LATEST_CHANGE_CLASSIFICATION_TYPE_NAME,
-                                             ClassificationOrigin.ASSIGNED,
-                                             null,
-                                             newProperties,
-                                             methodName);
         }
         catch (InvalidParameterException | TypeErrorException error)
         {
             throw new PropertyServerException(error);
         }
+
+        latestChangeMaintainer.maintainLatestChange(anchorEntity, newProperties, methodName);
     }
 
 
@@ -3575,6 +3788,8 @@ public class OpenMetadataAPIGenericHandler<B>
                                                          glossaryTermGUID,
                                                          null,
                                                          methodName);
+
+                    this.removeFromAnchorCache(false, glossaryGUID, elementGUID, glossaryTermGUID);
                 }
             }
             else
@@ -4605,6 +4820,8 @@ public class OpenMetadataAPIGenericHandler<B>
                                                  null,
                                                  methodName);
 
+            this.removeFromAnchorCache(false, templateProgress.newBeanGUID, templateGUID);
+
             return templateProgress.newBeanGUID;
         }
 
@@ -5418,6 +5635,8 @@ public class OpenMetadataAPIGenericHandler<B>
                                                  newStatus,
                                                  methodName);
 
+            this.removeFromAnchorCache(false, entityGUID);
+
             /*
              * Update is OK so record that it occurred in the LatestChange classification if there is an anchor entity.
              */
@@ -6029,6 +6248,8 @@ public class OpenMetadataAPIGenericHandler<B>
                                                  relationship,
                                                  methodName);
 
+            this.removeFromAnchorCache(relationship);
+
             this.deleteAnchoredEntity(anchorEntity,
                                       repositoryHandler.getOtherEnd(entityGUID,
                                                                     entityTypeName,
@@ -6052,6 +6273,8 @@ public class OpenMetadataAPIGenericHandler<B>
                                        validatingPropertyValue,
                                        methodName);
 
+        this.removeFromAnchorCache(true, entityGUID);
+
         /*
          * Update the LatestChange in the anchor entity if it is not the instance we have just deleted.
          */
@@ -7772,6 +7995,8 @@ public class OpenMetadataAPIGenericHandler<B>
         List<String>  duplicateEntities = new ArrayList<>();
         String        entityParameterName = "Entity from search of value " + name;
 
+        ZoneDecisionCache zoneDecisions = new ZoneDecisionCache(userId);
+
         while (iterator.moreToReceive() && ((queryPageSize == 0) || (duplicateEntities.size() < queryPageSize)))
         {
             EntityDetail entity = iterator.getNext();
@@ -7789,6 +8014,7 @@ public class OpenMetadataAPIGenericHandler<B>
                                          entityParameterName,
                                          false,
                                          serviceSupportedZones,
+                                         zoneDecisions,
                                          methodName);
 
                     /*
@@ -7921,6 +8147,8 @@ public class OpenMetadataAPIGenericHandler<B>
         List<String> duplicateEntities = new ArrayList<>();
         String       entityParameterName = "Entity from search of value " + name;
 
+        ZoneDecisionCache zoneDecisions = new ZoneDecisionCache(userId);
+
         while (iterator.moreToReceive() && ((queryPageSize == 0) || (duplicateEntities.size() < queryPageSize)))
         {
             EntityDetail entity = iterator.getNext();
@@ -7938,6 +8166,7 @@ public class OpenMetadataAPIGenericHandler<B>
                                          entityParameterName,
                                          false,
                                          serviceSupportedZones,
+                                         zoneDecisions,
                                          methodName);
 
                     /*
@@ -8709,6 +8938,8 @@ public class OpenMetadataAPIGenericHandler<B>
         String entityParameterName = "Entity of type" + resultTypeName;
         int skippedValues = 0;
 
+        ZoneDecisionCache zoneDecisions = new ZoneDecisionCache(userId);
+
         while (iterator.moreToReceive() && ((queryPageSize == 0) || (results.size() < queryPageSize)))
         {
             EntityDetail entity = iterator.getNext();
@@ -8724,6 +8955,7 @@ public class OpenMetadataAPIGenericHandler<B>
                                          entityParameterName,
                                          false,
                                          serviceSupportedZones,
+                                         zoneDecisions,
                                          methodName);
 
                     boolean beanArchived = false;
@@ -9136,6 +9368,8 @@ public class OpenMetadataAPIGenericHandler<B>
         List<EntityDetail> results = new ArrayList<>();
         int                skippedValues = 0;
 
+        ZoneDecisionCache zoneDecisions = new ZoneDecisionCache(userId);
+
         while (iterator.moreToReceive() && ((queryPageSize == 0) || (results.size() < queryPageSize)))
         {
             EntityDetail entity = iterator.getNext();
@@ -9153,6 +9387,7 @@ public class OpenMetadataAPIGenericHandler<B>
                                          entityParameterName,
                                          false,
                                          serviceSupportedZones,
+                                         zoneDecisions,
                                          methodName);
 
 
@@ -9597,6 +9832,8 @@ public class OpenMetadataAPIGenericHandler<B>
         String   entityParameterName = "Entity from createdBy search of " + searchString;
         int      skippedValues = 0;
 
+        ZoneDecisionCache zoneDecisions = new ZoneDecisionCache(userId);
+
         while (iterator.moreToReceive() && ((queryPageSize == 0) || (results.size() < queryPageSize)))
         {
             EntityDetail entity = iterator.getNext();
@@ -9617,6 +9854,7 @@ public class OpenMetadataAPIGenericHandler<B>
                                              entityParameterName,
                                              false,
                                              serviceSupportedZones,
+                                             zoneDecisions,
                                              methodName);
 
                         boolean beanArchived = false;
@@ -9853,6 +10091,8 @@ public class OpenMetadataAPIGenericHandler<B>
         String       entityParameterName = "Entity of type" + resultTypeName;
         int          skippedValues = 0;
 
+        ZoneDecisionCache zoneDecisions = new ZoneDecisionCache(userId);
+
         while (iterator.moreToReceive() && ((queryPageSize == 0) || (results.size() < queryPageSize)))
         {
             EntityDetail entity = iterator.getNext();
@@ -9868,6 +10108,7 @@ public class OpenMetadataAPIGenericHandler<B>
                                          entityParameterName,
                                          false,
                                          serviceSupportedZones,
+                                         zoneDecisions,
                                          methodName);
 
                     /*
@@ -10161,6 +10402,8 @@ public class OpenMetadataAPIGenericHandler<B>
                                                                          relationshipProperties,
                                                                          methodName);
 
+        this.removeFromAnchorCache(false, startingGUID, attachingGUID);
+
         /*
          * Final stage is to add the latest change classification to the anchor(s).
          * The act of creating the relationship may set up the anchor GUID in either element.
@@ -10781,6 +11024,8 @@ public class OpenMetadataAPIGenericHandler<B>
                                                  externalSourceName,
                                                  relationship,
                                                  methodName);
+
+            this.removeFromAnchorCache(relationship);
         }
 
 
@@ -10797,6 +11042,8 @@ public class OpenMetadataAPIGenericHandler<B>
                                              relationshipProperties,
                                              methodName);
 
+        this.removeFromAnchorCache(false, startingGUID, newAttachingGUID);
+
 
         /*
          * Set up LatestChange classification if there are any anchor entities returned from the initial validation.
@@ -11203,6 +11450,8 @@ public class OpenMetadataAPIGenericHandler<B>
                                                          externalSourceName,
                                                          relationship,
                                                          methodName);
+
+                    this.removeFromAnchorCache(relationship);
                 }
             }
             else
@@ -139,6 +139,21 @@ public class ProcessHandler<PROCESS, PORT, DATA_FLOW, CONTROL_FLOW, PROCESS_CALL
     }
 
 
+    /**
+     * Set up a new maintainer for the LatestChange classification in this handler and the handlers it uses.
+     *
+     * @param latestChangeMaintainer new maintainer
+     */
+    @Override
+    public void setLatestChangeMaintainer(LatestChangeMaintainer latestChangeMaintainer)
+    {
+        super.setLatestChangeMaintainer(latestChangeMaintainer);
+
+        processHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+        portHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+    }
+
+
     /* =====================================================================================================================
      * A process describes a well defined series of steps that gets something done.
      */
@@ -183,6 +183,21 @@ public class RelationalDataHandler<DATABASE,
     }
 
 
+    /**
+     * Set up a new maintainer for the LatestChange classification in this handler and the handlers it uses.
+     *
+     * @param latestChangeMaintainer new maintainer
+     */
+    public void setLatestChangeMaintainer(LatestChangeMaintainer latestChangeMaintainer)
+    {
+        databaseHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+        databaseSchemaHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+        databaseTableHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+        databaseViewHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+        databaseColumnHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+    }
+
+
     /* ========================================================
      * The database is the top level asset on a database server
      */
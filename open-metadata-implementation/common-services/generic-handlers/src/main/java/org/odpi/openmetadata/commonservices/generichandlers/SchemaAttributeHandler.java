@@ -100,6 +100,20 @@ public class SchemaAttributeHandler<SCHEMA_ATTRIBUTE, SCHEMA_TYPE> extends Schem
     }
 
 
+    /**
+     * Set up a new maintainer for the LatestChange classification in this handler and the handlers it uses.
+     *
+     * @param latestChangeMaintainer new maintainer
+     */
+    @Override
+    public void setLatestChangeMaintainer(LatestChangeMaintainer latestChangeMaintainer)
+    {
+        super.setLatestChangeMaintainer(latestChangeMaintainer);
+
+        schemaTypeHandler.setLatestChangeMaintainer(latestChangeMaintainer);
+    }
+
+
     /**
      * Create a new metadata element to represent a schema attribute using an existing metadata element as a template.
      * The template defines additional classifications and relationships that should be added to the new schema attribute.
@@ -0,0 +1,137 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.generichandlers;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ZoneDecisionCache remembers the decisions made about the anchors of the elements returned by a query.  The elements
+ * returned by a query often share the same anchor.  Checking an anchor means retrieving it and validating its zones
+ * (and the security verifier's view of it) for the calling user.  With the cache, each anchor is only retrieved and
+ * checked once per query.
+ *
+ * A new cache is created for each request, so it only holds the decisions for one user and one set of supported zones,
+ * and a decision is never reused after the request completes.
+ */
+class ZoneDecisionCache
+{
+    /**
+     * Validates an anchor for the calling user.
+     */
+    interface AnchorValidator
+    {
+        /**
+         * Retrieve and validate the anchor.
+         *
+         * @return anchor entity
+         * @throws InvalidParameterException the anchor is not visible to the user
+         * @throws PropertyServerException there is a problem retrieving the anchor
+         * @throws UserNotAuthorizedException the user is not allowed to see the anchor
+         */
+        EntityDetail validate() throws InvalidParameterException,
+                                       PropertyServerException,
+                                       UserNotAuthorizedException;
+    }
+
+
+    private final String                    userId;
+    private final Map<String, EntityDetail> permittedAnchors = new HashMap<>();
+    private final Map<String, Exception>    rejectedAnchors  = new HashMap<>();
+
+
+    /**
+     * Create a cache for a single request.
+     *
+     * @param userId calling user
+     */
+    ZoneDecisionCache(String userId)
+    {
+        this.userId = userId;
+    }
+
+
+    /**
+     * Return the anchor entity if it is visible to the user.  The validator is only called the first time an anchor is
+     * checked in the same way.  After that, the earlier result is returned, or the earlier exception is thrown again.
+     *
+     * @param userId calling user
+     * @param anchorGUID unique identifier of the anchor
+     * @param isFeedbackEntity is the element being checked a feedback element (these have their own checks)
+     * @param isUpdate is the element being checked for an update
+     * @param validator retrieves and validates the anchor if there is no decision yet
+     * @return anchor entity
+     * @throws InvalidParameterException the anchor is not visible to the user
+     * @throws PropertyServerException there is a problem retrieving the anchor
+     * @throws UserNotAuthorizedException the user is not allowed to see the anchor
+     */
+    EntityDetail getAnchor(String          userId,
+                           String          anchorGUID,
+                           boolean         isFeedbackEntity,
+                           boolean         isUpdate,
+                           AnchorValidator validator) throws InvalidParameterException,
+                                                             PropertyServerException,
+                                                             UserNotAuthorizedException
+    {
+        if (! this.userId.equals(userId))
+        {
+            /*
+             * Decisions are only cached for the user that the cache was created for.
+             */
+            return validator.validate();
+        }
+
+        String decisionKey = anchorGUID + ":" + isFeedbackEntity + ":" + isUpdate;
+
+        if (permittedAnchors.containsKey(decisionKey))
+        {
+            return permittedAnchors.get(decisionKey);
+        }
+
+        Exception rejection = rejectedAnchors.get(decisionKey);
+
+        if (rejection instanceof InvalidParameterException)
+        {
+            throw (InvalidParameterException) rejection;
+        }
+        else if (rejection instanceof PropertyServerException)
+        {
+            throw (PropertyServerException) rejection;
+        }
+        else if (rejection instanceof UserNotAuthorizedException)
+        {
+            throw (UserNotAuthorizedException) rejection;
+        }
+
+        try
+        {
+            EntityDetail anchorEntity = validator.validate();
+
+            permittedAnchors.put(decisionKey, anchorEntity);
+
+            return anchorEntity;
+        }
+        catch (InvalidParameterException | PropertyServerException | UserNotAuthorizedException error)
+        {
+            rejectedAnchors.put(decisionKey, error);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Return the number of decisions in the cache.
+     *
+     * @return count
+     */
+    int size()
+    {
+        return permittedAnchors.size() + rejectedAnchors.size();
+    }
+}
@@ -62,6 +62,16 @@ public enum GenericHandlersAuditCode implements AuditLogMessageSet
                               "No action is required now but this message can be useful to understand why a particular relationship " +
                                       "has been removed."),
 
+    UNABLE_TO_SET_LATEST_CHANGE("OMAG-GENERIC-HANDLERS-0006",
+                                OMRSAuditLogRecordSeverity.EXCEPTION,
+                                "The Open Metadata Service {0} is not able to update the LatestChange classification on anchor entity {1} in server {2} " +
+                                        "for method {3}.  The resulting exception was {4} with error message {5}",
+                                "The server was writing a coalesced update to the LatestChange classification of an anchor entity.  " +
+                                        "The original requests completed successfully but the LatestChange classification does not reflect " +
+                                        "the most recent changes to the anchor's attachments.",
+                                "Use the exception information to determine why the update failed.  The LatestChange classification " +
+                                        "will be corrected by the next change to the anchor or its attachments."),
+
     ;
 
     private String                     logMessageId;
@@ -0,0 +1,214 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.generichandlers;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+
+/**
+ * Verify that the anchor cache forgets the anchors of elements that have changed, including anchors that were
+ * derived before a change and are offered to the cache after it.
+ */
+public class AnchorCacheTest
+{
+    /**
+     * Return a relationship between two entities.
+     *
+     * @param entityOneGUID unique identifier of the entity at end one
+     * @param entityTwoGUID unique identifier of the entity at end two
+     * @return relationship
+     */
+    private Relationship getRelationship(String entityOneGUID,
+                                         String entityTwoGUID)
+    {
+        Relationship relationship = new Relationship();
+        EntityProxy  entityOne    = new EntityProxy();
+        EntityProxy  entityTwo    = new EntityProxy();
+
+        entityOne.setGUID(entityOneGUID);
+        entityTwo.setGUID(entityTwoGUID);
+        relationship.setEntityOneProxy(entityOne);
+        relationship.setEntityTwoProxy(entityTwo);
+
+        return relationship;
+    }
+
+
+    /**
+     * An anchor is cached if nothing has been removed since the generation was retrieved.
+     */
+    @Test
+    public void testCachedAnchor()
+    {
+        AnchorCache anchorCache = new AnchorCache(null);
+
+        anchorCache.setAnchorGUID("element1", "anchor1", anchorCache.getGeneration());
+        anchorCache.setAnchorGUID("element2", null, anchorCache.getGeneration());
+        anchorCache.setAnchorGUID(null, "anchor1", anchorCache.getGeneration());
+
+        assertEquals(anchorCache.getAnchorGUID("element1"), "anchor1");
+        assertNull(anchorCache.getAnchorGUID("element2"));
+        assertEquals(anchorCache.size(), 1);
+        assertEquals(anchorCache.getMaxCacheSize(), AnchorCache.getDefaultMaxCacheSize());
+    }
+
+
+    /**
+     * An anchor derived before an element was removed is not cached, even if the removed element was not in the cache.
+     */
+    @Test
+    public void testAnchorDerivedBeforeChangeIsIgnored()
+    {
+        AnchorCache anchorCache = new AnchorCache(null);
+
+        long generation = anchorCache.getGeneration();
+
+        anchorCache.removeElement("element1");
+        anchorCache.setAnchorGUID("element1", "anchor1", generation);
+
+        assertNull(anchorCache.getAnchorGUID("element1"));
+
+        generation = anchorCache.getGeneration();
+
+        anchorCache.removeRelationshipEnds(getRelationship("element2", "anchor2"), true);
+        anchorCache.setAnchorGUID("element2", "anchor2", generation);
+
+        assertNull(anchorCache.getAnchorGUID("element2"));
+        assertEquals(anchorCache.size(), 0);
+    }
+
+
+    /**
+     * Removing an anchor also removes the elements anchored to it.
+     */
+    @Test
+    public void testRemoveDependents()
+    {
+        AnchorCache anchorCache = new AnchorCache(null);
+
+        anchorCache.setAnchorGUID("element1", "anchor1", anchorCache.getGeneration());
+        anchorCache.setAnchorGUID("element2", "anchor1", anchorCache.getGeneration());
+        anchorCache.setAnchorGUID("element3", "anchor2", anchorCache.getGeneration());
+
+        anchorCache.removeElement("anchor2");
+        assertEquals(anchorCache.getAnchorGUID("element3"), "anchor2");
+
+        anchorCache.removeElementAndDependents("anchor1");
+        assertNull(anchorCache.getAnchorGUID("element1"));
+        assertNull(anchorCache.getAnchorGUID("element2"));
+        assertEquals(anchorCache.getAnchorGUID("element3"), "anchor2");
+
+        /*
+         * A new relationship only removes its ends.
+         */
+        anchorCache.setAnchorGUID("element4", "element3", anchorCache.getGeneration());
+        anchorCache.removeRelationshipEnds(getRelationship("element3", "other"), false);
+        assertNull(anchorCache.getAnchorGUID("element3"));
+        assertEquals(anchorCache.getAnchorGUID("element4"), "element3");
+    }
+
+
+    /**
+     * Removing a link in the middle of a chain of elements removes all of the elements that were anchored through it.
+     * The chain is A <- B <- C <- D <- E with every element anchored to A.
+     */
+    @Test
+    public void testRemoveLinkInChain()
+    {
+        AnchorCache anchorCache = new AnchorCache(null);
+
+        anchorCache.setAnchorGUID("B", "A", anchorCache.getGeneration());
+        anchorCache.setAnchorGUID("C", "A", anchorCache.getGeneration());
+        anchorCache.setAnchorGUID("D", "A", anchorCache.getGeneration());
+        anchorCache.setAnchorGUID("E", "A", anchorCache.getGeneration());
+        anchorCache.setAnchorGUID("other", "anchor2", anchorCache.getGeneration());
+
+        anchorCache.removeRelationshipEnds(getRelationship("B", "C"), true);
+
+        assertNull(anchorCache.getAnchorGUID("B"));
+        assertNull(anchorCache.getAnchorGUID("C"));
+        assertNull(anchorCache.getAnchorGUID("D"));
+        assertNull(anchorCache.getAnchorGUID("E"));
+        assertEquals(anchorCache.getAnchorGUID("other"), "anchor2");
+        assertEquals(anchorCache.size(), 1);
+
+        /*
+         * The same applies when an element in the middle of the chain is deleted.
+         */
+        EntityDetail middle = new EntityDetail();
+
+        middle.setGUID("C");
+
+        anchorCache.setAnchorGUID("B", "A", anchorCache.getGeneration());
+        anchorCache.setAnchorGUID("C", "A", anchorCache.getGeneration());
+        anchorCache.setAnchorGUID("D", "A", anchorCache.getGeneration());
+
+        anchorCache.processDeletedEntityEvent("source", "collection", "server", "type", "organization", middle);
+
+        assertNull(anchorCache.getAnchorGUID("B"));
+        assertNull(anchorCache.getAnchorGUID("D"));
+        assertEquals(anchorCache.size(), 1);
+    }
+
+
+    /**
+     * The least recently used elements are removed when the cache is full.
+     */
+    @Test
+    public void testMaxCacheSize()
+    {
+        AnchorCache anchorCache = new AnchorCache(2, null);
+
+        anchorCache.setAnchorGUID("element1", "anchor1", anchorCache.getGeneration());
+        anchorCache.setAnchorGUID("element2", "anchor1", anchorCache.getGeneration());
+        anchorCache.getAnchorGUID("element1");
+        anchorCache.setAnchorGUID("element3", "anchor1", anchorCache.getGeneration());
+
+        assertEquals(anchorCache.size(), 2);
+        assertEquals(anchorCache.getAnchorGUID("element1"), "anchor1");
+        assertNull(anchorCache.getAnchorGUID("element2"));
+        assertEquals(anchorCache.getAnchorGUID("element3"), "anchor1");
+
+        /*
+         * An element that is moved to a new anchor is only removed with the new anchor.
+         */
+        anchorCache.setAnchorGUID("element1", "anchor2", anchorCache.getGeneration());
+        anchorCache.removeElementAndDependents("anchor1");
+
+        assertEquals(anchorCache.getAnchorGUID("element1"), "anchor2");
+        assertNull(anchorCache.getAnchorGUID("element3"));
+    }
+
+
+    /**
+     * The events from the cohort remove the changed elements.
+     */
+    @Test
+    public void testEvents()
+    {
+        AnchorCache  anchorCache = new AnchorCache(null);
+        EntityDetail anchor      = new EntityDetail();
+
+        anchor.setGUID("anchor1");
+
+        anchorCache.setAnchorGUID("element1", "anchor1", anchorCache.getGeneration());
+        anchorCache.setAnchorGUID("element2", "element1", anchorCache.getGeneration());
+        anchorCache.setAnchorGUID("element3", "anchor2", anchorCache.getGeneration());
+
+        anchorCache.processDeletedEntityEvent("source", "collection", "server", "type", "organization", anchor);
+        assertNull(anchorCache.getAnchorGUID("element1"));
+        assertEquals(anchorCache.getAnchorGUID("element2"), "element1");
+
+        anchorCache.processDeletedRelationshipEvent("source", "collection", "server", "type", "organization",
+                                                    getRelationship("element1", "element3"));
+        assertNull(anchorCache.getAnchorGUID("element2"));
+        assertNull(anchorCache.getAnchorGUID("element3"));
+        assertEquals(anchorCache.size(), 0);
+    }
+}
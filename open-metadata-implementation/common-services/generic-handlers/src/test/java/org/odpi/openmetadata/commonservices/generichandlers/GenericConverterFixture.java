@@ -0,0 +1,246 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.generichandlers;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSRepositoryPropertiesHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSRepositoryPropertiesUtilities;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Entities and a converter shared by the tests and the benchmark of the generic converter.  The repository
+ * helper handles properties with an OMRSRepositoryPropertiesUtilities object, returns the attributes of the
+ * Asset type and rejects every other request.
+ */
+class GenericConverterFixture
+{
+    static final String serviceName = "TestService";
+    static final String serverName  = "TestServer";
+    static final String methodName  = "test";
+
+    static final String assetTypeName        = "Asset";
+    static final String dataFileTypeName     = "DataFile";
+    static final String ownerPropertyName    = "owner";
+    static final String fileTypePropertyName = "fileType";
+
+
+    /*
+     * The attributes of Referenceable and Asset.  The owner attribute is not mapped by the converter.
+     */
+    private static final List<String> assetAttributeNames = Arrays.asList(OpenMetadataAPIMapper.QUALIFIED_NAME_PROPERTY_NAME,
+                                                                          OpenMetadataAPIMapper.ADDITIONAL_PROPERTIES_PROPERTY_NAME,
+                                                                          OpenMetadataAPIMapper.NAME_PROPERTY_NAME,
+                                                                          OpenMetadataAPIMapper.DESCRIPTION_PROPERTY_NAME,
+                                                                          ownerPropertyName);
+
+
+    /**
+     * Return a repository helper that handles properties with the supplied utilities and knows the attributes
+     * of the Asset type.
+     *
+     * @param propertiesHelper properties utilities
+     * @return repository helper
+     */
+    static OMRSRepositoryHelper getRepositoryHelper(OMRSRepositoryPropertiesUtilities propertiesHelper)
+    {
+        return (OMRSRepositoryHelper) Proxy.newProxyInstance(OMRSRepositoryHelper.class.getClassLoader(),
+                                                             new Class<?>[]{ OMRSRepositoryHelper.class },
+                                                             (proxy, method, args) ->
+        {
+            if ("getTypeDefByName".equals(method.getName()) && assetTypeName.equals(args[1]))
+            {
+                EntityDef typeDef = new EntityDef();
+
+                typeDef.setName(assetTypeName);
+
+                return typeDef;
+            }
+            else if ("getAllPropertiesForTypeDef".equals(method.getName()))
+            {
+                List<TypeDefAttribute> attributes = new ArrayList<>();
+
+                for (String attributeName : assetAttributeNames)
+                {
+                    TypeDefAttribute attribute = new TypeDefAttribute();
+
+                    attribute.setAttributeName(attributeName);
+                    attributes.add(attribute);
+                }
+
+                return attributes;
+            }
+            else if (method.getDeclaringClass().isAssignableFrom(OMRSRepositoryPropertiesHelper.class))
+            {
+                try
+                {
+                    return method.invoke(propertiesHelper, args);
+                }
+                catch (InvocationTargetException error)
+                {
+                    throw error.getCause();
+                }
+            }
+
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+
+    /**
+     * Return a DataFile entity with the attributes of Referenceable and Asset, which the converter maps to the
+     * bean, and the attributes of the subtypes, which it returns as extended properties.
+     *
+     * @param extraPropertyCount number of additional subtype properties
+     * @return entity
+     */
+    static EntityDetail getDataFileEntity(int extraPropertyCount)
+    {
+        OMRSRepositoryPropertiesUtilities propertiesHelper     = new OMRSRepositoryPropertiesUtilities();
+        EntityDetail                      entity               = new EntityDetail();
+        InstanceType                      instanceType         = new InstanceType();
+        InstanceProperties                properties           = new InstanceProperties();
+        Map<String, String>               additionalProperties = new HashMap<>();
+
+        instanceType.setTypeDefName(dataFileTypeName);
+
+        additionalProperties.put("colour", "blue");
+
+        properties = propertiesHelper.addStringPropertyToInstance(serviceName, properties, OpenMetadataAPIMapper.QUALIFIED_NAME_PROPERTY_NAME, "DataFile:test.csv", methodName);
+        properties = propertiesHelper.addStringMapPropertyToInstance(serviceName, properties, OpenMetadataAPIMapper.ADDITIONAL_PROPERTIES_PROPERTY_NAME, additionalProperties, methodName);
+        properties = propertiesHelper.addStringPropertyToInstance(serviceName, properties, OpenMetadataAPIMapper.NAME_PROPERTY_NAME, "test.csv", methodName);
+        properties = propertiesHelper.addStringPropertyToInstance(serviceName, properties, OpenMetadataAPIMapper.DESCRIPTION_PROPERTY_NAME, "Test file", methodName);
+        properties = propertiesHelper.addStringPropertyToInstance(serviceName, properties, ownerPropertyName, "Erin", methodName);
+        properties = propertiesHelper.addStringPropertyToInstance(serviceName, properties, fileTypePropertyName, "csv", methodName);
+
+        for (int i = 0; i < extraPropertyCount; i++)
+        {
+            properties = propertiesHelper.addStringPropertyToInstance(serviceName, properties, "extra" + i, "value" + i, methodName);
+        }
+
+        entity.setGUID("test-guid");
+        entity.setType(instanceType);
+        entity.setProperties(properties);
+
+        return entity;
+    }
+
+
+    /**
+     * Return an Asset entity, which only has the attributes that the converter expects.
+     *
+     * @return entity
+     */
+    static EntityDetail getAssetEntity()
+    {
+        EntityDetail       entity       = getDataFileEntity(0);
+        InstanceType       instanceType = new InstanceType();
+        InstanceProperties properties   = entity.getProperties();
+
+        instanceType.setTypeDefName(assetTypeName);
+        properties.setProperty(fileTypePropertyName, null);
+
+        entity.setType(instanceType);
+        entity.setProperties(properties);
+
+        return entity;
+    }
+
+
+    /**
+     * Properties utilities that remove a property in the way that they did before removeProperty was changed
+     * to remove the single entry: the map is copied, the entry removed and the copy copied back.
+     */
+    static class PreviousPropertiesUtilities extends OMRSRepositoryPropertiesUtilities
+    {
+        /**
+         * Remove the named property from the instance properties object.
+         *
+         * @param propertyName name of property to remove
+         * @param properties instance properties object
+         */
+        @Override
+        protected void removeProperty(String propertyName, InstanceProperties properties)
+        {
+            if (properties != null)
+            {
+                Map<String, InstancePropertyValue> instancePropertyValueMap = properties.getInstanceProperties();
+
+                if (instancePropertyValueMap != null)
+                {
+                    instancePropertyValueMap.remove(propertyName);
+                    properties.setInstanceProperties(new HashMap<>(instancePropertyValueMap));
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Converter that fills a map with the attributes of an asset in the same way as the asset converters.
+     */
+    static class TestConverter extends OpenMetadataAPIGenericConverter<Object>
+    {
+        static final String extendedPropertiesName = "extendedProperties";
+
+        private final boolean extractProperties;
+
+
+        /**
+         * Constructor
+         *
+         * @param repositoryHelper helper object to parse entity
+         * @param extractProperties use getExtractedProperties rather than copying the entity's properties
+         */
+        TestConverter(OMRSRepositoryHelper repositoryHelper,
+                      boolean              extractProperties)
+        {
+            super(repositoryHelper, GenericConverterFixture.serviceName, GenericConverterFixture.serverName);
+
+            this.extractProperties = extractProperties;
+        }
+
+
+        /**
+         * Remove the attributes of an asset from the entity's properties and return them with the extended
+         * properties.
+         *
+         * @param entity entity to convert
+         * @return bean values
+         */
+        Map<String, Object> convert(EntityDetail entity)
+        {
+            InstanceProperties  instanceProperties;
+            Map<String, Object> bean = new HashMap<>();
+
+            if (extractProperties)
+            {
+                instanceProperties = super.getExtractedProperties(entity.getProperties(), assetTypeName);
+            }
+            else
+            {
+                instanceProperties = new InstanceProperties(entity.getProperties());
+            }
+
+            bean.put(OpenMetadataAPIMapper.QUALIFIED_NAME_PROPERTY_NAME, this.removeQualifiedName(instanceProperties));
+            bean.put(OpenMetadataAPIMapper.ADDITIONAL_PROPERTIES_PROPERTY_NAME, this.removeAdditionalProperties(instanceProperties));
+            bean.put(OpenMetadataAPIMapper.NAME_PROPERTY_NAME, this.removeName(instanceProperties));
+            bean.put(OpenMetadataAPIMapper.DESCRIPTION_PROPERTY_NAME, this.removeDescription(instanceProperties));
+            bean.put(extendedPropertiesName, this.getRemainingExtendedProperties(instanceProperties));
+
+            return bean;
+        }
+    }
+}
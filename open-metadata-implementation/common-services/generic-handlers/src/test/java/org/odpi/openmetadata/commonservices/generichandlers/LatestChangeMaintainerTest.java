@@ -0,0 +1,340 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.generichandlers;
+
+import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationOrigin;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceAuditHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.ClassificationErrorException;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify that the LatestChange classification is written straight away by a synchronous maintainer and once per
+ * anchor, with the latest properties, by a coalescing maintainer.
+ */
+public class LatestChangeMaintainerTest
+{
+    private static final String serviceName       = "TestService";
+    private static final String serverName        = "TestServer";
+    private static final String localServerUserId = "testServerUser";
+    private static final String methodName        = "test";
+    private static final long   longInterval      = 60000L;
+
+
+    /**
+     * A call to the repository handler.
+     */
+    private static class RepositoryCall
+    {
+        final String              action;
+        final String              entityGUID;
+        final InstanceAuditHeader existingClassification;
+        final InstanceProperties  properties;
+
+        RepositoryCall(String              action,
+                       String              entityGUID,
+                       InstanceAuditHeader existingClassification,
+                       InstanceProperties  properties)
+        {
+            this.action                 = action;
+            this.entityGUID             = entityGUID;
+            this.existingClassification = existingClassification;
+            this.properties             = properties;
+        }
+    }
+
+
+    /**
+     * Repository handler that records the classification requests.  Requests for the failingGUID are rejected.
+     */
+    private static class RecordingRepositoryHandler extends RepositoryHandler
+    {
+        final List<RepositoryCall> calls = Collections.synchronizedList(new ArrayList<>());
+
+        private static final String failingGUID = "failingAnchor";
+
+        RecordingRepositoryHandler()
+        {
+            super(null, null, null, 0);
+        }
+
+        @Override
+        public EntityDetail classifyEntity(String               userId,
+                                           String               externalSourceGUID,
+                                           String               externalSourceName,
+                                           String               entityGUID,
+                                           String               classificationTypeGUID,
+                                           String               classificationTypeName,
+                                           ClassificationOrigin classificationOrigin,
+                                           String               classificationOriginGUID,
+                                           InstanceProperties   properties,
+                                           String               methodName)
+        {
+            calls.add(new RepositoryCall("classify", entityGUID, null, properties));
+
+            return null;
+        }
+
+        @Override
+        public void reclassifyEntity(String              userId,
+                                     String              externalSourceGUID,
+                                     String              externalSourceName,
+                                     String              entityGUID,
+                                     String              classificationTypeGUID,
+                                     String              classificationTypeName,
+                                     InstanceAuditHeader existingClassificationHeader,
+                                     InstanceProperties  newProperties,
+                                     String              methodName) throws PropertyServerException
+        {
+            if (failingGUID.equals(entityGUID))
+            {
+                throw new PropertyServerException(OMRSErrorCode.ENTITY_NOT_KNOWN.getMessageDefinition(entityGUID, methodName, serverName),
+                                                  this.getClass().getName(),
+                                                  methodName);
+            }
+
+            calls.add(new RepositoryCall("reclassify", entityGUID, existingClassificationHeader, newProperties));
+        }
+    }
+
+
+    /**
+     * Return a repository helper that returns the classifications stored in the entity.
+     *
+     * @return repository helper
+     */
+    private OMRSRepositoryHelper getRepositoryHelper()
+    {
+        return (OMRSRepositoryHelper) Proxy.newProxyInstance(OMRSRepositoryHelper.class.getClassLoader(),
+                                                             new Class<?>[]{ OMRSRepositoryHelper.class },
+                                                             (proxy, method, args) ->
+        {
+            if ("getClassificationFromEntity".equals(method.getName()) && (args[1] instanceof EntityDetail))
+            {
+                EntityDetail entity = (EntityDetail) args[1];
+
+                if (entity.getClassifications() != null)
+                {
+                    for (Classification classification : entity.getClassifications())
+                    {
+                        if (args[2].equals(classification.getName()))
+                        {
+                            return classification;
+                        }
+                    }
+                }
+
+                throw new ClassificationErrorException(OMRSErrorCode.ENTITY_NOT_CLASSIFIED.getMessageDefinition(methodName,
+                                                                                                                serverName,
+                                                                                                                (String) args[2],
+                                                                                                                entity.getGUID()),
+                                                       this.getClass().getName(),
+                                                       methodName);
+            }
+
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+
+    /**
+     * Return an anchor entity.
+     *
+     * @param guid unique identifier of the anchor
+     * @param latestChange LatestChange classification or null
+     * @return entity
+     */
+    private EntityDetail getAnchor(String         guid,
+                                   Classification latestChange)
+    {
+        EntityDetail anchor = new EntityDetail();
+
+        anchor.setGUID(guid);
+
+        if (latestChange != null)
+        {
+            anchor.setClassifications(Collections.singletonList(latestChange));
+        }
+
+        return anchor;
+    }
+
+
+    /**
+     * Return a LatestChange classification.
+     *
+     * @return classification
+     */
+    private Classification getLatestChange()
+    {
+        Classification classification = new Classification();
+
+        classification.setName(OpenMetadataAPIMapper.LATEST_CHANGE_CLASSIFICATION_TYPE_NAME);
+
+        return classification;
+    }
+
+
+    /**
+     * Return a maintainer that uses the recording repository handler.
+     *
+     * @param repositoryHandler repository handler
+     * @param coalescingInterval milliseconds to coalesce changes over
+     * @return maintainer
+     */
+    private LatestChangeMaintainer getMaintainer(RecordingRepositoryHandler repositoryHandler,
+                                                 long                       coalescingInterval)
+    {
+        return new LatestChangeMaintainer(serviceName,
+                                          serverName,
+                                          localServerUserId,
+                                          repositoryHandler,
+                                          getRepositoryHelper(),
+                                          null,
+                                          coalescingInterval);
+    }
+
+
+    /**
+     * A synchronous maintainer adds the classification if it is missing and otherwise updates it.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testSynchronous() throws Exception
+    {
+        RecordingRepositoryHandler repositoryHandler = new RecordingRepositoryHandler();
+        LatestChangeMaintainer     maintainer        = getMaintainer(repositoryHandler, 0);
+        Classification             latestChange      = getLatestChange();
+        InstanceProperties         firstProperties   = new InstanceProperties();
+        InstanceProperties         secondProperties  = new InstanceProperties();
+
+        assertFalse(maintainer.isCoalescing());
+
+        maintainer.maintainLatestChange(getAnchor("anchor1", null), firstProperties, methodName);
+        maintainer.maintainLatestChange(getAnchor("anchor1", latestChange), secondProperties, methodName);
+
+        assertEquals(repositoryHandler.calls.size(), 2);
+        assertEquals(repositoryHandler.calls.get(0).action, "classify");
+        assertSame(repositoryHandler.calls.get(0).properties, firstProperties);
+        assertEquals(repositoryHandler.calls.get(1).action, "reclassify");
+        assertSame(repositoryHandler.calls.get(1).existingClassification, latestChange);
+        assertSame(repositoryHandler.calls.get(1).properties, secondProperties);
+    }
+
+
+    /**
+     * A coalescing maintainer writes one update per anchor with the latest properties.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testCoalescing() throws Exception
+    {
+        RecordingRepositoryHandler repositoryHandler = new RecordingRepositoryHandler();
+        LatestChangeMaintainer     maintainer        = getMaintainer(repositoryHandler, longInterval);
+        InstanceProperties         lastProperties    = new InstanceProperties();
+        InstanceProperties         otherProperties   = new InstanceProperties();
+
+        assertTrue(maintainer.isCoalescing());
+
+        maintainer.maintainLatestChange(getAnchor("anchor1", null), new InstanceProperties(), methodName);
+        maintainer.maintainLatestChange(getAnchor("anchor1", null), new InstanceProperties(), methodName);
+        maintainer.maintainLatestChange(getAnchor("anchor2", null), otherProperties, methodName);
+        maintainer.maintainLatestChange(getAnchor("anchor1", null), lastProperties, methodName);
+
+        assertTrue(repositoryHandler.calls.isEmpty());
+
+        maintainer.flush();
+
+        assertEquals(repositoryHandler.calls.size(), 2);
+
+        for (RepositoryCall call : repositoryHandler.calls)
+        {
+            /*
+             * The existing classification is retrieved by the repository handler when the change is written.
+             */
+            assertEquals(call.action, "reclassify");
+            assertNull(call.existingClassification);
+            assertSame(call.properties, "anchor1".equals(call.entityGUID) ? lastProperties : otherProperties);
+        }
+
+        maintainer.flush();
+
+        assertEquals(repositoryHandler.calls.size(), 2);
+
+        maintainer.shutdown();
+    }
+
+
+    /**
+     * The pending changes are written when the coalescing interval completes.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testScheduledFlush() throws Exception
+    {
+        RecordingRepositoryHandler repositoryHandler = new RecordingRepositoryHandler();
+        LatestChangeMaintainer     maintainer        = getMaintainer(repositoryHandler, 50);
+
+        maintainer.maintainLatestChange(getAnchor("anchor1", null), new InstanceProperties(), methodName);
+
+        for (int i = 0; i < 100 && repositoryHandler.calls.isEmpty(); i++)
+        {
+            Thread.sleep(50);
+        }
+
+        assertEquals(repositoryHandler.calls.size(), 1);
+        assertEquals(repositoryHandler.calls.get(0).entityGUID, "anchor1");
+
+        maintainer.shutdown();
+    }
+
+
+    /**
+     * Shutdown writes the pending changes and later changes are written synchronously.  A failure to write one
+     * anchor does not stop the others being written.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testShutdown() throws Exception
+    {
+        RecordingRepositoryHandler repositoryHandler = new RecordingRepositoryHandler();
+        LatestChangeMaintainer     maintainer        = getMaintainer(repositoryHandler, longInterval);
+
+        maintainer.maintainLatestChange(getAnchor(RecordingRepositoryHandler.failingGUID, null), new InstanceProperties(), methodName);
+        maintainer.maintainLatestChange(getAnchor("anchor1", null), new InstanceProperties(), methodName);
+
+        maintainer.shutdown();
+
+        assertFalse(maintainer.isCoalescing());
+        assertEquals(repositoryHandler.calls.size(), 1);
+        assertEquals(repositoryHandler.calls.get(0).entityGUID, "anchor1");
+
+        maintainer.maintainLatestChange(getAnchor("anchor2", null), new InstanceProperties(), methodName);
+
+        assertEquals(repositoryHandler.calls.size(), 2);
+        assertEquals(repositoryHandler.calls.get(1).action, "classify");
+        assertEquals(repositoryHandler.calls.get(1).entityGUID, "anchor2");
+    }
+}
@@ -0,0 +1,129 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.generichandlers;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSRepositoryPropertiesUtilities;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.function.Consumer;
+
+/**
+ * Compare the time and memory taken by a converter that removes the attributes of an entity one at a time, when
+ * each removal copies the property map as it used to, when it removes the single entry from a copy of the
+ * entity's properties, and when it removes it from the properties extracted for the expected type.  It is run
+ * from the command line with the test classpath rather than as part of the build:
+ * <pre>
+ *     java -cp target/test-classes:target/classes:&lt;dependencies&gt; \
+ *          org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIGenericConverterBenchmark [iterations]
+ * </pre>
+ */
+public class OpenMetadataAPIGenericConverterBenchmark
+{
+    private static final int warmUpIterations  = 200000;
+    private static final int defaultIterations = 1000000;
+
+
+    /**
+     * Run the conversion repeatedly and print the average time and bytes allocated for each conversion.
+     *
+     * @param label name of the approach
+     * @param entity entity to convert
+     * @param iterations number of conversions to measure
+     * @param conversion conversion to measure
+     */
+    private static void measure(String                 label,
+                                EntityDetail           entity,
+                                int                    iterations,
+                                Consumer<EntityDetail> conversion)
+    {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        long         threadId     = Thread.currentThread().getId();
+
+        for (int i = 0; i < warmUpIterations; i++)
+        {
+            conversion.accept(entity);
+        }
+
+        long startBytes = getAllocatedBytes(threadMXBean, threadId);
+        long startTime  = System.nanoTime();
+
+        for (int i = 0; i < iterations; i++)
+        {
+            conversion.accept(entity);
+        }
+
+        long elapsedTime    = System.nanoTime() - startTime;
+        long allocatedBytes = getAllocatedBytes(threadMXBean, threadId) - startBytes;
+
+        System.out.printf("%-12s %8.1f ns/op %8d bytes/op%n",
+                          label,
+                          (double) elapsedTime / iterations,
+                          (startBytes < 0) ? -1 : allocatedBytes / iterations);
+    }
+
+
+    /**
+     * Return the bytes allocated by the thread, or -1 if the JVM does not measure them.
+     *
+     * @param threadMXBean thread bean
+     * @param threadId thread to measure
+     * @return bytes allocated so far
+     */
+    private static long getAllocatedBytes(ThreadMXBean threadMXBean,
+                                          long         threadId)
+    {
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean)
+        {
+            return ((com.sun.management.ThreadMXBean) threadMXBean).getThreadAllocatedBytes(threadId);
+        }
+
+        return -1;
+    }
+
+
+    /**
+     * Measure each approach for an entity of the expected type and for entities with a few and with many
+     * subtype properties, both as they are built by the repositories and as they are frozen by the enterprise
+     * connector.
+     *
+     * @param args optional number of iterations
+     */
+    public static void main(String[] args)
+    {
+        int iterations = defaultIterations;
+
+        if (args.length > 0)
+        {
+            iterations = Integer.parseInt(args[0]);
+        }
+
+        GenericConverterFixture.TestConverter previousConverter
+                = new GenericConverterFixture.TestConverter(GenericConverterFixture.getRepositoryHelper(new GenericConverterFixture.PreviousPropertiesUtilities()), false);
+        GenericConverterFixture.TestConverter converter
+                = new GenericConverterFixture.TestConverter(GenericConverterFixture.getRepositoryHelper(new OMRSRepositoryPropertiesUtilities()), false);
+        GenericConverterFixture.TestConverter extractingConverter
+                = new GenericConverterFixture.TestConverter(GenericConverterFixture.getRepositoryHelper(new OMRSRepositoryPropertiesUtilities()), true);
+
+        for (boolean frozen : new boolean[]{ false, true })
+        {
+            for (int extraPropertyCount : new int[]{ -1, 0, 20 })
+            {
+                EntityDetail entity = (extraPropertyCount < 0) ? GenericConverterFixture.getAssetEntity()
+                                                               : GenericConverterFixture.getDataFileEntity(extraPropertyCount);
+
+                if (frozen)
+                {
+                    entity.freeze();
+                }
+
+                System.out.println((frozen ? "Frozen " : "") + entity.getType().getTypeDefName() + " entity with " + entity.getProperties().getPropertyCount() + " properties");
+
+                measure("copying", entity, iterations, previousConverter::convert);
+                measure("removing", entity, iterations, converter::convert);
+                measure("extracting", entity, iterations, extractingConverter::convert);
+            }
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.generichandlers;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSRepositoryPropertiesUtilities;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that a converter removes the attributes it maps to the bean from its copy of the entity's properties,
+ * or from the properties extracted for the expected type, returns the subtype properties as extended properties
+ * and leaves the entity unchanged.
+ */
+public class OpenMetadataAPIGenericConverterTest
+{
+    private final GenericConverterFixture.TestConverter converter
+            = new GenericConverterFixture.TestConverter(GenericConverterFixture.getRepositoryHelper(new OMRSRepositoryPropertiesUtilities()), false);
+    private final GenericConverterFixture.TestConverter extractingConverter
+            = new GenericConverterFixture.TestConverter(GenericConverterFixture.getRepositoryHelper(new OMRSRepositoryPropertiesUtilities()), true);
+
+
+    /**
+     * Validate the bean values and extended properties for an entity of a subtype, and that the result is the
+     * same as when each removal copied the property map.
+     */
+    @Test
+    public void testSubtypeEntity()
+    {
+        EntityDetail       entity   = GenericConverterFixture.getDataFileEntity(3);
+        InstanceProperties original = new InstanceProperties(entity.getProperties());
+
+        Map<String, Object> bean = converter.convert(entity);
+
+        assertEquals(bean.get(OpenMetadataAPIMapper.QUALIFIED_NAME_PROPERTY_NAME), "DataFile:test.csv");
+        assertEquals(bean.get(OpenMetadataAPIMapper.NAME_PROPERTY_NAME), "test.csv");
+        assertEquals(bean.get(OpenMetadataAPIMapper.DESCRIPTION_PROPERTY_NAME), "Test file");
+        assertEquals(((Map<?, ?>) bean.get(OpenMetadataAPIMapper.ADDITIONAL_PROPERTIES_PROPERTY_NAME)).get("colour"), "blue");
+
+        Map<?, ?> extendedProperties = (Map<?, ?>) bean.get(GenericConverterFixture.TestConverter.extendedPropertiesName);
+
+        assertEquals(extendedProperties.size(), 5);
+        assertEquals(extendedProperties.get(GenericConverterFixture.ownerPropertyName), "Erin");
+        assertEquals(extendedProperties.get(GenericConverterFixture.fileTypePropertyName), "csv");
+        assertEquals(extendedProperties.get("extra2"), "value2");
+        assertFalse(extendedProperties.containsKey(OpenMetadataAPIMapper.NAME_PROPERTY_NAME));
+
+        assertEquals(entity.getProperties(), original);
+
+        OMRSRepositoryHelper                  previousHelper    = GenericConverterFixture.getRepositoryHelper(new GenericConverterFixture.PreviousPropertiesUtilities());
+        GenericConverterFixture.TestConverter previousConverter = new GenericConverterFixture.TestConverter(previousHelper, false);
+
+        assertEquals(bean, previousConverter.convert(entity));
+        assertEquals(bean, extractingConverter.convert(entity));
+        assertEquals(entity.getProperties(), original);
+    }
+
+
+    /**
+     * Validate that a frozen entity, whose getter shares its property map, converts in the same way and is not
+     * changed.
+     */
+    @Test
+    public void testFrozenEntity()
+    {
+        EntityDetail        entity   = GenericConverterFixture.getDataFileEntity(2);
+        Map<String, Object> bean     = converter.convert(entity);
+        InstanceProperties  original = new InstanceProperties(entity.getProperties());
+
+        entity.freeze();
+
+        assertEquals(converter.convert(entity), bean);
+        assertEquals(converter.convert(entity), bean);
+        assertEquals(extractingConverter.convert(entity), bean);
+        assertEquals(extractingConverter.convert(entity), bean);
+        assertEquals(entity.getProperties(), original);
+        assertTrue(entity.isFrozen());
+    }
+
+
+    /**
+     * Validate that removing an attribute that is not present returns null and leaves the other properties.
+     */
+    @Test
+    public void testMissingAttributes()
+    {
+        EntityDetail       entity     = GenericConverterFixture.getDataFileEntity(0);
+        InstanceProperties properties = new InstanceProperties(entity.getProperties());
+
+        properties.setProperty(OpenMetadataAPIMapper.NAME_PROPERTY_NAME, null);
+        entity.setProperties(properties);
+
+        Map<String, Object> bean = converter.convert(entity);
+
+        assertNull(bean.get(OpenMetadataAPIMapper.NAME_PROPERTY_NAME));
+        assertEquals(bean.get(OpenMetadataAPIMapper.DESCRIPTION_PROPERTY_NAME), "Test file");
+        assertEquals(((Map<?, ?>) bean.get(GenericConverterFixture.TestConverter.extendedPropertiesName)).size(), 2);
+        assertEquals(extractingConverter.convert(entity), bean);
+    }
+
+
+    /**
+     * Validate that an entity without properties gives an empty bean.
+     */
+    @Test
+    public void testNoProperties()
+    {
+        EntityDetail entity = GenericConverterFixture.getDataFileEntity(0);
+
+        entity.setProperties(null);
+
+        Map<String, Object> bean = converter.convert(entity);
+
+        assertNull(bean.get(OpenMetadataAPIMapper.QUALIFIED_NAME_PROPERTY_NAME));
+        assertNull(bean.get(OpenMetadataAPIMapper.ADDITIONAL_PROPERTIES_PROPERTY_NAME));
+        assertNull(bean.get(OpenMetadataAPIMapper.NAME_PROPERTY_NAME));
+        assertNull(entity.getProperties());
+        assertEquals(extractingConverter.convert(entity), bean);
+    }
+
+
+    /**
+     * Validate that the extracted properties only hold the attributes of the expected type, and that the attributes
+     * that are not removed are returned with the other properties.
+     */
+    @Test
+    public void testExtractedProperties()
+    {
+        EntityDetail       entity           = GenericConverterFixture.getDataFileEntity(1);
+        InstanceProperties entityProperties = entity.getProperties();
+
+        OpenMetadataAPIExtractedProperties extractedProperties
+                = new OpenMetadataAPIExtractedProperties(entity.getProperties(),
+                                                         new HashSet<>(Arrays.asList(OpenMetadataAPIMapper.NAME_PROPERTY_NAME,
+                                                                                     GenericConverterFixture.ownerPropertyName,
+                                                                                     "notPresent")));
+
+        assertEquals(extractedProperties.getPropertyCount(), 2);
+        assertNull(extractedProperties.getPropertyValue(GenericConverterFixture.fileTypePropertyName));
+
+        extractedProperties.setProperty(OpenMetadataAPIMapper.NAME_PROPERTY_NAME, null);
+
+        InstanceProperties remainingProperties = extractedProperties.getRemainingProperties();
+
+        assertEquals(remainingProperties.getPropertyCount(), 6);
+        assertNull(remainingProperties.getPropertyValue(OpenMetadataAPIMapper.NAME_PROPERTY_NAME));
+        assertEquals(remainingProperties.getPropertyValue(GenericConverterFixture.ownerPropertyName),
+                     entityProperties.getPropertyValue(GenericConverterFixture.ownerPropertyName));
+        assertEquals(remainingProperties.getPropertyValue(GenericConverterFixture.fileTypePropertyName),
+                     entityProperties.getPropertyValue(GenericConverterFixture.fileTypePropertyName));
+        assertEquals(entity.getProperties(), entityProperties);
+    }
+
+
+    /**
+     * Validate that the properties of an instance of the expected type are bound without being changed.
+     */
+    @Test
+    public void testExtractedPropertiesOfExpectedType()
+    {
+        InstanceProperties entityProperties = GenericConverterFixture.getAssetEntity().getProperties();
+
+        entityProperties.freeze();
+
+        OpenMetadataAPIExtractedProperties extractedProperties
+                = new OpenMetadataAPIExtractedProperties(entityProperties,
+                                                         new HashSet<>(Arrays.asList(OpenMetadataAPIMapper.NAME_PROPERTY_NAME,
+                                                                                     OpenMetadataAPIMapper.QUALIFIED_NAME_PROPERTY_NAME,
+                                                                                     OpenMetadataAPIMapper.ADDITIONAL_PROPERTIES_PROPERTY_NAME,
+                                                                                     OpenMetadataAPIMapper.DESCRIPTION_PROPERTY_NAME,
+                                                                                     GenericConverterFixture.ownerPropertyName)));
+
+        assertEquals(extractedProperties.getPropertyCount(), 5);
+
+        extractedProperties.setProperty(OpenMetadataAPIMapper.NAME_PROPERTY_NAME, null);
+
+        InstanceProperties remainingProperties = extractedProperties.getRemainingProperties();
+
+        assertEquals(remainingProperties.getPropertyCount(), 4);
+        assertNull(remainingProperties.getPropertyValue(OpenMetadataAPIMapper.NAME_PROPERTY_NAME));
+        assertEquals(entityProperties.getPropertyCount(), 5);
+    }
+
+
+    /**
+     * Validate that frozen properties are copied rather than changed.
+     */
+    @Test
+    public void testFrozenExtractedProperties()
+    {
+        EntityDetail       entity           = GenericConverterFixture.getDataFileEntity(1);
+        InstanceProperties entityProperties = entity.getProperties();
+
+        entityProperties.freeze();
+
+        OpenMetadataAPIExtractedProperties extractedProperties
+                = new OpenMetadataAPIExtractedProperties(entityProperties,
+                                                         Collections.singleton(OpenMetadataAPIMapper.NAME_PROPERTY_NAME));
+
+        assertEquals(extractedProperties.getPropertyCount(), 1);
+        assertEquals(extractedProperties.getRemainingProperties().getPropertyCount(), 7);
+        assertEquals(entityProperties, entity.getProperties());
+    }
+}
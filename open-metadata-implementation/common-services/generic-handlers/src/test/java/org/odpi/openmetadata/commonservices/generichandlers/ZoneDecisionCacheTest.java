@@ -0,0 +1,156 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.generichandlers;
+
+import org.odpi.openmetadata.commonservices.ffdc.OMAGCommonErrorCode;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Verify that the zone decision cache only checks each anchor once per request for the user it was created for.
+ */
+public class ZoneDecisionCacheTest
+{
+    private static final String userId     = "testUser";
+    private static final String otherUser  = "otherUser";
+    private static final String methodName = "test";
+
+
+    /**
+     * Return an anchor entity.
+     *
+     * @param guid unique identifier
+     * @return entity
+     */
+    private EntityDetail getAnchor(String guid)
+    {
+        EntityDetail anchor = new EntityDetail();
+
+        anchor.setGUID(guid);
+
+        return anchor;
+    }
+
+
+    /**
+     * A permitted anchor is only validated once for each kind of check.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testPermittedAnchor() throws Exception
+    {
+        ZoneDecisionCache zoneDecisions = new ZoneDecisionCache(userId);
+        AtomicInteger     validations   = new AtomicInteger(0);
+        EntityDetail      anchor        = getAnchor("anchor1");
+
+        ZoneDecisionCache.AnchorValidator validator = () ->
+        {
+            validations.incrementAndGet();
+
+            return anchor;
+        };
+
+        assertSame(zoneDecisions.getAnchor(userId, "anchor1", false, false, validator), anchor);
+        assertSame(zoneDecisions.getAnchor(userId, "anchor1", false, false, validator), anchor);
+        assertEquals(validations.get(), 1);
+
+        /*
+         * Feedback elements and updates have their own checks.
+         */
+        zoneDecisions.getAnchor(userId, "anchor1", true, false, validator);
+        zoneDecisions.getAnchor(userId, "anchor1", false, true, validator);
+        assertEquals(validations.get(), 3);
+        assertEquals(zoneDecisions.size(), 3);
+
+        /*
+         * Decisions are not shared with other users.
+         */
+        zoneDecisions.getAnchor(otherUser, "anchor1", false, false, validator);
+        assertEquals(validations.get(), 4);
+        assertEquals(zoneDecisions.size(), 3);
+    }
+
+
+    /**
+     * A rejected anchor throws the same exception again without being validated.
+     */
+    @Test
+    public void testRejectedAnchor()
+    {
+        ZoneDecisionCache zoneDecisions = new ZoneDecisionCache(userId);
+        AtomicInteger     validations   = new AtomicInteger(0);
+
+        ZoneDecisionCache.AnchorValidator validator = () ->
+        {
+            validations.incrementAndGet();
+
+            throw new InvalidParameterException(OMAGCommonErrorCode.NOT_IN_THE_ZONE.getMessageDefinition("anchor1", "zone1"),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                "anchorGUID");
+        };
+
+        InvalidParameterException firstError = null;
+
+        for (int i = 0; i < 2; i++)
+        {
+            try
+            {
+                zoneDecisions.getAnchor(userId, "anchor1", false, false, validator);
+                fail("The anchor was permitted");
+            }
+            catch (InvalidParameterException error)
+            {
+                if (firstError == null)
+                {
+                    firstError = error;
+                }
+
+                assertSame(error, firstError);
+            }
+            catch (Exception error)
+            {
+                fail("Unexpected exception " + error);
+            }
+        }
+
+        assertEquals(validations.get(), 1);
+
+        ZoneDecisionCache.AnchorValidator securityValidator = () ->
+        {
+            throw new UserNotAuthorizedException(OMAGCommonErrorCode.NOT_IN_THE_ZONE.getMessageDefinition("anchor2", "zone1"),
+                                                 this.getClass().getName(),
+                                                 methodName,
+                                                 userId);
+        };
+
+        for (int i = 0; i < 2; i++)
+        {
+            try
+            {
+                zoneDecisions.getAnchor(userId, "anchor2", false, false, securityValidator);
+                fail("The anchor was permitted");
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                assertEquals(error.getUserId(), userId);
+            }
+            catch (Exception error)
+            {
+                fail("Unexpected exception " + error);
+            }
+        }
+
+        assertEquals(zoneDecisions.size(), 2);
+    }
+}
@@ -2095,23 +2095,32 @@ public class RepositoryHandler
 
         try
         {
-            List<Relationship> relationships = metadataCollection.getRelationshipsForEntity(userId,
-                                                                                            startingEntityGUID,
-                                                                                            relationshipTypeGUID,
-                                                                                            startingFrom,
-                                                                                            null,
-                                                                                            null,
-                                                                                            sequencingPropertyName,
-                                                                                            sequencingOrder,
-                                                                                            pageSize);
-
-            if (relationships != null)
+            InstanceGraph relatedElements = metadataCollection.getRelationshipsAndEntitiesForEntity(userId,
+                                                                                                    startingEntityGUID,
+                                                                                                    relationshipTypeGUID,
+                                                                                                    startingFrom,
+                                                                                                    null,
+                                                                                                    null,
+                                                                                                    sequencingPropertyName,
+                                                                                                    sequencingOrder,
+                                                                                                    pageSize);
+
+            if ((relatedElements != null) && (relatedElements.getRelationships() != null))
             {
-                for (Relationship relationship : relationships)
+                Map<String, EntityDetail> relatedEntities = this.getRelatedEntityMap(relatedElements);
+
+                for (Relationship relationship : relatedElements.getRelationships())
                 {
                     EntityProxy requiredEnd = getOtherEnd(startingEntityGUID, startingEntityTypeName, relationship, methodName);
 
-                    results.add(this.getEntityForRelationship(userId, requiredEnd, methodName));
+                    if ((requiredEnd != null) && (relatedEntities.containsKey(requiredEnd.getGUID())))
+                    {
+                        results.add(relatedEntities.get(requiredEnd.getGUID()));
+                    }
+                    else
+                    {
+                        results.add(this.getEntityForRelationship(userId, requiredEnd, methodName));
+                    }
                 }
             }
             else
@@ -2235,19 +2244,21 @@ public class RepositoryHandler
 
         try
         {
-            List<Relationship> relationships = metadataCollection.getRelationshipsForEntity(userId,
-                                                                                            anchorEntityGUID,
-                                                                                            relationshipTypeGUID,
-                                                                                            startingFrom,
-                                                                                            null,
-                                                                                            null,
-                                                                                            null,
-                                                                                            null,
-                                                                                            pageSize);
-
-            if (relationships != null)
+            InstanceGraph relatedElements = metadataCollection.getRelationshipsAndEntitiesForEntity(userId,
+                                                                                                    anchorEntityGUID,
+                                                                                                    relationshipTypeGUID,
+                                                                                                    startingFrom,
+                                                                                                    null,
+                                                                                                    null,
+                                                                                                    null,
+                                                                                                    null,
+                                                                                                    pageSize);
+
+            if ((relatedElements != null) && (relatedElements.getRelationships() != null))
             {
-                for (Relationship relationship : relationships)
+                Map<String, EntityDetail> relatedEntities = this.getRelatedEntityMap(relatedElements);
+
+                for (Relationship relationship : relatedElements.getRelationships())
                 {
                     EntityProxy anchorEndProxy = relationship.getEntityOneProxy();
                     EntityProxy requiredEndProxy = relationship.getEntityTwoProxy();
@@ -2260,7 +2271,14 @@ public class RepositoryHandler
 
                     if (anchorEntityGUID.equals(anchorEndProxy.getGUID()))
                     {
-                        results.add(metadataCollection.getEntityDetail(userId, requiredEndProxy.getGUID()));
+                        EntityDetail requiredEnd = relatedEntities.get(requiredEndProxy.getGUID());
+
+                        if (requiredEnd == null)
+                        {
+                            requiredEnd = metadataCollection.getEntityDetail(userId, requiredEndProxy.getGUID());
+                        }
+
+                        results.add(requiredEnd);
                     }
                 }
             }
@@ -2597,6 +2615,31 @@ public class RepositoryHandler
     }
 
 
+    /**
+     * Index the entities returned with a page of relationships by their unique identifiers.
+     *
+     * @param relatedElements relationships and the entities at their other ends
+     * @return map of entity GUID to entity
+     */
+    private Map<String, EntityDetail> getRelatedEntityMap(InstanceGraph relatedElements)
+    {
+        Map<String, EntityDetail> relatedEntities = new HashMap<>();
+
+        if (relatedElements.getEntities() != null)
+        {
+            for (EntityDetail entity : relatedElements.getEntities())
+            {
+                if (entity != null)
+                {
+                    relatedEntities.put(entity.getGUID(), entity);
+                }
+            }
+        }
+
+        return relatedEntities;
+    }
+
+
     /**
      * Return the entity at the other end of the requested relationship type.  The assumption is that this is a 0..1
      * relationship so one entity (or null) is returned.  If lots of relationships are found then the
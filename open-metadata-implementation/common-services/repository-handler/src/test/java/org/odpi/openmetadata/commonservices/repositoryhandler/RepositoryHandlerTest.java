@@ -0,0 +1,204 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.repositoryhandler;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollectionBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+
+
+/**
+ * Verify that the repository handler uses the entities returned with the relationships by
+ * getRelationshipsAndEntitiesForEntity, and only retrieves the entities that are missing from the results.
+ */
+public class RepositoryHandlerTest
+{
+    private static final String userId          = "testUser";
+    private static final String startEntityGUID = "start";
+    private static final String methodName      = "test";
+
+
+    /**
+     * Metadata collection that returns a fixed set of relationships, with only some of the entities at their other ends.
+     */
+    private static class TestMetadataCollection extends OMRSMetadataCollectionBase
+    {
+        private final List<Relationship> relationships;
+        private final List<EntityDetail> entities;
+        private final List<String>       retrievedEntityGUIDs = new ArrayList<>();
+
+        TestMetadataCollection(List<Relationship> relationships,
+                               List<EntityDetail> entities)
+        {
+            super(null, "TestRepository", null, null, "testCollection");
+
+            this.relationships = relationships;
+            this.entities = entities;
+        }
+
+        @Override
+        public InstanceGraph getRelationshipsAndEntitiesForEntity(String               userId,
+                                                                  String               entityGUID,
+                                                                  String               relationshipTypeGUID,
+                                                                  int                  fromRelationshipElement,
+                                                                  List<InstanceStatus> limitResultsByStatus,
+                                                                  Date                 asOfTime,
+                                                                  String               sequencingProperty,
+                                                                  SequencingOrder      sequencingOrder,
+                                                                  int                  pageSize)
+        {
+            return new InstanceGraph(entities, relationships);
+        }
+
+        @Override
+        public EntityDetail getEntityDetail(String userId,
+                                            String guid)
+        {
+            retrievedEntityGUIDs.add(guid);
+
+            return getEntity(guid);
+        }
+    }
+
+
+    /**
+     * Return an entity.
+     *
+     * @param guid unique identifier
+     * @return entity
+     */
+    private static EntityDetail getEntity(String guid)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+
+        return entity;
+    }
+
+
+    /**
+     * Return a relationship between two entities.
+     *
+     * @param entityOneGUID unique identifier of the entity at end one
+     * @param entityTwoGUID unique identifier of the entity at end two
+     * @return relationship
+     */
+    private static Relationship getRelationship(String entityOneGUID,
+                                                String entityTwoGUID)
+    {
+        Relationship relationship = new Relationship();
+        EntityProxy  entityOne    = new EntityProxy();
+        EntityProxy  entityTwo    = new EntityProxy();
+
+        entityOne.setGUID(entityOneGUID);
+        entityTwo.setGUID(entityTwoGUID);
+        relationship.setGUID(entityOneGUID + "-" + entityTwoGUID);
+        relationship.setEntityOneProxy(entityOne);
+        relationship.setEntityTwoProxy(entityTwo);
+
+        return relationship;
+    }
+
+
+    /**
+     * Return a repository handler for a metadata collection.
+     *
+     * @param metadataCollection metadata collection
+     * @return repository handler
+     */
+    private RepositoryHandler getRepositoryHandler(TestMetadataCollection metadataCollection)
+    {
+        return new RepositoryHandler(null,
+                                     new RepositoryErrorHandler(null, "TestService", "TestServer"),
+                                     metadataCollection,
+                                     0);
+    }
+
+
+    /**
+     * Return the unique identifiers of a list of entities.
+     *
+     * @param entities entities
+     * @return guids
+     */
+    private List<String> getGUIDs(List<EntityDetail> entities)
+    {
+        List<String> guids = new ArrayList<>();
+
+        for (EntityDetail entity : entities)
+        {
+            guids.add(entity.getGUID());
+        }
+
+        return guids;
+    }
+
+
+    /**
+     * The entity at the other end of each relationship is taken from the results, or retrieved if it is missing.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testEntitiesForRelationshipType() throws Exception
+    {
+        TestMetadataCollection metadataCollection = new TestMetadataCollection(Arrays.asList(getRelationship(startEntityGUID, "e1"),
+                                                                                             getRelationship("e2", startEntityGUID)),
+                                                                               Collections.singletonList(getEntity("e1")));
+
+        List<EntityDetail> results = getRepositoryHandler(metadataCollection).getEntitiesForRelationshipType(userId,
+                                                                                                             startEntityGUID,
+                                                                                                             "Referenceable",
+                                                                                                             null,
+                                                                                                             null,
+                                                                                                             0,
+                                                                                                             0,
+                                                                                                             methodName);
+
+        assertEquals(getGUIDs(results), Arrays.asList("e1", "e2"));
+        assertEquals(metadataCollection.retrievedEntityGUIDs, Collections.singletonList("e2"));
+    }
+
+
+    /**
+     * Only the relationships with the anchor at the requested end are followed, and the missing entities are
+     * retrieved.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testEntitiesForRelationshipEnd() throws Exception
+    {
+        TestMetadataCollection metadataCollection = new TestMetadataCollection(Arrays.asList(getRelationship(startEntityGUID, "e1"),
+                                                                                             getRelationship("e2", startEntityGUID),
+                                                                                             getRelationship(startEntityGUID, "e3")),
+                                                                               Arrays.asList(getEntity("e1"), getEntity("e2")));
+
+        List<EntityDetail> results = getRepositoryHandler(metadataCollection).getEntitiesForRelationshipEnd(userId,
+                                                                                                            startEntityGUID,
+                                                                                                            "Referenceable",
+                                                                                                            true,
+                                                                                                            null,
+                                                                                                            null,
+                                                                                                            0,
+                                                                                                            0,
+                                                                                                            methodName);
+
+        assertEquals(getGUIDs(results), Arrays.asList("e1", "e3"));
+        assertEquals(metadataCollection.retrievedEntityGUIDs, Collections.singletonList("e3"));
+    }
+}
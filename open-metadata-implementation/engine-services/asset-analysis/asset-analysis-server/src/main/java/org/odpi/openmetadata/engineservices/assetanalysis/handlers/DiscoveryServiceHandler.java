@@ -149,7 +149,20 @@ public class DiscoveryServiceHandler extends GovernanceServiceHandler
             discoveryService.setDiscoveryServiceName(governanceServiceName);
 
             startTime = new Date();
-            discoveryService.start();
+
+            try
+            {
+                discoveryService.start();
+            }
+            finally
+            {
+                /*
+                 * Any annotations that the discovery service queued are added before the report is marked as complete,
+                 * including those queued before the discovery service failed.
+                 */
+                discoveryContext.getAnnotationStore().flushQueuedAnnotations();
+            }
+
             endTime = new Date();
 
             auditLog.logMessage(actionDescription,
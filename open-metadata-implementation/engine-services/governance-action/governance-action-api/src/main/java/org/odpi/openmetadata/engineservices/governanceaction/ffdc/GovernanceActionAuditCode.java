@@ -186,6 +186,35 @@ public enum GovernanceActionAuditCode implements AuditLogMessageSet
                                                "Its class is {2} rather than a subclass of {3}",
                                        "The governance action request is not run and an error is returned to the caller.  Subsequent calls to this service will fail in the same way",
                                        "Correct the configuration for the Governance Action OMES to only include valid governance action service implementations."),
+
+    WATCHDOG_INTERESTS_NOT_REGISTERED("OMES-GOVERNANCE-ACTION-0032",
+                                      OMRSAuditLogRecordSeverity.EXCEPTION,
+                                      "Governance action engine {0} is unable to register the interests of its watchdog governance action services with " +
+                                              "the Governance Engine OMAS.  The exception was {1} with error message {2}",
+                                      "The Governance Engine OMAS continues to publish the watchdog events that match the interests that were last " +
+                                              "registered for this governance action engine.  The watchdog governance action services may not receive " +
+                                              "all of the events they are interested in until the registration succeeds.  The governance action engine " +
+                                              "retries the registration periodically.",
+                                      "Review the error message and any other reported failures to determine the cause of the problem.  Once this is " +
+                                              "resolved, the next retry registers the interests and message OMES-GOVERNANCE-ACTION-0034 is logged."),
+
+    WATCHDOG_INTERESTS_NOT_UNREGISTERED("OMES-GOVERNANCE-ACTION-0033",
+                                        OMRSAuditLogRecordSeverity.EXCEPTION,
+                                        "Governance action engine {0} is unable to remove the interests of its watchdog governance action services from " +
+                                                "the Governance Engine OMAS.  The exception was {1} with error message {2}",
+                                        "The Governance Engine OMAS continues to publish the watchdog events that match the interests that were last " +
+                                                "registered for this governance action engine until it is restarted on this engine host.",
+                                        "Review the error message and any other reported failures to determine the cause of the problem.  The extra " +
+                                                "events do no harm but they can be stopped by restarting the Governance Engine OMAS."),
+
+    WATCHDOG_INTERESTS_REGISTERED("OMES-GOVERNANCE-ACTION-0034",
+                                  OMRSAuditLogRecordSeverity.INFO,
+                                  "Governance action engine {0} has registered the interests of its watchdog governance action services with " +
+                                          "the Governance Engine OMAS after {1} failed attempts",
+                                  "The Governance Engine OMAS publishes the watchdog events that match the current interests of this governance " +
+                                          "action engine.",
+                                  "No action is required.  This message confirms that the problem reported by message " +
+                                          "OMES-GOVERNANCE-ACTION-0032 has been resolved."),
     ;
 
 
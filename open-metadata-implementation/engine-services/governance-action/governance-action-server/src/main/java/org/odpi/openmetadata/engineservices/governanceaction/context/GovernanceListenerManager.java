@@ -2,6 +2,8 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.engineservices.governanceaction.context;
 
+import org.odpi.openmetadata.accessservices.governanceengine.client.GovernanceEngineClient;
+import org.odpi.openmetadata.accessservices.governanceengine.properties.WatchdogInterestProperties;
 import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
 import org.odpi.openmetadata.engineservices.governanceaction.ffdc.GovernanceActionAuditCode;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
@@ -9,15 +11,22 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterExceptio
 import org.odpi.openmetadata.frameworks.governanceaction.WatchdogGovernanceListener;
 import org.odpi.openmetadata.frameworks.governanceaction.events.*;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 
 /**
  * GovernanceListenerManager manages the watchdog listeners through a single registration to the Governance Engine OMAS's
  * out topic.  This approach is used to enable the rapid changing list of watchdog listeners and their listening specification
- * without pushing that churn to the event bus.
+ * without pushing that churn to the event bus.  Each time the listeners change, their listening specifications are sent to the
+ * Governance Engine OMAS so that it only publishes the watchdog events that at least one listener is interested in.  If the
+ * Governance Engine OMAS can not be reached, the registration is retried until it succeeds.  The interests are removed when the
+ * governance engine shuts down.
  */
 public class GovernanceListenerManager
 {
@@ -25,19 +34,67 @@ public class GovernanceListenerManager
 
     private InvalidParameterHandler invalidParameterHandler = new InvalidParameterHandler();
 
-    private AuditLog auditLog;
-    private String   governanceEngineName;
+    private AuditLog               auditLog;
+    private String                 governanceEngineName;
+    private GovernanceEngineClient governanceEngineClient;
+    private String                 serverUserId;
+    private String                 listenerId;
+
+    /*
+     * A failed registration is retried on a background thread until the Governance Engine OMAS accepts the
+     * current interests.
+     */
+    private static final long        defaultRetryInterval = 10000L;
+
+    private long                     retryInterval;
+    private ScheduledExecutorService retryScheduler       = null;
+    private boolean                  retryPending         = false;
+    private int                      failedRegistrations  = 0;
 
     /**
      * Create a governance listener manager for watchdog listeners.
      *
      * @param auditLog audit log for the listener manager
+     * @param governanceEngineName name of the governance engine that the listeners belong to
+     * @param governanceEngineClient client for registering the interests of the listeners with the Governance Engine OMAS
+     * @param serverUserId user id for the server to use
+     * @param listenerId unique identifier of this governance engine's listeners in the Governance Engine OMAS - built from the
+     *                   engine host server name and the governance engine's identifier
+     */
+    public GovernanceListenerManager(AuditLog               auditLog,
+                                     String                 governanceEngineName,
+                                     GovernanceEngineClient governanceEngineClient,
+                                     String                 serverUserId,
+                                     String                 listenerId)
+    {
+        this(auditLog, governanceEngineName, governanceEngineClient, serverUserId, listenerId, defaultRetryInterval);
+    }
+
+
+    /**
+     * Create a governance listener manager for watchdog listeners with a specific interval between the attempts to
+     * register the interests of the listeners.
+     *
+     * @param auditLog audit log for the listener manager
+     * @param governanceEngineName name of the governance engine that the listeners belong to
+     * @param governanceEngineClient client for registering the interests of the listeners with the Governance Engine OMAS
+     * @param serverUserId user id for the server to use
+     * @param listenerId unique identifier of this governance engine's listeners in the Governance Engine OMAS
+     * @param retryInterval milliseconds to wait before retrying a failed registration
      */
-    public GovernanceListenerManager(AuditLog auditLog,
-                                     String   governanceEngineName)
+    GovernanceListenerManager(AuditLog               auditLog,
+                              String                 governanceEngineName,
+                              GovernanceEngineClient governanceEngineClient,
+                              String                 serverUserId,
+                              String                 listenerId,
+                              long                   retryInterval)
     {
         this.auditLog = auditLog;
         this.governanceEngineName = governanceEngineName;
+        this.governanceEngineClient = governanceEngineClient;
+        this.serverUserId = serverUserId;
+        this.listenerId = listenerId;
+        this.retryInterval = retryInterval;
     }
 
 
@@ -104,6 +161,8 @@ public class GovernanceListenerManager
         watchdogListener.setListenerSpec(listener, interestingEventTypes, interestingMetadataTypes, specificInstance);
 
         listenerMap.put(connectorId, watchdogListener);
+
+        this.registerWatchdogInterests();
     }
 
 
@@ -114,7 +173,144 @@ public class GovernanceListenerManager
      */
     public synchronized void removeListener(String connectorId)
     {
-        listenerMap.remove(connectorId);
+        if (listenerMap.remove(connectorId) != null)
+        {
+            this.registerWatchdogInterests();
+        }
+    }
+
+
+    /**
+     * Send the listening specifications of the current listeners to the Governance Engine OMAS.  The first failure is
+     * logged and the registration is retried, with the listening specifications current at the time of the retry,
+     * until it succeeds.
+     */
+    private void registerWatchdogInterests()
+    {
+        final String actionDescription = "register watchdog interests";
+
+        List<WatchdogInterestProperties> watchdogInterests = new ArrayList<>();
+
+        for (WatchdogListener watchdogListener : listenerMap.values())
+        {
+            if ((watchdogListener != null) && (watchdogListener.listener != null))
+            {
+                watchdogInterests.add(watchdogListener.getInterest());
+            }
+        }
+
+        try
+        {
+            governanceEngineClient.registerWatchdogInterests(serverUserId, listenerId, watchdogInterests);
+
+            if (failedRegistrations > 0)
+            {
+                auditLog.logMessage(actionDescription,
+                                    GovernanceActionAuditCode.WATCHDOG_INTERESTS_REGISTERED.getMessageDefinition(governanceEngineName,
+                                                                                                                 Integer.toString(failedRegistrations)));
+                failedRegistrations = 0;
+            }
+        }
+        catch (Exception error)
+        {
+            if (failedRegistrations == 0)
+            {
+                auditLog.logException(actionDescription,
+                                      GovernanceActionAuditCode.WATCHDOG_INTERESTS_NOT_REGISTERED.getMessageDefinition(governanceEngineName,
+                                                                                                                       error.getClass().getName(),
+                                                                                                                       error.getMessage()),
+                                      error);
+            }
+
+            failedRegistrations++;
+            this.scheduleRetry();
+        }
+    }
+
+
+    /**
+     * Schedule another attempt to register the interests unless one is already waiting.
+     */
+    private void scheduleRetry()
+    {
+        if (! retryPending)
+        {
+            if (retryScheduler == null)
+            {
+                retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable ->
+                                                                            {
+                                                                                Thread thread = new Thread(runnable, "WatchdogInterests:" + listenerId);
+                                                                                thread.setDaemon(true);
+                                                                                return thread;
+                                                                            });
+            }
+
+            retryPending = true;
+            retryScheduler.schedule(this::retryRegistration, retryInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+
+    /**
+     * Retry a failed registration.  Nothing is sent if the interests have been registered or removed since the retry
+     * was scheduled.
+     */
+    private synchronized void retryRegistration()
+    {
+        if (retryPending)
+        {
+            retryPending = false;
+
+            if (failedRegistrations > 0)
+            {
+                this.registerWatchdogInterests();
+            }
+        }
+    }
+
+
+    /**
+     * Return whether a failed registration is waiting to be retried.
+     *
+     * @return boolean flag
+     */
+    synchronized boolean isRetryPending()
+    {
+        return retryPending;
+    }
+
+
+    /**
+     * Remove this governance engine's interests from the Governance Engine OMAS because the governance engine is shutting down.
+     * Failures are logged since the only effect is that the Governance Engine OMAS publishes events that are not needed.
+     */
+    public synchronized void unregisterWatchdogInterests()
+    {
+        final String actionDescription = "unregister watchdog interests";
+
+        listenerMap.clear();
+
+        retryPending = false;
+        failedRegistrations = 0;
+
+        if (retryScheduler != null)
+        {
+            retryScheduler.shutdownNow();
+            retryScheduler = null;
+        }
+
+        try
+        {
+            governanceEngineClient.unregisterWatchdogInterests(serverUserId, listenerId);
+        }
+        catch (Exception error)
+        {
+            auditLog.logException(actionDescription,
+                                  GovernanceActionAuditCode.WATCHDOG_INTERESTS_NOT_UNREGISTERED.getMessageDefinition(governanceEngineName,
+                                                                                                                     error.getClass().getName(),
+                                                                                                                     error.getMessage()),
+                                  error);
+        }
     }
 
 
@@ -145,6 +341,23 @@ public class GovernanceListenerManager
         }
 
 
+        /**
+         * Return the listening specification in the form used by the Governance Engine OMAS.
+         *
+         * @return interest properties
+         */
+        WatchdogInterestProperties getInterest()
+        {
+            WatchdogInterestProperties interest = new WatchdogInterestProperties();
+
+            interest.setInterestingEventTypes(interestingEventTypes);
+            interest.setInterestingMetadataTypes(interestingMetadataTypes);
+            interest.setSpecificInstance(specificInstance);
+
+            return interest;
+        }
+
+
         /**
          * Process a the watchdog event that was published by the Governance Engine OMAS for a specific listener.
          *
@@ -71,7 +71,15 @@ public class GovernanceActionEngineHandler extends GovernanceEngineHandler
         this.partnerServerName = partnerServerName;
         this.partnerURLRoot = partnerURLRoot;
 
-        this.governanceListenerManager = new GovernanceListenerManager(auditLog, engineConfig.getEngineQualifiedName());
+        /*
+         * The listener id includes the engine host server name because the same governance engine can run in several
+         * engine hosts connected to the same Governance Engine OMAS.
+         */
+        this.governanceListenerManager = new GovernanceListenerManager(auditLog,
+                                                                       engineConfig.getEngineQualifiedName(),
+                                                                       governanceEngineClient,
+                                                                       serverUserId,
+                                                                       localServerName + "." + engineConfig.getEngineId());
     }
 
 
@@ -92,6 +100,19 @@ public class GovernanceActionEngineHandler extends GovernanceEngineHandler
     }
 
 
+    /**
+     * Remove the interests of the watchdog governance action services from the Governance Engine OMAS before the governance
+     * engine terminates.
+     */
+    @Override
+    public void terminate()
+    {
+        governanceListenerManager.unregisterWatchdogInterests();
+
+        super.terminate();
+    }
+
+
     /**
      * Run an instance of a governance action service in its own thread and return the handler (for disconnect processing).
      *
@@ -0,0 +1,240 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.engineservices.governanceaction.context;
+
+import org.odpi.openmetadata.accessservices.governanceengine.client.GovernanceEngineClient;
+import org.odpi.openmetadata.accessservices.governanceengine.ffdc.GovernanceEngineErrorCode;
+import org.odpi.openmetadata.accessservices.governanceengine.properties.WatchdogInterestProperties;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.governanceaction.WatchdogGovernanceListener;
+import org.odpi.openmetadata.frameworks.governanceaction.events.WatchdogEventType;
+import org.odpi.openmetadata.frameworks.governanceaction.events.WatchdogGovernanceEvent;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+
+/**
+ * Verify that a failed registration of the watchdog interests is retried with the current interests until it succeeds,
+ * and that the retries stop when the interests are removed.
+ */
+public class GovernanceListenerManagerTest
+{
+    private static final String serverUserId  = "testUser";
+    private static final String listenerId    = "engineHost.engine1";
+    private static final long   retryInterval = 50L;
+
+
+    /**
+     * Client that records the registered interests and rejects the requested number of registrations.
+     */
+    private static class RecordingClient extends GovernanceEngineClient
+    {
+        private final List<List<WatchdogInterestProperties>> registrations = Collections.synchronizedList(new ArrayList<>());
+        private volatile int                                  failures;
+        private volatile int                                  attempts     = 0;
+
+        RecordingClient(int failures) throws InvalidParameterException
+        {
+            super("TestServer", "https://localhost:9443");
+
+            this.failures = failures;
+        }
+
+        @Override
+        public void registerWatchdogInterests(String                           userId,
+                                              String                           listenerId,
+                                              List<WatchdogInterestProperties> watchdogInterests) throws PropertyServerException
+        {
+            final String methodName = "registerWatchdogInterests";
+
+            attempts++;
+
+            if (failures > 0)
+            {
+                failures--;
+
+                throw new PropertyServerException(GovernanceEngineErrorCode.OMRS_NOT_INITIALIZED.getMessageDefinition(methodName),
+                                                  this.getClass().getName(),
+                                                  methodName);
+            }
+
+            registrations.add(watchdogInterests);
+        }
+
+        @Override
+        public void unregisterWatchdogInterests(String userId,
+                                                String listenerId)
+        {
+        }
+    }
+
+
+    /**
+     * Listener that ignores the events.
+     */
+    private static class TestListener extends WatchdogGovernanceListener
+    {
+        @Override
+        public void processEvent(WatchdogGovernanceEvent event)
+        {
+        }
+    }
+
+
+    /**
+     * Return an audit log that saves the ids of its messages.
+     *
+     * @param messageIds list to add the message ids to
+     * @return audit log
+     */
+    private AuditLog getAuditLog(List<String> messageIds)
+    {
+        AuditLogDestination destination = new AuditLogDestination(null)
+        {
+            @Override
+            public void addLogRecord(AuditLogRecord logRecord)
+            {
+                messageIds.add(logRecord.getMessageId());
+            }
+        };
+
+        return new AuditLog(destination, 0, "Test", "Test", null);
+    }
+
+
+    /**
+     * Wait for the retries to stop.
+     *
+     * @param listenerManager listener manager
+     * @throws InterruptedException interrupted
+     */
+    private void waitForRetries(GovernanceListenerManager listenerManager) throws InterruptedException
+    {
+        for (int i = 0; i < 100 && listenerManager.isRetryPending(); i++)
+        {
+            Thread.sleep(50);
+        }
+
+        assertFalse(listenerManager.isRetryPending());
+    }
+
+
+    /**
+     * The interests are registered straight away when the Governance Engine OMAS is available.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testRegistration() throws Exception
+    {
+        List<String>              messageIds      = Collections.synchronizedList(new ArrayList<>());
+        RecordingClient           client          = new RecordingClient(0);
+        GovernanceListenerManager listenerManager = new GovernanceListenerManager(getAuditLog(messageIds),
+                                                                                  "engine1",
+                                                                                  client,
+                                                                                  serverUserId,
+                                                                                  listenerId,
+                                                                                  retryInterval);
+
+        listenerManager.registerListener("connector1", new TestListener(), null, Collections.singletonList("Asset"), null);
+
+        assertFalse(listenerManager.isRetryPending());
+        assertEquals(client.registrations.size(), 1);
+        assertEquals(client.registrations.get(0).get(0).getInterestingMetadataTypes(), Collections.singletonList("Asset"));
+        assertTrue(messageIds.isEmpty());
+    }
+
+
+    /**
+     * A failed registration is retried with the interests that are current when the retry runs, and only the first
+     * failure and the recovery are logged.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testRetry() throws Exception
+    {
+        List<String>              messageIds      = Collections.synchronizedList(new ArrayList<>());
+        RecordingClient           client          = new RecordingClient(3);
+        GovernanceListenerManager listenerManager = new GovernanceListenerManager(getAuditLog(messageIds),
+                                                                                  "engine1",
+                                                                                  client,
+                                                                                  serverUserId,
+                                                                                  listenerId,
+                                                                                  retryInterval);
+
+        listenerManager.registerListener("connector1",
+                                         new TestListener(),
+                                         Collections.singletonList(WatchdogEventType.NEW_ELEMENT),
+                                         null,
+                                         null);
+
+        assertTrue(listenerManager.isRetryPending());
+        assertTrue(client.registrations.isEmpty());
+
+        listenerManager.registerListener("connector2", new TestListener(), null, Collections.singletonList("Asset"), null);
+
+        waitForRetries(listenerManager);
+
+        assertEquals(client.attempts, 4);
+        assertEquals(client.registrations.size(), 1);
+        assertEquals(client.registrations.get(0).size(), 2);
+        assertEquals(messageIds, Arrays.asList("OMES-GOVERNANCE-ACTION-0032", "OMES-GOVERNANCE-ACTION-0034"));
+
+        /*
+         * Later failures are logged again.
+         */
+        client.failures = 1;
+        listenerManager.removeListener("connector1");
+
+        waitForRetries(listenerManager);
+
+        assertEquals(client.registrations.size(), 2);
+        assertEquals(client.registrations.get(1).size(), 1);
+        assertEquals(messageIds.size(), 4);
+
+        listenerManager.unregisterWatchdogInterests();
+    }
+
+
+    /**
+     * The retries stop when the governance engine removes its interests.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testUnregisterStopsRetries() throws Exception
+    {
+        RecordingClient           client          = new RecordingClient(Integer.MAX_VALUE);
+        GovernanceListenerManager listenerManager = new GovernanceListenerManager(getAuditLog(new ArrayList<>()),
+                                                                                  "engine1",
+                                                                                  client,
+                                                                                  serverUserId,
+                                                                                  listenerId,
+                                                                                  retryInterval);
+
+        listenerManager.registerListener("connector1", new TestListener(), null, null, null);
+
+        assertTrue(listenerManager.isRetryPending());
+
+        listenerManager.unregisterWatchdogInterests();
+
+        assertFalse(listenerManager.isRetryPending());
+
+        int attempts = client.attempts;
+
+        Thread.sleep(retryInterval * 4);
+
+        assertEquals(client.attempts, attempts);
+    }
+}
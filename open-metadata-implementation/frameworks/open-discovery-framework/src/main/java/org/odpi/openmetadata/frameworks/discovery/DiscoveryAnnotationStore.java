@@ -7,8 +7,10 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.frameworks.discovery.properties.Annotation;
 import org.odpi.openmetadata.frameworks.discovery.properties.AnnotationStatus;
+import org.odpi.openmetadata.frameworks.discovery.ffdc.ODFErrorCode;
 import org.odpi.openmetadata.frameworks.discovery.properties.DataField;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -17,13 +19,28 @@ import java.util.Map;
  * store annotations in the annotation store.  There is one instance of the annotation store
  * for each discovery request.  The userId that made the discovery request is the default user for
  * the annotation store.  This userId may be over-ridden by the discovery engine.
+ *
+ * Each add method is a separate request to the annotation store.  Discovery services that create many annotations
+ * should use the batch methods, or queue the annotations whose unique identifiers they do not need.  Queued annotations
+ * are added in batches as the queue fills up and any that remain are added when the discovery service completes.
+ *
+ * A batch is not a transaction.  If one element of a batch can not be added, the elements before it in the batch
+ * have already been added and remain in the annotation store.  The exception does not carry their unique identifiers.
+ * They can be retrieved with getNewAnnotationsForAsset and getNewDataFieldsForAsset.
  */
 public abstract class DiscoveryAnnotationStore
 {
+    public static final int DEFAULT_ANNOTATION_BATCH_SIZE = 100;
+
     protected String                       userId;
     protected String                       assetGUID;
     protected DiscoveryAnalysisReportStore discoveryReport;
 
+    private int              annotationBatchSize        = DEFAULT_ANNOTATION_BATCH_SIZE;
+    private List<Annotation> queuedReportAnnotations    = new ArrayList<>();
+    private List<String>     queuedDataFieldGUIDs       = new ArrayList<>();
+    private List<Annotation> queuedDataFieldAnnotations = new ArrayList<>();
+
 
     /**
      * Constructor sets up the key parameters for accessing the annotations store.
@@ -359,4 +376,243 @@ public abstract class DiscoveryAnnotationStore
     public abstract void  deleteDataField(String   dataFieldGUID) throws InvalidParameterException,
                                                                          UserNotAuthorizedException,
                                                                          PropertyServerException;
+
+
+    /**
+     * Add a batch of new annotations to the annotation store as top level annotations linked directly off of the report.
+     * This implementation adds them one at a time.  Annotation stores that can add a batch in a single request
+     * override this method.  If an annotation can not be added, the annotations before it have already been added.
+     *
+     * @param annotations list of annotation objects
+     * @return list of unique identifiers of the new annotations (in the same order as the annotations)
+     * @throws InvalidParameterException one of the annotations is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the annotations to the annotation store.
+     */
+    public List<String>  addAnnotationsToDiscoveryReport(List<Annotation> annotations) throws InvalidParameterException,
+                                                                                              UserNotAuthorizedException,
+                                                                                              PropertyServerException
+    {
+        List<String> annotationGUIDs = new ArrayList<>();
+
+        if (annotations != null)
+        {
+            for (Annotation annotation : annotations)
+            {
+                annotationGUIDs.add(this.addAnnotationToDiscoveryReport(annotation));
+            }
+        }
+
+        return annotationGUIDs;
+    }
+
+
+    /**
+     * Add a batch of new data fields to the Annotation store linked off of an annotation (typically SchemaAnalysisAnnotation).
+     * This implementation adds them one at a time.  Annotation stores that can add a batch in a single request
+     * override this method.  If a data field can not be added, the data fields before it have already been added.
+     *
+     * @param annotationGUID unique identifier of the annotation that the data fields are to be linked to
+     * @param dataFields list of dataField objects
+     * @return list of unique identifiers of the new data fields (in the same order as the data fields)
+     * @throws InvalidParameterException one of the dataFields is invalid or the annotation GUID points to an annotation
+     *                                   that can not be associated with a data field.
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the data fields to the Annotation store.
+     */
+    public List<String>  addDataFieldsToDiscoveryReport(String          annotationGUID,
+                                                        List<DataField> dataFields) throws InvalidParameterException,
+                                                                                           UserNotAuthorizedException,
+                                                                                           PropertyServerException
+    {
+        List<String> dataFieldGUIDs = new ArrayList<>();
+
+        if (dataFields != null)
+        {
+            for (DataField dataField : dataFields)
+            {
+                dataFieldGUIDs.add(this.addDataFieldToDiscoveryReport(annotationGUID, dataField));
+            }
+        }
+
+        return dataFieldGUIDs;
+    }
+
+
+    /**
+     * Add a batch of new annotations, each linked to an existing data field.  The annotation in each position of the
+     * annotations list is linked to the data field in the same position of the parentDataFieldGUIDs list.
+     * This implementation adds them one at a time.  Annotation stores that can add a batch in a single request
+     * override this method.  If an annotation can not be added, the annotations before it have already been added.
+     *
+     * @param parentDataFieldGUIDs unique identifiers of the data fields that the new annotations are to be attached to
+     * @param annotations list of annotation objects
+     * @return list of unique identifiers of the new annotations (in the same order as the annotations)
+     * @throws InvalidParameterException one of the parameters is invalid
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem saving annotations in the annotation store.
+     */
+    public List<String>  addAnnotationsToDataFields(List<String>     parentDataFieldGUIDs,
+                                                    List<Annotation> annotations) throws InvalidParameterException,
+                                                                                         UserNotAuthorizedException,
+                                                                                         PropertyServerException
+    {
+        final String methodName = "addAnnotationsToDataFields";
+
+        List<String> annotationGUIDs = new ArrayList<>();
+
+        if (annotations != null)
+        {
+            this.validateBatchLists(parentDataFieldGUIDs, annotations, methodName);
+
+            for (int i = 0; i < annotations.size(); i++)
+            {
+                annotationGUIDs.add(this.addAnnotationToDataField(parentDataFieldGUIDs.get(i), annotations.get(i)));
+            }
+        }
+
+        return annotationGUIDs;
+    }
+
+
+    /**
+     * Check that there is a parent data field identifier for each annotation in a batch.
+     *
+     * @param parentDataFieldGUIDs unique identifiers of the data fields
+     * @param annotations list of annotation objects
+     * @param methodName calling method
+     * @throws InvalidParameterException the lists are different lengths
+     */
+    protected void validateBatchLists(List<String>     parentDataFieldGUIDs,
+                                      List<Annotation> annotations,
+                                      String           methodName) throws InvalidParameterException
+    {
+        final String parameterName = "parentDataFieldGUIDs";
+
+        int parentCount = 0;
+
+        if (parentDataFieldGUIDs != null)
+        {
+            parentCount = parentDataFieldGUIDs.size();
+        }
+
+        if ((annotations != null) && (parentCount != annotations.size()))
+        {
+            throw new InvalidParameterException(ODFErrorCode.MISMATCHED_BATCH_LISTS.getMessageDefinition(methodName,
+                                                                                                         Integer.toString(parentCount),
+                                                                                                         Integer.toString(annotations.size())),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                parameterName);
+        }
+    }
+
+
+    /**
+     * Set up the number of queued annotations that triggers a batch to be added to the annotation store.
+     *
+     * @param annotationBatchSize number of annotations (1 or more)
+     */
+    public synchronized void setAnnotationBatchSize(int annotationBatchSize)
+    {
+        this.annotationBatchSize = Math.max(1, annotationBatchSize);
+    }
+
+
+    /**
+     * Queue a new annotation to be added to the annotation store as a top level annotation linked directly off of the
+     * report.  It is added with the next batch.
+     *
+     * @param annotation annotation object
+     * @throws InvalidParameterException the batch included an invalid annotation
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the batch to the annotation store.
+     */
+    public synchronized void queueAnnotationForDiscoveryReport(Annotation annotation) throws InvalidParameterException,
+                                                                                             UserNotAuthorizedException,
+                                                                                             PropertyServerException
+    {
+        queuedReportAnnotations.add(annotation);
+
+        this.flushFullBatch();
+    }
+
+
+    /**
+     * Queue a new annotation to be added to the annotation store and linked to an existing data field.
+     * It is added with the next batch.
+     *
+     * @param parentDataFieldGUID unique identifier of the data field that this new one is to be attached to
+     * @param annotation annotation object
+     * @throws InvalidParameterException the batch included an invalid annotation
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the batch to the annotation store.
+     */
+    public synchronized void queueAnnotationForDataField(String     parentDataFieldGUID,
+                                                         Annotation annotation) throws InvalidParameterException,
+                                                                                       UserNotAuthorizedException,
+                                                                                       PropertyServerException
+    {
+        queuedDataFieldGUIDs.add(parentDataFieldGUID);
+        queuedDataFieldAnnotations.add(annotation);
+
+        this.flushFullBatch();
+    }
+
+
+    /**
+     * Add any queued annotations to the annotation store.  This is called by the discovery engine when the
+     * discovery service completes, whether or not it was successful.  The queues are emptied before the batches
+     * are added so a failing batch is not retried.  The annotations for data fields are added even if the
+     * annotations for the report fail.
+     *
+     * @throws InvalidParameterException the batch included an invalid annotation
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the batch to the annotation store.
+     */
+    public synchronized void flushQueuedAnnotations() throws InvalidParameterException,
+                                                             UserNotAuthorizedException,
+                                                             PropertyServerException
+    {
+        List<Annotation> reportAnnotations    = queuedReportAnnotations;
+        List<String>     parentDataFieldGUIDs = queuedDataFieldGUIDs;
+        List<Annotation> dataFieldAnnotations = queuedDataFieldAnnotations;
+
+        queuedReportAnnotations = new ArrayList<>();
+        queuedDataFieldGUIDs = new ArrayList<>();
+        queuedDataFieldAnnotations = new ArrayList<>();
+
+        try
+        {
+            if (! reportAnnotations.isEmpty())
+            {
+                this.addAnnotationsToDiscoveryReport(reportAnnotations);
+            }
+        }
+        finally
+        {
+            if (! dataFieldAnnotations.isEmpty())
+            {
+                this.addAnnotationsToDataFields(parentDataFieldGUIDs, dataFieldAnnotations);
+            }
+        }
+    }
+
+
+    /**
+     * Add the queued annotations to the annotation store if the batch is full.
+     *
+     * @throws InvalidParameterException the batch included an invalid annotation
+     * @throws UserNotAuthorizedException the user id not authorized to issue this request
+     * @throws PropertyServerException there was a problem adding the batch to the annotation store.
+     */
+    private void flushFullBatch() throws InvalidParameterException,
+                                         UserNotAuthorizedException,
+                                         PropertyServerException
+    {
+        if (queuedReportAnnotations.size() + queuedDataFieldAnnotations.size() >= annotationBatchSize)
+        {
+            this.flushQueuedAnnotations();
+        }
+    }
 }
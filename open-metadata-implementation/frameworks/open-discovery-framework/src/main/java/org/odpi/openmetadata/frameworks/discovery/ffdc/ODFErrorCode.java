@@ -56,6 +56,10 @@ public enum ODFErrorCode implements ExceptionMessageSet
             "Invalid connector for asset {0}.  Error message was {1}.  The connection was {2}",
             "The discovery service is not able to analyze the asset.",
             "This may be a configuration or a code error.  Look for other error messages and review the code of the connector.  Once the cause is resolved, retry the discovery request."),
+    MISMATCHED_BATCH_LISTS(400, "ODF-DISCOVERY-SERVICE-400-008 ",
+            "Method {0} was passed {1} parent data field identifiers for {2} annotations",
+            "The annotations are not added to the annotation store because it is not possible to determine which data field each one belongs to.",
+            "This is a code error in the discovery service.  Make sure that each annotation in the batch has a parent data field identifier in the same position of the parent list."),
 
     UNEXPECTED_EXCEPTION(500, "ODF-DISCOVERY-SERVICE-500-001 ",
             "Unexpected exception in discovery service {0} of type {1} detected by method {2}.  The error message was {3}",
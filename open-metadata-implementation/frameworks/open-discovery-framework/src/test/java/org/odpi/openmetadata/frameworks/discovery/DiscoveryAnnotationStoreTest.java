@@ -0,0 +1,312 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.discovery;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.discovery.ffdc.ODFErrorCode;
+import org.odpi.openmetadata.frameworks.discovery.properties.Annotation;
+import org.odpi.openmetadata.frameworks.discovery.properties.AnnotationStatus;
+import org.odpi.openmetadata.frameworks.discovery.properties.DataField;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Verify the batch methods and the annotation queue of the DiscoveryAnnotationStore.
+ */
+public class DiscoveryAnnotationStoreTest
+{
+    private static final String FAILING_ANNOTATION = "failing";
+
+
+    /**
+     * Annotation store that records the annotations added to it one at a time, so the default batch methods are used.
+     * An annotation with the failing summary is rejected.
+     */
+    private static class RecordingAnnotationStore extends DiscoveryAnnotationStore
+    {
+        List<Annotation> reportAnnotations    = new ArrayList<>();
+        List<String>     parentDataFieldGUIDs = new ArrayList<>();
+        List<Annotation> dataFieldAnnotations = new ArrayList<>();
+
+
+        RecordingAnnotationStore()
+        {
+            super("TestUser", "TestAsset", null);
+        }
+
+
+        private void validate(Annotation annotation) throws InvalidParameterException
+        {
+            if (FAILING_ANNOTATION.equals(annotation.getSummary()))
+            {
+                throw new InvalidParameterException(ODFErrorCode.UNEXPECTED_EXCEPTION.getMessageDefinition("Test", "Test", "validate", "Test"),
+                                                    this.getClass().getName(),
+                                                    "validate",
+                                                    "annotation");
+            }
+        }
+
+        @Override
+        public String addAnnotationToDiscoveryReport(Annotation annotation) throws InvalidParameterException
+        {
+            validate(annotation);
+            reportAnnotations.add(annotation);
+
+            return "ReportAnnotation" + reportAnnotations.size();
+        }
+
+        @Override
+        public String addAnnotationToDataField(String parentDataFieldGUID, Annotation annotation) throws InvalidParameterException
+        {
+            validate(annotation);
+            parentDataFieldGUIDs.add(parentDataFieldGUID);
+            dataFieldAnnotations.add(annotation);
+
+            return "DataFieldAnnotation" + dataFieldAnnotations.size();
+        }
+
+        @Override
+        public String addDataFieldToDiscoveryReport(String annotationGUID, DataField dataField)
+        {
+            return annotationGUID + "/" + dataField.getDataFieldName();
+        }
+
+        @Override
+        public List<String> getTypesOfAnnotation() { return null; }
+
+        @Override
+        public Map<String, String> getTypesOfAnnotationWithDescriptions() { return null; }
+
+        @Override
+        public List<Annotation> getPreviousAnnotationsForAsset(int startingFrom, int maximumResults) { return null; }
+
+        @Override
+        public List<Annotation> getPreviousAnnotationsForAsset(AnnotationStatus status, int startingFrom, int maximumResults) { return null; }
+
+        @Override
+        public List<Annotation> getNewAnnotationsForAsset(int startingFrom, int maximumResults) { return null; }
+
+        @Override
+        public List<Annotation> getExtendedAnnotations(String annotationGUID, int startingFrom, int maximumResults) { return null; }
+
+        @Override
+        public Annotation getAnnotation(String annotationGUID) { return null; }
+
+        @Override
+        public String addAnnotationToAnnotation(String parentAnnotationGUID, Annotation annotation) { return null; }
+
+        @Override
+        public void updateAnnotation(Annotation annotation) { }
+
+        @Override
+        public void deleteAnnotation(String annotationGUID) { }
+
+        @Override
+        public List<DataField> getPreviousDataFieldsForAsset(int startingFrom, int maximumResults) { return null; }
+
+        @Override
+        public List<DataField> getNewDataFieldsForAsset(int startingFrom, int maximumResults) { return null; }
+
+        @Override
+        public List<DataField> getNestedDataFields(String parentDataFieldGUID, int startingFrom, int maximumResults) { return null; }
+
+        @Override
+        public DataField getDataField(String dataFieldGUID) { return null; }
+
+        @Override
+        public String addDataFieldToDataField(String parentDataFieldGUID, DataField dataField) { return null; }
+
+        @Override
+        public void updateDataField(DataField dataField) { }
+
+        @Override
+        public void deleteDataField(String dataFieldGUID) { }
+    }
+
+
+    /**
+     * Return an annotation with the supplied summary.
+     *
+     * @param summary summary
+     * @return annotation
+     */
+    private Annotation getAnnotation(String summary)
+    {
+        Annotation annotation = new Annotation();
+
+        annotation.setSummary(summary);
+
+        return annotation;
+    }
+
+
+    /**
+     * Validate that the batch methods return the unique identifiers in the order of the elements.
+     */
+    @Test
+    void testBatchMethods() throws Exception
+    {
+        RecordingAnnotationStore annotationStore = new RecordingAnnotationStore();
+
+        assertEquals(annotationStore.addAnnotationsToDiscoveryReport(Arrays.asList(getAnnotation("one"), getAnnotation("two"))),
+                     Arrays.asList("ReportAnnotation1", "ReportAnnotation2"));
+
+        assertEquals(annotationStore.addAnnotationsToDataFields(Arrays.asList("FieldA", "FieldB"),
+                                                                Arrays.asList(getAnnotation("a"), getAnnotation("b"))),
+                     Arrays.asList("DataFieldAnnotation1", "DataFieldAnnotation2"));
+        assertEquals(annotationStore.parentDataFieldGUIDs, Arrays.asList("FieldA", "FieldB"));
+
+        DataField first  = new DataField();
+        DataField second = new DataField();
+
+        first.setDataFieldName("first");
+        second.setDataFieldName("second");
+
+        assertEquals(annotationStore.addDataFieldsToDiscoveryReport("Schema", Arrays.asList(first, second)),
+                     Arrays.asList("Schema/first", "Schema/second"));
+    }
+
+
+    /**
+     * Validate that a batch of data field annotations must have a parent for each annotation.
+     */
+    @Test
+    void testMismatchedBatchLists() throws Exception
+    {
+        RecordingAnnotationStore annotationStore = new RecordingAnnotationStore();
+
+        try
+        {
+            annotationStore.addAnnotationsToDataFields(Arrays.asList("FieldA", "FieldB"), Collections.singletonList(getAnnotation("a")));
+            fail("Mismatched lists accepted");
+        }
+        catch (InvalidParameterException error)
+        {
+            assertTrue(error.getReportedErrorMessageId().startsWith("ODF-DISCOVERY-SERVICE-400-008"));
+        }
+
+        try
+        {
+            annotationStore.addAnnotationsToDataFields(null, Collections.singletonList(getAnnotation("a")));
+            fail("Missing parents accepted");
+        }
+        catch (InvalidParameterException error)
+        {
+            assertTrue(error.getReportedErrorMessageId().startsWith("ODF-DISCOVERY-SERVICE-400-008"));
+        }
+
+        assertTrue(annotationStore.dataFieldAnnotations.isEmpty());
+    }
+
+
+    /**
+     * Validate that queued annotations are added once the queue reaches the batch size.
+     */
+    @Test
+    void testFlushOnBatchSize() throws Exception
+    {
+        RecordingAnnotationStore annotationStore = new RecordingAnnotationStore();
+
+        annotationStore.setAnnotationBatchSize(3);
+
+        annotationStore.queueAnnotationForDiscoveryReport(getAnnotation("one"));
+        annotationStore.queueAnnotationForDataField("FieldA", getAnnotation("a"));
+
+        assertTrue(annotationStore.reportAnnotations.isEmpty());
+        assertTrue(annotationStore.dataFieldAnnotations.isEmpty());
+
+        annotationStore.queueAnnotationForDiscoveryReport(getAnnotation("two"));
+
+        assertEquals(annotationStore.reportAnnotations.size(), 2);
+        assertEquals(annotationStore.dataFieldAnnotations.size(), 1);
+        assertEquals(annotationStore.parentDataFieldGUIDs, Collections.singletonList("FieldA"));
+
+        /*
+         * The queue starts again after the batch is added.
+         */
+        annotationStore.queueAnnotationForDiscoveryReport(getAnnotation("three"));
+
+        assertEquals(annotationStore.reportAnnotations.size(), 2);
+    }
+
+
+    /**
+     * Validate that a batch size below one adds each annotation as it is queued.
+     */
+    @Test
+    void testMinimumBatchSize() throws Exception
+    {
+        RecordingAnnotationStore annotationStore = new RecordingAnnotationStore();
+
+        annotationStore.setAnnotationBatchSize(0);
+
+        annotationStore.queueAnnotationForDiscoveryReport(getAnnotation("one"));
+
+        assertEquals(annotationStore.reportAnnotations.size(), 1);
+    }
+
+
+    /**
+     * Validate that an explicit flush adds the partly filled queue and leaves it empty.
+     */
+    @Test
+    void testExplicitFlush() throws Exception
+    {
+        RecordingAnnotationStore annotationStore = new RecordingAnnotationStore();
+
+        annotationStore.queueAnnotationForDiscoveryReport(getAnnotation("one"));
+        annotationStore.queueAnnotationForDataField("FieldA", getAnnotation("a"));
+        annotationStore.queueAnnotationForDataField("FieldB", getAnnotation("b"));
+
+        annotationStore.flushQueuedAnnotations();
+
+        assertEquals(annotationStore.reportAnnotations.size(), 1);
+        assertEquals(annotationStore.parentDataFieldGUIDs, Arrays.asList("FieldA", "FieldB"));
+
+        annotationStore.flushQueuedAnnotations();
+
+        assertEquals(annotationStore.reportAnnotations.size(), 1);
+        assertEquals(annotationStore.dataFieldAnnotations.size(), 2);
+    }
+
+
+    /**
+     * Validate that a failing report annotation does not stop the data field annotations being added, that the
+     * annotations before the failure remain added, and that the failed batch is not retried.
+     */
+    @Test
+    void testFlushAfterFailure() throws Exception
+    {
+        RecordingAnnotationStore annotationStore = new RecordingAnnotationStore();
+
+        annotationStore.queueAnnotationForDiscoveryReport(getAnnotation("one"));
+        annotationStore.queueAnnotationForDiscoveryReport(getAnnotation(FAILING_ANNOTATION));
+        annotationStore.queueAnnotationForDiscoveryReport(getAnnotation("three"));
+        annotationStore.queueAnnotationForDataField("FieldA", getAnnotation("a"));
+
+        try
+        {
+            annotationStore.flushQueuedAnnotations();
+            fail("Failing annotation accepted");
+        }
+        catch (InvalidParameterException error)
+        {
+            assertEquals(annotationStore.reportAnnotations.size(), 1);
+            assertEquals(annotationStore.dataFieldAnnotations.size(), 1);
+        }
+
+        annotationStore.flushQueuedAnnotations();
+
+        assertEquals(annotationStore.reportAnnotations.size(), 1);
+        assertEquals(annotationStore.dataFieldAnnotations.size(), 1);
+    }
+}
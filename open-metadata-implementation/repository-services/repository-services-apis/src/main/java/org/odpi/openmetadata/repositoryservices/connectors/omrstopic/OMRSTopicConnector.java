@@ -13,12 +13,16 @@ import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicListener;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
 import org.odpi.openmetadata.repositoryservices.events.OMRSEventProtocolVersion;
 import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
 import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEvent;
 import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
 import org.odpi.openmetadata.repositoryservices.events.beans.OMRSEventBean;
 import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1InstanceSection;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSLogicErrorException;
 import org.slf4j.Logger;
@@ -26,6 +30,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 
 /**
@@ -63,7 +68,7 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
     private List<Connector> embeddedConnectors = null;
 
-    private List<OMRSTopicListener>          internalTopicListeners = new ArrayList<>();
+    private List<OMRSTopicListenerWrapper>   internalTopicListeners = new CopyOnWriteArrayList<>();
     private List<OpenMetadataTopicConnector> eventBusConnectors     = new ArrayList<>();
 
     private String                    connectionName       = OMRSAuditingComponent.OMRS_TOPIC_CONNECTOR.getComponentName();
@@ -72,6 +77,8 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
     protected AuditLog auditLog = null;
 
+    private OMRSRepositoryHelper repositoryHelper = null;
+
 
     /**
      * Default constructor
@@ -108,6 +115,18 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     }
 
 
+    /**
+     * Set up the repository helper used to route instance events to the listeners that are interested in
+     * the type of the instance.  If it is not set, every event is passed to every listener.
+     *
+     * @param repositoryHelper repository helper
+     */
+    public void setRepositoryHelper(OMRSRepositoryHelper repositoryHelper)
+    {
+        this.repositoryHelper = repositoryHelper;
+    }
+
+
     /**
      * Setup the version of the protocol to use for events.
      *
@@ -448,11 +467,16 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
             if (eventBean instanceof OMRSEventV1)
             {
                 OMRSEventBean finalEventBean = eventBean;
+                int[]         eventTypeIds   = this.getInstanceEventTypeIds((OMRSEventV1) eventBean);
+
                 internalTopicListeners.parallelStream().forEach((topicListener) ->
                 {
                     try
                     {
-                        this.processOMRSEvent((OMRSEventV1) finalEventBean, topicListener);
+                        if (topicListener.isInterestedInInstanceEvent(repositoryHelper, eventTypeIds))
+                        {
+                            this.processOMRSEvent((OMRSEventV1) finalEventBean, topicListener);
+                        }
                     }
                     catch (Throwable  error)
                     {
@@ -483,6 +507,64 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     }
 
 
+    /**
+     * Return the identifiers of the types of the instance in an instance event.  These are calculated once for
+     * the event and then matched against the types that each listener is interested in.  The original type of
+     * a retyped instance is included so that listeners interested in either type receive the event.
+     *
+     * @param event incoming event
+     * @return array of type identifiers or null if the event is to be passed to all listeners
+     */
+    private int[] getInstanceEventTypeIds(OMRSEventV1 event)
+    {
+        if ((repositoryHelper == null) ||
+            (event.getEventCategory() != OMRSEventCategory.INSTANCE) ||
+            (event.getInstanceEventSection() == null))
+        {
+            return null;
+        }
+
+        OMRSEventV1InstanceSection instanceSection = event.getInstanceEventSection();
+        InstanceType               instanceType    = null;
+        String                     typeName;
+
+        if (instanceSection.getEntity() != null)
+        {
+            instanceType = instanceSection.getEntity().getType();
+        }
+        else if (instanceSection.getRelationship() != null)
+        {
+            instanceType = instanceSection.getRelationship().getType();
+        }
+
+        if (instanceType != null)
+        {
+            typeName = instanceType.getTypeDefName();
+        }
+        else
+        {
+            typeName = instanceSection.getTypeDefName();
+        }
+
+        if (typeName == null)
+        {
+            /*
+             * For example, a batch of instances.
+             */
+            return null;
+        }
+
+        int typeId = repositoryHelper.getTypeDefId(connectionName, typeName);
+
+        if ((instanceSection.getOriginalTypeDefSummary() != null) && (instanceSection.getOriginalTypeDefSummary().getName() != null))
+        {
+            return new int[] { typeId, repositoryHelper.getTypeDefId(connectionName, instanceSection.getOriginalTypeDefSummary().getName()) };
+        }
+
+        return new int[] { typeId };
+    }
+
+
     /**
      * Process the OMRS Event bean.  The processing is careful of nulls and ignores an event
      * that is incorrectly formatted.  The assumption is that the unformatted part of the message
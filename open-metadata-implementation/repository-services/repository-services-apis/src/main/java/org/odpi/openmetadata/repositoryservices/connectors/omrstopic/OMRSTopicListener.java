@@ -7,6 +7,8 @@ import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
 import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEvent;
 import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
 
+import java.util.List;
+
 /**
  * OMRSTopicListener defines the interface that a listener must implement in order to receive events
  * from the OMRSTopicConnector.
@@ -35,4 +37,17 @@ public interface OMRSTopicListener
      * @param event inbound event
      */
     void processInstanceEvent(OMRSInstanceEvent event);
+
+
+    /**
+     * Return the names of the types of instances that this listener processes events for.  The OMRSTopicConnector
+     * only passes an instance event to the listener if the instance is one of these types, or a subtype of one of them.
+     * Registry and TypeDef events are always passed to the listener.
+     *
+     * @return list of type names or null to receive all instance events
+     */
+    default List<String> getInterestingInstanceTypeNames()
+    {
+        return null;
+    }
 }
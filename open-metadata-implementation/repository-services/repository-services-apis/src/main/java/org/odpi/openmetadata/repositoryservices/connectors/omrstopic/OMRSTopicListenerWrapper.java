@@ -8,6 +8,10 @@ import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
 import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEvent;
 import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+
+import java.util.BitSet;
+import java.util.List;
 
 
 /**
@@ -24,6 +28,9 @@ public class OMRSTopicListenerWrapper implements OMRSTopicListener
     private OMRSTopicListener  realListener;
     private AuditLog           auditLog;
     private String             serviceName = "<Unknown Service>";
+    private List<String>       interestingTypeNames;
+
+    private volatile InstanceTypeFilter instanceTypeFilter = null;
 
 
     /**
@@ -40,6 +47,7 @@ public class OMRSTopicListenerWrapper implements OMRSTopicListener
         this.realListener = realListener;
         this.serviceName = serviceName;
         this.auditLog = auditLog;
+        this.interestingTypeNames = realListener.getInterestingInstanceTypeNames();
     }
 
 
@@ -55,6 +63,61 @@ public class OMRSTopicListenerWrapper implements OMRSTopicListener
     {
         this.realListener = realListener;
         this.auditLog = auditLog;
+        this.interestingTypeNames = realListener.getInterestingInstanceTypeNames();
+    }
+
+
+    /**
+     * Return the names of the types of instances that the real listener processes events for.
+     *
+     * @return list of type names or null for all instance events
+     */
+    @Override
+    public List<String> getInterestingInstanceTypeNames()
+    {
+        return interestingTypeNames;
+    }
+
+
+    /**
+     * Determine whether an instance event should be passed to the real listener.  The types that the listener is
+     * interested in are compiled into a bitset of type identifiers that includes their subtypes.  It is recompiled
+     * when the known types change.
+     *
+     * @param repositoryHelper helper used to compile the type names
+     * @param eventTypeIds identifiers of the types of the instances in the event (null means unknown)
+     * @return boolean flag - true means pass the event
+     */
+    boolean isInterestedInInstanceEvent(OMRSRepositoryHelper repositoryHelper,
+                                        int[]                eventTypeIds)
+    {
+        if ((interestingTypeNames == null) || (repositoryHelper == null) || (eventTypeIds == null))
+        {
+            return true;
+        }
+
+        long               generation = repositoryHelper.getTypeDefIdGeneration();
+        InstanceTypeFilter filter     = instanceTypeFilter;
+
+        if ((filter == null) || (filter.generation != generation))
+        {
+            filter = new InstanceTypeFilter(generation,
+                                            repositoryHelper.getTypeDefIdsIncludingSubTypes(serviceName, interestingTypeNames));
+            instanceTypeFilter = filter;
+        }
+
+        for (int eventTypeId : eventTypeIds)
+        {
+            /*
+             * An unknown type is passed to the listener so it can report it.
+             */
+            if ((eventTypeId < 0) || (filter.typeIds.get(eventTypeId)))
+            {
+                return true;
+            }
+        }
+
+        return false;
     }
 
 
@@ -152,4 +215,21 @@ public class OMRSTopicListenerWrapper implements OMRSTopicListener
 
         Thread.currentThread().setName(currentThreadName);
     }
+
+
+    /**
+     * The compiled type identifiers and the generation of the types that they were compiled from.
+     */
+    private static class InstanceTypeFilter
+    {
+        private final long   generation;
+        private final BitSet typeIds;
+
+        InstanceTypeFilter(long   generation,
+                           BitSet typeIds)
+        {
+            this.generation = generation;
+            this.typeIds = typeIds;
+        }
+    }
 }
@@ -121,11 +121,13 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
 
 
     /**
-     * Pass an event that has been received on the topic to each of the registered listeners.
+     * Pass an event that has been received on the topic to each of the registered listeners.  This is normally
+     * called from the listener thread.  A subclass that processes events on its own threads may call it directly,
+     * in which case the listeners must be able to process events in parallel.
      *
      * @param event OMRSEvent to distribute
      */
-    private void distributeEvent(IncomingEvent event)
+    protected void distributeEvent(IncomingEvent event)
     {
         //Initially clear the async event processing context to ensure that it will only
         //have results from processing this event
@@ -2,8 +2,14 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Future;
 
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
@@ -926,6 +932,151 @@ public abstract class OMRSMetadataCollection implements AuditLoggingComponent
                                                                                                              UserNotAuthorizedException;
 
 
+    /**
+     * Return the relationships for a specific entity along with the entities at the other end of these
+     * relationships.  This is equivalent to calling getRelationshipsForEntity followed by getEntityDetail for
+     * each of the related entities, but allows a repository to retrieve the results in a single request.
+     * Paging applies to the relationships.  Related entities that can not be retrieved as an EntityDetail (for
+     * example, because only a proxy is stored or the caller is not permitted to read them) are omitted from the
+     * entity list.
+     *
+     * This default implementation is built from the existing methods.  Repositories that are able to
+     * retrieve the related entities more efficiently should override it.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier for the entity.
+     * @param relationshipTypeGUID String GUID of the the type of relationship required (null for all).
+     * @param fromRelationshipElement the starting element number of the relationships to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus By default, relationships in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return InstanceGraph containing the page of relationships and the entities at their other ends.  Null means
+     * no relationships associated with the entity.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the requested entity instance is not known in the metadata collection.
+     * @throws PropertyErrorException the sequencing property is not valid for the retrieved relationships.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceGraph getRelationshipsAndEntitiesForEntity(String               userId,
+                                                              String               entityGUID,
+                                                              String               relationshipTypeGUID,
+                                                              int                  fromRelationshipElement,
+                                                              List<InstanceStatus> limitResultsByStatus,
+                                                              Date                 asOfTime,
+                                                              String               sequencingProperty,
+                                                              SequencingOrder      sequencingOrder,
+                                                              int                  pageSize) throws InvalidParameterException,
+                                                                                                    TypeErrorException,
+                                                                                                    RepositoryErrorException,
+                                                                                                    EntityNotKnownException,
+                                                                                                    PropertyErrorException,
+                                                                                                    PagingErrorException,
+                                                                                                    FunctionNotSupportedException,
+                                                                                                    UserNotAuthorizedException
+    {
+        List<Relationship> relationships = this.getRelationshipsForEntity(userId,
+                                                                          entityGUID,
+                                                                          relationshipTypeGUID,
+                                                                          fromRelationshipElement,
+                                                                          limitResultsByStatus,
+                                                                          asOfTime,
+                                                                          sequencingProperty,
+                                                                          sequencingOrder,
+                                                                          pageSize);
+
+        if ((relationships == null) || (relationships.isEmpty()))
+        {
+            return null;
+        }
+
+        Map<String, EntityDetail> relatedEntities = new LinkedHashMap<>();
+
+        for (Relationship relationship : relationships)
+        {
+            String relatedEntityGUID = this.getRelatedEntityGUID(entityGUID, relationship);
+
+            if ((relatedEntityGUID != null) && (! relatedEntities.containsKey(relatedEntityGUID)))
+            {
+                EntityDetail relatedEntity = null;
+
+                try
+                {
+                    if (asOfTime == null)
+                    {
+                        relatedEntity = this.getEntityDetail(userId, relatedEntityGUID);
+                    }
+                    else
+                    {
+                        relatedEntity = this.getEntityDetail(userId, relatedEntityGUID, asOfTime);
+                    }
+                }
+                catch (EntityNotKnownException | EntityProxyOnlyException | UserNotAuthorizedException notAvailable)
+                {
+                    /*
+                     * The relationship is still returned - the caller can retrieve the entity itself if it needs
+                     * the reason why it is not available.
+                     */
+                }
+
+                relatedEntities.put(relatedEntityGUID, relatedEntity);
+            }
+        }
+
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (EntityDetail relatedEntity : relatedEntities.values())
+        {
+            if (relatedEntity != null)
+            {
+                entities.add(relatedEntity);
+            }
+        }
+
+        return new InstanceGraph(entities, relationships);
+    }
+
+
+    /**
+     * Return the unique identifier of the entity at the other end of a relationship from the starting entity.
+     * If the relationship links the starting entity to itself then the starting entity's identifier is returned.
+     *
+     * @param startingEntityGUID unique identifier of the starting entity
+     * @param relationship relationship retrieved for the starting entity
+     * @return unique identifier or null if the relationship is incomplete
+     */
+    protected String getRelatedEntityGUID(String       startingEntityGUID,
+                                          Relationship relationship)
+    {
+        if ((relationship != null) && (relationship.getEntityOneProxy() != null) && (relationship.getEntityTwoProxy() != null))
+        {
+            if (startingEntityGUID.equals(relationship.getEntityOneProxy().getGUID()))
+            {
+                return relationship.getEntityTwoProxy().getGUID();
+            }
+            else
+            {
+                return relationship.getEntityOneProxy().getGUID();
+            }
+        }
+
+        return null;
+    }
+
+
     /**
      * Return a list of entities that match the supplied criteria.  The results can be returned over many pages.
      *
@@ -1482,6 +1633,166 @@ public abstract class OMRSMetadataCollection implements AuditLoggingComponent
                                                                                            UserNotAuthorizedException;
 
 
+    /**
+     * Return a page of the entities and relationships that radiate out from the supplied entity GUID.
+     * The results are scoped both the instance type guids and the level.  Paging applies to the relationships,
+     * which are numbered in the order that they are reached as the neighborhood is explored out from the starting
+     * entity.  Each page includes the entities that are first reached through its relationships (the starting
+     * entity is returned on the first page).  The truncated flag is set in the returned graph when there are more
+     * relationships to retrieve.  This allows a large neighborhood to be returned in a series of bounded requests.
+     *
+     * This default implementation retrieves the whole neighborhood and returns the requested page from it.
+     * Repositories that are able to explore the neighborhood incrementally should override it.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID the starting point of the query.
+     * @param entityTypeGUIDs list of entity types to include in the query results.  Null means include
+     *                          all entities found, irrespective of their type.
+     * @param relationshipTypeGUIDs list of relationship types to include in the query results.  Null means include
+     *                                all relationships found, irrespective of their type.
+     * @param limitResultsByStatus By default, relationships in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param level the number of the relationships out from the starting entity that the query will traverse to
+     *              gather results.
+     * @param fromRelationshipElement the starting element number of the relationships to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param pageSize the maximum number of relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return InstanceGraph the sub-graph that represents the returned linked entities and their relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException one of the type guids passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the entity identified by the entityGUID is not found in the metadata collection.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws PagingErrorException the paging parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceGraph getEntityNeighborhood(String               userId,
+                                               String               entityGUID,
+                                               List<String>         entityTypeGUIDs,
+                                               List<String>         relationshipTypeGUIDs,
+                                               List<InstanceStatus> limitResultsByStatus,
+                                               List<String>         limitResultsByClassification,
+                                               Date                 asOfTime,
+                                               int                  level,
+                                               int                  fromRelationshipElement,
+                                               int                  pageSize) throws InvalidParameterException,
+                                                                                     TypeErrorException,
+                                                                                     RepositoryErrorException,
+                                                                                     EntityNotKnownException,
+                                                                                     PropertyErrorException,
+                                                                                     PagingErrorException,
+                                                                                     FunctionNotSupportedException,
+                                                                                     UserNotAuthorizedException
+    {
+        InstanceGraph neighborhood = this.getEntityNeighborhood(userId,
+                                                                entityGUID,
+                                                                entityTypeGUIDs,
+                                                                relationshipTypeGUIDs,
+                                                                limitResultsByStatus,
+                                                                limitResultsByClassification,
+                                                                asOfTime,
+                                                                level);
+
+        if ((neighborhood == null) || ((fromRelationshipElement <= 0) && (pageSize <= 0)))
+        {
+            return neighborhood;
+        }
+
+        return this.getNeighborhoodPage(entityGUID, neighborhood, fromRelationshipElement, pageSize);
+    }
+
+
+    /**
+     * Extract a page of relationships from a neighborhood graph along with the entities that are first reached
+     * through these relationships.
+     *
+     * @param entityGUID the starting point of the query
+     * @param neighborhood complete neighborhood
+     * @param fromRelationshipElement the starting element number of the relationships to return
+     * @param pageSize the maximum number of relationships to return (zero means no limit)
+     * @return InstanceGraph containing the requested page
+     */
+    private InstanceGraph getNeighborhoodPage(String        entityGUID,
+                                              InstanceGraph neighborhood,
+                                              int           fromRelationshipElement,
+                                              int           pageSize)
+    {
+        List<EntityDetail> allEntities      = neighborhood.getEntities();
+        List<Relationship> allRelationships = neighborhood.getRelationships();
+
+        Map<String, EntityDetail> entitiesByGUID = new HashMap<>();
+
+        if (allEntities != null)
+        {
+            for (EntityDetail entity : allEntities)
+            {
+                if (entity != null)
+                {
+                    entitiesByGUID.put(entity.getGUID(), entity);
+                }
+            }
+        }
+
+        int fromElement = Math.max(fromRelationshipElement, 0);
+        int toElement   = 0;
+
+        if (allRelationships != null)
+        {
+            toElement = allRelationships.size();
+
+            if ((pageSize > 0) && (fromElement + pageSize < toElement))
+            {
+                toElement = fromElement + pageSize;
+            }
+        }
+
+        Set<String>        reachedEntityGUIDs = new HashSet<>();
+        List<EntityDetail> entities           = new ArrayList<>();
+        List<Relationship> relationships      = new ArrayList<>();
+
+        reachedEntityGUIDs.add(entityGUID);
+
+        if ((fromElement == 0) && (entitiesByGUID.get(entityGUID) != null))
+        {
+            entities.add(entitiesByGUID.get(entityGUID));
+        }
+
+        for (int relationshipElement = 0; relationshipElement < toElement; relationshipElement++)
+        {
+            Relationship relationship = allRelationships.get(relationshipElement);
+
+            if (relationshipElement >= fromElement)
+            {
+                relationships.add(relationship);
+            }
+
+            for (EntityProxy entityProxy : new EntityProxy[]{ relationship.getEntityOneProxy(), relationship.getEntityTwoProxy() })
+            {
+                if ((entityProxy != null) && (reachedEntityGUIDs.add(entityProxy.getGUID())) &&
+                            (relationshipElement >= fromElement) && (entitiesByGUID.get(entityProxy.getGUID()) != null))
+                {
+                    entities.add(entitiesByGUID.get(entityProxy.getGUID()));
+                }
+            }
+        }
+
+        InstanceGraph page = new InstanceGraph(entities, relationships);
+
+        page.setTruncated(neighborhood.isTruncated() || ((allRelationships != null) && (toElement < allRelationships.size())));
+
+        return page;
+    }
+
+
     /**
      * Return the list of entities that are of the types listed in entityTypeGUIDs and are connected, either directly or
      * indirectly to the entity identified by startEntityGUID.
@@ -110,6 +110,21 @@ public class Classification extends InstanceAuditHeader
     }
 
 
+    /**
+     * Prevent any further changes to this classification and its properties.
+     */
+    @Override
+    public void freeze()
+    {
+        if ((! isFrozen()) && (classificationProperties != null))
+        {
+            classificationProperties = classificationProperties.getFrozenCopy();
+        }
+
+        super.freeze();
+    }
+
+
     /**
      * Return the name of the classification. This name is the type name defined in a ClassificationDef type definition.
      *
@@ -128,6 +143,7 @@ public class Classification extends InstanceAuditHeader
      */
     public void setName(String classificationName)
     {
+        super.validateNotFrozen("setName");
         this.classificationName = validateName(classificationName);
     }
 
@@ -140,15 +156,13 @@ public class Classification extends InstanceAuditHeader
      */
     public InstanceProperties getProperties()
     {
-        if (classificationProperties == null)
+        if ((classificationProperties == null) || (classificationProperties.isEmpty()))
         {
             return null;
         }
-        else if ((classificationProperties.getInstanceProperties() == null) &&
-                 (classificationProperties.getEffectiveFromTime() == null) &&
-                 (classificationProperties.getEffectiveToTime() == null))
+        else if (isFrozen())
         {
-            return null;
+            return classificationProperties.getCopyOnWriteView();
         }
         else
         {
@@ -164,6 +178,7 @@ public class Classification extends InstanceAuditHeader
      */
     public void setProperties(InstanceProperties classificationProperties)
     {
+        super.validateNotFrozen("setProperties");
         this.classificationProperties = classificationProperties;
     }
 
@@ -186,6 +201,7 @@ public class Classification extends InstanceAuditHeader
      */
     public void setClassificationOrigin(ClassificationOrigin classificationOrigin)
     {
+        super.validateNotFrozen("setClassificationOrigin");
         this.classificationOrigin = classificationOrigin;
     }
 
@@ -208,6 +224,7 @@ public class Classification extends InstanceAuditHeader
      */
     public void setClassificationOriginGUID(String classificationOriginGUID)
     {
+        super.validateNotFrozen("setClassificationOriginGUID");
         this.classificationOriginGUID = classificationOriginGUID;
     }
 
@@ -49,22 +49,36 @@ public class EntityDetail extends EntitySummary
     }
 
 
+    /**
+     * Prevent any further changes to this entity, its properties and its classifications.
+     */
+    @Override
+    public void freeze()
+    {
+        if ((! isFrozen()) && (entityProperties != null))
+        {
+            entityProperties = entityProperties.getFrozenCopy();
+        }
+
+        super.freeze();
+    }
+
+
     /**
      * Return a copy of all of the properties for this entity.  Null means no properties exist.
+     * If the entity is frozen, the copy shares the frozen property map until it is changed.
      *
      * @return InstanceProperties
      */
     public InstanceProperties  getProperties()
     {
-        if (entityProperties == null)
+        if ((entityProperties == null) || (entityProperties.isEmpty()))
         {
             return null;
         }
-        else if ((entityProperties.getInstanceProperties() == null) &&
-                 (entityProperties.getEffectiveFromTime() == null) &&
-                 (entityProperties.getEffectiveToTime() == null))
+        else if (isFrozen())
         {
-            return null;
+            return entityProperties.getCopyOnWriteView();
         }
         else
         {
@@ -80,6 +94,7 @@ public class EntityDetail extends EntitySummary
      */
     public void setProperties(InstanceProperties  newProperties)
     {
+        super.validateNotFrozen("setProperties");
         entityProperties = newProperties;
     }
 
@@ -61,6 +61,21 @@ public class EntityProxy extends EntitySummary
     }
 
 
+    /**
+     * Prevent any further changes to this entity proxy, its unique properties and its classifications.
+     */
+    @Override
+    public void freeze()
+    {
+        if ((! isFrozen()) && (uniqueProperties != null))
+        {
+            uniqueProperties = uniqueProperties.getFrozenCopy();
+        }
+
+        super.freeze();
+    }
+
+
     /**
      * Return a copy of the unique attributes for the entity.
      *
@@ -68,15 +83,13 @@ public class EntityProxy extends EntitySummary
      */
     public InstanceProperties getUniqueProperties()
     {
-        if (uniqueProperties == null)
+        if ((uniqueProperties == null) || (uniqueProperties.isEmpty()))
         {
             return null;
         }
-        else if ((uniqueProperties.getInstanceProperties() == null) &&
-                 (uniqueProperties.getEffectiveFromTime() == null) &&
-                 (uniqueProperties.getEffectiveToTime() == null))
+        else if (isFrozen())
         {
-            return null;
+            return uniqueProperties.getCopyOnWriteView();
         }
         else
         {
@@ -91,7 +104,11 @@ public class EntityProxy extends EntitySummary
      *
      * @param uniqueAttributes InstanceProperties iterator
      */
-    public void setUniqueProperties(InstanceProperties uniqueAttributes) { this.uniqueProperties = uniqueAttributes; }
+    public void setUniqueProperties(InstanceProperties uniqueAttributes)
+    {
+        super.validateNotFrozen("setUniqueProperties");
+        this.uniqueProperties = uniqueAttributes;
+    }
 
 
 
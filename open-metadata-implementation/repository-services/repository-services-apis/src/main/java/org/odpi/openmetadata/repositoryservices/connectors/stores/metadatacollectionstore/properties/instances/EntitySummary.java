@@ -5,6 +5,7 @@ package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacolle
 import com.fasterxml.jackson.annotation.*;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -60,11 +61,56 @@ public class EntitySummary extends InstanceHeader
 
         if (templateElement != null)
         {
-            this.setClassifications(templateElement.getClassifications());
+            List<Classification> templateClassifications = templateElement.getClassifications();
+
+            if ((templateClassifications != null) && (templateElement.isFrozen()))
+            {
+                /*
+                 * The copy is not frozen, so it needs classifications that can be changed.
+                 */
+                List<Classification> copiedClassifications = new ArrayList<>();
+
+                for (Classification classification : templateClassifications)
+                {
+                    copiedClassifications.add(new Classification(classification));
+                }
+
+                templateClassifications = copiedClassifications;
+            }
+
+            this.setClassifications(templateClassifications);
         }
     }
 
 
+    /**
+     * Prevent any further changes to this entity and its classifications.
+     */
+    @Override
+    public void freeze()
+    {
+        if ((! isFrozen()) && (classifications != null))
+        {
+            List<Classification> frozenClassifications = new ArrayList<>();
+
+            for (Classification classification : classifications)
+            {
+                if (classification != null)
+                {
+                    Classification frozenClassification = new Classification(classification);
+
+                    frozenClassification.freeze();
+                    frozenClassifications.add(frozenClassification);
+                }
+            }
+
+            classifications = frozenClassifications;
+        }
+
+        super.freeze();
+    }
+
+
     /**
      * Return a copy of the classifications for the entity.  This is a list stored in a newly initialized
      * iterator.
@@ -81,6 +127,10 @@ public class EntitySummary extends InstanceHeader
         {
             return null;
         }
+        else if (isFrozen())
+        {
+            return Collections.unmodifiableList(classifications);
+        }
         else
         {
             return new ArrayList<>(classifications);
@@ -95,6 +145,7 @@ public class EntitySummary extends InstanceHeader
      */
     public void setClassifications(List<Classification> classifications)
     {
+        super.validateNotFrozen("setClassifications");
         this.classifications = classifications;
     }
 
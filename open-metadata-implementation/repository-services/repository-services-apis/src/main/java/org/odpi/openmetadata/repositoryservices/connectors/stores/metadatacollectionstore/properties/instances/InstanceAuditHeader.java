@@ -74,6 +74,10 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
  *     </li>
  * </ul>
  *
+ * An instance can be frozen once it is complete, typically when it is returned from a repository.  Freezing takes
+ * private copies of the values held by the instance.  After that the setters throw an exception and the getters
+ * return the shared type, read-only views of the lists and maps, and copy-on-write views of the properties,
+ * rather than making a copy on every call.  Copies made with the copy/clone constructors are not frozen.
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -178,6 +182,28 @@ public abstract class InstanceAuditHeader extends InstanceElementHeader
     }
 
 
+    /**
+     * Prevent any further changes to this instance.  Subclasses override this method to freeze the objects they
+     * hold and then call this method.
+     */
+    public void freeze()
+    {
+        if (! isFrozen())
+        {
+            if (type != null)
+            {
+                this.type = new InstanceType(type);
+                this.type.freeze();
+            }
+
+            this.maintainedBy = this.getMaintainedBy();
+            this.mappingProperties = this.getMappingProperties();
+
+            super.setFrozen();
+        }
+    }
+
+
     /**
      * Return the version of this header.  This is used by the OMRS to determine if it is back level and
      * should not process events from a source that is more advanced because it does not have the ability
@@ -202,6 +228,7 @@ public abstract class InstanceAuditHeader extends InstanceElementHeader
      */
     public void setHeaderVersion(long headerVersion)
     {
+        super.validateNotFrozen("setHeaderVersion");
         this.headerVersion = headerVersion;
     }
 
@@ -217,6 +244,10 @@ public abstract class InstanceAuditHeader extends InstanceElementHeader
         {
             return null;
         }
+        else if (isFrozen())
+        {
+            return type;
+        }
         else
         {
             return new InstanceType(type);
@@ -231,6 +262,7 @@ public abstract class InstanceAuditHeader extends InstanceElementHeader
      */
     public void setType(InstanceType type)
     {
+        super.validateNotFrozen("setType");
         this.type = type;
     }
 
@@ -250,6 +282,7 @@ public abstract class InstanceAuditHeader extends InstanceElementHeader
      */
     public void setInstanceProvenanceType(InstanceProvenanceType instanceProvenanceType)
     {
+        super.validateNotFrozen("setInstanceProvenanceType");
         this.instanceProvenanceType = instanceProvenanceType;
     }
 
@@ -269,7 +302,11 @@ public abstract class InstanceAuditHeader extends InstanceElementHeader
      *
      * @param metadataCollectionId String unique identifier for the repository
      */
-    public void setMetadataCollectionId(String metadataCollectionId) { this.metadataCollectionId = metadataCollectionId; }
+    public void setMetadataCollectionId(String metadataCollectionId)
+    {
+        super.validateNotFrozen("setMetadataCollectionId");
+        this.metadataCollectionId = metadataCollectionId;
+    }
 
 
     /**
@@ -296,6 +333,7 @@ public abstract class InstanceAuditHeader extends InstanceElementHeader
      */
     public void setMetadataCollectionName(String metadataCollectionName)
     {
+        super.validateNotFrozen("setMetadataCollectionName");
         this.metadataCollectionName = metadataCollectionName;
     }
 
@@ -324,6 +362,7 @@ public abstract class InstanceAuditHeader extends InstanceElementHeader
      */
     public void setReplicatedBy(String replicatedBy)
     {
+        super.validateNotFrozen("setReplicatedBy");
         this.replicatedBy = replicatedBy;
     }
 
@@ -346,6 +385,7 @@ public abstract class InstanceAuditHeader extends InstanceElementHeader
      */
     public void setInstanceLicense(String instanceLicense)
     {
+        super.validateNotFrozen("setInstanceLicense");
         this.instanceLicense = instanceLicense;
     }
 
@@ -363,7 +403,11 @@ public abstract class InstanceAuditHeader extends InstanceElementHeader
      *
      * @param newStatus InstanceStatus
      */
-    public void setStatus(InstanceStatus newStatus) { this.currentStatus = newStatus; }
+    public void setStatus(InstanceStatus newStatus)
+    {
+        super.validateNotFrozen("setStatus");
+        this.currentStatus = newStatus;
+    }
 
 
     /**
@@ -379,7 +423,11 @@ public abstract class InstanceAuditHeader extends InstanceElementHeader
      *
      * @param createdBy String user name
      */
-    public void setCreatedBy(String createdBy) { this.createdBy = createdBy; }
+    public void setCreatedBy(String createdBy)
+    {
+        super.validateNotFrozen("setCreatedBy");
+        this.createdBy = createdBy;
+    }
 
 
     /**
@@ -395,7 +443,11 @@ public abstract class InstanceAuditHeader extends InstanceElementHeader
      *
      * @param updatedBy String user name
      */
-    public void setUpdatedBy(String updatedBy) { this.updatedBy = updatedBy; }
+    public void setUpdatedBy(String updatedBy)
+    {
+        super.validateNotFrozen("setUpdatedBy");
+        this.updatedBy = updatedBy;
+    }
 
 
     /**
@@ -413,6 +465,10 @@ public abstract class InstanceAuditHeader extends InstanceElementHeader
         {
             return null;
         }
+        else if (isFrozen())
+        {
+            return Collections.unmodifiableList(maintainedBy);
+        }
         else
         {
             return new ArrayList<>(maintainedBy);
@@ -427,6 +483,7 @@ public abstract class InstanceAuditHeader extends InstanceElementHeader
      */
     public void setMaintainedBy(List<String> maintainedBy)
     {
+        super.validateNotFrozen("setMaintainedBy");
         this.maintainedBy = maintainedBy;
     }
 
@@ -454,7 +511,11 @@ public abstract class InstanceAuditHeader extends InstanceElementHeader
      *
      * @param createTime Date/Time of creation
      */
-    public void setCreateTime(Date createTime) { this.createTime = createTime; }
+    public void setCreateTime(Date createTime)
+    {
+        super.validateNotFrozen("setCreateTime");
+        this.createTime = createTime;
+    }
 
 
     /**
@@ -480,7 +541,11 @@ public abstract class InstanceAuditHeader extends InstanceElementHeader
      *
      * @param updateTime Date/Time last updated
      */
-    public void setUpdateTime(Date updateTime) { this.updateTime = updateTime; }
+    public void setUpdateTime(Date updateTime)
+    {
+        super.validateNotFrozen("setUpdateTime");
+        this.updateTime = updateTime;
+    }
 
 
     /**
@@ -496,7 +561,11 @@ public abstract class InstanceAuditHeader extends InstanceElementHeader
      *
      * @param version Long version number
      */
-    public void setVersion(long version) { this.version = version; }
+    public void setVersion(long version)
+    {
+        super.validateNotFrozen("setVersion");
+        this.version = version;
+    }
 
 
 
@@ -515,7 +584,11 @@ public abstract class InstanceAuditHeader extends InstanceElementHeader
      *
      * @param statusOnDelete InstanceStatus Enum
      */
-    public void setStatusOnDelete(InstanceStatus statusOnDelete) { this.statusOnDelete = statusOnDelete; }
+    public void setStatusOnDelete(InstanceStatus statusOnDelete)
+    {
+        super.validateNotFrozen("setStatusOnDelete");
+        this.statusOnDelete = statusOnDelete;
+    }
 
 
     /**
@@ -533,6 +606,10 @@ public abstract class InstanceAuditHeader extends InstanceElementHeader
         {
             return null;
         }
+        else if (isFrozen())
+        {
+            return Collections.unmodifiableMap(mappingProperties);
+        }
         else
         {
             return new HashMap<>(mappingProperties);
@@ -547,6 +624,7 @@ public abstract class InstanceAuditHeader extends InstanceElementHeader
      */
     public void setMappingProperties(Map<String, Serializable> mappingProperties)
     {
+        super.validateNotFrozen("setMappingProperties");
         this.mappingProperties = mappingProperties;
     }
 
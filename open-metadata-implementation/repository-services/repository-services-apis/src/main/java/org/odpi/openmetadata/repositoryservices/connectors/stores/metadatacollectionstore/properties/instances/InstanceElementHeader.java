@@ -3,6 +3,8 @@
 package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances;
 
 import com.fasterxml.jackson.annotation.*;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeException;
 
 import java.io.Serializable;
 
@@ -12,6 +14,10 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
 /**
  * InstanceElementHeader provides a common base for all instance information from the metadata collection.
  * It implements Serializable.
+ *
+ * It also holds the frozen flag used by the subclasses that can be frozen (InstanceAuditHeader, InstanceType
+ * and InstanceProperties).  A frozen object can not be changed, so its getters can return read-only views of its
+ * content rather than copies.  The flag is not serialized, so an object received from another server is never frozen.
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -31,6 +37,8 @@ public abstract class InstanceElementHeader implements Serializable
 {
     private static final long serialVersionUID = 1L;
 
+    private transient boolean frozen = false;
+
 
     /**
      * Default Constructor sets the instance to nulls
@@ -51,7 +59,47 @@ public abstract class InstanceElementHeader implements Serializable
     public InstanceElementHeader(InstanceElementHeader   template)
     {
         /*
-         * Nothing to do.
+         * Nothing to do - a copy is never frozen.
          */
     }
+
+
+    /**
+     * Return whether this object has been frozen.
+     *
+     * @return boolean flag
+     */
+    @JsonIgnore
+    public boolean isFrozen()
+    {
+        return frozen;
+    }
+
+
+    /**
+     * Mark this object as frozen.  It is called by the freeze() method of the subclasses that can be frozen
+     * once they have taken their own copies of the values they hold.
+     */
+    protected void setFrozen()
+    {
+        this.frozen = true;
+    }
+
+
+    /**
+     * Throw an exception if this object has been frozen.  It is called at the start of each setter of the
+     * subclasses that can be frozen.
+     *
+     * @param methodName name of the setter
+     */
+    protected void validateNotFrozen(String methodName)
+    {
+        if (frozen)
+        {
+            throw new OMRSRuntimeException(OMRSErrorCode.FROZEN_INSTANCE.getMessageDefinition(methodName,
+                                                                                              this.getClass().getSimpleName()),
+                                           this.getClass().getName(),
+                                           methodName);
+        }
+    }
 }
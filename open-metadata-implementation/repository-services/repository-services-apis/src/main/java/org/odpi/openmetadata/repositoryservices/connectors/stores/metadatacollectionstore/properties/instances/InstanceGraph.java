@@ -28,6 +28,7 @@ public class InstanceGraph extends InstanceElementHeader
 
     private List<EntityDetail> entities      = null;
     private List<Relationship> relationships = null;
+    private boolean            truncated     = false;
 
 
     /**
@@ -84,6 +85,7 @@ public class InstanceGraph extends InstanceElementHeader
         {
             setEntities(templateGraph.getEntities());
             setRelationships(templateGraph.getRelationships());
+            setTruncated(templateGraph.isTruncated());
         }
     }
 
@@ -155,6 +157,30 @@ public class InstanceGraph extends InstanceElementHeader
     }
 
 
+    /**
+     * Return whether the graph is incomplete.  This is set when the repository stopped adding elements to the graph
+     * because it reached a limit on the size of the result (or the end of the requested page).  Further elements that
+     * match the request may be retrieved by requesting the next page.
+     *
+     * @return boolean flag
+     */
+    public boolean isTruncated()
+    {
+        return truncated;
+    }
+
+
+    /**
+     * Set up whether the graph is incomplete.
+     *
+     * @param truncated boolean flag
+     */
+    public void setTruncated(boolean truncated)
+    {
+        this.truncated = truncated;
+    }
+
+
     /**
      * Return a list of relationships that are connected to a specific entity.
      *
@@ -294,6 +320,7 @@ public class InstanceGraph extends InstanceElementHeader
         return "InstanceGraph{" +
                 "entities=" + entities +
                 ", relationships=" + relationships +
+                ", truncated=" + truncated +
                 '}';
     }
 
@@ -316,7 +343,8 @@ public class InstanceGraph extends InstanceElementHeader
             return false;
         }
         InstanceGraph that = (InstanceGraph) objectToCompare;
-        return Objects.equals(entities, that.entities) &&
+        return truncated == that.truncated &&
+                Objects.equals(entities, that.entities) &&
                 Objects.equals(relationships, that.relationships);
     }
 
@@ -330,6 +358,6 @@ public class InstanceGraph extends InstanceElementHeader
     public int hashCode()
     {
 
-        return Objects.hash(entities, relationships);
+        return Objects.hash(entities, relationships, truncated);
     }
 }
@@ -89,6 +89,7 @@ public abstract class InstanceHeader extends InstanceAuditHeader
      */
     public void setInstanceURL(String instanceURL)
     {
+        super.validateNotFrozen("setInstanceURL");
         this.instanceURL = instanceURL;
     }
 
@@ -106,7 +107,11 @@ public abstract class InstanceHeader extends InstanceAuditHeader
      *
      * @param guid String unique identifier
      */
-    public void setGUID(String guid) { this.guid = guid; }
+    public void setGUID(String guid)
+    {
+        super.validateNotFrozen("setGUID");
+        this.guid = guid;
+    }
 
 
     /**
@@ -127,6 +132,7 @@ public abstract class InstanceHeader extends InstanceAuditHeader
      */
     public void setReIdentifiedFromGUID(String reIdentifiedFromGUID)
     {
+        super.validateNotFrozen("setReIdentifiedFromGUID");
         this.reIdentifiedFromGUID = reIdentifiedFromGUID;
     }
 
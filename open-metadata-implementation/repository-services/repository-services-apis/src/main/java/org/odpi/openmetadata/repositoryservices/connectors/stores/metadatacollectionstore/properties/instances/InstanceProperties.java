@@ -56,6 +56,10 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
  *         This is an ordered list of values of the same type.
  *     </li>
  * </ul>
+ * An InstanceProperties object that belongs to a frozen entity, relationship or classification is also frozen.
+ * Its getInstanceProperties() method returns a read-only view of the map rather than a copy.  The owning instance
+ * returns a copy-on-write view of it from getProperties(), which shares the frozen map until the caller changes it.
+ * The property values themselves are shared rather than copied, as they are by the copy constructor.
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -68,6 +72,11 @@ public class InstanceProperties extends InstanceElementHeader
     private Date                                effectiveToTime = null;
     private Map<String, InstancePropertyValue>  instanceProperties = new HashMap<>();
 
+    /*
+     * Set when instanceProperties is the map of a frozen object - it is copied before the first change.
+     */
+    private transient boolean                   sharedMap = false;
+
 
     /**
      * Typical constructor
@@ -94,18 +103,81 @@ public class InstanceProperties extends InstanceElementHeader
         {
             this.effectiveFromTime = templateProperties.getEffectiveFromTime();
             this.effectiveToTime = templateProperties.getEffectiveToTime();
-            Iterator<String> propertyNames = templateProperties.getPropertyNames();
-
-            if (propertyNames != null)
-            {
-                while (propertyNames.hasNext())
-                {
-                    String                 newPropertyName  = propertyNames.next();
-                    InstancePropertyValue  newPropertyValue = templateProperties.getPropertyValue(newPropertyName);
-
-                    instanceProperties.put(newPropertyName, newPropertyValue);
-                }
-            }
+            this.instanceProperties.putAll(templateProperties.instanceProperties);
+        }
+    }
+
+
+    /**
+     * Return a copy of these properties that shares the map of this frozen object until it is changed.
+     * This is used by the getters of the frozen instances that own the properties.
+     *
+     * @return copy-on-write properties object
+     */
+    InstanceProperties getCopyOnWriteView()
+    {
+        InstanceProperties view = new InstanceProperties();
+
+        view.effectiveFromTime = this.effectiveFromTime;
+        view.effectiveToTime = this.effectiveToTime;
+        view.instanceProperties = this.instanceProperties;
+        view.sharedMap = true;
+
+        return view;
+    }
+
+
+    /**
+     * Return a frozen copy of these properties.  This is used when the instance that owns the properties is frozen.
+     *
+     * @return frozen properties object
+     */
+    InstanceProperties getFrozenCopy()
+    {
+        InstanceProperties frozenCopy = new InstanceProperties(this);
+
+        frozenCopy.setFrozen();
+
+        return frozenCopy;
+    }
+
+
+    /**
+     * Return whether there are no properties or effectivity dates set up.  This is the test used by the
+     * instances that own the properties to decide whether to return null from their getProperties() method.
+     *
+     * @return boolean flag
+     */
+    boolean isEmpty()
+    {
+        return (instanceProperties.isEmpty()) && (effectiveFromTime == null) && (effectiveToTime == null);
+    }
+
+
+    /**
+     * Prevent any further changes to these properties.  The map is copied so that changes to the map that was
+     * passed to setInstanceProperties() are not seen through this object.
+     */
+    public void freeze()
+    {
+        if (! isFrozen())
+        {
+            instanceProperties = new HashMap<>(instanceProperties);
+            sharedMap = false;
+            super.setFrozen();
+        }
+    }
+
+
+    /**
+     * Take a private copy of a shared map before it is changed.
+     */
+    private void copySharedMap()
+    {
+        if (sharedMap)
+        {
+            instanceProperties = new HashMap<>(instanceProperties);
+            sharedMap = false;
         }
     }
 
@@ -135,6 +207,7 @@ public class InstanceProperties extends InstanceElementHeader
      */
     public void setEffectiveFromTime(Date effectiveFromTime)
     {
+        super.validateNotFrozen("setEffectiveFromTime");
         this.effectiveFromTime = effectiveFromTime;
     }
 
@@ -157,12 +230,14 @@ public class InstanceProperties extends InstanceElementHeader
      */
     public void setEffectiveToTime(Date effectiveToTime)
     {
+        super.validateNotFrozen("setEffectiveToTime");
         this.effectiveToTime = effectiveToTime;
     }
 
 
     /**
-     * Return the instance properties as a map.
+     * Return the instance properties as a map.  The map is a copy unless this object is frozen, in which case
+     * it is a read-only view.
      *
      * @return  instance properties map.
      */
@@ -176,6 +251,10 @@ public class InstanceProperties extends InstanceElementHeader
         {
             return null;
         }
+        else if (isFrozen())
+        {
+            return Collections.unmodifiableMap(instanceProperties);
+        }
         else
         {
             return new HashMap<>(instanceProperties);
@@ -190,6 +269,10 @@ public class InstanceProperties extends InstanceElementHeader
      */
     public void setInstanceProperties(Map<String, InstancePropertyValue> instanceProperties)
     {
+        super.validateNotFrozen("setInstanceProperties");
+
+        sharedMap = false;
+
         if (instanceProperties == null)
         {
             this.instanceProperties = new HashMap<>();
@@ -209,6 +292,11 @@ public class InstanceProperties extends InstanceElementHeader
      */
     public Iterator<String> getPropertyNames()
     {
+        if ((isFrozen()) || (sharedMap))
+        {
+            return Collections.unmodifiableSet(instanceProperties.keySet()).iterator();
+        }
+
         return instanceProperties.keySet().iterator();
     }
 
@@ -238,6 +326,8 @@ public class InstanceProperties extends InstanceElementHeader
     {
         final String methodName = "setProperty";
 
+        super.validateNotFrozen(methodName);
+
         if (newPropertyName == null)
         {
             /*
@@ -249,10 +339,12 @@ public class InstanceProperties extends InstanceElementHeader
         }
         else if (newPropertyValue == null)
         {
+            copySharedMap();
             instanceProperties.remove(newPropertyName);
         }
         else
         {
+            copySharedMap();
             instanceProperties.put(newPropertyName, newPropertyValue);
         }
     }
@@ -305,7 +397,7 @@ public class InstanceProperties extends InstanceElementHeader
         InstanceProperties that = (InstanceProperties) objectToCompare;
         return Objects.equals(getEffectiveFromTime(), that.getEffectiveFromTime()) &&
                 Objects.equals(getEffectiveToTime(), that.getEffectiveToTime()) &&
-                Objects.equals(getInstanceProperties(), that.getInstanceProperties());
+                Objects.equals(instanceProperties, that.instanceProperties);
     }
 
 
@@ -318,7 +410,7 @@ public class InstanceProperties extends InstanceElementHeader
     public int hashCode()
     {
 
-        return Objects.hash(getEffectiveFromTime(), getEffectiveToTime(), getInstanceProperties());
+        return Objects.hash(getEffectiveFromTime(), getEffectiveToTime(), instanceProperties);
     }
 }
 
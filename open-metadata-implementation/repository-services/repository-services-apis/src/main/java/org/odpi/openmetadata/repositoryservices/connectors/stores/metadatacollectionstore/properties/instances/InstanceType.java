@@ -9,6 +9,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -17,6 +18,7 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
 
 /**
  * InstanceType contains information from the instance's TypeDef that are useful for processing the instance.
+ * It is frozen along with the instance that it belongs to.
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -104,6 +106,23 @@ public class InstanceType extends InstanceElementHeader
     }
 
 
+    /**
+     * Prevent any further changes to this type.  The lists are copied so that changes to the lists that were
+     * passed to the setters are not seen through this object.
+     */
+    public void freeze()
+    {
+        if (! isFrozen())
+        {
+            this.typeDefSuperTypes = this.getTypeDefSuperTypes();
+            this.validStatusList = this.getValidStatusList();
+            this.validInstanceProperties = this.getValidInstanceProperties();
+
+            super.setFrozen();
+        }
+    }
+
+
     /**
      * Return the category of this instance.  This defines the category of the TypeDef that determines its properties.
      *
@@ -119,6 +138,7 @@ public class InstanceType extends InstanceElementHeader
      */
     public void setTypeDefCategory(TypeDefCategory typeDefCategory)
     {
+        super.validateNotFrozen("setTypeDefCategory");
         this.typeDefCategory = typeDefCategory;
     }
 
@@ -136,7 +156,11 @@ public class InstanceType extends InstanceElementHeader
      *
      * @param typeDefGUID String unique identifier
      */
-    public void setTypeDefGUID(String typeDefGUID) { this.typeDefGUID = typeDefGUID; }
+    public void setTypeDefGUID(String typeDefGUID)
+    {
+        super.validateNotFrozen("setTypeDefGUID");
+        this.typeDefGUID = typeDefGUID;
+    }
 
 
     /**
@@ -152,7 +176,11 @@ public class InstanceType extends InstanceElementHeader
      *
      * @param typeDefName String type name
      */
-    public void setTypeDefName(String typeDefName) { this.typeDefName = typeDefName; }
+    public void setTypeDefName(String typeDefName)
+    {
+        super.validateNotFrozen("setTypeDefName");
+        this.typeDefName = typeDefName;
+    }
 
 
     /**
@@ -173,6 +201,7 @@ public class InstanceType extends InstanceElementHeader
      */
     public void setTypeDefVersion(long typeDefVersion)
     {
+        super.validateNotFrozen("setTypeDefVersion");
         this.typeDefVersion = typeDefVersion;
     }
 
@@ -216,6 +245,7 @@ public class InstanceType extends InstanceElementHeader
      */
     public void setTypeDefSuperTypes(List<TypeDefLink> typeDefSuperTypes)
     {
+        super.validateNotFrozen("setTypeDefSuperTypes");
         this.typeDefSuperTypes = typeDefSuperTypes;
     }
 
@@ -238,6 +268,7 @@ public class InstanceType extends InstanceElementHeader
      */
     public void setTypeDefDescription(String typeDefDescription)
     {
+        super.validateNotFrozen("setTypeDefDescription");
         this.typeDefDescription = typeDefDescription;
     }
 
@@ -260,6 +291,7 @@ public class InstanceType extends InstanceElementHeader
      */
     public void setTypeDefDescriptionGUID(String typeDefDescriptionGUID)
     {
+        super.validateNotFrozen("setTypeDefDescriptionGUID");
         this.typeDefDescriptionGUID = typeDefDescriptionGUID;
     }
 
@@ -279,6 +311,10 @@ public class InstanceType extends InstanceElementHeader
         {
             return null;
         }
+        else if (isFrozen())
+        {
+            return Collections.unmodifiableList(validStatusList);
+        }
         else
         {
             return new ArrayList<>(validStatusList);
@@ -293,6 +329,7 @@ public class InstanceType extends InstanceElementHeader
      */
     public void setValidStatusList(List<InstanceStatus> validStatusList)
     {
+        super.validateNotFrozen("setValidStatusList");
         this.validStatusList = validStatusList;
     }
 
@@ -312,6 +349,10 @@ public class InstanceType extends InstanceElementHeader
         {
             return null;
         }
+        else if (isFrozen())
+        {
+            return Collections.unmodifiableList(validInstanceProperties);
+        }
         else
         {
             return new ArrayList<>(validInstanceProperties);
@@ -326,6 +367,7 @@ public class InstanceType extends InstanceElementHeader
      */
     public void setValidInstanceProperties(List<String> validInstanceProperties)
     {
+        super.validateNotFrozen("setValidInstanceProperties");
         this.validInstanceProperties = validInstanceProperties;
     }
 
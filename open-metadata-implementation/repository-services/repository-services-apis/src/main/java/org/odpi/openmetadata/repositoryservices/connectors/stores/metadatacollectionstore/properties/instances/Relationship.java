@@ -60,6 +60,36 @@ public class Relationship extends InstanceHeader
     }
 
 
+    /**
+     * Prevent any further changes to this relationship, its properties and the proxies for its entities.
+     */
+    @Override
+    public void freeze()
+    {
+        if (! isFrozen())
+        {
+            if (relationshipProperties != null)
+            {
+                relationshipProperties = relationshipProperties.getFrozenCopy();
+            }
+
+            if (entityOneProxy != null)
+            {
+                entityOneProxy = new EntityProxy(entityOneProxy);
+                entityOneProxy.freeze();
+            }
+
+            if (entityTwoProxy != null)
+            {
+                entityTwoProxy = new EntityProxy(entityTwoProxy);
+                entityTwoProxy.freeze();
+            }
+        }
+
+        super.freeze();
+    }
+
+
     /**
      * Test to determine if the supplied entity is linked by this relationship.
      *
@@ -132,15 +162,13 @@ public class Relationship extends InstanceHeader
      */
     public InstanceProperties  getProperties()
     {
-        if (relationshipProperties == null)
+        if ((relationshipProperties == null) || (relationshipProperties.isEmpty()))
         {
             return null;
         }
-        else if ((relationshipProperties.getInstanceProperties() == null) &&
-                 (relationshipProperties.getEffectiveFromTime() == null) &&
-                 (relationshipProperties.getEffectiveToTime() == null))
+        else if (isFrozen())
         {
-            return null;
+            return relationshipProperties.getCopyOnWriteView();
         }
         else
         {
@@ -156,6 +184,7 @@ public class Relationship extends InstanceHeader
      */
     public void setProperties(InstanceProperties  newProperties)
     {
+        super.validateNotFrozen("setProperties");
         relationshipProperties = newProperties;
     }
 
@@ -172,6 +201,10 @@ public class Relationship extends InstanceHeader
         {
             return null;
         }
+        else if (isFrozen())
+        {
+            return entityOneProxy;
+        }
         else
         {
             return new EntityProxy(entityOneProxy);
@@ -184,7 +217,11 @@ public class Relationship extends InstanceHeader
      *
      * @param entityOneProxy EntityProxy object for the first end of the relationship.
      */
-    public void setEntityOneProxy(EntityProxy entityOneProxy) { this.entityOneProxy = entityOneProxy; }
+    public void setEntityOneProxy(EntityProxy entityOneProxy)
+    {
+        super.validateNotFrozen("setEntityOneProxy");
+        this.entityOneProxy = entityOneProxy;
+    }
 
 
     /**
@@ -198,6 +235,10 @@ public class Relationship extends InstanceHeader
         {
             return null;
         }
+        else if (isFrozen())
+        {
+            return entityTwoProxy;
+        }
         else
         {
             return new EntityProxy(entityTwoProxy);
@@ -210,7 +251,11 @@ public class Relationship extends InstanceHeader
      *
      * @param entityTwoProxy EntityProxy
      */
-    public void setEntityTwoProxy(EntityProxy entityTwoProxy) { this.entityTwoProxy = entityTwoProxy; }
+    public void setEntityTwoProxy(EntityProxy entityTwoProxy)
+    {
+        super.validateNotFrozen("setEntityTwoProxy");
+        this.entityTwoProxy = entityTwoProxy;
+    }
 
 
     /**
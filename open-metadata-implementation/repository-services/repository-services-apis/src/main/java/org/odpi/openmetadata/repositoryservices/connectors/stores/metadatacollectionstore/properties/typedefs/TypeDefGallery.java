@@ -25,6 +25,7 @@ public class TypeDefGallery extends TypeDefElementHeader
 
     private List<AttributeTypeDef> attributeTypeDefs = null;
     private List<TypeDef>          typeDefs          = null;
+    private String                 galleryVersion    = null;
 
 
     /**
@@ -49,6 +50,7 @@ public class TypeDefGallery extends TypeDefElementHeader
 
             this.setAttributeTypeDefs(templateAttributeTypeDefs);
             this.setTypeDefs(templateTypeDefs);
+            this.setGalleryVersion(template.getGalleryVersion());
         }
     }
 
@@ -119,6 +121,30 @@ public class TypeDefGallery extends TypeDefElementHeader
     }
 
 
+    /**
+     * Return the version identifier of the gallery.  This changes whenever a type is added, updated or removed
+     * so it can be used to detect that a cached copy of the gallery is out of date.  Null means the version
+     * is not known.
+     *
+     * @return version identifier
+     */
+    public String getGalleryVersion()
+    {
+        return galleryVersion;
+    }
+
+
+    /**
+     * Set up the version identifier of the gallery.
+     *
+     * @param galleryVersion version identifier
+     */
+    public void setGalleryVersion(String galleryVersion)
+    {
+        this.galleryVersion = galleryVersion;
+    }
+
+
     /**
      * toString JSON-style
      *
@@ -130,6 +156,7 @@ public class TypeDefGallery extends TypeDefElementHeader
         return "TypeDefGallery{" +
                 "attributeTypeDefs=" + attributeTypeDefs +
                 ", typeDefs=" + typeDefs +
+                ", galleryVersion='" + galleryVersion + '\'' +
                 '}';
     }
 
@@ -153,7 +180,8 @@ public class TypeDefGallery extends TypeDefElementHeader
         }
         TypeDefGallery that = (TypeDefGallery) o;
         return Objects.equals(getAttributeTypeDefs(), that.getAttributeTypeDefs()) &&
-                Objects.equals(getTypeDefs(), that.getTypeDefs());
+                Objects.equals(getTypeDefs(), that.getTypeDefs()) &&
+                Objects.equals(getGalleryVersion(), that.getGalleryVersion());
     }
 
 
@@ -166,6 +194,6 @@ public class TypeDefGallery extends TypeDefElementHeader
     public int hashCode()
     {
 
-        return Objects.hash(getAttributeTypeDefs(), getTypeDefs());
+        return Objects.hash(getAttributeTypeDefs(), getTypeDefs(), getGalleryVersion());
     }
 }
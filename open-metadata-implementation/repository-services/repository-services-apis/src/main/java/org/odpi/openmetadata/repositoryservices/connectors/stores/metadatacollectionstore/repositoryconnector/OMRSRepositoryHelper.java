@@ -10,6 +10,8 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSRepositoryPropertiesHelper;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -242,6 +244,39 @@ public interface OMRSRepositoryHelper extends OMRSRepositoryPropertiesHelper
                                 String superTypeName);
 
 
+    /**
+     * Return the small integer identifier assigned to a type by the repository content manager.  Identifiers are
+     * dense so they can be used as indexes into a bitset.
+     *
+     * @param sourceName source of the request (used for logging)
+     * @param typeName name of the type
+     * @return identifier or -1 if the type is not known
+     */
+    int getTypeDefId(String sourceName,
+                     String typeName);
+
+
+    /**
+     * Return the identifiers of the named types and all of their subtypes.  An instance is of one of the named types
+     * if the bit for the identifier of its type is set.  The result should be recalculated if the value returned by
+     * getTypeDefIdGeneration() changes, since new subtypes may have been added.
+     *
+     * @param sourceName source of the request (used for logging)
+     * @param typeNames names of the types
+     * @return bitset of type identifiers
+     */
+    BitSet getTypeDefIdsIncludingSubTypes(String             sourceName,
+                                          Collection<String> typeNames);
+
+
+    /**
+     * Return a counter that changes each time the known types change.
+     *
+     * @return generation counter
+     */
+    long getTypeDefIdGeneration();
+
+
     /**
      * Return the names of all of the properties in the supplied TypeDef and all of its super-types.
      *
@@ -37,15 +37,12 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
      */
     protected void removeProperty(String    propertyName, InstanceProperties properties)
     {
-        if (properties != null)
+        if ((properties != null) && (propertyName != null))
         {
-            Map<String, InstancePropertyValue> instancePropertyValueMap = properties.getInstanceProperties();
-
-            if (instancePropertyValueMap != null)
-            {
-                instancePropertyValueMap.remove(propertyName);
-                properties.setInstanceProperties(instancePropertyValueMap);
-            }
+            /*
+             * Setting a null value removes the property without copying the rest of the map.
+             */
+            properties.setProperty(propertyName, null);
         }
     }
 
@@ -86,7 +83,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
                             if (primitivePropertyValue.getPrimitiveValue() != null)
                             {
                                 String retrievedProperty = primitivePropertyValue.getPrimitiveValue().toString();
-                                log.debug("Retrieved " + propertyName + " property: " + retrievedProperty);
+                                log.debug("Retrieved {} property: {}", propertyName, retrievedProperty);
 
                                 return retrievedProperty;
                             }
@@ -100,7 +97,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
             }
         }
 
-        log.debug("No " + propertyName + " property");
+        log.debug("No {} property", propertyName);
         return null;
     }
 
@@ -130,11 +127,11 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
             if (retrievedProperty != null)
             {
                 this.removeProperty(propertyName, properties);
-                log.debug("Properties left: " + properties.toString());
+                log.debug("Properties left: {}", properties);
             }
         }
 
-        log.debug("Retrieved " + propertyName + " property: " + retrievedProperty);
+        log.debug("Retrieved {} property: {}", propertyName, retrievedProperty);
         return retrievedProperty;
     }
 
@@ -188,10 +185,10 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
         {
             retrievedProperty = this.getEnumPropertyOrdinal(sourceName, propertyName, properties, methodName);
             this.removeProperty(propertyName, properties);
-            log.debug("Properties left: " + properties.toString());
+            log.debug("Properties left: {}", properties);
         }
 
-        log.debug("Retrieved " + propertyName + " property ordinal : " + retrievedProperty);
+        log.debug("Retrieved {} property ordinal : {}", propertyName, retrievedProperty);
         return retrievedProperty;
     }
 
@@ -226,7 +223,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
                     {
                         MapPropertyValue mapPropertyValue = (MapPropertyValue) instancePropertyValue;
 
-                        log.debug("Retrieved map property " + propertyName);
+                        log.debug("Retrieved map property {}", propertyName);
 
                         return mapPropertyValue.getMapValues();
                     }
@@ -238,7 +235,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
             }
         }
 
-        log.debug("Map property " + propertyName + " not present");
+        log.debug("Map property {} not present", propertyName);
         return null;
     }
 
@@ -271,7 +268,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
                  * If it is then it can be cast to an ArrayPropertyValue in order to extract the
                  * array size and the values.
                  */
-                log.debug(thisMethodName + "retrieved array property " + propertyName + " for " + callingMethodName);
+                log.debug("{}retrieved array property {} for {}", thisMethodName, propertyName, callingMethodName);
 
                 try
                 {
@@ -284,7 +281,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
                             /*
                              * There are values to extract
                              */
-                            log.debug(thisMethodName + " found that array property " + propertyName + " has " + arrayPropertyValue.getArrayCount() + " elements.");
+                            log.debug("{} found that array property {} has {} elements.", thisMethodName, propertyName, arrayPropertyValue.getArrayCount());
 
                             return getInstancePropertiesAsArray(arrayPropertyValue.getArrayValues(), callingMethodName);
                         }
@@ -297,7 +294,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
             }
         }
 
-        log.debug(propertyName + " not present in " + properties);
+        log.debug("{} not present in {}", propertyName, properties);
         return null;
     }
 
@@ -328,11 +325,11 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
             if (retrievedProperty != null)
             {
                 this.removeProperty(propertyName, properties);
-                log.debug("Properties left: " + properties.toString());
+                log.debug("Properties left: {}", properties);
             }
         }
 
-        log.debug("Retrieved " + propertyName + " property: " + retrievedProperty);
+        log.debug("Retrieved {} property: {}", propertyName, retrievedProperty);
         return retrievedProperty;
     }
 
@@ -358,7 +355,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
             {
                 if (arrayOrdinalName != null)
                 {
-                    log.debug(thisMethodName + " processing array element: " + arrayOrdinalName);
+                    log.debug("{} processing array element: {}", thisMethodName, arrayOrdinalName);
 
                     int                   arrayOrdinalNumber  = Integer.decode(arrayOrdinalName);
                     InstancePropertyValue actualPropertyValue = instanceProperties.getPropertyValue(arrayOrdinalName);
@@ -386,11 +383,11 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
                 }
             }
 
-            log.debug(thisMethodName + " returning array: " + resultingArray + " to method " + callingMethodName);
+            log.debug("{} returning array: {} to method {}", thisMethodName, resultingArray, callingMethodName);
             return resultingArray;
         }
 
-        log.debug(thisMethodName + " has no property values to extract for method " + callingMethodName);
+        log.debug("{} has no property values to extract for method {}", thisMethodName, callingMethodName);
         return null;
     }
 
@@ -462,11 +459,11 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
             if (retrievedProperty != null)
             {
                 this.removeProperty(propertyName, properties);
-                log.debug("Properties left: " + properties.toString());
+                log.debug("Properties left: {}", properties);
             }
         }
 
-        log.debug("Retrieved " + propertyName + " property: " + retrievedProperty);
+        log.debug("Retrieved {} property: {}", propertyName, retrievedProperty);
         return retrievedProperty;
     }
 
@@ -538,11 +535,11 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
             if (retrievedProperty != null)
             {
                 this.removeProperty(propertyName, properties);
-                log.debug("Properties left: " + properties.toString());
+                log.debug("Properties left: {}", properties);
             }
         }
 
-        log.debug("Retrieved " + propertyName + " property: " + retrievedProperty);
+        log.debug("Retrieved {} property: {}", propertyName, retrievedProperty);
         return retrievedProperty;
     }
 
@@ -614,11 +611,11 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
             if (retrievedProperty != null)
             {
                 this.removeProperty(propertyName, properties);
-                log.debug("Properties left: " + properties.toString());
+                log.debug("Properties left: {}", properties);
             }
         }
 
-        log.debug("Retrieved " + propertyName + " property: " + retrievedProperty);
+        log.debug("Retrieved {} property: {}", propertyName, retrievedProperty);
         return retrievedProperty;
     }
 
@@ -691,11 +688,11 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
             if (retrievedProperty != null)
             {
                 this.removeProperty(propertyName, properties);
-                log.debug("Properties left: " + properties.toString());
+                log.debug("Properties left: {}", properties);
             }
         }
 
-        log.debug("Retrieved " + propertyName + " property: " + retrievedProperty);
+        log.debug("Retrieved {} property: {}", propertyName, retrievedProperty);
         return retrievedProperty;
     }
 
@@ -729,7 +726,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
                     {
                         MapPropertyValue mapInstancePropertyValue = (MapPropertyValue) instancePropertyValue;
 
-                        log.debug("Retrieved map property " + propertyName);
+                        log.debug("Retrieved map property {}", propertyName);
 
                         return this.getInstancePropertiesAsMap(mapInstancePropertyValue.getMapValues());
                     }
@@ -741,7 +738,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
             }
         }
 
-        log.debug("Map property " + propertyName + " not present");
+        log.debug("Map property {} not present", propertyName);
         return null;
     }
 
@@ -772,11 +769,11 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
             if (retrievedProperty != null)
             {
                 this.removeProperty(propertyName, properties);
-                log.debug("Properties left: " + properties.toString());
+                log.debug("Properties left: {}", properties);
             }
         }
 
-        log.debug("Retrieved " + propertyName + " property: " + retrievedProperty);
+        log.debug("Retrieved {} property: {}", propertyName, retrievedProperty);
         return retrievedProperty;
     }
 
@@ -822,7 +819,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
                 }
             }
 
-            log.debug("Returning map: " + resultingMap);
+            log.debug("Returning map: {}", resultingMap);
             return resultingMap;
         }
 
@@ -864,7 +861,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
 
                         if (primitivePropertyValue.getPrimitiveDefCategory() == PrimitiveDefCategory.OM_PRIMITIVE_TYPE_INT)
                         {
-                            log.debug("Retrieved integer property " + propertyName);
+                            log.debug("Retrieved integer property {}", propertyName);
 
                             if (primitivePropertyValue.getPrimitiveValue() != null)
                             {
@@ -880,7 +877,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
             }
         }
 
-        log.debug("Integer property " + propertyName + " not present");
+        log.debug("Integer property {} not present", propertyName);
 
         return 0;
     }
@@ -910,10 +907,10 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
             retrievedProperty = this.getIntProperty(sourceName, propertyName, properties, methodName);
 
             this.removeProperty(propertyName, properties);
-            log.debug("Properties left: " + properties.toString());
+            log.debug("Properties left: {}", properties);
         }
 
-        log.debug("Retrieved " + propertyName + " property: " + retrievedProperty);
+        log.debug("Retrieved {} property: {}", propertyName, retrievedProperty);
         return retrievedProperty;
     }
 
@@ -950,7 +947,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
 
                         if (primitivePropertyValue.getPrimitiveDefCategory() == PrimitiveDefCategory.OM_PRIMITIVE_TYPE_DATE)
                         {
-                            log.debug("Retrieved date property " + propertyName);
+                            log.debug("Retrieved date property {}", propertyName);
 
                             if (primitivePropertyValue.getPrimitiveValue() != null)
                             {
@@ -968,7 +965,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
             }
         }
 
-        log.debug("Date property " + propertyName + " not present");
+        log.debug("Date property {} not present", propertyName);
 
         return null;
     }
@@ -998,10 +995,10 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
             retrievedProperty = this.getDateProperty(sourceName, propertyName, properties, methodName);
 
             this.removeProperty(propertyName, properties);
-            log.debug("Properties left: " + properties.toString());
+            log.debug("Properties left: {}", properties);
         }
 
-        log.debug("Retrieved " + propertyName + " property: " + retrievedProperty);
+        log.debug("Retrieved {} property: {}", propertyName, retrievedProperty);
         return retrievedProperty;
     }
 
@@ -1039,7 +1036,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
 
                         if (primitivePropertyValue.getPrimitiveDefCategory() == PrimitiveDefCategory.OM_PRIMITIVE_TYPE_BOOLEAN)
                         {
-                            log.debug("Retrieved boolean property " + propertyName);
+                            log.debug("Retrieved boolean property {}", propertyName);
 
                             if (primitivePropertyValue.getPrimitiveValue() != null)
                             {
@@ -1055,7 +1052,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
             }
         }
 
-        log.debug("Boolean property " + propertyName + " not present");
+        log.debug("Boolean property {} not present", propertyName);
 
         return false;
     }
@@ -1085,10 +1082,10 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
             retrievedProperty = this.getBooleanProperty(sourceName, propertyName, properties, methodName);
 
             this.removeProperty(propertyName, properties);
-            log.debug("Properties left: " + properties.toString());
+            log.debug("Properties left: {}", properties);
         }
 
-        log.debug("Retrieved " + propertyName + " property: " + retrievedProperty);
+        log.debug("Retrieved {} property: {}", propertyName, retrievedProperty);
         return retrievedProperty;
     }
 
@@ -1115,7 +1112,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
 
         if (propertyValue != null)
         {
-            log.debug("Adding property " + propertyName + " for " + methodName);
+            log.debug("Adding property {} for {}", propertyName, methodName);
 
             if (properties == null)
             {
@@ -1168,7 +1165,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
     {
         InstanceProperties  resultingProperties;
 
-        log.debug("Adding property " + propertyName + " for " + methodName);
+        log.debug("Adding property {} for {}", propertyName, methodName);
 
         if (properties == null)
         {
@@ -1215,7 +1212,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
     {
         InstanceProperties  resultingProperties;
 
-        log.debug("Adding property " + propertyName + " for " + methodName);
+        log.debug("Adding property {} for {}", propertyName, methodName);
 
         if (properties == null)
         {
@@ -1260,7 +1257,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
     {
         InstanceProperties  resultingProperties;
 
-        log.debug("Adding property " + propertyName + " for " + methodName);
+        log.debug("Adding property {} for {}", propertyName, methodName);
 
         if (properties == null)
         {
@@ -1307,7 +1304,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
         {
             InstanceProperties resultingProperties;
 
-            log.debug("Adding property " + propertyName + " for " + methodName);
+            log.debug("Adding property {} for {}", propertyName, methodName);
 
             if (properties == null)
             {
@@ -1359,7 +1356,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
     {
         InstanceProperties  resultingProperties;
 
-        log.debug("Adding property " + propertyName + " for " + methodName);
+        log.debug("Adding property {} for {}", propertyName, methodName);
 
         if (properties == null)
         {
@@ -1410,7 +1407,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
     {
         InstanceProperties  resultingProperties;
 
-        log.debug("Adding property " + propertyName + " for " + methodName);
+        log.debug("Adding property {} for {}", propertyName, methodName);
 
         if (properties == null)
         {
@@ -1457,7 +1454,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
     {
         if (arrayValues != null)
         {
-            log.debug("Adding property " + propertyName + " for " + methodName + " from " + sourceName);
+            log.debug("Adding property {} for {} from {}", propertyName, methodName, sourceName);
 
             InstanceProperties  resultingProperties;
 
@@ -1486,7 +1483,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
 
             resultingProperties.setProperty(propertyName, arrayPropertyValue);
 
-            log.debug("Returning instanceProperty: " + resultingProperties.toString());
+            log.debug("Returning instanceProperty: {}", resultingProperties);
 
             return resultingProperties;
         }
@@ -1517,7 +1514,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
     {
         if (mapValues != null)
         {
-            log.debug("Adding property " + propertyName + " for " + methodName);
+            log.debug("Adding property {} for {}", propertyName, methodName);
 
             if (! mapValues.isEmpty())
             {
@@ -1551,7 +1548,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
                     mapPropertyValue.setMapValues(mapInstanceProperties);
                     resultingProperties.setProperty(propertyName, mapPropertyValue);
 
-                    log.debug("Returning instanceProperty: " + resultingProperties.toString());
+                    log.debug("Returning instanceProperty: {}", resultingProperties);
 
                     return resultingProperties;
                 }
@@ -1584,7 +1581,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
     {
         if ((mapValues != null ) && (! mapValues.isEmpty()))
         {
-            log.debug("Adding property " + propertyName + " for " + methodName);
+            log.debug("Adding property {} for {}", propertyName, methodName);
 
             if (! mapValues.isEmpty())
             {
@@ -1619,7 +1616,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
                     mapPropertyValue.setMapValues(mapInstanceProperties);
                     resultingProperties.setProperty(propertyName, mapPropertyValue);
 
-                    log.debug("Returning instanceProperty: " + resultingProperties.toString());
+                    log.debug("Returning instanceProperty: {}", resultingProperties);
 
                     return resultingProperties;
                 }
@@ -1652,7 +1649,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
     {
         if (mapValues != null)
         {
-            log.debug("Adding property " + propertyName + " for " + methodName);
+            log.debug("Adding property {} for {}", propertyName, methodName);
 
             if (! mapValues.isEmpty())
             {
@@ -1687,7 +1684,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
                     mapPropertyValue.setMapValues(mapInstanceProperties);
                     resultingProperties.setProperty(propertyName, mapPropertyValue);
 
-                    log.debug("Returning instanceProperty: " + resultingProperties.toString());
+                    log.debug("Returning instanceProperty: {}", resultingProperties);
 
                     return resultingProperties;
                 }
@@ -1720,7 +1717,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
     {
         if (mapValues != null)
         {
-            log.debug("Adding property " + propertyName + " for " + methodName);
+            log.debug("Adding property {} for {}", propertyName, methodName);
 
             if (! mapValues.isEmpty())
             {
@@ -1755,7 +1752,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
                     mapPropertyValue.setMapValues(mapInstanceProperties);
                     resultingProperties.setProperty(propertyName, mapPropertyValue);
 
-                    log.debug("Returning instanceProperty: " + resultingProperties.toString());
+                    log.debug("Returning instanceProperty: {}", resultingProperties);
 
                     return resultingProperties;
                 }
@@ -1789,7 +1786,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
     {
         if (mapValues != null)
         {
-            log.debug("Adding property " + propertyName + " for " + methodName);
+            log.debug("Adding property {} for {}", propertyName, methodName);
 
             if (! mapValues.isEmpty())
             {
@@ -1824,7 +1821,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
                     mapPropertyValue.setMapValues(mapInstanceProperties);
                     resultingProperties.setProperty(propertyName, mapPropertyValue);
 
-                    log.debug("Returning instanceProperty: " + resultingProperties.toString());
+                    log.debug("Returning instanceProperty: {}", resultingProperties);
 
                     return resultingProperties;
                 }
@@ -1855,7 +1852,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
     {
         if ((mapValues != null) && (! mapValues.isEmpty()))
         {
-            log.debug("Building map property for " + methodName);
+            log.debug("Building map property for {}", methodName);
 
             InstanceProperties  resultingProperties;
 
@@ -2019,7 +2016,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
 
             if (propertyCount > 0)
             {
-                log.debug("Returning instanceProperty: " + resultingProperties.toString());
+                log.debug("Returning instanceProperty: {}", resultingProperties);
 
                 return resultingProperties;
             }
@@ -2051,7 +2048,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
     {
         if ((mapValues != null) && (! mapValues.isEmpty()))
         {
-            log.debug("Adding property " + propertyName + " for " + methodName);
+            log.debug("Adding property {} for {}", propertyName, methodName);
 
             InstanceProperties  resultingProperties;
 
@@ -2084,7 +2081,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
 
             if (propertyCount > 0)
             {
-                log.debug("Returning instanceProperty: " + resultingProperties.toString());
+                log.debug("Returning instanceProperty: {}", resultingProperties);
 
                 return resultingProperties;
             }
@@ -2116,7 +2113,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
     {
         if ((mapValues != null) && (! mapValues.isEmpty()))
         {
-            log.debug("Adding property " + propertyName + " for " + methodName);
+            log.debug("Adding property {} for {}", propertyName, methodName);
 
             InstanceProperties  resultingProperties;
 
@@ -2149,7 +2146,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
 
             if (propertyCount > 0)
             {
-                log.debug("Returning instanceProperty: " + resultingProperties.toString());
+                log.debug("Returning instanceProperty: {}", resultingProperties);
 
                 return resultingProperties;
             }
@@ -2182,7 +2179,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
     {
         if ((mapValues != null) && (! mapValues.isEmpty()))
         {
-            log.debug("Adding property " + propertyName + " for " + methodName);
+            log.debug("Adding property {} for {}", propertyName, methodName);
 
             InstanceProperties  resultingProperties;
 
@@ -2215,7 +2212,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
 
             if (propertyCount > 0)
             {
-                log.debug("Returning instanceProperty: " + resultingProperties.toString());
+                log.debug("Returning instanceProperty: {}", resultingProperties);
 
                 return resultingProperties;
             }
@@ -2247,7 +2244,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
     {
         if ((mapValues != null) && (! mapValues.isEmpty()))
         {
-            log.debug("Adding property " + propertyName + " for " + methodName);
+            log.debug("Adding property {} for {}", propertyName, methodName);
 
             InstanceProperties  resultingProperties;
 
@@ -2280,7 +2277,7 @@ public class OMRSRepositoryPropertiesUtilities implements OMRSRepositoryProperti
 
             if (propertyCount > 0)
             {
-                log.debug("Returning instanceProperty: " + resultingProperties.toString());
+                log.debug("Returning instanceProperty: {}", resultingProperties);
 
                 return resultingProperties;
             }
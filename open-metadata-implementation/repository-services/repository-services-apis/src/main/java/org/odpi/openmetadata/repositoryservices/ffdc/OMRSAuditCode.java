@@ -341,6 +341,24 @@ public enum OMRSAuditCode implements AuditLogMessageSet
                                 "The connector will not be able to support access to the open metadata repositories connected via the cohort.",
                                 "Review the message to discover why the connector failed to start."),
 
+    ENTERPRISE_INSTANCE_CACHE_STARTED("OMRS-AUDIT-0044",
+                                      OMRSAuditLogRecordSeverity.STARTUP,
+                                      "The enterprise OMRS connectors are sharing a cache of up to {0} instances from remote repositories " +
+                                              "with a time to live of {1} seconds",
+                                      "Entities and relationships retrieved from other members of the cohorts are remembered so that " +
+                                              "repeated requests for them do not need to be federated.  The cache is maintained from the " +
+                                              "instance events received on the enterprise OMRS topic.",
+                                      "No action is required.  This is part of the normal operation of the server."),
+
+    ENTERPRISE_INSTANCE_CACHE_STATISTICS("OMRS-AUDIT-0045",
+                                         OMRSAuditLogRecordSeverity.SHUTDOWN,
+                                         "The enterprise instance cache served {0} hits and {1} misses (hit rate {2}%); {3} misses " +
+                                                 "were sent directly to the home repository, {4} instances were removed because they changed " +
+                                                 "and {5} were evicted",
+                                         "The enterprise instance cache is shutting down with the server.",
+                                         "Use the hit rate to decide whether the size and time to live of the cache are appropriate for " +
+                                                 "the workload of this server."),
+
     PROCESSING_ARCHIVE("OMRS-AUDIT-0050",
                        OMRSAuditLogRecordSeverity.INFO,
                        "The Open Metadata Repository Services (OMRS) is about to process open metadata archive {0}",
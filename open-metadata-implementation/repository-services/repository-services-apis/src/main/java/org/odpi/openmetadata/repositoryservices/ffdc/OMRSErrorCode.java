@@ -412,6 +412,10 @@ public enum OMRSErrorCode implements ExceptionMessageSet
             "A {0} exception was returned when matching {2} against {1} in method {4}.  The exception message was: {3}.",
             "There was an error in the creation of an AttributeDefType.",
             "Fux the call to the AttributeDefType object to use a valid type."),
+    FROZEN_INSTANCE(400, "OMRS-PROPERTIES-400-007",
+            "Method {0} was called to change a frozen {1} object",
+            "The object can not be changed because it has been frozen so that it can be shared with other callers.",
+            "Create a copy of the object using its copy constructor and change the copy."),
     REPOSITORY_URL_NULL(400, "OMRS-REST-CONNECTOR-400-001",
             "The connection passed in the cohort registration event does not contain the root URL for calling the server's REST API",
             "The system is unable to connect to the open metadata repository to retrieve metadata.",
@@ -852,6 +856,10 @@ public enum OMRSErrorCode implements ExceptionMessageSet
             "The enterprise repository services has detected a repository connector from cohort {0} for metadata collection identifier {1} that has a null metadata collection API object.",
             "There is an internal error in the OMRS Repository Connector implementation.",
             "Raise a Github issue on the Egeria project to get this fixed."),
+    INCOMPLETE_ENTERPRISE_RESULTS(503, "OMRS-ENTERPRISE-REPOSITORY-503-004",
+            "The enterprise repository services were unable to build a complete page of results for method {0} because the repository with metadata collection identifier {1} returned a {2} exception with message {3} when it was asked for more results",
+            "The results from the repository could not be merged with the results from the other repositories, so the page of results would have been incomplete.  The request is rejected rather than returning an incomplete page.",
+            "Use the message from the repository to diagnose why it failed and retry the request once it is available."),
     NULL_CONTENT_MANAGER(503, "OMRS-LOCAL-REPOSITORY-503-001",
             "A null repository content manager has been passed to one of the local repository's components on method {0}.",
             "There is an internal error in the OMRS Local Repository Connector implementation, or the way it has been initialized.",
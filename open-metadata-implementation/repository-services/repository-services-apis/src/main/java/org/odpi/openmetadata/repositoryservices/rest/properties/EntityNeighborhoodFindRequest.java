@@ -32,6 +32,8 @@ public class EntityNeighborhoodFindRequest extends OMRSAPIFindRequest
     private List<String>    entityTypeGUIDs = null;
     private List<String>    limitResultsByClassification = null;
     private List<String>    relationshipTypeGUIDs = null;
+    private int             offset = 0;
+    private int             pageSize = 0;
 
 
     /**
@@ -54,6 +56,8 @@ public class EntityNeighborhoodFindRequest extends OMRSAPIFindRequest
         if (template != null)
         {
             this.relationshipTypeGUIDs = template.getRelationshipTypeGUIDs();
+            this.offset = template.getOffset();
+            this.pageSize = template.getPageSize();
         }
     }
 
@@ -157,6 +161,52 @@ public class EntityNeighborhoodFindRequest extends OMRSAPIFindRequest
     }
 
 
+    /**
+     * Return the starting relationship number for this page of the neighborhood.  The relationships are numbered in
+     * the order they are reached as the neighborhood is explored out from the starting entity.
+     *
+     * @return offset number
+     */
+    public int getOffset()
+    {
+        return offset;
+    }
+
+
+    /**
+     * Set up the starting relationship number for this page of the neighborhood.
+     *
+     * @param offset offset number
+     */
+    public void setOffset(int offset)
+    {
+        this.offset = offset;
+    }
+
+
+    /**
+     * Return the maximum number of relationships that can be returned on this request.  Zero means the whole
+     * neighborhood is requested.
+     *
+     * @return page size
+     */
+    public int getPageSize()
+    {
+        return pageSize;
+    }
+
+
+    /**
+     * Set up the maximum number of relationships that can be returned on this request.
+     *
+     * @param pageSize integer number
+     */
+    public void setPageSize(int pageSize)
+    {
+        this.pageSize = pageSize;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -170,6 +220,8 @@ public class EntityNeighborhoodFindRequest extends OMRSAPIFindRequest
                 ", limitResultsByClassification=" + limitResultsByClassification +
                 ", relationshipTypeGUIDs=" + relationshipTypeGUIDs +
                 ", limitResultsByStatus=" + getLimitResultsByStatus() +
+                ", offset=" + offset +
+                ", pageSize=" + pageSize +
                 '}';
     }
 
@@ -196,7 +248,9 @@ public class EntityNeighborhoodFindRequest extends OMRSAPIFindRequest
         }
         EntityNeighborhoodFindRequest
                 that = (EntityNeighborhoodFindRequest) objectToCompare;
-        return Objects.equals(getEntityTypeGUIDs(), that.getEntityTypeGUIDs()) &&
+        return getOffset() == that.getOffset() &&
+                getPageSize() == that.getPageSize() &&
+                Objects.equals(getEntityTypeGUIDs(), that.getEntityTypeGUIDs()) &&
                 Objects.equals(getLimitResultsByClassification(), that.getLimitResultsByClassification()) &&
                 Objects.equals(getRelationshipTypeGUIDs(), that.getRelationshipTypeGUIDs());
     }
@@ -214,6 +268,8 @@ public class EntityNeighborhoodFindRequest extends OMRSAPIFindRequest
         return Objects.hash(super.hashCode(),
                             getEntityTypeGUIDs(),
                             getLimitResultsByClassification(),
-                            getRelationshipTypeGUIDs());
+                            getRelationshipTypeGUIDs(),
+                            getOffset(),
+                            getPageSize());
     }
 }
@@ -29,6 +29,7 @@ public class InstanceGraphResponse extends OMRSAPIResponse
 
     private List<EntityDetail> entityElementList       = null;
     private List<Relationship> relationshipElementList = null;
+    private boolean            truncated               = false;
 
 
     /**
@@ -53,6 +54,7 @@ public class InstanceGraphResponse extends OMRSAPIResponse
         {
             entityElementList = template.getEntityElementList();
             relationshipElementList = template.getRelationshipElementList();
+            truncated = template.isTruncated();
         }
     }
 
@@ -137,6 +139,29 @@ public class InstanceGraphResponse extends OMRSAPIResponse
     }
 
 
+    /**
+     * Return whether the graph is incomplete because the repository reached a limit on the size of the result
+     * or the end of the requested page.
+     *
+     * @return boolean flag
+     */
+    public boolean isTruncated()
+    {
+        return truncated;
+    }
+
+
+    /**
+     * Set up whether the graph is incomplete.
+     *
+     * @param truncated boolean flag
+     */
+    public void setTruncated(boolean truncated)
+    {
+        this.truncated = truncated;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -148,6 +173,7 @@ public class InstanceGraphResponse extends OMRSAPIResponse
         return "InstanceGraphResponse{" +
                 "entityElementList=" + entityElementList +
                 ", relationshipElementList=" + relationshipElementList +
+                ", truncated=" + truncated +
                 ", relatedHTTPCode=" + relatedHTTPCode +
                 ", actionDescription='" + actionDescription + '\'' +
                 ", exceptionClassName='" + exceptionClassName + '\'' +
@@ -185,7 +211,8 @@ public class InstanceGraphResponse extends OMRSAPIResponse
         }
         InstanceGraphResponse
                 that = (InstanceGraphResponse) objectToCompare;
-        return Objects.equals(getEntityElementList(), that.getEntityElementList()) &&
+        return isTruncated() == that.isTruncated() &&
+                Objects.equals(getEntityElementList(), that.getEntityElementList()) &&
                 Objects.equals(getRelationshipElementList(), that.getRelationshipElementList());
     }
 
@@ -198,6 +225,6 @@ public class InstanceGraphResponse extends OMRSAPIResponse
     @Override
     public int hashCode()
     {
-        return Objects.hash(super.hashCode(), getEntityElementList(), getRelationshipElementList());
+        return Objects.hash(super.hashCode(), getEntityElementList(), getRelationshipElementList(), isTruncated());
     }
 }
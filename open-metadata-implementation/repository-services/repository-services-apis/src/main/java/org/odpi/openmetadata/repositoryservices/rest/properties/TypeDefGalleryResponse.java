@@ -28,6 +28,7 @@ public class TypeDefGalleryResponse extends OMRSAPIResponse
 
     private List<AttributeTypeDef> attributeTypeDefs = null;
     private List<TypeDef>          typeDefs          = null;
+    private String                 galleryVersion    = null;
 
 
     /**
@@ -52,6 +53,7 @@ public class TypeDefGalleryResponse extends OMRSAPIResponse
         {
             attributeTypeDefs = template.getAttributeTypeDefs();
             typeDefs = template.getTypeDefs();
+            galleryVersion = template.getGalleryVersion();
         }
     }
 
@@ -136,6 +138,29 @@ public class TypeDefGalleryResponse extends OMRSAPIResponse
     }
 
 
+    /**
+     * Return the version identifier of the gallery.  When the response is for a conditional request
+     * and the gallery has not changed, only the version identifier is returned.
+     *
+     * @return version identifier
+     */
+    public String getGalleryVersion()
+    {
+        return galleryVersion;
+    }
+
+
+    /**
+     * Set up the version identifier of the gallery.
+     *
+     * @param galleryVersion version identifier
+     */
+    public void setGalleryVersion(String galleryVersion)
+    {
+        this.galleryVersion = galleryVersion;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -147,6 +172,7 @@ public class TypeDefGalleryResponse extends OMRSAPIResponse
         return "TypeDefGalleryResponse{" +
                 "attributeTypeDefs=" + attributeTypeDefs +
                 ", typeDefs=" + typeDefs +
+                ", galleryVersion='" + galleryVersion + '\'' +
                 ", relatedHTTPCode=" + relatedHTTPCode +
                 ", actionDescription='" + actionDescription + '\'' +
                 ", exceptionClassName='" + exceptionClassName + '\'' +
@@ -185,7 +211,8 @@ public class TypeDefGalleryResponse extends OMRSAPIResponse
         TypeDefGalleryResponse
                 that = (TypeDefGalleryResponse) objectToCompare;
         return Objects.equals(getAttributeTypeDefs(), that.getAttributeTypeDefs()) &&
-                Objects.equals(getTypeDefs(), that.getTypeDefs());
+                Objects.equals(getTypeDefs(), that.getTypeDefs()) &&
+                Objects.equals(getGalleryVersion(), that.getGalleryVersion());
     }
 
 
@@ -197,6 +224,6 @@ public class TypeDefGalleryResponse extends OMRSAPIResponse
     @Override
     public int hashCode()
     {
-        return Objects.hash(super.hashCode(), getAttributeTypeDefs(), getTypeDefs());
+        return Objects.hash(super.hashCode(), getAttributeTypeDefs(), getTypeDefs(), getGalleryVersion());
     }
 }
@@ -0,0 +1,280 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeException;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * ClassificationTest provides test of Classification
+ */
+public class ClassificationTest
+{
+    private InstanceType           type                     = new InstanceType();
+    private String                 createdBy                = "TestAuthor";
+    private Date                   createTime               = new Date(23);
+    private long                   version                  = 30L;
+    private InstanceStatus         currentStatus            = InstanceStatus.ACTIVE;
+    private String                 metadataCollectionId     = "TestHomeId";
+    private List<String>           maintainedBy             = new ArrayList<>();
+    private String                 classificationName       = "TestClassification";
+    private InstanceProperties     classificationProperties = new InstanceProperties();
+    private ClassificationOrigin   classificationOrigin     = ClassificationOrigin.PROPAGATED;
+    private String                 classificationOriginGUID = "TestOriginGUID";
+
+
+    public ClassificationTest()
+    {
+        PrimitivePropertyValue             propertyValue = new PrimitivePropertyValue();
+        Map<String, InstancePropertyValue> propertyMap   = new HashMap<>();
+        propertyMap.put("propertyName", propertyValue);
+        classificationProperties.setInstanceProperties(propertyMap);
+
+        type.setTypeDefName(classificationName);
+        maintainedBy.add("TestSteward");
+    }
+
+
+    /**
+     * Return a filled in test object
+     *
+     * @return test object
+     */
+    private Classification getTestObject()
+    {
+        Classification testObject = new Classification();
+
+        testObject.setType(type);
+        testObject.setCreatedBy(createdBy);
+        testObject.setCreateTime(createTime);
+        testObject.setVersion(version);
+        testObject.setStatus(currentStatus);
+        testObject.setMetadataCollectionId(metadataCollectionId);
+        testObject.setMaintainedBy(maintainedBy);
+        testObject.setName(classificationName);
+        testObject.setProperties(classificationProperties);
+        testObject.setClassificationOrigin(classificationOrigin);
+        testObject.setClassificationOriginGUID(classificationOriginGUID);
+
+        return testObject;
+    }
+
+
+    /**
+     * Validate supplied object.
+     *
+     * @param testObject object to test
+     */
+    private void validateObject(Classification testObject)
+    {
+        assertTrue(testObject.getType().equals(type));
+        assertTrue(testObject.getCreatedBy().equals(createdBy));
+        assertTrue(testObject.getCreateTime().equals(createTime));
+        assertTrue(testObject.getVersion() == version);
+        assertTrue(testObject.getStatus().equals(currentStatus));
+        assertTrue(testObject.getMetadataCollectionId().equals(metadataCollectionId));
+        assertTrue(testObject.getMaintainedBy().equals(maintainedBy));
+        assertTrue(testObject.getName().equals(classificationName));
+        assertTrue(testObject.getProperties().equals(classificationProperties));
+        assertTrue(testObject.getClassificationOrigin().equals(classificationOrigin));
+        assertTrue(testObject.getClassificationOriginGUID().equals(classificationOriginGUID));
+    }
+
+
+    /**
+     * Validate that the constructors set up the correct properties
+     */
+    @Test public void testConstructors()
+    {
+        Classification testObject = new Classification();
+
+        assertTrue(testObject.getType() == null);
+        assertTrue(testObject.getName() == null);
+        assertTrue(testObject.getProperties() == null);
+        assertTrue(testObject.getClassificationOrigin() == null);
+        assertTrue(testObject.getClassificationOriginGUID() == null);
+
+        validateObject(new Classification(getTestObject()));
+
+        try
+        {
+            new Classification(null);
+            assertTrue(false, "Classification copied from null");
+        }
+        catch (OMRSRuntimeException expectedError)
+        {
+            assertTrue(expectedError.getReportedErrorMessage() != null);
+        }
+    }
+
+
+    /**
+     * Validate that an object generated from a JSON String has the same content as the object used to
+     * create the JSON String.
+     */
+    @Test public void testJSON()
+    {
+        ObjectMapper objectMapper = new ObjectMapper();
+        String       jsonString   = null;
+
+        try
+        {
+            jsonString = objectMapper.writeValueAsString(getTestObject());
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+
+        try
+        {
+            validateObject(objectMapper.readValue(jsonString, Classification.class));
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+    }
+
+
+    /**
+     * Validate that a frozen classification rejects changes and is not affected by changes to the objects
+     * it was built from or the objects it returns.
+     */
+    @Test public void testFrozen()
+    {
+        Classification     testObject = getTestObject();
+        InstanceProperties properties = new InstanceProperties(classificationProperties);
+
+        testObject.setProperties(properties);
+
+        assertFalse(testObject.isFrozen());
+
+        testObject.freeze();
+
+        assertTrue(testObject.isFrozen());
+        validateObject(testObject);
+
+        properties.setProperty("anotherPropertyName", new PrimitivePropertyValue());
+
+        assertTrue(testObject.getProperties().equals(classificationProperties));
+
+        try
+        {
+            testObject.setName("DifferentClassification");
+            assertTrue(false, "Frozen classification was changed");
+        }
+        catch (OMRSRuntimeException expectedError)
+        {
+            assertTrue(testObject.getName().equals(classificationName));
+        }
+
+        try
+        {
+            testObject.setClassificationOrigin(ClassificationOrigin.ASSIGNED);
+            assertTrue(false, "Frozen classification was changed");
+        }
+        catch (OMRSRuntimeException expectedError)
+        {
+            assertTrue(testObject.getClassificationOrigin().equals(classificationOrigin));
+        }
+
+        try
+        {
+            testObject.getMaintainedBy().add("DifferentSteward");
+            assertTrue(false, "Frozen maintainers were changed");
+        }
+        catch (UnsupportedOperationException expectedError)
+        {
+            assertTrue(testObject.getMaintainedBy().equals(maintainedBy));
+        }
+
+        InstanceProperties view = testObject.getProperties();
+
+        assertFalse(view.isFrozen());
+        view.setProperty("anotherPropertyName", new PrimitivePropertyValue());
+        view.setEffectiveToTime(new Date());
+        assertTrue(view.getPropertyCount() == 2);
+        assertTrue(testObject.getProperties().equals(classificationProperties));
+
+        Classification copy = new Classification(testObject);
+
+        assertFalse(copy.isFrozen());
+        copy.setName("DifferentClassification");
+        copy.getProperties().setProperty("anotherPropertyName", new PrimitivePropertyValue());
+        assertTrue(testObject.getName().equals(classificationName));
+        assertTrue(testObject.getProperties().equals(classificationProperties));
+
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        try
+        {
+            Classification fromJSON = objectMapper.readValue(objectMapper.writeValueAsString(testObject), Classification.class);
+
+            assertFalse(fromJSON.isFrozen());
+            validateObject(fromJSON);
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+    }
+
+
+    /**
+     * Test that toString is overridden.
+     */
+    @Test public void testToString()
+    {
+        assertTrue(getTestObject().toString().contains("Classification"));
+    }
+
+
+    /**
+     * Test that equals works
+     */
+    @Test public void testEquals()
+    {
+        Classification testObject = getTestObject();
+
+        assertTrue(testObject.equals(getTestObject()));
+        assertTrue(testObject.equals(testObject));
+
+        assertFalse(testObject.equals(null));
+        assertFalse(testObject.equals("A String"));
+
+        Classification frozenObject = getTestObject();
+
+        frozenObject.freeze();
+
+        assertTrue(testObject.equals(frozenObject));
+        assertTrue(frozenObject.equals(testObject));
+
+        Classification differentObject = getTestObject();
+
+        differentObject.setClassificationOriginGUID("DifferentOriginGUID");
+
+        assertFalse(testObject.equals(differentObject));
+    }
+
+
+    /**
+     * Test that hashcode is consistent
+     */
+    @Test public void testHash()
+    {
+        Classification frozenObject = getTestObject();
+
+        frozenObject.freeze();
+
+        assertTrue(getTestObject().hashCode() == getTestObject().hashCode());
+        assertTrue(getTestObject().hashCode() == frozenObject.hashCode());
+    }
+}
@@ -4,6 +4,7 @@
 package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeException;
 import org.testng.annotations.Test;
 
 import java.util.*;
@@ -230,6 +231,69 @@ public class EntityDetailTest
     }
 
 
+    /**
+     * Validate that a frozen entity can not be changed and that its copies can.
+     */
+    @Test public void testFrozen()
+    {
+        EntityDetail testObject = getTestObject();
+
+        assertFalse(testObject.isFrozen());
+
+        testObject.freeze();
+
+        assertTrue(testObject.isFrozen());
+        validateObject(testObject);
+
+        try
+        {
+            testObject.setCreatedBy("DifferentAuthor");
+            assertTrue(false, "Frozen entity was changed");
+        }
+        catch (OMRSRuntimeException expectedError)
+        {
+            assertTrue(testObject.getCreatedBy().equals(createdBy));
+        }
+
+        try
+        {
+            testObject.getClassifications().add(new Classification());
+            assertTrue(false, "Frozen classifications were changed");
+        }
+        catch (UnsupportedOperationException expectedError)
+        {
+            assertTrue(testObject.getClassifications().equals(classifications));
+        }
+
+        InstanceProperties properties = testObject.getProperties();
+
+        properties.setProperty("anotherPropertyName", new PrimitivePropertyValue());
+        assertTrue(testObject.getProperties().equals(entityProperties));
+
+        EntityDetail copy = new EntityDetail(testObject);
+
+        assertFalse(copy.isFrozen());
+        copy.setCreatedBy("DifferentAuthor");
+        copy.getClassifications().get(0).setName("DifferentClassification");
+        assertTrue(testObject.getCreatedBy().equals(createdBy));
+        assertTrue(testObject.getClassifications().equals(classifications));
+
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        try
+        {
+            EntityDetail fromJSON = objectMapper.readValue(objectMapper.writeValueAsString(testObject), EntityDetail.class);
+
+            assertFalse(fromJSON.isFrozen());
+            validateObject(fromJSON);
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+    }
+
+
     /**
      * Test that toString is overridden.
      */
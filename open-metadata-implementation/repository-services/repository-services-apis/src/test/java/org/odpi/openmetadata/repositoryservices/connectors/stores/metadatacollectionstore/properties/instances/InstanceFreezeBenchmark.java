@@ -0,0 +1,226 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Compare the time and memory taken to read an entity that is returned as it is, as the enterprise connector
+ * used to return it, and an entity that is copied and frozen, as it returns it now.  Each read calls the getters
+ * that a converter calls.  It is run from the command line with the test classpath rather than as part of the build:
+ * <pre>
+ *     java -cp target/test-classes:target/classes:&lt;dependencies&gt; \
+ *          org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceFreezeBenchmark [iterations]
+ * </pre>
+ */
+public class InstanceFreezeBenchmark
+{
+    private static final int warmUpIterations  = 200000;
+    private static final int defaultIterations = 1000000;
+
+    private static volatile Object sink;
+
+
+    /**
+     * Return an entity with the number of properties and classifications that a typical asset has.
+     *
+     * @return entity
+     */
+    private static EntityDetail getEntity()
+    {
+        EntityDetail         entity          = new EntityDetail();
+        InstanceType         instanceType    = new InstanceType();
+        List<TypeDefLink>    superTypes      = new ArrayList<>();
+        List<Classification> classifications = new ArrayList<>();
+        List<String>         maintainedBy    = new ArrayList<>();
+
+        for (String superTypeName : new String[]{ "DataStore", "Asset", "Referenceable" })
+        {
+            TypeDefLink superType = new TypeDefLink();
+
+            superType.setName(superTypeName);
+            superTypes.add(superType);
+        }
+
+        instanceType.setTypeDefName("DataFile");
+        instanceType.setTypeDefSuperTypes(superTypes);
+
+        for (String classificationName : new String[]{ "Confidentiality", "AssetZoneMembership" })
+        {
+            Classification classification = new Classification();
+
+            classification.setName(classificationName);
+            classification.setProperties(getProperties(3));
+            classifications.add(classification);
+        }
+
+        maintainedBy.add("erinoverview");
+
+        entity.setGUID("test-guid");
+        entity.setType(instanceType);
+        entity.setProperties(getProperties(8));
+        entity.setClassifications(classifications);
+        entity.setMaintainedBy(maintainedBy);
+
+        return entity;
+    }
+
+
+    /**
+     * Return properties with the requested number of string values.
+     *
+     * @param propertyCount number of properties
+     * @return properties
+     */
+    private static InstanceProperties getProperties(int propertyCount)
+    {
+        InstanceProperties properties = new InstanceProperties();
+
+        for (int i = 0; i < propertyCount; i++)
+        {
+            PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+
+            propertyValue.setPrimitiveValue("value" + i);
+            properties.setProperty("property" + i, propertyValue);
+        }
+
+        return properties;
+    }
+
+
+    /**
+     * Read the entity through the getters that a converter calls.
+     *
+     * @param entity entity to read
+     * @return a value from the entity so that the reads are not optimized away
+     */
+    private static Object read(EntityDetail entity)
+    {
+        int count = entity.getType().getTypeDefSuperTypes().size();
+
+        count += entity.getProperties().getPropertyCount();
+        count += entity.getMaintainedBy().size();
+
+        for (Classification classification : entity.getClassifications())
+        {
+            count += classification.getProperties().getPropertyCount();
+        }
+
+        return count;
+    }
+
+
+    /**
+     * Run the retrieval repeatedly and print the average time and bytes allocated for each retrieval.
+     *
+     * @param label name of the approach
+     * @param entity entity held by the repository
+     * @param iterations number of retrievals to measure
+     * @param retrieval retrieval to measure
+     */
+    private static void measure(String                         label,
+                                EntityDetail                   entity,
+                                int                            iterations,
+                                Function<EntityDetail, Object> retrieval)
+    {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        long         threadId     = Thread.currentThread().getId();
+
+        for (int i = 0; i < warmUpIterations; i++)
+        {
+            sink = retrieval.apply(entity);
+        }
+
+        long startBytes = getAllocatedBytes(threadMXBean, threadId);
+        long startTime  = System.nanoTime();
+
+        for (int i = 0; i < iterations; i++)
+        {
+            sink = retrieval.apply(entity);
+        }
+
+        long elapsedTime    = System.nanoTime() - startTime;
+        long allocatedBytes = getAllocatedBytes(threadMXBean, threadId) - startBytes;
+
+        System.out.printf("%-12s %8.1f ns/op %8d bytes/op%n",
+                          label,
+                          (double) elapsedTime / iterations,
+                          (startBytes < 0) ? -1 : allocatedBytes / iterations);
+    }
+
+
+    /**
+     * Return the bytes allocated by the thread, or -1 if the JVM does not measure them.
+     *
+     * @param threadMXBean thread bean
+     * @param threadId thread to measure
+     * @return bytes allocated so far
+     */
+    private static long getAllocatedBytes(ThreadMXBean threadMXBean,
+                                          long         threadId)
+    {
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean)
+        {
+            return ((com.sun.management.ThreadMXBean) threadMXBean).getThreadAllocatedBytes(threadId);
+        }
+
+        return -1;
+    }
+
+
+    /**
+     * Measure each approach for callers that read the entity once and several times.
+     *
+     * @param args optional number of iterations
+     */
+    public static void main(String[] args)
+    {
+        int iterations = defaultIterations;
+
+        if (args.length > 0)
+        {
+            iterations = Integer.parseInt(args[0]);
+        }
+
+        EntityDetail entity = getEntity();
+
+        for (int readCount : new int[]{ 1, 3, 10 })
+        {
+            System.out.println("Entity read " + readCount + " times");
+
+            measure("unfrozen", entity, iterations, (repositoryEntity) ->
+            {
+                Object value = null;
+
+                for (int i = 0; i < readCount; i++)
+                {
+                    value = read(repositoryEntity);
+                }
+
+                return value;
+            });
+
+            measure("frozen", entity, iterations, (repositoryEntity) ->
+            {
+                EntityDetail frozenEntity = new EntityDetail(repositoryEntity);
+                Object       value        = null;
+
+                frozenEntity.freeze();
+
+                for (int i = 0; i < readCount; i++)
+                {
+                    value = read(frozenEntity);
+                }
+
+                return value;
+            });
+        }
+    }
+}
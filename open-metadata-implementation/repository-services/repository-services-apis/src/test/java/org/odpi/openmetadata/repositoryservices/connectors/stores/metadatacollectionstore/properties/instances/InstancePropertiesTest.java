@@ -0,0 +1,302 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeException;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * InstancePropertiesTest provides test of InstanceProperties, including the frozen and copy-on-write
+ * objects used by frozen instances.
+ */
+public class InstancePropertiesTest
+{
+    private Date                   effectiveFromTime = new Date(23);
+    private Date                   effectiveToTime   = new Date(45);
+    private String                 propertyName      = "propertyName";
+    private PrimitivePropertyValue propertyValue     = new PrimitivePropertyValue();
+    private String                 otherPropertyName = "otherPropertyName";
+
+
+    /**
+     * Return a filled in test object
+     *
+     * @return test object
+     */
+    private InstanceProperties getTestObject()
+    {
+        InstanceProperties testObject = new InstanceProperties();
+
+        testObject.setEffectiveFromTime(effectiveFromTime);
+        testObject.setEffectiveToTime(effectiveToTime);
+        testObject.setProperty(propertyName, propertyValue);
+
+        return testObject;
+    }
+
+
+    /**
+     * Validate supplied object.
+     *
+     * @param testObject object to test
+     */
+    private void validateObject(InstanceProperties testObject)
+    {
+        assertTrue(testObject.getEffectiveFromTime().equals(effectiveFromTime));
+        assertTrue(testObject.getEffectiveToTime().equals(effectiveToTime));
+        assertTrue(testObject.getPropertyCount() == 1);
+        assertTrue(testObject.getPropertyValue(propertyName).equals(propertyValue));
+        assertTrue(testObject.getInstanceProperties().equals(Collections.singletonMap(propertyName, propertyValue)));
+    }
+
+
+    /**
+     * Validate that the constructors set up the correct properties and that a copy has its own map.
+     */
+    @Test public void testConstructors()
+    {
+        InstanceProperties testObject = new InstanceProperties();
+
+        assertTrue(testObject.getEffectiveFromTime() == null);
+        assertTrue(testObject.getEffectiveToTime() == null);
+        assertTrue(testObject.getInstanceProperties() == null);
+        assertTrue(testObject.getPropertyCount() == 0);
+        assertFalse(testObject.getPropertyNames().hasNext());
+
+        testObject = getTestObject();
+
+        InstanceProperties copy = new InstanceProperties(testObject);
+
+        validateObject(copy);
+
+        copy.setProperty(otherPropertyName, new PrimitivePropertyValue());
+        validateObject(testObject);
+
+        validateObject(new InstanceProperties(new InstanceProperties(testObject)));
+        assertTrue(new InstanceProperties(null).getPropertyCount() == 0);
+    }
+
+
+    /**
+     * Validate that an object generated from a JSON String has the same content as the object used to
+     * create the JSON String.
+     */
+    @Test public void testJSON()
+    {
+        ObjectMapper objectMapper = new ObjectMapper();
+        String       jsonString   = null;
+
+        try
+        {
+            jsonString = objectMapper.writeValueAsString(getTestObject());
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+
+        try
+        {
+            validateObject(objectMapper.readValue(jsonString, InstanceProperties.class));
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+    }
+
+
+    /**
+     * Validate the setting and removal of individual properties.
+     */
+    @Test public void testProperties()
+    {
+        InstanceProperties testObject = getTestObject();
+
+        testObject.setProperty(otherPropertyName, new PrimitivePropertyValue());
+        assertTrue(testObject.getPropertyCount() == 2);
+
+        testObject.setProperty(otherPropertyName, null);
+        validateObject(testObject);
+
+        try
+        {
+            testObject.setProperty(null, propertyValue);
+            assertTrue(false, "Property with null name was added");
+        }
+        catch (OMRSRuntimeException expectedError)
+        {
+            validateObject(testObject);
+        }
+
+        testObject.setInstanceProperties(null);
+        assertTrue(testObject.getInstanceProperties() == null);
+        assertTrue(testObject.getPropertyCount() == 0);
+    }
+
+
+    /**
+     * Validate that frozen properties reject changes and are not affected by changes to the map they
+     * were built from.
+     */
+    @Test public void testFrozen()
+    {
+        InstanceProperties                 testObject  = getTestObject();
+        Map<String, InstancePropertyValue> propertyMap = new HashMap<>();
+
+        propertyMap.put(propertyName, propertyValue);
+        testObject.setInstanceProperties(propertyMap);
+
+        assertFalse(testObject.isFrozen());
+
+        testObject.freeze();
+
+        assertTrue(testObject.isFrozen());
+        validateObject(testObject);
+
+        propertyMap.put(otherPropertyName, new PrimitivePropertyValue());
+        validateObject(testObject);
+
+        try
+        {
+            testObject.setProperty(otherPropertyName, new PrimitivePropertyValue());
+            assertTrue(false, "Frozen properties were changed");
+        }
+        catch (OMRSRuntimeException expectedError)
+        {
+            validateObject(testObject);
+        }
+
+        try
+        {
+            testObject.setEffectiveToTime(null);
+            assertTrue(false, "Frozen properties were changed");
+        }
+        catch (OMRSRuntimeException expectedError)
+        {
+            validateObject(testObject);
+        }
+
+        try
+        {
+            testObject.getInstanceProperties().remove(propertyName);
+            assertTrue(false, "Frozen property map was changed");
+        }
+        catch (UnsupportedOperationException expectedError)
+        {
+            validateObject(testObject);
+        }
+
+        try
+        {
+            Iterator<String> propertyNames = testObject.getPropertyNames();
+
+            propertyNames.next();
+            propertyNames.remove();
+            assertTrue(false, "Frozen property names were changed");
+        }
+        catch (UnsupportedOperationException expectedError)
+        {
+            validateObject(testObject);
+        }
+
+        InstanceProperties copy = new InstanceProperties(testObject);
+
+        assertFalse(copy.isFrozen());
+        copy.setProperty(propertyName, null);
+        assertTrue(copy.getPropertyCount() == 0);
+        validateObject(testObject);
+
+        assertTrue(testObject.equals(getTestObject()));
+        assertTrue(getTestObject().equals(testObject));
+        assertTrue(testObject.hashCode() == getTestObject().hashCode());
+    }
+
+
+    /**
+     * Validate that a frozen copy is independent of the properties it was taken from.
+     */
+    @Test public void testFrozenCopy()
+    {
+        InstanceProperties testObject = getTestObject();
+        InstanceProperties frozenCopy = testObject.getFrozenCopy();
+
+        assertFalse(testObject.isFrozen());
+        assertTrue(frozenCopy.isFrozen());
+        validateObject(frozenCopy);
+
+        testObject.setProperty(otherPropertyName, new PrimitivePropertyValue());
+        testObject.setProperty(propertyName, null);
+
+        validateObject(frozenCopy);
+    }
+
+
+    /**
+     * Validate that a copy-on-write view shares the map of the frozen properties until it is changed, and that
+     * changing it does not change the frozen properties or the other views.
+     */
+    @Test public void testCopyOnWriteView()
+    {
+        InstanceProperties frozenObject = getTestObject().getFrozenCopy();
+        InstanceProperties view         = frozenObject.getCopyOnWriteView();
+        InstanceProperties otherView    = frozenObject.getCopyOnWriteView();
+
+        assertFalse(view.isFrozen());
+        validateObject(view);
+        assertTrue(view.equals(frozenObject));
+
+        try
+        {
+            Iterator<String> propertyNames = view.getPropertyNames();
+
+            propertyNames.next();
+            propertyNames.remove();
+            assertTrue(false, "Shared property names were changed");
+        }
+        catch (UnsupportedOperationException expectedError)
+        {
+            validateObject(frozenObject);
+        }
+
+        view.getInstanceProperties().clear();
+        validateObject(view);
+
+        view.setProperty(otherPropertyName, new PrimitivePropertyValue());
+        view.setProperty(propertyName, null);
+        view.setEffectiveFromTime(null);
+
+        assertTrue(view.getPropertyCount() == 1);
+        assertTrue(view.getPropertyValue(otherPropertyName) != null);
+        assertTrue(view.getEffectiveFromTime() == null);
+
+        Iterator<String> propertyNames = view.getPropertyNames();
+
+        propertyNames.next();
+        propertyNames.remove();
+        assertTrue(view.getPropertyCount() == 0);
+
+        validateObject(frozenObject);
+        validateObject(otherView);
+
+        otherView.setInstanceProperties(new HashMap<>());
+        assertTrue(otherView.getPropertyCount() == 0);
+        validateObject(frozenObject);
+    }
+
+
+    /**
+     * Test that toString is overridden.
+     */
+    @Test public void testToString()
+    {
+        assertTrue(getTestObject().toString().contains("InstanceProperties"));
+    }
+}
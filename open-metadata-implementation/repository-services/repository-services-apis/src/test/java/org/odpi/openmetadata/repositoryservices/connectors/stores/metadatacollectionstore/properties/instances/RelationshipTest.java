@@ -4,6 +4,7 @@
 package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeException;
 import org.testng.annotations.Test;
 
 import java.util.*;
@@ -189,6 +190,94 @@ public class RelationshipTest
     }
 
 
+    /**
+     * Validate that a frozen relationship rejects changes and is not affected by changes to the objects
+     * it was built from or the objects it returns.
+     */
+    @Test public void testFrozen()
+    {
+        Relationship       testObject = getTestObject();
+        InstanceProperties properties = new InstanceProperties(relationshipProperties);
+        EntityProxy        proxy      = new EntityProxy(entityOneProxy);
+
+        testObject.setProperties(properties);
+        testObject.setEntityOneProxy(proxy);
+
+        assertFalse(testObject.isFrozen());
+
+        testObject.freeze();
+
+        assertTrue(testObject.isFrozen());
+        validateObject(testObject);
+
+        properties.setProperty("anotherPropertyName", new PrimitivePropertyValue());
+        proxy.setGUID("DifferentGUID");
+
+        assertTrue(testObject.getProperties().equals(relationshipProperties));
+        assertTrue(testObject.getEntityOneProxy().equals(entityOneProxy));
+
+        try
+        {
+            testObject.setEntityTwoProxy(entityOneProxy);
+            assertTrue(false, "Frozen relationship was changed");
+        }
+        catch (OMRSRuntimeException expectedError)
+        {
+            assertTrue(testObject.getEntityTwoProxy().equals(entityTwoProxy));
+        }
+
+        try
+        {
+            testObject.getEntityOneProxy().setGUID("DifferentGUID");
+            assertTrue(false, "Frozen entity proxy was changed");
+        }
+        catch (OMRSRuntimeException expectedError)
+        {
+            assertTrue(testObject.getEntityOneProxy().isFrozen());
+        }
+
+        try
+        {
+            testObject.getType().setTypeDefName("DifferentType");
+            assertTrue(false, "Frozen type was changed");
+        }
+        catch (OMRSRuntimeException expectedError)
+        {
+            assertTrue(testObject.getType().equals(type));
+        }
+
+        InstanceProperties view = testObject.getProperties();
+
+        assertFalse(view.isFrozen());
+        view.setProperty("anotherPropertyName", new PrimitivePropertyValue());
+        view.setProperty("propertyName", null);
+        assertTrue(view.getPropertyCount() == 1);
+        assertTrue(testObject.getProperties().equals(relationshipProperties));
+
+        Relationship copy = new Relationship(testObject);
+
+        assertFalse(copy.isFrozen());
+        copy.setEntityTwoProxy(entityOneProxy);
+        copy.getEntityOneProxy().setGUID("DifferentGUID");
+        assertTrue(testObject.getEntityTwoProxy().equals(entityTwoProxy));
+        assertTrue(testObject.getEntityOneProxy().equals(entityOneProxy));
+
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        try
+        {
+            Relationship fromJSON = objectMapper.readValue(objectMapper.writeValueAsString(testObject), Relationship.class);
+
+            assertFalse(fromJSON.isFrozen());
+            validateObject(fromJSON);
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+    }
+
+
     /**
      * Test that toString is overridden.
      */
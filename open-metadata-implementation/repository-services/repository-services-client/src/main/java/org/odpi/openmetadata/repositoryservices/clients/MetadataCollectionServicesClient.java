@@ -283,6 +283,48 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
     }
 
 
+    /**
+     * Returns the list of different types of metadata organized into two groups, but only if the type gallery
+     * in the repository has changed since the supplied version was retrieved.  The version of the gallery is
+     * returned in the galleryVersion property of the TypeDefGallery.  This method allows a caller that caches
+     * the types to cheaply check that its copy is current.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param galleryVersion version identifier from a previously retrieved TypeDefGallery (null to retrieve all types).
+     * @return TypeDefGallery List of different categories of type definitions, or null if the gallery is unchanged.
+     * @throws InvalidParameterException the userId is null
+     * @throws RepositoryErrorException   there is a problem communicating with the metadata repository.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public TypeDefGallery getAllTypesChangedSince(String userId,
+                                                  String galleryVersion) throws InvalidParameterException,
+                                                                                RepositoryErrorException,
+                                                                                UserNotAuthorizedException
+    {
+        final String methodName  = "getAllTypesChangedSince";
+        final String operationSpecificURL = "types/all/changed-since?galleryVersion={1}";
+
+        TypeDefGalleryResponse restResult = this.callTypeDefGalleryGetRESTCall(methodName,
+                                                                               restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                                               userId,
+                                                                               galleryVersion);
+
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+
+        if ((galleryVersion != null) &&
+                    (galleryVersion.equals(restResult.getGalleryVersion())) &&
+                    (restResult.getTypeDefs() == null) &&
+                    (restResult.getAttributeTypeDefs() == null))
+        {
+            return null;
+        }
+
+        return this.getTypeDefGalleryFromRESTResult(restResult);
+    }
+
+
     /**
      * Returns a list of type definitions that have the specified name.  Type names should be unique.  This
      * method allows wildcard character to be included in the name.  These are * (asterisk) for an
@@ -1399,6 +1441,115 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
     }
 
 
+    /**
+     * Return the relationships for a specific entity along with the entities at the other end of these
+     * relationships.  This avoids a separate call to retrieve each related entity.
+     *
+     * @param userId                  unique identifier for requesting user.
+     * @param entityGUID              String unique identifier for the entity.
+     * @param relationshipTypeGUID    String GUID of the the type of relationship required (null for all).
+     * @param fromRelationshipElement the starting element number of the relationships to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus    By default, relationships in all statuses are returned.  However, it is possible
+     *                                to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                                status values.
+     * @param asOfTime                Requests a historical query of the relationships for the entity.  Null means return the
+     *                                present values.
+     * @param sequencingProperty      String name of the property that is to be used to sequence the results.
+     *                                Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder         Enum defining how the results should be ordered.
+     * @param pageSize                the maximum number of relationships that can be returned on this request.  Zero means
+     *                                unrestricted return results size.
+     * @return the page of relationships and the entities at their other ends.  Null means no relationships
+     * associated with the entity.
+     * @throws InvalidParameterException     a parameter is invalid or null.
+     * @throws TypeErrorException            the type guid passed on the request is not known by the
+     *                                       metadata collection.
+     * @throws RepositoryErrorException      there is a problem communicating with the metadata repository where
+     *                                       the metadata collection is stored.
+     * @throws EntityNotKnownException       the requested entity instance is not known in the metadata collection.
+     * @throws PropertyErrorException        the sequencing property is not valid for the attached classifications.
+     * @throws PagingErrorException          the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException    the userId is not permitted to perform this operation.
+     */
+    public InstanceGraph getRelationshipsAndEntitiesForEntity(String               userId,
+                                                              String               entityGUID,
+                                                              String               relationshipTypeGUID,
+                                                              int                  fromRelationshipElement,
+                                                              List<InstanceStatus> limitResultsByStatus,
+                                                              Date                 asOfTime,
+                                                              String               sequencingProperty,
+                                                              SequencingOrder      sequencingOrder,
+                                                              int                  pageSize) throws InvalidParameterException,
+                                                                                                    TypeErrorException,
+                                                                                                    RepositoryErrorException,
+                                                                                                    EntityNotKnownException,
+                                                                                                    PropertyErrorException,
+                                                                                                    PagingErrorException,
+                                                                                                    FunctionNotSupportedException,
+                                                                                                    UserNotAuthorizedException
+    {
+        final String          methodName = "getRelationshipsAndEntitiesForEntity";
+        InstanceGraphResponse restResult;
+
+        if (asOfTime == null)
+        {
+            final String           operationSpecificURL  = "instances/entity/{1}/relationships-and-entities";
+            TypeLimitedFindRequest findRequestParameters = new TypeLimitedFindRequest();
+
+            findRequestParameters.setTypeGUID(relationshipTypeGUID);
+            findRequestParameters.setOffset(fromRelationshipElement);
+            findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
+            findRequestParameters.setSequencingOrder(sequencingOrder);
+            findRequestParameters.setSequencingProperty(sequencingProperty);
+            findRequestParameters.setPageSize(pageSize);
+
+            restResult = this.callInstanceGraphPostRESTCall(methodName,
+                                                            restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                            findRequestParameters,
+                                                            userId,
+                                                            entityGUID);
+        }
+        else
+        {
+            final String                     operationSpecificURL  = "instances/entity/{1}/relationships-and-entities/history";
+            TypeLimitedHistoricalFindRequest findRequestParameters = new TypeLimitedHistoricalFindRequest();
+
+            findRequestParameters.setTypeGUID(relationshipTypeGUID);
+            findRequestParameters.setAsOfTime(asOfTime);
+            findRequestParameters.setOffset(fromRelationshipElement);
+            findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
+            findRequestParameters.setSequencingOrder(sequencingOrder);
+            findRequestParameters.setSequencingProperty(sequencingProperty);
+            findRequestParameters.setPageSize(pageSize);
+
+            restResult = this.callInstanceGraphPostRESTCall(methodName,
+                                                            restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                            findRequestParameters,
+                                                            userId,
+                                                            entityGUID);
+        }
+
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowEntityNotKnownException(methodName, restResult);
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowPropertyErrorException(methodName, restResult);
+        this.detectAndThrowTypeErrorException(methodName, restResult);
+        this.detectAndThrowPagingErrorException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        if (restResult.getRelationshipElementList() == null)
+        {
+            return null;
+        }
+
+        return this.getInstanceGraphFromRESTResult(restResult);
+    }
+
+
     /**
      * Return a list of entities that match the supplied criteria.  The results can be returned over many pages.
      *
@@ -2454,49 +2605,103 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
                                                                                   UserNotAuthorizedException
     {
         final String          methodName  = "getEntityNeighborhood";
-        InstanceGraphResponse restResult;
 
-        if (asOfTime == null)
-        {
-            final String                  operationSpecificURL  = "instances/entities/from-entity/{1}/by-neighborhood?level={2}";
-            EntityNeighborhoodFindRequest findRequestParameters = new EntityNeighborhoodFindRequest();
+        InstanceGraphResponse restResult = this.callEntityNeighborhoodRESTCall(methodName,
+                                                                               userId,
+                                                                               entityGUID,
+                                                                               entityTypeGUIDs,
+                                                                               relationshipTypeGUIDs,
+                                                                               limitResultsByStatus,
+                                                                               limitResultsByClassification,
+                                                                               asOfTime,
+                                                                               level,
+                                                                               0,
+                                                                               0);
 
-            findRequestParameters.setEntityTypeGUIDs(entityTypeGUIDs);
-            findRequestParameters.setRelationshipTypeGUIDs(relationshipTypeGUIDs);
-            findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
-            findRequestParameters.setLimitResultsByClassification(limitResultsByClassification);
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowEntityNotKnownException(methodName, restResult);
+        this.detectAndThrowTypeErrorException(methodName, restResult);
+        this.detectAndThrowPropertyErrorException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
 
-            restResult = this.callInstanceGraphPostRESTCall(methodName,
-                                                            restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
-                                                            findRequestParameters,
-                                                            userId,
-                                                            entityGUID,
-                                                            level);
-        }
-        else
-        {
-            final String                            operationSpecificURL  = "instances/entities/from-entity/{1}/by-neighborhood/history?level={2}";
-            EntityNeighborhoodHistoricalFindRequest findRequestParameters = new EntityNeighborhoodHistoricalFindRequest();
+        return this.getInstanceGraphFromRESTResult(restResult);
+    }
 
-            findRequestParameters.setEntityTypeGUIDs(entityTypeGUIDs);
-            findRequestParameters.setRelationshipTypeGUIDs(relationshipTypeGUIDs);
-            findRequestParameters.setAsOfTime(asOfTime);
-            findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
-            findRequestParameters.setLimitResultsByClassification(limitResultsByClassification);
 
-            restResult = this.callInstanceGraphPostRESTCall(methodName,
-                                                            restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
-                                                            findRequestParameters,
-                                                            userId,
-                                                            entityGUID,
-                                                            level);
-        }
+    /**
+     * Return a page of the entities and relationships that radiate out from the supplied entity GUID.
+     * The results are scoped both the instance type guids and the level.  Paging applies to the relationships.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID the starting point of the query.
+     * @param entityTypeGUIDs list of entity types to include in the query results.  Null means include
+     *                          all entities found, irrespective of their type.
+     * @param relationshipTypeGUIDs list of relationship types to include in the query results.  Null means include
+     *                                all relationships found, irrespective of their type.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param level the number of the relationships out from the starting entity that the query will traverse to
+     *              gather results.
+     * @param fromRelationshipElement the starting element number of the relationships to return.
+     *                                Zero means start from the first element.
+     * @param pageSize the maximum number of relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return InstanceGraph the sub-graph that represents the returned linked entities and their relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws TypeErrorException one or more of the type guids passed on the request is not known by the
+     *                              metadata collection.
+     * @throws EntityNotKnownException the entity identified by the entityGUID is not found in the metadata collection.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws PagingErrorException the paging parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceGraph getEntityNeighborhood(String               userId,
+                                               String               entityGUID,
+                                               List<String>         entityTypeGUIDs,
+                                               List<String>         relationshipTypeGUIDs,
+                                               List<InstanceStatus> limitResultsByStatus,
+                                               List<String>         limitResultsByClassification,
+                                               Date                 asOfTime,
+                                               int                  level,
+                                               int                  fromRelationshipElement,
+                                               int                  pageSize) throws InvalidParameterException,
+                                                                                     RepositoryErrorException,
+                                                                                     TypeErrorException,
+                                                                                     EntityNotKnownException,
+                                                                                     PropertyErrorException,
+                                                                                     PagingErrorException,
+                                                                                     FunctionNotSupportedException,
+                                                                                     UserNotAuthorizedException
+    {
+        final String          methodName  = "getEntityNeighborhood";
+
+        InstanceGraphResponse restResult = this.callEntityNeighborhoodRESTCall(methodName,
+                                                                               userId,
+                                                                               entityGUID,
+                                                                               entityTypeGUIDs,
+                                                                               relationshipTypeGUIDs,
+                                                                               limitResultsByStatus,
+                                                                               limitResultsByClassification,
+                                                                               asOfTime,
+                                                                               level,
+                                                                               fromRelationshipElement,
+                                                                               pageSize);
 
         this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
         this.detectAndThrowInvalidParameterException(methodName, restResult);
         this.detectAndThrowEntityNotKnownException(methodName, restResult);
         this.detectAndThrowTypeErrorException(methodName, restResult);
         this.detectAndThrowPropertyErrorException(methodName, restResult);
+        this.detectAndThrowPagingErrorException(methodName, restResult);
         this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
         this.detectAndThrowRepositoryErrorException(methodName, restResult);
 
@@ -2504,6 +2709,70 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
     }
 
 
+    /**
+     * Issue the REST call for the entity neighborhood.  A page size of zero requests the whole neighborhood.
+     *
+     * @param methodName calling method
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID the starting point of the query.
+     * @param entityTypeGUIDs list of entity types to include in the query results.
+     * @param relationshipTypeGUIDs list of relationship types to include in the query results.
+     * @param limitResultsByStatus list of statuses to restrict the results to.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the relationships for the entity.
+     * @param level the number of the relationships out from the starting entity that the query will traverse to
+     *              gather results.
+     * @param fromRelationshipElement the starting element number of the relationships to return.
+     * @param pageSize the maximum number of relationships that can be returned on this request.
+     * @return response from the server
+     * @throws RepositoryErrorException there is a problem communicating with the remote server.
+     */
+    private InstanceGraphResponse callEntityNeighborhoodRESTCall(String               methodName,
+                                                                 String               userId,
+                                                                 String               entityGUID,
+                                                                 List<String>         entityTypeGUIDs,
+                                                                 List<String>         relationshipTypeGUIDs,
+                                                                 List<InstanceStatus> limitResultsByStatus,
+                                                                 List<String>         limitResultsByClassification,
+                                                                 Date                 asOfTime,
+                                                                 int                  level,
+                                                                 int                  fromRelationshipElement,
+                                                                 int                  pageSize) throws RepositoryErrorException
+    {
+        final String                  operationSpecificURL;
+        EntityNeighborhoodFindRequest findRequestParameters;
+
+        if (asOfTime == null)
+        {
+            operationSpecificURL  = "instances/entities/from-entity/{1}/by-neighborhood?level={2}";
+            findRequestParameters = new EntityNeighborhoodFindRequest();
+        }
+        else
+        {
+            EntityNeighborhoodHistoricalFindRequest historicalFindRequestParameters = new EntityNeighborhoodHistoricalFindRequest();
+
+            historicalFindRequestParameters.setAsOfTime(asOfTime);
+
+            operationSpecificURL  = "instances/entities/from-entity/{1}/by-neighborhood/history?level={2}";
+            findRequestParameters = historicalFindRequestParameters;
+        }
+
+        findRequestParameters.setEntityTypeGUIDs(entityTypeGUIDs);
+        findRequestParameters.setRelationshipTypeGUIDs(relationshipTypeGUIDs);
+        findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
+        findRequestParameters.setLimitResultsByClassification(limitResultsByClassification);
+        findRequestParameters.setOffset(fromRelationshipElement);
+        findRequestParameters.setPageSize(pageSize);
+
+        return this.callInstanceGraphPostRESTCall(methodName,
+                                                  restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                  findRequestParameters,
+                                                  userId,
+                                                  entityGUID,
+                                                  level);
+    }
+
+
     /**
      * Return the list of entities that are of the types listed in entityTypeGUIDs and are connected, either directly or
      * indirectly to the entity identified by startEntityGUID.
@@ -5486,6 +5755,7 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
 
         instanceGraph.setEntities(restResult.getEntityElementList());
         instanceGraph.setRelationships(restResult.getRelationshipElementList());
+        instanceGraph.setTruncated(restResult.isTruncated());
 
         return instanceGraph;
     }
@@ -5503,6 +5773,7 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
 
         typeDefGallery.setAttributeTypeDefs(restResult.getAttributeTypeDefs());
         typeDefGallery.setTypeDefs(restResult.getTypeDefs());
+        typeDefGallery.setGalleryVersion(restResult.getGalleryVersion());
 
         return typeDefGallery;
     }
@@ -0,0 +1,117 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.clients;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefGallery;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TypeDefGalleryCache caches objects that are built from the type gallery of a repository server, such as the
+ * type explorers of the view services.  Each time an object is requested, the repository server is asked for the
+ * type gallery only if it has changed since the cached object was built.  The object is rebuilt when it has.
+ *
+ * @param <T> type of object built from the type gallery
+ */
+public class TypeDefGalleryCache<T>
+{
+    /**
+     * Builds the object that is cached from a type gallery.
+     *
+     * @param <T> type of object built from the type gallery
+     */
+    public interface TypeDefGalleryConverter<T>
+    {
+        /**
+         * Build the object from the type gallery.
+         *
+         * @param typeDefGallery types retrieved from the repository server
+         * @return object to cache
+         * @throws RepositoryErrorException the types could not be processed
+         */
+        T getObjectFromTypeDefGallery(TypeDefGallery typeDefGallery) throws RepositoryErrorException;
+    }
+
+
+    /**
+     * An object together with the version of the type gallery it was built from.
+     *
+     * @param <T> type of object built from the type gallery
+     */
+    private static class CachedObject<T>
+    {
+        private final String galleryVersion;
+        private final T      object;
+
+        CachedObject(String galleryVersion, T object)
+        {
+            this.galleryVersion = galleryVersion;
+            this.object         = object;
+        }
+    }
+
+
+    private final Map<String, CachedObject<T>> cachedObjects = new ConcurrentHashMap<>();
+
+
+    /**
+     * Return the object built from the current type gallery of the repository server.  The cache key must
+     * identify the repository server, the user and any options that the converter uses, since the types
+     * returned to each user may be different.
+     *
+     * @param cacheKey identifies the repository server, user and options
+     * @param repositoryServicesClient client for the repository server
+     * @param userId unique identifier for requesting user
+     * @param converter builds the object from the type gallery
+     * @return object built from the current type gallery
+     * @throws InvalidParameterException the userId is null
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository or processing the types
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation
+     */
+    public T getObject(String                           cacheKey,
+                       MetadataCollectionServicesClient repositoryServicesClient,
+                       String                           userId,
+                       TypeDefGalleryConverter<T>       converter) throws InvalidParameterException,
+                                                                          RepositoryErrorException,
+                                                                          UserNotAuthorizedException
+    {
+        CachedObject<T> cachedObject  = cachedObjects.get(cacheKey);
+        String          cachedVersion = (cachedObject == null) ? null : cachedObject.galleryVersion;
+        TypeDefGallery  typeDefGallery;
+
+        try
+        {
+            typeDefGallery = repositoryServicesClient.getAllTypesChangedSince(userId, cachedVersion);
+        }
+        catch (RepositoryErrorException error)
+        {
+            /*
+             * The repository server may be at a level that does not support the conditional request.
+             */
+            typeDefGallery = repositoryServicesClient.getAllTypes(userId);
+        }
+
+        if (typeDefGallery == null)
+        {
+            if (cachedObject != null)
+            {
+                return cachedObject.object;
+            }
+
+            typeDefGallery = repositoryServicesClient.getAllTypes(userId);
+        }
+
+        T object = converter.getObjectFromTypeDefGallery(typeDefGallery);
+
+        if (typeDefGallery.getGalleryVersion() != null)
+        {
+            cachedObjects.put(cacheKey, new CachedObject<>(typeDefGallery.getGalleryVersion(), object));
+        }
+
+        return object;
+    }
+}
@@ -25,6 +25,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryeventmapper.OMRSRepositoryEventMapperConnector;
 import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRSConnectionConsumer;
 import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRSEnterpriseConnectorManager;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseInstanceCache;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSConnection;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.eventmanagement.OMRSRepositoryEventExchangeRule;
@@ -87,6 +88,7 @@ public class OMRSOperationalServices
     private String                         enterpriseMetadataCollectionId   = null;
     private String                         enterpriseMetadataCollectionName = null;
     private OMRSTopicConnector             enterpriseOMRSTopicConnector     = null;
+    private EnterpriseInstanceCache        enterpriseInstanceCache          = null;
     private LocalOMRSRepositoryConnector   localRepositoryConnector         = null;
     private OMRSArchiveManager             archiveManager                   = null;
     private OMRSAuditLogDestination        auditLogDestination              = null;
@@ -169,6 +171,7 @@ public class OMRSOperationalServices
 
                 omrsRepositoryConnector.setCallingServiceName(callingServiceName);
                 omrsRepositoryConnector.setMaxPageSize(maxPageSize);
+                omrsRepositoryConnector.setInstanceCache(enterpriseInstanceCache);
 
                 auditLog.logMessage(actionDescription, OMRSAuditCode.NEW_ENTERPRISE_CONNECTOR.getMessageDefinition(callingServiceName));
 
@@ -348,6 +351,7 @@ public class OMRSOperationalServices
                                                                           maxPageSize,
                                                                           localRepositoryContentManager);
         enterpriseOMRSTopicConnector = initializeEnterpriseOMRSTopicConnector(enterpriseAccessConfig);
+        enterpriseInstanceCache = initializeEnterpriseInstanceCache(enterpriseAccessConfig);
 
         /*
          * The archive manager loads pre-defined types and instances that are stored in open metadata archives.
@@ -471,6 +475,7 @@ public class OMRSOperationalServices
         OMRSRepositoryRESTServices.setServerRepositories(localServerName,
                                                          auditLog,
                                                          localRepositoryConnector,
+                                                         localRepositoryContentManager,
                                                          this.getEnterpriseOMRSRepositoryConnector(OMRSAuditingComponent.REST_SERVICES.getComponentName()),
                                                          metadataHighwayManager,
                                                          localServerURL,
@@ -589,6 +594,7 @@ public class OMRSOperationalServices
                                                          null,
                                                          null,
                                                          null,
+                                                         null,
                                                          auditLog.createNewAuditLog(OMRSAuditingComponent.REST_SERVICES),
                                                          maxPageSize);
 
@@ -619,6 +625,12 @@ public class OMRSOperationalServices
             {
                 enterpriseOMRSTopicConnector = getTopicConnector("Enterprise Access",
                                                                  enterpriseOMRSTopicConnection);
+
+                /*
+                 * The repository helper enables the topic connector to pass each instance event only to the
+                 * listeners that are interested in the type of the instance.
+                 */
+                enterpriseOMRSTopicConnector.setRepositoryHelper(new OMRSRepositoryContentHelper(localRepositoryContentManager));
             }
         }
 
@@ -626,6 +638,40 @@ public class OMRSOperationalServices
     }
 
 
+    /**
+     * Return the cache of instances retrieved from remote repositories that is shared by the enterprise connectors.
+     * The cache is only created if it is requested in the configuration.  It relies on the events from the
+     * Enterprise OMRS Topic to remove changed instances, so there is no cache if there is no topic.
+     *
+     * @param enterpriseAccessConfig configuration from the OMAG server
+     * @return instance cache or null
+     */
+    private EnterpriseInstanceCache initializeEnterpriseInstanceCache(EnterpriseAccessConfig  enterpriseAccessConfig)
+    {
+        final String  actionDescription = "initializeEnterpriseInstanceCache";
+
+        if ((enterpriseAccessConfig != null) &&
+            (enterpriseAccessConfig.getInstanceCacheSize() > 0) &&
+            (enterpriseOMRSTopicConnector != null))
+        {
+            EnterpriseInstanceCache instanceCache = new EnterpriseInstanceCache(enterpriseAccessConfig.getInstanceCacheSize(),
+                                                                                enterpriseAccessConfig.getInstanceCacheTimeToLive(),
+                                                                                auditLog.createNewAuditLog(OMRSAuditingComponent.ENTERPRISE_REPOSITORY_CONNECTOR));
+
+            enterpriseOMRSTopicConnector.registerListener(instanceCache,
+                                                          OMRSAuditingComponent.ENTERPRISE_REPOSITORY_CONNECTOR.getComponentName());
+
+            auditLog.logMessage(actionDescription,
+                                OMRSAuditCode.ENTERPRISE_INSTANCE_CACHE_STARTED.getMessageDefinition(Integer.toString(enterpriseAccessConfig.getInstanceCacheSize()),
+                                                                                                     Integer.toString(enterpriseAccessConfig.getInstanceCacheTimeToLive())));
+
+            return instanceCache;
+        }
+
+        return null;
+    }
+
+
     /**
      * Initialize the OMRSEnterpriseConnectorManager and the EnterpriseOMRSConnector class.  If the
      * enterprise access configuration is null it means federation is not enabled.  However, the enterprise
@@ -901,6 +947,11 @@ public class OMRSOperationalServices
             }
         }
 
+        if (enterpriseInstanceCache != null)
+        {
+            enterpriseInstanceCache.logStatistics(actionDescription);
+        }
+
         /*
          * This will disconnect all repository connectors, both local and remote.
          */
@@ -28,6 +28,12 @@ import java.util.List;
  */
 public class OMRSArchiveManager
 {
+    /*
+     * The instances in an archive are passed to the local repository in batches of this size.  The repository
+     * decides how many of them to save in each transaction.
+     */
+    private static final int instanceBatchSize = 1000;
+
     private List<OpenMetadataArchiveStoreConnector> openMetadataArchiveStores   = new ArrayList<>();
     private OMRSRepositoryContentManager            repositoryContentManager    = null;
     private OMRSInstanceEventProcessorInterface     localInstanceEventProcessor = null;
@@ -334,7 +340,9 @@ public class OMRSArchiveManager
      * The InstanceStore is in three parts: an optional list of entities followed by an optional list
      * of relationships followed by an optional list of classifications.
      *
-     * It is possible that this archive has been processed before
+     * The entities and relationships are passed to the instance processor in batches so that the local repository
+     * can save them in fewer transactions.  Each instance in a batch is still checked as it would be in a single
+     * event.  It is possible that this archive has been processed before
      * and so any duplicates detected are ignored.  However, conflicting instances are detected.
      * Any problems found in applying the archive contents are recorded on the audit log.
      *
@@ -377,6 +385,8 @@ public class OMRSArchiveManager
 
             if (entities != null)
             {
+                List<EntityDetail> entityBatch = new ArrayList<>();
+
                 for (EntityDetail entity : entities)
                 {
                     if (entity != null)
@@ -389,21 +399,40 @@ public class OMRSArchiveManager
                                                     originatorLicense,
                                                     entity);
 
-                        instanceProcessor.processNewEntityEvent(archiveId,
+                        entityBatch.add(entity);
+
+                        if (entityBatch.size() == instanceBatchSize)
+                        {
+                            instanceProcessor.processInstanceBatchEvent(archiveId,
+                                                                        homeMetadataCollectionId,
+                                                                        archiveName,
+                                                                        originatorServerType,
+                                                                        originatorOrganizationName,
+                                                                        new InstanceGraph(entityBatch, null));
+
+                            entityBatch = new ArrayList<>();
+                        }
+
+                        instanceCount++;
+                    }
+                }
+
+                if (! entityBatch.isEmpty())
+                {
+                    instanceProcessor.processInstanceBatchEvent(archiveId,
                                                                 homeMetadataCollectionId,
                                                                 archiveName,
                                                                 originatorServerType,
                                                                 originatorOrganizationName,
-                                                                entity);
-
-                        instanceCount++;
-                    }
+                                                                new InstanceGraph(entityBatch, null));
                 }
             }
 
 
             if (relationships != null)
             {
+                List<Relationship> relationshipBatch = new ArrayList<>();
+
                 for (Relationship relationship : relationships)
                 {
                     if (relationship != null)
@@ -416,16 +445,33 @@ public class OMRSArchiveManager
                                                     originatorLicense,
                                                     relationship);
 
-                        instanceProcessor.processNewRelationshipEvent(archiveId,
-                                                                      homeMetadataCollectionId,
-                                                                      archiveName,
-                                                                      originatorServerType,
-                                                                      originatorOrganizationName,
-                                                                      relationship);
+                        relationshipBatch.add(relationship);
+
+                        if (relationshipBatch.size() == instanceBatchSize)
+                        {
+                            instanceProcessor.processInstanceBatchEvent(archiveId,
+                                                                        homeMetadataCollectionId,
+                                                                        archiveName,
+                                                                        originatorServerType,
+                                                                        originatorOrganizationName,
+                                                                        new InstanceGraph(null, relationshipBatch));
+
+                            relationshipBatch = new ArrayList<>();
+                        }
 
                         instanceCount ++;
                     }
                 }
+
+                if (! relationshipBatch.isEmpty())
+                {
+                    instanceProcessor.processInstanceBatchEvent(archiveId,
+                                                                homeMetadataCollectionId,
+                                                                archiveName,
+                                                                originatorServerType,
+                                                                originatorOrganizationName,
+                                                                new InstanceGraph(null, relationshipBatch));
+                }
             }
 
 
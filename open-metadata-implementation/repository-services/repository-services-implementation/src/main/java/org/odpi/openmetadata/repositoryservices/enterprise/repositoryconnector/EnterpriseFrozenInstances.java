@@ -0,0 +1,110 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * EnterpriseFrozenInstances freezes the instances that the enterprise connector returns from its retrieve and find
+ * methods.  The callers of the enterprise connector read many values from each instance, and the getters of a
+ * frozen instance return its values without copying them.  Any caller that needs to change an instance must
+ * copy it first.
+ *
+ * An instance retrieved from a repository is copied before it is frozen because the repository may still hold
+ * the retrieved object.  The entities returned from an entity accumulator are already copies, so they are frozen
+ * in place.
+ */
+class EnterpriseFrozenInstances
+{
+    /**
+     * Return a frozen copy of an entity retrieved from a repository.
+     *
+     * @param entity entity to return (may be null)
+     * @return frozen entity
+     */
+    static EntityDetail getFrozenCopy(EntityDetail entity)
+    {
+        if (entity == null)
+        {
+            return null;
+        }
+
+        EntityDetail frozenEntity = new EntityDetail(entity);
+
+        frozenEntity.freeze();
+
+        return frozenEntity;
+    }
+
+
+    /**
+     * Return a frozen copy of a relationship retrieved from a repository.
+     *
+     * @param relationship relationship to return (may be null)
+     * @return frozen relationship
+     */
+    static Relationship getFrozenCopy(Relationship relationship)
+    {
+        if (relationship == null)
+        {
+            return null;
+        }
+
+        Relationship frozenRelationship = new Relationship(relationship);
+
+        frozenRelationship.freeze();
+
+        return frozenRelationship;
+    }
+
+
+    /**
+     * Return frozen copies of a list of relationships retrieved from the repositories.
+     *
+     * @param relationships relationships to return (may be null)
+     * @return list of frozen relationships
+     */
+    static List<Relationship> getFrozenRelationshipCopies(List<Relationship> relationships)
+    {
+        if (relationships == null)
+        {
+            return null;
+        }
+
+        List<Relationship> frozenRelationships = new ArrayList<>();
+
+        for (Relationship relationship : relationships)
+        {
+            frozenRelationships.add(getFrozenCopy(relationship));
+        }
+
+        return frozenRelationships;
+    }
+
+
+    /**
+     * Freeze the entities returned from an entity accumulator in place.
+     *
+     * @param entities entities to return (may be null)
+     * @return the same list of entities, frozen
+     */
+    static List<EntityDetail> getFrozenEntities(List<EntityDetail> entities)
+    {
+        if (entities != null)
+        {
+            for (EntityDetail entity : entities)
+            {
+                if (entity != null)
+                {
+                    entity.freeze();
+                }
+            }
+        }
+
+        return entities;
+    }
+}
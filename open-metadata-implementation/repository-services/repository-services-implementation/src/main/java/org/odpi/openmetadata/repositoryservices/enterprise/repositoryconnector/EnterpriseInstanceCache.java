@@ -0,0 +1,596 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * EnterpriseInstanceCache remembers the entities and relationships that the enterprise connectors have retrieved
+ * from other members of the cohorts.  There is one cache per server and it is shared by all of the enterprise
+ * connectors in that server.  It is kept consistent by listening to the OMRS instance events on the enterprise
+ * OMRS topic: any event that changes a cached instance removes it.  Each instance is also only used for a limited
+ * time, in case an event is lost.
+ *
+ * The remote members make their own security decisions about which users may see an instance.  A cached instance
+ * is therefore only returned to the users that the member has already returned it to.  Any other user causes a
+ * miss and the instance is retrieved again on their behalf.
+ *
+ * Each removal of an instance increases the cache's generation and leaves a tombstone for the instance.  A caller
+ * reads the generation before it retrieves an instance from a member and passes it back when it saves the instance.
+ * The save is ignored if the instance has been removed since then, so that a retrieval that overlaps a change
+ * can not put the old version back into the cache.
+ *
+ * The cache also remembers the home metadata collection of each instance it has seen - even after the instance itself
+ * has been removed from the cache.  This means that the next request for the instance can go directly to its home
+ * repository rather than being federated across all of the members.
+ *
+ * Instances are cached by GUID together with their version, so that an event that carries a version that is no later
+ * than the cached one (such as a refresh event) does not remove it.  The caller is responsible for only passing instances
+ * that have been frozen, since the same object is returned to each caller.
+ */
+public class EnterpriseInstanceCache extends OMRSTopicListenerBase
+{
+    private static final String instanceCacheServiceName = "Enterprise Instance Cache";
+
+    private final Map<String, CachedInstance> cachedInstances;
+    private final Map<String, String>         homeMetadataCollectionIds;
+    private final Map<String, Long>           tombstones;
+    private final long                        timeToLive;
+
+    private long generation              = 0;
+    private long lostTombstoneGeneration = 0;
+
+    private long hitCount          = 0;
+    private long missCount         = 0;
+    private long homeRequestCount  = 0;
+    private long invalidationCount = 0;
+    private long evictionCount     = 0;
+
+
+    /**
+     * Construct an instance cache that holds up to the requested number of instances.  The least recently used
+     * instances are removed when the cache is full.
+     *
+     * @param maxCacheSize maximum number of instances to remember
+     * @param timeToLiveSeconds number of seconds that an instance is used for before it must be retrieved again
+     * @param auditLog logging destination
+     */
+    public EnterpriseInstanceCache(int      maxCacheSize,
+                                   int      timeToLiveSeconds,
+                                   AuditLog auditLog)
+    {
+        super(instanceCacheServiceName, auditLog);
+
+        this.timeToLive = timeToLiveSeconds * 1000L;
+
+        this.cachedInstances = new LinkedHashMap<String, CachedInstance>(16, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedInstance> eldest)
+            {
+                if (size() > maxCacheSize)
+                {
+                    evictionCount++;
+                    return true;
+                }
+
+                return false;
+            }
+        };
+
+        this.homeMetadataCollectionIds = new LinkedHashMap<String, String>(16, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest)
+            {
+                return size() > maxCacheSize;
+            }
+        };
+
+        /*
+         * When a tombstone is dropped to bound the memory used, its generation is remembered so that any save
+         * that was started before it is still ignored.
+         */
+        this.tombstones = new LinkedHashMap<String, Long>(16, 0.75f, false)
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest)
+            {
+                if (size() > maxCacheSize)
+                {
+                    lostTombstoneGeneration = Math.max(lostTombstoneGeneration, eldest.getValue());
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+
+    /**
+     * Return a cached entity that has already been returned to the user by its home repository.
+     *
+     * @param userId calling user
+     * @param entityGUID unique identifier of the entity
+     * @return frozen entity or null if it is not cached for this user (or is not an entity)
+     */
+    public synchronized EntityDetail getEntity(String userId,
+                                               String entityGUID)
+    {
+        return (EntityDetail)this.getInstance(userId, entityGUID, EntityDetail.class);
+    }
+
+
+    /**
+     * Return a cached relationship that has already been returned to the user by its home repository.
+     *
+     * @param userId calling user
+     * @param relationshipGUID unique identifier of the relationship
+     * @return frozen relationship or null if it is not cached for this user (or is not a relationship)
+     */
+    public synchronized Relationship getRelationship(String userId,
+                                                     String relationshipGUID)
+    {
+        return (Relationship)this.getInstance(userId, relationshipGUID, Relationship.class);
+    }
+
+
+    /**
+     * Return the current generation of the cache.  This is called before an instance is retrieved from a member
+     * and passed to the save method afterwards.
+     *
+     * @return generation number
+     */
+    public synchronized long getGeneration()
+    {
+        return generation;
+    }
+
+
+    /**
+     * Remember an entity retrieved from a remote repository for a user.
+     *
+     * @param userId user that the entity was retrieved for
+     * @param entity frozen entity
+     * @param readGeneration generation of the cache before the entity was retrieved
+     */
+    public synchronized void saveEntity(String       userId,
+                                        EntityDetail entity,
+                                        long         readGeneration)
+    {
+        this.saveInstance(userId, entity, readGeneration);
+    }
+
+
+    /**
+     * Remember a relationship retrieved from a remote repository for a user.
+     *
+     * @param userId user that the relationship was retrieved for
+     * @param relationship frozen relationship
+     * @param readGeneration generation of the cache before the relationship was retrieved
+     */
+    public synchronized void saveRelationship(String       userId,
+                                              Relationship relationship,
+                                              long         readGeneration)
+    {
+        this.saveInstance(userId, relationship, readGeneration);
+    }
+
+
+    /**
+     * Return the metadata collection id of the home repository of an instance that has been seen by the cache.
+     *
+     * @param instanceGUID unique identifier of the instance
+     * @return metadata collection id or null if not known
+     */
+    public synchronized String getHomeMetadataCollectionId(String instanceGUID)
+    {
+        return homeMetadataCollectionIds.get(instanceGUID);
+    }
+
+
+    /**
+     * Record that a cache miss was sent directly to the instance's home repository.
+     */
+    public synchronized void recordHomeRequest()
+    {
+        homeRequestCount++;
+    }
+
+
+    /**
+     * Forget an instance.  Its home metadata collection is still remembered.  This is used when an instance is changed
+     * through the enterprise connector: both before the change is made and after it completes, so that a retrieval
+     * that overlaps the change is not saved.
+     *
+     * @param instanceGUID unique identifier of the instance
+     */
+    public synchronized void removeInstance(String instanceGUID)
+    {
+        if (instanceGUID != null)
+        {
+            generation++;
+            tombstones.put(instanceGUID, generation);
+
+            if (cachedInstances.remove(instanceGUID) != null)
+            {
+                invalidationCount++;
+            }
+        }
+    }
+
+
+    /**
+     * Return the number of requests that were satisfied by the cache.
+     *
+     * @return count
+     */
+    public synchronized long getHitCount()
+    {
+        return hitCount;
+    }
+
+
+    /**
+     * Return the number of requests that were not satisfied by the cache.
+     *
+     * @return count
+     */
+    public synchronized long getMissCount()
+    {
+        return missCount;
+    }
+
+
+    /**
+     * Return the number of cache misses that were sent directly to the home repository of the instance.
+     *
+     * @return count
+     */
+    public synchronized long getHomeRequestCount()
+    {
+        return homeRequestCount;
+    }
+
+
+    /**
+     * Return the number of cached instances that were removed because they changed.
+     *
+     * @return count
+     */
+    public synchronized long getInvalidationCount()
+    {
+        return invalidationCount;
+    }
+
+
+    /**
+     * Return the number of cached instances that were removed to make room for other instances.
+     *
+     * @return count
+     */
+    public synchronized long getEvictionCount()
+    {
+        return evictionCount;
+    }
+
+
+    /**
+     * Return the percentage of requests that were satisfied by the cache.
+     *
+     * @return percentage (zero if there have been no requests)
+     */
+    public synchronized int getHitRate()
+    {
+        long requestCount = hitCount + missCount;
+
+        if (requestCount == 0)
+        {
+            return 0;
+        }
+
+        return (int)((hitCount * 100) / requestCount);
+    }
+
+
+    /**
+     * Return the number of instances currently cached.
+     *
+     * @return count
+     */
+    public synchronized int getCacheSize()
+    {
+        return cachedInstances.size();
+    }
+
+
+    /**
+     * Log the statistics for the cache.  This is called when the server shuts down.
+     *
+     * @param actionDescription calling activity
+     */
+    public synchronized void logStatistics(String actionDescription)
+    {
+        if (auditLog != null)
+        {
+            auditLog.logMessage(actionDescription,
+                                OMRSAuditCode.ENTERPRISE_INSTANCE_CACHE_STATISTICS.getMessageDefinition(Long.toString(hitCount),
+                                                                                                        Long.toString(missCount),
+                                                                                                        Integer.toString(this.getHitRate()),
+                                                                                                        Long.toString(homeRequestCount),
+                                                                                                        Long.toString(invalidationCount),
+                                                                                                        Long.toString(evictionCount)));
+        }
+    }
+
+
+    /**
+     * Return a cached instance if it is of the requested kind, has not expired and has been returned to the user.
+     * The hit and miss counts are maintained.
+     *
+     * @param userId calling user
+     * @param instanceGUID unique identifier of the instance
+     * @param instanceClass kind of instance requested
+     * @return frozen instance or null
+     */
+    private InstanceHeader getInstance(String                          userId,
+                                       String                          instanceGUID,
+                                       Class<? extends InstanceHeader> instanceClass)
+    {
+        CachedInstance cachedInstance = cachedInstances.get(instanceGUID);
+
+        if ((cachedInstance != null) && (cachedInstance.expiryTime < System.currentTimeMillis()))
+        {
+            cachedInstances.remove(instanceGUID);
+            cachedInstance = null;
+        }
+
+        if ((cachedInstance == null) ||
+            (! instanceClass.isInstance(cachedInstance.instance)) ||
+            (! cachedInstance.permittedUserIds.contains(userId)))
+        {
+            missCount++;
+            return null;
+        }
+
+        hitCount++;
+        return cachedInstance.instance;
+    }
+
+
+    /**
+     * Remember an instance and its home metadata collection.  An instance is not replaced by an earlier version,
+     * and is not saved at all if it has been removed since the caller read the generation.  If the same version
+     * is already cached, the user is added to the users that may see it.
+     *
+     * @param userId user that the instance was retrieved for
+     * @param instance frozen instance
+     * @param readGeneration generation of the cache before the instance was retrieved
+     */
+    private void saveInstance(String         userId,
+                              InstanceHeader instance,
+                              long           readGeneration)
+    {
+        if ((instance != null) && (instance.getGUID() != null))
+        {
+            String instanceGUID = instance.getGUID();
+
+            if (instance.getMetadataCollectionId() != null)
+            {
+                homeMetadataCollectionIds.put(instanceGUID, instance.getMetadataCollectionId());
+            }
+
+            Long tombstoneGeneration = tombstones.get(instanceGUID);
+
+            if ((readGeneration < lostTombstoneGeneration) ||
+                ((tombstoneGeneration != null) && (readGeneration < tombstoneGeneration)))
+            {
+                /*
+                 * The instance has changed while it was being retrieved.
+                 */
+                return;
+            }
+
+            CachedInstance cachedInstance = cachedInstances.get(instanceGUID);
+
+            if ((cachedInstance != null) && (cachedInstance.version == instance.getVersion()))
+            {
+                cachedInstance.permittedUserIds.add(userId);
+            }
+            else if ((cachedInstance == null) || (cachedInstance.version < instance.getVersion()))
+            {
+                cachedInstances.put(instanceGUID, new CachedInstance(instance, userId, System.currentTimeMillis() + timeToLive));
+            }
+        }
+    }
+
+
+    /**
+     * Remove an instance if the event shows that it has changed since it was cached.
+     *
+     * @param instance instance from the event (may be null)
+     * @param versionMayMatch true if an event carrying the cached version (or an earlier one) does not represent a change
+     */
+    private void invalidateInstance(InstanceHeader instance,
+                                    boolean        versionMayMatch)
+    {
+        if ((instance != null) && (instance.getGUID() != null))
+        {
+            CachedInstance cachedInstance = cachedInstances.get(instance.getGUID());
+
+            if ((! versionMayMatch) || (cachedInstance == null) || (cachedInstance.version < instance.getVersion()))
+            {
+                this.removeInstance(instance.getGUID());
+            }
+        }
+    }
+
+
+    /**
+     * Remove an instance and forget its home.  This is used when the instance is purged or moves to a new home.
+     *
+     * @param instanceGUID unique identifier of the instance (may be null)
+     */
+    private void forgetInstance(String instanceGUID)
+    {
+        if (instanceGUID != null)
+        {
+            this.removeInstance(instanceGUID);
+            homeMetadataCollectionIds.remove(instanceGUID);
+        }
+    }
+
+
+    /*
+     * ==============================
+     * OMRS instance events
+     */
+
+    /**
+     * Remove the instances that are changed by an instance event received on the enterprise OMRS topic.  Every instance
+     * event type is handled here, so the individual process methods of the base class are not used.
+     *
+     * @param instanceEvent inbound event
+     */
+    @Override
+    public synchronized void processInstanceEvent(OMRSInstanceEvent instanceEvent)
+    {
+        if ((instanceEvent == null) || (instanceEvent.getInstanceEventType() == null))
+        {
+            return;
+        }
+
+        OMRSInstanceEventType instanceEventType = instanceEvent.getInstanceEventType();
+
+        switch (instanceEventType)
+        {
+            case NEW_ENTITY_EVENT:
+            case REFRESHED_ENTITY_EVENT:
+                this.invalidateInstance(instanceEvent.getEntity(), true);
+                break;
+
+            case NEW_RELATIONSHIP_EVENT:
+            case REFRESHED_RELATIONSHIP_EVENT:
+                this.invalidateInstance(instanceEvent.getRelationship(), true);
+                break;
+
+            case BATCH_INSTANCES_EVENT:
+                InstanceGraph instanceBatch = instanceEvent.getInstanceBatch();
+
+                if (instanceBatch != null)
+                {
+                    if (instanceBatch.getEntities() != null)
+                    {
+                        for (EntityDetail entity : instanceBatch.getEntities())
+                        {
+                            this.invalidateInstance(entity, true);
+                        }
+                    }
+
+                    if (instanceBatch.getRelationships() != null)
+                    {
+                        for (Relationship relationship : instanceBatch.getRelationships())
+                        {
+                            this.invalidateInstance(relationship, true);
+                        }
+                    }
+                }
+                break;
+
+            case PURGED_ENTITY_EVENT:
+            case DELETE_PURGED_ENTITY_EVENT:
+            case PURGED_RELATIONSHIP_EVENT:
+            case DELETE_PURGED_RELATIONSHIP_EVENT:
+            case RE_HOMED_ENTITY_EVENT:
+            case RE_HOMED_RELATIONSHIP_EVENT:
+            case RE_IDENTIFIED_ENTITY_EVENT:
+            case RE_IDENTIFIED_RELATIONSHIP_EVENT:
+                this.forgetInstance(instanceEvent.getInstanceGUID());
+                this.forgetInstance(instanceEvent.getOriginalInstanceGUID());
+                this.forgetInstance(this.getGUID(instanceEvent.getEntity()));
+                this.forgetInstance(this.getGUID(instanceEvent.getOriginalEntity()));
+                this.forgetInstance(this.getGUID(instanceEvent.getRelationship()));
+                this.forgetInstance(this.getGUID(instanceEvent.getOriginalRelationship()));
+                break;
+
+            default:
+                /*
+                 * Updates, classification changes, deletes, restores, retypes and undos all change the instance.
+                 */
+                this.invalidateInstance(instanceEvent.getEntity(), false);
+                this.invalidateInstance(instanceEvent.getOriginalEntity(), false);
+                this.invalidateInstance(instanceEvent.getRelationship(), false);
+                this.invalidateInstance(instanceEvent.getOriginalRelationship(), false);
+                this.removeInstance(instanceEvent.getInstanceGUID());
+                break;
+        }
+    }
+
+
+    /**
+     * Return the unique identifier of an instance from an event.
+     *
+     * @param instance instance (may be null)
+     * @return guid or null
+     */
+    private String getGUID(InstanceHeader instance)
+    {
+        if (instance != null)
+        {
+            return instance.getGUID();
+        }
+
+        return null;
+    }
+
+
+    /**
+     * CachedInstance holds a cached instance with its version, the users it has been returned to and the
+     * time that it expires.
+     */
+    private static class CachedInstance
+    {
+        private final InstanceHeader instance;
+        private final long           version;
+        private final Set<String>    permittedUserIds = new HashSet<>();
+        private final long           expiryTime;
+
+
+        /**
+         * Construct the cache entry.
+         *
+         * @param instance frozen instance
+         * @param userId user that the instance was retrieved for
+         * @param expiryTime time after which the instance must be retrieved again
+         */
+        CachedInstance(InstanceHeader instance,
+                       String         userId,
+                       long           expiryTime)
+        {
+            this.instance = instance;
+            this.version = instance.getVersion();
+            this.expiryTime = expiryTime;
+            this.permittedUserIds.add(userId);
+        }
+    }
+}
@@ -903,7 +903,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         federationControl.executeCommand(executor);
 
-        return executor.isEntityKnown();
+        return EnterpriseFrozenInstances.getFrozenCopy(executor.isEntityKnown());
     }
 
 
@@ -934,6 +934,16 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         super.getInstanceParameterValidation(userId, guid, methodName);
 
+        /*
+         * A remote entity that has been retrieved recently can be returned from the instance cache.
+         */
+        EntityDetail cachedEntity = this.getCachedEntity(userId, guid);
+
+        if (cachedEntity != null)
+        {
+            return new EntitySummary(cachedEntity);
+        }
+
         /*
          * Validation complete, ok to continue with request
          *
@@ -984,6 +994,18 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         super.getInstanceParameterValidation(userId, guid, methodName);
 
+        /*
+         * A remote entity that has been retrieved recently can be returned from the instance cache.
+         */
+        EntityDetail cachedEntity = this.getCachedEntity(userId, guid);
+
+        if (cachedEntity != null)
+        {
+            return cachedEntity;
+        }
+
+        long readGeneration = this.getCacheGeneration();
+
         /*
          * Validation complete, ok to continue with request
          *
@@ -1008,7 +1030,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
             {
                 federationControl.executeCommand(executor);
 
-                return executor.getEntityDetail();
+                return this.cacheRemoteEntity(userId, EnterpriseFrozenInstances.getFrozenCopy(executor.getEntityDetail()), readGeneration);
             }
             catch (EntityProxyOnlyException proxyException)
             {
@@ -1023,7 +1045,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
         }
         federationControl.executeCommand(executor);
 
-        return executor.getEntityDetail();
+        return this.cacheRemoteEntity(userId, EnterpriseFrozenInstances.getFrozenCopy(executor.getEntityDetail()), readGeneration);
     }
 
 
@@ -1078,7 +1100,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         federationControl.executeCommand(executor);
 
-        return executor.getEntityDetailHistory();
+        return EnterpriseFrozenInstances.getFrozenCopy(executor.getEntityDetailHistory());
     }
 
 
@@ -1176,7 +1198,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         federationControl.executeCommand(executor);
 
-        List<Relationship> results = executor.getResults(enterpriseParentConnector);
+        List<Relationship> results = EnterpriseFrozenInstances.getFrozenRelationshipCopies(executor.getResults(enterpriseParentConnector));
 
         if ((results == null) || (results.isEmpty()))
         {
@@ -1193,6 +1215,176 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return the relationships for a specific entity along with the entities at the other end of these
+     * relationships.  The request is issued to each repository in the cohort(s) and the results combined.
+     * Any related entity that was not returned with the relationships (for example, because the repository
+     * that returned the relationship only has a proxy for it) is retrieved from the cohort individually.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier for the entity.
+     * @param relationshipTypeGUID String GUID of the the type of relationship required (null for all).
+     * @param fromRelationshipElement the starting element number of the relationships to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return InstanceGraph containing the relationships and the entities at their other ends.  Null means
+     * no relationships associated with the entity.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the requested entity instance is not known in the metadata collection.
+     * @throws PropertyErrorException the sequencing property is not valid for the attached classifications.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public InstanceGraph getRelationshipsAndEntitiesForEntity(String               userId,
+                                                              String               entityGUID,
+                                                              String               relationshipTypeGUID,
+                                                              int                  fromRelationshipElement,
+                                                              List<InstanceStatus> limitResultsByStatus,
+                                                              Date                 asOfTime,
+                                                              String               sequencingProperty,
+                                                              SequencingOrder      sequencingOrder,
+                                                              int                  pageSize) throws InvalidParameterException,
+                                                                                                    TypeErrorException,
+                                                                                                    RepositoryErrorException,
+                                                                                                    EntityNotKnownException,
+                                                                                                    PropertyErrorException,
+                                                                                                    PagingErrorException,
+                                                                                                    FunctionNotSupportedException,
+                                                                                                    UserNotAuthorizedException
+    {
+        final String  methodName        = "getRelationshipsAndEntitiesForEntity";
+
+        /*
+         * Validate parameters
+         */
+        super.getRelationshipsForEntityParameterValidation(userId,
+                                                           entityGUID,
+                                                           relationshipTypeGUID,
+                                                           fromRelationshipElement,
+                                                           limitResultsByStatus,
+                                                           asOfTime,
+                                                           sequencingProperty,
+                                                           sequencingOrder,
+                                                           pageSize);
+
+        /*
+         * Validation complete, ok to continue with request
+         *
+         * The list of cohort connectors are retrieved for each request to ensure that any changes in
+         * the shape of the cohort are reflected immediately.
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        FederationControl federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        GetRelationshipsAndEntitiesForEntityExecutor executor = new GetRelationshipsAndEntitiesForEntityExecutor(userId,
+                                                                                                                 entityGUID,
+                                                                                                                 relationshipTypeGUID,
+                                                                                                                 fromRelationshipElement,
+                                                                                                                 limitResultsByStatus,
+                                                                                                                 asOfTime,
+                                                                                                                 sequencingProperty,
+                                                                                                                 sequencingOrder,
+                                                                                                                 pageSize,
+                                                                                                                 localMetadataCollectionId,
+                                                                                                                 auditLog,
+                                                                                                                 repositoryValidator,
+                                                                                                                 methodName);
+
+        federationControl.executeCommand(executor);
+
+        InstanceGraph results = executor.getResults(enterpriseParentConnector, this);
+
+        if ((results == null) || (results.getRelationships() == null) || (results.getRelationships().isEmpty()))
+        {
+            /*
+             * This could be either that the entity exists with no relationships, or the entity GUID is invalid.
+             */
+            this.isEntityKnown(userId, entityGUID);
+            return null;
+        }
+
+        /*
+         * Only the entities at the ends of the combined relationships are returned.  Any that are missing are
+         * retrieved individually.
+         */
+        Map<String, EntityDetail> returnedEntities = new HashMap<>();
+
+        if (results.getEntities() != null)
+        {
+            for (EntityDetail entity : results.getEntities())
+            {
+                if (entity != null)
+                {
+                    returnedEntities.put(entity.getGUID(), entity);
+                }
+            }
+        }
+
+        Map<String, EntityDetail> relatedEntities = new LinkedHashMap<>();
+
+        for (Relationship relationship : results.getRelationships())
+        {
+            String relatedEntityGUID = super.getRelatedEntityGUID(entityGUID, relationship);
+
+            if ((relatedEntityGUID != null) && (! relatedEntities.containsKey(relatedEntityGUID)))
+            {
+                EntityDetail relatedEntity = EnterpriseFrozenInstances.getFrozenCopy(returnedEntities.get(relatedEntityGUID));
+
+                if (relatedEntity == null)
+                {
+                    try
+                    {
+                        if (asOfTime == null)
+                        {
+                            relatedEntity = this.getEntityDetail(userId, relatedEntityGUID);
+                        }
+                        else
+                        {
+                            relatedEntity = this.getEntityDetail(userId, relatedEntityGUID, asOfTime);
+                        }
+                    }
+                    catch (EntityNotKnownException | EntityProxyOnlyException | UserNotAuthorizedException notAvailable)
+                    {
+                        /*
+                         * The relationship is still returned without its related entity.
+                         */
+                    }
+                }
+
+                relatedEntities.put(relatedEntityGUID, relatedEntity);
+            }
+        }
+
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (EntityDetail relatedEntity : relatedEntities.values())
+        {
+            if (relatedEntity != null)
+            {
+                entities.add(relatedEntity);
+            }
+        }
+
+        return new InstanceGraph(entities, EnterpriseFrozenInstances.getFrozenRelationshipCopies(results.getRelationships()));
+    }
+
+
     /**
      * Return a list of entities that match the supplied properties according to the match criteria.  The results
      * can be returned over many pages.
@@ -1297,7 +1489,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         federationControl.executeCommand(executor);
 
-        return executor.getResults(enterpriseParentConnector, this);
+        return EnterpriseFrozenInstances.getFrozenEntities(executor.getResults(enterpriseParentConnector, this));
     }
 
 
@@ -1403,7 +1595,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         federationControl.executeCommand(executor);
 
-        return executor.getResults(enterpriseParentConnector, this);
+        return EnterpriseFrozenInstances.getFrozenEntities(executor.getResults(enterpriseParentConnector, this));
     }
 
 
@@ -1515,7 +1707,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         federationControl.executeCommand(executor);
 
-        return executor.getResults(enterpriseParentConnector, this);
+        return EnterpriseFrozenInstances.getFrozenEntities(executor.getResults(enterpriseParentConnector, this));
     }
 
 
@@ -1622,7 +1814,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         federationControl.executeCommand(executor);
 
-        return executor.getResults(enterpriseParentConnector, this);
+        return EnterpriseFrozenInstances.getFrozenEntities(executor.getResults(enterpriseParentConnector, this));
     }
 
 
@@ -1668,7 +1860,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         federationControl.executeCommand(executor);
 
-        return executor.isRelationshipKnown();
+        return EnterpriseFrozenInstances.getFrozenCopy(executor.isRelationshipKnown());
     }
 
 
@@ -1699,6 +1891,18 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         super.getInstanceParameterValidation(userId, guid, methodName);
 
+        /*
+         * A remote relationship that has been retrieved recently can be returned from the instance cache.
+         */
+        Relationship cachedRelationship = this.getCachedRelationship(userId, guid);
+
+        if (cachedRelationship != null)
+        {
+            return cachedRelationship;
+        }
+
+        long readGeneration = this.getCacheGeneration();
+
         /*
          * Validation complete, ok to continue with request
          *
@@ -1717,7 +1921,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         federationControl.executeCommand(executor);
 
-        return executor.getRelationship();
+        return this.cacheRemoteRelationship(userId, EnterpriseFrozenInstances.getFrozenCopy(executor.getRelationship()), readGeneration);
     }
 
 
@@ -1770,7 +1974,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         federationControl.executeCommand(executor);
 
-        return executor.getRelationshipHistory();
+        return EnterpriseFrozenInstances.getFrozenCopy(executor.getRelationshipHistory());
     }
 
 
@@ -1875,7 +2079,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         federationControl.executeCommand(executor);
 
-        return executor.getResults(enterpriseParentConnector);
+        return EnterpriseFrozenInstances.getFrozenRelationshipCopies(executor.getResults(enterpriseParentConnector));
     }
 
 
@@ -1980,7 +2184,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         federationControl.executeCommand(executor);
 
-        return executor.getResults(enterpriseParentConnector);
+        return EnterpriseFrozenInstances.getFrozenRelationshipCopies(executor.getResults(enterpriseParentConnector));
     }
 
 
@@ -2083,7 +2287,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         federationControl.executeCommand(executor);
 
-        return executor.getResults(enterpriseParentConnector);
+        return EnterpriseFrozenInstances.getFrozenRelationshipCopies(executor.getResults(enterpriseParentConnector));
     }
 
 
@@ -2820,7 +3024,14 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                         methodName);
         if (metadataCollection != null)
         {
-            return metadataCollection.updateEntityStatus(userId, entityGUID, newStatus);
+            try
+            {
+                return metadataCollection.updateEntityStatus(userId, entityGUID, newStatus);
+            }
+            finally
+            {
+                this.instanceChanged(entityGUID);
+            }
         }
 
         return null;
@@ -2872,7 +3083,14 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                         methodName);
         if (metadataCollection != null)
         {
-            return metadataCollection.updateEntityProperties(userId, entityGUID, properties);
+            try
+            {
+                return metadataCollection.updateEntityProperties(userId, entityGUID, properties);
+            }
+            finally
+            {
+                this.instanceChanged(entityGUID);
+            }
         }
 
         return null;
@@ -2920,7 +3138,14 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                         methodName);
         if (metadataCollection != null)
         {
-            return metadataCollection.undoEntityUpdate(userId, entityGUID);
+            try
+            {
+                return metadataCollection.undoEntityUpdate(userId, entityGUID);
+            }
+            finally
+            {
+                this.instanceChanged(entityGUID);
+            }
         }
 
         return null;
@@ -2982,7 +3207,14 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                         methodName);
         if (metadataCollection != null)
         {
-            return metadataCollection.deleteEntity(userId, typeDefGUID, typeDefName, obsoleteEntityGUID);
+            try
+            {
+                return metadataCollection.deleteEntity(userId, typeDefGUID, typeDefName, obsoleteEntityGUID);
+            }
+            finally
+            {
+                this.instanceChanged(obsoleteEntityGUID);
+            }
         }
 
         return null;
@@ -3051,7 +3283,14 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
          * there are no positive results from any repository.
          */
-        federationControl.executeCommand(executor);
+        try
+        {
+            federationControl.executeCommand(executor);
+        }
+        finally
+        {
+            this.instanceChanged(deletedEntityGUID);
+        }
 
         executor.getResult();
     }
@@ -3107,7 +3346,14 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
          * there are no positive results from any repository.
          */
-        federationControl.executeCommand(executor);
+        try
+        {
+            federationControl.executeCommand(executor);
+        }
+        finally
+        {
+            this.instanceChanged(deletedEntityGUID);
+        }
 
         return executor.getRestoredEntity();
     }
@@ -3186,7 +3432,14 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
          * there are no positive results from any repository.
          */
-        federationControl.executeCommand(executor);
+        try
+        {
+            federationControl.executeCommand(executor);
+        }
+        finally
+        {
+            this.instanceChanged(entityGUID);
+        }
 
         return executor.getUpdatedEntity();
     }
@@ -3273,7 +3526,14 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
          * there are no positive results from any repository.
          */
-        federationControl.executeCommand(executor);
+        try
+        {
+            federationControl.executeCommand(executor);
+        }
+        finally
+        {
+            this.instanceChanged(entityGUID);
+        }
 
         return executor.getUpdatedEntity();
     }
@@ -3323,7 +3583,14 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
         OMRSMetadataCollection metadataCollection = enterpriseParentConnector.getHomeMetadataCollection(classification, methodName);
         if (metadataCollection != null)
         {
-            return metadataCollection.declassifyEntity(userId, entityGUID, classificationName);
+            try
+            {
+                return metadataCollection.declassifyEntity(userId, entityGUID, classificationName);
+            }
+            finally
+            {
+                this.instanceChanged(entityGUID);
+            }
         }
 
         return null;
@@ -3379,10 +3646,17 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
         OMRSMetadataCollection metadataCollection = enterpriseParentConnector.getHomeMetadataCollection(classification, methodName);
         if (metadataCollection != null)
         {
-            return metadataCollection.updateEntityClassification(userId,
-                                                                 entityGUID,
-                                                                 classificationName,
-                                                                 properties);
+            try
+            {
+                return metadataCollection.updateEntityClassification(userId,
+                                                                     entityGUID,
+                                                                     classificationName,
+                                                                     properties);
+            }
+            finally
+            {
+                this.instanceChanged(entityGUID);
+            }
         }
 
         return null;
@@ -3623,7 +3897,14 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                         methodName);
         if (metadataCollection != null)
         {
-            return metadataCollection.updateRelationshipStatus(userId, relationshipGUID, newStatus);
+            try
+            {
+                return metadataCollection.updateRelationshipStatus(userId, relationshipGUID, newStatus);
+            }
+            finally
+            {
+                this.instanceChanged(relationshipGUID);
+            }
         }
 
         return null;
@@ -3675,7 +3956,14 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                         methodName);
         if (metadataCollection != null)
         {
-            return metadataCollection.updateRelationshipProperties(userId, relationshipGUID, properties);
+            try
+            {
+                return metadataCollection.updateRelationshipProperties(userId, relationshipGUID, properties);
+            }
+            finally
+            {
+                this.instanceChanged(relationshipGUID);
+            }
         }
 
         return null;
@@ -3723,7 +4011,14 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                         methodName);
         if (metadataCollection != null)
         {
-            return metadataCollection.undoRelationshipUpdate(userId, relationshipGUID);
+            try
+            {
+                return metadataCollection.undoRelationshipUpdate(userId, relationshipGUID);
+            }
+            finally
+            {
+                this.instanceChanged(relationshipGUID);
+            }
         }
 
         return null;
@@ -3783,10 +4078,17 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                         methodName);
         if (metadataCollection != null)
         {
-            return metadataCollection.deleteRelationship(userId,
-                                                         typeDefGUID,
-                                                         typeDefName,
-                                                         obsoleteRelationshipGUID);
+            try
+            {
+                return metadataCollection.deleteRelationship(userId,
+                                                             typeDefGUID,
+                                                             typeDefName,
+                                                             obsoleteRelationshipGUID);
+            }
+            finally
+            {
+                this.instanceChanged(obsoleteRelationshipGUID);
+            }
         }
 
         return null;
@@ -3853,7 +4155,14 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
          * there are no positive results from any repository.
          */
-        federationControl.executeCommand(executor);
+        try
+        {
+            federationControl.executeCommand(executor);
+        }
+        finally
+        {
+            this.instanceChanged(deletedRelationshipGUID);
+        }
 
         executor.getResult();
     }
@@ -3910,7 +4219,14 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
          * there are no positive results from any repository.
          */
-        federationControl.executeCommand(executor);
+        try
+        {
+            federationControl.executeCommand(executor);
+        }
+        finally
+        {
+            this.instanceChanged(deletedRelationshipGUID);
+        }
 
         return executor.getRestoredRelationship();
     }
@@ -4412,6 +4728,201 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
      */
 
 
+    /**
+     * Return an entity from the instance cache.  If it is not cached but its home repository is known, the entity
+     * is retrieved directly from its home repository rather than from each member of the cohorts in turn.
+     *
+     * @param userId unique identifier for requesting user
+     * @param guid unique identifier for the entity
+     * @return frozen entity or null if the entity must be retrieved through the federation
+     */
+    private EntityDetail getCachedEntity(String userId,
+                                         String guid)
+    {
+        EnterpriseInstanceCache instanceCache = enterpriseParentConnector.getInstanceCache();
+
+        if (instanceCache == null)
+        {
+            return null;
+        }
+
+        EntityDetail cachedEntity = instanceCache.getEntity(userId, guid);
+
+        if (cachedEntity == null)
+        {
+            OMRSMetadataCollection homeMetadataCollection = enterpriseParentConnector.getRemoteMetadataCollection(instanceCache.getHomeMetadataCollectionId(guid));
+
+            if (homeMetadataCollection != null)
+            {
+                try
+                {
+                    long readGeneration = instanceCache.getGeneration();
+
+                    instanceCache.recordHomeRequest();
+
+                    cachedEntity = this.cacheRemoteEntity(userId,
+                                                          EnterpriseFrozenInstances.getFrozenCopy(homeMetadataCollection.getEntityDetail(userId, guid)),
+                                                          readGeneration);
+                }
+                catch (Exception error)
+                {
+                    /*
+                     * The entity may have moved, or the home repository is not available.  The federation will find it if it
+                     * is still available.
+                     */
+                    cachedEntity = null;
+                }
+            }
+        }
+
+        return cachedEntity;
+    }
+
+
+    /**
+     * Return a relationship from the instance cache.  If it is not cached but its home repository is known, the
+     * relationship is retrieved directly from its home repository.
+     *
+     * @param userId unique identifier for requesting user
+     * @param guid unique identifier for the relationship
+     * @return frozen relationship or null if the relationship must be retrieved through the federation
+     */
+    private Relationship getCachedRelationship(String userId,
+                                               String guid)
+    {
+        EnterpriseInstanceCache instanceCache = enterpriseParentConnector.getInstanceCache();
+
+        if (instanceCache == null)
+        {
+            return null;
+        }
+
+        Relationship cachedRelationship = instanceCache.getRelationship(userId, guid);
+
+        if (cachedRelationship == null)
+        {
+            OMRSMetadataCollection homeMetadataCollection = enterpriseParentConnector.getRemoteMetadataCollection(instanceCache.getHomeMetadataCollectionId(guid));
+
+            if (homeMetadataCollection != null)
+            {
+                try
+                {
+                    long readGeneration = instanceCache.getGeneration();
+
+                    instanceCache.recordHomeRequest();
+
+                    cachedRelationship = this.cacheRemoteRelationship(userId,
+                                                                      EnterpriseFrozenInstances.getFrozenCopy(homeMetadataCollection.getRelationship(userId, guid)),
+                                                                      readGeneration);
+                }
+                catch (Exception error)
+                {
+                    cachedRelationship = null;
+                }
+            }
+        }
+
+        return cachedRelationship;
+    }
+
+
+    /**
+     * Return the generation of the instance cache.  This is read before an instance is retrieved so that the instance
+     * is not cached if it changes while it is being retrieved.
+     *
+     * @return generation number (zero if there is no cache)
+     */
+    private long getCacheGeneration()
+    {
+        EnterpriseInstanceCache instanceCache = enterpriseParentConnector.getInstanceCache();
+
+        if (instanceCache != null)
+        {
+            return instanceCache.getGeneration();
+        }
+
+        return 0;
+    }
+
+
+    /**
+     * Save an entity in the instance cache if it comes from a remote repository.  Entities from the local
+     * repository are not cached since they can be retrieved just as quickly from the local repository.
+     *
+     * @param userId user that the entity was retrieved for
+     * @param entity frozen entity (may be null)
+     * @param readGeneration generation of the cache before the entity was retrieved
+     * @return the same entity
+     */
+    private EntityDetail cacheRemoteEntity(String       userId,
+                                           EntityDetail entity,
+                                           long         readGeneration)
+    {
+        EnterpriseInstanceCache instanceCache = enterpriseParentConnector.getInstanceCache();
+
+        if ((instanceCache != null) && (this.isRemoteInstance(entity)))
+        {
+            instanceCache.saveEntity(userId, entity, readGeneration);
+        }
+
+        return entity;
+    }
+
+
+    /**
+     * Save a relationship in the instance cache if it comes from a remote repository.
+     *
+     * @param userId user that the relationship was retrieved for
+     * @param relationship frozen relationship (may be null)
+     * @param readGeneration generation of the cache before the relationship was retrieved
+     * @return the same relationship
+     */
+    private Relationship cacheRemoteRelationship(String       userId,
+                                                 Relationship relationship,
+                                                 long         readGeneration)
+    {
+        EnterpriseInstanceCache instanceCache = enterpriseParentConnector.getInstanceCache();
+
+        if ((instanceCache != null) && (this.isRemoteInstance(relationship)))
+        {
+            instanceCache.saveRelationship(userId, relationship, readGeneration);
+        }
+
+        return relationship;
+    }
+
+
+    /**
+     * Remove an instance from the instance cache once a change to it has completed (or failed).  Any retrieval of
+     * the instance that overlapped the change is then not cached.
+     *
+     * @param instanceGUID unique identifier of the changed instance
+     */
+    private void instanceChanged(String instanceGUID)
+    {
+        EnterpriseInstanceCache instanceCache = enterpriseParentConnector.getInstanceCache();
+
+        if (instanceCache != null)
+        {
+            instanceCache.removeInstance(instanceGUID);
+        }
+    }
+
+
+    /**
+     * Return whether an instance is homed in a repository other than the local repository.
+     *
+     * @param instance instance to test (may be null)
+     * @return boolean flag
+     */
+    private boolean isRemoteInstance(InstanceHeader instance)
+    {
+        return (instance != null) &&
+               (instance.getMetadataCollectionId() != null) &&
+               (! instance.getMetadataCollectionId().equals(localMetadataCollectionId));
+    }
+
+
     /**
      * Build a combined list of entities.
      *
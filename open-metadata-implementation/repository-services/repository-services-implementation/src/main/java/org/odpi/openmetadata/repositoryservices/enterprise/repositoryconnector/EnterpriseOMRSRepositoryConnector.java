@@ -45,7 +45,8 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
     private String                              localMetadataCollectionId = null;
     private List<FederatedConnector>            remoteCohortConnectors    = new ArrayList<>();
 
-    private String callingServiceName = null;
+    private String                  callingServiceName = null;
+    private EnterpriseInstanceCache instanceCache      = null;
 
     private static final Logger log = LoggerFactory.getLogger(EnterpriseOMRSRepositoryConnector.class);
 
@@ -106,6 +107,29 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
     }
 
 
+    /**
+     * Set up the cache of instances retrieved from remote members of the cohorts.  This is shared by all of the
+     * enterprise connectors in the server.
+     *
+     * @param instanceCache instance cache (null means no caching)
+     */
+    public void setInstanceCache(EnterpriseInstanceCache instanceCache)
+    {
+        this.instanceCache = instanceCache;
+    }
+
+
+    /**
+     * Return the cache of instances retrieved from remote members of the cohorts.
+     *
+     * @return instance cache or null if caching is not enabled
+     */
+    EnterpriseInstanceCache getInstanceCache()
+    {
+        return instanceCache;
+    }
+
+
     /**
      * Indicates that the connector is completely configured and can begin processing.
      *
@@ -202,6 +226,14 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
     synchronized OMRSMetadataCollection getHomeMetadataCollection(InstanceHeader instance,
                                                                   String         methodName) throws RepositoryErrorException
     {
+        /*
+         * The instance is about to be changed so any cached copy is out of date.
+         */
+        if ((instanceCache != null) && (instance != null))
+        {
+            instanceCache.removeInstance(instance.getGUID());
+        }
+
         OMRSRepositoryConnector repositoryConnector = this.getHomeConnector(instance, methodName);
 
         if (repositoryConnector != null)
@@ -410,6 +442,28 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
         }
     }
 
+    /**
+     * Return the metadata collection for a remote member of the cohorts.
+     *
+     * @param metadataCollectionId unique id for the metadata collection
+     * @return metadata collection or null if the member is not connected
+     */
+    synchronized OMRSMetadataCollection getRemoteMetadataCollection(String metadataCollectionId)
+    {
+        if (metadataCollectionId != null)
+        {
+            FederatedConnector federatedConnector = this.getFederatedConnector(metadataCollectionId);
+
+            if (federatedConnector != null)
+            {
+                return federatedConnector.getMetadataCollection();
+            }
+        }
+
+        return null;
+    }
+
+
     /**
      * Return the federated connector for a metadata collection Id
      *
@@ -5,10 +5,13 @@ package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.
 
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -19,6 +22,9 @@ import java.util.Map;
  * EntityAccumulator accumulates and validates entities received from a collection of open metadata
  * repositories.  It removes duplicates from the list by choosing the latest entity details object.
  *
+ * When it is created with paging parameters, the members return sequenced pages and the accumulator merges them
+ * to produce the requested page, retrieving further pages from a member only when the merge needs them.
+ *
  * This class may be called simultaneously from many different threads so it must be thread-safe.
  */
 public class EntityAccumulator extends QueryInstanceAccumulatorBase
@@ -26,6 +32,14 @@ public class EntityAccumulator extends QueryInstanceAccumulatorBase
     private volatile Map<String, EntityDetail>         accumulatedEntities        = new HashMap<>();
     private volatile Map<String, List<Classification>> accumulatedClassifications = new HashMap<>();
 
+    private int                                  fromElement        = 0;
+    private String                               sequencingProperty = null;
+    private SequencingOrder                      sequencingOrder    = null;
+    private int                                  pageSize           = 0;
+    private String                               methodName         = null;
+    private List<MemberCursor<EntityDetail>>     memberCursors      = new ArrayList<>();
+    private List<String>                         mergedEntityGUIDs  = null;
+
 
     /**
      * Construct a entity accumulator.  Its base class manages the common variables needed to
@@ -43,6 +57,38 @@ public class EntityAccumulator extends QueryInstanceAccumulatorBase
     }
 
 
+    /**
+     * Construct a entity accumulator that merges the sequenced pages returned by each member to produce
+     * the requested page of results.
+     *
+     * @param localMetadataCollectionId collection Id of local repository - null means no local repository
+     * @param auditLog audit log provides destination for log messages
+     * @param repositoryValidator validator provides common validation routines
+     * @param fromElement the starting element number of the entities to return
+     * @param sequencingProperty String name of the property that is to be used to sequence the results
+     * @param sequencingOrder Enum defining how the results should be ordered
+     * @param pageSize the maximum number of entities to return - zero means unrestricted
+     * @param methodName calling method
+     */
+    public EntityAccumulator(String                  localMetadataCollectionId,
+                             AuditLog                auditLog,
+                             OMRSRepositoryValidator repositoryValidator,
+                             int                     fromElement,
+                             String                  sequencingProperty,
+                             SequencingOrder         sequencingOrder,
+                             int                     pageSize,
+                             String                  methodName)
+    {
+        super(localMetadataCollectionId, auditLog, repositoryValidator);
+
+        this.fromElement = fromElement;
+        this.sequencingProperty = sequencingProperty;
+        this.sequencingOrder = sequencingOrder;
+        this.pageSize = pageSize;
+        this.methodName = methodName;
+    }
+
+
     /**
      * Provide an entity received from an open metadata repository.
      *
@@ -171,6 +217,31 @@ public class EntityAccumulator extends QueryInstanceAccumulatorBase
     }
 
 
+    /**
+     * Add the first page of sequenced entities returned by a member to the accumulator.  The page source is used to
+     * retrieve further pages from the same member if they are needed when the results are merged.
+     *
+     * @param firstPage entities returned from element zero using the accumulator's page size
+     * @param metadataCollectionId source metadata collection
+     * @param pageSource source of further pages from the member
+     */
+    public synchronized void addEntities(List<EntityDetail>             firstPage,
+                                         String                         metadataCollectionId,
+                                         MemberPageSource<EntityDetail> pageSource)
+    {
+        if ((firstPage != null) && (metadataCollectionId != null))
+        {
+            memberCursors.add(new MemberCursor<>(metadataCollectionId, firstPage, pageSource, pageSize));
+
+            super.setResultsReturned(metadataCollectionId, firstPage.size());
+        }
+        else
+        {
+            super.setResultsReturned(metadataCollectionId, 0);
+        }
+    }
+
+
     /**
      * Extract the results - this will the a unique list of entities selected from the instances
      * supplied to this accumulator.  It should be called once all of the executors have completed processing
@@ -179,10 +250,26 @@ public class EntityAccumulator extends QueryInstanceAccumulatorBase
      * @param repositoryConnector enterprise connector
      * @param metadataCollection enterprise metadata collection
      * @return list of entities
+     * @throws RepositoryErrorException a repository failed to return the results needed to complete the page
      */
     public synchronized List<EntityDetail> getResults(EnterpriseOMRSRepositoryConnector repositoryConnector,
-                                                      OMRSMetadataCollection            metadataCollection)
+                                                      OMRSMetadataCollection            metadataCollection) throws RepositoryErrorException
     {
+        if ((mergedEntityGUIDs == null) && (! memberCursors.isEmpty()))
+        {
+            mergedEntityGUIDs = super.mergeMemberPages(memberCursors,
+                                                       (one, two) -> OMRSRepositoryContentHelper.compareSequencedInstances(one,
+                                                                                                                           one.getProperties(),
+                                                                                                                           two,
+                                                                                                                           two.getProperties(),
+                                                                                                                           sequencingProperty,
+                                                                                                                           sequencingOrder),
+                                                       fromElement,
+                                                       pageSize,
+                                                       this::addEntity,
+                                                       methodName);
+        }
+
         if (accumulatedEntities.isEmpty())
         {
             return null;
@@ -195,7 +282,21 @@ public class EntityAccumulator extends QueryInstanceAccumulatorBase
 
             if (metadataCollection != null)
             {
-                for (EntityDetail accumulatedEntity : accumulatedEntities.values())
+                List<EntityDetail> orderedEntities = new ArrayList<>();
+
+                if (mergedEntityGUIDs == null)
+                {
+                    orderedEntities.addAll(accumulatedEntities.values());
+                }
+                else
+                {
+                    for (String entityGUID : mergedEntityGUIDs)
+                    {
+                        orderedEntities.add(accumulatedEntities.get(entityGUID));
+                    }
+                }
+
+                for (EntityDetail accumulatedEntity : orderedEntities)
                 {
                     if (accumulatedEntity != null)
                     {
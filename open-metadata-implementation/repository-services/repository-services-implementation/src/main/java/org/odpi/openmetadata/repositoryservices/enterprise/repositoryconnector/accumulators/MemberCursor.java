@@ -0,0 +1,184 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators;
+
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSCheckedExceptionBase;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * MemberCursor tracks the position reached in the sequenced results of a single member of the cohort(s) while
+ * they are merged with the results from the other members.  It holds the unread part of the last page
+ * retrieved from the member and retrieves the next page only when this is used up.
+ *
+ * @param <T> type of instance returned by the query
+ */
+class MemberCursor<T>
+{
+    private String              metadataCollectionId;
+    private MemberPageSource<T> pageSource;
+    private int                 pageSize;
+
+    private Deque<T> unreadInstances  = new ArrayDeque<>();
+    private int      nextFromElement;
+    private int      instancesReturned;
+    private boolean  exhausted;
+
+    private OMRSCheckedExceptionBase failure = null;
+
+
+    /**
+     * Create a cursor positioned at the start of the first page of results from a member.
+     *
+     * @param metadataCollectionId unique identifier of the member's metadata collection
+     * @param firstPage first page of results returned by the member (starting at element zero)
+     * @param pageSource source of further pages
+     * @param pageSize page size to use when retrieving further pages - zero means the first page holds all results
+     */
+    MemberCursor(String              metadataCollectionId,
+                 List<T>             firstPage,
+                 MemberPageSource<T> pageSource,
+                 int                 pageSize)
+    {
+        this.metadataCollectionId = metadataCollectionId;
+        this.pageSource = pageSource;
+        this.pageSize = pageSize;
+
+        this.savePage(firstPage);
+    }
+
+
+    /**
+     * Return the unique identifier of the member's metadata collection.
+     *
+     * @return guid
+     */
+    String getMetadataCollectionId()
+    {
+        return metadataCollectionId;
+    }
+
+
+    /**
+     * Return whether the member has returned any instances at all.
+     *
+     * @return boolean flag
+     */
+    boolean hasReturnedInstances()
+    {
+        return instancesReturned > 0;
+    }
+
+
+    /**
+     * Return the next instance from the member without moving past it.  A further page is retrieved
+     * from the member if the current page is used up.
+     *
+     * @return instance or null if the member has no more results
+     * @throws OMRSCheckedExceptionBase the member was unable to return the next page
+     */
+    T peek() throws OMRSCheckedExceptionBase
+    {
+        if ((unreadInstances.isEmpty()) && (! exhausted))
+        {
+            this.savePage(pageSource.getPage(nextFromElement, pageSize));
+        }
+
+        return unreadInstances.peekFirst();
+    }
+
+
+    /**
+     * Move past the instance returned by the last call to peek.
+     *
+     * @return the instance moved past
+     */
+    T next()
+    {
+        return unreadInstances.pollFirst();
+    }
+
+
+    /**
+     * Move past a number of instances without retrieving them.  This is only valid when no other member is
+     * contributing results, since the skipped instances can not then be duplicates of instances from elsewhere.
+     *
+     * @param instanceCount number of instances to skip
+     */
+    void skip(int instanceCount)
+    {
+        int remainingCount = instanceCount;
+
+        while ((remainingCount > 0) && (! unreadInstances.isEmpty()))
+        {
+            unreadInstances.pollFirst();
+            remainingCount--;
+        }
+
+        if ((remainingCount > 0) && (! exhausted))
+        {
+            nextFromElement = nextFromElement + remainingCount;
+        }
+    }
+
+
+    /**
+     * Stop retrieving results from the member.  This is called if the member fails to return a page.
+     *
+     * @param error exception returned by the member
+     */
+    void fail(OMRSCheckedExceptionBase error)
+    {
+        unreadInstances.clear();
+        exhausted = true;
+
+        if (failure == null)
+        {
+            failure = error;
+        }
+    }
+
+
+    /**
+     * Return the exception from the member if it failed to return a page.
+     *
+     * @return exception or null
+     */
+    OMRSCheckedExceptionBase getFailure()
+    {
+        return failure;
+    }
+
+
+    /**
+     * Save a page of results returned by the member.  A short page means that there are no more results.
+     *
+     * @param page list of instances (may be null)
+     */
+    private void savePage(List<T> page)
+    {
+        if ((page == null) || (page.isEmpty()))
+        {
+            exhausted = true;
+            return;
+        }
+
+        for (T instance : page)
+        {
+            if (instance != null)
+            {
+                unreadInstances.addLast(instance);
+            }
+        }
+
+        instancesReturned = instancesReturned + page.size();
+        nextFromElement = nextFromElement + page.size();
+
+        if ((pageSize == 0) || (page.size() < pageSize))
+        {
+            exhausted = true;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators;
+
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSCheckedExceptionBase;
+
+import java.util.List;
+
+/**
+ * MemberPageSource retrieves a page of results from one member of the cohort(s).  It is supplied to the accumulators
+ * by the executors of the pageable queries, so that further pages can be retrieved from a member while its results
+ * are being merged with the results from the other members.
+ *
+ * @param <T> type of instance returned by the query
+ */
+public interface MemberPageSource<T>
+{
+    /**
+     * Issue the query to the member with the requested paging parameters.  All other query parameters,
+     * including the sequencing parameters, are supplied by the executor.
+     *
+     * @param fromElement the starting element number of the instances to return
+     * @param pageSize the maximum number of instances to return - zero means unrestricted
+     * @return list of instances or null
+     * @throws OMRSCheckedExceptionBase the member was unable to process the query
+     */
+    List<T> getPage(int fromElement,
+                    int pageSize) throws OMRSCheckedExceptionBase;
+}
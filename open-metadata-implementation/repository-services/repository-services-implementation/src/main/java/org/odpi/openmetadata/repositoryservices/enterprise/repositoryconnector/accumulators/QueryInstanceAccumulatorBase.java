@@ -7,9 +7,17 @@ import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceAuditHeader;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSCheckedExceptionBase;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
 
 /**
  * QueryAccumulatorBase acts as a base class to the accumulators that need to visit each repository and
@@ -75,4 +83,217 @@ public class QueryInstanceAccumulatorBase extends QueryAccumulatorBase
     {
         return ! (locallyStoredInstancesGUIDs.contains(instanceGUID));
     }
+
+
+    /**
+     * Merge the sequenced results from each of the members to produce the requested page of unique instances.
+     * This is a k-way merge: the next instance is always taken from the member whose next instance sorts first,
+     * and further pages are only retrieved from a member when the merge has used up the page it has.  Duplicates
+     * are removed as the instances are merged.  The first occurrence of an instance sets its position in the
+     * results and any later occurrences (from other members) are passed to the instance accumulator so that
+     * it can choose the best version.
+     *
+     * When the heads of several members sort equally (which is always the case for SequencingOrder.ANY), they are
+     * taken from the members in turn so that no member's results are held back behind another's.  If a member
+     * fails to return a further page, the page can not be completed correctly and so the request fails.
+     *
+     * @param memberCursors the cursor for each member that returned results
+     * @param comparator comparator that matches the sequencing used by the members
+     * @param fromElement the starting element number of the merged instances to return
+     * @param pageSize the maximum number of instances to return - zero means unrestricted
+     * @param instanceAccumulator accumulator for the instances (and their duplicates) that are in the requested page
+     * @param methodName calling method
+     * @param <T> type of instance
+     * @return unique identifiers of the instances in the requested page in the order that they should be returned
+     * @throws RepositoryErrorException a member failed to return the further results needed to complete the page
+     */
+    <T extends InstanceHeader> List<String> mergeMemberPages(List<MemberCursor<T>>   memberCursors,
+                                                             Comparator<T>           comparator,
+                                                             int                     fromElement,
+                                                             int                     pageSize,
+                                                             BiConsumer<T, String>   instanceAccumulator,
+                                                             String                  methodName) throws RepositoryErrorException
+    {
+        List<String> pageGUIDs    = new ArrayList<>();
+        Set<String>  pageGUIDSet  = new HashSet<>();
+        Set<String>  skippedGUIDs = new HashSet<>();
+        int          skippedCount = 0;
+        int          firstMember  = 0;
+
+        while ((pageSize == 0) || (pageGUIDs.size() < pageSize))
+        {
+            if (skippedCount < fromElement)
+            {
+                skippedCount = skippedCount + this.skipSingleMember(memberCursors, fromElement - skippedCount);
+            }
+
+            MemberCursor<T> nextCursor   = null;
+            T               nextInstance = null;
+            int             nextMember   = 0;
+
+            /*
+             * The scan starts after the member that supplied the last instance so that ties are taken in turn.
+             */
+            for (int memberCount = 0; memberCount < memberCursors.size(); memberCount++)
+            {
+                int             memberIndex       = (firstMember + memberCount) % memberCursors.size();
+                MemberCursor<T> memberCursor      = memberCursors.get(memberIndex);
+                T               candidateInstance = this.peekMember(memberCursor, methodName);
+
+                if ((candidateInstance != null) &&
+                    ((nextInstance == null) || (comparator.compare(candidateInstance, nextInstance) < 0)))
+                {
+                    nextCursor = memberCursor;
+                    nextInstance = candidateInstance;
+                    nextMember = memberIndex;
+                }
+            }
+
+            if (nextCursor == null)
+            {
+                /*
+                 * All members have run out of results.
+                 */
+                break;
+            }
+
+            nextCursor.next();
+            firstMember = nextMember + 1;
+
+            String instanceGUID = nextInstance.getGUID();
+
+            if ((instanceGUID == null) || (skippedGUIDs.contains(instanceGUID)))
+            {
+                continue;
+            }
+
+            if (pageGUIDSet.contains(instanceGUID))
+            {
+                instanceAccumulator.accept(nextInstance, nextCursor.getMetadataCollectionId());
+            }
+            else if (skippedCount < fromElement)
+            {
+                skippedGUIDs.add(instanceGUID);
+                skippedCount++;
+            }
+            else
+            {
+                pageGUIDs.add(instanceGUID);
+                pageGUIDSet.add(instanceGUID);
+                instanceAccumulator.accept(nextInstance, nextCursor.getMetadataCollectionId());
+            }
+        }
+
+        /*
+         * Copies of the last instances in the page may be waiting at the head of the other members' results.
+         * They need to be seen in case they are a later version.
+         */
+        boolean duplicateFound = true;
+
+        while (duplicateFound)
+        {
+            duplicateFound = false;
+
+            for (MemberCursor<T> memberCursor : memberCursors)
+            {
+                T headInstance = this.peekMember(memberCursor, methodName);
+
+                if ((headInstance != null) && (pageGUIDSet.contains(headInstance.getGUID())))
+                {
+                    memberCursor.next();
+                    instanceAccumulator.accept(headInstance, memberCursor.getMetadataCollectionId());
+                    duplicateFound = true;
+                }
+            }
+        }
+
+        for (MemberCursor<T> memberCursor : memberCursors)
+        {
+            OMRSCheckedExceptionBase error = memberCursor.getFailure();
+
+            if (error != null)
+            {
+                throw new RepositoryErrorException(OMRSErrorCode.INCOMPLETE_ENTERPRISE_RESULTS.getMessageDefinition(methodName,
+                                                                                                                   memberCursor.getMetadataCollectionId(),
+                                                                                                                   error.getClass().getName(),
+                                                                                                                   error.getMessage()),
+                                                   this.getClass().getName(),
+                                                   methodName,
+                                                   error);
+            }
+        }
+
+        return pageGUIDs;
+    }
+
+
+    /**
+     * When only one member has returned any results, there are no duplicates to remove and so the instances
+     * before the requested page can be skipped rather than retrieved.
+     *
+     * @param memberCursors the cursor for each member that returned results
+     * @param skipCount number of instances still to skip
+     * @param <T> type of instance
+     * @return number of instances skipped
+     */
+    private <T> int skipSingleMember(List<MemberCursor<T>> memberCursors,
+                                     int                   skipCount)
+    {
+        MemberCursor<T> contributingCursor = null;
+
+        for (MemberCursor<T> memberCursor : memberCursors)
+        {
+            if (memberCursor.hasReturnedInstances())
+            {
+                if (contributingCursor != null)
+                {
+                    return 0;
+                }
+
+                contributingCursor = memberCursor;
+            }
+        }
+
+        if (contributingCursor == null)
+        {
+            return 0;
+        }
+
+        contributingCursor.skip(skipCount);
+
+        return skipCount;
+    }
+
+
+    /**
+     * Return the next instance from a member.  If the member fails to return its next page, the failure is
+     * logged and saved in the cursor.  The merge is then completed with the other members, so that it is not
+     * left half-way through, and the failure is reported once the merge has finished.
+     *
+     * @param memberCursor cursor for the member
+     * @param methodName calling method
+     * @param <T> type of instance
+     * @return next instance or null if the member has no more results
+     */
+    private <T> T peekMember(MemberCursor<T> memberCursor,
+                             String          methodName)
+    {
+        try
+        {
+            return memberCursor.peek();
+        }
+        catch (OMRSCheckedExceptionBase error)
+        {
+            memberCursor.fail(error);
+
+            auditLog.logException(methodName,
+                                  OMRSAuditCode.UNEXPECTED_EXCEPTION_FROM_REPOSITORY.getMessageDefinition(error.getClass().getName(),
+                                                                                                          memberCursor.getMetadataCollectionId(),
+                                                                                                          methodName,
+                                                                                                          error.getMessage()),
+                                  error);
+        }
+
+        return null;
+    }
 }
@@ -3,9 +3,12 @@
 package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators;
 
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -16,12 +19,23 @@ import java.util.Map;
  * RelationshipAccumulator accumulates and validates relationships received from a collection of open metadata
  * repositories.  It removes duplicates from the list by choosing the latest version.
  *
+ * When it is created with paging parameters, the members return sequenced pages and the accumulator merges them
+ * to produce the requested page, retrieving further pages from a member only when the merge needs them.
+ *
  * This class may be called simultaneously from many different threads so it must be thread-safe.
  */
 public class RelationshipAccumulator extends QueryInstanceAccumulatorBase
 {
     private volatile Map<String, Relationship> accumulatedRelationships   = new HashMap<>();
 
+    private int                                fromElement             = 0;
+    private String                             sequencingProperty      = null;
+    private SequencingOrder                    sequencingOrder         = null;
+    private int                                pageSize                = 0;
+    private String                             methodName              = null;
+    private List<MemberCursor<Relationship>>   memberCursors           = new ArrayList<>();
+    private List<String>                       mergedRelationshipGUIDs = null;
+
 
     /**
      * Construct a relationship accumulator.  Its base class manages the common variables needed to
@@ -39,6 +53,38 @@ public class RelationshipAccumulator extends QueryInstanceAccumulatorBase
     }
 
 
+    /**
+     * Construct a relationship accumulator that merges the sequenced pages returned by each member to produce
+     * the requested page of results.
+     *
+     * @param localMetadataCollectionId collection Id of local repository - null means no local repository
+     * @param auditLog audit log provides destination for log messages
+     * @param repositoryValidator validator provides common validation routines
+     * @param fromElement the starting element number of the relationships to return
+     * @param sequencingProperty String name of the property that is to be used to sequence the results
+     * @param sequencingOrder Enum defining how the results should be ordered
+     * @param pageSize the maximum number of relationships to return - zero means unrestricted
+     * @param methodName calling method
+     */
+    public RelationshipAccumulator(String                  localMetadataCollectionId,
+                                   AuditLog                auditLog,
+                                   OMRSRepositoryValidator repositoryValidator,
+                                   int                     fromElement,
+                                   String                  sequencingProperty,
+                                   SequencingOrder         sequencingOrder,
+                                   int                     pageSize,
+                                   String                  methodName)
+    {
+        super(localMetadataCollectionId, auditLog, repositoryValidator);
+
+        this.fromElement = fromElement;
+        this.sequencingProperty = sequencingProperty;
+        this.sequencingOrder = sequencingOrder;
+        this.pageSize = pageSize;
+        this.methodName = methodName;
+    }
+
+
     /**
      * Provide a relationship received from an open metadata repository.
      *
@@ -107,6 +153,31 @@ public class RelationshipAccumulator extends QueryInstanceAccumulatorBase
     }
 
 
+    /**
+     * Add the first page of sequenced relationships returned by a member to the accumulator.  The page source is used to
+     * retrieve further pages from the same member if they are needed when the results are merged.
+     *
+     * @param firstPage relationships returned from element zero using the accumulator's page size
+     * @param metadataCollectionId source metadata collection
+     * @param pageSource source of further pages from the member
+     */
+    public synchronized void addRelationships(List<Relationship>             firstPage,
+                                              String                         metadataCollectionId,
+                                              MemberPageSource<Relationship> pageSource)
+    {
+        if ((firstPage != null) && (metadataCollectionId != null))
+        {
+            memberCursors.add(new MemberCursor<>(metadataCollectionId, firstPage, pageSource, pageSize));
+
+            super.setResultsReturned(metadataCollectionId, firstPage.size());
+        }
+        else
+        {
+            super.setResultsReturned(metadataCollectionId, 0);
+        }
+    }
+
+
     /**
      * Extract the results - this will the a unique list of relationships selected from the instances
      * supplied to this accumulator.  It should be called once all of the executors have completed processing
@@ -114,9 +185,25 @@ public class RelationshipAccumulator extends QueryInstanceAccumulatorBase
      *
      * @param repositoryConnector enterprise connector
      * @return list of relationships
+     * @throws RepositoryErrorException a repository failed to return the results needed to complete the page
      */
-    public synchronized List<Relationship>  getResults(EnterpriseOMRSRepositoryConnector repositoryConnector)
+    public synchronized List<Relationship>  getResults(EnterpriseOMRSRepositoryConnector repositoryConnector) throws RepositoryErrorException
     {
+        if ((mergedRelationshipGUIDs == null) && (! memberCursors.isEmpty()))
+        {
+            mergedRelationshipGUIDs = super.mergeMemberPages(memberCursors,
+                                                             (one, two) -> OMRSRepositoryContentHelper.compareSequencedInstances(one,
+                                                                                                                                 one.getProperties(),
+                                                                                                                                 two,
+                                                                                                                                 two.getProperties(),
+                                                                                                                                 sequencingProperty,
+                                                                                                                                 sequencingOrder),
+                                                             fromElement,
+                                                             pageSize,
+                                                             this::addRelationship,
+                                                             methodName);
+        }
+
         if (accumulatedRelationships.isEmpty())
         {
             return null;
@@ -124,7 +211,20 @@ public class RelationshipAccumulator extends QueryInstanceAccumulatorBase
         else
         {
             this.makeRefreshRecommendations(repositoryConnector);
-            return new ArrayList<>(accumulatedRelationships.values());
+
+            if (mergedRelationshipGUIDs == null)
+            {
+                return new ArrayList<>(accumulatedRelationships.values());
+            }
+
+            List<Relationship> results = new ArrayList<>();
+
+            for (String relationshipGUID : mergedRelationshipGUIDs)
+            {
+                results.add(accumulatedRelationships.get(relationshipGUID));
+            }
+
+            return results;
         }
     }
 
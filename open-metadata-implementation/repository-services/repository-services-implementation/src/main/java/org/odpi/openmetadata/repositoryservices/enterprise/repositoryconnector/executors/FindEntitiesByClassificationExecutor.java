@@ -12,6 +12,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.EntityAccumulator;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.MemberPageSource;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
 import java.util.Date;
@@ -84,7 +85,14 @@ public class FindEntitiesByClassificationExecutor extends PageableRepositoryExec
              sequencingProperty,
              sequencingOrder,
              pageSize,
-             new EntityAccumulator(localMetadataCollectionId, auditLog, repositoryValidator),
+             new EntityAccumulator(localMetadataCollectionId,
+                                   auditLog,
+                                   repositoryValidator,
+                                   fromEntityElement,
+                                   sequencingProperty,
+                                   sequencingOrder,
+                                   pageSize,
+                                   methodName),
              methodName);
     }
 
@@ -184,22 +192,23 @@ public class FindEntitiesByClassificationExecutor extends PageableRepositoryExec
         try
         {
             /*
-             * Issue the request
+             * Issue the request for the first page.  Further pages are only retrieved from this repository
+             * if the accumulator needs them to merge the results from all of the repositories.
              */
-            List<EntityDetail> results = metadataCollection.findEntitiesByClassification(userId,
-                                                                                         instanceTypeGUID,
-                                                                                         classificationName,
-                                                                                         matchClassificationProperties,
-                                                                                         matchCriteria,
-                                                                                         startingElement,
-                                                                                         limitResultsByStatus,
-                                                                                         asOfTime,
-                                                                                         sequencingProperty,
-                                                                                         sequencingOrder,
-                                                                                         pageSize);
-
-            accumulator.addEntities(results, metadataCollectionId);
+            MemberPageSource<EntityDetail> pageSource = (fromElement, elementCount) ->
+                    metadataCollection.findEntitiesByClassification(userId,
+                                                                    instanceTypeGUID,
+                                                                    classificationName,
+                                                                    matchClassificationProperties,
+                                                                    matchCriteria,
+                                                                    fromElement,
+                                                                    limitResultsByStatus,
+                                                                    asOfTime,
+                                                                    sequencingProperty,
+                                                                    sequencingOrder,
+                                                                    elementCount);
 
+            accumulator.addEntities(pageSource.getPage(0, pageSize), metadataCollectionId, pageSource);
         }
         catch (InvalidParameterException error)
         {
@@ -12,6 +12,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.EntityAccumulator;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.MemberPageSource;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
 import java.util.Date;
@@ -83,7 +84,14 @@ public class FindEntitiesByPropertyExecutor extends PageableRepositoryExecutorBa
              sequencingProperty,
              sequencingOrder,
              pageSize,
-             new EntityAccumulator(localMetadataCollectionId, auditLog, repositoryValidator),
+             new EntityAccumulator(localMetadataCollectionId,
+                                   auditLog,
+                                   repositoryValidator,
+                                   fromEntityElement,
+                                   sequencingProperty,
+                                   sequencingOrder,
+                                   pageSize,
+                                   methodName),
              methodName);
     }
 
@@ -182,21 +190,23 @@ public class FindEntitiesByPropertyExecutor extends PageableRepositoryExecutorBa
         try
         {
             /*
-             * Issue the request
+             * Issue the request for the first page.  Further pages are only retrieved from this repository
+             * if the accumulator needs them to merge the results from all of the repositories.
              */
-            List<EntityDetail> results = metadataCollection.findEntitiesByProperty(userId,
-                                                                                   instanceTypeGUID,
-                                                                                   matchProperties,
-                                                                                   matchCriteria,
-                                                                                   startingElement,
-                                                                                   limitResultsByStatus,
-                                                                                   limitResultsByClassification,
-                                                                                   asOfTime,
-                                                                                   sequencingProperty,
-                                                                                   sequencingOrder,
-                                                                                   pageSize);
+            MemberPageSource<EntityDetail> pageSource = (fromElement, elementCount) ->
+                    metadataCollection.findEntitiesByProperty(userId,
+                                                              instanceTypeGUID,
+                                                              matchProperties,
+                                                              matchCriteria,
+                                                              fromElement,
+                                                              limitResultsByStatus,
+                                                              limitResultsByClassification,
+                                                              asOfTime,
+                                                              sequencingProperty,
+                                                              sequencingOrder,
+                                                              elementCount);
 
-            accumulator.addEntities(results, metadataCollectionId);
+            accumulator.addEntities(pageSource.getPage(0, pageSize), metadataCollectionId, pageSource);
         }
         catch (InvalidParameterException error)
         {
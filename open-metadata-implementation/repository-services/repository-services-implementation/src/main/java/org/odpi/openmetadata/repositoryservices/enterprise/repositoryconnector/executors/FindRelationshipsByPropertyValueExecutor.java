@@ -10,6 +10,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.RelationshipAccumulator;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.MemberPageSource;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
 import java.util.Date;
@@ -77,7 +78,14 @@ public class FindRelationshipsByPropertyValueExecutor extends PageableRepository
              sequencingProperty,
              sequencingOrder,
              pageSize,
-             new RelationshipAccumulator(localMetadataCollectionId, auditLog, repositoryValidator),
+             new RelationshipAccumulator(localMetadataCollectionId,
+                                         auditLog,
+                                         repositoryValidator,
+                                         fromRelationshipElement,
+                                         sequencingProperty,
+                                         sequencingOrder,
+                                         pageSize,
+                                         methodName),
              methodName);
     }
 
@@ -171,19 +179,21 @@ public class FindRelationshipsByPropertyValueExecutor extends PageableRepository
         try
         {
             /*
-             * Issue the request
+             * Issue the request for the first page.  Further pages are only retrieved from this repository
+             * if the accumulator needs them to merge the results from all of the repositories.
              */
-            List<Relationship> results = metadataCollection.findRelationshipsByPropertyValue(userId,
-                                                                                             instanceTypeGUID,
-                                                                                             searchCriteria,
-                                                                                             startingElement,
-                                                                                             limitResultsByStatus,
-                                                                                             asOfTime,
-                                                                                             sequencingProperty,
-                                                                                             sequencingOrder,
-                                                                                             pageSize);
+            MemberPageSource<Relationship> pageSource = (fromElement, elementCount) ->
+                    metadataCollection.findRelationshipsByPropertyValue(userId,
+                                                                        instanceTypeGUID,
+                                                                        searchCriteria,
+                                                                        fromElement,
+                                                                        limitResultsByStatus,
+                                                                        asOfTime,
+                                                                        sequencingProperty,
+                                                                        sequencingOrder,
+                                                                        elementCount);
 
-            accumulator.addRelationships(results, metadataCollectionId);
+            accumulator.addRelationships(pageSource.getPage(0, pageSize), metadataCollectionId, pageSource);
         }
         catch (InvalidParameterException error)
         {
@@ -11,6 +11,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.RelationshipAccumulator;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.MemberPageSource;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
 import java.util.Date;
@@ -81,7 +82,14 @@ public class FindRelationshipsExecutor extends PageableRepositoryExecutorBase
              sequencingProperty,
              sequencingOrder,
              pageSize,
-             new RelationshipAccumulator(localMetadataCollectionId, auditLog, repositoryValidator),
+             new RelationshipAccumulator(localMetadataCollectionId,
+                                         auditLog,
+                                         repositoryValidator,
+                                         fromRelationshipElement,
+                                         sequencingProperty,
+                                         sequencingOrder,
+                                         pageSize,
+                                         methodName),
              methodName);
     }
 
@@ -180,20 +188,22 @@ public class FindRelationshipsExecutor extends PageableRepositoryExecutorBase
         try
         {
             /*
-             * Issue the request
+             * Issue the request for the first page.  Further pages are only retrieved from this repository
+             * if the accumulator needs them to merge the results from all of the repositories.
              */
-            List<Relationship> results = metadataCollection.findRelationships(userId,
-                                                                              instanceTypeGUID,
-                                                                              instanceSubtypeGUIDs,
-                                                                              matchProperties,
-                                                                              startingElement,
-                                                                              limitResultsByStatus,
-                                                                              asOfTime,
-                                                                              sequencingProperty,
-                                                                              sequencingOrder,
-                                                                              pageSize);
+            MemberPageSource<Relationship> pageSource = (fromElement, elementCount) ->
+                    metadataCollection.findRelationships(userId,
+                                                         instanceTypeGUID,
+                                                         instanceSubtypeGUIDs,
+                                                         matchProperties,
+                                                         fromElement,
+                                                         limitResultsByStatus,
+                                                         asOfTime,
+                                                         sequencingProperty,
+                                                         sequencingOrder,
+                                                         elementCount);
 
-            accumulator.addRelationships(results, metadataCollectionId);
+            accumulator.addRelationships(pageSource.getPage(0, pageSize), metadataCollectionId, pageSource);
         }
         catch (InvalidParameterException error)
         {
@@ -0,0 +1,309 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.EntityAccumulator;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.MemberPageSource;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.RelationshipAccumulator;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
+
+import java.util.Date;
+import java.util.List;
+
+
+/**
+ * GetRelationshipsAndEntitiesForEntityExecutor is the executor for the getRelationshipsAndEntitiesForEntity request.
+ * This request can be issued in parallel - the call to each request potentially running in a different thread.
+ * The relationships are merged in the same way as getRelationshipsForEntity.  The related entities returned with
+ * each page of relationships are combined in a separate accumulator.
+ */
+public class GetRelationshipsAndEntitiesForEntityExecutor extends PageableRepositoryExecutorBase
+{
+    private String                  entityGUID;
+    private RelationshipAccumulator accumulator;
+    private EntityAccumulator       entityAccumulator;
+
+
+    /**
+     * Create the executor.  The parameters provide the parameters for issuing the requests and
+     * combining the results.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier for the entity.
+     * @param relationshipTypeGUID String GUID of the the type of relationship required (null for all).
+     * @param fromRelationshipElement the starting element number of the relationships to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize  the maximum number of relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @param localMetadataCollectionId unique identifier for the local repository - may be null if no local repository
+     * @param auditLog logging destination
+     * @param repositoryValidator validator for resulting relationships
+     * @param methodName calling method
+     */
+    public GetRelationshipsAndEntitiesForEntityExecutor(String                  userId,
+                                                        String                  entityGUID,
+                                                        String                  relationshipTypeGUID,
+                                                        int                     fromRelationshipElement,
+                                                        List<InstanceStatus>    limitResultsByStatus,
+                                                        Date                    asOfTime,
+                                                        String                  sequencingProperty,
+                                                        SequencingOrder         sequencingOrder,
+                                                        int                     pageSize,
+                                                        String                  localMetadataCollectionId,
+                                                        AuditLog                auditLog,
+                                                        OMRSRepositoryValidator repositoryValidator,
+                                                        String                  methodName)
+    {
+        this(userId,
+             entityGUID,
+             relationshipTypeGUID,
+             fromRelationshipElement,
+             limitResultsByStatus,
+             asOfTime,
+             sequencingProperty,
+             sequencingOrder,
+             pageSize,
+             new RelationshipAccumulator(localMetadataCollectionId,
+                                         auditLog,
+                                         repositoryValidator,
+                                         fromRelationshipElement,
+                                         sequencingProperty,
+                                         sequencingOrder,
+                                         pageSize,
+                                         methodName),
+             new EntityAccumulator(localMetadataCollectionId, auditLog, repositoryValidator),
+             methodName);
+    }
+
+
+    /**
+     * Create the executor.  The parameters provide the parameters for issuing the requests and
+     * combining the results.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier for the entity.
+     * @param relationshipTypeGUID String GUID of the the type of relationship required (null for all).
+     * @param fromRelationshipElement the starting element number of the relationships to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize  the maximum number of relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @param accumulator captures relationships and exceptions
+     * @param entityAccumulator captures related entities
+     * @param methodName calling method
+     */
+    private GetRelationshipsAndEntitiesForEntityExecutor(String                  userId,
+                                                         String                  entityGUID,
+                                                         String                  relationshipTypeGUID,
+                                                         int                     fromRelationshipElement,
+                                                         List<InstanceStatus>    limitResultsByStatus,
+                                                         Date                    asOfTime,
+                                                         String                  sequencingProperty,
+                                                         SequencingOrder         sequencingOrder,
+                                                         int                     pageSize,
+                                                         RelationshipAccumulator accumulator,
+                                                         EntityAccumulator       entityAccumulator,
+                                                         String                  methodName)
+    {
+        super(userId,
+              relationshipTypeGUID,
+              fromRelationshipElement,
+              limitResultsByStatus,
+              sequencingProperty,
+              sequencingOrder,
+              pageSize,
+              asOfTime,
+              accumulator,
+              methodName);
+
+        this.entityGUID = entityGUID;
+        this.accumulator = accumulator;
+        this.entityAccumulator = entityAccumulator;
+    }
+
+
+    /**
+     * Return a clone of this executor with the same command parameters and accumulator instances.
+     * This is used when setting up the parallel execution of the work.  Each clone executes
+     * the calls to a single open metadata repository.
+     *
+     * @return clone of this executor
+     */
+    public CloneableRepositoryExecutor getClone()
+    {
+        return new GetRelationshipsAndEntitiesForEntityExecutor(userId,
+                                                                entityGUID,
+                                                                instanceTypeGUID,
+                                                                startingElement,
+                                                                limitResultsByStatus,
+                                                                asOfTime,
+                                                                sequencingProperty,
+                                                                sequencingOrder,
+                                                                pageSize,
+                                                                accumulator,
+                                                                entityAccumulator,
+                                                                methodName);
+    }
+
+
+    /**
+     * Perform the required action for the supplied repository.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     * @param metadataCollection metadata collection object for the repository
+     * @return boolean true means that the required results have been achieved
+     */
+    public boolean issueRequestToRepository(String                 metadataCollectionId,
+                                            OMRSMetadataCollection metadataCollection)
+    {
+        try
+        {
+            /*
+             * Issue the request for the first page.  Further pages are only retrieved from this repository
+             * if the accumulator needs them to merge the relationships from all of the repositories.  The
+             * related entities returned with each page are saved in the entity accumulator.
+             */
+            MemberPageSource<Relationship> pageSource = (fromElement, elementCount) ->
+            {
+                InstanceGraph results = metadataCollection.getRelationshipsAndEntitiesForEntity(userId,
+                                                                                                entityGUID,
+                                                                                                instanceTypeGUID,
+                                                                                                fromElement,
+                                                                                                limitResultsByStatus,
+                                                                                                asOfTime,
+                                                                                                sequencingProperty,
+                                                                                                sequencingOrder,
+                                                                                                elementCount);
+
+                if (results == null)
+                {
+                    return null;
+                }
+
+                entityAccumulator.addEntities(results.getEntities(), metadataCollectionId);
+
+                return results.getRelationships();
+            };
+
+            accumulator.addRelationships(pageSource.getPage(0, pageSize), metadataCollectionId, pageSource);
+        }
+        catch (InvalidParameterException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (EntityNotKnownException error)
+        {
+            /*
+             * The entity is not known in the remote system so convert this to a null response.
+             */
+            accumulator.addRelationships(null, metadataCollectionId);
+        }
+        catch (FunctionNotSupportedException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (PropertyErrorException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (RepositoryErrorException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (TypeErrorException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (PagingErrorException error)
+        {
+            accumulator.captureException(metadataCollectionId, error);
+        }
+        catch (Exception error)
+        {
+            accumulator.captureGenericException(methodName, metadataCollectionId, error);
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Return the results of the combined requests.  The entity list may not include an entity for every
+     * relationship since a repository may only have a proxy for the entity at the other end.  It may also include
+     * entities from pages of relationships that were retrieved but not needed for the merged page.
+     *
+     * @param repositoryConnector enterprise connector
+     * @param metadataCollection enterprise metadata collection
+     * @return relationships and related entities.  Null means no relationships associated with the entity.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the requested entity instance is not known in the metadata collection.
+     * @throws PropertyErrorException the sequencing property is not valid for the attached classifications.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceGraph getResults(EnterpriseOMRSRepositoryConnector repositoryConnector,
+                                    OMRSMetadataCollection            metadataCollection) throws InvalidParameterException,
+                                                                                                 TypeErrorException,
+                                                                                                 RepositoryErrorException,
+                                                                                                 EntityNotKnownException,
+                                                                                                 PropertyErrorException,
+                                                                                                 PagingErrorException,
+                                                                                                 FunctionNotSupportedException,
+                                                                                                 UserNotAuthorizedException
+    {
+        if (accumulator.resultsReturned())
+        {
+            List<Relationship> relationships = accumulator.getResults(repositoryConnector);
+
+            if (relationships == null)
+            {
+                return null;
+            }
+
+            List<EntityDetail> entities = entityAccumulator.getResults(repositoryConnector, metadataCollection);
+
+            return new InstanceGraph(entities, relationships);
+        }
+
+        handleCommonPagingRequestExceptions();
+
+        accumulator.throwCapturedEntityNotKnownException();
+
+        return null;
+    }
+}
@@ -10,8 +10,10 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
 
 
-import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * OMRSRepositoryEventExchangeRule determines if particular types of events should be exchanged on the OMRS Topic.
@@ -19,7 +21,7 @@ import java.util.List;
 public class OMRSRepositoryEventExchangeRule
 {
     private OpenMetadataExchangeRule           exchangeRule;
-    private List<String>                       selectedTypesToProcess = new ArrayList<>();
+    private Set<String>                        selectedTypesToProcess = Collections.synchronizedSet(new HashSet<>());
 
 
     /**
@@ -46,7 +48,8 @@ public class OMRSRepositoryEventExchangeRule
         this.exchangeRule = exchangeRule;
 
         /*
-         * The selected types are loaded into a hash map for easy retrieval.
+         * The selected types are loaded into a hash set for easy retrieval.  It is a synchronized set because
+         * learned types are added while events are being processed.
          */
         if (selectedTypesToProcess != null)
         {
@@ -206,10 +209,7 @@ public class OMRSRepositoryEventExchangeRule
                      * All active types should be learned and added to the rule so save copies are updated by
                      * incoming events.
                      */
-                    if (! selectedTypesToProcess.contains(type.getTypeDefGUID()))
-                    {
-                        selectedTypesToProcess.add(typeDefGUID);
-                    }
+                    selectedTypesToProcess.add(typeDefGUID);
 
                     /*
                      * The instance should be saved if it is not already known.
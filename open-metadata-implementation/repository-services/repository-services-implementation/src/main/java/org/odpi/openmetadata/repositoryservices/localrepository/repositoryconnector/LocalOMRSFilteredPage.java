@@ -0,0 +1,303 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LocalOMRSFilteredPage builds up a page of results from the real repository when some of the instances
+ * returned are removed by the security verifier.  Rather than returning a short (or empty) page, the
+ * caller keeps requesting more instances from the real repository until the page is full or the
+ * real repository has no more results.  The size of each follow-on request is based on the proportion of
+ * instances that have been filtered out so far.
+ *
+ * A page may start from a paging cursor saved by the previous page of the same query.  The first request then
+ * re-reads the last instance that the previous page consumed.  If it is not the instance recorded in the cursor,
+ * the real repository's results have changed since the cursor was saved and the page starts again from the
+ * caller's position.
+ *
+ * @param <T> type of instance being paged
+ */
+class LocalOMRSFilteredPage<T extends InstanceHeader>
+{
+    /**
+     * Validates a single instance retrieved from the real repository.
+     *
+     * @param <T> type of instance
+     */
+    interface InstanceValidator<T extends InstanceHeader>
+    {
+        /**
+         * Return the instance that the user may see, or null if it should be skipped.
+         *
+         * @param instance instance from the real repository
+         * @return validated instance or null
+         * @throws UserNotAuthorizedException the user is not allowed to perform this request
+         */
+        T validate(T instance) throws UserNotAuthorizedException;
+    }
+
+
+    private final int     pageSize;
+    private final int     maxRepositoryPageSize;
+    private final int     fromElement;
+    private final List<T> results = new ArrayList<>();
+
+    private int     repositoryOffset;
+    private int     repositoryPageSize;
+    private int     retrievedCount      = 0;
+    private boolean repositoryExhausted = false;
+    private String  cursorGUID;
+    private boolean cursorRejected      = false;
+    private String  lastGUID            = null;
+
+
+    /**
+     * Set up a page that starts at the caller's position in the real repository's results.
+     *
+     * @param fromElement starting element requested by the caller
+     * @param pageSize number of instances requested by the caller (zero means no limit)
+     * @param maxRepositoryPageSize largest page that may be requested from the real repository (zero means no limit)
+     */
+    LocalOMRSFilteredPage(int fromElement,
+                          int pageSize,
+                          int maxRepositoryPageSize)
+    {
+        this(fromElement, 0, null, pageSize, maxRepositoryPageSize);
+    }
+
+
+    /**
+     * Set up a page that continues from a paging cursor.
+     *
+     * @param fromElement starting element requested by the caller
+     * @param cursorOffset position in the real repository's results where the page starts
+     * @param cursorGUID unique identifier of the instance just before cursorOffset (null means there is no cursor)
+     * @param pageSize number of instances requested by the caller (zero means no limit)
+     * @param maxRepositoryPageSize largest page that may be requested from the real repository (zero means no limit)
+     */
+    LocalOMRSFilteredPage(int    fromElement,
+                          int    cursorOffset,
+                          String cursorGUID,
+                          int    pageSize,
+                          int    maxRepositoryPageSize)
+    {
+        this.fromElement           = fromElement;
+        this.pageSize              = pageSize;
+        this.maxRepositoryPageSize = maxRepositoryPageSize;
+
+        if ((cursorGUID == null) || (cursorOffset <= 0))
+        {
+            this.cursorGUID         = null;
+            this.repositoryOffset   = fromElement;
+            this.repositoryPageSize = pageSize;
+        }
+        else
+        {
+            this.cursorGUID         = cursorGUID;
+            this.repositoryOffset   = cursorOffset - 1;
+            this.repositoryPageSize = (pageSize == 0) ? 0 : pageSize + 1;
+        }
+    }
+
+
+    /**
+     * Return whether another request should be issued to the real repository.
+     *
+     * @return boolean flag
+     */
+    boolean moreNeeded()
+    {
+        return (! repositoryExhausted) && ((pageSize == 0) || (results.size() < pageSize));
+    }
+
+
+    /**
+     * Return the starting position to use on the next request to the real repository.
+     *
+     * @return offset into the real repository's results
+     */
+    int getRepositoryOffset()
+    {
+        return repositoryOffset;
+    }
+
+
+    /**
+     * Return the page size to use on the next request to the real repository.
+     *
+     * @return page size
+     */
+    int getRepositoryPageSize()
+    {
+        return repositoryPageSize;
+    }
+
+
+    /**
+     * Add the instances returned by the real repository.  Each instance is passed to the validator and those
+     * that are returned are added to the page until it is full.
+     *
+     * @param repositoryResults instances returned from the real repository
+     * @param validator security validation for each instance
+     * @throws UserNotAuthorizedException the user is not allowed to perform this request
+     */
+    void addRepositoryResults(List<T>              repositoryResults,
+                              InstanceValidator<T> validator) throws UserNotAuthorizedException
+    {
+        int firstInstance = 0;
+
+        if (cursorGUID != null)
+        {
+            String expectedGUID = cursorGUID;
+
+            cursorGUID = null;
+
+            if ((repositoryResults == null) || (repositoryResults.isEmpty()) || (! expectedGUID.equals(this.getGUID(repositoryResults.get(0)))))
+            {
+                /*
+                 * The cursor no longer matches the real repository's results so the page starts again from the
+                 * caller's position.
+                 */
+                cursorRejected     = true;
+                repositoryOffset   = fromElement;
+                repositoryPageSize = pageSize;
+                return;
+            }
+
+            /*
+             * The first instance was returned on the previous page.
+             */
+            repositoryOffset ++;
+            firstInstance = 1;
+        }
+
+        if ((repositoryResults == null) || (repositoryResults.isEmpty()))
+        {
+            repositoryExhausted = true;
+            return;
+        }
+
+        for (T instance : repositoryResults.subList(firstInstance, repositoryResults.size()))
+        {
+            repositoryOffset ++;
+            retrievedCount ++;
+            lastGUID = this.getGUID(instance);
+
+            T validatedInstance = validator.validate(instance);
+
+            if (validatedInstance != null)
+            {
+                results.add(validatedInstance);
+
+                if ((pageSize != 0) && (results.size() == pageSize))
+                {
+                    break;
+                }
+            }
+        }
+
+        if ((pageSize == 0) || (repositoryResults.size() < repositoryPageSize))
+        {
+            repositoryExhausted = true;
+        }
+        else if (results.size() < pageSize)
+        {
+            /*
+             * Scale the next request by the proportion of instances that have been visible so far.
+             * If nothing has been visible then double the request.
+             */
+            int missingCount = pageSize - results.size();
+
+            if (results.isEmpty())
+            {
+                repositoryPageSize = repositoryPageSize * 2;
+            }
+            else
+            {
+                repositoryPageSize = (int) Math.ceil(((double) missingCount * retrievedCount) / results.size());
+            }
+
+            if ((maxRepositoryPageSize > 0) && (repositoryPageSize > maxRepositoryPageSize))
+            {
+                repositoryPageSize = maxRepositoryPageSize;
+            }
+
+            if (repositoryPageSize < missingCount)
+            {
+                repositoryPageSize = missingCount;
+            }
+        }
+    }
+
+
+    /**
+     * Return the unique identifier of an instance.
+     *
+     * @param instance instance from the real repository
+     * @return guid or null
+     */
+    private String getGUID(T instance)
+    {
+        if (instance == null)
+        {
+            return null;
+        }
+
+        return instance.getGUID();
+    }
+
+
+    /**
+     * Return the unique identifier of the last instance retrieved from the real repository.  It is saved in the
+     * paging cursor for the next page.
+     *
+     * @return guid or null if no instances were retrieved
+     */
+    String getLastGUID()
+    {
+        return lastGUID;
+    }
+
+
+    /**
+     * Return whether the page started from a paging cursor that no longer matched the real repository's results.
+     *
+     * @return boolean flag
+     */
+    boolean isCursorRejected()
+    {
+        return cursorRejected;
+    }
+
+
+    /**
+     * Return whether the security verifier removed any of the instances retrieved.
+     *
+     * @return boolean flag
+     */
+    boolean isFiltered()
+    {
+        return retrievedCount != results.size();
+    }
+
+
+    /**
+     * Return the validated instances.
+     *
+     * @return list of instances or null if none are visible
+     */
+    List<T> getResults()
+    {
+        if (results.isEmpty())
+        {
+            return null;
+        }
+
+        return results;
+    }
+}
@@ -23,6 +23,8 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.eventmanagement.*;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 
@@ -55,6 +57,17 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
      */
     private AuditLog auditLog;
 
+    /*
+     * Reference copies received in events are saved in batches through saveInstanceReferenceCopies.
+     * The version cache remembers the versions that are stored so that duplicate and out of date
+     * events can be ignored without reading the repository.
+     */
+    private static final int  maxPendingReferenceCopies  = 50;
+    private static final long pendingReferenceCopyDelay  = 100;
+
+    private final LocalOMRSInstanceVersionCache instanceVersionCache;
+    private final LocalOMRSReferenceCopyBatch   referenceCopyBatch;
+
     private static final Logger log = LoggerFactory.getLogger(LocalOMRSInstanceEventProcessor.class);
 
 
@@ -70,6 +83,7 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
      * @param saveExchangeRule                 rule that determines which events to process.
      * @param produceRefreshEvents             flag indicating whether the local connector should respond to refresh events
      * @param outboundRepositoryEventProcessor event processor
+     * @param instanceVersionCache             versions of the reference copies stored in the local repository
      * @param auditLog                         audit log for this component.
      */
     LocalOMRSInstanceEventProcessor(String                          localMetadataCollectionId,
@@ -80,6 +94,7 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                                     OMRSRepositoryEventExchangeRule saveExchangeRule,
                                     boolean                         produceRefreshEvents,
                                     OMRSRepositoryEventProcessor    outboundRepositoryEventProcessor,
+                                    LocalOMRSInstanceVersionCache   instanceVersionCache,
                                     AuditLog                        auditLog)
     {
         super(localOMRSInstanceEventProcessorName);
@@ -94,6 +109,7 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
         this.saveExchangeRule = saveExchangeRule;
         this.produceRefreshEvents = produceRefreshEvents;
         this.outboundRepositoryEventProcessor = outboundRepositoryEventProcessor;
+        this.instanceVersionCache = instanceVersionCache;
         this.auditLog = auditLog;
 
         if (localConnector != null)
@@ -111,10 +127,26 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
             }
         }
 
+        this.referenceCopyBatch = new LocalOMRSReferenceCopyBatch(maxPendingReferenceCopies,
+                                                                  pendingReferenceCopyDelay,
+                                                                  localServerName + " reference copy batches",
+                                                                  instanceVersionCache,
+                                                                  new LocalReferenceCopyStore());
+
         this.verifyEventProcessor(methodName);
     }
 
 
+    /**
+     * Save the reference copies that are waiting to be saved and stop the thread that saves them.
+     * Reference copies received after this call are saved straight away.
+     */
+    void disconnect()
+    {
+        referenceCopyBatch.disconnect();
+    }
+
+
     /*
      * ====================================
      * OMRSInstanceEventProcessor
@@ -188,6 +220,11 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
 
         if ((instanceEventType != null) && (instanceEventOriginator != null))
         {
+            /*
+             * Other types of event may depend on the reference copies that are waiting to be saved.
+             */
+            referenceCopyBatch.flushBeforeEvent(instanceEventType);
+
             switch (instanceEventType)
             {
                 case NEW_ENTITY_EVENT:
@@ -952,6 +989,7 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
         {
             verifyEventProcessor(methodName);
 
+            instanceVersionCache.removeInstance(entity.getGUID());
             localMetadataCollection.deleteEntityReferenceCopy(localRepositoryConnector.getServerUserId(), entity);
         }
         catch (Exception error)
@@ -990,6 +1028,7 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
         {
             verifyEventProcessor(methodName);
 
+            instanceVersionCache.removeInstance(entity.getGUID());
             localMetadataCollection.purgeEntityReferenceCopy(localRepositoryConnector.getServerUserId(), entity);
         }
         catch (Exception error)
@@ -1035,6 +1074,7 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
         {
             verifyEventProcessor(methodName);
 
+            instanceVersionCache.removeInstance(instanceGUID);
             localMetadataCollection.purgeEntityReferenceCopy(localRepositoryConnector.getServerUserId(),
                                                              instanceGUID,
                                                              typeDefGUID,
@@ -1400,6 +1440,7 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
         {
             verifyEventProcessor(methodName);
 
+            instanceVersionCache.removeInstance(relationship.getGUID());
             localMetadataCollection.deleteRelationshipReferenceCopy(localRepositoryConnector.getServerUserId(), relationship);
         }
         catch (Exception error)
@@ -1438,6 +1479,7 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
         {
             verifyEventProcessor(methodName);
 
+            instanceVersionCache.removeInstance(relationship.getGUID());
             localMetadataCollection.purgeRelationshipReferenceCopy(localRepositoryConnector.getServerUserId(), relationship);
         }
         catch (Exception error)
@@ -1483,6 +1525,7 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
         {
             verifyEventProcessor(methodName);
 
+            instanceVersionCache.removeInstance(instanceGUID);
             localMetadataCollection.purgeRelationshipReferenceCopy(localRepositoryConnector.getServerUserId(),
                                                                    instanceGUID,
                                                                    typeDefGUID,
@@ -1732,7 +1775,9 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
 
     /**
      * An open metadata repository is passing information about a collection of entities and relationships
-     * with the other repositories in the cohort.
+     * with the other repositories in the cohort.  Each instance is checked in the same way as an instance from
+     * a single event, and then the instances are saved together so that the repository can save them in
+     * fewer transactions.
      *
      * @param sourceName name of the source of the event.  It may be the cohort name for incoming events or the
      *                   local repository, or event mapper name.
@@ -1757,8 +1802,52 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
         {
             verifyEventProcessor(methodName);
 
-            localMetadataCollection.saveInstanceReferenceCopies(localRepositoryConnector.getServerUserId(),
-                                                                instances);
+            if (instances != null)
+            {
+                List<LocalOMRSReferenceCopyBatch.PendingReferenceCopy> pendingReferenceCopies = new ArrayList<>();
+
+                if (instances.getEntities() != null)
+                {
+                    for (EntityDetail entity : instances.getEntities())
+                    {
+                        if (entity != null)
+                        {
+                            LocalOMRSReferenceCopyBatch.PendingReferenceCopy pendingReferenceCopy = validateReferenceEntity(sourceName,
+                                                                                                                           methodName,
+                                                                                                                           originatorMetadataCollectionId,
+                                                                                                                           originatorServerName,
+                                                                                                                           entity);
+
+                            if (pendingReferenceCopy != null)
+                            {
+                                pendingReferenceCopies.add(pendingReferenceCopy);
+                            }
+                        }
+                    }
+                }
+
+                if (instances.getRelationships() != null)
+                {
+                    for (Relationship relationship : instances.getRelationships())
+                    {
+                        if (relationship != null)
+                        {
+                            LocalOMRSReferenceCopyBatch.PendingReferenceCopy pendingReferenceCopy = validateReferenceRelationship(sourceName,
+                                                                                                                                 methodName,
+                                                                                                                                 originatorMetadataCollectionId,
+                                                                                                                                 originatorServerName,
+                                                                                                                                 relationship);
+
+                            if (pendingReferenceCopy != null)
+                            {
+                                pendingReferenceCopies.add(pendingReferenceCopy);
+                            }
+                        }
+                    }
+                }
+
+                referenceCopyBatch.addAll(pendingReferenceCopies);
+            }
         }
         catch (Exception error)
         {
@@ -2164,6 +2253,8 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                                                String            homeMetadataCollectionId,
                                                String            methodName)
     {
+        instanceVersionCache.removeInstance(instanceGUID);
+
         try
         {
             if (typeDefSummary.getCategory() == TypeDefCategory.ENTITY_DEF)
@@ -2214,6 +2305,38 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                                        String       originatorMetadataCollectionId,
                                        String       originatorServerName,
                                        EntityDetail entity)
+    {
+        LocalOMRSReferenceCopyBatch.PendingReferenceCopy pendingReferenceCopy = validateReferenceEntity(sourceName,
+                                                                                                       methodName,
+                                                                                                       originatorMetadataCollectionId,
+                                                                                                       originatorServerName,
+                                                                                                       entity);
+
+        if (pendingReferenceCopy != null)
+        {
+            referenceCopyBatch.add(pendingReferenceCopy);
+        }
+    }
+
+
+    /**
+     * Check that the reference entity can be saved in the local repository.  Any error is reported against
+     * the event.
+     *
+     * @param sourceName                     name of the source of the event.  It may be the cohort name for incoming events or the
+     *                                       local repository, or event mapper name.
+     * @param methodName                     name of the event method
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param entity                         details of the new entity
+     * @return reference copy to save or null if the entity is not saved
+     */
+    private LocalOMRSReferenceCopyBatch.PendingReferenceCopy validateReferenceEntity(String       sourceName,
+                                                                                     String       methodName,
+                                                                                     String       originatorMetadataCollectionId,
+                                                                                     String       originatorServerName,
+                                                                                     EntityDetail entity)
     {
         try
         {
@@ -2226,9 +2349,22 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                                                                 entity,
                                                                 methodName);
 
+            /*
+             * Events are often repeated.  There is no need to read the stored entity if this version is
+             * already stored or waiting to be stored.
+             */
+            if (referenceCopyBatch.isDuplicateOrStale(entity))
+            {
+                log.debug("Ignoring version {} of entity {} since it is not later than the stored version",
+                          entity.getVersion(), entity.getGUID());
+                return null;
+            }
+
             EntityDetail storedEntity = localMetadataCollection.isEntityKnown(localRepositoryConnector.getServerUserId(),
                                                                               entity.getGUID());
 
+            instanceVersionCache.recordVersion(storedEntity);
+
             /*
              * Verify that the incoming instance is compatible with the stored instance.
              */
@@ -2242,7 +2378,10 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                  */
                 if (verifyEventToSave(sourceName, entity))
                 {
-                    localMetadataCollection.saveEntityReferenceCopy(localRepositoryConnector.getServerUserId(), entity);
+                    return new LocalOMRSReferenceCopyBatch.PendingReferenceCopy(entity,
+                                                                                methodName,
+                                                                                originatorMetadataCollectionId,
+                                                                                originatorServerName);
                 }
             }
         }
@@ -2253,6 +2392,8 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                                            originatorServerName,
                                            originatorMetadataCollectionId);
         }
+
+        return null;
     }
 
 
@@ -2463,6 +2604,38 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                                              String       originatorMetadataCollectionId,
                                              String       originatorServerName,
                                              Relationship relationship)
+    {
+        LocalOMRSReferenceCopyBatch.PendingReferenceCopy pendingReferenceCopy = validateReferenceRelationship(sourceName,
+                                                                                                             methodName,
+                                                                                                             originatorMetadataCollectionId,
+                                                                                                             originatorServerName,
+                                                                                                             relationship);
+
+        if (pendingReferenceCopy != null)
+        {
+            referenceCopyBatch.add(pendingReferenceCopy);
+        }
+    }
+
+
+    /**
+     * Check that the reference relationship can be saved in the local repository.  Any error is reported against
+     * the event.
+     *
+     * @param sourceName                     name of the source of the event.  It may be the cohort name for incoming events or the
+     *                                       local repository, or event mapper name.
+     * @param methodName                     name of the event method
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param relationship                   details of the relationship
+     * @return reference copy to save or null if the relationship is not saved
+     */
+    private LocalOMRSReferenceCopyBatch.PendingReferenceCopy validateReferenceRelationship(String       sourceName,
+                                                                                           String       methodName,
+                                                                                           String       originatorMetadataCollectionId,
+                                                                                           String       originatorServerName,
+                                                                                           Relationship relationship)
     {
         try
         {
@@ -2475,10 +2648,19 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                                                                 relationship,
                                                                 methodName);
 
+            if (referenceCopyBatch.isDuplicateOrStale(relationship))
+            {
+                log.debug("Ignoring version {} of relationship {} since it is not later than the stored version",
+                          relationship.getVersion(), relationship.getGUID());
+                return null;
+            }
+
             if (verifyEventToSave(sourceName, relationship))
             {
-                localMetadataCollection.saveRelationshipReferenceCopy(localRepositoryConnector.getServerUserId(),
-                                                                      relationship);
+                return new LocalOMRSReferenceCopyBatch.PendingReferenceCopy(relationship,
+                                                                            methodName,
+                                                                            originatorMetadataCollectionId,
+                                                                            originatorServerName);
             }
         }
         catch (Exception error)
@@ -2488,6 +2670,8 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                                            originatorServerName,
                                            originatorMetadataCollectionId);
         }
+
+        return null;
     }
 
 
@@ -2658,4 +2842,54 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
     }
 
 
+    /**
+     * Saves the batches of reference copies in the local repository and reports the errors against the events
+     * that the reference copies came from.
+     */
+    private class LocalReferenceCopyStore implements LocalOMRSReferenceCopyBatch.ReferenceCopyStore
+    {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void saveReferenceCopies(List<EntityDetail> entities,
+                                        List<Relationship> relationships) throws Exception
+        {
+            localMetadataCollection.saveInstanceReferenceCopies(localRepositoryConnector.getServerUserId(),
+                                                                new InstanceGraph(entities, relationships));
+        }
+
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void saveReferenceCopy(InstanceHeader instance) throws Exception
+        {
+            if (instance instanceof EntityDetail)
+            {
+                localMetadataCollection.saveEntityReferenceCopy(localRepositoryConnector.getServerUserId(),
+                                                                (EntityDetail)instance);
+            }
+            else
+            {
+                localMetadataCollection.saveRelationshipReferenceCopy(localRepositoryConnector.getServerUserId(),
+                                                                      (Relationship)instance);
+            }
+        }
+
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void reportSaveError(Exception                                        error,
+                                    LocalOMRSReferenceCopyBatch.PendingReferenceCopy pendingReferenceCopy)
+        {
+            handleUnexpectedErrorFromEvent(error,
+                                           pendingReferenceCopy.getMethodName(),
+                                           pendingReferenceCopy.getOriginatorServerName(),
+                                           pendingReferenceCopy.getOriginatorMetadataCollectionId());
+        }
+    }
 }
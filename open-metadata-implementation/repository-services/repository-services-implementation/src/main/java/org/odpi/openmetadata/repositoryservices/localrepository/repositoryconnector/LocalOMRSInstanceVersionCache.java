@@ -0,0 +1,123 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+
+/**
+ * LocalOMRSInstanceVersionCache remembers the version of the most recently stored reference copies in the
+ * local repository.  It is used by the LocalOMRSInstanceEventProcessor to discard duplicate and out of date
+ * instance events without reading the stored copy from the repository.
+ *
+ * The creation time is held with the version because the event processor uses it to tell a later version of
+ * the same instance from a different instance that has the same GUID.  An event is only discarded if it has the
+ * same creation time as the cached instance and a version that is not later than the cached version.
+ * The cache only ever holds versions that are known to be stored, so it can be behind the repository but never ahead
+ * of it.  Entries are removed when a reference copy is deleted, purged or found to be in conflict, and when the
+ * local metadata collection deletes, purges, restores, re-identifies, re-types or re-homes an instance.
+ */
+class LocalOMRSInstanceVersionCache
+{
+    private final Map<String, StoredVersion> storedVersions;
+
+
+    /**
+     * Create a cache that holds the requested number of instances.
+     *
+     * @param maxEntries number of instances to remember
+     */
+    LocalOMRSInstanceVersionCache(int maxEntries)
+    {
+        this.storedVersions = new LinkedHashMap<String, StoredVersion>(16, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredVersion> eldest)
+            {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+
+    /**
+     * Return whether the incoming instance is the same or an earlier version of an instance already stored.
+     *
+     * @param incomingInstance instance from the event
+     * @return boolean flag - true means the event can be ignored
+     */
+    synchronized boolean isStale(InstanceHeader incomingInstance)
+    {
+        if ((incomingInstance == null) || (incomingInstance.getGUID() == null))
+        {
+            return false;
+        }
+
+        StoredVersion storedVersion = storedVersions.get(incomingInstance.getGUID());
+
+        return (storedVersion != null) &&
+               (Objects.equals(storedVersion.createTime, incomingInstance.getCreateTime())) &&
+               (storedVersion.version >= incomingInstance.getVersion());
+    }
+
+
+    /**
+     * Remember the version of an instance that is stored in the local repository.
+     *
+     * @param storedInstance instance that has been stored, or has been read from the repository
+     */
+    synchronized void recordVersion(InstanceHeader storedInstance)
+    {
+        if ((storedInstance != null) && (storedInstance.getGUID() != null))
+        {
+            StoredVersion storedVersion = storedVersions.get(storedInstance.getGUID());
+
+            if ((storedVersion == null) ||
+                (! Objects.equals(storedVersion.createTime, storedInstance.getCreateTime())) ||
+                (storedVersion.version < storedInstance.getVersion()))
+            {
+                storedVersions.put(storedInstance.getGUID(),
+                                   new StoredVersion(storedInstance.getCreateTime(), storedInstance.getVersion()));
+            }
+        }
+    }
+
+
+    /**
+     * Forget an instance because its reference copy has been changed outside of the normal versioning,
+     * for example because it has been removed.
+     *
+     * @param instanceGUID unique identifier of the instance
+     */
+    synchronized void removeInstance(String instanceGUID)
+    {
+        if (instanceGUID != null)
+        {
+            storedVersions.remove(instanceGUID);
+        }
+    }
+
+
+    /**
+     * The values remembered for each instance.
+     */
+    private static class StoredVersion
+    {
+        private final Date createTime;
+        private final long version;
+
+        StoredVersion(Date createTime,
+                      long version)
+        {
+            this.createTime = createTime;
+            this.version = version;
+        }
+    }
+}
@@ -21,8 +21,12 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSTypeDefManager;
 
 import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * LocalOMRSMetadataCollection provides a wrapper around the metadata collection for the real local repository.
@@ -38,11 +42,24 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     private OMRSRepositoryEventProcessor outboundRepositoryEventProcessor;
     private OMRSTypeDefManager           localTypeDefManager;
 
+    /*
+     * The local connector remembers the versions of the stored reference copies.  It is told about every
+     * local change that moves an instance outside of its normal versioning.
+     */
+    private LocalOMRSRepositoryConnector localRepositoryConnector;
+
     /*
      * The security verifier is initialized with a null security verifier.
      */
     private OpenMetadataRepositorySecurity securityVerifier = new OMRSMetadataDefaultRepositorySecurity();
 
+    /*
+     * When the security verifier filters out instances, the paging cursors remember where in the real
+     * repository's results the next page for a user's query starts.
+     */
+    private static final int             maxPagingCursors = 1000;
+    private final LocalOMRSPagingCursors pagingCursors    = new LocalOMRSPagingCursors(maxPagingCursors);
+
 
     /**
      * Constructor used by LocalOMRSRepositoryConnector
@@ -105,6 +122,25 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
         this.produceEventsForRealConnector = produceEventsForRealConnector;
         this.outboundRepositoryEventProcessor = outboundRepositoryEventProcessor;
         this.localTypeDefManager = typeDefManager;
+        this.localRepositoryConnector = parentConnector;
+    }
+
+
+    /**
+     * Tell the local connector that the stored copies of these instances have been removed, restored or
+     * changed outside of their normal versioning, so any version it remembers for them is no longer valid.
+     *
+     * @param instanceGUIDs unique identifiers of the changed instances
+     */
+    private void removeCachedInstanceVersions(String... instanceGUIDs)
+    {
+        if (localRepositoryConnector != null)
+        {
+            for (String instanceGUID : instanceGUIDs)
+            {
+                localRepositoryConnector.removeCachedInstanceVersion(instanceGUID);
+            }
+        }
     }
 
 
@@ -1568,6 +1604,48 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Set up a page of results for a query to the real repository.  It starts from the paging cursor saved by
+     * the previous page of the same query, if there is one.
+     *
+     * @param queryKey user and parameters of the query (excluding the paging parameters)
+     * @param fromElement starting element requested by the caller
+     * @param pageSize page size requested by the caller
+     * @param <T> type of instance
+     * @return new page
+     */
+    private <T extends InstanceHeader> LocalOMRSFilteredPage<T> getFilteredPage(List<Object> queryKey,
+                                                                                int          fromElement,
+                                                                                int          pageSize)
+    {
+        int maxPageSize = 0;
+
+        if (parentConnector != null)
+        {
+            maxPageSize = parentConnector.getMaxPageSize();
+        }
+
+        return pagingCursors.getPage(queryKey, fromElement, pageSize, maxPageSize);
+    }
+
+
+    /**
+     * Return the results from a page and save the paging cursor for the next page.
+     *
+     * @param queryKey user and parameters of the query (excluding the paging parameters)
+     * @param fromElement starting element requested by the caller
+     * @param page completed page
+     * @param <T> type of instance
+     * @return validated instances or null
+     */
+    private <T extends InstanceHeader> List<T> getFilteredResults(List<Object>             queryKey,
+                                                                  int                      fromElement,
+                                                                  LocalOMRSFilteredPage<T> page)
+    {
+        return pagingCursors.getResults(queryKey, fromElement, page);
+    }
+
+
     /**
      * Set up the local provenance for an element retrieved from the local repository and call the security verifier
      * to determine if the relationship should be retrieved.
@@ -1651,6 +1729,7 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
         {
             resultGraph.setEntities(setLocalProvenanceInEntityList(instanceGraph.getEntities()));
             resultGraph.setRelationships(setLocalProvenanceInRelationshipList(instanceGraph.getRelationships()));
+            resultGraph.setTruncated(instanceGraph.isTruncated());
         }
 
         return resultGraph;
@@ -1675,6 +1754,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
         {
             UserNotAuthorizedException savedException = null;
 
+            resultGraph.setTruncated(instanceGraph.isTruncated());
+
             try
             {
                 resultGraph.setEntities(securityVerifyReadEntityList(userId, instanceGraph.getEntities()));
@@ -1978,6 +2059,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                     FunctionNotSupportedException,
                                                                                                     UserNotAuthorizedException
     {
+        final String methodName = "getRelationshipsForEntity";
+
         /*
          * Validate parameters
          */
@@ -1994,17 +2077,196 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
         /*
          * Perform operation
          */
-        List<Relationship>  resultList = realMetadataCollection.getRelationshipsForEntity(userId,
-                                                                                          entityGUID,
-                                                                                          relationshipTypeGUID,
-                                                                                          fromRelationshipElement,
-                                                                                          limitResultsByStatus,
-                                                                                          asOfTime,
-                                                                                          sequencingProperty,
-                                                                                          sequencingOrder,
-                                                                                          pageSize);
+        List<Object> queryKey = Arrays.asList(userId,
+                                              methodName,
+                                              entityGUID,
+                                              relationshipTypeGUID,
+                                              limitResultsByStatus,
+                                              asOfTime,
+                                              sequencingProperty,
+                                              sequencingOrder);
+        LocalOMRSFilteredPage<Relationship> page = this.getFilteredPage(queryKey, fromRelationshipElement, pageSize);
+
+        while (page.moreNeeded())
+        {
+            List<Relationship> resultList = realMetadataCollection.getRelationshipsForEntity(userId,
+                                                                                             entityGUID,
+                                                                                             relationshipTypeGUID,
+                                                                                             page.getRepositoryOffset(),
+                                                                                             limitResultsByStatus,
+                                                                                             asOfTime,
+                                                                                             sequencingProperty,
+                                                                                             sequencingOrder,
+                                                                                             page.getRepositoryPageSize());
+
+            page.addRepositoryResults(resultList, relationship -> this.getValidatedRelationship(userId, relationship));
+        }
+
+        return this.getFilteredResults(queryKey, fromRelationshipElement, page);
+    }
+
+
+    /**
+     * Return the relationships for a specific entity along with the entities at the other end of these
+     * relationships.  The relationships are checked by the security verifier and the real repository is called
+     * again until the page is full, in the same way as getRelationshipsForEntity.  Related entities that the user
+     * is not permitted to read are left out of the entity list rather than failing the request.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier for the entity.
+     * @param relationshipTypeGUID String GUID of the the type of relationship required (null for all).
+     * @param fromRelationshipElement the starting element number of the relationships to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus By default, relationships in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return InstanceGraph containing the page of relationships and the entities at their other ends.  Null means
+     * no relationships associated with the entity.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the requested entity instance is not known in the metadata collection.
+     * @throws PropertyErrorException the sequencing property is not valid for the attached classifications.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public InstanceGraph getRelationshipsAndEntitiesForEntity(String               userId,
+                                                              String               entityGUID,
+                                                              String               relationshipTypeGUID,
+                                                              int                  fromRelationshipElement,
+                                                              List<InstanceStatus> limitResultsByStatus,
+                                                              Date                 asOfTime,
+                                                              String               sequencingProperty,
+                                                              SequencingOrder      sequencingOrder,
+                                                              int                  pageSize) throws InvalidParameterException,
+                                                                                                    TypeErrorException,
+                                                                                                    RepositoryErrorException,
+                                                                                                    EntityNotKnownException,
+                                                                                                    PropertyErrorException,
+                                                                                                    PagingErrorException,
+                                                                                                    FunctionNotSupportedException,
+                                                                                                    UserNotAuthorizedException
+    {
+        final String methodName = "getRelationshipsAndEntitiesForEntity";
+
+        /*
+         * Validate parameters
+         */
+        super.getRelationshipsForEntityParameterValidation(userId,
+                                                           entityGUID,
+                                                           relationshipTypeGUID,
+                                                           fromRelationshipElement,
+                                                           limitResultsByStatus,
+                                                           asOfTime,
+                                                           sequencingProperty,
+                                                           sequencingOrder,
+                                                           pageSize);
+
+        /*
+         * Perform operation
+         */
+        List<Object> queryKey = Arrays.asList(userId,
+                                              methodName,
+                                              entityGUID,
+                                              relationshipTypeGUID,
+                                              limitResultsByStatus,
+                                              asOfTime,
+                                              sequencingProperty,
+                                              sequencingOrder);
+        LocalOMRSFilteredPage<Relationship> page              = this.getFilteredPage(queryKey, fromRelationshipElement, pageSize);
+        Map<String, EntityDetail>           retrievedEntities = new HashMap<>();
+
+        while (page.moreNeeded())
+        {
+            InstanceGraph instanceGraph = realMetadataCollection.getRelationshipsAndEntitiesForEntity(userId,
+                                                                                                      entityGUID,
+                                                                                                      relationshipTypeGUID,
+                                                                                                      page.getRepositoryOffset(),
+                                                                                                      limitResultsByStatus,
+                                                                                                      asOfTime,
+                                                                                                      sequencingProperty,
+                                                                                                      sequencingOrder,
+                                                                                                      page.getRepositoryPageSize());
+            List<Relationship> resultList = null;
+
+            if (instanceGraph != null)
+            {
+                resultList = instanceGraph.getRelationships();
+
+                if (instanceGraph.getEntities() != null)
+                {
+                    for (EntityDetail entity : instanceGraph.getEntities())
+                    {
+                        if (entity != null)
+                        {
+                            retrievedEntities.put(entity.getGUID(), entity);
+                        }
+                    }
+                }
+            }
+
+            page.addRepositoryResults(resultList, relationship -> this.getValidatedRelationship(userId, relationship));
+        }
+
+        List<Relationship> relationships = this.getFilteredResults(queryKey, fromRelationshipElement, page);
+
+        if (relationships == null)
+        {
+            return null;
+        }
+
+        /*
+         * Only the entities at the other end of the relationships on this page are returned.
+         */
+        Map<String, EntityDetail> relatedEntities = new LinkedHashMap<>();
+
+        for (Relationship relationship : relationships)
+        {
+            String relatedEntityGUID = super.getRelatedEntityGUID(entityGUID, relationship);
+
+            if ((relatedEntityGUID != null) && (! relatedEntities.containsKey(relatedEntityGUID)))
+            {
+                EntityDetail validatedEntity = null;
+
+                try
+                {
+                    validatedEntity = this.getValidatedEntity(userId, retrievedEntities.get(relatedEntityGUID));
+                }
+                catch (UserNotAuthorizedException notPermitted)
+                {
+                    /*
+                     * The entity is left out of the results.  The caller will receive the exception
+                     * if it requests the entity directly.
+                     */
+                }
 
-        return this.securityVerifyReadRelationshipList(userId, setLocalProvenanceInRelationshipList(resultList));
+                relatedEntities.put(relatedEntityGUID, validatedEntity);
+            }
+        }
+
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (EntityDetail relatedEntity : relatedEntities.values())
+        {
+            if (relatedEntity != null)
+            {
+                entities.add(relatedEntity);
+            }
+        }
+
+        return new InstanceGraph(entities, relationships);
     }
 
 
@@ -2063,6 +2325,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                 FunctionNotSupportedException,
                                                                                                 UserNotAuthorizedException
     {
+        final String methodName = "findEntitiesByProperty";
+
         /*
          * Validate parameters
          */
@@ -2079,25 +2343,41 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                         pageSize);
 
 
-        List<EntityDetail> resultList;
 
         /*
          * Perform operation
          */
-        resultList = realMetadataCollection.findEntitiesByProperty(userId,
-                                                                   entityTypeGUID,
-                                                                   matchProperties,
-                                                                   matchCriteria,
-                                                                   fromEntityElement,
-                                                                   limitResultsByStatus,
-                                                                   limitResultsByClassification,
-                                                                   asOfTime,
-                                                                   sequencingProperty,
-                                                                   sequencingOrder,
-                                                                   pageSize);
+        List<Object> queryKey = Arrays.asList(userId,
+                                              methodName,
+                                              entityTypeGUID,
+                                              matchProperties,
+                                              matchCriteria,
+                                              limitResultsByStatus,
+                                              limitResultsByClassification,
+                                              asOfTime,
+                                              sequencingProperty,
+                                              sequencingOrder);
+        LocalOMRSFilteredPage<EntityDetail> page = this.getFilteredPage(queryKey, fromEntityElement, pageSize);
 
+        while (page.moreNeeded())
+        {
+            List<EntityDetail> resultList = realMetadataCollection.findEntitiesByProperty(userId,
+                                                                                          entityTypeGUID,
+                                                                                          matchProperties,
+                                                                                          matchCriteria,
+                                                                                          page.getRepositoryOffset(),
+                                                                                          limitResultsByStatus,
+                                                                                          limitResultsByClassification,
+                                                                                          asOfTime,
+                                                                                          sequencingProperty,
+                                                                                          sequencingOrder,
+                                                                                          page.getRepositoryPageSize());
+
+            page.addRepositoryResults(resultList, entity -> this.getValidatedEntity(userId, entity));
+        }
 
-        return this.securityVerifyReadEntityList(userId, setLocalProvenanceInEntityList(resultList));
+
+        return this.getFilteredResults(queryKey, fromEntityElement, page);
     }
 
 
@@ -2154,6 +2434,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                       FunctionNotSupportedException,
                                                                                       UserNotAuthorizedException
     {
+        final String methodName = "findEntities";
+
         /*
          * Validate parameters
          */
@@ -2171,24 +2453,40 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
         /*
          * Perform operation
          */
-        List<EntityDetail> resultList;
 
         /*
          * Perform operation
          */
-        resultList = realMetadataCollection.findEntities(userId,
-                                                         entityTypeGUID,
-                                                         entitySubtypeGUIDs,
-                                                         matchProperties,
-                                                         fromEntityElement,
-                                                         limitResultsByStatus,
-                                                         matchClassifications,
-                                                         asOfTime,
-                                                         sequencingProperty,
-                                                         sequencingOrder,
-                                                         pageSize);
-
-        return this.securityVerifyReadEntityList(userId, setLocalProvenanceInEntityList(resultList));
+        List<Object> queryKey = Arrays.asList(userId,
+                                              methodName,
+                                              entityTypeGUID,
+                                              entitySubtypeGUIDs,
+                                              matchProperties,
+                                              limitResultsByStatus,
+                                              matchClassifications,
+                                              asOfTime,
+                                              sequencingProperty,
+                                              sequencingOrder);
+        LocalOMRSFilteredPage<EntityDetail> page = this.getFilteredPage(queryKey, fromEntityElement, pageSize);
+
+        while (page.moreNeeded())
+        {
+            List<EntityDetail> resultList = realMetadataCollection.findEntities(userId,
+                                                                                entityTypeGUID,
+                                                                                entitySubtypeGUIDs,
+                                                                                matchProperties,
+                                                                                page.getRepositoryOffset(),
+                                                                                limitResultsByStatus,
+                                                                                matchClassifications,
+                                                                                asOfTime,
+                                                                                sequencingProperty,
+                                                                                sequencingOrder,
+                                                                                page.getRepositoryPageSize());
+
+            page.addRepositoryResults(resultList, entity -> this.getValidatedEntity(userId, entity));
+        }
+
+        return this.getFilteredResults(queryKey, fromEntityElement, page);
     }
 
 
@@ -2250,6 +2548,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                        FunctionNotSupportedException,
                                                                                                        UserNotAuthorizedException
     {
+        final String methodName = "findEntitiesByClassification";
+
         /*
          * Validate parameters
          */
@@ -2268,21 +2568,37 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
         /*
          * Perform operation.
          */
-        List<EntityDetail> resultList;
 
-        resultList = realMetadataCollection.findEntitiesByClassification(userId,
-                                                                         entityTypeGUID,
-                                                                         classificationName,
-                                                                         matchClassificationProperties,
-                                                                         matchCriteria,
-                                                                         fromEntityElement,
-                                                                         limitResultsByStatus,
-                                                                         asOfTime,
-                                                                         sequencingProperty,
-                                                                         sequencingOrder,
-                                                                         pageSize);
-
-        return this.securityVerifyReadEntityList(userId, setLocalProvenanceInEntityList(resultList));
+        List<Object> queryKey = Arrays.asList(userId,
+                                              methodName,
+                                              entityTypeGUID,
+                                              classificationName,
+                                              matchClassificationProperties,
+                                              matchCriteria,
+                                              limitResultsByStatus,
+                                              asOfTime,
+                                              sequencingProperty,
+                                              sequencingOrder);
+        LocalOMRSFilteredPage<EntityDetail> page = this.getFilteredPage(queryKey, fromEntityElement, pageSize);
+
+        while (page.moreNeeded())
+        {
+            List<EntityDetail> resultList = realMetadataCollection.findEntitiesByClassification(userId,
+                                                                                                entityTypeGUID,
+                                                                                                classificationName,
+                                                                                                matchClassificationProperties,
+                                                                                                matchCriteria,
+                                                                                                page.getRepositoryOffset(),
+                                                                                                limitResultsByStatus,
+                                                                                                asOfTime,
+                                                                                                sequencingProperty,
+                                                                                                sequencingOrder,
+                                                                                                page.getRepositoryPageSize());
+
+            page.addRepositoryResults(resultList, entity -> this.getValidatedEntity(userId, entity));
+        }
+
+        return this.getFilteredResults(queryKey, fromEntityElement, page);
     }
 
 
@@ -2342,6 +2658,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                   FunctionNotSupportedException,
                                                                                                   UserNotAuthorizedException
     {
+        final String methodName = "findEntitiesByPropertyValue";
+
         /*
          * Validate parameters
          */
@@ -2359,18 +2677,34 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
         /*
          * Process operation
          */
-        List<EntityDetail> resultList = realMetadataCollection.findEntitiesByPropertyValue(userId,
-                                                                                           entityTypeGUID,
-                                                                                           searchCriteria,
-                                                                                           fromEntityElement,
-                                                                                           limitResultsByStatus,
-                                                                                           limitResultsByClassification,
-                                                                                           asOfTime,
-                                                                                           sequencingProperty,
-                                                                                           sequencingOrder,
-                                                                                           pageSize);
-
-        return this.securityVerifyReadEntityList(userId, setLocalProvenanceInEntityList(resultList));
+        List<Object> queryKey = Arrays.asList(userId,
+                                              methodName,
+                                              entityTypeGUID,
+                                              searchCriteria,
+                                              limitResultsByStatus,
+                                              limitResultsByClassification,
+                                              asOfTime,
+                                              sequencingProperty,
+                                              sequencingOrder);
+        LocalOMRSFilteredPage<EntityDetail> page = this.getFilteredPage(queryKey, fromEntityElement, pageSize);
+
+        while (page.moreNeeded())
+        {
+            List<EntityDetail> resultList = realMetadataCollection.findEntitiesByPropertyValue(userId,
+                                                                                               entityTypeGUID,
+                                                                                               searchCriteria,
+                                                                                               page.getRepositoryOffset(),
+                                                                                               limitResultsByStatus,
+                                                                                               limitResultsByClassification,
+                                                                                               asOfTime,
+                                                                                               sequencingProperty,
+                                                                                               sequencingOrder,
+                                                                                               page.getRepositoryPageSize());
+
+            page.addRepositoryResults(resultList, entity -> this.getValidatedEntity(userId, entity));
+        }
+
+        return this.getFilteredResults(queryKey, fromEntityElement, page);
     }
 
 
@@ -2593,6 +2927,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                             FunctionNotSupportedException,
                                                                                             UserNotAuthorizedException
     {
+        final String methodName = "findRelationships";
+
         /*
          * Validate parameters
          */
@@ -2611,20 +2947,35 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
         /*
          * Perform operation
          */
-        List<Relationship> resultList;
 
-        resultList = realMetadataCollection.findRelationships(userId,
-                                                              relationshipTypeGUID,
-                                                              relationshipSubtypeGUIDs,
-                                                              matchProperties,
-                                                              fromRelationshipElement,
-                                                              limitResultsByStatus,
-                                                              asOfTime,
-                                                              sequencingProperty,
-                                                              sequencingOrder,
-                                                              pageSize);
+        List<Object> queryKey = Arrays.asList(userId,
+                                              methodName,
+                                              relationshipTypeGUID,
+                                              relationshipSubtypeGUIDs,
+                                              matchProperties,
+                                              limitResultsByStatus,
+                                              asOfTime,
+                                              sequencingProperty,
+                                              sequencingOrder);
+        LocalOMRSFilteredPage<Relationship> page = this.getFilteredPage(queryKey, fromRelationshipElement, pageSize);
+
+        while (page.moreNeeded())
+        {
+            List<Relationship> resultList = realMetadataCollection.findRelationships(userId,
+                                                                                     relationshipTypeGUID,
+                                                                                     relationshipSubtypeGUIDs,
+                                                                                     matchProperties,
+                                                                                     page.getRepositoryOffset(),
+                                                                                     limitResultsByStatus,
+                                                                                     asOfTime,
+                                                                                     sequencingProperty,
+                                                                                     sequencingOrder,
+                                                                                     page.getRepositoryPageSize());
+
+            page.addRepositoryResults(resultList, relationship -> this.getValidatedRelationship(userId, relationship));
+        }
 
-        return this.securityVerifyReadRelationshipList(userId, setLocalProvenanceInRelationshipList(resultList));
+        return this.getFilteredResults(queryKey, fromRelationshipElement, page);
     }
 
 
@@ -2682,6 +3033,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                       FunctionNotSupportedException,
                                                                                                       UserNotAuthorizedException
     {
+        final String methodName = "findRelationshipsByProperty";
+
         /*
          * Validate parameters
          */
@@ -2700,20 +3053,35 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
         /*
          * Perform operation
          */
-        List<Relationship> resultList;
 
-        resultList = realMetadataCollection.findRelationshipsByProperty(userId,
-                                                                        relationshipTypeGUID,
-                                                                        matchProperties,
-                                                                        matchCriteria,
-                                                                        fromRelationshipElement,
-                                                                        limitResultsByStatus,
-                                                                        asOfTime,
-                                                                        sequencingProperty,
-                                                                        sequencingOrder,
-                                                                        pageSize);
+        List<Object> queryKey = Arrays.asList(userId,
+                                              methodName,
+                                              relationshipTypeGUID,
+                                              matchProperties,
+                                              matchCriteria,
+                                              limitResultsByStatus,
+                                              asOfTime,
+                                              sequencingProperty,
+                                              sequencingOrder);
+        LocalOMRSFilteredPage<Relationship> page = this.getFilteredPage(queryKey, fromRelationshipElement, pageSize);
+
+        while (page.moreNeeded())
+        {
+            List<Relationship> resultList = realMetadataCollection.findRelationshipsByProperty(userId,
+                                                                                               relationshipTypeGUID,
+                                                                                               matchProperties,
+                                                                                               matchCriteria,
+                                                                                               page.getRepositoryOffset(),
+                                                                                               limitResultsByStatus,
+                                                                                               asOfTime,
+                                                                                               sequencingProperty,
+                                                                                               sequencingOrder,
+                                                                                               page.getRepositoryPageSize());
+
+            page.addRepositoryResults(resultList, relationship -> this.getValidatedRelationship(userId, relationship));
+        }
 
-        return this.securityVerifyReadRelationshipList(userId, setLocalProvenanceInRelationshipList(resultList));
+        return this.getFilteredResults(queryKey, fromRelationshipElement, page);
     }
 
 
@@ -2770,6 +3138,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                                            FunctionNotSupportedException,
                                                                                                            UserNotAuthorizedException
     {
+        final String methodName = "findRelationshipsByPropertyValue";
+
         /*
          * Validate parameters
          */
@@ -2786,17 +3156,32 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
         /*
          * Perform operation
          */
-        List<Relationship> resultList = realMetadataCollection.findRelationshipsByPropertyValue(userId,
-                                                                                                relationshipTypeGUID,
-                                                                                                searchCriteria,
-                                                                                                fromRelationshipElement,
-                                                                                                limitResultsByStatus,
-                                                                                                asOfTime,
-                                                                                                sequencingProperty,
-                                                                                                sequencingOrder,
-                                                                                                pageSize);
+        List<Object> queryKey = Arrays.asList(userId,
+                                              methodName,
+                                              relationshipTypeGUID,
+                                              searchCriteria,
+                                              limitResultsByStatus,
+                                              asOfTime,
+                                              sequencingProperty,
+                                              sequencingOrder);
+        LocalOMRSFilteredPage<Relationship> page = this.getFilteredPage(queryKey, fromRelationshipElement, pageSize);
+
+        while (page.moreNeeded())
+        {
+            List<Relationship> resultList = realMetadataCollection.findRelationshipsByPropertyValue(userId,
+                                                                                                    relationshipTypeGUID,
+                                                                                                    searchCriteria,
+                                                                                                    page.getRepositoryOffset(),
+                                                                                                    limitResultsByStatus,
+                                                                                                    asOfTime,
+                                                                                                    sequencingProperty,
+                                                                                                    sequencingOrder,
+                                                                                                    page.getRepositoryPageSize());
 
-        return this.securityVerifyReadRelationshipList(userId, setLocalProvenanceInRelationshipList(resultList));
+            page.addRepositoryResults(resultList, relationship -> this.getValidatedRelationship(userId, relationship));
+        }
+
+        return this.getFilteredResults(queryKey, fromRelationshipElement, page);
     }
 
 
@@ -2936,6 +3321,96 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return a page of the entities and relationships that radiate out from the supplied entity GUID.
+     * The results are scoped both the instance type guids and the level.  Paging applies to the relationships.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID the starting point of the query.
+     * @param entityTypeGUIDs list of entity types to include in the query results.  Null means include
+     *                          all entities found, irrespective of their type.
+     * @param relationshipTypeGUIDs list of relationship types to include in the query results.  Null means include
+     *                                all relationships found, irrespective of their type.
+     * @param limitResultsByStatus By default, relationships in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param level the number of the relationships out from the starting entity that the query will traverse to
+     *              gather results.
+     * @param fromRelationshipElement the starting element number of the relationships to return.
+     *                                Zero means start from the first element.
+     * @param pageSize the maximum number of relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return InstanceGraph the sub-graph that represents the returned linked entities and their relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException one or more of the type guids passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the entity identified by the entityGUID is not found in the metadata collection.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws PagingErrorException the paging parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public  InstanceGraph getEntityNeighborhood(String               userId,
+                                                String               entityGUID,
+                                                List<String>         entityTypeGUIDs,
+                                                List<String>         relationshipTypeGUIDs,
+                                                List<InstanceStatus> limitResultsByStatus,
+                                                List<String>         limitResultsByClassification,
+                                                Date                 asOfTime,
+                                                int                  level,
+                                                int                  fromRelationshipElement,
+                                                int                  pageSize) throws InvalidParameterException,
+                                                                                      TypeErrorException,
+                                                                                      RepositoryErrorException,
+                                                                                      EntityNotKnownException,
+                                                                                      PropertyErrorException,
+                                                                                      PagingErrorException,
+                                                                                      FunctionNotSupportedException,
+                                                                                      UserNotAuthorizedException
+    {
+        final String methodName            = "getEntityNeighborhood";
+        final String pageSizeParameterName = "pageSize";
+
+        /*
+         * Validate parameters
+         */
+        super.getEntityNeighborhoodParameterValidation(userId,
+                                                       entityGUID,
+                                                       entityTypeGUIDs,
+                                                       relationshipTypeGUIDs,
+                                                       limitResultsByStatus,
+                                                       limitResultsByClassification,
+                                                       asOfTime,
+                                                       level);
+        repositoryValidator.validatePageSize(repositoryName, pageSizeParameterName, pageSize, methodName);
+        this.validateRepositoryConnector(methodName);
+
+        /*
+         * Perform operation
+         */
+        InstanceGraph resultGraph = realMetadataCollection.getEntityNeighborhood(userId,
+                                                                                 entityGUID,
+                                                                                 entityTypeGUIDs,
+                                                                                 relationshipTypeGUIDs,
+                                                                                 limitResultsByStatus,
+                                                                                 limitResultsByClassification,
+                                                                                 asOfTime,
+                                                                                 level,
+                                                                                 fromRelationshipElement,
+                                                                                 pageSize);
+        /*
+         * Check result before return
+         */
+        return this.securityVerifyReadGraph(userId, setLocalProvenanceInGraph(resultGraph));
+    }
+
+
     /**
      * Return the list of entities that are of the types listed in entityTypeGUIDs and are connected, either directly or
      * indirectly to the entity identified by startEntityGUID.
@@ -3008,18 +3483,34 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
         /*
          * Perform operation
          */
-        List<EntityDetail>  resultList = realMetadataCollection.getRelatedEntities(userId,
-                                                                                   startEntityGUID,
-                                                                                   entityTypeGUIDs,
-                                                                                   fromEntityElement,
-                                                                                   limitResultsByStatus,
-                                                                                   limitResultsByClassification,
-                                                                                   asOfTime,
-                                                                                   sequencingProperty,
-                                                                                   sequencingOrder,
-                                                                                   pageSize);
-
-        return this.securityVerifyReadEntityList(userId, setLocalProvenanceInEntityList(resultList));
+        List<Object> queryKey = Arrays.asList(userId,
+                                              methodName,
+                                              startEntityGUID,
+                                              entityTypeGUIDs,
+                                              limitResultsByStatus,
+                                              limitResultsByClassification,
+                                              asOfTime,
+                                              sequencingProperty,
+                                              sequencingOrder);
+        LocalOMRSFilteredPage<EntityDetail> page = this.getFilteredPage(queryKey, fromEntityElement, pageSize);
+
+        while (page.moreNeeded())
+        {
+            List<EntityDetail> resultList = realMetadataCollection.getRelatedEntities(userId,
+                                                                                      startEntityGUID,
+                                                                                      entityTypeGUIDs,
+                                                                                      page.getRepositoryOffset(),
+                                                                                      limitResultsByStatus,
+                                                                                      limitResultsByClassification,
+                                                                                      asOfTime,
+                                                                                      sequencingProperty,
+                                                                                      sequencingOrder,
+                                                                                      page.getRepositoryPageSize());
+
+            page.addRepositoryResults(resultList, entity -> this.getValidatedEntity(userId, entity));
+        }
+
+        return this.getFilteredResults(queryKey, fromEntityElement, page);
     }
 
 
@@ -4129,6 +4620,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         EntityDetail   entity = realMetadataCollection.undoEntityUpdate(userId, entityGUID);
 
+        removeCachedInstanceVersions(entityGUID);
+
         if (entity != null)
         {
             setLocalProvenanceThroughoutEntity(entity);
@@ -4222,6 +4715,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                   typeDefName,
                                                                   obsoleteEntityGUID);
 
+        removeCachedInstanceVersions(obsoleteEntityGUID);
+
         if (entity != null)
         {
 
@@ -4310,6 +4805,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                            typeDefName,
                                            deletedEntityGUID);
 
+        removeCachedInstanceVersions(deletedEntityGUID);
+
         if (produceEventsForRealConnector)
         {
             if (entity == null)
@@ -4385,6 +4882,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         EntityDetail   entity = realMetadataCollection.restoreEntity(userId, deletedEntityGUID);
 
+        removeCachedInstanceVersions(deletedEntityGUID);
+
         if (entity != null)
         {
             setLocalProvenanceThroughoutEntity(entity);
@@ -5240,6 +5739,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
         Relationship   newRelationship = realMetadataCollection.undoRelationshipUpdate(userId,
                                                                                        relationshipGUID);
 
+        removeCachedInstanceVersions(relationshipGUID);
+
         if (newRelationship != null)
         {
             setLocalProvenanceThroughoutRelationship(newRelationship);
@@ -5331,6 +5832,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                  typeDefName,
                                                                                  obsoleteRelationshipGUID);
 
+        removeCachedInstanceVersions(obsoleteRelationshipGUID);
+
         if (newRelationship != null)
         {
 
@@ -5415,6 +5918,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
 
         realMetadataCollection.purgeRelationship(userId, typeDefGUID, typeDefName, deletedRelationshipGUID);
 
+        removeCachedInstanceVersions(deletedRelationshipGUID);
+
         if (produceEventsForRealConnector)
         {
             if (relationship == null)
@@ -5495,6 +6000,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         Relationship   newRelationship = realMetadataCollection.restoreRelationship(userId, deletedRelationshipGUID);
 
+        removeCachedInstanceVersions(deletedRelationshipGUID);
+
         if (newRelationship != null)
         {
             setLocalProvenanceThroughoutRelationship(newRelationship);
@@ -5593,6 +6100,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                         entityGUID,
                                                                         newEntityGUID);
 
+        removeCachedInstanceVersions(entityGUID, newEntityGUID);
+
         if (entity != null)
         {
             setLocalProvenanceThroughoutEntity(entity);
@@ -5689,6 +6198,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                     currentTypeDefSummary,
                                                                     newTypeDefSummary);
 
+        removeCachedInstanceVersions(entityGUID);
+
         if (entity != null)
         {
             setLocalProvenanceThroughoutEntity(entity);
@@ -5795,6 +6306,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                       newHomeMetadataCollectionId,
                                                                       newHomeMetadataCollectionName);
 
+            removeCachedInstanceVersions(entityGUID);
+
             if (entity != null)
             {
                 /*
@@ -5916,6 +6429,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                     relationshipGUID,
                                                                                     newRelationshipGUID);
 
+        removeCachedInstanceVersions(relationshipGUID, newRelationshipGUID);
+
         if (relationship != null)
         {
             setLocalProvenanceThroughoutRelationship(relationship);
@@ -6012,6 +6527,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                 currentTypeDefSummary,
                                                                                 newTypeDefSummary);
 
+        removeCachedInstanceVersions(relationshipGUID);
+
         if (relationship != null)
         {
             setLocalProvenanceThroughoutRelationship(relationship);
@@ -6119,6 +6636,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                                   newHomeMetadataCollectionId,
                                                                                   newHomeMetadataCollectionName);
 
+            removeCachedInstanceVersions(relationshipGUID);
+
             if (relationship != null)
             {
                 /*
@@ -6357,6 +6876,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
          * Pass request to real repository
          */
         realMetadataCollection.deleteEntityReferenceCopy(userId, entity);
+
+        removeCachedInstanceVersions(entity.getGUID());
     }
 
 
@@ -6406,6 +6927,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
          * Pass request to real repository
          */
         realMetadataCollection.purgeEntityReferenceCopy(userId, entity);
+
+        removeCachedInstanceVersions(entity.getGUID());
     }
 
 
@@ -6464,6 +6987,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                         typeDefGUID,
                                                         typeDefName,
                                                         homeMetadataCollectionId);
+
+        removeCachedInstanceVersions(entityGUID);
     }
 
 
@@ -6672,6 +7197,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
              * Remove classification
              */
             realMetadataCollection.purgeClassificationReferenceCopy(userId, entity, classification);
+
+            removeCachedInstanceVersions(entity.getGUID());
         }
     }
 
@@ -6785,6 +7312,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
          * Delete relationship
          */
         realMetadataCollection.deleteRelationshipReferenceCopy(userId, relationship);
+
+        removeCachedInstanceVersions(relationship.getGUID());
     }
 
 
@@ -6836,6 +7365,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
          * Purge relationship
          */
         realMetadataCollection.purgeRelationshipReferenceCopy(userId, relationship);
+
+        removeCachedInstanceVersions(relationship.getGUID());
     }
 
 
@@ -6894,6 +7425,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                               typeDefGUID,
                                                               typeDefName,
                                                               homeMetadataCollectionId);
+
+        removeCachedInstanceVersions(relationshipGUID);
     }
 
 
@@ -7024,7 +7557,9 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
 
                 for (EntityDetail entity : entities)
                 {
-                    if ((entity != null) && (securityVerifier.validateEntityReferenceCopySave(entity)))
+                    if ((entity != null) &&
+                        (entity.getHeaderVersion() <= InstanceAuditHeader.CURRENT_AUDIT_HEADER_VERSION) &&
+                        (securityVerifier.validateEntityReferenceCopySave(entity)))
                     {
                         validatedEntities.add(entity);
                     }
@@ -7046,7 +7581,9 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
 
                 for (Relationship relationship : relationships)
                 {
-                    if ((relationship != null) && (securityVerifier.validateRelationshipReferenceCopySave(relationship)))
+                    if ((relationship != null) &&
+                        (relationship.getHeaderVersion() <= InstanceAuditHeader.CURRENT_AUDIT_HEADER_VERSION) &&
+                        (securityVerifier.validateRelationshipReferenceCopySave(relationship)))
                     {
                         validatedRelationships.add(relationship);
                     }
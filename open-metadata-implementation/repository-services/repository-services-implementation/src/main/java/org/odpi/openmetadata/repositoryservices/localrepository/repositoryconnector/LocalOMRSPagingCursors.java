@@ -0,0 +1,180 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * LocalOMRSPagingCursors remembers where the next page of a user's query starts in the real repository's results.
+ * When the security verifier filters out instances, the position of a page in the caller's results no longer
+ * matches its position in the real repository's results.  The cursor lets the next page start where the previous
+ * one left off so the earlier instances are not retrieved and verified again.
+ *
+ * Each cursor records the last instance that the previous page retrieved.  The next page re-reads that instance
+ * and ignores the cursor if it has moved, so changes to the repository's contents between pages never cause
+ * instances to be skipped.  The least recently used cursors are discarded when the cache is full.
+ *
+ * The cursors only cover the filtering done by the repository security verifier.  The zones of each access
+ * service are checked in the generic handlers, which pass their own paging parameters to the repository
+ * services, so decisions about zones are not cached here.  The handlers keep them in a ZoneDecisionCache for
+ * the length of each request instead.
+ */
+class LocalOMRSPagingCursors
+{
+    private final Map<List<Object>, PagingCursor> pagingCursors;
+
+
+    /**
+     * Position of the next page in the real repository's results.
+     */
+    private static class PagingCursor
+    {
+        private final int    repositoryOffset;
+        private final String lastGUID;
+
+        PagingCursor(int    repositoryOffset,
+                     String lastGUID)
+        {
+            this.repositoryOffset = repositoryOffset;
+            this.lastGUID         = lastGUID;
+        }
+    }
+
+
+    /**
+     * Create a cache that holds the requested number of cursors.
+     *
+     * @param maxEntries number of cursors to remember
+     */
+    LocalOMRSPagingCursors(int maxEntries)
+    {
+        this.pagingCursors = new LinkedHashMap<List<Object>, PagingCursor>(16, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, PagingCursor> eldest)
+            {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+
+    /**
+     * Set up a page of results for a query to the real repository.  If an earlier page for the same query has
+     * been filtered by the security verifier, the page starts where the previous one left off in the real
+     * repository's results.
+     *
+     * @param queryKey user and parameters of the query (excluding the paging parameters)
+     * @param fromElement starting element requested by the caller
+     * @param pageSize page size requested by the caller
+     * @param maxRepositoryPageSize largest page that may be requested from the real repository (zero means no limit)
+     * @param <T> type of instance
+     * @return new page
+     */
+    <T extends InstanceHeader> LocalOMRSFilteredPage<T> getPage(List<Object> queryKey,
+                                                                int          fromElement,
+                                                                int          pageSize,
+                                                                int          maxRepositoryPageSize)
+    {
+        PagingCursor cursor = null;
+
+        if (fromElement > 0)
+        {
+            synchronized (pagingCursors)
+            {
+                cursor = pagingCursors.get(this.getPagingCursorKey(queryKey, fromElement));
+            }
+        }
+
+        if (cursor == null)
+        {
+            return new LocalOMRSFilteredPage<>(fromElement, pageSize, maxRepositoryPageSize);
+        }
+
+        return new LocalOMRSFilteredPage<>(fromElement, cursor.repositoryOffset, cursor.lastGUID, pageSize, maxRepositoryPageSize);
+    }
+
+
+    /**
+     * Return the results from a page and, if the page positions have drifted from the real repository's
+     * positions, remember where the next page starts.
+     *
+     * @param queryKey user and parameters of the query (excluding the paging parameters)
+     * @param fromElement starting element requested by the caller
+     * @param page completed page
+     * @param <T> type of instance
+     * @return validated instances or null
+     */
+    <T extends InstanceHeader> List<T> getResults(List<Object>             queryKey,
+                                                  int                      fromElement,
+                                                  LocalOMRSFilteredPage<T> page)
+    {
+        List<T> results     = page.getResults();
+        int     nextElement = fromElement;
+
+        if (results != null)
+        {
+            nextElement = fromElement + results.size();
+        }
+
+        synchronized (pagingCursors)
+        {
+            if (page.isCursorRejected())
+            {
+                pagingCursors.remove(this.getPagingCursorKey(queryKey, fromElement));
+            }
+
+            if ((nextElement != page.getRepositoryOffset()) && (page.getLastGUID() != null))
+            {
+                pagingCursors.put(this.getPagingCursorKey(queryKey, nextElement),
+                                  new PagingCursor(page.getRepositoryOffset(), page.getLastGUID()));
+            }
+            else
+            {
+                pagingCursors.remove(this.getPagingCursorKey(queryKey, nextElement));
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Return the number of cursors in the cache.
+     *
+     * @return count of cursors
+     */
+    int size()
+    {
+        synchronized (pagingCursors)
+        {
+            return pagingCursors.size();
+        }
+    }
+
+
+    /**
+     * Build the key for a paging cursor.
+     *
+     * @param queryKey user and parameters of the query
+     * @param fromElement starting element requested by the caller
+     * @return key
+     */
+    private List<Object> getPagingCursorKey(List<Object> queryKey,
+                                            int          fromElement)
+    {
+        List<Object> cursorKey = new ArrayList<>(queryKey);
+
+        cursorKey.add(fromElement);
+
+        return cursorKey;
+    }
+}
@@ -0,0 +1,512 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * LocalOMRSReferenceCopyBatch collects the reference copies received in instance events by the
+ * LocalOMRSInstanceEventProcessor so that they can be saved to the local repository in batches.
+ * A batch is saved when it is full, when an event arrives that may depend on the waiting reference copies,
+ * after a short delay, or when the event processor is disconnected.  The reference copies from a batch of
+ * instances, such as the contents of an open metadata archive, are saved together as soon as they are added.
+ *
+ * The versions that are saved are recorded in a LocalOMRSInstanceVersionCache.  A reference copy that is
+ * waiting to be saved is checked by isDuplicateOrStale() until its version is in the cache because the check
+ * and the save take the same lock.
+ */
+class LocalOMRSReferenceCopyBatch
+{
+    private static final Set<OMRSInstanceEventType> batchedEventTypes = EnumSet.of(OMRSInstanceEventType.NEW_ENTITY_EVENT,
+                                                                                   OMRSInstanceEventType.UPDATED_ENTITY_EVENT,
+                                                                                   OMRSInstanceEventType.UNDONE_ENTITY_EVENT,
+                                                                                   OMRSInstanceEventType.RESTORED_ENTITY_EVENT,
+                                                                                   OMRSInstanceEventType.RE_IDENTIFIED_ENTITY_EVENT,
+                                                                                   OMRSInstanceEventType.RETYPED_ENTITY_EVENT,
+                                                                                   OMRSInstanceEventType.RE_HOMED_ENTITY_EVENT,
+                                                                                   OMRSInstanceEventType.REFRESHED_ENTITY_EVENT,
+                                                                                   OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT,
+                                                                                   OMRSInstanceEventType.UPDATED_RELATIONSHIP_EVENT,
+                                                                                   OMRSInstanceEventType.UNDONE_RELATIONSHIP_EVENT,
+                                                                                   OMRSInstanceEventType.RESTORED_RELATIONSHIP_EVENT,
+                                                                                   OMRSInstanceEventType.RE_IDENTIFIED_RELATIONSHIP_EVENT,
+                                                                                   OMRSInstanceEventType.RETYPED_RELATIONSHIP_EVENT,
+                                                                                   OMRSInstanceEventType.RE_HOMED_RELATIONSHIP_EVENT,
+                                                                                   OMRSInstanceEventType.REFRESHED_RELATIONSHIP_EVENT);
+
+    private final int                               maxPendingReferenceCopies;
+    private final long                              pendingReferenceCopyDelay;
+    private final String                            timerThreadName;
+    private final LocalOMRSInstanceVersionCache     instanceVersionCache;
+    private final ReferenceCopyStore                referenceCopyStore;
+    private final Map<String, PendingReferenceCopy> pendingEntities      = new LinkedHashMap<>();
+    private final Map<String, PendingReferenceCopy> pendingRelationships = new LinkedHashMap<>();
+    private final Object                            pendingLock          = new Object();
+    private final Object                            flushLock            = new Object();
+    private ScheduledThreadPoolExecutor             flushTimer           = null;
+    private boolean                                 flushScheduled       = false;
+    private boolean                                 disconnected         = false;
+    private volatile boolean                        batchSaveSupported   = true;
+
+    private static final Logger log = LoggerFactory.getLogger(LocalOMRSReferenceCopyBatch.class);
+
+
+    /**
+     * The repository operations used to save the reference copies.
+     */
+    interface ReferenceCopyStore
+    {
+        /**
+         * Save a batch of reference copies in one request.
+         *
+         * @param entities entities to save
+         * @param relationships relationships to save
+         * @throws Exception the batch could not be saved - FunctionNotSupportedException means that batches are
+         * not supported by the repository
+         */
+        void saveReferenceCopies(List<EntityDetail> entities,
+                                 List<Relationship> relationships) throws Exception;
+
+
+        /**
+         * Save a single reference copy.
+         *
+         * @param instance entity or relationship to save
+         * @throws Exception the reference copy could not be saved
+         */
+        void saveReferenceCopy(InstanceHeader instance) throws Exception;
+
+
+        /**
+         * Report that a reference copy could not be saved.
+         *
+         * @param error exception from the repository
+         * @param pendingReferenceCopy reference copy and the details of the event that it came from
+         */
+        void reportSaveError(Exception            error,
+                             PendingReferenceCopy pendingReferenceCopy);
+    }
+
+
+    /**
+     * Constructor supplies the size of the batches and the operations to save them.  The timer thread is only
+     * started when the first reference copy is added to a batch.
+     *
+     * @param maxPendingReferenceCopies number of reference copies that fill a batch
+     * @param pendingReferenceCopyDelay milliseconds to wait before saving a batch that is not full
+     * @param timerThreadName name of the thread that saves batches that are not full
+     * @param instanceVersionCache cache of the versions saved in the local repository
+     * @param referenceCopyStore operations to save the reference copies
+     */
+    LocalOMRSReferenceCopyBatch(int                           maxPendingReferenceCopies,
+                                long                          pendingReferenceCopyDelay,
+                                String                        timerThreadName,
+                                LocalOMRSInstanceVersionCache instanceVersionCache,
+                                ReferenceCopyStore            referenceCopyStore)
+    {
+        this.maxPendingReferenceCopies = maxPendingReferenceCopies;
+        this.pendingReferenceCopyDelay = pendingReferenceCopyDelay;
+        this.timerThreadName = timerThreadName;
+        this.instanceVersionCache = instanceVersionCache;
+        this.referenceCopyStore = referenceCopyStore;
+    }
+
+
+    /**
+     * Determine whether the incoming instance is the same or an earlier version of an instance that is either
+     * waiting to be saved or is known to be stored.  If a different version is waiting to be saved, it is saved
+     * now so that the incoming instance can be validated against it.  A batch that is being saved is waited for.
+     *
+     * @param incomingInstance entity or relationship from the event
+     * @return boolean flag - true means the event can be ignored
+     */
+    boolean isDuplicateOrStale(InstanceHeader incomingInstance)
+    {
+        synchronized (flushLock)
+        {
+            PendingReferenceCopy pendingReferenceCopy;
+
+            synchronized (pendingLock)
+            {
+                pendingReferenceCopy = getPendingInstances(incomingInstance).get(incomingInstance.getGUID());
+            }
+
+            if (pendingReferenceCopy != null)
+            {
+                InstanceHeader pendingInstance = pendingReferenceCopy.getInstance();
+
+                if ((Objects.equals(pendingInstance.getCreateTime(), incomingInstance.getCreateTime())) &&
+                    (pendingInstance.getVersion() >= incomingInstance.getVersion()))
+                {
+                    return true;
+                }
+
+                flush();
+            }
+
+            return instanceVersionCache.isStale(incomingInstance);
+        }
+    }
+
+
+    /**
+     * Add a validated reference copy to the next batch to save.  The batch is saved straight away if it is full,
+     * otherwise a save is scheduled after a short delay.  Once the batch is disconnected, or if the repository
+     * does not support batches, the reference copy is saved straight away.
+     *
+     * @param pendingReferenceCopy reference copy to save
+     */
+    void add(PendingReferenceCopy pendingReferenceCopy)
+    {
+        boolean saveNow   = (! batchSaveSupported);
+        boolean batchFull = false;
+
+        if (! saveNow)
+        {
+            synchronized (pendingLock)
+            {
+                if (disconnected)
+                {
+                    saveNow = true;
+                }
+                else
+                {
+                    getPendingInstances(pendingReferenceCopy.getInstance()).put(pendingReferenceCopy.getInstance().getGUID(),
+                                                                                 pendingReferenceCopy);
+
+                    batchFull = (pendingEntities.size() + pendingRelationships.size() >= maxPendingReferenceCopies);
+
+                    if ((! batchFull) && (! flushScheduled))
+                    {
+                        flushScheduled = true;
+                        getFlushTimer().schedule(this::flush, pendingReferenceCopyDelay, TimeUnit.MILLISECONDS);
+                    }
+                }
+            }
+        }
+
+        if (saveNow)
+        {
+            synchronized (flushLock)
+            {
+                saveReferenceCopy(pendingReferenceCopy);
+            }
+        }
+        else if (batchFull)
+        {
+            flush();
+        }
+    }
+
+
+    /**
+     * Add the validated reference copies from a batch of instances and save them straight away in one batch,
+     * along with any reference copies that are already waiting, however many there are.  The repository
+     * decides how many instances it saves in each transaction.
+     *
+     * @param pendingReferenceCopies reference copies to save
+     */
+    void addAll(List<PendingReferenceCopy> pendingReferenceCopies)
+    {
+        boolean saveNow = (! batchSaveSupported);
+
+        if (! saveNow)
+        {
+            synchronized (pendingLock)
+            {
+                if (disconnected)
+                {
+                    saveNow = true;
+                }
+                else
+                {
+                    for (PendingReferenceCopy pendingReferenceCopy : pendingReferenceCopies)
+                    {
+                        getPendingInstances(pendingReferenceCopy.getInstance()).put(pendingReferenceCopy.getInstance().getGUID(),
+                                                                                     pendingReferenceCopy);
+                    }
+                }
+            }
+        }
+
+        if (saveNow)
+        {
+            synchronized (flushLock)
+            {
+                for (PendingReferenceCopy pendingReferenceCopy : pendingReferenceCopies)
+                {
+                    saveReferenceCopy(pendingReferenceCopy);
+                }
+            }
+        }
+        else
+        {
+            flush();
+        }
+    }
+
+
+    /**
+     * Save the waiting reference copies if the event may depend on them.  Only events that carry a reference
+     * copy to save are added to the batch.
+     *
+     * @param instanceEventType type of the incoming event
+     */
+    void flushBeforeEvent(OMRSInstanceEventType instanceEventType)
+    {
+        if (! batchedEventTypes.contains(instanceEventType))
+        {
+            flush();
+        }
+    }
+
+
+    /**
+     * Save the reference copies that are waiting to be saved.  Entities are saved before relationships.
+     * If the batch can not be saved, each reference copy is saved individually so that only the
+     * reference copies in error are rejected, and each error is reported against the event that it came from.
+     * The reference copies stay in the batch until their versions are recorded in the cache.
+     */
+    void flush()
+    {
+        synchronized (flushLock)
+        {
+            List<PendingReferenceCopy> pendingReferenceCopies;
+            List<EntityDetail>         entities      = new ArrayList<>();
+            List<Relationship>         relationships = new ArrayList<>();
+
+            synchronized (pendingLock)
+            {
+                flushScheduled = false;
+
+                pendingReferenceCopies = new ArrayList<>(pendingEntities.values());
+                pendingReferenceCopies.addAll(pendingRelationships.values());
+
+                for (PendingReferenceCopy pendingEntity : pendingEntities.values())
+                {
+                    entities.add((EntityDetail)pendingEntity.getInstance());
+                }
+
+                for (PendingReferenceCopy pendingRelationship : pendingRelationships.values())
+                {
+                    relationships.add((Relationship)pendingRelationship.getInstance());
+                }
+            }
+
+            if (pendingReferenceCopies.isEmpty())
+            {
+                return;
+            }
+
+            if ((pendingReferenceCopies.size() == 1) || (! batchSaveSupported))
+            {
+                for (PendingReferenceCopy pendingReferenceCopy : pendingReferenceCopies)
+                {
+                    saveReferenceCopy(pendingReferenceCopy);
+                }
+            }
+            else
+            {
+                try
+                {
+                    referenceCopyStore.saveReferenceCopies(entities, relationships);
+
+                    for (PendingReferenceCopy pendingReferenceCopy : pendingReferenceCopies)
+                    {
+                        instanceVersionCache.recordVersion(pendingReferenceCopy.getInstance());
+                    }
+                }
+                catch (Exception error)
+                {
+                    if (error instanceof FunctionNotSupportedException)
+                    {
+                        batchSaveSupported = false;
+                    }
+
+                    log.debug("Unable to save batch of {} reference copies, saving them individually: {}",
+                              pendingReferenceCopies.size(), error.getMessage());
+
+                    for (PendingReferenceCopy pendingReferenceCopy : pendingReferenceCopies)
+                    {
+                        saveReferenceCopy(pendingReferenceCopy);
+                    }
+                }
+            }
+
+            /*
+             * Reference copies are only added under the pending lock, so any added while the batch was saved
+             * are a later version or a different instance and remain for the next batch.
+             */
+            synchronized (pendingLock)
+            {
+                for (PendingReferenceCopy pendingReferenceCopy : pendingReferenceCopies)
+                {
+                    getPendingInstances(pendingReferenceCopy.getInstance()).remove(pendingReferenceCopy.getInstance().getGUID(),
+                                                                                    pendingReferenceCopy);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Save the waiting reference copies and stop the timer thread.  Reference copies added after this call
+     * are saved straight away.
+     */
+    void disconnect()
+    {
+        ScheduledThreadPoolExecutor timerToStop;
+
+        synchronized (pendingLock)
+        {
+            disconnected = true;
+            timerToStop = flushTimer;
+            flushTimer = null;
+        }
+
+        flush();
+
+        if (timerToStop != null)
+        {
+            timerToStop.shutdown();
+        }
+    }
+
+
+    /**
+     * Return whether the timer thread is running.  This is used in testing.
+     *
+     * @return boolean flag
+     */
+    boolean isTimerRunning()
+    {
+        synchronized (pendingLock)
+        {
+            return (flushTimer != null);
+        }
+    }
+
+
+    /**
+     * Return the timer that saves the batches that are not full, creating it on first use.
+     * This is called under the pending lock.
+     *
+     * @return scheduler with a single daemon thread
+     */
+    private ScheduledThreadPoolExecutor getFlushTimer()
+    {
+        if (flushTimer == null)
+        {
+            flushTimer = new ScheduledThreadPoolExecutor(1, runnable ->
+            {
+                Thread thread = new Thread(runnable, timerThreadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+
+            /*
+             * The batch is saved by disconnect() so a scheduled save is not needed once the timer is shut down.
+             */
+            flushTimer.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        }
+
+        return flushTimer;
+    }
+
+
+    /**
+     * Return the map of the waiting reference copies of the same kind as the instance.
+     *
+     * @param instance entity or relationship
+     * @return map of waiting reference copies
+     */
+    private Map<String, PendingReferenceCopy> getPendingInstances(InstanceHeader instance)
+    {
+        if (instance instanceof Relationship)
+        {
+            return pendingRelationships;
+        }
+
+        return pendingEntities;
+    }
+
+
+    /**
+     * Save a single reference copy, reporting any error against the event that it came from.
+     * This is called under the flush lock.
+     *
+     * @param pendingReferenceCopy reference copy to save
+     */
+    private void saveReferenceCopy(PendingReferenceCopy pendingReferenceCopy)
+    {
+        try
+        {
+            referenceCopyStore.saveReferenceCopy(pendingReferenceCopy.getInstance());
+            instanceVersionCache.recordVersion(pendingReferenceCopy.getInstance());
+        }
+        catch (Exception error)
+        {
+            referenceCopyStore.reportSaveError(error, pendingReferenceCopy);
+        }
+    }
+
+
+    /**
+     * A reference copy waiting to be saved, along with the details of the event that it came from.
+     */
+    static class PendingReferenceCopy
+    {
+        private final InstanceHeader instance;
+        private final String         methodName;
+        private final String         originatorMetadataCollectionId;
+        private final String         originatorServerName;
+
+        PendingReferenceCopy(InstanceHeader instance,
+                             String         methodName,
+                             String         originatorMetadataCollectionId,
+                             String         originatorServerName)
+        {
+            this.instance = instance;
+            this.methodName = methodName;
+            this.originatorMetadataCollectionId = originatorMetadataCollectionId;
+            this.originatorServerName = originatorServerName;
+        }
+
+        InstanceHeader getInstance()
+        {
+            return instance;
+        }
+
+        String getMethodName()
+        {
+            return methodName;
+        }
+
+        String getOriginatorMetadataCollectionId()
+        {
+            return originatorMetadataCollectionId;
+        }
+
+        String getOriginatorServerName()
+        {
+            return originatorServerName;
+        }
+    }
+}
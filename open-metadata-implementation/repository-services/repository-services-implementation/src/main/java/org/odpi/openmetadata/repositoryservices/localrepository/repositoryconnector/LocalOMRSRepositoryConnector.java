@@ -48,6 +48,15 @@ public class LocalOMRSRepositoryConnector extends OMRSRepositoryConnector implem
     private OMRSRepositoryEventMapperConnector  realEventMapper;
     private boolean                             produceEventsForRealConnector = true;
 
+    /*
+     * The version cache remembers the versions of the reference copies stored in the local repository.
+     * It is shared by the instance event processor, which uses it to ignore duplicate and out of date events,
+     * and the local metadata collection, which removes the instances that it deletes, purges, restores,
+     * re-identifies, re-types or re-homes.
+     */
+    private static final int                    instanceVersionCacheSize = 10000;
+    private final LocalOMRSInstanceVersionCache instanceVersionCache     = new LocalOMRSInstanceVersionCache(instanceVersionCacheSize);
+
 
     /**
      * Constructor used by the LocalOMRSConnectorProvider.  It provides the information necessary to run the
@@ -172,6 +181,11 @@ public class LocalOMRSRepositoryConnector extends OMRSRepositoryConnector implem
     {
         super.disconnect();
 
+        /*
+         * The reference copies that are waiting to be saved need the real connector.
+         */
+        disconnectInstanceEventProcessor();
+
         if (realLocalConnector  != null)
         {
             realLocalConnector.disconnect();
@@ -184,6 +198,18 @@ public class LocalOMRSRepositoryConnector extends OMRSRepositoryConnector implem
     }
 
 
+    /**
+     * Save the reference copies that the incoming instance event processor is holding and stop its thread.
+     */
+    private void disconnectInstanceEventProcessor()
+    {
+        if (incomingInstanceEventProcessor instanceof LocalOMRSInstanceEventProcessor)
+        {
+            ((LocalOMRSInstanceEventProcessor)incomingInstanceEventProcessor).disconnect();
+        }
+    }
+
+
     /*
      * ==============================
      * OMRSMetadataCollectionManager
@@ -403,8 +429,11 @@ public class LocalOMRSRepositoryConnector extends OMRSRepositoryConnector implem
                                                           saveExchangeRule,
                                                           produceEventsForRealConnector,
                                                           outboundRepositoryEventManager,
+                                                          instanceVersionCache,
                                                           auditLog.createNewAuditLog(OMRSAuditingComponent.INSTANCE_EVENT_PROCESSOR));
 
+            disconnectInstanceEventProcessor();
+
             this.incomingInstanceEventProcessor = localOMRSInstanceEventProcessor;
             this.instanceRetrievalEventProcessor = localOMRSInstanceEventProcessor;
         }
@@ -457,6 +486,18 @@ public class LocalOMRSRepositoryConnector extends OMRSRepositoryConnector implem
         return metadataCollection;
     }
 
+    /**
+     * Forget the version of an instance whose stored copy has been changed by a local request, so that the next
+     * event or refresh for the instance is not discarded as a duplicate.
+     *
+     * @param instanceGUID unique identifier of the instance
+     */
+    void removeCachedInstanceVersion(String instanceGUID)
+    {
+        instanceVersionCache.removeInstance(instanceGUID);
+    }
+
+
     /*
      * ====================================
      * OMRSLocalRepository
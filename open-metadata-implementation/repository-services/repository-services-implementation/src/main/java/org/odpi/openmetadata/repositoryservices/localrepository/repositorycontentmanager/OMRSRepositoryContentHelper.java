@@ -471,6 +471,63 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
     }
 
 
+    /**
+     * Return the small integer identifier assigned to a type by the repository content manager.  Identifiers are
+     * dense so they can be used as indexes into a bitset.
+     *
+     * @param sourceName source of the request (used for logging)
+     * @param typeName name of the type
+     * @return identifier or -1 if the type is not known
+     */
+    @Override
+    public int getTypeDefId(String sourceName,
+                            String typeName)
+    {
+        final String  methodName = "getTypeDefId";
+
+        validateRepositoryContentManager(methodName);
+
+        return repositoryContentManager.getTypeDefId(typeName);
+    }
+
+
+    /**
+     * Return the identifiers of the named types and all of their subtypes.  An instance is of one of the named types
+     * if the bit for the identifier of its type is set.  The result should be recalculated if the value returned by
+     * getTypeDefIdGeneration() changes, since new subtypes may have been added.
+     *
+     * @param sourceName source of the request (used for logging)
+     * @param typeNames names of the types
+     * @return bitset of type identifiers
+     */
+    @Override
+    public BitSet getTypeDefIdsIncludingSubTypes(String             sourceName,
+                                                 Collection<String> typeNames)
+    {
+        final String  methodName = "getTypeDefIdsIncludingSubTypes";
+
+        validateRepositoryContentManager(methodName);
+
+        return repositoryContentManager.getTypeDefIdsIncludingSubTypes(typeNames);
+    }
+
+
+    /**
+     * Return a counter that changes each time the known types change.
+     *
+     * @return generation counter
+     */
+    @Override
+    public long getTypeDefIdGeneration()
+    {
+        final String  methodName = "getTypeDefIdGeneration";
+
+        validateRepositoryContentManager(methodName);
+
+        return repositoryContentManager.getTypeDefIdGeneration();
+    }
+
+
     /**
      * Return the names of all of the properties in the supplied TypeDef and all of its super-types.
      *
@@ -2178,6 +2235,39 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
     }
 
 
+    /**
+     * Compare two instances using the same rules that formatEntityResults and formatRelationshipResults use to
+     * sort their results.  This allows the sequenced results from different repositories to be merged.
+     *
+     * @param one the first instance
+     * @param oneProperties properties of the first instance
+     * @param two the second instance
+     * @param twoProperties properties of the second instance
+     * @param sequencingProperty name of the property that is used to sequence the results (property orders only)
+     * @param sequencingOrder nominated sort order - null or ANY means no preference
+     * @return sort result
+     */
+    public static int compareSequencedInstances(InstanceHeader     one,
+                                                InstanceProperties oneProperties,
+                                                InstanceHeader     two,
+                                                InstanceProperties twoProperties,
+                                                String             sequencingProperty,
+                                                SequencingOrder    sequencingOrder)
+    {
+        if ((sequencingOrder == null) || (sequencingOrder.equals(SequencingOrder.ANY)))
+        {
+            return 0;
+        }
+
+        if (sequencingOrder.equals(SequencingOrder.PROPERTY_ASCENDING) || sequencingOrder.equals(SequencingOrder.PROPERTY_DESCENDING))
+        {
+            return compareProperties(oneProperties, twoProperties, sequencingProperty, sequencingOrder);
+        }
+
+        return compareInstances(one, two, sequencingOrder);
+    }
+
+
     /**
      * Compare the two instances and determine the sort order based on the nominated non-property sort order.
      *
@@ -21,6 +21,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * OMRSRepositoryContentManager supports an in-memory cache of TypeDefs for the local server.  It is used by the OMRS
@@ -63,6 +65,25 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     private Map<String, String>             metadataCollectionNames        = new HashMap<>();
     private Map<String, Set<String>>        knownPropertyToTypeDefNames    = new HashMap<>();
 
+    /*
+     * Each known TypeDef is assigned a small integer identifier the first time it is used in a type comparison.
+     * The lineage of a type is the set of identifiers of the type and all of its super types.  This makes it
+     * possible to test whether one type is a subtype of another, or of any of a set of types, with a bit test.
+     * Identifiers are never reused.  The lineages are discarded whenever the known types change and the
+     * generation is incremented so that callers can recompile any bitsets they hold.
+     */
+    private Map<String, Integer>            typeDefIds                     = Collections.synchronizedMap(new HashMap<>());
+    private Map<String, BitSet>             typeDefLineages                = Collections.synchronizedMap(new HashMap<>());
+    private AtomicInteger                   nextTypeDefId                  = new AtomicInteger(0);
+    private AtomicLong                      typeDefIdGeneration            = new AtomicLong(0L);
+
+    /*
+     * The type gallery version changes whenever a TypeDef or AttributeTypeDef is added, updated or removed.  It
+     * includes an identifier for this content manager so that versions from before a restart are not reused.
+     */
+    private final String                    typeGalleryId                  = UUID.randomUUID().toString();
+    private AtomicLong                      typeGalleryGeneration          = new AtomicLong(0L);
+
 
     /*
      * The audit log provides a verifiable record of the open metadata archives that have been loaded into
@@ -152,6 +173,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     {
         knownTypeDefGUIDs.put(newTypeDef.getGUID(), newTypeDef);
         knownTypeDefNames.put(newTypeDef.getName(), newTypeDef);
+        this.typeDefsChanged();
 
         if (isLocallySupported)
         {
@@ -210,6 +232,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     {
         knownTypeDefGUIDs.remove(obsoleteTypeDefGUID);
         knownTypeDefNames.remove(obsoleteTypeDefName);
+        this.typeDefsChanged();
 
         if (isLocallySupported)
         {
@@ -269,6 +292,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     {
         knownAttributeTypeDefGUIDs.put(newAttributeTypeDef.getGUID(), newAttributeTypeDef);
         knownAttributeTypeDefNames.put(newAttributeTypeDef.getName(), newAttributeTypeDef);
+        typeGalleryGeneration.incrementAndGet();
 
         if (isLocallySupported)
         {
@@ -317,6 +341,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
         {
             knownTypeDefGUIDs.remove(obsoleteTypeDefGUID);
             knownTypeDefNames.remove(obsoleteTypeDefName);
+            this.typeDefsChanged();
 
             if (localRepositoryConnector != null)
             {
@@ -345,6 +370,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
         {
             knownAttributeTypeDefGUIDs.remove(obsoleteAttributeTypeDefGUID);
             knownAttributeTypeDefNames.remove(obsoleteAttributeTypeDefName);
+            typeGalleryGeneration.incrementAndGet();
 
             if (localRepositoryConnector != null)
             {
@@ -580,7 +606,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     {
         final String methodName = "isTypeOf";
 
-        log.debug("isTypeOf: sourceName = " + sourceName + "; actualTypeName = " + actualTypeName + "; expectedTypeName = " + expectedTypeName);
+        log.debug("isTypeOf: sourceName = {}; actualTypeName = {}; expectedTypeName = {}", sourceName, actualTypeName, expectedTypeName);
 
         if (expectedTypeName == null)
         {
@@ -608,6 +634,18 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
             return true;
         }
 
+        /*
+         * The lineage of the actual type is available if it and all of its super types are known.
+         */
+        BitSet lineage = this.getTypeDefLineage(actualTypeName);
+
+        if (lineage != null)
+        {
+            int expectedTypeId = this.getTypeDefId(expectedTypeName);
+
+            return (expectedTypeId >= 0) && (lineage.get(expectedTypeId));
+        }
+
         /*
          * Looking for a match in the superTypes.
          */
@@ -625,7 +663,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                         return true;
                     }
 
-                    log.debug("No match with " + superType.getName());
+                    log.debug("No match with {}", superType.getName());
                 }
             }
         }
@@ -637,6 +675,156 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     }
 
 
+    /**
+     * Discard the type lineages because a TypeDef has been added, changed or removed.
+     */
+    private void typeDefsChanged()
+    {
+        typeDefIdGeneration.incrementAndGet();
+        typeGalleryGeneration.incrementAndGet();
+        typeDefLineages.clear();
+    }
+
+
+    /**
+     * Return the identifier assigned to a known TypeDef.  An identifier is assigned the first time it is requested.
+     * The identifier of a TypeDef that is removed is kept so that it is reused if the TypeDef is added again.
+     *
+     * @param typeName name of the type
+     * @return identifier or -1 if the type is not known
+     */
+    int getTypeDefId(String typeName)
+    {
+        if ((typeName == null) || (knownTypeDefNames.get(typeName) == null))
+        {
+            return -1;
+        }
+
+        Integer typeDefId = typeDefIds.get(typeName);
+
+        if (typeDefId == null)
+        {
+            typeDefId = typeDefIds.computeIfAbsent(typeName, newTypeName -> nextTypeDefId.getAndIncrement());
+        }
+
+        return typeDefId;
+    }
+
+
+    /**
+     * Return the version identifier of the types known to this server.  It changes whenever a TypeDef or
+     * AttributeTypeDef is added, updated or removed, so a caller that has cached the type gallery can tell
+     * whether its copy is current without retrieving the types again.
+     *
+     * @return version identifier
+     */
+    public String getTypeGalleryVersion()
+    {
+        return typeGalleryId + ":" + typeGalleryGeneration.get();
+    }
+
+
+    /**
+     * Return the counter that is incremented each time the known TypeDefs change.
+     *
+     * @return generation counter
+     */
+    long getTypeDefIdGeneration()
+    {
+        return typeDefIdGeneration.get();
+    }
+
+
+    /**
+     * Return the identifiers of the type and all of its super types.  The result must not be changed by the caller.
+     *
+     * @param typeName name of the type
+     * @return lineage or null if the type, or one of its super types, is not known
+     */
+    private BitSet getTypeDefLineage(String typeName)
+    {
+        BitSet lineage = typeDefLineages.get(typeName);
+
+        if (lineage == null)
+        {
+            long   generation      = typeDefIdGeneration.get();
+            String lineageTypeName = typeName;
+
+            lineage = new BitSet();
+
+            while (lineageTypeName != null)
+            {
+                int     typeDefId = this.getTypeDefId(lineageTypeName);
+                TypeDef typeDef   = knownTypeDefNames.get(lineageTypeName);
+
+                if ((typeDefId < 0) || (typeDef == null) || (lineage.get(typeDefId)))
+                {
+                    /*
+                     * Unknown type or a loop in the type hierarchy.  The caller uses the TypeDefs directly.
+                     */
+                    return null;
+                }
+
+                lineage.set(typeDefId);
+
+                TypeDefLink superType = typeDef.getSuperType();
+
+                lineageTypeName = (superType == null) ? null : superType.getName();
+            }
+
+            if (generation == typeDefIdGeneration.get())
+            {
+                typeDefLineages.put(typeName, lineage);
+            }
+        }
+
+        return lineage;
+    }
+
+
+    /**
+     * Return the identifiers of the named types and all of their known subtypes.  An instance is of one of the
+     * named types if the identifier of its type is set in the result.  The result needs to be recalculated if the
+     * generation changes.
+     *
+     * @param typeNames names of the types
+     * @return bitset of type identifiers
+     */
+    BitSet getTypeDefIdsIncludingSubTypes(Collection<String> typeNames)
+    {
+        BitSet selectedTypeIds = new BitSet();
+        BitSet results         = new BitSet();
+
+        if (typeNames != null)
+        {
+            for (String typeName : typeNames)
+            {
+                int typeDefId = this.getTypeDefId(typeName);
+
+                if (typeDefId >= 0)
+                {
+                    selectedTypeIds.set(typeDefId);
+                }
+            }
+        }
+
+        if (! selectedTypeIds.isEmpty())
+        {
+            for (String knownTypeName : new ArrayList<>(knownTypeDefNames.keySet()))
+            {
+                BitSet lineage = this.getTypeDefLineage(knownTypeName);
+
+                if ((lineage != null) && (lineage.intersects(selectedTypeIds)))
+                {
+                    results.set(this.getTypeDefId(knownTypeName));
+                }
+            }
+        }
+
+        return results;
+    }
+
+
     /**
      * Validate that the type of an entity is of the expected/desired type.  The actual entity may be a subtype
      * of the expected type of course.
@@ -1568,6 +1756,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                 if (!isKnownType(sourceName, typeDef.getGUID(), typeDef.getName()))
                 {
                     knownTypeDefNames.put(typeDef.getName(), typeDef);
+                    this.typeDefsChanged();
                 }
             }
             else
@@ -1603,6 +1792,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                 if (!isKnownType(sourceName, attributeTypeDef.getGUID(), attributeTypeDef.getName()))
                 {
                     knownAttributeTypeDefNames.put(attributeTypeDef.getName(), attributeTypeDef);
+                    typeGalleryGeneration.incrementAndGet();
                 }
             }
             else
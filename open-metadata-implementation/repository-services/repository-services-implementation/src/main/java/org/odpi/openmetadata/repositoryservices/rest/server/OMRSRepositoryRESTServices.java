@@ -21,6 +21,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 import org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector.LocalOMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
 import org.odpi.openmetadata.repositoryservices.metadatahighway.OMRSMetadataHighwayManager;
 import org.odpi.openmetadata.repositoryservices.rest.properties.*;
 import org.odpi.openmetadata.repositoryservices.rest.services.OMRSRepositoryServicesInstance;
@@ -109,6 +110,8 @@ public class OMRSRepositoryRESTServices
      * @param localRepositoryConnector      link to the local repository responsible for servicing the REST calls.
      *                                      If localRepositoryConnector is null when a REST calls is received, the request
      *                                      is rejected.
+     * @param localRepositoryContentManager manager of the types known to the local repository (null if there is
+     *                                      no local repository).
      * @param enterpriseRepositoryConnector link to the repository responsible for servicing the REST calls to the enterprise.
      * @param metadataHighwayManager        manager of the cohort managers
      * @param localServerURL                URL of the local server
@@ -118,6 +121,7 @@ public class OMRSRepositoryRESTServices
     public static void setServerRepositories(String                       localServerName,
                                              OMRSAuditLog                 masterAuditLog,
                                              LocalOMRSRepositoryConnector localRepositoryConnector,
+                                             OMRSRepositoryContentManager localRepositoryContentManager,
                                              OMRSRepositoryConnector      enterpriseRepositoryConnector,
                                              OMRSMetadataHighwayManager   metadataHighwayManager,
                                              String                       localServerURL,
@@ -127,6 +131,7 @@ public class OMRSRepositoryRESTServices
         new OMRSRepositoryServicesInstance(localServerName,
                                            masterAuditLog,
                                            localRepositoryConnector,
+                                           localRepositoryContentManager,
                                            enterpriseRepositoryConnector,
                                            metadataHighwayManager,
                                            localServerURL,
@@ -341,11 +346,17 @@ public class OMRSRepositoryRESTServices
         {
             OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
 
+            /*
+             * The version is read before the types so that a change made while they are retrieved results in
+             * the caller requesting the types again.
+             */
+            String         galleryVersion = getTypeGalleryVersion(userId, serverName, methodName);
             TypeDefGallery typeDefGallery = metadataCollection.getAllTypes(userId);
             if (typeDefGallery != null)
             {
                 response.setAttributeTypeDefs(typeDefGallery.getAttributeTypeDefs());
                 response.setTypeDefs(typeDefGallery.getTypeDefs());
+                response.setGalleryVersion(galleryVersion);
             }
         }
         catch (RepositoryErrorException error)
@@ -371,6 +382,101 @@ public class OMRSRepositoryRESTServices
     }
 
 
+    /**
+     * Returns the list of different types of metadata organized into two groups, but only if the gallery
+     * has changed since the supplied version was retrieved.  This allows a caller that caches the
+     * gallery to check that its copy is current without transferring the type definitions each time.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId     unique identifier for requesting user.
+     * @param galleryVersion version identifier from a previous call to getAllTypes (null to retrieve all types).
+     * @return TypeDefGalleryResponse:
+     * List of different categories of type definitions (or just the gallery version if the types are unchanged) or
+     * InvalidParameterException the uerId is null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public TypeDefGalleryResponse getAllTypesChangedSince(String serverName, String userId, String galleryVersion)
+    {
+        final String methodName = "getAllTypesChangedSince";
+
+        log.debug("Calling method: " + methodName);
+
+        TypeDefGalleryResponse response;
+
+        try
+        {
+            validateRepository(userId, serverName, methodName);
+
+            String currentVersion = getTypeGalleryVersion(userId, serverName, methodName);
+
+            if ((currentVersion != null) && (currentVersion.equals(galleryVersion)))
+            {
+                response = new TypeDefGalleryResponse();
+                response.setGalleryVersion(currentVersion);
+            }
+            else
+            {
+                return getAllTypes(serverName, userId);
+            }
+        }
+        catch (RepositoryErrorException error)
+        {
+            response = new TypeDefGalleryResponse();
+            captureRepositoryErrorException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            response = new TypeDefGalleryResponse();
+            captureInvalidParameterException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            response = new TypeDefGalleryResponse();
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (Exception error)
+        {
+            response = new TypeDefGalleryResponse();
+            captureGenericException(response, error, userId, serverName, methodName);
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
+
+
+    /**
+     * Return the version identifier of the types known to the local repository.  It is maintained by the
+     * repository content manager and changes whenever a type is added, updated or removed.
+     *
+     * @param userId     unique identifier for requesting user.
+     * @param serverName unique identifier for requested server.
+     * @param methodName calling method
+     * @return version identifier or null if there is no local repository
+     * @throws InvalidParameterException unknown server
+     * @throws UserNotAuthorizedException the user is not authorized to issue requests to this server
+     * @throws RepositoryErrorException the server is not active
+     */
+    private String getTypeGalleryVersion(String userId,
+                                         String serverName,
+                                         String methodName) throws InvalidParameterException,
+                                                                   UserNotAuthorizedException,
+                                                                   RepositoryErrorException
+    {
+        OMRSRepositoryServicesInstance instance                 = instanceHandler.getInstance(userId, serverName, methodName);
+        OMRSRepositoryContentManager   repositoryContentManager = instance.getLocalRepositoryContentManager();
+
+        if (repositoryContentManager == null)
+        {
+            return null;
+        }
+
+        return repositoryContentManager.getTypeGalleryVersion();
+    }
+
+
     /**
      * Returns a list of type definitions that have the specified name.  Type names should be unique.  This
      * method allows wildcard character to be included in the name.  These are * (asterisk) for an
@@ -2343,6 +2449,185 @@ public class OMRSRepositoryRESTServices
     }
 
 
+    /**
+     * Return the relationships for a specific entity along with the entities at the other end of these
+     * relationships.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier for the entity.
+     * @param findRequestParameters find parameters used to limit the returned results.
+     * @return InstanceGraphResponse:
+     * the page of relationships and the entities at their other ends.  Null means no relationships associated
+     * with the entity or
+     * InvalidParameterException a parameter is invalid or null or
+     * TypeErrorException the type guid passed on the request is not known by the metadata collection or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored or
+     * EntityNotKnownException the requested entity instance is not known in the metadata collection or
+     * PropertyErrorException the sequencing property is not valid for the attached classifications or
+     * PagingErrorException the paging/sequencing parameters are set up incorrectly or
+     * FunctionNotSupportedException the repository does not support asOfTime parameter or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceGraphResponse getRelationshipsAndEntitiesForEntity(String                 serverName,
+                                                                      String                 userId,
+                                                                      String                 entityGUID,
+                                                                      TypeLimitedFindRequest findRequestParameters)
+    {
+        final  String   methodName = "getRelationshipsAndEntitiesForEntity";
+
+        TypeLimitedHistoricalFindRequest historicalFindRequestParameters = null;
+
+        if (findRequestParameters != null)
+        {
+            historicalFindRequestParameters = new TypeLimitedHistoricalFindRequest();
+
+            historicalFindRequestParameters.setTypeGUID(findRequestParameters.getTypeGUID());
+            historicalFindRequestParameters.setOffset(findRequestParameters.getOffset());
+            historicalFindRequestParameters.setLimitResultsByStatus(findRequestParameters.getLimitResultsByStatus());
+            historicalFindRequestParameters.setSequencingProperty(findRequestParameters.getSequencingProperty());
+            historicalFindRequestParameters.setSequencingOrder(findRequestParameters.getSequencingOrder());
+            historicalFindRequestParameters.setPageSize(findRequestParameters.getPageSize());
+        }
+
+        return this.getRelationshipsAndEntitiesForEntity(serverName, userId, entityGUID, historicalFindRequestParameters, methodName);
+    }
+
+
+    /**
+     * Return the relationships for a specific entity along with the entities at the other end of these
+     * relationships, as they were at the requested time.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier for the entity.
+     * @param findRequestParameters find parameters used to limit the returned results.
+     * @return InstanceGraphResponse:
+     * the page of relationships and the entities at their other ends.  Null means no relationships associated
+     * with the entity or
+     * InvalidParameterException a parameter is invalid or null or
+     * TypeErrorException the type guid passed on the request is not known by the metadata collection or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored or
+     * EntityNotKnownException the requested entity instance is not known in the metadata collection or
+     * PropertyErrorException the sequencing property is not valid for the attached classifications or
+     * PagingErrorException the paging/sequencing parameters are set up incorrectly or
+     * FunctionNotSupportedException the repository does not support asOfTime parameter or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceGraphResponse getRelationshipsAndEntitiesForEntityHistory(String                           serverName,
+                                                                             String                           userId,
+                                                                             String                           entityGUID,
+                                                                             TypeLimitedHistoricalFindRequest findRequestParameters)
+    {
+        final  String   methodName = "getRelationshipsAndEntitiesForEntityHistory";
+
+        return this.getRelationshipsAndEntitiesForEntity(serverName, userId, entityGUID, findRequestParameters, methodName);
+    }
+
+
+    /**
+     * Issue the getRelationshipsAndEntitiesForEntity request to the metadata collection and format the response.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier for the entity.
+     * @param findRequestParameters find parameters used to limit the returned results.
+     * @param methodName calling method
+     * @return InstanceGraphResponse
+     */
+    private InstanceGraphResponse getRelationshipsAndEntitiesForEntity(String                           serverName,
+                                                                       String                           userId,
+                                                                       String                           entityGUID,
+                                                                       TypeLimitedHistoricalFindRequest findRequestParameters,
+                                                                       String                           methodName)
+    {
+        log.debug("Calling method: " + methodName);
+
+        String               relationshipTypeGUID    = null;
+        int                  fromRelationshipElement = 0;
+        List<InstanceStatus> limitResultsByStatus    = null;
+        Date                 asOfTime                = null;
+        String               sequencingProperty      = null;
+        SequencingOrder      sequencingOrder         = null;
+        int                  pageSize                = 0;
+
+        InstanceGraphResponse response = new InstanceGraphResponse();
+
+        if (findRequestParameters != null)
+        {
+            relationshipTypeGUID    = findRequestParameters.getTypeGUID();
+            fromRelationshipElement = findRequestParameters.getOffset();
+            limitResultsByStatus    = findRequestParameters.getLimitResultsByStatus();
+            asOfTime                = findRequestParameters.getAsOfTime();
+            sequencingProperty      = findRequestParameters.getSequencingProperty();
+            sequencingOrder         = findRequestParameters.getSequencingOrder();
+            pageSize                = findRequestParameters.getPageSize();
+        }
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+            InstanceGraph instanceGraph = metadataCollection.getRelationshipsAndEntitiesForEntity(userId,
+                                                                                                  entityGUID,
+                                                                                                  relationshipTypeGUID,
+                                                                                                  fromRelationshipElement,
+                                                                                                  limitResultsByStatus,
+                                                                                                  asOfTime,
+                                                                                                  sequencingProperty,
+                                                                                                  sequencingOrder,
+                                                                                                  pageSize);
+            if (instanceGraph != null)
+            {
+                response.setEntityElementList(instanceGraph.getEntities());
+                response.setRelationshipElementList(instanceGraph.getRelationships());
+            }
+        }
+        catch (RepositoryErrorException error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (FunctionNotSupportedException error)
+        {
+            captureFunctionNotSupportedException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (EntityNotKnownException error)
+        {
+            captureEntityNotKnownException(response, error);
+        }
+        catch (PropertyErrorException error)
+        {
+            capturePropertyErrorException(response, error);
+        }
+        catch (TypeErrorException error)
+        {
+            captureTypeErrorException(response, error);
+        }
+        catch (PagingErrorException error)
+        {
+            capturePagingErrorException(response, error);
+        }
+        catch (Exception error)
+        {
+            captureGenericException(response, error, userId, serverName, methodName);
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
+
+
     /**
      * Return a list of entities that match the supplied conditions.  The results can be returned over many pages.
      *
@@ -4609,6 +4894,7 @@ public class OMRSRepositoryRESTServices
      *                                  the metadata collection is stored or
      * EntityNotKnownException the entity identified by the entityGUID is not found in the metadata collection or
      * PropertyErrorException there is a problem with one of the other parameters or
+     * PagingErrorException the paging parameters are set up incorrectly or
      * FunctionNotSupportedException the repository does not support asOfTime parameter or
      * UserNotAuthorizedException the userId is not permitted to perform this operation.
      */
@@ -4626,6 +4912,8 @@ public class OMRSRepositoryRESTServices
         List<String>         relationshipTypeGUIDs          = null;
         List<InstanceStatus> limitResultsByStatus           = null;
         List<String>         limitResultsByClassification   = null;
+        int                  offset                         = 0;
+        int                  pageSize                       = 0;
 
         InstanceGraphResponse response = new InstanceGraphResponse();
 
@@ -4635,24 +4923,46 @@ public class OMRSRepositoryRESTServices
             relationshipTypeGUIDs = findRequestParameters.getRelationshipTypeGUIDs();
             limitResultsByStatus = findRequestParameters.getLimitResultsByStatus();
             limitResultsByClassification = findRequestParameters.getLimitResultsByClassification();
+            offset = findRequestParameters.getOffset();
+            pageSize = findRequestParameters.getPageSize();
         }
 
         try
         {
             OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
 
-            InstanceGraph instanceGraph = metadataCollection.getEntityNeighborhood(userId,
-                                                                                   entityGUID,
-                                                                                   entityTypeGUIDs,
-                                                                                   relationshipTypeGUIDs,
-                                                                                   limitResultsByStatus,
-                                                                                   limitResultsByClassification,
-                                                                                   null,
-                                                                                   level);
+            InstanceGraph instanceGraph;
+
+            if ((offset == 0) && (pageSize == 0))
+            {
+                instanceGraph = metadataCollection.getEntityNeighborhood(userId,
+                                                                         entityGUID,
+                                                                         entityTypeGUIDs,
+                                                                         relationshipTypeGUIDs,
+                                                                         limitResultsByStatus,
+                                                                         limitResultsByClassification,
+                                                                         null,
+                                                                         level);
+            }
+            else
+            {
+                instanceGraph = metadataCollection.getEntityNeighborhood(userId,
+                                                                         entityGUID,
+                                                                         entityTypeGUIDs,
+                                                                         relationshipTypeGUIDs,
+                                                                         limitResultsByStatus,
+                                                                         limitResultsByClassification,
+                                                                         null,
+                                                                         level,
+                                                                         offset,
+                                                                         pageSize);
+            }
+
             if (instanceGraph != null)
             {
                 response.setEntityElementList(instanceGraph.getEntities());
                 response.setRelationshipElementList(instanceGraph.getRelationships());
+                response.setTruncated(instanceGraph.isTruncated());
             }
         }
         catch (RepositoryErrorException  error)
@@ -4683,6 +4993,10 @@ public class OMRSRepositoryRESTServices
         {
             captureTypeErrorException(response, error);
         }
+        catch (PagingErrorException error)
+        {
+            capturePagingErrorException(response, error);
+        }
         catch (Exception error)
         {
             captureGenericException(response, error, userId, serverName, methodName);
@@ -4712,6 +5026,7 @@ public class OMRSRepositoryRESTServices
      *                                  the metadata collection is stored or
      * EntityNotKnownException the entity identified by the entityGUID is not found in the metadata collection or
      * PropertyErrorException there is a problem with one of the other parameters or
+     * PagingErrorException the paging parameters are set up incorrectly or
      * FunctionNotSupportedException the repository does not support asOfTime parameter or
      * UserNotAuthorizedException the userId is not permitted to perform this operation.
      */
@@ -4729,6 +5044,8 @@ public class OMRSRepositoryRESTServices
         List<String>         relationshipTypeGUIDs          = null;
         List<InstanceStatus> limitResultsByStatus           = null;
         List<String>         limitResultsByClassification   = null;
+        int                  offset                         = 0;
+        int                  pageSize                       = 0;
         Date                 asOfTime                       = null;
 
         InstanceGraphResponse response = new InstanceGraphResponse();
@@ -4740,24 +5057,46 @@ public class OMRSRepositoryRESTServices
             limitResultsByStatus = findRequestParameters.getLimitResultsByStatus();
             asOfTime = findRequestParameters.getAsOfTime();
             limitResultsByClassification = findRequestParameters.getLimitResultsByClassification();
+            offset = findRequestParameters.getOffset();
+            pageSize = findRequestParameters.getPageSize();
         }
 
         try
         {
             OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
 
-            InstanceGraph instanceGraph = metadataCollection.getEntityNeighborhood(userId,
-                                                                                   entityGUID,
-                                                                                   entityTypeGUIDs,
-                                                                                   relationshipTypeGUIDs,
-                                                                                   limitResultsByStatus,
-                                                                                   limitResultsByClassification,
-                                                                                   asOfTime,
-                                                                                   level);
+            InstanceGraph instanceGraph;
+
+            if ((offset == 0) && (pageSize == 0))
+            {
+                instanceGraph = metadataCollection.getEntityNeighborhood(userId,
+                                                                         entityGUID,
+                                                                         entityTypeGUIDs,
+                                                                         relationshipTypeGUIDs,
+                                                                         limitResultsByStatus,
+                                                                         limitResultsByClassification,
+                                                                         asOfTime,
+                                                                         level);
+            }
+            else
+            {
+                instanceGraph = metadataCollection.getEntityNeighborhood(userId,
+                                                                         entityGUID,
+                                                                         entityTypeGUIDs,
+                                                                         relationshipTypeGUIDs,
+                                                                         limitResultsByStatus,
+                                                                         limitResultsByClassification,
+                                                                         asOfTime,
+                                                                         level,
+                                                                         offset,
+                                                                         pageSize);
+            }
+
             if (instanceGraph != null)
             {
                 response.setEntityElementList(instanceGraph.getEntities());
                 response.setRelationshipElementList(instanceGraph.getRelationships());
+                response.setTruncated(instanceGraph.isTruncated());
             }
         }
         catch (RepositoryErrorException  error)
@@ -4788,6 +5127,10 @@ public class OMRSRepositoryRESTServices
         {
             captureTypeErrorException(response, error);
         }
+        catch (PagingErrorException error)
+        {
+            capturePagingErrorException(response, error);
+        }
         catch (Exception error)
         {
             captureGenericException(response, error, userId, serverName, methodName);
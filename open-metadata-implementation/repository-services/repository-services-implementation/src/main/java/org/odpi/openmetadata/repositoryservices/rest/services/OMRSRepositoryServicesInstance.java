@@ -7,6 +7,7 @@ import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
 import org.odpi.openmetadata.repositoryservices.metadatahighway.OMRSMetadataHighwayManager;
 
 
@@ -17,6 +18,7 @@ public class OMRSRepositoryServicesInstance extends OMAGServerServiceInstance
 {
     private OMRSAuditLog                 masterAuditLog;
     private OMRSMetadataCollection       localMetadataCollection;
+    private OMRSRepositoryContentManager localRepositoryContentManager;
     private OMRSMetadataCollection       enterpriseMetadataCollection;
     private OMRSMetadataHighwayManager   metadataHighwayManager;
     private String                       localServerURL;
@@ -30,6 +32,7 @@ public class OMRSRepositoryServicesInstance extends OMAGServerServiceInstance
      * @param localServerName name of this server
      * @param masterAuditLog audit log at the top of the tree
      * @param localRepositoryConnector link to the repository responsible for servicing the REST calls to the local repository.
+     * @param localRepositoryContentManager manager of the types known to the local repository.
      * @param enterpriseRepositoryConnector link to the repository responsible for servicing the REST calls to the enterprise.
      * @param metadataHighwayManager manager of the cohort managers
      * @param localServerURL URL of the local server
@@ -40,6 +43,7 @@ public class OMRSRepositoryServicesInstance extends OMAGServerServiceInstance
     public OMRSRepositoryServicesInstance(String                       localServerName,
                                           OMRSAuditLog                 masterAuditLog,
                                           OMRSRepositoryConnector      localRepositoryConnector,
+                                          OMRSRepositoryContentManager localRepositoryContentManager,
                                           OMRSRepositoryConnector      enterpriseRepositoryConnector,
                                           OMRSMetadataHighwayManager   metadataHighwayManager,
                                           String                       localServerURL,
@@ -53,6 +57,7 @@ public class OMRSRepositoryServicesInstance extends OMAGServerServiceInstance
         this.auditLog = auditLog;
         this.localServerURL = localServerURL;
         this.metadataHighwayManager = metadataHighwayManager;
+        this.localRepositoryContentManager = localRepositoryContentManager;
 
         /*
          * The local repository connector is null in governance servers, view servers and metadata access points.
@@ -122,6 +127,17 @@ public class OMRSRepositoryServicesInstance extends OMAGServerServiceInstance
     }
 
 
+    /**
+     * Return the manager of the types known to the local repository.
+     *
+     * @return OMRSRepositoryContentManager object or null if there is no local repository
+     */
+    public OMRSRepositoryContentManager getLocalRepositoryContentManager()
+    {
+        return localRepositoryContentManager;
+    }
+
+
     /**
      * Return the enterprise metadata collection for this instance.
      *
@@ -0,0 +1,342 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.RelationshipDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEventType;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test that the OMRS topic connector only passes instance events to the listeners that are interested in the
+ * type of the instance, or one of its super types.
+ */
+public class OMRSTopicConnectorTest
+{
+    private static final String sourceName = "TestSource";
+
+
+    /**
+     * Listener that records the events it receives.
+     */
+    private static class RecordingListener implements OMRSTopicListener
+    {
+        private final List<String> interestingTypeNames;
+        private final List<String> receivedEvents = Collections.synchronizedList(new ArrayList<>());
+
+        RecordingListener(List<String> interestingTypeNames)
+        {
+            this.interestingTypeNames = interestingTypeNames;
+        }
+
+        @Override
+        public List<String> getInterestingInstanceTypeNames()
+        {
+            return interestingTypeNames;
+        }
+
+        @Override
+        public void processRegistryEvent(OMRSRegistryEvent event)
+        {
+            receivedEvents.add("registry");
+        }
+
+        @Override
+        public void processTypeDefEvent(OMRSTypeDefEvent event)
+        {
+            receivedEvents.add("typeDef");
+        }
+
+        @Override
+        public void processInstanceEvent(OMRSInstanceEvent event)
+        {
+            receivedEvents.add(event.getTypeDefName());
+        }
+
+        List<String> getReceivedEvents()
+        {
+            synchronized (receivedEvents)
+            {
+                return new ArrayList<>(receivedEvents);
+            }
+        }
+    }
+
+
+    /**
+     * Build a type.
+     *
+     * @param typeDef empty entity or relationship type
+     * @param name name of the type
+     * @param superTypeName name of the super type or null
+     * @return type
+     */
+    private TypeDef getTypeDef(TypeDef typeDef,
+                               String  name,
+                               String  superTypeName)
+    {
+        typeDef.setGUID(name + "-guid");
+        typeDef.setName(name);
+
+        if (superTypeName != null)
+        {
+            TypeDefLink superType = new TypeDefLink();
+
+            superType.setGUID(superTypeName + "-guid");
+            superType.setName(superTypeName);
+            typeDef.setSuperType(superType);
+        }
+
+        return typeDef;
+    }
+
+
+    /**
+     * Return an audit log that ignores its records.
+     *
+     * @return audit log
+     */
+    private AuditLog getAuditLog()
+    {
+        AuditLogDestination destination = new AuditLogDestination(null)
+        {
+            @Override
+            public void addLogRecord(AuditLogRecord logRecord)
+            {
+            }
+        };
+
+        return new AuditLog(destination, 0, "Test", "Test", null);
+    }
+
+
+    /**
+     * Return a content manager that knows Referenceable, Asset, DataSet, GlossaryTerm and the SemanticAssignment
+     * relationship.
+     *
+     * @return content manager
+     */
+    private OMRSRepositoryContentManager getContentManager()
+    {
+        OMRSRepositoryContentManager contentManager = new OMRSRepositoryContentManager("testUser", null);
+
+        contentManager.addTypeDef(sourceName, getTypeDef(new EntityDef(), "Referenceable", null));
+        contentManager.addTypeDef(sourceName, getTypeDef(new EntityDef(), "Asset", "Referenceable"));
+        contentManager.addTypeDef(sourceName, getTypeDef(new EntityDef(), "DataSet", "Asset"));
+        contentManager.addTypeDef(sourceName, getTypeDef(new EntityDef(), "GlossaryTerm", "Referenceable"));
+        contentManager.addTypeDef(sourceName, getTypeDef(new RelationshipDef(), "SemanticAssignment", null));
+
+        return contentManager;
+    }
+
+
+    /**
+     * Return the type identifiers for the named types.
+     *
+     * @param helper repository helper
+     * @param typeNames names of the types
+     * @return type identifiers
+     */
+    private int[] getTypeIds(OMRSRepositoryContentHelper helper,
+                             String...                   typeNames)
+    {
+        int[] typeIds = new int[typeNames.length];
+
+        for (int i = 0; i < typeNames.length; i++)
+        {
+            typeIds[i] = helper.getTypeDefId(sourceName, typeNames[i]);
+        }
+
+        return typeIds;
+    }
+
+
+    /**
+     * Return the JSON form of an event as it is received from the topic.
+     *
+     * @param event event to send
+     * @return JSON
+     */
+    private String getJSON(OMRSEvent event) throws Exception
+    {
+        return new ObjectMapper().writeValueAsString(event.getOMRSEventV1());
+    }
+
+
+    /**
+     * Return an entity of the named type.
+     *
+     * @param typeName name of the type
+     * @return entity
+     */
+    private EntityDetail getEntity(String typeName)
+    {
+        EntityDetail entity       = new EntityDetail();
+        InstanceType instanceType = new InstanceType();
+
+        instanceType.setTypeDefGUID(typeName + "-guid");
+        instanceType.setTypeDefName(typeName);
+        entity.setGUID(typeName + "-entity");
+        entity.setType(instanceType);
+
+        return entity;
+    }
+
+
+    @Test
+    void testSubTypesMatch()
+    {
+        OMRSRepositoryContentHelper helper   = new OMRSRepositoryContentHelper(getContentManager());
+        OMRSTopicListenerWrapper    listener = new OMRSTopicListenerWrapper(new RecordingListener(Collections.singletonList("Asset")), sourceName, null);
+
+        assertTrue(listener.isInterestedInInstanceEvent(helper, getTypeIds(helper, "Asset")));
+        assertTrue(listener.isInterestedInInstanceEvent(helper, getTypeIds(helper, "DataSet")));
+        assertFalse(listener.isInterestedInInstanceEvent(helper, getTypeIds(helper, "Referenceable")));
+        assertFalse(listener.isInterestedInInstanceEvent(helper, getTypeIds(helper, "GlossaryTerm")));
+        assertFalse(listener.isInterestedInInstanceEvent(helper, getTypeIds(helper, "SemanticAssignment")));
+    }
+
+
+    @Test
+    void testRetypedInstances()
+    {
+        OMRSRepositoryContentHelper helper   = new OMRSRepositoryContentHelper(getContentManager());
+        OMRSTopicListenerWrapper    listener = new OMRSTopicListenerWrapper(new RecordingListener(Collections.singletonList("Asset")), sourceName, null);
+
+        /*
+         * A retyped instance matches on either its new type or its original type.
+         */
+        assertTrue(listener.isInterestedInInstanceEvent(helper, getTypeIds(helper, "GlossaryTerm", "DataSet")));
+        assertTrue(listener.isInterestedInInstanceEvent(helper, getTypeIds(helper, "DataSet", "GlossaryTerm")));
+        assertFalse(listener.isInterestedInInstanceEvent(helper, getTypeIds(helper, "GlossaryTerm", "Referenceable")));
+    }
+
+
+    @Test
+    void testUnknownTypesAndMissingInterests()
+    {
+        OMRSRepositoryContentHelper helper   = new OMRSRepositoryContentHelper(getContentManager());
+        OMRSTopicListenerWrapper    listener = new OMRSTopicListenerWrapper(new RecordingListener(Collections.singletonList("Asset")), sourceName, null);
+
+        /*
+         * Instances of unknown types, and events without a type, are passed on so the listener can deal with them.
+         */
+        assertTrue(listener.isInterestedInInstanceEvent(helper, getTypeIds(helper, "UnknownType")));
+        assertTrue(listener.isInterestedInInstanceEvent(helper, getTypeIds(helper, "GlossaryTerm", "UnknownType")));
+        assertTrue(listener.isInterestedInInstanceEvent(helper, null));
+        assertTrue(listener.isInterestedInInstanceEvent(null, getTypeIds(helper, "GlossaryTerm")));
+
+        /*
+         * A listener that does not declare its interests receives every event.  A listener that is only interested
+         * in a type that is not known does not receive the events for the known types.
+         */
+        OMRSTopicListenerWrapper allEventsListener   = new OMRSTopicListenerWrapper(new RecordingListener(null), sourceName, null);
+        OMRSTopicListenerWrapper unknownTypeListener = new OMRSTopicListenerWrapper(new RecordingListener(Collections.singletonList("UnknownType")), sourceName, null);
+
+        assertTrue(allEventsListener.isInterestedInInstanceEvent(helper, getTypeIds(helper, "GlossaryTerm")));
+        assertFalse(unknownTypeListener.isInterestedInInstanceEvent(helper, getTypeIds(helper, "GlossaryTerm")));
+    }
+
+
+    @Test
+    void testRecompiledWhenTheTypesChange()
+    {
+        OMRSRepositoryContentManager contentManager = getContentManager();
+        OMRSRepositoryContentHelper  helper         = new OMRSRepositoryContentHelper(contentManager);
+        OMRSTopicListenerWrapper     listener       = new OMRSTopicListenerWrapper(new RecordingListener(Arrays.asList("Asset", "Process")), sourceName, null);
+
+        assertFalse(listener.isInterestedInInstanceEvent(helper, getTypeIds(helper, "GlossaryTerm")));
+
+        /*
+         * A new subtype of Asset, and a type that was unknown when the interests were first compiled.
+         */
+        contentManager.addTypeDef(sourceName, getTypeDef(new EntityDef(), "DataFile", "DataSet"));
+        contentManager.addTypeDef(sourceName, getTypeDef(new EntityDef(), "Process", "Referenceable"));
+
+        assertTrue(listener.isInterestedInInstanceEvent(helper, getTypeIds(helper, "DataFile")));
+        assertTrue(listener.isInterestedInInstanceEvent(helper, getTypeIds(helper, "Process")));
+        assertFalse(listener.isInterestedInInstanceEvent(helper, getTypeIds(helper, "GlossaryTerm")));
+
+        /*
+         * The super type of GlossaryTerm is changed to Asset.
+         */
+        contentManager.updateTypeDef(sourceName, getTypeDef(new EntityDef(), "GlossaryTerm", "Asset"));
+
+        assertTrue(listener.isInterestedInInstanceEvent(helper, getTypeIds(helper, "GlossaryTerm")));
+    }
+
+
+    @Test
+    void testEventsRoutedByTheConnector() throws Exception
+    {
+        OMRSRepositoryContentHelper helper            = new OMRSRepositoryContentHelper(getContentManager());
+        OMRSTopicConnector          connector         = new OMRSTopicConnector();
+        RecordingListener           assetListener     = new RecordingListener(Collections.singletonList("Asset"));
+        RecordingListener           termListener      = new RecordingListener(Arrays.asList("GlossaryTerm", "SemanticAssignment"));
+        RecordingListener           allEventsListener = new RecordingListener(null);
+
+        connector.setRepositoryHelper(helper);
+        connector.setAuditLog(getAuditLog());
+        connector.registerListener(assetListener, sourceName);
+        connector.registerListener(termListener, sourceName);
+        connector.registerListener(allEventsListener, sourceName);
+
+        Relationship relationship     = new Relationship();
+        InstanceType relationshipType = new InstanceType();
+
+        relationshipType.setTypeDefGUID("SemanticAssignment-guid");
+        relationshipType.setTypeDefName("SemanticAssignment");
+        relationship.setGUID("relationship-guid");
+        relationship.setType(relationshipType);
+
+        OMRSInstanceEvent retypedEvent = new OMRSInstanceEvent(OMRSInstanceEventType.RETYPED_ENTITY_EVENT, getEntity("GlossaryTerm"));
+        TypeDefSummary    originalType = new TypeDefSummary();
+
+        originalType.setGUID("DataSet-guid");
+        originalType.setName("DataSet");
+        retypedEvent.setOriginalTypeDefSummary(originalType);
+
+        connector.processEvent(getJSON(new OMRSRegistryEvent(OMRSRegistryEventType.REFRESH_REGISTRATION_REQUEST)));
+        connector.processEvent(getJSON(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, getEntity("DataSet"))));
+        connector.processEvent(getJSON(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, getEntity("GlossaryTerm"))));
+        connector.processEvent(getJSON(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT, relationship)));
+        connector.processEvent(getJSON(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, getEntity("UnknownType"))));
+        connector.processEvent(getJSON(retypedEvent));
+
+        assertEquals(assetListener.getReceivedEvents(), Arrays.asList("registry", "DataSet", "UnknownType", "GlossaryTerm"));
+        assertEquals(termListener.getReceivedEvents(), Arrays.asList("registry", "GlossaryTerm", "SemanticAssignment", "UnknownType", "GlossaryTerm"));
+        assertEquals(allEventsListener.getReceivedEvents(), Arrays.asList("registry", "DataSet", "GlossaryTerm", "SemanticAssignment", "UnknownType", "GlossaryTerm"));
+
+        /*
+         * Without a repository helper every event goes to every listener.
+         */
+        connector.setRepositoryHelper(null);
+        connector.processEvent(getJSON(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, getEntity("GlossaryTerm"))));
+
+        assertEquals(assetListener.getReceivedEvents().get(4), "GlossaryTerm");
+    }
+}
@@ -0,0 +1,215 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeException;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the freezing of the instances returned by the enterprise connector.
+ */
+public class EnterpriseFrozenInstancesTest
+{
+    private static final String metadataCollectionId = "remote-collection";
+    private static final String propertyName         = "name";
+
+
+    /**
+     * Return properties with a single string property.
+     *
+     * @param value value of the property
+     * @return properties
+     */
+    private InstanceProperties getProperties(String value)
+    {
+        InstanceProperties     properties    = new InstanceProperties();
+        PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+
+        propertyValue.setPrimitiveValue(value);
+        properties.setProperty(propertyName, propertyValue);
+
+        return properties;
+    }
+
+
+    /**
+     * Return an entity as it would be held by a repository.
+     *
+     * @param guid unique identifier
+     * @return entity
+     */
+    private EntityDetail getEntity(String guid)
+    {
+        EntityDetail   entity         = new EntityDetail();
+        Classification classification = new Classification();
+
+        classification.setName("Confidentiality");
+        classification.setProperties(getProperties("secret"));
+
+        entity.setGUID(guid);
+        entity.setVersion(1);
+        entity.setMetadataCollectionId(metadataCollectionId);
+        entity.setProperties(getProperties(guid));
+        entity.setClassifications(new ArrayList<>(Collections.singletonList(classification)));
+
+        return entity;
+    }
+
+
+    /**
+     * Return a relationship as it would be held by a repository.
+     *
+     * @param guid unique identifier
+     * @return relationship
+     */
+    private Relationship getRelationship(String guid)
+    {
+        Relationship relationship = new Relationship();
+        EntityProxy  entityOne    = new EntityProxy();
+        EntityProxy  entityTwo    = new EntityProxy();
+
+        entityOne.setGUID("entity1");
+        entityTwo.setGUID("entity2");
+
+        relationship.setGUID(guid);
+        relationship.setVersion(1);
+        relationship.setMetadataCollectionId(metadataCollectionId);
+        relationship.setProperties(getProperties(guid));
+        relationship.setEntityOneProxy(entityOne);
+        relationship.setEntityTwoProxy(entityTwo);
+
+        return relationship;
+    }
+
+
+    @Test
+    void testNulls()
+    {
+        assertNull(EnterpriseFrozenInstances.getFrozenCopy((EntityDetail) null));
+        assertNull(EnterpriseFrozenInstances.getFrozenCopy((Relationship) null));
+        assertNull(EnterpriseFrozenInstances.getFrozenRelationshipCopies(null));
+        assertNull(EnterpriseFrozenInstances.getFrozenEntities(null));
+    }
+
+
+    @Test
+    void testEntityCopyIsFrozen()
+    {
+        EntityDetail repositoryEntity = getEntity("guid1");
+        EntityDetail frozenEntity     = EnterpriseFrozenInstances.getFrozenCopy(repositoryEntity);
+
+        assertFalse(frozenEntity == repositoryEntity);
+        assertTrue(frozenEntity.isFrozen());
+        assertTrue(frozenEntity.getClassifications().get(0).isFrozen());
+        assertFalse(repositoryEntity.isFrozen());
+        assertEquals(frozenEntity, repositoryEntity);
+
+        /*
+         * The repository can go on changing the entity that it holds.
+         */
+        repositoryEntity.setVersion(2);
+        repositoryEntity.setProperties(getProperties("changed"));
+
+        assertEquals(frozenEntity.getVersion(), 1);
+        assertEquals(frozenEntity.getProperties(), getProperties("guid1"));
+
+        /*
+         * The caller can not change the entity, but can change the properties it is given.
+         */
+        assertThrows(OMRSRuntimeException.class, () -> frozenEntity.setVersion(3));
+        assertThrows(OMRSRuntimeException.class, () -> frozenEntity.getClassifications().get(0).setName("Other"));
+        assertThrows(UnsupportedOperationException.class, () -> frozenEntity.getClassifications().clear());
+
+        InstanceProperties properties = frozenEntity.getProperties();
+
+        properties.setProperty(propertyName, null);
+
+        assertEquals(properties.getPropertyCount(), 0);
+        assertEquals(frozenEntity.getProperties(), getProperties("guid1"));
+
+        EntityDetail updatedEntity = new EntityDetail(frozenEntity);
+
+        updatedEntity.setVersion(3);
+
+        assertFalse(updatedEntity.isFrozen());
+        assertEquals(frozenEntity.getVersion(), 1);
+    }
+
+
+    @Test
+    void testRelationshipCopyIsFrozen()
+    {
+        Relationship repositoryRelationship = getRelationship("guid1");
+        Relationship frozenRelationship     = EnterpriseFrozenInstances.getFrozenCopy(repositoryRelationship);
+
+        assertFalse(frozenRelationship == repositoryRelationship);
+        assertTrue(frozenRelationship.isFrozen());
+        assertTrue(frozenRelationship.getEntityOneProxy().isFrozen());
+        assertFalse(repositoryRelationship.isFrozen());
+        assertEquals(frozenRelationship, repositoryRelationship);
+
+        repositoryRelationship.getEntityOneProxy().setGUID("entity3");
+        repositoryRelationship.setProperties(getProperties("changed"));
+
+        assertEquals(frozenRelationship.getEntityOneProxy().getGUID(), "entity1");
+        assertEquals(frozenRelationship.getProperties(), getProperties("guid1"));
+
+        assertThrows(OMRSRuntimeException.class, () -> frozenRelationship.setEntityTwoProxy(null));
+        assertThrows(OMRSRuntimeException.class, () -> frozenRelationship.getEntityTwoProxy().setGUID("entity3"));
+    }
+
+
+    @Test
+    void testRelationshipListIsCopied()
+    {
+        List<Relationship> repositoryRelationships = Arrays.asList(getRelationship("guid1"), null, getRelationship("guid2"));
+        List<Relationship> frozenRelationships     = EnterpriseFrozenInstances.getFrozenRelationshipCopies(repositoryRelationships);
+
+        assertFalse(frozenRelationships == repositoryRelationships);
+        assertEquals(frozenRelationships.size(), 3);
+        assertNull(frozenRelationships.get(1));
+
+        for (int i : new int[]{ 0, 2 })
+        {
+            assertTrue(frozenRelationships.get(i).isFrozen());
+            assertFalse(repositoryRelationships.get(i).isFrozen());
+            assertEquals(frozenRelationships.get(i), repositoryRelationships.get(i));
+        }
+
+        assertTrue(EnterpriseFrozenInstances.getFrozenRelationshipCopies(new ArrayList<>()).isEmpty());
+    }
+
+
+    @Test
+    void testAccumulatedEntitiesAreFrozenInPlace()
+    {
+        EntityDetail       entity1  = getEntity("guid1");
+        EntityDetail       entity2  = getEntity("guid2");
+        List<EntityDetail> entities = Arrays.asList(entity1, null, entity2);
+
+        assertSame(EnterpriseFrozenInstances.getFrozenEntities(entities), entities);
+        assertSame(entities.get(0), entity1);
+        assertTrue(entity1.isFrozen());
+        assertTrue(entity2.isFrozen());
+        assertNull(entities.get(1));
+
+        /*
+         * Freezing again has no effect.
+         */
+        assertSame(EnterpriseFrozenInstances.getFrozenEntities(entities), entities);
+        assertEquals(entity1.getProperties(), getProperties("guid1"));
+    }
+}
@@ -0,0 +1,233 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the behaviour of the enterprise instance cache.
+ */
+public class EnterpriseInstanceCacheTest
+{
+    private static final String homeMetadataCollectionId = "remote-collection";
+    private static final String userId                   = "user1";
+    private static final String otherUserId              = "user2";
+
+
+    /**
+     * Return an entity as it would be retrieved from a remote member.
+     *
+     * @param guid unique identifier
+     * @param version version number
+     * @return entity
+     */
+    private EntityDetail getEntity(String guid,
+                                   long   version)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setVersion(version);
+        entity.setMetadataCollectionId(homeMetadataCollectionId);
+
+        return entity;
+    }
+
+
+    @Test
+    void testHitAndMiss()
+    {
+        EnterpriseInstanceCache cache = new EnterpriseInstanceCache(10, 300, null);
+
+        assertNull(cache.getEntity(userId, "guid1"));
+
+        cache.saveEntity(userId, getEntity("guid1", 1), cache.getGeneration());
+
+        assertNotNull(cache.getEntity(userId, "guid1"));
+        assertEquals(cache.getEntity(userId, "guid1").getVersion(), 1);
+        assertNull(cache.getRelationship(userId, "guid1"));
+
+        assertEquals(cache.getHitCount(), 2);
+        assertEquals(cache.getMissCount(), 2);
+        assertEquals(cache.getHitRate(), 50);
+        assertEquals(cache.getHomeMetadataCollectionId("guid1"), homeMetadataCollectionId);
+    }
+
+
+    @Test
+    void testOnlyReturnedToPermittedUsers()
+    {
+        EnterpriseInstanceCache cache = new EnterpriseInstanceCache(10, 300, null);
+
+        cache.saveEntity(userId, getEntity("guid1", 1), cache.getGeneration());
+
+        assertNotNull(cache.getEntity(userId, "guid1"));
+        assertNull(cache.getEntity(otherUserId, "guid1"));
+
+        /*
+         * Once the member has returned the same version to the other user, it is shared.
+         */
+        cache.saveEntity(otherUserId, getEntity("guid1", 1), cache.getGeneration());
+
+        assertNotNull(cache.getEntity(otherUserId, "guid1"));
+        assertNotNull(cache.getEntity(userId, "guid1"));
+    }
+
+
+    @Test
+    void testLaterVersionReplacesCachedInstance()
+    {
+        EnterpriseInstanceCache cache = new EnterpriseInstanceCache(10, 300, null);
+
+        cache.saveEntity(userId, getEntity("guid1", 2), cache.getGeneration());
+        cache.saveEntity(userId, getEntity("guid1", 1), cache.getGeneration());
+
+        assertEquals(cache.getEntity(userId, "guid1").getVersion(), 2);
+
+        /*
+         * A later version only starts with the user that retrieved it.
+         */
+        cache.saveEntity(otherUserId, getEntity("guid1", 3), cache.getGeneration());
+
+        assertEquals(cache.getEntity(otherUserId, "guid1").getVersion(), 3);
+        assertNull(cache.getEntity(userId, "guid1"));
+    }
+
+
+    @Test
+    void testTimeToLive() throws InterruptedException
+    {
+        EnterpriseInstanceCache cache = new EnterpriseInstanceCache(10, 0, null);
+
+        cache.saveEntity(userId, getEntity("guid1", 1), cache.getGeneration());
+
+        Thread.sleep(5);
+
+        assertNull(cache.getEntity(userId, "guid1"));
+        assertEquals(cache.getCacheSize(), 0);
+
+        /*
+         * The home is still known so the next request can go straight to it.
+         */
+        assertEquals(cache.getHomeMetadataCollectionId("guid1"), homeMetadataCollectionId);
+    }
+
+
+    @Test
+    void testEviction()
+    {
+        EnterpriseInstanceCache cache = new EnterpriseInstanceCache(2, 300, null);
+
+        cache.saveEntity(userId, getEntity("guid1", 1), cache.getGeneration());
+        cache.saveEntity(userId, getEntity("guid2", 1), cache.getGeneration());
+        cache.getEntity(userId, "guid1");
+        cache.saveEntity(userId, getEntity("guid3", 1), cache.getGeneration());
+
+        assertEquals(cache.getCacheSize(), 2);
+        assertEquals(cache.getEvictionCount(), 1);
+        assertNotNull(cache.getEntity(userId, "guid1"));
+        assertNull(cache.getEntity(userId, "guid2"));
+    }
+
+
+    @Test
+    void testInvalidationByEvents()
+    {
+        EnterpriseInstanceCache cache = new EnterpriseInstanceCache(10, 300, null);
+
+        cache.saveEntity(userId, getEntity("guid1", 1), cache.getGeneration());
+
+        /*
+         * A refresh of the cached version is not a change.
+         */
+        cache.processInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.REFRESHED_ENTITY_EVENT, getEntity("guid1", 1)));
+
+        assertNotNull(cache.getEntity(userId, "guid1"));
+        assertEquals(cache.getInvalidationCount(), 0);
+
+        cache.processInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT,
+                                                         getEntity("guid1", 1),
+                                                         getEntity("guid1", 2)));
+
+        assertNull(cache.getEntity(userId, "guid1"));
+        assertEquals(cache.getInvalidationCount(), 1);
+        assertEquals(cache.getHomeMetadataCollectionId("guid1"), homeMetadataCollectionId);
+
+        Relationship relationship = new Relationship();
+
+        relationship.setGUID("guid2");
+        relationship.setVersion(1);
+        relationship.setMetadataCollectionId(homeMetadataCollectionId);
+
+        cache.saveRelationship(userId, relationship, cache.getGeneration());
+
+        assertNotNull(cache.getRelationship(userId, "guid2"));
+
+        cache.processInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.PURGED_RELATIONSHIP_EVENT, relationship));
+
+        assertNull(cache.getRelationship(userId, "guid2"));
+        assertNull(cache.getHomeMetadataCollectionId("guid2"));
+    }
+
+
+    @Test
+    void testInFlightReadRacingInvalidation()
+    {
+        EnterpriseInstanceCache cache = new EnterpriseInstanceCache(10, 300, null);
+
+        cache.saveEntity(userId, getEntity("guid1", 1), cache.getGeneration());
+
+        /*
+         * A read starts, then the instance is changed before the read completes with the old version.
+         */
+        long readGeneration = cache.getGeneration();
+
+        cache.removeInstance("guid1");
+        cache.saveEntity(userId, getEntity("guid1", 1), readGeneration);
+
+        assertNull(cache.getEntity(userId, "guid1"));
+
+        /*
+         * A read that starts after the change is cached.
+         */
+        cache.saveEntity(userId, getEntity("guid1", 2), cache.getGeneration());
+
+        assertEquals(cache.getEntity(userId, "guid1").getVersion(), 2);
+
+        /*
+         * An event for an instance that is not cached still stops an in-flight read saving the old version.
+         */
+        readGeneration = cache.getGeneration();
+
+        cache.processInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.DELETED_ENTITY_EVENT, getEntity("guid3", 2)));
+        cache.saveEntity(userId, getEntity("guid3", 1), readGeneration);
+
+        assertNull(cache.getEntity(userId, "guid3"));
+    }
+
+
+    @Test
+    void testDroppedTombstoneStillBlocksEarlierReads()
+    {
+        EnterpriseInstanceCache cache = new EnterpriseInstanceCache(1, 300, null);
+
+        long readGeneration = cache.getGeneration();
+
+        cache.removeInstance("guid1");
+        cache.removeInstance("guid2");
+
+        cache.saveEntity(userId, getEntity("guid1", 1), readGeneration);
+
+        assertNull(cache.getEntity(userId, "guid1"));
+
+        cache.saveEntity(userId, getEntity("guid1", 1), cache.getGeneration());
+
+        assertNotNull(cache.getEntity(userId, "guid1"));
+    }
+}
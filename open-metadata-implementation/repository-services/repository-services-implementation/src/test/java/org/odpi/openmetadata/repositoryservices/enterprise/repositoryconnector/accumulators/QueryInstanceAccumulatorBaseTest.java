@@ -0,0 +1,302 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the merge of the sequenced pages returned by the members of the cohorts.
+ */
+public class QueryInstanceAccumulatorBaseTest
+{
+    private static final String methodName = "testMerge";
+
+    private final List<AuditLogRecord> auditLogRecords = new ArrayList<>();
+
+
+    /**
+     * Return an accumulator with an audit log that saves its records.
+     *
+     * @return accumulator
+     */
+    private QueryInstanceAccumulatorBase getAccumulator()
+    {
+        AuditLogDestination destination = new AuditLogDestination(null)
+        {
+            @Override
+            public void addLogRecord(AuditLogRecord logRecord)
+            {
+                auditLogRecords.add(logRecord);
+            }
+        };
+
+        return new QueryInstanceAccumulatorBase(null,
+                                                new AuditLog(destination, 0, "Test", "Test", null),
+                                                null);
+    }
+
+
+    /**
+     * Return an entity.
+     *
+     * @param guid unique identifier
+     * @param version version number
+     * @return entity
+     */
+    private EntityDetail getEntity(String guid,
+                                   long   version)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setVersion(version);
+
+        return entity;
+    }
+
+
+    /**
+     * Return entities with version 1.
+     *
+     * @param guids unique identifiers
+     * @return list of entities
+     */
+    private List<EntityDetail> getEntities(String... guids)
+    {
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (String guid : guids)
+        {
+            entities.add(getEntity(guid, 1));
+        }
+
+        return entities;
+    }
+
+
+    /**
+     * TestMember simulates a member that returns pages from a sequenced list of results.
+     */
+    private static class TestMember implements MemberPageSource<EntityDetail>
+    {
+        private List<EntityDetail> results;
+        private List<Integer>      requestedFromElements = new ArrayList<>();
+        private int                failFromElement       = -1;
+
+
+        TestMember(List<EntityDetail> results)
+        {
+            this.results = results;
+        }
+
+
+        @Override
+        public List<EntityDetail> getPage(int fromElement, int pageSize) throws RepositoryErrorException
+        {
+            requestedFromElements.add(fromElement);
+
+            if ((failFromElement >= 0) && (fromElement >= failFromElement))
+            {
+                throw new RepositoryErrorException(OMRSErrorCode.NO_REPOSITORIES.getMessageDefinition(methodName),
+                                                   this.getClass().getName(),
+                                                   methodName);
+            }
+
+            int start = Math.min(fromElement, results.size());
+            int end   = (pageSize == 0) ? results.size() : Math.min(fromElement + pageSize, results.size());
+
+            return new ArrayList<>(results.subList(start, end));
+        }
+
+
+        MemberCursor<EntityDetail> getCursor(String metadataCollectionId,
+                                             int    pageSize) throws RepositoryErrorException
+        {
+            return new MemberCursor<>(metadataCollectionId, this.getPage(0, pageSize), this, pageSize);
+        }
+    }
+
+
+    /**
+     * Run the merge and return the GUIDs of the page.
+     *
+     * @param accumulator accumulator to use
+     * @param cursors member cursors
+     * @param comparator sequencing
+     * @param fromElement starting element
+     * @param pageSize page size
+     * @param accumulated receives each instance passed to the accumulator
+     * @return guids
+     * @throws RepositoryErrorException a member failed
+     */
+    private List<String> merge(QueryInstanceAccumulatorBase             accumulator,
+                               List<MemberCursor<EntityDetail>>         cursors,
+                               Comparator<EntityDetail>                 comparator,
+                               int                                      fromElement,
+                               int                                      pageSize,
+                               List<EntityDetail>                       accumulated) throws RepositoryErrorException
+    {
+        return accumulator.mergeMemberPages(cursors,
+                                            comparator,
+                                            fromElement,
+                                            pageSize,
+                                            (instance, metadataCollectionId) -> accumulated.add(instance),
+                                            methodName);
+    }
+
+
+    @Test
+    void testMergeInterleavesMembers() throws RepositoryErrorException
+    {
+        TestMember memberOne = new TestMember(getEntities("g1", "g3", "g5", "g7"));
+        TestMember memberTwo = new TestMember(getEntities("g2", "g4", "g6", "g8"));
+
+        List<EntityDetail> accumulated = new ArrayList<>();
+        List<String>       page        = merge(getAccumulator(),
+                                               Arrays.asList(memberOne.getCursor("m1", 2), memberTwo.getCursor("m2", 2)),
+                                               Comparator.comparing(EntityDetail::getGUID),
+                                               2,
+                                               3,
+                                               accumulated);
+
+        assertEquals(page, Arrays.asList("g3", "g4", "g5"));
+        assertEquals(accumulated.size(), 3);
+
+        /*
+         * Only the pages that the merge reached were retrieved.
+         */
+        assertEquals(memberOne.requestedFromElements, Arrays.asList(0, 2));
+        assertEquals(memberTwo.requestedFromElements, Arrays.asList(0, 2));
+    }
+
+
+    @Test
+    void testDuplicatesAreRemovedAndPassedToAccumulator() throws RepositoryErrorException
+    {
+        List<EntityDetail> memberOneResults = getEntities("g1", "g2", "g4");
+        List<EntityDetail> memberTwoResults = new ArrayList<>(Arrays.asList(getEntity("g1", 2), getEntity("g3", 1), getEntity("g4", 3)));
+
+        List<EntityDetail> accumulated = new ArrayList<>();
+        List<String>       page        = merge(getAccumulator(),
+                                               Arrays.asList(new TestMember(memberOneResults).getCursor("m1", 0),
+                                                             new TestMember(memberTwoResults).getCursor("m2", 0)),
+                                               Comparator.comparing(EntityDetail::getGUID),
+                                               0,
+                                               0,
+                                               accumulated);
+
+        assertEquals(page, Arrays.asList("g1", "g2", "g3", "g4"));
+        assertEquals(accumulated.size(), 6);
+    }
+
+
+    @Test
+    void testDuplicateAtPageBoundaryIsSeen() throws RepositoryErrorException
+    {
+        List<EntityDetail> accumulated = new ArrayList<>();
+        List<String>       page        = merge(getAccumulator(),
+                                               Arrays.asList(new TestMember(getEntities("g1", "g2")).getCursor("m1", 1),
+                                                             new TestMember(Arrays.asList(getEntity("g1", 2))).getCursor("m2", 1)),
+                                               Comparator.comparing(EntityDetail::getGUID),
+                                               0,
+                                               1,
+                                               accumulated);
+
+        assertEquals(page, Arrays.asList("g1"));
+        assertEquals(accumulated.size(), 2);
+        assertEquals(accumulated.get(1).getVersion(), 2);
+    }
+
+
+    @Test
+    void testDuplicatesBeforePageAreNotCounted() throws RepositoryErrorException
+    {
+        List<EntityDetail> accumulated = new ArrayList<>();
+        List<String>       page        = merge(getAccumulator(),
+                                               Arrays.asList(new TestMember(getEntities("g1", "g2", "g3")).getCursor("m1", 2),
+                                                             new TestMember(getEntities("g1", "g2", "g4")).getCursor("m2", 2)),
+                                               Comparator.comparing(EntityDetail::getGUID),
+                                               2,
+                                               2,
+                                               accumulated);
+
+        assertEquals(page, Arrays.asList("g3", "g4"));
+    }
+
+
+    @Test
+    void testSingleMemberSkipsToPage() throws RepositoryErrorException
+    {
+        TestMember memberOne = new TestMember(getEntities("g1", "g2", "g3", "g4", "g5", "g6", "g7"));
+        TestMember memberTwo = new TestMember(new ArrayList<>());
+
+        List<EntityDetail> accumulated = new ArrayList<>();
+        List<String>       page        = merge(getAccumulator(),
+                                               Arrays.asList(memberOne.getCursor("m1", 2), memberTwo.getCursor("m2", 2)),
+                                               Comparator.comparing(EntityDetail::getGUID),
+                                               5,
+                                               2,
+                                               accumulated);
+
+        assertEquals(page, Arrays.asList("g6", "g7"));
+        assertEquals(memberOne.requestedFromElements, Arrays.asList(0, 5, 7));
+    }
+
+
+    @Test
+    void testTiesAreTakenInTurn() throws RepositoryErrorException
+    {
+        List<EntityDetail> accumulated = new ArrayList<>();
+        List<String>       page        = merge(getAccumulator(),
+                                               Arrays.asList(new TestMember(getEntities("a1", "a2", "a3")).getCursor("m1", 0),
+                                                             new TestMember(getEntities("b1", "b2")).getCursor("m2", 0),
+                                                             new TestMember(getEntities("c1")).getCursor("m3", 0)),
+                                               (one, two) -> 0,
+                                               0,
+                                               5,
+                                               accumulated);
+
+        assertEquals(page, Arrays.asList("a1", "b1", "c1", "a2", "b2"));
+    }
+
+
+    @Test
+    void testMemberFailureIsReported() throws RepositoryErrorException
+    {
+        TestMember memberOne = new TestMember(getEntities("g1", "g3", "g5", "g7"));
+        TestMember memberTwo = new TestMember(getEntities("g2", "g4", "g6", "g8"));
+
+        memberTwo.failFromElement = 2;
+
+        try
+        {
+            merge(getAccumulator(),
+                  Arrays.asList(memberOne.getCursor("m1", 2), memberTwo.getCursor("m2", 2)),
+                  Comparator.comparing(EntityDetail::getGUID),
+                  0,
+                  6,
+                  new ArrayList<>());
+
+            fail("The merge should fail when a member can not return a page");
+        }
+        catch (RepositoryErrorException error)
+        {
+            assertTrue(error.getReportedErrorMessage().contains("m2"));
+        }
+
+        assertEquals(auditLogRecords.size(), 1);
+    }
+}
@@ -0,0 +1,234 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollectionBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test that the relationships returned by each member for getRelationshipsAndEntitiesForEntity are merged into
+ * the requested page, and that the related entities are returned with them.
+ */
+public class GetRelationshipsAndEntitiesForEntityExecutorTest
+{
+    private static final String userId     = "testUser";
+    private static final String entityGUID = "start";
+    private static final String methodName = "getRelationshipsAndEntitiesForEntity";
+
+
+    /**
+     * Member that returns pages from a list of relationships sequenced by GUID, with the entities at the other end.
+     */
+    private static class TestMember extends OMRSMetadataCollectionBase
+    {
+        private final List<Relationship> relationships         = new ArrayList<>();
+        private final List<Integer>      requestedFromElements = new ArrayList<>();
+
+        TestMember(String    metadataCollectionId,
+                   String... relatedEntityGUIDs)
+        {
+            super(null, "TestRepository", null, null, metadataCollectionId);
+
+            for (String relatedEntityGUID : relatedEntityGUIDs)
+            {
+                relationships.add(getRelatedEntityRelationship("r" + relatedEntityGUID, relatedEntityGUID));
+            }
+        }
+
+        @Override
+        public InstanceGraph getRelationshipsAndEntitiesForEntity(String               userId,
+                                                                  String               entityGUID,
+                                                                  String               relationshipTypeGUID,
+                                                                  int                  fromRelationshipElement,
+                                                                  List<InstanceStatus> limitResultsByStatus,
+                                                                  Date                 asOfTime,
+                                                                  String               sequencingProperty,
+                                                                  SequencingOrder      sequencingOrder,
+                                                                  int                  pageSize)
+        {
+            requestedFromElements.add(fromRelationshipElement);
+
+            int start = Math.min(fromRelationshipElement, relationships.size());
+            int end   = (pageSize == 0) ? relationships.size() : Math.min(fromRelationshipElement + pageSize, relationships.size());
+
+            if (start == end)
+            {
+                return null;
+            }
+
+            List<Relationship> page     = new ArrayList<>(relationships.subList(start, end));
+            List<EntityDetail> entities = new ArrayList<>();
+
+            for (Relationship relationship : page)
+            {
+                EntityDetail entity = new EntityDetail();
+
+                entity.setGUID(relationship.getEntityTwoProxy().getGUID());
+                entity.setVersion(1);
+                entities.add(entity);
+            }
+
+            return new InstanceGraph(entities, page);
+        }
+    }
+
+
+    /**
+     * Return a relationship from the starting entity.
+     *
+     * @param relationshipGUID unique identifier of the relationship
+     * @param relatedEntityGUID unique identifier of the entity at the other end
+     * @return relationship
+     */
+    private static Relationship getRelatedEntityRelationship(String relationshipGUID,
+                                                             String relatedEntityGUID)
+    {
+        Relationship relationship = new Relationship();
+        EntityProxy  entityOne    = new EntityProxy();
+        EntityProxy  entityTwo    = new EntityProxy();
+
+        entityOne.setGUID(entityGUID);
+        entityTwo.setGUID(relatedEntityGUID);
+        relationship.setGUID(relationshipGUID);
+        relationship.setVersion(1);
+        relationship.setEntityOneProxy(entityOne);
+        relationship.setEntityTwoProxy(entityTwo);
+
+        return relationship;
+    }
+
+
+    /**
+     * Return an audit log that ignores its records.
+     *
+     * @return audit log
+     */
+    private AuditLog getAuditLog()
+    {
+        AuditLogDestination destination = new AuditLogDestination(null)
+        {
+            @Override
+            public void addLogRecord(AuditLogRecord logRecord)
+            {
+            }
+        };
+
+        return new AuditLog(destination, 0, "Test", "Test", null);
+    }
+
+
+    /**
+     * Return an executor for the requested page.
+     *
+     * @param fromElement starting element
+     * @param pageSize page size
+     * @return executor
+     */
+    private GetRelationshipsAndEntitiesForEntityExecutor getExecutor(int fromElement,
+                                                                     int pageSize)
+    {
+        return new GetRelationshipsAndEntitiesForEntityExecutor(userId,
+                                                                entityGUID,
+                                                                null,
+                                                                fromElement,
+                                                                null,
+                                                                null,
+                                                                null,
+                                                                SequencingOrder.GUID,
+                                                                pageSize,
+                                                                null,
+                                                                getAuditLog(),
+                                                                null,
+                                                                methodName);
+    }
+
+
+    /**
+     * The second page of relationships is taken from the merged results of both members rather than from the
+     * second page of each member.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testMergedPage() throws Exception
+    {
+        TestMember memberOne = new TestMember("m1", "e1", "e3", "e5");
+        TestMember memberTwo = new TestMember("m2", "e2", "e4", "e6");
+
+        GetRelationshipsAndEntitiesForEntityExecutor executor = getExecutor(2, 2);
+
+        executor.issueRequestToRepository("m1", memberOne);
+        executor.issueRequestToRepository("m2", memberTwo);
+
+        InstanceGraph results = executor.getResults(null, memberOne);
+
+        assertNotNull(results);
+
+        List<String> relationshipGUIDs = new ArrayList<>();
+
+        for (Relationship relationship : results.getRelationships())
+        {
+            relationshipGUIDs.add(relationship.getGUID());
+        }
+
+        assertEquals(relationshipGUIDs, Arrays.asList("re3", "re4"));
+
+        Set<String> entityGUIDs = new HashSet<>();
+
+        for (EntityDetail entity : results.getEntities())
+        {
+            entityGUIDs.add(entity.getGUID());
+        }
+
+        assertTrue(entityGUIDs.containsAll(Arrays.asList("e3", "e4")));
+
+        /*
+         * Each member is asked for its first page and then for the page the merge reached.
+         */
+        assertEquals(memberOne.requestedFromElements, Arrays.asList(0, 2));
+        assertEquals(memberTwo.requestedFromElements, Arrays.asList(0, 2));
+    }
+
+
+    /**
+     * When only one member returns relationships, the earlier relationships are skipped rather than retrieved.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testSingleMember() throws Exception
+    {
+        TestMember memberOne = new TestMember("m1", "e1", "e2", "e3", "e4");
+        TestMember memberTwo = new TestMember("m2");
+
+        GetRelationshipsAndEntitiesForEntityExecutor executor = getExecutor(2, 2);
+
+        executor.issueRequestToRepository("m1", memberOne);
+        executor.issueRequestToRepository("m2", memberTwo);
+
+        InstanceGraph results = executor.getResults(null, memberOne);
+
+        assertNotNull(results);
+        assertEquals(results.getRelationships().size(), 2);
+        assertEquals(results.getRelationships().get(0).getGUID(), "re3");
+        assertEquals(results.getRelationships().get(1).getGUID(), "re4");
+    }
+}
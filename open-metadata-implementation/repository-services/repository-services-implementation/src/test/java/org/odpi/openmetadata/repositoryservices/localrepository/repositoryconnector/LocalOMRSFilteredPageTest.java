@@ -0,0 +1,301 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test that the pages built from the real repository's results are refilled when the security verifier
+ * removes instances, and that paging cursors are only used while they match the real repository's results.
+ */
+public class LocalOMRSFilteredPageTest
+{
+    /**
+     * Simulates the paged queries of a real repository and counts the requests made.
+     */
+    static class TestRepository
+    {
+        private final List<EntityDetail> entities  = new ArrayList<>();
+        private final Set<String>        hidden    = new HashSet<>();
+        private int                      requests  = 0;
+        private int                      retrieved = 0;
+
+
+        /**
+         * Create a repository with the requested number of entities.  Every entity whose number is divisible by
+         * hiddenInterval is removed by the security verifier (zero means none are removed).
+         *
+         * @param entityCount number of entities
+         * @param hiddenInterval interval between hidden entities
+         */
+        TestRepository(int entityCount,
+                       int hiddenInterval)
+        {
+            for (int i = 0; i < entityCount; i++)
+            {
+                String guid = "guid" + i;
+
+                entities.add(LocalOMRSInstanceVersionCacheTest.getEntity(guid, new Date(1000), 1));
+
+                if ((hiddenInterval > 0) && (i % hiddenInterval == 0))
+                {
+                    hidden.add(guid);
+                }
+            }
+        }
+
+
+        /**
+         * Add an entity at the requested position.
+         *
+         * @param position position in the results
+         * @param guid unique identifier
+         */
+        void insert(int    position,
+                    String guid)
+        {
+            entities.add(position, LocalOMRSInstanceVersionCacheTest.getEntity(guid, new Date(1000), 1));
+        }
+
+
+        /**
+         * Remove the entity at the requested position.
+         *
+         * @param position position in the results
+         */
+        void remove(int position)
+        {
+            entities.remove(position);
+        }
+
+
+        /**
+         * Return a page of entities in the same way as a real repository.
+         *
+         * @param fromElement starting position
+         * @param pageSize maximum number of entities (zero means no limit)
+         * @return entities or null
+         */
+        List<EntityDetail> getEntities(int fromElement,
+                                       int pageSize)
+        {
+            requests ++;
+
+            if (fromElement >= entities.size())
+            {
+                return null;
+            }
+
+            int toElement = (pageSize == 0) ? entities.size() : Math.min(entities.size(), fromElement + pageSize);
+
+            retrieved += toElement - fromElement;
+
+            return new ArrayList<>(entities.subList(fromElement, toElement));
+        }
+
+
+        /**
+         * Fill a page in the same way as the local metadata collection.
+         *
+         * @param page page to fill
+         * @return visible entities on the page
+         * @throws UserNotAuthorizedException not thrown by the test validator
+         */
+        List<EntityDetail> fill(LocalOMRSFilteredPage<EntityDetail> page) throws UserNotAuthorizedException
+        {
+            while (page.moreNeeded())
+            {
+                page.addRepositoryResults(this.getEntities(page.getRepositoryOffset(), page.getRepositoryPageSize()),
+                                          entity -> hidden.contains(entity.getGUID()) ? null : entity);
+            }
+
+            return page.getResults();
+        }
+
+
+        /**
+         * Return the visible entities starting at the requested position in the real repository's results.
+         *
+         * @param repositoryOffset starting position
+         * @param pageSize maximum number of entities
+         * @return list of guids
+         */
+        List<String> getVisibleGUIDs(int repositoryOffset,
+                                     int pageSize)
+        {
+            List<String> visibleGUIDs = new ArrayList<>();
+
+            for (EntityDetail entity : entities.subList(Math.min(repositoryOffset, entities.size()), entities.size()))
+            {
+                if ((! hidden.contains(entity.getGUID())) && (visibleGUIDs.size() < pageSize))
+                {
+                    visibleGUIDs.add(entity.getGUID());
+                }
+            }
+
+            return visibleGUIDs;
+        }
+
+
+        int getRequests()
+        {
+            return requests;
+        }
+
+
+        int getRetrieved()
+        {
+            return retrieved;
+        }
+    }
+
+
+    /**
+     * Return the guids of a list of entities.
+     *
+     * @param entities entities or null
+     * @return list of guids
+     */
+    static List<String> getGUIDs(List<EntityDetail> entities)
+    {
+        List<String> guids = new ArrayList<>();
+
+        if (entities != null)
+        {
+            for (EntityDetail entity : entities)
+            {
+                guids.add(entity.getGUID());
+            }
+        }
+
+        return guids;
+    }
+
+
+    @Test
+    void testUnfilteredPage() throws UserNotAuthorizedException
+    {
+        TestRepository                      repository = new TestRepository(20, 0);
+        LocalOMRSFilteredPage<EntityDetail> page       = new LocalOMRSFilteredPage<>(5, 5, 0);
+
+        assertEquals(getGUIDs(repository.fill(page)), Arrays.asList("guid5", "guid6", "guid7", "guid8", "guid9"));
+        assertEquals(repository.getRequests(), 1);
+        assertEquals(page.getRepositoryOffset(), 10);
+        assertEquals(page.getLastGUID(), "guid9");
+        assertFalse(page.isFiltered());
+        assertFalse(page.isCursorRejected());
+    }
+
+
+    @Test
+    void testFilteredPageIsRefilled() throws UserNotAuthorizedException
+    {
+        TestRepository                      repository = new TestRepository(20, 2);
+        LocalOMRSFilteredPage<EntityDetail> page       = new LocalOMRSFilteredPage<>(0, 5, 0);
+
+        assertEquals(getGUIDs(repository.fill(page)), Arrays.asList("guid1", "guid3", "guid5", "guid7", "guid9"));
+        assertTrue(repository.getRequests() > 1);
+        assertEquals(page.getRepositoryOffset(), 10);
+        assertEquals(page.getLastGUID(), "guid9");
+        assertTrue(page.isFiltered());
+    }
+
+
+    @Test
+    void testRepositoryPageSizeIsCapped() throws UserNotAuthorizedException
+    {
+        TestRepository                      repository = new TestRepository(100, 0);
+        LocalOMRSFilteredPage<EntityDetail> page       = new LocalOMRSFilteredPage<>(0, 5, 3);
+
+        repository.hidden.addAll(Arrays.asList("guid0", "guid1", "guid2", "guid3", "guid4", "guid5", "guid6", "guid7"));
+
+        assertEquals(getGUIDs(repository.fill(page)), Arrays.asList("guid8", "guid9", "guid10", "guid11", "guid12"));
+
+        /*
+         * The follow-on requests are capped at the maximum but never ask for fewer instances than are still needed.
+         */
+        assertEquals(repository.getRetrieved(), 5 + 5 + 3);
+    }
+
+
+    @Test
+    void testShortAndEmptyPages() throws UserNotAuthorizedException
+    {
+        TestRepository repository = new TestRepository(6, 2);
+
+        assertEquals(getGUIDs(repository.fill(new LocalOMRSFilteredPage<>(0, 5, 0))), Arrays.asList("guid1", "guid3", "guid5"));
+        assertNull(repository.fill(new LocalOMRSFilteredPage<>(6, 5, 0)));
+
+        repository.hidden.addAll(Arrays.asList("guid1", "guid3", "guid5"));
+
+        assertNull(repository.fill(new LocalOMRSFilteredPage<>(0, 5, 0)));
+    }
+
+
+    @Test
+    void testUnlimitedPage() throws UserNotAuthorizedException
+    {
+        TestRepository repository = new TestRepository(6, 2);
+
+        assertEquals(getGUIDs(repository.fill(new LocalOMRSFilteredPage<>(0, 0, 0))), Arrays.asList("guid1", "guid3", "guid5"));
+        assertEquals(repository.getRequests(), 1);
+    }
+
+
+    @Test
+    void testPageFromCursor() throws UserNotAuthorizedException
+    {
+        TestRepository                      repository = new TestRepository(20, 2);
+        LocalOMRSFilteredPage<EntityDetail> page       = new LocalOMRSFilteredPage<>(5, 10, "guid9", 5, 0);
+
+        assertEquals(page.getRepositoryOffset(), 9);
+        assertEquals(getGUIDs(repository.fill(page)), Arrays.asList("guid11", "guid13", "guid15", "guid17", "guid19"));
+        assertFalse(page.isCursorRejected());
+        assertEquals(page.getRepositoryOffset(), 20);
+    }
+
+
+    @Test
+    void testCursorIsRejectedWhenTheResultsChange() throws UserNotAuthorizedException
+    {
+        TestRepository repository = new TestRepository(20, 2);
+
+        /*
+         * An instance added before the cursor's position moves the instance recorded in the cursor.  The page
+         * then starts from the caller's position as it would without a cursor.
+         */
+        repository.insert(3, "newGUID");
+
+        LocalOMRSFilteredPage<EntityDetail> page = new LocalOMRSFilteredPage<>(5, 10, "guid9", 5, 0);
+
+        assertEquals(getGUIDs(repository.fill(page)), repository.getVisibleGUIDs(5, 5));
+        assertTrue(page.isCursorRejected());
+
+        /*
+         * The same applies when instances are removed and when the real repository has no more results.
+         */
+        repository.remove(0);
+        repository.remove(0);
+
+        page = new LocalOMRSFilteredPage<>(5, 10, "guid9", 5, 0);
+
+        assertEquals(getGUIDs(repository.fill(page)), repository.getVisibleGUIDs(5, 5));
+        assertTrue(page.isCursorRejected());
+
+        page = new LocalOMRSFilteredPage<>(2, 40, "guid39", 5, 0);
+
+        assertEquals(getGUIDs(repository.fill(page)), repository.getVisibleGUIDs(2, 5));
+        assertTrue(page.isCursorRejected());
+    }
+}
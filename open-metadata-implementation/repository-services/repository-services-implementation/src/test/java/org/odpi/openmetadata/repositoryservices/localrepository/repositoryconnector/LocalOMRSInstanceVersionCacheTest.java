@@ -0,0 +1,142 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.testng.annotations.Test;
+
+import java.util.Date;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the cache of stored versions that the local instance event processor uses to ignore duplicate and
+ * out of date events.
+ */
+public class LocalOMRSInstanceVersionCacheTest
+{
+    private static final Date createTime      = new Date(1000);
+    private static final Date otherCreateTime = new Date(2000);
+
+
+    /**
+     * Build an instance.
+     *
+     * @param guid unique identifier
+     * @param createTime creation time
+     * @param version version number
+     * @return instance
+     */
+    static EntityDetail getEntity(String guid,
+                                  Date   createTime,
+                                  long   version)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setCreateTime(createTime);
+        entity.setVersion(version);
+
+        return entity;
+    }
+
+
+    @Test
+    void testStaleVersions()
+    {
+        LocalOMRSInstanceVersionCache cache = new LocalOMRSInstanceVersionCache(10);
+
+        assertFalse(cache.isStale(getEntity("guid1", createTime, 1)));
+
+        cache.recordVersion(getEntity("guid1", createTime, 3));
+
+        assertTrue(cache.isStale(getEntity("guid1", createTime, 2)));
+        assertTrue(cache.isStale(getEntity("guid1", createTime, 3)));
+        assertFalse(cache.isStale(getEntity("guid1", createTime, 4)));
+        assertFalse(cache.isStale(getEntity("guid2", createTime, 1)));
+
+        /*
+         * A different creation time means a different instance with the same GUID.
+         */
+        assertFalse(cache.isStale(getEntity("guid1", otherCreateTime, 1)));
+        assertFalse(cache.isStale(getEntity("guid1", null, 1)));
+    }
+
+
+    @Test
+    void testVersionsNeverGoBackwards()
+    {
+        LocalOMRSInstanceVersionCache cache = new LocalOMRSInstanceVersionCache(10);
+
+        cache.recordVersion(getEntity("guid1", createTime, 5));
+        cache.recordVersion(getEntity("guid1", createTime, 2));
+
+        assertTrue(cache.isStale(getEntity("guid1", createTime, 5)));
+
+        cache.recordVersion(getEntity("guid1", createTime, 6));
+
+        assertTrue(cache.isStale(getEntity("guid1", createTime, 6)));
+
+        /*
+         * A new instance with the same GUID replaces the old one whatever its version.
+         */
+        cache.recordVersion(getEntity("guid1", otherCreateTime, 1));
+
+        assertTrue(cache.isStale(getEntity("guid1", otherCreateTime, 1)));
+        assertFalse(cache.isStale(getEntity("guid1", createTime, 6)));
+    }
+
+
+    @Test
+    void testRemoveInstance()
+    {
+        LocalOMRSInstanceVersionCache cache = new LocalOMRSInstanceVersionCache(10);
+
+        cache.recordVersion(getEntity("guid1", createTime, 3));
+        cache.removeInstance("guid1");
+        cache.removeInstance("unknownGUID");
+        cache.removeInstance(null);
+
+        assertFalse(cache.isStale(getEntity("guid1", createTime, 3)));
+    }
+
+
+    @Test
+    void testLeastRecentlyUsedInstanceIsEvicted()
+    {
+        LocalOMRSInstanceVersionCache cache = new LocalOMRSInstanceVersionCache(2);
+
+        cache.recordVersion(getEntity("guid1", createTime, 1));
+        cache.recordVersion(getEntity("guid2", createTime, 1));
+
+        /*
+         * Reading guid1 makes guid2 the least recently used.
+         */
+        assertTrue(cache.isStale(getEntity("guid1", createTime, 1)));
+
+        cache.recordVersion(getEntity("guid3", createTime, 1));
+
+        assertTrue(cache.isStale(getEntity("guid1", createTime, 1)));
+        assertFalse(cache.isStale(getEntity("guid2", createTime, 1)));
+        assertTrue(cache.isStale(getEntity("guid3", createTime, 1)));
+    }
+
+
+    @Test
+    void testNulls()
+    {
+        LocalOMRSInstanceVersionCache cache = new LocalOMRSInstanceVersionCache(10);
+
+        cache.recordVersion(null);
+        cache.recordVersion(new EntityDetail());
+
+        assertFalse(cache.isStale(null));
+        assertFalse(cache.isStale(new EntityDetail()));
+
+        InstanceHeader noGUID = getEntity(null, createTime, 1);
+
+        cache.recordVersion(noGUID);
+        assertFalse(cache.isStale(noGUID));
+    }
+}
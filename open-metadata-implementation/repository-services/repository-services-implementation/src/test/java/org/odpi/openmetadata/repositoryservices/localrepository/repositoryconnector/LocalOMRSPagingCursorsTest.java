@@ -0,0 +1,128 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test that the paging cursors let the next page of a filtered query start where the previous page finished,
+ * and that they are not used once the real repository's results have changed.
+ */
+public class LocalOMRSPagingCursorsTest
+{
+    private static final List<Object> queryKey      = Arrays.asList("user1", "findEntities", "type1");
+    private static final List<Object> otherQueryKey = Arrays.asList("user2", "findEntities", "type1");
+
+
+    /**
+     * Read a page in the same way as the local metadata collection.
+     *
+     * @param pagingCursors cursor cache
+     * @param repository simulated real repository
+     * @param queryKey user and parameters of the query
+     * @param fromElement starting element
+     * @param pageSize page size
+     * @return guids of the visible entities on the page
+     * @throws UserNotAuthorizedException not thrown by the test validator
+     */
+    private List<String> readPage(LocalOMRSPagingCursors                    pagingCursors,
+                                  LocalOMRSFilteredPageTest.TestRepository repository,
+                                  List<Object>                              queryKey,
+                                  int                                       fromElement,
+                                  int                                       pageSize) throws UserNotAuthorizedException
+    {
+        LocalOMRSFilteredPage<EntityDetail> page = pagingCursors.getPage(queryKey, fromElement, pageSize, 0);
+
+        repository.fill(page);
+
+        return LocalOMRSFilteredPageTest.getGUIDs(pagingCursors.getResults(queryKey, fromElement, page));
+    }
+
+
+    @Test
+    void testCursorIsReused() throws UserNotAuthorizedException
+    {
+        LocalOMRSPagingCursors                   pagingCursors = new LocalOMRSPagingCursors(10);
+        LocalOMRSFilteredPageTest.TestRepository repository    = new LocalOMRSFilteredPageTest.TestRepository(30, 2);
+        List<String>                             allGUIDs      = new ArrayList<>();
+
+        allGUIDs.addAll(this.readPage(pagingCursors, repository, queryKey, 0, 5));
+
+        /*
+         * The next page starts by re-reading the last instance retrieved for the previous page rather than
+         * at the caller's position.
+         */
+        assertEquals(pagingCursors.getPage(queryKey, 5, 5, 0).getRepositoryOffset(), 9);
+
+        allGUIDs.addAll(this.readPage(pagingCursors, repository, queryKey, 5, 5));
+        allGUIDs.addAll(this.readPage(pagingCursors, repository, queryKey, 10, 5));
+
+        assertEquals(allGUIDs, repository.getVisibleGUIDs(0, 15));
+
+        /*
+         * The cursors belong to the user and query that created them.
+         */
+        LocalOMRSPagingCursors                   otherCursors    = new LocalOMRSPagingCursors(10);
+        LocalOMRSFilteredPageTest.TestRepository otherRepository = new LocalOMRSFilteredPageTest.TestRepository(30, 2);
+
+        this.readPage(otherCursors, otherRepository, queryKey, 0, 5);
+
+        assertEquals(this.readPage(otherCursors, otherRepository, otherQueryKey, 5, 5), otherRepository.getVisibleGUIDs(5, 5));
+    }
+
+
+    @Test
+    void testChangedResultsAreNotSkipped() throws UserNotAuthorizedException
+    {
+        LocalOMRSPagingCursors                   pagingCursors = new LocalOMRSPagingCursors(10);
+        LocalOMRSFilteredPageTest.TestRepository repository    = new LocalOMRSFilteredPageTest.TestRepository(30, 2);
+
+        assertEquals(this.readPage(pagingCursors, repository, queryKey, 0, 5), repository.getVisibleGUIDs(0, 5));
+
+        /*
+         * The first instance is removed so the cursor's position moves.  The next page starts from the
+         * caller's position, which repeats instances rather than skipping them, and the cursor is replaced.
+         */
+        repository.remove(0);
+        repository.remove(0);
+
+        assertEquals(this.readPage(pagingCursors, repository, queryKey, 5, 5), repository.getVisibleGUIDs(5, 5));
+        assertEquals(this.readPage(pagingCursors, repository, queryKey, 10, 5), repository.getVisibleGUIDs(15, 5));
+    }
+
+
+    @Test
+    void testNoCursorWithoutFiltering() throws UserNotAuthorizedException
+    {
+        LocalOMRSPagingCursors                   pagingCursors = new LocalOMRSPagingCursors(10);
+        LocalOMRSFilteredPageTest.TestRepository repository    = new LocalOMRSFilteredPageTest.TestRepository(30, 0);
+
+        this.readPage(pagingCursors, repository, queryKey, 0, 5);
+        this.readPage(pagingCursors, repository, queryKey, 5, 5);
+
+        assertEquals(pagingCursors.size(), 0);
+    }
+
+
+    @Test
+    void testCursorsAreBounded() throws UserNotAuthorizedException
+    {
+        LocalOMRSPagingCursors                   pagingCursors = new LocalOMRSPagingCursors(2);
+        LocalOMRSFilteredPageTest.TestRepository repository    = new LocalOMRSFilteredPageTest.TestRepository(30, 2);
+
+        for (int i = 0; i < 5; i++)
+        {
+            this.readPage(pagingCursors, repository, Arrays.asList("user" + i, "findEntities"), 0, 5);
+        }
+
+        assertEquals(pagingCursors.size(), 2);
+    }
+}
@@ -0,0 +1,457 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test when the batches of reference copies are saved and that the waiting reference copies are checked
+ * for duplicate events until their versions are recorded.
+ */
+public class LocalOMRSReferenceCopyBatchTest
+{
+    private static final Date createTime = new Date(1000);
+
+
+    /**
+     * Store that records the reference copies that it saves.  Single reference copies whose GUID starts with
+     * "fail" are rejected.  Batches can be rejected, and can be held until the test releases them.
+     */
+    private static class RecordingStore implements LocalOMRSReferenceCopyBatch.ReferenceCopyStore
+    {
+        private final List<List<String>> savedBatches    = Collections.synchronizedList(new ArrayList<>());
+        private final List<String>       savedInstances  = Collections.synchronizedList(new ArrayList<>());
+        private final List<String>       reportedErrors  = Collections.synchronizedList(new ArrayList<>());
+        private final List<String>       savingThreads   = Collections.synchronizedList(new ArrayList<>());
+        private volatile Exception       batchFailure    = null;
+        private volatile CountDownLatch  batchStarted    = null;
+        private volatile CountDownLatch  batchReleased   = null;
+
+        @Override
+        public void saveReferenceCopies(List<EntityDetail> entities,
+                                        List<Relationship> relationships) throws Exception
+        {
+            if (batchStarted != null)
+            {
+                batchStarted.countDown();
+                batchReleased.await(10, TimeUnit.SECONDS);
+            }
+
+            if (batchFailure != null)
+            {
+                throw batchFailure;
+            }
+
+            List<String> batch = new ArrayList<>();
+
+            for (EntityDetail entity : entities)
+            {
+                batch.add(entity.getGUID());
+            }
+
+            for (Relationship relationship : relationships)
+            {
+                batch.add(relationship.getGUID());
+            }
+
+            savingThreads.add(Thread.currentThread().getName());
+            savedBatches.add(batch);
+        }
+
+        @Override
+        public void saveReferenceCopy(InstanceHeader instance)
+        {
+            if (instance.getGUID().startsWith("fail"))
+            {
+                throw new IllegalStateException("Unable to save " + instance.getGUID());
+            }
+
+            savingThreads.add(Thread.currentThread().getName());
+            savedInstances.add(instance.getGUID());
+        }
+
+        @Override
+        public void reportSaveError(Exception                                        error,
+                                    LocalOMRSReferenceCopyBatch.PendingReferenceCopy pendingReferenceCopy)
+        {
+            reportedErrors.add(pendingReferenceCopy.getInstance().getGUID() + ":" + pendingReferenceCopy.getMethodName());
+        }
+
+        List<List<String>> getSavedBatches()
+        {
+            synchronized (savedBatches)
+            {
+                return new ArrayList<>(savedBatches);
+            }
+        }
+
+        List<String> getSavedInstances()
+        {
+            synchronized (savedInstances)
+            {
+                return new ArrayList<>(savedInstances);
+            }
+        }
+    }
+
+
+    /**
+     * Build a reference copy of an entity.
+     *
+     * @param guid unique identifier
+     * @param version version number
+     * @return reference copy
+     */
+    private LocalOMRSReferenceCopyBatch.PendingReferenceCopy getEntityCopy(String guid,
+                                                                           long   version)
+    {
+        return new LocalOMRSReferenceCopyBatch.PendingReferenceCopy(LocalOMRSInstanceVersionCacheTest.getEntity(guid, createTime, version),
+                                                                    "testMethod",
+                                                                    "originatorId",
+                                                                    "originatorServer");
+    }
+
+
+    /**
+     * Build a reference copy of a relationship.
+     *
+     * @param guid unique identifier
+     * @param version version number
+     * @return reference copy
+     */
+    private LocalOMRSReferenceCopyBatch.PendingReferenceCopy getRelationshipCopy(String guid,
+                                                                                 long   version)
+    {
+        Relationship relationship = new Relationship();
+
+        relationship.setGUID(guid);
+        relationship.setCreateTime(createTime);
+        relationship.setVersion(version);
+
+        return new LocalOMRSReferenceCopyBatch.PendingReferenceCopy(relationship,
+                                                                    "testMethod",
+                                                                    "originatorId",
+                                                                    "originatorServer");
+    }
+
+
+    /**
+     * Wait for a condition that depends on the timer thread.
+     *
+     * @param condition condition to wait for
+     */
+    private void waitFor(BooleanSupplier condition) throws InterruptedException
+    {
+        long endTime = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+
+        while (! condition.getAsBoolean())
+        {
+            assertTrue(System.currentTimeMillis() < endTime, "Timed out waiting for the batch");
+            Thread.sleep(5);
+        }
+    }
+
+
+    @Test
+    void testFullBatchIsSaved()
+    {
+        RecordingStore                store = new RecordingStore();
+        LocalOMRSInstanceVersionCache cache = new LocalOMRSInstanceVersionCache(100);
+        LocalOMRSReferenceCopyBatch   batch = new LocalOMRSReferenceCopyBatch(3, TimeUnit.MINUTES.toMillis(5), "test-batch", cache, store);
+
+        batch.add(getRelationshipCopy("relationship1", 1));
+        batch.add(getEntityCopy("entity1", 1));
+
+        assertTrue(store.getSavedBatches().isEmpty());
+        assertTrue(batch.isDuplicateOrStale(LocalOMRSInstanceVersionCacheTest.getEntity("entity1", createTime, 1)));
+        assertFalse(cache.isStale(LocalOMRSInstanceVersionCacheTest.getEntity("entity1", createTime, 1)));
+
+        batch.add(getEntityCopy("entity2", 1));
+
+        /*
+         * Entities are saved before relationships.
+         */
+        assertEquals(store.getSavedBatches(), Collections.singletonList(Arrays.asList("entity1", "entity2", "relationship1")));
+        assertTrue(cache.isStale(LocalOMRSInstanceVersionCacheTest.getEntity("entity1", createTime, 1)));
+        assertTrue(cache.isStale(LocalOMRSInstanceVersionCacheTest.getEntity("entity2", createTime, 1)));
+        assertTrue(batch.isDuplicateOrStale(LocalOMRSInstanceVersionCacheTest.getEntity("relationship1", createTime, 1)));
+
+        batch.flush();
+        assertEquals(store.getSavedBatches().size(), 1);
+
+        batch.disconnect();
+    }
+
+
+    @Test
+    void testAddedInstancesAreSavedTogether()
+    {
+        RecordingStore                store = new RecordingStore();
+        LocalOMRSInstanceVersionCache cache = new LocalOMRSInstanceVersionCache(100);
+        LocalOMRSReferenceCopyBatch   batch = new LocalOMRSReferenceCopyBatch(2, TimeUnit.MINUTES.toMillis(5), "test-batch", cache, store);
+
+        batch.add(getEntityCopy("entity1", 1));
+
+        /*
+         * The instances are saved straight away with the waiting reference copy, even though there are more
+         * than fill a batch.
+         */
+        batch.addAll(Arrays.asList(getRelationshipCopy("relationship1", 1),
+                                   getEntityCopy("entity2", 1),
+                                   getEntityCopy("entity3", 1)));
+
+        assertEquals(store.getSavedBatches(), Collections.singletonList(Arrays.asList("entity1", "entity2", "entity3", "relationship1")));
+        assertTrue(cache.isStale(LocalOMRSInstanceVersionCacheTest.getEntity("entity3", createTime, 1)));
+
+        batch.flush();
+        assertEquals(store.getSavedBatches().size(), 1);
+
+        /*
+         * Once disconnected, the instances are saved individually.
+         */
+        batch.disconnect();
+        batch.addAll(Arrays.asList(getEntityCopy("entity4", 1), getEntityCopy("entity5", 1)));
+
+        assertEquals(store.getSavedInstances(), Arrays.asList("entity4", "entity5"));
+        assertEquals(store.getSavedBatches().size(), 1);
+    }
+
+
+    @Test
+    void testBatchIsSavedByTheTimer() throws InterruptedException
+    {
+        RecordingStore                store = new RecordingStore();
+        LocalOMRSInstanceVersionCache cache = new LocalOMRSInstanceVersionCache(100);
+        LocalOMRSReferenceCopyBatch   batch = new LocalOMRSReferenceCopyBatch(50, 20, "timer-batch", cache, store);
+
+        assertFalse(batch.isTimerRunning());
+
+        batch.add(getEntityCopy("entity1", 1));
+        batch.add(getEntityCopy("entity2", 1));
+
+        assertTrue(batch.isTimerRunning());
+
+        waitFor(() -> ! store.getSavedBatches().isEmpty());
+
+        assertEquals(store.getSavedBatches(), Collections.singletonList(Arrays.asList("entity1", "entity2")));
+        assertEquals(store.savingThreads.get(0), "timer-batch");
+
+        /*
+         * A single reference copy is saved on its own.
+         */
+        batch.add(getEntityCopy("entity3", 1));
+
+        waitFor(() -> ! store.getSavedInstances().isEmpty());
+
+        assertEquals(store.getSavedInstances(), Collections.singletonList("entity3"));
+        assertTrue(cache.isStale(LocalOMRSInstanceVersionCacheTest.getEntity("entity3", createTime, 1)));
+
+        batch.disconnect();
+    }
+
+
+    @Test
+    void testBatchIsSavedBeforeOtherEvents()
+    {
+        RecordingStore                store = new RecordingStore();
+        LocalOMRSInstanceVersionCache cache = new LocalOMRSInstanceVersionCache(100);
+        LocalOMRSReferenceCopyBatch   batch = new LocalOMRSReferenceCopyBatch(50, TimeUnit.MINUTES.toMillis(5), "test-batch", cache, store);
+
+        batch.add(getEntityCopy("entity1", 1));
+        batch.add(getRelationshipCopy("relationship1", 1));
+
+        batch.flushBeforeEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT);
+        batch.flushBeforeEvent(OMRSInstanceEventType.UPDATED_RELATIONSHIP_EVENT);
+        batch.flushBeforeEvent(OMRSInstanceEventType.REFRESHED_ENTITY_EVENT);
+
+        assertTrue(store.getSavedBatches().isEmpty());
+
+        batch.flushBeforeEvent(OMRSInstanceEventType.DELETED_ENTITY_EVENT);
+
+        assertEquals(store.getSavedBatches(), Collections.singletonList(Arrays.asList("entity1", "relationship1")));
+
+        batch.add(getEntityCopy("entity2", 1));
+        batch.flushBeforeEvent(OMRSInstanceEventType.CLASSIFIED_ENTITY_EVENT);
+
+        assertEquals(store.getSavedInstances(), Collections.singletonList("entity2"));
+
+        batch.disconnect();
+    }
+
+
+    @Test
+    void testWaitingVersionsAreChecked()
+    {
+        RecordingStore                store = new RecordingStore();
+        LocalOMRSInstanceVersionCache cache = new LocalOMRSInstanceVersionCache(100);
+        LocalOMRSReferenceCopyBatch   batch = new LocalOMRSReferenceCopyBatch(50, TimeUnit.MINUTES.toMillis(5), "test-batch", cache, store);
+
+        batch.add(getEntityCopy("entity1", 2));
+        batch.add(getRelationshipCopy("relationship1", 7));
+
+        assertTrue(batch.isDuplicateOrStale(LocalOMRSInstanceVersionCacheTest.getEntity("entity1", createTime, 1)));
+        assertTrue(batch.isDuplicateOrStale(LocalOMRSInstanceVersionCacheTest.getEntity("entity1", createTime, 2)));
+        assertTrue(store.getSavedBatches().isEmpty());
+
+        /*
+         * A later version saves the waiting version first so that it can be validated against it.
+         */
+        assertFalse(batch.isDuplicateOrStale(LocalOMRSInstanceVersionCacheTest.getEntity("entity1", createTime, 3)));
+        assertEquals(store.getSavedBatches(), Collections.singletonList(Arrays.asList("entity1", "relationship1")));
+        assertTrue(batch.isDuplicateOrStale(LocalOMRSInstanceVersionCacheTest.getEntity("entity1", createTime, 2)));
+
+        batch.disconnect();
+    }
+
+
+    @Test
+    void testReferenceCopiesAreVisibleWhileTheBatchIsSaved() throws Exception
+    {
+        RecordingStore                store = new RecordingStore();
+        LocalOMRSInstanceVersionCache cache = new LocalOMRSInstanceVersionCache(100);
+        LocalOMRSReferenceCopyBatch   batch = new LocalOMRSReferenceCopyBatch(50, TimeUnit.MINUTES.toMillis(5), "test-batch", cache, store);
+
+        store.batchStarted = new CountDownLatch(1);
+        store.batchReleased = new CountDownLatch(1);
+
+        batch.add(getEntityCopy("entity1", 1));
+        batch.add(getEntityCopy("entity2", 1));
+
+        CompletableFuture<Void> flush = CompletableFuture.runAsync(batch::flush);
+
+        assertTrue(store.batchStarted.await(10, TimeUnit.SECONDS));
+
+        /*
+         * The duplicate event waits for the save rather than missing the reference copy that is neither
+         * waiting nor recorded.
+         */
+        CompletableFuture<Boolean> duplicate = CompletableFuture.supplyAsync(
+                () -> batch.isDuplicateOrStale(LocalOMRSInstanceVersionCacheTest.getEntity("entity1", createTime, 1)));
+
+        Thread.sleep(50);
+        assertFalse(duplicate.isDone());
+
+        store.batchReleased.countDown();
+
+        assertTrue(duplicate.get(10, TimeUnit.SECONDS));
+        flush.get(10, TimeUnit.SECONDS);
+        assertEquals(store.getSavedBatches().size(), 1);
+
+        batch.disconnect();
+    }
+
+
+    @Test
+    void testFailedBatchIsSavedIndividually()
+    {
+        RecordingStore                store = new RecordingStore();
+        LocalOMRSInstanceVersionCache cache = new LocalOMRSInstanceVersionCache(100);
+        LocalOMRSReferenceCopyBatch   batch = new LocalOMRSReferenceCopyBatch(3, TimeUnit.MINUTES.toMillis(5), "test-batch", cache, store);
+
+        store.batchFailure = new IllegalStateException("Batch rejected");
+
+        batch.add(getEntityCopy("entity1", 1));
+        batch.add(getEntityCopy("fail1", 1));
+        batch.add(getRelationshipCopy("relationship1", 1));
+
+        assertEquals(store.getSavedInstances(), Arrays.asList("entity1", "relationship1"));
+        assertEquals(store.reportedErrors, Collections.singletonList("fail1:testMethod"));
+        assertFalse(cache.isStale(LocalOMRSInstanceVersionCacheTest.getEntity("fail1", createTime, 1)));
+        assertFalse(batch.isDuplicateOrStale(LocalOMRSInstanceVersionCacheTest.getEntity("fail1", createTime, 1)));
+
+        /*
+         * Batches are still tried because the failure may have come from the reference copies.
+         */
+        store.batchFailure = null;
+
+        batch.add(getEntityCopy("entity2", 1));
+        batch.add(getEntityCopy("entity3", 1));
+        batch.add(getEntityCopy("entity4", 1));
+
+        assertEquals(store.getSavedBatches(), Collections.singletonList(Arrays.asList("entity2", "entity3", "entity4")));
+
+        batch.disconnect();
+    }
+
+
+    @Test
+    void testUnsupportedBatchesAreNotTriedAgain()
+    {
+        RecordingStore                store = new RecordingStore();
+        LocalOMRSInstanceVersionCache cache = new LocalOMRSInstanceVersionCache(100);
+        LocalOMRSReferenceCopyBatch   batch = new LocalOMRSReferenceCopyBatch(2, TimeUnit.MINUTES.toMillis(5), "test-batch", cache, store);
+
+        store.batchFailure = new FunctionNotSupportedException(OMRSErrorCode.METHOD_NOT_IMPLEMENTED.getMessageDefinition("saveInstanceReferenceCopies",
+                                                                                                                        "TestRepository",
+                                                                                                                        "TestServer"),
+                                                               this.getClass().getName(),
+                                                               "testUnsupportedBatchesAreNotTriedAgain");
+
+        batch.add(getEntityCopy("entity1", 1));
+        batch.add(getEntityCopy("entity2", 1));
+
+        assertEquals(store.getSavedInstances(), Arrays.asList("entity1", "entity2"));
+
+        batch.add(getEntityCopy("entity3", 1));
+
+        assertEquals(store.getSavedInstances(), Arrays.asList("entity1", "entity2", "entity3"));
+        assertTrue(cache.isStale(LocalOMRSInstanceVersionCacheTest.getEntity("entity3", createTime, 1)));
+        assertTrue(store.getSavedBatches().isEmpty());
+
+        batch.disconnect();
+    }
+
+
+    @Test
+    void testDisconnectSavesTheBatchAndStopsTheTimer() throws InterruptedException
+    {
+        RecordingStore                store = new RecordingStore();
+        LocalOMRSInstanceVersionCache cache = new LocalOMRSInstanceVersionCache(100);
+        LocalOMRSReferenceCopyBatch   batch = new LocalOMRSReferenceCopyBatch(50, TimeUnit.MINUTES.toMillis(5), "disconnect-batch", cache, store);
+
+        batch.add(getEntityCopy("entity1", 1));
+        batch.add(getEntityCopy("entity2", 1));
+
+        assertTrue(batch.isTimerRunning());
+
+        batch.disconnect();
+
+        assertEquals(store.getSavedBatches(), Collections.singletonList(Arrays.asList("entity1", "entity2")));
+        assertFalse(batch.isTimerRunning());
+
+        /*
+         * Reference copies received after the disconnect are saved straight away.
+         */
+        batch.add(getEntityCopy("entity3", 1));
+
+        assertEquals(store.getSavedInstances(), Collections.singletonList("entity3"));
+        assertFalse(batch.isTimerRunning());
+
+        for (Thread thread : Thread.getAllStackTraces().keySet())
+        {
+            if (thread.getName().equals("disconnect-batch"))
+            {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+                assertFalse(thread.isAlive(), "Timer thread is still running");
+            }
+        }
+    }
+}
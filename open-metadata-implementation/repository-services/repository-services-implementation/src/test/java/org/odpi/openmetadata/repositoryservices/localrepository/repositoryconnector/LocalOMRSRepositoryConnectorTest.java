@@ -0,0 +1,238 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
+
+import org.odpi.openmetadata.adminservices.configuration.properties.LocalRepositoryMode;
+import org.odpi.openmetadata.adminservices.configuration.properties.OpenMetadataExchangeRule;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollectionBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProvenanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.eventmanagement.OMRSRepositoryEventExchangeRule;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventProcessor;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test that the local connector forgets the stored version of a reference copy when the local metadata collection
+ * removes it, so that a later refresh event restores the reference copy rather than being ignored as a duplicate.
+ */
+public class LocalOMRSRepositoryConnectorTest
+{
+    private static final String sourceName           = "TestCohort";
+    private static final String localCollectionId    = "localCollection";
+    private static final String remoteCollectionId   = "remoteCollection";
+    private static final String remoteServerName     = "remoteServer";
+    private static final String userId               = "testUser";
+    private static final String entityGUID           = "entity1";
+    private static final String typeName             = "Asset";
+    private static final String typeGUID             = typeName + "-guid";
+
+
+    /**
+     * Metadata collection of the real repository that keeps the reference copies in a map and counts the
+     * number of times it is asked whether an entity is known.
+     */
+    private static class ReferenceCopyStore extends OMRSMetadataCollectionBase
+    {
+        private final Map<String, EntityDetail> storedEntities   = new HashMap<>();
+        private final AtomicInteger             isKnownRequests  = new AtomicInteger(0);
+
+        ReferenceCopyStore(OMRSRepositoryHelper    repositoryHelper,
+                           OMRSRepositoryValidator repositoryValidator)
+        {
+            super(null, "TestRepository", repositoryHelper, repositoryValidator, localCollectionId);
+        }
+
+        @Override
+        public synchronized EntityDetail isEntityKnown(String userId,
+                                                       String guid)
+        {
+            isKnownRequests.incrementAndGet();
+
+            return storedEntities.get(guid);
+        }
+
+        @Override
+        public synchronized void saveEntityReferenceCopy(String       userId,
+                                                         EntityDetail entity)
+        {
+            storedEntities.put(entity.getGUID(), entity);
+        }
+
+        @Override
+        public synchronized void purgeEntityReferenceCopy(String userId,
+                                                          String entityGUID,
+                                                          String typeDefGUID,
+                                                          String typeDefName,
+                                                          String homeMetadataCollectionId)
+        {
+            storedEntities.remove(entityGUID);
+        }
+
+        synchronized boolean isStored(String guid)
+        {
+            return storedEntities.containsKey(guid);
+        }
+    }
+
+
+    /**
+     * Return a content manager that knows the entity type used by the test.
+     *
+     * @return content manager
+     */
+    private OMRSRepositoryContentManager getContentManager()
+    {
+        OMRSRepositoryContentManager contentManager = new OMRSRepositoryContentManager(userId, null);
+        EntityDef                    entityDef      = new EntityDef();
+
+        entityDef.setGUID(typeGUID);
+        entityDef.setName(typeName);
+        entityDef.setVersion(1);
+        entityDef.setVersionName("1.0");
+        contentManager.addTypeDef(sourceName, entityDef);
+
+        return contentManager;
+    }
+
+
+    /**
+     * Return a reference copy of an entity from the remote collection.
+     *
+     * @return entity
+     */
+    private EntityDetail getEntity()
+    {
+        EntityDetail entity = new EntityDetail();
+        InstanceType type   = new InstanceType();
+
+        type.setTypeDefCategory(TypeDefCategory.ENTITY_DEF);
+        type.setTypeDefGUID(typeGUID);
+        type.setTypeDefName(typeName);
+        type.setTypeDefVersion(1);
+
+        entity.setGUID(entityGUID);
+        entity.setType(type);
+        entity.setInstanceProvenanceType(InstanceProvenanceType.LOCAL_COHORT);
+        entity.setMetadataCollectionId(remoteCollectionId);
+        entity.setStatus(InstanceStatus.ACTIVE);
+        entity.setCreatedBy(userId);
+        entity.setCreateTime(new Date(1000));
+        entity.setVersion(1);
+
+        return entity;
+    }
+
+
+    /**
+     * Wait for the entity to be stored by the reference copy batch.
+     *
+     * @param store real repository
+     * @throws InterruptedException interrupted
+     */
+    private void waitForSave(ReferenceCopyStore store) throws InterruptedException
+    {
+        for (int i = 0; i < 100 && ! store.isStored(entityGUID); i++)
+        {
+            Thread.sleep(50);
+        }
+
+        assertTrue(store.isStored(entityGUID));
+    }
+
+
+    /**
+     * A refresh event for a reference copy that the local server has purged saves the reference copy again.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testPurgeThenRefresh() throws Exception
+    {
+        List<AuditLogRecord> auditLogRecords = new ArrayList<>();
+        AuditLogDestination  destination     = new AuditLogDestination(null)
+        {
+            @Override
+            public void addLogRecord(AuditLogRecord logRecord)
+            {
+                auditLogRecords.add(logRecord);
+            }
+        };
+
+        OMRSRepositoryContentManager   contentManager      = getContentManager();
+        OMRSRepositoryHelper           repositoryHelper    = new OMRSRepositoryContentHelper(contentManager);
+        OMRSRepositoryValidator        repositoryValidator = new OMRSRepositoryContentValidator(contentManager);
+        ReferenceCopyStore             store               = new ReferenceCopyStore(repositoryHelper, repositoryValidator);
+        OMRSRepositoryConnector        realConnector       = new OMRSRepositoryConnector()
+        {
+            @Override
+            public OMRSMetadataCollection getMetadataCollection()
+            {
+                return store;
+            }
+        };
+
+        LocalOMRSRepositoryConnector localConnector
+                = new LocalOMRSRepositoryConnector(realConnector,
+                                                   LocalRepositoryMode.OPEN_METADATA_NATIVE,
+                                                   null,
+                                                   null,
+                                                   contentManager,
+                                                   new OMRSRepositoryEventExchangeRule(OpenMetadataExchangeRule.ALL, null));
+
+        localConnector.setAuditLog(new AuditLog(destination, 0, "Test", "Test", null));
+        localConnector.setRepositoryHelper(repositoryHelper);
+        localConnector.setRepositoryValidator(repositoryValidator);
+        localConnector.setServerUserId(userId);
+        localConnector.setMetadataCollectionId(localCollectionId);
+        localConnector.start();
+
+        OMRSInstanceEventProcessor eventProcessor     = localConnector.getIncomingInstanceEventProcessor();
+        OMRSMetadataCollection     metadataCollection = localConnector.getMetadataCollection();
+
+        eventProcessor.processRefreshEntityEvent(sourceName, remoteCollectionId, remoteServerName, null, null, getEntity());
+        waitForSave(store);
+        assertEquals(store.isKnownRequests.get(), 1);
+
+        /*
+         * The same version is recognized as a duplicate without reading the repository.
+         */
+        eventProcessor.processRefreshEntityEvent(sourceName, remoteCollectionId, remoteServerName, null, null, getEntity());
+        assertEquals(store.isKnownRequests.get(), 1);
+
+        metadataCollection.purgeEntityReferenceCopy(userId, entityGUID, typeGUID, typeName, remoteCollectionId);
+        assertFalse(store.isStored(entityGUID));
+
+        /*
+         * Once the local copy is purged, the refresh of the same version is saved again.
+         */
+        eventProcessor.processRefreshEntityEvent(sourceName, remoteCollectionId, remoteServerName, null, null, getEntity());
+        waitForSave(store);
+        assertEquals(store.isKnownRequests.get(), 2);
+        assertTrue(auditLogRecords.isEmpty());
+
+        localConnector.disconnect();
+    }
+}
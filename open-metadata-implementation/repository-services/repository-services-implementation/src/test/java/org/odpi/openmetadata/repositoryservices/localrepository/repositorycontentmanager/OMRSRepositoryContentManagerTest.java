@@ -0,0 +1,226 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSLogicErrorException;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the type identifiers, lineages and generation counter that the repository content manager uses to
+ * compile lists of types into bitsets, and the version of the type gallery.
+ */
+public class OMRSRepositoryContentManagerTest
+{
+    private static final String sourceName = "TestSource";
+
+
+    /**
+     * Build an entity type.
+     *
+     * @param name name of the type
+     * @param superType super type or null
+     * @return entity type
+     */
+    private EntityDef getEntityDef(String    name,
+                                   EntityDef superType)
+    {
+        EntityDef entityDef = new EntityDef();
+
+        entityDef.setGUID(name + "-guid");
+        entityDef.setName(name);
+
+        if (superType != null)
+        {
+            TypeDefLink superTypeLink = new TypeDefLink();
+
+            superTypeLink.setGUID(superType.getGUID());
+            superTypeLink.setName(superType.getName());
+            entityDef.setSuperType(superTypeLink);
+        }
+
+        return entityDef;
+    }
+
+
+    /**
+     * Return a content manager that knows Referenceable, Asset, DataSet, DataFile and GlossaryTerm.
+     *
+     * @return content manager
+     */
+    private OMRSRepositoryContentManager getContentManager()
+    {
+        OMRSRepositoryContentManager contentManager = new OMRSRepositoryContentManager("testUser", null);
+        EntityDef                    referenceable  = getEntityDef("Referenceable", null);
+        EntityDef                    asset          = getEntityDef("Asset", referenceable);
+        EntityDef                    dataSet        = getEntityDef("DataSet", asset);
+
+        contentManager.addTypeDef(sourceName, referenceable);
+        contentManager.addTypeDef(sourceName, asset);
+        contentManager.addTypeDef(sourceName, dataSet);
+        contentManager.addTypeDef(sourceName, getEntityDef("DataFile", dataSet));
+        contentManager.addTypeDef(sourceName, getEntityDef("GlossaryTerm", referenceable));
+
+        return contentManager;
+    }
+
+
+    @Test
+    void testTypeDefIds()
+    {
+        OMRSRepositoryContentManager contentManager = getContentManager();
+
+        int assetId = contentManager.getTypeDefId("Asset");
+
+        assertTrue(assetId >= 0);
+        assertEquals(contentManager.getTypeDefId("Asset"), assetId);
+        assertNotEquals(contentManager.getTypeDefId("DataSet"), assetId);
+        assertEquals(contentManager.getTypeDefId("UnknownType"), -1);
+        assertEquals(contentManager.getTypeDefId(null), -1);
+    }
+
+
+    @Test
+    void testIsTypeOf()
+    {
+        OMRSRepositoryContentHelper helper = new OMRSRepositoryContentHelper(getContentManager());
+
+        assertTrue(helper.isTypeOf(sourceName, "DataFile", "Asset"));
+        assertTrue(helper.isTypeOf(sourceName, "DataFile", "Referenceable"));
+        assertTrue(helper.isTypeOf(sourceName, "DataFile", "DataFile"));
+        assertFalse(helper.isTypeOf(sourceName, "Asset", "DataFile"));
+        assertFalse(helper.isTypeOf(sourceName, "GlossaryTerm", "Asset"));
+        assertFalse(helper.isTypeOf(sourceName, "DataFile", "UnknownType"));
+
+        /*
+         * The super types of an unknown type cannot be checked.
+         */
+        expectThrows(OMRSLogicErrorException.class, () -> helper.isTypeOf(sourceName, "UnknownType", "Asset"));
+    }
+
+
+    @Test
+    void testTypeDefIdsIncludingSubTypes()
+    {
+        OMRSRepositoryContentManager contentManager = getContentManager();
+
+        BitSet assetTypes = contentManager.getTypeDefIdsIncludingSubTypes(Collections.singletonList("Asset"));
+
+        assertTrue(assetTypes.get(contentManager.getTypeDefId("Asset")));
+        assertTrue(assetTypes.get(contentManager.getTypeDefId("DataSet")));
+        assertTrue(assetTypes.get(contentManager.getTypeDefId("DataFile")));
+        assertFalse(assetTypes.get(contentManager.getTypeDefId("Referenceable")));
+        assertFalse(assetTypes.get(contentManager.getTypeDefId("GlossaryTerm")));
+        assertEquals(assetTypes.cardinality(), 3);
+
+        BitSet selectedTypes = contentManager.getTypeDefIdsIncludingSubTypes(Arrays.asList("DataFile", "GlossaryTerm", "UnknownType"));
+
+        assertTrue(selectedTypes.get(contentManager.getTypeDefId("DataFile")));
+        assertTrue(selectedTypes.get(contentManager.getTypeDefId("GlossaryTerm")));
+        assertEquals(selectedTypes.cardinality(), 2);
+
+        assertTrue(contentManager.getTypeDefIdsIncludingSubTypes(Collections.singletonList("UnknownType")).isEmpty());
+        assertTrue(contentManager.getTypeDefIdsIncludingSubTypes(null).isEmpty());
+    }
+
+
+    @Test
+    void testGenerationChangesWithTheTypes()
+    {
+        OMRSRepositoryContentManager contentManager = getContentManager();
+        OMRSRepositoryContentHelper  helper         = new OMRSRepositoryContentHelper(contentManager);
+
+        long generation = contentManager.getTypeDefIdGeneration();
+        int  assetId    = contentManager.getTypeDefId("Asset");
+
+        assertTrue(helper.isTypeOf(sourceName, "DataFile", "Asset"));
+        assertEquals(contentManager.getTypeDefIdGeneration(), generation);
+
+        /*
+         * A new subtype is included once the bitset is recalculated.
+         */
+        EntityDef csvFile = getEntityDef("CSVFile", getEntityDef("DataFile", getEntityDef("DataSet", null)));
+
+        contentManager.addTypeDef(sourceName, csvFile);
+
+        assertTrue(contentManager.getTypeDefIdGeneration() > generation);
+        assertTrue(contentManager.getTypeDefIdsIncludingSubTypes(Collections.singletonList("Asset")).get(contentManager.getTypeDefId("CSVFile")));
+        assertTrue(helper.isTypeOf(sourceName, "CSVFile", "Asset"));
+
+        /*
+         * Removing a type changes the generation and the cached lineages of its subtypes.  The identifiers of the
+         * remaining types do not change.
+         */
+        TypeDef dataSet   = getEntityDef("DataSet", getEntityDef("Asset", null));
+        int     dataSetId = contentManager.getTypeDefId("DataSet");
+
+        generation = contentManager.getTypeDefIdGeneration();
+        contentManager.deleteTypeDef(sourceName, dataSet.getGUID(), dataSet.getName());
+
+        assertTrue(contentManager.getTypeDefIdGeneration() > generation);
+        assertEquals(contentManager.getTypeDefId("DataSet"), -1);
+        assertEquals(contentManager.getTypeDefId("Asset"), assetId);
+        assertFalse(contentManager.getTypeDefIdsIncludingSubTypes(Collections.singletonList("Asset")).get(contentManager.getTypeDefId("DataFile")));
+        expectThrows(OMRSLogicErrorException.class, () -> helper.isTypeOf(sourceName, "DataFile", "Asset"));
+
+        /*
+         * A type that is added again gets its old identifier back.
+         */
+        contentManager.addTypeDef(sourceName, dataSet);
+
+        assertEquals(contentManager.getTypeDefId("DataSet"), dataSetId);
+        assertTrue(helper.isTypeOf(sourceName, "DataFile", "Asset"));
+    }
+
+
+    @Test
+    void testTypeGalleryVersionChangesWithTheTypes()
+    {
+        OMRSRepositoryContentManager contentManager = getContentManager();
+
+        String version = contentManager.getTypeGalleryVersion();
+
+        assertEquals(contentManager.getTypeGalleryVersion(), version);
+        assertTrue(contentManager.getTypeDefId("Asset") >= 0);
+        assertEquals(contentManager.getTypeGalleryVersion(), version);
+
+        /*
+         * Each change to the TypeDefs or AttributeTypeDefs results in a new version.
+         */
+        contentManager.addTypeDef(sourceName, getEntityDef("Process", getEntityDef("Referenceable", null)));
+        assertNotEquals(contentManager.getTypeGalleryVersion(), version);
+        version = contentManager.getTypeGalleryVersion();
+
+        PrimitiveDef stringDef = new PrimitiveDef(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+
+        stringDef.setGUID(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING.getGUID());
+        stringDef.setName(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING.getName());
+
+        contentManager.addAttributeTypeDef(sourceName, stringDef);
+        assertNotEquals(contentManager.getTypeGalleryVersion(), version);
+        version = contentManager.getTypeGalleryVersion();
+
+        contentManager.deleteAttributeTypeDef(sourceName, stringDef.getGUID(), stringDef.getName());
+        assertNotEquals(contentManager.getTypeGalleryVersion(), version);
+        version = contentManager.getTypeGalleryVersion();
+
+        contentManager.deleteTypeDef(sourceName, "Process-guid", "Process");
+        assertNotEquals(contentManager.getTypeGalleryVersion(), version);
+
+        /*
+         * The versions of different content managers are never the same, so a version from before a restart
+         * is not mistaken for a current one.
+         */
+        assertNotEquals(getContentManager().getTypeGalleryVersion(), contentManager.getTypeGalleryVersion());
+    }
+}
@@ -92,6 +92,29 @@ public class LocalRepositoryServicesResource
     }
 
 
+    /**
+     * Returns the list of different types of metadata organized into two groups, but only if the gallery
+     * has changed since the supplied version was retrieved.  If the types are unchanged, only the
+     * gallery version is returned.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param galleryVersion version identifier returned by a previous request for all types.
+     * @return TypeDefGalleryResponse:
+     * List of different categories of type definitions or
+     * RepositoryErrorException there is a problem communicating with the metadata repository or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @GetMapping(path = "/types/all/changed-since")
+
+    public TypeDefGalleryResponse getAllTypesChangedSince(@PathVariable                   String   serverName,
+                                                          @PathVariable                   String   userId,
+                                                          @RequestParam(required = false) String   galleryVersion)
+    {
+        return restAPI.getAllTypesChangedSince(serverName, userId, galleryVersion);
+    }
+
+
     /**
      * Returns a list of type definitions that have the specified name.  Type names should be unique.  This
      * method allows wildcard character to be included in the name.  These are * (asterisk) for an
@@ -816,6 +839,74 @@ public class LocalRepositoryServicesResource
     }
 
 
+    /**
+     * Return the relationships for a specific entity along with the entities at the other end of these
+     * relationships.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier for the entity.
+     * @param findRequestParameters find parameters used to limit the returned results.
+     * @return InstanceGraphResponse:
+     * the page of relationships and the entities at their other ends.  Null means no relationships associated
+     * with the entity or
+     * InvalidParameterException a parameter is invalid or null or
+     * TypeErrorException the type guid passed on the request is not known by the metadata collection or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored or
+     * EntityNotKnownException the requested entity instance is not known in the metadata collection or
+     * PropertyErrorException the sequencing property is not valid for the attached classifications or
+     * PagingErrorException the paging/sequencing parameters are set up incorrectly or
+     * FunctionNotSupportedException the repository does not support asOfTime parameter or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @PostMapping(path = "/instances/entity/{entityGUID}/relationships-and-entities")
+
+    public InstanceGraphResponse getRelationshipsAndEntitiesForEntity(@PathVariable String                 serverName,
+                                                                      @PathVariable String                 userId,
+                                                                      @PathVariable String                 entityGUID,
+                                                                      @RequestBody  TypeLimitedFindRequest findRequestParameters)
+    {
+        return restAPI.getRelationshipsAndEntitiesForEntity(serverName, userId,
+                                                            entityGUID,
+                                                            findRequestParameters);
+    }
+
+
+    /**
+     * Return the relationships for a specific entity along with the entities at the other end of these
+     * relationships, as they were at the requested time.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier for the entity.
+     * @param findRequestParameters find parameters used to limit the returned results.
+     * @return InstanceGraphResponse:
+     * the page of relationships and the entities at their other ends.  Null means no relationships associated
+     * with the entity or
+     * InvalidParameterException a parameter is invalid or null or
+     * TypeErrorException the type guid passed on the request is not known by the metadata collection or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored or
+     * EntityNotKnownException the requested entity instance is not known in the metadata collection or
+     * PropertyErrorException the sequencing property is not valid for the attached classifications or
+     * PagingErrorException the paging/sequencing parameters are set up incorrectly or
+     * FunctionNotSupportedException the repository does not support asOfTime parameter or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @PostMapping(path = "/instances/entity/{entityGUID}/relationships-and-entities/history")
+
+    public InstanceGraphResponse getRelationshipsAndEntitiesForEntityHistory(@PathVariable String                           serverName,
+                                                                             @PathVariable String                           userId,
+                                                                             @PathVariable String                           entityGUID,
+                                                                             @RequestBody  TypeLimitedHistoricalFindRequest findRequestParameters)
+    {
+        return restAPI.getRelationshipsAndEntitiesForEntityHistory(serverName, userId,
+                                                                   entityGUID,
+                                                                   findRequestParameters);
+    }
+
+
     /**
      * Return a list of entities that match the supplied conditions.  The results can be returned over many pages.
      *
@@ -24,6 +24,7 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorized
 import org.odpi.openmetadata.repositoryservices.clients.EnterpriseRepositoryServicesClient;
 import org.odpi.openmetadata.repositoryservices.clients.LocalRepositoryServicesClient;
 import org.odpi.openmetadata.repositoryservices.clients.MetadataCollectionServicesClient;
+import org.odpi.openmetadata.repositoryservices.clients.TypeDefGalleryCache;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDefCategory;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.ClassificationDef;
@@ -58,6 +59,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
@@ -116,6 +118,14 @@ public class RexViewHandler
     private Map<String, ResourceEndpoint>  configuredPlatforms = null;          // map is keyed using platformRootURL
     private Map<String, ResourceEndpoint>  configuredServerInstances   = null;  // map is keyed using serverName+platformRootURL so each instance is unique
 
+    /*
+     * Clients are reused across requests (keyed by their REST root URL) and TypeExplorers are cached
+     * (keyed using userId+serverName+platformRootURL+enterpriseOption).
+     */
+    private final Map<String, LocalRepositoryServicesClient>      localRepositoryServicesClients      = new ConcurrentHashMap<>();
+    private final Map<String, EnterpriseRepositoryServicesClient> enterpriseRepositoryServicesClients = new ConcurrentHashMap<>();
+    private final TypeDefGalleryCache<TypeExplorer>               typeExplorerCache                   = new TypeDefGalleryCache<>();
+
 
 
 
@@ -285,54 +295,16 @@ public class RexViewHandler
                 repositoryServicesClient = this.getEnterpriseRepositoryServicesClient(repositoryServerName, platformRootURL);
             }
 
-            TypeExplorer tex = new TypeExplorer();
-
-            TypeDefGallery typeDefGallery = repositoryServicesClient.getAllTypes(userId);
-
-            List<TypeDef> typeDefs = typeDefGallery.getTypeDefs();
-            for (TypeDef typeDef : typeDefs)
-            {
-                TypeDefCategory tdCat = typeDef.getCategory();
-                switch (tdCat)
-                {
-                    case ENTITY_DEF:
-                        EntityExplorer eex = new EntityExplorer((EntityDef) typeDef);
-                        tex.addEntityExplorer(typeDef.getName(), eex);
-                        break;
-                    case RELATIONSHIP_DEF:
-                        RelationshipExplorer rex = new RelationshipExplorer((RelationshipDef) typeDef);
-                        tex.addRelationshipExplorer(typeDef.getName(), rex);
-                        break;
-                    case CLASSIFICATION_DEF:
-                        ClassificationExplorer cex = new ClassificationExplorer((ClassificationDef) typeDef);
-                        tex.addClassificationExplorer(typeDef.getName(), cex);
-                        break;
-                    default:
-                        // Ignore this typeDef and continue with next
-                        break;
-                }
-            }
-
-            // Include EnumDefs in the TEX
-            List<AttributeTypeDef> attributeTypeDefs = typeDefGallery.getAttributeTypeDefs();
-            for (AttributeTypeDef attributeTypeDef : attributeTypeDefs)
-            {
-                AttributeTypeDefCategory tdCat = attributeTypeDef.getCategory();
-                switch (tdCat)
-                {
-                    case ENUM_DEF:
-                        tex.addEnumExplorer(attributeTypeDef.getName(), (EnumDef) attributeTypeDef);
-                        break;
-                    default:
-                        // Ignore this AttributeTypeDef and continue with next
-                        break;
-                }
-            }
+            /*
+             * The TypeExplorer is cached for each user, server, platform and enterprise option.  The repository is
+             * only asked for the type gallery if it has changed since the cached TypeExplorer was built.
+             */
+            String cacheKey = userId + ":" + repositoryServerName + ":" + platformRootURL + ":" + enterpriseOption;
 
-            // All typeDefs processed, resolve linkages and return the TEX object
-            // The platformRootURL and repositoryName are passed in only for error logging
-            tex.resolve(platformRootURL, repositoryServerName);
-            return tex;
+            return typeExplorerCache.getObject(cacheKey,
+                                               repositoryServicesClient,
+                                               userId,
+                                               typeDefGallery -> this.buildTypeExplorer(typeDefGallery, platformRootURL, repositoryServerName));
 
         }
 
@@ -353,6 +325,68 @@ public class RexViewHandler
 
     }
 
+    /**
+     * Build a TypeExplorer from the type gallery retrieved from the repository server.
+     *
+     * @param typeDefGallery The types retrieved from the repository server
+     * @param platformRootURL The root URL of the platform (for error logging)
+     * @param repositoryServerName The name of the repository server (for error logging)
+     * @return the resolved TypeExplorer object.
+     * @throws RepositoryErrorException the types could not be resolved
+     */
+    private TypeExplorer buildTypeExplorer(TypeDefGallery typeDefGallery,
+                                           String         platformRootURL,
+                                           String         repositoryServerName) throws RepositoryErrorException
+    {
+        TypeExplorer tex = new TypeExplorer();
+
+        List<TypeDef> typeDefs = typeDefGallery.getTypeDefs();
+        for (TypeDef typeDef : typeDefs)
+        {
+            TypeDefCategory tdCat = typeDef.getCategory();
+            switch (tdCat)
+            {
+                case ENTITY_DEF:
+                    EntityExplorer eex = new EntityExplorer((EntityDef) typeDef);
+                    tex.addEntityExplorer(typeDef.getName(), eex);
+                    break;
+                case RELATIONSHIP_DEF:
+                    RelationshipExplorer rex = new RelationshipExplorer((RelationshipDef) typeDef);
+                    tex.addRelationshipExplorer(typeDef.getName(), rex);
+                    break;
+                case CLASSIFICATION_DEF:
+                    ClassificationExplorer cex = new ClassificationExplorer((ClassificationDef) typeDef);
+                    tex.addClassificationExplorer(typeDef.getName(), cex);
+                    break;
+                default:
+                    // Ignore this typeDef and continue with next
+                    break;
+            }
+        }
+
+        // Include EnumDefs in the TEX
+        List<AttributeTypeDef> attributeTypeDefs = typeDefGallery.getAttributeTypeDefs();
+        for (AttributeTypeDef attributeTypeDef : attributeTypeDefs)
+        {
+            AttributeTypeDefCategory tdCat = attributeTypeDef.getCategory();
+            switch (tdCat)
+            {
+                case ENUM_DEF:
+                    tex.addEnumExplorer(attributeTypeDef.getName(), (EnumDef) attributeTypeDef);
+                    break;
+                default:
+                    // Ignore this AttributeTypeDef and continue with next
+                    break;
+            }
+        }
+
+        // All typeDefs processed, resolve linkages and return the TEX object
+        // The platformRootURL and repositoryName are passed in only for error logging
+        tex.resolve(platformRootURL, repositoryServerName);
+        return tex;
+    }
+
+
     /**
      * Retrieve entity (by GUID) from the repository server
      * @param userId  userId under which the request is performed
@@ -1525,7 +1559,22 @@ public class RexViewHandler
          * exception can be wrapped and a suitable indication sent in the REST Response.
          */
         String restRootURL = serverRootURL + "/servers/" + serverName;
-        LocalRepositoryServicesClient client = new LocalRepositoryServicesClient(serverName, restRootURL);
+        LocalRepositoryServicesClient client = localRepositoryServicesClients.get(restRootURL);
+
+        if (client == null)
+        {
+            /*
+             * Another request may have created a client for the same server at the same time.  Only one is kept.
+             */
+            client = new LocalRepositoryServicesClient(serverName, restRootURL);
+
+            LocalRepositoryServicesClient existingClient = localRepositoryServicesClients.putIfAbsent(restRootURL, client);
+
+            if (existingClient != null)
+            {
+                client = existingClient;
+            }
+        }
 
         return client;
     }
@@ -1558,7 +1607,22 @@ public class RexViewHandler
          * exception can be wrapped and a suitable indication sent in the REST Response.
          */
         String restRootURL = serverRootURL + "/servers/" + serverName;
-        EnterpriseRepositoryServicesClient client = new EnterpriseRepositoryServicesClient(serverName, restRootURL);
+        EnterpriseRepositoryServicesClient client = enterpriseRepositoryServicesClients.get(restRootURL);
+
+        if (client == null)
+        {
+            /*
+             * Another request may have created a client for the same server at the same time.  Only one is kept.
+             */
+            client = new EnterpriseRepositoryServicesClient(serverName, restRootURL);
+
+            EnterpriseRepositoryServicesClient existingClient = enterpriseRepositoryServicesClients.putIfAbsent(restRootURL, client);
+
+            if (existingClient != null)
+            {
+                client = existingClient;
+            }
+        }
 
         return client;
     }
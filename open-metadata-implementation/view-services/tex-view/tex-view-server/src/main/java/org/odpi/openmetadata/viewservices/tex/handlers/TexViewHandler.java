@@ -9,6 +9,7 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorized
 import org.odpi.openmetadata.repositoryservices.clients.EnterpriseRepositoryServicesClient;
 import org.odpi.openmetadata.repositoryservices.clients.LocalRepositoryServicesClient;
 import org.odpi.openmetadata.repositoryservices.clients.MetadataCollectionServicesClient;
+import org.odpi.openmetadata.repositoryservices.clients.TypeDefGalleryCache;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDefCategory;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.ClassificationDef;
@@ -35,6 +36,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
@@ -81,6 +83,13 @@ public class TexViewHandler
     private Map<String, ResourceEndpoint>  configuredPlatforms = null;          // map is keyed using platformRootURL
     private Map<String, ResourceEndpoint>  configuredServerInstances   = null;  // map is keyed using serverName+platformRootURL so each instance is unique
 
+    /*
+     * Clients and TypeExplorers are cached across requests.  The clients are keyed using serverName+platformRootURL+enterpriseOption
+     * and the TypeExplorers using userId+serverName+platformRootURL+options.
+     */
+    private final Map<String, MetadataCollectionServicesClient> repositoryServicesClients = new ConcurrentHashMap<>();
+    private final TypeDefGalleryCache<TypeExplorer>             typeExplorerCache         = new TypeDefGalleryCache<>();
+
 
 
     /**
@@ -235,62 +244,20 @@ public class TexViewHandler
 
         String platformRootURL = resolvePlatformRootURL(platformName, methodName);
 
+            MetadataCollectionServicesClient repositoryServicesClient = this.getRepositoryServicesClient(repositoryServerName,
+                                                                                                         platformRootURL,
+                                                                                                         enterpriseOption);
+
             /*
-             *  Switch between local and enterprise services clients depending
-             *  on enterprise option...
+             * The TypeExplorer is cached for each user, server, platform and combination of options.  The repository is
+             * only asked for the type gallery if it has changed since the cached TypeExplorer was built.
              */
-            MetadataCollectionServicesClient repositoryServicesClient;
-
-            if (!enterpriseOption) {
-                repositoryServicesClient = this.getLocalRepositoryServicesClient(repositoryServerName, platformRootURL);
-            } else {
-                repositoryServicesClient = this.getEnterpriseRepositoryServicesClient(repositoryServerName, platformRootURL);
-            }
+            String cacheKey = userId + ":" + repositoryServerName + ":" + platformRootURL + ":" + enterpriseOption + ":" + deprecationOption;
 
-            TypeExplorer tex = new TypeExplorer();
-
-            TypeDefGallery typeDefGallery = repositoryServicesClient.getAllTypes(userId);
-
-            List<TypeDef> typeDefs = typeDefGallery.getTypeDefs();
-            for (TypeDef typeDef : typeDefs) {
-                TypeDefCategory tdCat = typeDef.getCategory();
-                switch (tdCat) {
-                    case ENTITY_DEF:
-                        EntityExplorer eex = new EntityExplorer((EntityDef) typeDef);
-                        tex.addEntityExplorer(typeDef.getName(), eex);
-                        break;
-                    case RELATIONSHIP_DEF:
-                        RelationshipExplorer rex = new RelationshipExplorer((RelationshipDef) typeDef);
-                        tex.addRelationshipExplorer(typeDef.getName(), rex);
-                        break;
-                    case CLASSIFICATION_DEF:
-                        ClassificationExplorer cex = new ClassificationExplorer((ClassificationDef) typeDef);
-                        tex.addClassificationExplorer(typeDef.getName(), cex);
-                        break;
-                    default:
-                        // Ignore this typeDef and continue with next
-                        break;
-                }
-            }
-
-            // Include EnumDefs in the TEX
-            List<AttributeTypeDef> attributeTypeDefs = typeDefGallery.getAttributeTypeDefs();
-            for (AttributeTypeDef attributeTypeDef : attributeTypeDefs) {
-                AttributeTypeDefCategory tdCat = attributeTypeDef.getCategory();
-                switch (tdCat) {
-                    case ENUM_DEF:
-                        tex.addEnumExplorer(attributeTypeDef.getName(), (EnumDef) attributeTypeDef);
-                        break;
-                    default:
-                        // Ignore this AttributeTypeDef and continue with next
-                        break;
-                }
-            }
-
-            // All typeDefs processed, resolve linkages and return the TEX object
-            // The platformRootURL and repositoryName are passed in only for error logging
-            tex.resolve(deprecationOption, platformRootURL, repositoryServerName);
-            return tex;
+            return typeExplorerCache.getObject(cacheKey,
+                                               repositoryServicesClient,
+                                               userId,
+                                               typeDefGallery -> this.buildTypeExplorer(typeDefGallery, deprecationOption, platformRootURL, repositoryServerName));
 
         }
         catch (UserNotAuthorizedException e)
@@ -310,6 +277,116 @@ public class TexViewHandler
 
 
 
+    /**
+     * Build a TypeExplorer from the type gallery retrieved from the repository server.
+     *
+     * @param typeDefGallery The types retrieved from the repository server
+     * @param deprecationOption only include deprecated types if this option is true
+     * @param platformRootURL The root URL of the platform (for error logging)
+     * @param repositoryServerName The name of the repository server (for error logging)
+     * @return the resolved TypeExplorer object.
+     * @throws RepositoryErrorException the types could not be resolved
+     */
+    private TypeExplorer buildTypeExplorer(TypeDefGallery typeDefGallery,
+                                           boolean        deprecationOption,
+                                           String         platformRootURL,
+                                           String         repositoryServerName) throws RepositoryErrorException
+    {
+        TypeExplorer tex = new TypeExplorer();
+
+        List<TypeDef> typeDefs = typeDefGallery.getTypeDefs();
+        for (TypeDef typeDef : typeDefs) {
+            TypeDefCategory tdCat = typeDef.getCategory();
+            switch (tdCat) {
+                case ENTITY_DEF:
+                    EntityExplorer eex = new EntityExplorer((EntityDef) typeDef);
+                    tex.addEntityExplorer(typeDef.getName(), eex);
+                    break;
+                case RELATIONSHIP_DEF:
+                    RelationshipExplorer rex = new RelationshipExplorer((RelationshipDef) typeDef);
+                    tex.addRelationshipExplorer(typeDef.getName(), rex);
+                    break;
+                case CLASSIFICATION_DEF:
+                    ClassificationExplorer cex = new ClassificationExplorer((ClassificationDef) typeDef);
+                    tex.addClassificationExplorer(typeDef.getName(), cex);
+                    break;
+                default:
+                    // Ignore this typeDef and continue with next
+                    break;
+            }
+        }
+
+        // Include EnumDefs in the TEX
+        List<AttributeTypeDef> attributeTypeDefs = typeDefGallery.getAttributeTypeDefs();
+        for (AttributeTypeDef attributeTypeDef : attributeTypeDefs) {
+            AttributeTypeDefCategory tdCat = attributeTypeDef.getCategory();
+            switch (tdCat) {
+                case ENUM_DEF:
+                    tex.addEnumExplorer(attributeTypeDef.getName(), (EnumDef) attributeTypeDef);
+                    break;
+                default:
+                    // Ignore this AttributeTypeDef and continue with next
+                    break;
+            }
+        }
+
+        // All typeDefs processed, resolve linkages and return the TEX object
+        // The platformRootURL and repositoryName are passed in only for error logging
+        tex.resolve(deprecationOption, platformRootURL, repositoryServerName);
+        return tex;
+    }
+
+
+
+
+    /**
+     * getRepositoryServicesClient
+     *
+     * Return the repository services client for the server, creating it on first use. The clients are
+     * reused across requests so that connections to the platform can be reused.
+     *
+     * @param serverName - name of the server to connect to
+     * @param serverRootURL - the root URL to connect to the server
+     * @param enterpriseOption - whether the query is at cohort level or server specific
+     * @return client
+     * @throws InvalidParameterException - an invalid parameter was detected and reported
+     */
+    private MetadataCollectionServicesClient getRepositoryServicesClient(String  serverName,
+                                                                         String  serverRootURL,
+                                                                         boolean enterpriseOption)
+    throws
+        InvalidParameterException
+
+    {
+        String clientKey = serverName + ":" + serverRootURL + ":" + enterpriseOption;
+
+        MetadataCollectionServicesClient client = repositoryServicesClients.get(clientKey);
+
+        if (client == null) {
+            /*
+             *  Switch between local and enterprise services clients depending
+             *  on enterprise option...
+             */
+            if (!enterpriseOption) {
+                client = this.getLocalRepositoryServicesClient(serverName, serverRootURL);
+            } else {
+                client = this.getEnterpriseRepositoryServicesClient(serverName, serverRootURL);
+            }
+
+            /*
+             * Another request may have created a client for the same server at the same time.  Only one is kept.
+             */
+            MetadataCollectionServicesClient existingClient = repositoryServicesClients.putIfAbsent(clientKey, client);
+
+            if (existingClient != null) {
+                client = existingClient;
+            }
+        }
+
+        return client;
+    }
+
+
     /**
      * getLocalRepositoryServicesClient
      *